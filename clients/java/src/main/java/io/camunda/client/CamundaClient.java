@@ -33,6 +33,7 @@ import io.camunda.client.api.command.CreateDocumentCommandStep1;
 import io.camunda.client.api.command.CreateDocumentLinkCommandStep1;
 import io.camunda.client.api.command.CreateGroupCommandStep1;
 import io.camunda.client.api.command.CreateMappingCommandStep1;
+import io.camunda.client.api.command.CreateProcessInstanceBatchCommandStep1;
 import io.camunda.client.api.command.CreateProcessInstanceCommandStep1;
 import io.camunda.client.api.command.CreateRoleCommandStep1;
 import io.camunda.client.api.command.CreateTenantCommandStep1;
@@ -205,6 +206,30 @@ public interface CamundaClient extends AutoCloseable, JobClient {
    */
   CreateProcessInstanceCommandStep1 newCreateInstanceCommand();
 
+  /**
+   * Command to create/start multiple new instances of processes with a single request.
+   *
+   * <pre>
+   * camundaClient
+   *  .newCreateInstanceBatchCommand()
+   *  .addInstance()
+   *    .bpmnProcessId("my-process")
+   *    .latestVersion()
+   *    .variables(json)
+   *    .done()
+   *  .addInstance()
+   *    .processDefinitionKey(processDefinitionKey)
+   *    .done()
+   *  .send();
+   * </pre>
+   *
+   * <p>All instances are created on the same partition. The response contains the outcome of each
+   * instance; an instance which cannot be created does not fail the others.
+   *
+   * @return a builder for the command
+   */
+  CreateProcessInstanceBatchCommandStep1 newCreateInstanceBatchCommand();
+
   /**
    * Command to modify a process instance.
    *
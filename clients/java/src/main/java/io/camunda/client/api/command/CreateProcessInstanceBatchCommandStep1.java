@@ -0,0 +1,127 @@
+/*
+ * Copyright © 2017 camunda services GmbH (info@camunda.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.camunda.client.api.command;
+
+import io.camunda.client.api.response.CreateProcessInstanceBatchResponse;
+import java.util.Map;
+
+public interface CreateProcessInstanceBatchCommandStep1
+    extends CommandWithCommunicationApiStep<CreateProcessInstanceBatchCommandStep1>,
+        CommandWithOperationReferenceStep<CreateProcessInstanceBatchCommandStep1>,
+        FinalCommandStep<CreateProcessInstanceBatchResponse> {
+
+  /** The maximum number of process instances which can be created with a single command. */
+  int MAX_INSTANCES = 1000;
+
+  /**
+   * Starts adding a process instance to the batch. All instances of a batch are created on the same
+   * partition; an instance which cannot be created does not fail the others.
+   *
+   * @return the builder for the process instance
+   */
+  CreateProcessInstanceBatchCommandStep2 addInstance();
+
+  interface CreateProcessInstanceBatchCommandStep2 {
+    /**
+     * Set the BPMN process id of the process to create an instance of. This is the static id of
+     * the process in the BPMN XML (i.e. "&#60;bpmn:process id='my-process'&#62;").
+     *
+     * @param bpmnProcessId the BPMN process id of the process
+     * @return the builder for the process instance
+     */
+    CreateProcessInstanceBatchCommandStep3 bpmnProcessId(String bpmnProcessId);
+
+    /**
+     * Set the key of the process to create an instance of. The key is assigned by the broker while
+     * deploying the process. It can be picked from the deployment or process event.
+     *
+     * @param processDefinitionKey the key of the process
+     * @return the builder for the process instance
+     */
+    CreateProcessInstanceBatchCommandStep4 processDefinitionKey(long processDefinitionKey);
+  }
+
+  interface CreateProcessInstanceBatchCommandStep3 {
+    /**
+     * Set the version of the process to create an instance of.
+     *
+     * @param version the version of the process
+     * @return the builder for the process instance
+     */
+    CreateProcessInstanceBatchCommandStep4 version(int version);
+
+    /**
+     * Use the latest version of the process to create an instance of.
+     *
+     * @return the builder for the process instance
+     */
+    CreateProcessInstanceBatchCommandStep4 latestVersion();
+  }
+
+  interface CreateProcessInstanceBatchCommandStep4
+      extends CommandWithTenantStep<CreateProcessInstanceBatchCommandStep4> {
+
+    /**
+     * Set the initial variables of the process instance.
+     *
+     * @param variables the variables JSON document as String
+     * @return the builder for the process instance
+     */
+    CreateProcessInstanceBatchCommandStep4 variables(String variables);
+
+    /**
+     * Set the initial variables of the process instance.
+     *
+     * @param variables the variables document as map
+     * @return the builder for the process instance
+     */
+    CreateProcessInstanceBatchCommandStep4 variables(Map<String, Object> variables);
+
+    /**
+     * Set the initial variables of the process instance.
+     *
+     * @param variables the variables document as object to be serialized to JSON
+     * @return the builder for the process instance
+     */
+    CreateProcessInstanceBatchCommandStep4 variables(Object variables);
+
+    /**
+     * Set a single initial variable of the process instance.
+     *
+     * @param key the key of the variable as string
+     * @param value the value of the variable as object
+     * @return the builder for the process instance
+     */
+    CreateProcessInstanceBatchCommandStep4 variable(String key, Object value);
+
+    /**
+     * Overrides the default start position of the process instance. Calling this method will make
+     * the process instance start at the given {@code elementId}, if possible. This method can be
+     * called more than once to start at different elements in different branches of the process.
+     *
+     * @param elementId the id of the BPMN element where to start the process instance
+     * @return the builder for the process instance
+     */
+    CreateProcessInstanceBatchCommandStep4 startBeforeElement(String elementId);
+
+    /**
+     * Finishes the current process instance and returns to the batch.
+     *
+     * @return the builder for this command
+     */
+    CreateProcessInstanceBatchCommandStep1 done();
+  }
+}
@@ -0,0 +1,46 @@
+/*
+ * Copyright © 2017 camunda services GmbH (info@camunda.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.camunda.client.api.response;
+
+/** The outcome of a single process instance of a batch creation. */
+public interface ProcessInstanceCreationResult {
+
+  /** Key of the process which this instance was created for */
+  long getProcessDefinitionKey();
+
+  /** BPMN process id of the process which this instance was created for */
+  String getBpmnProcessId();
+
+  /** Version of the process which this instance was created for */
+  int getVersion();
+
+  /** Unique key of the created process instance on the partition; -1 if it was not created */
+  long getProcessInstanceKey();
+
+  /** Tenant identifier that owns this process instance */
+  String getTenantId();
+
+  /**
+   * @return true if the process instance was created, false if its creation was rejected
+   */
+  boolean isCreated();
+
+  /**
+   * @return why the process instance was not created, i.e. the message with which a single
+   *     creation of the same instance would have failed; null if it was created
+   */
+  String getErrorMessage();
+}
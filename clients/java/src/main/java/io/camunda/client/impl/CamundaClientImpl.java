@@ -41,6 +41,7 @@ import io.camunda.client.api.command.CreateDocumentCommandStep1;
 import io.camunda.client.api.command.CreateDocumentLinkCommandStep1;
 import io.camunda.client.api.command.CreateGroupCommandStep1;
 import io.camunda.client.api.command.CreateMappingCommandStep1;
+import io.camunda.client.api.command.CreateProcessInstanceBatchCommandStep1;
 import io.camunda.client.api.command.CreateProcessInstanceCommandStep1;
 import io.camunda.client.api.command.CreateRoleCommandStep1;
 import io.camunda.client.api.command.CreateTenantCommandStep1;
@@ -118,6 +119,7 @@ import io.camunda.client.impl.command.CreateDocumentCommandImpl;
 import io.camunda.client.impl.command.CreateDocumentLinkCommandImpl;
 import io.camunda.client.impl.command.CreateGroupCommandImpl;
 import io.camunda.client.impl.command.CreateMappingCommandImpl;
+import io.camunda.client.impl.command.CreateProcessInstanceBatchCommandImpl;
 import io.camunda.client.impl.command.CreateProcessInstanceCommandImpl;
 import io.camunda.client.impl.command.CreateRoleCommandImpl;
 import io.camunda.client.impl.command.CreateTenantCommandImpl;
@@ -452,6 +454,17 @@ public final class CamundaClientImpl implements CamundaClient {
         config.preferRestOverGrpc());
   }
 
+  @Override
+  public CreateProcessInstanceBatchCommandStep1 newCreateInstanceBatchCommand() {
+    return new CreateProcessInstanceBatchCommandImpl(
+        asyncStub,
+        jsonMapper,
+        config,
+        credentialsProvider::shouldRetryRequest,
+        httpClient,
+        config.preferRestOverGrpc());
+  }
+
   @Override
   public ModifyProcessInstanceCommandStep1 newModifyProcessInstanceCommand(
       final long processInstanceKey) {
@@ -0,0 +1,246 @@
+/*
+ * Copyright © 2017 camunda services GmbH (info@camunda.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.camunda.client.impl.command;
+
+import io.camunda.client.CamundaClientConfiguration;
+import io.camunda.client.CredentialsProvider.StatusCode;
+import io.camunda.client.api.CamundaFuture;
+import io.camunda.client.api.JsonMapper;
+import io.camunda.client.api.command.CreateProcessInstanceBatchCommandStep1;
+import io.camunda.client.api.command.CreateProcessInstanceBatchCommandStep1.CreateProcessInstanceBatchCommandStep2;
+import io.camunda.client.api.command.CreateProcessInstanceBatchCommandStep1.CreateProcessInstanceBatchCommandStep3;
+import io.camunda.client.api.command.CreateProcessInstanceBatchCommandStep1.CreateProcessInstanceBatchCommandStep4;
+import io.camunda.client.api.command.CreateProcessInstanceCommandStep1;
+import io.camunda.client.api.command.FinalCommandStep;
+import io.camunda.client.api.response.CreateProcessInstanceBatchResponse;
+import io.camunda.client.impl.RetriableClientFutureImpl;
+import io.camunda.client.impl.http.HttpCamundaFuture;
+import io.camunda.client.impl.http.HttpClient;
+import io.camunda.client.impl.response.CreateProcessInstanceBatchResponseImpl;
+import io.camunda.zeebe.gateway.protocol.GatewayGrpc.GatewayStub;
+import io.camunda.zeebe.gateway.protocol.GatewayOuterClass;
+import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.CreateProcessInstanceBatchRequest;
+import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.CreateProcessInstanceRequest;
+import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.ProcessInstanceCreationStartInstruction;
+import io.grpc.stub.StreamObserver;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Predicate;
+import org.apache.hc.client5.http.config.RequestConfig;
+
+public final class CreateProcessInstanceBatchCommandImpl
+    implements CreateProcessInstanceBatchCommandStep1 {
+
+  private final GatewayStub asyncStub;
+  private final JsonMapper jsonMapper;
+  private final CamundaClientConfiguration config;
+  private final Predicate<StatusCode> retryPredicate;
+  private final HttpClient httpClient;
+  private final RequestConfig.Builder httpRequestConfig;
+  private final List<InstanceBuilder> instances = new ArrayList<>();
+  private Long operationReference;
+  private Duration requestTimeout;
+  private boolean useRest;
+
+  public CreateProcessInstanceBatchCommandImpl(
+      final GatewayStub asyncStub,
+      final JsonMapper jsonMapper,
+      final CamundaClientConfiguration config,
+      final Predicate<StatusCode> retryPredicate,
+      final HttpClient httpClient,
+      final boolean preferRestOverGrpc) {
+    this.asyncStub = asyncStub;
+    this.jsonMapper = jsonMapper;
+    this.config = config;
+    this.retryPredicate = retryPredicate;
+    this.httpClient = httpClient;
+    httpRequestConfig = httpClient.newRequestConfig();
+    requestTimeout(config.getDefaultRequestTimeout());
+    useRest = preferRestOverGrpc;
+  }
+
+  @Override
+  public CreateProcessInstanceBatchCommandStep2 addInstance() {
+    final InstanceBuilder instance = new InstanceBuilder();
+    instances.add(instance);
+    return instance;
+  }
+
+  @Override
+  public CreateProcessInstanceBatchCommandStep1 operationReference(final long operationReference) {
+    this.operationReference = operationReference;
+    return this;
+  }
+
+  @Override
+  public FinalCommandStep<CreateProcessInstanceBatchResponse> requestTimeout(
+      final Duration requestTimeout) {
+    this.requestTimeout = requestTimeout;
+    httpRequestConfig.setResponseTimeout(requestTimeout.toMillis(), TimeUnit.MILLISECONDS);
+    return this;
+  }
+
+  @Override
+  public CamundaFuture<CreateProcessInstanceBatchResponse> send() {
+    if (useRest) {
+      return sendRestRequest();
+    } else {
+      return sendGrpcRequest();
+    }
+  }
+
+  private CamundaFuture<CreateProcessInstanceBatchResponse> sendRestRequest() {
+    final io.camunda.client.protocol.rest.CreateProcessInstanceBatchRequest request =
+        new io.camunda.client.protocol.rest.CreateProcessInstanceBatchRequest();
+    instances.forEach(instance -> request.addInstancesItem(instance.toRestRequest()));
+    request.setOperationReference(operationReference);
+
+    final HttpCamundaFuture<CreateProcessInstanceBatchResponse> result =
+        new HttpCamundaFuture<>();
+    httpClient.post(
+        "/process-instances/batch-creation",
+        jsonMapper.toJson(request),
+        httpRequestConfig.build(),
+        io.camunda.client.protocol.rest.CreateProcessInstanceBatchResponse.class,
+        CreateProcessInstanceBatchResponseImpl::new,
+        result);
+    return result;
+  }
+
+  private CamundaFuture<CreateProcessInstanceBatchResponse> sendGrpcRequest() {
+    final CreateProcessInstanceBatchRequest.Builder builder =
+        CreateProcessInstanceBatchRequest.newBuilder();
+    instances.forEach(instance -> builder.addInstances(instance.grpcRequest));
+    if (operationReference != null) {
+      builder.setOperationReference(operationReference);
+    }
+    final CreateProcessInstanceBatchRequest request = builder.build();
+
+    final RetriableClientFutureImpl<
+            CreateProcessInstanceBatchResponse,
+            GatewayOuterClass.CreateProcessInstanceBatchResponse>
+        future =
+            new RetriableClientFutureImpl<>(
+                CreateProcessInstanceBatchResponseImpl::new,
+                retryPredicate,
+                streamObserver -> sendGrpcRequest(request, streamObserver));
+
+    sendGrpcRequest(request, future);
+    return future;
+  }
+
+  private void sendGrpcRequest(
+      final CreateProcessInstanceBatchRequest request,
+      final StreamObserver<GatewayOuterClass.CreateProcessInstanceBatchResponse> future) {
+    asyncStub
+        .withDeadlineAfter(requestTimeout.toMillis(), TimeUnit.MILLISECONDS)
+        .createProcessInstanceBatch(request, future);
+  }
+
+  @Override
+  public CreateProcessInstanceBatchCommandStep1 useRest() {
+    useRest = true;
+    return this;
+  }
+
+  @Override
+  public CreateProcessInstanceBatchCommandStep1 useGrpc() {
+    useRest = false;
+    return this;
+  }
+
+  private final class InstanceBuilder extends CommandWithVariables<InstanceBuilder>
+      implements CreateProcessInstanceBatchCommandStep2,
+          CreateProcessInstanceBatchCommandStep3,
+          CreateProcessInstanceBatchCommandStep4 {
+
+    private final CreateProcessInstanceRequest.Builder grpcRequest =
+        CreateProcessInstanceRequest.newBuilder();
+    private final io.camunda.client.protocol.rest.CreateProcessInstanceRequest restRequest =
+        new io.camunda.client.protocol.rest.CreateProcessInstanceRequest();
+
+    private InstanceBuilder() {
+      super(jsonMapper);
+      tenantId(config.getDefaultTenantId());
+    }
+
+    @Override
+    protected InstanceBuilder setVariablesInternal(final String variables) {
+      // the variables are only converted for REST when sending the command, since only REST
+      // requires them to be a JSON object, see CreateProcessInstanceCommandImpl
+      grpcRequest.setVariables(variables);
+      return this;
+    }
+
+    @Override
+    public CreateProcessInstanceBatchCommandStep3 bpmnProcessId(final String bpmnProcessId) {
+      grpcRequest.setBpmnProcessId(bpmnProcessId);
+      restRequest.setProcessDefinitionId(bpmnProcessId);
+      return this;
+    }
+
+    @Override
+    public CreateProcessInstanceBatchCommandStep4 processDefinitionKey(
+        final long processDefinitionKey) {
+      grpcRequest.setProcessDefinitionKey(processDefinitionKey);
+      restRequest.setProcessDefinitionKey(processDefinitionKey);
+      return this;
+    }
+
+    @Override
+    public CreateProcessInstanceBatchCommandStep4 version(final int version) {
+      grpcRequest.setVersion(version);
+      restRequest.setProcessDefinitionVersion(version);
+      return this;
+    }
+
+    @Override
+    public CreateProcessInstanceBatchCommandStep4 latestVersion() {
+      return version(CreateProcessInstanceCommandStep1.LATEST_VERSION);
+    }
+
+    @Override
+    public CreateProcessInstanceBatchCommandStep4 startBeforeElement(final String elementId) {
+      grpcRequest.addStartInstructions(
+          ProcessInstanceCreationStartInstruction.newBuilder().setElementId(elementId).build());
+      restRequest.addStartInstructionsItem(
+          new io.camunda.client.protocol.rest.ProcessInstanceCreationStartInstruction()
+              .elementId(elementId));
+      return this;
+    }
+
+    @Override
+    public CreateProcessInstanceBatchCommandStep4 tenantId(final String tenantId) {
+      grpcRequest.setTenantId(tenantId);
+      restRequest.setTenantId(tenantId);
+      return this;
+    }
+
+    @Override
+    public CreateProcessInstanceBatchCommandStep1 done() {
+      return CreateProcessInstanceBatchCommandImpl.this;
+    }
+
+    private io.camunda.client.protocol.rest.CreateProcessInstanceRequest toRestRequest() {
+      if (!grpcRequest.getVariables().isEmpty()) {
+        restRequest.setVariables(jsonMapper.fromJsonAsMap(grpcRequest.getVariables()));
+      }
+      return restRequest;
+    }
+  }
+}
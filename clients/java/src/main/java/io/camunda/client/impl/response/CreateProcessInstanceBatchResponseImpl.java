@@ -0,0 +1,151 @@
+/*
+ * Copyright © 2017 camunda services GmbH (info@camunda.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.camunda.client.impl.response;
+
+import io.camunda.client.api.response.CreateProcessInstanceBatchResponse;
+import io.camunda.client.api.response.ProcessInstanceCreationResult;
+import io.camunda.client.protocol.rest.CreateProcessInstanceBatchResult;
+import io.camunda.zeebe.gateway.protocol.GatewayOuterClass;
+import java.util.List;
+import java.util.stream.Collectors;
+
+public final class CreateProcessInstanceBatchResponseImpl
+    implements CreateProcessInstanceBatchResponse {
+
+  private final List<ProcessInstanceCreationResult> results;
+
+  public CreateProcessInstanceBatchResponseImpl(
+      final GatewayOuterClass.CreateProcessInstanceBatchResponse response) {
+    results =
+        response.getResultsList().stream()
+            .map(ProcessInstanceCreationResultImpl::new)
+            .map(ProcessInstanceCreationResult.class::cast)
+            .collect(Collectors.toList());
+  }
+
+  public CreateProcessInstanceBatchResponseImpl(
+      final io.camunda.client.protocol.rest.CreateProcessInstanceBatchResponse response) {
+    results =
+        response.getResults().stream()
+            .map(ProcessInstanceCreationResultImpl::new)
+            .map(ProcessInstanceCreationResult.class::cast)
+            .collect(Collectors.toList());
+  }
+
+  @Override
+  public List<ProcessInstanceCreationResult> getResults() {
+    return results;
+  }
+
+  @Override
+  public String toString() {
+    return "CreateProcessInstanceBatchResponseImpl{" + "results=" + results + '}';
+  }
+
+  private static final class ProcessInstanceCreationResultImpl
+      implements ProcessInstanceCreationResult {
+
+    private final long processDefinitionKey;
+    private final String bpmnProcessId;
+    private final int version;
+    private final long processInstanceKey;
+    private final String tenantId;
+    private final boolean created;
+    private final String errorMessage;
+
+    private ProcessInstanceCreationResultImpl(
+        final GatewayOuterClass.CreateProcessInstanceBatchResult result) {
+      processDefinitionKey = result.getProcessDefinitionKey();
+      bpmnProcessId = result.getBpmnProcessId();
+      version = result.getVersion();
+      processInstanceKey = result.getProcessInstanceKey();
+      tenantId = result.getTenantId();
+      created = result.getErrorCode() == 0;
+      errorMessage = created ? null : result.getErrorMessage();
+    }
+
+    private ProcessInstanceCreationResultImpl(final CreateProcessInstanceBatchResult result) {
+      processDefinitionKey = orDefault(result.getProcessDefinitionKey());
+      bpmnProcessId = result.getProcessDefinitionId();
+      version =
+          result.getProcessDefinitionVersion() == null ? -1 : result.getProcessDefinitionVersion();
+      processInstanceKey = orDefault(result.getProcessInstanceKey());
+      tenantId = result.getTenantId();
+      created = result.getError() == null;
+      errorMessage = created ? null : result.getError().getDetail();
+    }
+
+    private static long orDefault(final Long key) {
+      return key == null ? -1 : key;
+    }
+
+    @Override
+    public long getProcessDefinitionKey() {
+      return processDefinitionKey;
+    }
+
+    @Override
+    public String getBpmnProcessId() {
+      return bpmnProcessId;
+    }
+
+    @Override
+    public int getVersion() {
+      return version;
+    }
+
+    @Override
+    public long getProcessInstanceKey() {
+      return processInstanceKey;
+    }
+
+    @Override
+    public String getTenantId() {
+      return tenantId;
+    }
+
+    @Override
+    public boolean isCreated() {
+      return created;
+    }
+
+    @Override
+    public String getErrorMessage() {
+      return errorMessage;
+    }
+
+    @Override
+    public String toString() {
+      return "ProcessInstanceCreationResultImpl{"
+          + "processDefinitionKey="
+          + processDefinitionKey
+          + ", bpmnProcessId='"
+          + bpmnProcessId
+          + '\''
+          + ", version="
+          + version
+          + ", processInstanceKey="
+          + processInstanceKey
+          + ", tenantId='"
+          + tenantId
+          + '\''
+          + ", errorMessage='"
+          + errorMessage
+          + '\''
+          + '}';
+    }
+  }
+}
@@ -0,0 +1,149 @@
+/*
+ * Copyright © 2017 camunda services GmbH (info@camunda.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.camunda.client.process;
+
+import static io.camunda.client.api.command.CreateProcessInstanceCommandStep1.LATEST_VERSION;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.entry;
+
+import com.google.rpc.Code;
+import io.camunda.client.api.command.CommandWithTenantStep;
+import io.camunda.client.api.response.CreateProcessInstanceBatchResponse;
+import io.camunda.client.api.response.ProcessInstanceCreationResult;
+import io.camunda.client.util.ClientTest;
+import io.camunda.client.util.JsonUtil;
+import io.camunda.zeebe.gateway.protocol.GatewayOuterClass;
+import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.CreateProcessInstanceBatchRequest;
+import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.CreateProcessInstanceBatchResult;
+import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.CreateProcessInstanceRequest;
+import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.ProcessInstanceCreationStartInstruction;
+import java.time.Duration;
+import java.util.Collections;
+import org.junit.Test;
+
+public final class CreateProcessInstanceBatchTest extends ClientTest {
+
+  @Test
+  public void shouldCreateProcessInstances() {
+    // given
+    final GatewayOuterClass.CreateProcessInstanceBatchResponse.Builder response =
+        GatewayOuterClass.CreateProcessInstanceBatchResponse.newBuilder()
+            .addResults(
+                CreateProcessInstanceBatchResult.newBuilder()
+                    .setProcessDefinitionKey(123)
+                    .setBpmnProcessId("testProcess")
+                    .setVersion(12)
+                    .setProcessInstanceKey(32)
+                    .setTenantId(CommandWithTenantStep.DEFAULT_TENANT_IDENTIFIER))
+            .addResults(
+                CreateProcessInstanceBatchResult.newBuilder()
+                    .setBpmnProcessId("unknownProcess")
+                    .setProcessInstanceKey(-1)
+                    .setErrorCode(Code.NOT_FOUND_VALUE)
+                    .setErrorMessage("no such process"));
+    gatewayService.onCreateProcessInstanceBatchRequest(response.build());
+
+    // when
+    final CreateProcessInstanceBatchResponse result =
+        client
+            .newCreateInstanceBatchCommand()
+            .addInstance()
+            .processDefinitionKey(123)
+            .variables(Collections.singletonMap("foo", "bar"))
+            .done()
+            .addInstance()
+            .bpmnProcessId("unknownProcess")
+            .latestVersion()
+            .done()
+            .operationReference(456)
+            .send()
+            .join();
+
+    // then
+    assertThat(result.getResults()).hasSize(2);
+    final ProcessInstanceCreationResult created = result.getResults().get(0);
+    assertThat(created.isCreated()).isTrue();
+    assertThat(created.getProcessDefinitionKey()).isEqualTo(123);
+    assertThat(created.getBpmnProcessId()).isEqualTo("testProcess");
+    assertThat(created.getVersion()).isEqualTo(12);
+    assertThat(created.getProcessInstanceKey()).isEqualTo(32);
+    assertThat(created.getErrorMessage()).isNull();
+
+    final ProcessInstanceCreationResult rejected = result.getResults().get(1);
+    assertThat(rejected.isCreated()).isFalse();
+    assertThat(rejected.getProcessInstanceKey()).isEqualTo(-1);
+    assertThat(rejected.getErrorMessage()).isEqualTo("no such process");
+
+    final CreateProcessInstanceBatchRequest request = gatewayService.getLastRequest();
+    assertThat(request.getOperationReference()).isEqualTo(456);
+    assertThat(request.getInstancesList()).hasSize(2);
+
+    final CreateProcessInstanceRequest byKey = request.getInstances(0);
+    assertThat(byKey.getProcessDefinitionKey()).isEqualTo(123);
+    assertThat(byKey.getTenantId()).isEqualTo(CommandWithTenantStep.DEFAULT_TENANT_IDENTIFIER);
+    assertThat(JsonUtil.fromJsonAsMap(byKey.getVariables())).containsOnly(entry("foo", "bar"));
+
+    final CreateProcessInstanceRequest byId = request.getInstances(1);
+    assertThat(byId.getBpmnProcessId()).isEqualTo("unknownProcess");
+    assertThat(byId.getVersion()).isEqualTo(LATEST_VERSION);
+
+    rule.verifyDefaultRequestTimeout();
+  }
+
+  @Test
+  public void shouldCreateProcessInstancesWithTenantAndStartInstructions() {
+    // when
+    client
+        .newCreateInstanceBatchCommand()
+        .addInstance()
+        .bpmnProcessId("testProcess")
+        .version(3)
+        .tenantId("tenant")
+        .startBeforeElement("task")
+        .done()
+        .send()
+        .join();
+
+    // then
+    final CreateProcessInstanceBatchRequest request = gatewayService.getLastRequest();
+    final CreateProcessInstanceRequest instance = request.getInstances(0);
+    assertThat(instance.getVersion()).isEqualTo(3);
+    assertThat(instance.getTenantId()).isEqualTo("tenant");
+    assertThat(instance.getStartInstructionsList())
+        .extracting(ProcessInstanceCreationStartInstruction::getElementId)
+        .containsExactly("task");
+    assertThat(request.hasOperationReference()).isFalse();
+  }
+
+  @Test
+  public void shouldSetRequestTimeout() {
+    // given
+    final Duration requestTimeout = Duration.ofHours(124);
+
+    // when
+    client
+        .newCreateInstanceBatchCommand()
+        .addInstance()
+        .processDefinitionKey(123)
+        .done()
+        .requestTimeout(requestTimeout)
+        .send()
+        .join();
+
+    // then
+    rule.verifyRequestTimeout(requestTimeout);
+  }
+}
@@ -28,6 +28,8 @@ import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.CancelProcessInstance
 import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.CancelProcessInstanceResponse;
 import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.CompleteJobRequest;
 import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.CompleteJobResponse;
+import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.CreateProcessInstanceBatchRequest;
+import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.CreateProcessInstanceBatchResponse;
 import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.CreateProcessInstanceRequest;
 import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.CreateProcessInstanceResponse;
 import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.CreateProcessInstanceWithResultRequest;
@@ -105,6 +107,9 @@ public final class RecordingGatewayService extends GatewayImplBase {
     addRequestHandler(
         CreateProcessInstanceWithResultRequest.class,
         r -> CreateProcessInstanceWithResultResponse.getDefaultInstance());
+    addRequestHandler(
+        CreateProcessInstanceBatchRequest.class,
+        r -> CreateProcessInstanceBatchResponse.getDefaultInstance());
     addRequestHandler(
         CancelProcessInstanceRequest.class,
         r -> CancelProcessInstanceResponse.getDefaultInstance());
@@ -332,6 +337,13 @@ public final class RecordingGatewayService extends GatewayImplBase {
     handle(request, responseObserver);
   }
 
+  @Override
+  public void createProcessInstanceBatch(
+      final CreateProcessInstanceBatchRequest request,
+      final StreamObserver<CreateProcessInstanceBatchResponse> responseObserver) {
+    handle(request, responseObserver);
+  }
+
   @Override
   public void createProcessInstanceWithResult(
       final CreateProcessInstanceWithResultRequest request,
@@ -497,6 +509,11 @@ public final class RecordingGatewayService extends GatewayImplBase {
                 .build());
   }
 
+  public void onCreateProcessInstanceBatchRequest(
+      final CreateProcessInstanceBatchResponse response) {
+    addRequestHandler(CreateProcessInstanceBatchRequest.class, request -> response);
+  }
+
   public void onEvaluateDecisionRequest(final EvaluateDecisionResponse evaluateDecisionResponse) {
     addRequestHandler(EvaluateDecisionRequest.class, request -> evaluateDecisionResponse);
   }
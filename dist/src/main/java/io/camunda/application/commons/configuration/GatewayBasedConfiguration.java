@@ -89,11 +89,13 @@ public final class GatewayBasedConfiguration {
   @Bean
   public SchedulerConfiguration schedulerConfiguration() {
     final var cpuThreads = properties.getThreads().getManagementThreads();
-    // We set ioThreads to zero as the Gateway isn't using any IO threads.
+    // We set ioThreads and virtualThreads to zero as the Gateway isn't using any IO threads.
     final var ioThreads = 0;
+    final var virtualThreads = 0;
     final var metricsEnabled = false;
     final var nodeId = properties.getCluster().getMemberId();
-    return new SchedulerConfiguration(cpuThreads, ioThreads, metricsEnabled, "Gateway", nodeId);
+    return new SchedulerConfiguration(
+        cpuThreads, ioThreads, virtualThreads, metricsEnabled, "Gateway", nodeId);
   }
 
   @Bean
@@ -149,6 +151,9 @@ public final class GatewayBasedConfiguration {
     final var messaging =
         new MessagingConfig()
             .setCompressionAlgorithm(cluster.getMessageCompression())
+            .setCompressionThreshold((int) cluster.getMessageCompressionThreshold().toBytes())
+            .setCompressionDictionary(cluster.getMessageCompressionDictionary())
+            .setMaxMessageSize((int) config.getNetwork().getMaxMessageSize().toBytes())
             .setInterfaces(Collections.singletonList(cluster.getHost()))
             .setPort(cluster.getPort());
 
@@ -16,6 +16,8 @@ import io.camunda.zeebe.broker.client.api.BrokerClient;
 import io.camunda.zeebe.broker.exporter.repo.ExporterDescriptor;
 import io.camunda.zeebe.broker.exporter.repo.ExporterRepository;
 import io.camunda.zeebe.broker.system.SystemContext;
+import io.camunda.zeebe.gateway.impl.stream.JobStreamClient;
+import io.camunda.zeebe.gateway.rest.controller.JobStreamerProvider;
 import io.camunda.zeebe.scheduler.ActorScheduler;
 import io.camunda.zeebe.util.CloseableSilently;
 import io.camunda.zeebe.util.FileUtil;
@@ -98,6 +100,12 @@ public class BrokerModuleConfiguration implements CloseableSilently {
     }
   }
 
+  @Bean
+  public JobStreamerProvider jobStreamerProvider() {
+    // only available if the broker runs the embedded gateway, and once it was started
+    return () -> springBrokerBridge.getJobStreamClient().map(JobStreamClient::streamer);
+  }
+
   @Bean(destroyMethod = "close")
   public Broker broker(final ExporterRepository exporterRepository) {
     final SystemContext systemContext =
@@ -16,6 +16,7 @@ import io.camunda.zeebe.broker.client.api.BrokerClient;
 import io.camunda.zeebe.broker.client.api.BrokerTopologyManager;
 import io.camunda.zeebe.gateway.impl.SpringGatewayBridge;
 import io.camunda.zeebe.gateway.impl.stream.JobStreamClient;
+import io.camunda.zeebe.gateway.rest.controller.JobStreamerProvider;
 import io.camunda.zeebe.scheduler.ActorScheduler;
 import io.camunda.zeebe.util.CloseableSilently;
 import io.camunda.zeebe.util.VersionUtil;
@@ -127,6 +128,11 @@ public class GatewayModuleConfiguration implements CloseableSilently {
     return gateway;
   }
 
+  @Bean
+  public JobStreamerProvider jobStreamerProvider() {
+    return () -> springGatewayBridge.getJobStreamClient().map(JobStreamClient::streamer);
+  }
+
   @Override
   public void close() {
     if (gateway != null) {
@@ -65,7 +65,7 @@ public class RestoreApp implements ApplicationRunner {
   @Override
   public void run(final ApplicationArguments args) {
     LOG.info("Starting to restore from backup {}", backupId);
-    new RestoreManager(configuration, backupStore)
+    new RestoreManager(configuration, backupStore, restoreConfiguration.maxConcurrentPartitions())
         .restore(backupId, restoreConfiguration.validateConfig())
         .join();
     LOG.info("Successfully restored broker from backup {}", backupId);
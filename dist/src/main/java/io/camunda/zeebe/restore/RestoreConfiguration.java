@@ -10,5 +10,12 @@ package io.camunda.zeebe.restore;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.boot.context.properties.bind.DefaultValue;
 
+/**
+ * @param validateConfig whether to verify that the backup matches the configured cluster
+ * @param maxConcurrentPartitions the maximum number of partitions restored at the same time; 0
+ *     restores all partitions of the broker at once
+ */
 @ConfigurationProperties(prefix = "zeebe.restore")
-public record RestoreConfiguration(@DefaultValue("true") boolean validateConfig) {}
+public record RestoreConfiguration(
+    @DefaultValue("true") boolean validateConfig,
+    @DefaultValue("0") int maxConcurrentPartitions) {}
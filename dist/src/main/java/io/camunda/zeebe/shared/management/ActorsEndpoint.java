@@ -0,0 +1,73 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.shared.management;
+
+import io.camunda.zeebe.scheduler.ActorProfiler;
+import io.camunda.zeebe.scheduler.ActorProfiler.ActorProfile;
+import java.util.Comparator;
+import java.util.Map;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.web.WebEndpointResponse;
+import org.springframework.boot.actuate.endpoint.web.annotation.WebEndpoint;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Component;
+import org.springframework.util.MimeTypeUtils;
+
+/**
+ * An actuator endpoint which lists the actors using the most of the actor scheduler, e.g. to find a
+ * noisy partition or exporter on a shared broker.
+ *
+ * <p>NOTE: the profiles are aggregated from the actor metrics, and are only available if these are
+ * enabled via {@code zeebe.broker.experimental.features.enableActorMetrics}; otherwise the list is
+ * always empty.
+ */
+@Component
+@WebEndpoint(id = "actors")
+public final class ActorsEndpoint {
+  private static final int DEFAULT_LIMIT = 10;
+  private static final Map<String, Comparator<ActorProfile>> ORDERS =
+      Map.of(
+          "cpuTime", ActorProfile.BY_CPU_TIME,
+          "executionTime", ActorProfile.BY_EXECUTION_TIME,
+          "queueLatency", ActorProfile.BY_QUEUE_LATENCY,
+          "executedJobs", ActorProfile.BY_EXECUTED_JOBS);
+
+  /**
+   * GET /actuator/actors?limit=10&orderBy=cpuTime - returns the top actors, by default the 10
+   * actors which used the most CPU time.
+   *
+   * @param limit the maximum number of actors to return
+   * @param orderBy one of {@code cpuTime}, {@code executionTime}, {@code queueLatency}, or {@code
+   *     executedJobs}
+   * @return 200 and the list of actor profiles, or 400 if any parameter is invalid
+   */
+  @ReadOperation
+  public WebEndpointResponse<?> topActors(
+      final @Nullable Integer limit, final @Nullable String orderBy) {
+    final var order = ORDERS.get(orderBy == null ? "cpuTime" : orderBy);
+    if (order == null) {
+      return new WebEndpointResponse<>(
+          Map.of(
+              "error",
+              "No known order '%s'; should be one of %s".formatted(orderBy, ORDERS.keySet())),
+          400,
+          MimeTypeUtils.APPLICATION_JSON);
+    }
+
+    final var actorLimit = limit == null ? DEFAULT_LIMIT : limit;
+    if (actorLimit < 0) {
+      return new WebEndpointResponse<>(
+          Map.of("error", "Expected limit to be non-negative, but was %d".formatted(actorLimit)),
+          400,
+          MimeTypeUtils.APPLICATION_JSON);
+    }
+
+    return new WebEndpointResponse<>(
+        ActorProfiler.topActors(actorLimit, order), 200, MimeTypeUtils.APPLICATION_JSON);
+  }
+}
@@ -0,0 +1,123 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.shared.management;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.camunda.zeebe.scheduler.Actor;
+import io.camunda.zeebe.scheduler.ActorProfiler.ActorProfile;
+import io.camunda.zeebe.scheduler.ActorScheduler;
+import io.camunda.zeebe.scheduler.future.ActorFuture;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import org.assertj.core.api.InstanceOfAssertFactories;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+final class ActorsEndpointTest {
+  private final ActorsEndpoint endpoint = new ActorsEndpoint();
+  private final ProfiledActor actor = new ProfiledActor();
+  private ActorScheduler scheduler;
+
+  @BeforeEach
+  void setup() {
+    scheduler =
+        ActorScheduler.newActorScheduler()
+            .setCpuBoundActorThreadCount(1)
+            .setIoBoundActorThreadCount(1)
+            .setMetricsEnabled(true)
+            .build();
+    scheduler.start();
+    scheduler.submitActor(actor).join();
+  }
+
+  @AfterEach
+  void tearDown() throws Exception {
+    scheduler.close();
+  }
+
+  @Test
+  void shouldListProfiledActors() {
+    // given
+    for (int i = 0; i < 10; i++) {
+      actor.noop().join();
+    }
+
+    // when
+    final var response = endpoint.topActors(Integer.MAX_VALUE, "executedJobs");
+
+    // then
+    assertThat(response.getStatus()).isEqualTo(200);
+    assertThat(response.getBody())
+        .asInstanceOf(InstanceOfAssertFactories.list(ActorProfile.class))
+        .extracting(ActorProfile::actorName)
+        .contains(actor.getName());
+  }
+
+  @Test
+  void shouldLimitListedActors() {
+    // given
+    actor.noop().join();
+
+    // when
+    final var response = endpoint.topActors(1, null);
+
+    // then
+    assertThat(response.getStatus()).isEqualTo(200);
+    assertThat(response.getBody()).asInstanceOf(InstanceOfAssertFactories.LIST).hasSize(1);
+  }
+
+  @Test
+  void shouldListNoActorsWithZeroLimit() {
+    // when
+    final var response = endpoint.topActors(0, null);
+
+    // then
+    assertThat(response.getStatus()).isEqualTo(200);
+    assertThat(response.getBody()).isEqualTo(List.of());
+  }
+
+  @Test
+  void shouldRejectUnknownOrder() {
+    // when
+    final var response = endpoint.topActors(null, "name");
+
+    // then
+    assertThat(response.getStatus()).isEqualTo(400);
+    assertThat(response.getBody())
+        .asInstanceOf(InstanceOfAssertFactories.map(String.class, String.class))
+        .extractingByKey("error")
+        .asString()
+        .contains("name");
+  }
+
+  @Test
+  void shouldRejectNegativeLimit() {
+    // when
+    final var response = endpoint.topActors(-1, "cpuTime");
+
+    // then
+    assertThat(response.getStatus()).isEqualTo(400);
+    assertThat(response.getBody()).isInstanceOf(Map.class);
+  }
+
+  private static final class ProfiledActor extends Actor {
+    private final String name = "profiled-" + UUID.randomUUID();
+
+    @Override
+    public String getName() {
+      return name;
+    }
+
+    private ActorFuture<Void> noop() {
+      return actor.call(() -> null);
+    }
+  }
+}
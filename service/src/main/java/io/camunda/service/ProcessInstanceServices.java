@@ -21,10 +21,12 @@ import io.camunda.service.security.SecurityContextProvider;
 import io.camunda.util.ObjectBuilder;
 import io.camunda.zeebe.broker.client.api.BrokerClient;
 import io.camunda.zeebe.gateway.impl.broker.request.BrokerCancelProcessInstanceRequest;
+import io.camunda.zeebe.gateway.impl.broker.request.BrokerCreateProcessInstanceBatchRequest;
 import io.camunda.zeebe.gateway.impl.broker.request.BrokerCreateProcessInstanceRequest;
 import io.camunda.zeebe.gateway.impl.broker.request.BrokerCreateProcessInstanceWithResultRequest;
 import io.camunda.zeebe.gateway.impl.broker.request.BrokerMigrateProcessInstanceRequest;
 import io.camunda.zeebe.gateway.impl.broker.request.BrokerModifyProcessInstanceRequest;
+import io.camunda.zeebe.protocol.impl.record.value.processinstance.ProcessInstanceCreationBatchRecord;
 import io.camunda.zeebe.protocol.impl.record.value.processinstance.ProcessInstanceCreationRecord;
 import io.camunda.zeebe.protocol.impl.record.value.processinstance.ProcessInstanceCreationStartInstruction;
 import io.camunda.zeebe.protocol.impl.record.value.processinstance.ProcessInstanceMigrationMappingInstruction;
@@ -108,6 +110,32 @@ public final class ProcessInstanceServices
     return sendBrokerRequest(brokerRequest);
   }
 
+  /**
+   * Creates all given process instances with a single command. The returned record lists the
+   * outcome of each instance, in the order of the request; instances which could not be created do
+   * not fail the others.
+   */
+  public CompletableFuture<ProcessInstanceCreationBatchRecord> createProcessInstanceBatch(
+      final ProcessInstanceCreateBatchRequest request) {
+    final var brokerRequest = new BrokerCreateProcessInstanceBatchRequest();
+    request.instances().stream()
+        .map(
+            instance ->
+                new ProcessInstanceCreationRecord()
+                    .setBpmnProcessId(instance.bpmnProcessId())
+                    .setProcessDefinitionKey(instance.processDefinitionKey())
+                    .setVersion(instance.version())
+                    .setTenantId(instance.tenantId())
+                    .setVariables(getDocumentOrEmpty(instance.variables()))
+                    .addStartInstructions(instance.startInstructions()))
+        .forEach(brokerRequest::addInstance);
+
+    if (request.operationReference() != null) {
+      brokerRequest.setOperationReference(request.operationReference());
+    }
+    return sendBrokerRequest(brokerRequest);
+  }
+
   public CompletableFuture<ProcessInstanceResultRecord> createProcessInstanceWithResult(
       final ProcessInstanceCreateRequest request) {
     final var brokerRequest =
@@ -178,6 +206,9 @@ public final class ProcessInstanceServices
       List<ProcessInstanceCreationStartInstruction> startInstructions,
       List<String> fetchVariables) {}
 
+  public record ProcessInstanceCreateBatchRequest(
+      List<ProcessInstanceCreateRequest> instances, Long operationReference) {}
+
   public record ProcessInstanceCancelRequest(Long processInstanceKey, Long operationReference) {}
 
   public record ProcessInstanceMigrateRequest(
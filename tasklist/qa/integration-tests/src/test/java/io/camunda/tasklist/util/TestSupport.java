@@ -140,7 +140,8 @@ public final class TestSupport {
             ValueType.MAPPING,
             ValueType.REDISTRIBUTION,
             ValueType.IDENTITY_SETUP,
-            ValueType.RESOURCE);
+            ValueType.RESOURCE,
+            ValueType.PROCESS_INSTANCE_CREATION_BATCH);
     return EnumSet.complementOf(excludedValueTypes).stream();
   }
 }
@@ -21,9 +21,12 @@ import java.io.File;
 import java.time.Duration;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Set;
 
 /** Messaging configuration. */
 public class MessagingConfig implements Config {
+  private static final int DEFAULT_MAX_MESSAGE_SIZE = 4 * 1024 * 1024;
+
   private final int connectionPoolSize = 8;
   private List<String> interfaces = new ArrayList<>();
   private Integer port;
@@ -39,6 +42,11 @@ public class MessagingConfig implements Config {
   private int socketReceiveBuffer = 1024 * 1024;
   private Duration heartbeatTimeout = Duration.ofSeconds(15);
   private Duration heartbeatInterval = Duration.ofSeconds(5);
+  private int compressionThreshold = 1024;
+  private File compressionDictionary;
+  private int maxMessageSize = DEFAULT_MAX_MESSAGE_SIZE;
+  private Set<String> uncompressedSubjects =
+      Set.of("internal-heartbeat", "atomix-membership-probe");
 
   /**
    * Returns the local interfaces to which to bind the node.
@@ -308,9 +316,97 @@ public class MessagingConfig implements Config {
     return this;
   }
 
+  /**
+   * @return the minimum payload size in bytes from which messages are compressed with {@link
+   *     CompressionAlgorithm#ZSTD}
+   */
+  public int getCompressionThreshold() {
+    return compressionThreshold;
+  }
+
+  /**
+   * Sets the minimum payload size from which messages are compressed with {@link
+   * CompressionAlgorithm#ZSTD}. Smaller payloads rarely compress well enough to be worth the CPU.
+   *
+   * @param compressionThreshold the minimum payload size in bytes
+   * @return this config for chaining
+   */
+  public MessagingConfig setCompressionThreshold(final int compressionThreshold) {
+    this.compressionThreshold = compressionThreshold;
+    return this;
+  }
+
+  /**
+   * @return the zstd dictionary used to compress and decompress messages, or null if none
+   */
+  public File getCompressionDictionary() {
+    return compressionDictionary;
+  }
+
+  /**
+   * Sets a zstd dictionary, e.g. trained with {@code zstd --train} on sample payloads, which is
+   * used to compress messages with {@link CompressionAlgorithm#ZSTD}. Messages compressed with a
+   * dictionary can only be decompressed with the same dictionary, so all members of the cluster
+   * must be configured with the same file.
+   *
+   * @param compressionDictionary the file containing the dictionary
+   * @return this config for chaining
+   */
+  public MessagingConfig setCompressionDictionary(final File compressionDictionary) {
+    this.compressionDictionary = compressionDictionary;
+    return this;
+  }
+
+  /**
+   * @return the subject prefixes of messages which are never compressed
+   */
+  public Set<String> getUncompressedSubjects() {
+    return uncompressedSubjects;
+  }
+
+  /**
+   * Sets the subject prefixes of messages which are never compressed, regardless of their size,
+   * e.g. because they are latency sensitive or known to be incompressible.
+   *
+   * @param uncompressedSubjects the subject prefixes
+   * @return this config for chaining
+   */
+  public MessagingConfig setUncompressedSubjects(final Set<String> uncompressedSubjects) {
+    this.uncompressedSubjects = uncompressedSubjects;
+    return this;
+  }
+
+  /**
+   * @return the maximum size in bytes of a message payload after decompressing it
+   */
+  public int getMaxMessageSize() {
+    return maxMessageSize;
+  }
+
+  /**
+   * Sets the maximum size of a message payload after decompressing it. Compressed messages which
+   * would exceed it are rejected before allocating any memory for them, such that a corrupted or
+   * malicious frame cannot make a member allocate arbitrarily large buffers.
+   *
+   * @param maxMessageSize the maximum size of a decompressed payload in bytes
+   * @return this config for chaining
+   */
+  public MessagingConfig setMaxMessageSize(final int maxMessageSize) {
+    this.maxMessageSize = maxMessageSize;
+    return this;
+  }
+
   public enum CompressionAlgorithm {
     GZIP,
     NONE,
-    SNAPPY
+    SNAPPY,
+    /**
+     * Compresses the payload of each message individually, if it is larger than the {@link
+     * #getCompressionThreshold() threshold} and its subject is not one of the {@link
+     * #getUncompressedSubjects() uncompressed subjects}. Unlike the other algorithms, which
+     * compress the whole channel, members with different settings can communicate with each
+     * other.
+     */
+    ZSTD
   }
 }
@@ -0,0 +1,191 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.atomix.cluster.messaging.impl;
+
+import com.github.luben.zstd.Zstd;
+import com.github.luben.zstd.ZstdDictCompress;
+import com.github.luben.zstd.ZstdDictDecompress;
+import io.atomix.cluster.messaging.MessagingConfig;
+import io.atomix.cluster.messaging.MessagingConfig.CompressionAlgorithm;
+import io.netty.handler.codec.CorruptedFrameException;
+import java.io.File;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.util.Set;
+
+/**
+ * Compresses the payload of individual messages with zstd, optionally using a pre-trained
+ * dictionary. Whether a message is compressed is decided by its subject and the size of its
+ * payload; replies carry no subject and are decided by size only.
+ *
+ * <p>Decompression does not depend on the local configuration, except for the dictionary: a
+ * message compressed with a dictionary can only be decompressed if the same dictionary is
+ * configured locally.
+ */
+final class MessageCompressor {
+
+  static final byte UNCOMPRESSED = 0;
+  static final byte ZSTD = 1;
+  static final byte ZSTD_DICTIONARY = 2;
+
+  // replies have no subject, so their metrics are all recorded with this one
+  static final String REPLY_SUBJECT = "reply";
+
+  private static final int COMPRESSION_LEVEL = Zstd.defaultCompressionLevel();
+
+  private final boolean enabled;
+  private final int threshold;
+  private final int maxMessageSize;
+  private final Set<String> uncompressedSubjects;
+  private final ZstdDictCompress dictionaryCompress;
+  private final ZstdDictDecompress dictionaryDecompress;
+  private final MessagingMetrics metrics;
+
+  MessageCompressor(
+      final boolean enabled,
+      final int threshold,
+      final int maxMessageSize,
+      final Set<String> uncompressedSubjects,
+      final byte[] dictionary,
+      final MessagingMetrics metrics) {
+    this.enabled = enabled;
+    this.threshold = threshold;
+    this.maxMessageSize = maxMessageSize;
+    this.uncompressedSubjects = uncompressedSubjects;
+    this.metrics = metrics;
+    if (dictionary != null) {
+      dictionaryCompress = new ZstdDictCompress(dictionary, COMPRESSION_LEVEL);
+      dictionaryDecompress = new ZstdDictDecompress(dictionary);
+    } else {
+      dictionaryCompress = null;
+      dictionaryDecompress = null;
+    }
+  }
+
+  static MessageCompressor of(final MessagingConfig config, final MessagingMetrics metrics) {
+    return new MessageCompressor(
+        config.getCompressionAlgorithm() == CompressionAlgorithm.ZSTD,
+        config.getCompressionThreshold(),
+        config.getMaxMessageSize(),
+        config.getUncompressedSubjects(),
+        readDictionary(config.getCompressionDictionary()),
+        metrics);
+  }
+
+  /**
+   * Compresses the given payload if it is worth it.
+   *
+   * @param subject the subject of the message, or {@link #REPLY_SUBJECT} for replies
+   * @param payload the payload of the message
+   * @return the payload to write, together with the codec with which it was compressed
+   */
+  Compressed compress(final String subject, final byte[] payload) {
+    if (!shouldCompress(subject, payload)) {
+      return new Compressed(UNCOMPRESSED, payload);
+    }
+
+    final var startTime = System.nanoTime();
+    final byte codec;
+    final byte[] compressed;
+    if (dictionaryCompress != null) {
+      codec = ZSTD_DICTIONARY;
+      compressed = Zstd.compress(payload, dictionaryCompress);
+    } else {
+      codec = ZSTD;
+      compressed = Zstd.compress(payload, COMPRESSION_LEVEL);
+    }
+    metrics.observeCompression(
+        subject, payload.length, compressed.length, System.nanoTime() - startTime);
+
+    // the receiver would only waste time decompressing it
+    if (compressed.length >= payload.length) {
+      return new Compressed(UNCOMPRESSED, payload);
+    }
+    return new Compressed(codec, compressed);
+  }
+
+  /**
+   * Decompresses the given payload with the given codec.
+   *
+   * @param subject the subject of the message, or {@link #REPLY_SUBJECT} for replies
+   * @param codec the codec the payload was compressed with
+   * @param payload the payload as read from the wire
+   * @return the decompressed payload
+   * @throws CorruptedFrameException if the codec is unknown, the payload is not a valid zstd frame,
+   *     its decompressed size exceeds the max message size, or it was compressed with a dictionary
+   *     but none is configured
+   */
+  byte[] decompress(final String subject, final byte codec, final byte[] payload) {
+    if (codec == UNCOMPRESSED) {
+      return payload;
+    }
+
+    final long size = Zstd.getFrameContentSize(payload);
+    if (size < 0) {
+      throw new CorruptedFrameException(
+          "Expected payload of message '%s' to be a zstd frame with known content size, but got %d"
+              .formatted(subject, size));
+    }
+
+    // the content size is read from the frame as is, so it must be checked before allocating
+    if (size > maxMessageSize) {
+      throw new CorruptedFrameException(
+          "Expected decompressed payload of message '%s' to be at most %d bytes, but got %d"
+              .formatted(subject, maxMessageSize, size));
+    }
+
+    final var startTime = System.nanoTime();
+    final byte[] decompressed =
+        switch (codec) {
+          case ZSTD -> Zstd.decompress(payload, (int) size);
+          case ZSTD_DICTIONARY -> {
+            if (dictionaryDecompress == null) {
+              throw new CorruptedFrameException(
+                  "Expected to decompress message '%s' with a dictionary, but none is configured"
+                      .formatted(subject));
+            }
+            yield Zstd.decompress(payload, dictionaryDecompress, (int) size);
+          }
+          default ->
+              throw new CorruptedFrameException(
+                  "Expected message '%s' to be compressed with a known codec, but got %d"
+                      .formatted(subject, codec));
+        };
+    metrics.observeDecompression(subject, System.nanoTime() - startTime);
+    return decompressed;
+  }
+
+  private boolean shouldCompress(final String subject, final byte[] payload) {
+    if (!enabled || payload.length < threshold) {
+      return false;
+    }
+
+    for (final var uncompressedSubject : uncompressedSubjects) {
+      if (subject.startsWith(uncompressedSubject)) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  private static byte[] readDictionary(final File dictionary) {
+    if (dictionary == null) {
+      return null;
+    }
+
+    try {
+      return Files.readAllBytes(dictionary.toPath());
+    } catch (final IOException e) {
+      throw new UncheckedIOException(
+          "Failed to read message compression dictionary '%s'".formatted(dictionary), e);
+    }
+  }
+
+  record Compressed(byte codec, byte[] payload) {}
+}
@@ -75,6 +75,11 @@ class MessageDecoderV2 extends AbstractMessageDecoder {
         } catch (final Escape e) {
           return;
         }
+        currentState = DecoderState.READ_CONTENT_ENCODING;
+      case READ_CONTENT_ENCODING:
+        if (!readContentEncoding(buffer)) {
+          return;
+        }
         currentState = DecoderState.READ_CONTENT_LENGTH;
       case READ_CONTENT_LENGTH:
         try {
@@ -125,7 +130,8 @@ class MessageDecoderV2 extends AbstractMessageDecoder {
             }
             final String subject = readString(buffer, subjectLength);
             final ProtocolRequest message =
-                new ProtocolRequest(messageId, senderAddress, subject, content);
+                new ProtocolRequest(
+                    messageId, senderAddress, subject, decodeContent(subject, content));
             out.add(message);
             currentState = DecoderState.READ_TYPE;
             break;
@@ -140,7 +146,9 @@ class MessageDecoderV2 extends AbstractMessageDecoder {
               return;
             }
             final ProtocolReply.Status status = ProtocolReply.Status.forId(buffer.readByte());
-            final ProtocolReply message = new ProtocolReply(messageId, content, status);
+            final ProtocolReply message =
+                new ProtocolReply(
+                    messageId, decodeContent(MessageCompressor.REPLY_SUBJECT, content), status);
             out.add(message);
             currentState = DecoderState.READ_TYPE;
             break;
@@ -153,10 +161,33 @@ class MessageDecoderV2 extends AbstractMessageDecoder {
     }
   }
 
+  /**
+   * Reads how the content of the message is encoded, which newer protocol versions write after the
+   * message id.
+   *
+   * @param buffer the buffer to read from
+   * @return true if the encoding was read, false if not enough bytes are readable yet
+   */
+  protected boolean readContentEncoding(final ByteBuf buffer) {
+    return true;
+  }
+
+  /**
+   * Decodes the content of the message as read from the wire, once the message is complete.
+   *
+   * @param subject the subject of the request, or {@link MessageCompressor#REPLY_SUBJECT}
+   * @param content the content as read from the wire
+   * @return the decoded content
+   */
+  protected byte[] decodeContent(final String subject, final byte[] content) {
+    return content;
+  }
+
   /** V2 decoder state. */
   enum DecoderState {
     READ_TYPE,
     READ_MESSAGE_ID,
+    READ_CONTENT_ENCODING,
     READ_SENDER_HOST_LENGTH,
     READ_SENDER_HOST,
     READ_SENDER_PORT,
@@ -0,0 +1,35 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.atomix.cluster.messaging.impl;
+
+import io.netty.buffer.ByteBuf;
+
+/** Protocol version 3 message decoder, which decompresses the content of messages. */
+class MessageDecoderV3 extends MessageDecoderV2 {
+
+  private final MessageCompressor compressor;
+  private byte codec;
+
+  MessageDecoderV3(final MessageCompressor compressor) {
+    this.compressor = compressor;
+  }
+
+  @Override
+  protected boolean readContentEncoding(final ByteBuf buffer) {
+    if (buffer.readableBytes() < Byte.BYTES) {
+      return false;
+    }
+    codec = buffer.readByte();
+    return true;
+  }
+
+  @Override
+  protected byte[] decodeContent(final String subject, final byte[] content) {
+    return compressor.decompress(subject, codec, content);
+  }
+}
@@ -0,0 +1,41 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.atomix.cluster.messaging.impl;
+
+import io.atomix.utils.net.Address;
+import io.netty.buffer.ByteBuf;
+
+/**
+ * V3 message encoder. Same as V2, except that the message id is followed by a byte identifying the
+ * codec with which the payload was compressed, see {@link MessageCompressor}.
+ */
+class MessageEncoderV3 extends MessageEncoderV2 {
+  private final MessageCompressor compressor;
+
+  MessageEncoderV3(final Address address, final MessageCompressor compressor) {
+    super(address);
+    this.compressor = compressor;
+  }
+
+  @Override
+  protected void encodeMessage(final ProtocolMessage message, final ByteBuf buffer) {
+    buffer.writeByte(message.type().id());
+    writeLong(buffer, message.id());
+
+    final var subject =
+        message instanceof final ProtocolRequest request
+            ? request.subject()
+            : MessageCompressor.REPLY_SUBJECT;
+    final var compressed = compressor.compress(subject, message.payload());
+    buffer.writeByte(compressed.codec());
+
+    final byte[] payload = compressed.payload();
+    writeInt(buffer, payload.length);
+    buffer.writeBytes(payload);
+  }
+}
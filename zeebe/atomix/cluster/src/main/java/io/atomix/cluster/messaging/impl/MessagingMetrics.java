@@ -26,4 +26,9 @@ public interface MessagingMetrics {
   void incInFlightRequests(String address, String topic);
 
   void decInFlightRequests(String address, String topic);
+
+  void observeCompression(
+      String topic, int uncompressedSizeInBytes, int compressedSizeInBytes, long durationNanos);
+
+  void observeDecompression(String topic, long durationNanos);
 }
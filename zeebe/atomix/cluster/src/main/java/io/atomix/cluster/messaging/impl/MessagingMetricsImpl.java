@@ -11,6 +11,7 @@ import io.camunda.zeebe.util.CloseableSilently;
 import io.prometheus.client.Counter;
 import io.prometheus.client.Gauge;
 import io.prometheus.client.Histogram;
+import java.util.concurrent.TimeUnit;
 
 final class MessagingMetricsImpl implements MessagingMetrics {
 
@@ -19,6 +20,9 @@ final class MessagingMetricsImpl implements MessagingMetrics {
   private static final String LABEL_ADDRESS = "address";
   private static final String REQ_TYPE_MESSAGE = "MESSAGE";
   private static final String REQ_TYPE_REQ_RESP = "REQ_RESP";
+  private static final String LABEL_OPERATION = "operation";
+  private static final String OPERATION_COMPRESS = "compress";
+  private static final String OPERATION_DECOMPRESS = "decompress";
 
   private static final Histogram REQUEST_RESPONSE_LATENCY =
       Histogram.build()
@@ -60,6 +64,31 @@ final class MessagingMetricsImpl implements MessagingMetrics {
           .labelNames(LABEL_ADDRESS, LABEL_TOPIC)
           .register();
 
+  private static final Counter COMPRESSION_INPUT_BYTES =
+      Counter.build()
+          .namespace(NAMESPACE)
+          .name("messaging_compression_input_bytes")
+          .help("Size of the payloads which have been compressed, before compression")
+          .labelNames(LABEL_TOPIC)
+          .register();
+
+  private static final Counter COMPRESSION_OUTPUT_BYTES =
+      Counter.build()
+          .namespace(NAMESPACE)
+          .name("messaging_compression_output_bytes")
+          .help("Size of the payloads which have been compressed, after compression")
+          .labelNames(LABEL_TOPIC)
+          .register();
+
+  private static final Histogram COMPRESSION_DURATION =
+      Histogram.build()
+          .namespace(NAMESPACE)
+          .name("messaging_compression_duration_seconds")
+          .help("Time spent compressing or decompressing the payload of a message")
+          .labelNames(LABEL_TOPIC, LABEL_OPERATION)
+          .buckets(.000_01, .000_05, .000_1, .000_5, .001, .005, .01, .05)
+          .register();
+
   @Override
   public CloseableSilently startRequestTimer(final String name) {
     final var timer = REQUEST_RESPONSE_LATENCY.labels(name).startTimer();
@@ -100,4 +129,24 @@ final class MessagingMetricsImpl implements MessagingMetrics {
   public void decInFlightRequests(final String address, String topic) {
     IN_FLIGHT_REQUESTS.labels(address, topic).dec();
   }
+
+  @Override
+  public void observeCompression(
+      final String topic,
+      final int uncompressedSizeInBytes,
+      final int compressedSizeInBytes,
+      final long durationNanos) {
+    COMPRESSION_INPUT_BYTES.labels(topic).inc(uncompressedSizeInBytes);
+    COMPRESSION_OUTPUT_BYTES.labels(topic).inc(compressedSizeInBytes);
+    COMPRESSION_DURATION
+        .labels(topic, OPERATION_COMPRESS)
+        .observe(durationNanos / (double) TimeUnit.SECONDS.toNanos(1));
+  }
+
+  @Override
+  public void observeDecompression(final String topic, final long durationNanos) {
+    COMPRESSION_DURATION
+        .labels(topic, OPERATION_DECOMPRESS)
+        .observe(durationNanos / (double) TimeUnit.SECONDS.toNanos(1));
+  }
 }
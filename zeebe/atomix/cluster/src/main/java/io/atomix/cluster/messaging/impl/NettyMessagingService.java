@@ -139,6 +139,7 @@ public final class NettyMessagingService implements ManagedMessagingService {
   private SslContext clientSslContext;
   private DnsAddressResolverGroup dnsResolverGroup;
   private final MessagingMetrics messagingMetrics = new MessagingMetricsImpl();
+  private final MessageCompressor messageCompressor;
   private final String actorSchedulerName;
 
   // flag for passing heartbeats down the pipeline
@@ -168,6 +169,7 @@ public final class NettyMessagingService implements ManagedMessagingService {
     this.advertisedAddress = advertisedAddress;
     this.protocolVersion = protocolVersion;
     this.config = verifyHeartbeatConfig(config);
+    messageCompressor = MessageCompressor.of(config, messagingMetrics);
     // pool of client connections
     channelPool = new ChannelPool(this::openChannel, config.getConnectionPoolSize());
     this.actorSchedulerName = actorSchedulerName;
@@ -963,6 +965,8 @@ public final class NettyMessagingService implements ManagedMessagingService {
           channel.pipeline().addLast(new SnappyFrameDecoder());
           break;
         case NONE:
+        case ZSTD:
+          // ZSTD compresses individual messages, see MessagingProtocolV3
           break;
         default:
           log.debug("Unknown compression algorithm. Proceeding without compression.");
@@ -999,6 +1003,8 @@ public final class NettyMessagingService implements ManagedMessagingService {
           channel.pipeline().addLast(new SnappyFrameDecoder());
           break;
         case NONE:
+        case ZSTD:
+          // ZSTD compresses individual messages, see MessagingProtocolV3
           break;
         default:
           log.debug("Unknown compression algorithm. Proceeding without compression.");
@@ -1056,7 +1062,8 @@ public final class NettyMessagingService implements ManagedMessagingService {
         final Connection<M> connection,
         final ProtocolVersion protocolVersion,
         final boolean isClient) {
-      final MessagingProtocol protocol = protocolVersion.createProtocol(advertisedAddress);
+      final MessagingProtocol protocol =
+          protocolVersion.createProtocol(advertisedAddress, messageCompressor);
       context.pipeline().remove(this);
       context.pipeline().addLast("encoder", protocol.newEncoder());
       context.pipeline().addLast("decoder", protocol.newDecoder());
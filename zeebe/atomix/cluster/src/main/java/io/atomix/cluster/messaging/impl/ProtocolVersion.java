@@ -23,15 +23,21 @@ import java.util.stream.Stream;
 public enum ProtocolVersion {
   V1(1) {
     @Override
-    public MessagingProtocol createProtocol(final Address address) {
+    MessagingProtocol createProtocol(final Address address, final MessageCompressor compressor) {
       return new MessagingProtocolV1(address);
     }
   },
   V2(2) {
     @Override
-    public MessagingProtocol createProtocol(final Address address) {
+    MessagingProtocol createProtocol(final Address address, final MessageCompressor compressor) {
       return new MessagingProtocolV2(address);
     }
+  },
+  V3(3) {
+    @Override
+    MessagingProtocol createProtocol(final Address address, final MessageCompressor compressor) {
+      return new MessagingProtocolV3(address, compressor);
+    }
   };
 
   private final short version;
@@ -72,7 +78,8 @@ public enum ProtocolVersion {
    * Creates a new protocol instance.
    *
    * @param address the protocol address
+   * @param compressor compresses the payload of messages, if the protocol supports it
    * @return a new protocol instance
    */
-  public abstract MessagingProtocol createProtocol(Address address);
+  abstract MessagingProtocol createProtocol(Address address, MessageCompressor compressor);
 }
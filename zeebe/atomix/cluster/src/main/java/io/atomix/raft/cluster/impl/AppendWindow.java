@@ -0,0 +1,159 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.atomix.raft.cluster.impl;
+
+/**
+ * Limits the number of in-flight append requests to a member, and the size of the batch of entries
+ * in each request.
+ *
+ * <p>When adaptive, both limits behave like a congestion window: starting from the configured
+ * values, they grow additively while the member acknowledges appends without the round-trip time
+ * increasing significantly over the lowest one observed, and are halved when it does or when an
+ * append fails. They are bounded by {@link #ADAPTIVE_LIMIT_FACTOR} times below and above the
+ * configured values. When not adaptive, the configured values are used as is.
+ */
+final class AppendWindow {
+
+  static final int ADAPTIVE_LIMIT_FACTOR = 4;
+
+  // weight of a new sample in the smoothed round-trip time, same as for TCP's SRTT
+  private static final double RTT_SMOOTHING_FACTOR = 0.125;
+  // a round-trip time above the base one by this factor is considered congestion
+  private static final double CONGESTION_RTT_FACTOR = 2.0;
+  // tolerance on top of the base round-trip time, which is often 0 or 1 ms on a local network
+  private static final long CONGESTION_RTT_TOLERANCE_MS = 5;
+  // the base round-trip time is probed again after this many samples, such that a permanently
+  // slower link does not look congested forever
+  private static final int BASE_RTT_PROBE_INTERVAL = 1_000;
+
+  private final boolean adaptive;
+  private final int initialInFlight;
+  private final int initialBatchSize;
+  private final int minInFlight;
+  private final int maxInFlight;
+  private final int minBatchSize;
+  private final int maxBatchSize;
+  private final int batchSizeIncrement;
+
+  private double inFlightLimit;
+  private double batchSizeLimit;
+  private double smoothedRtt;
+  private long baseRtt = Long.MAX_VALUE;
+  private int samplesSinceBaseRttProbe;
+  private long lastDecreaseTime = -1;
+
+  AppendWindow(final boolean adaptive, final int inFlightLimit, final int batchSizeLimit) {
+    this.adaptive = adaptive;
+    initialInFlight = inFlightLimit;
+    initialBatchSize = batchSizeLimit;
+    this.inFlightLimit = inFlightLimit;
+    this.batchSizeLimit = batchSizeLimit;
+    if (adaptive) {
+      minInFlight = Math.max(1, inFlightLimit / ADAPTIVE_LIMIT_FACTOR);
+      maxInFlight = inFlightLimit * ADAPTIVE_LIMIT_FACTOR;
+      minBatchSize = Math.max(1, batchSizeLimit / ADAPTIVE_LIMIT_FACTOR);
+      maxBatchSize = batchSizeLimit * ADAPTIVE_LIMIT_FACTOR;
+    } else {
+      minInFlight = inFlightLimit;
+      maxInFlight = inFlightLimit;
+      minBatchSize = batchSizeLimit;
+      maxBatchSize = batchSizeLimit;
+    }
+    batchSizeIncrement = minBatchSize;
+  }
+
+  /**
+   * @return the maximum number of append requests which may be in flight
+   */
+  int getInFlightLimit() {
+    return (int) inFlightLimit;
+  }
+
+  /**
+   * @return the maximum size in bytes of the entries of an append request
+   */
+  int getBatchSizeLimit() {
+    return (int) batchSizeLimit;
+  }
+
+  /**
+   * @return the smoothed round-trip time of the acknowledged appends in milliseconds
+   */
+  long getRoundTripTime() {
+    return Math.round(smoothedRtt);
+  }
+
+  /**
+   * Records an acknowledged append request, and adapts the limits to its round-trip time.
+   *
+   * @param rtt the round-trip time of the request in milliseconds
+   * @param now the current time in milliseconds
+   */
+  void onAcknowledged(final long rtt, final long now) {
+    smoothedRtt =
+        smoothedRtt == 0 ? rtt : smoothedRtt + RTT_SMOOTHING_FACTOR * (rtt - smoothedRtt);
+    updateBaseRtt(rtt);
+
+    if (!adaptive) {
+      return;
+    }
+
+    final var congestionThreshold =
+        Math.max(baseRtt * CONGESTION_RTT_FACTOR, baseRtt + CONGESTION_RTT_TOLERANCE_MS);
+    if (rtt > congestionThreshold) {
+      decrease(now);
+    } else {
+      // grow by one request and one increment per window of acknowledged requests
+      inFlightLimit = Math.min(maxInFlight, inFlightLimit + 1 / inFlightLimit);
+      batchSizeLimit =
+          Math.min(maxBatchSize, batchSizeLimit + batchSizeIncrement / inFlightLimit);
+    }
+  }
+
+  /**
+   * Records a failed append request, e.g. because it timed out, and shrinks the limits.
+   *
+   * @param now the current time in milliseconds
+   */
+  void onFailed(final long now) {
+    if (adaptive) {
+      decrease(now);
+    }
+  }
+
+  /** Resets the limits to the configured values, e.g. when the member is reset. */
+  void reset() {
+    inFlightLimit = initialInFlight;
+    batchSizeLimit = initialBatchSize;
+    smoothedRtt = 0;
+    baseRtt = Long.MAX_VALUE;
+    samplesSinceBaseRttProbe = 0;
+    lastDecreaseTime = -1;
+  }
+
+  private void updateBaseRtt(final long rtt) {
+    if (++samplesSinceBaseRttProbe >= BASE_RTT_PROBE_INTERVAL) {
+      samplesSinceBaseRttProbe = 0;
+      baseRtt = rtt;
+    } else {
+      baseRtt = Math.min(baseRtt, rtt);
+    }
+  }
+
+  private void decrease(final long now) {
+    // the requests which were in flight when congestion was detected will likely see it too, so
+    // only decrease once per round trip
+    if (lastDecreaseTime >= 0 && now - lastDecreaseTime < smoothedRtt) {
+      return;
+    }
+
+    lastDecreaseTime = now;
+    inFlightLimit = Math.max(minInFlight, inFlightLimit / 2);
+    batchSizeLimit = Math.max(minBatchSize, batchSizeLimit / 2);
+  }
+}
@@ -25,6 +25,7 @@ import io.atomix.raft.storage.log.RaftLog;
 import io.atomix.raft.storage.log.RaftLogReader;
 import io.camunda.zeebe.snapshots.SnapshotChunkReader;
 import java.nio.ByteBuffer;
+import java.util.Map;
 import org.apache.commons.math3.stat.descriptive.DescriptiveStatistics;
 import org.slf4j.LoggerFactory;
 
@@ -34,7 +35,7 @@ public final class RaftMemberContext {
   private static final int APPEND_WINDOW_SIZE = 8;
   private final DefaultRaftMember member;
   private final DescriptiveStatistics timeStats = new DescriptiveStatistics(APPEND_WINDOW_SIZE);
-  private final int maxAppendsPerMember;
+  private final AppendWindow appendWindow;
   private boolean open = true;
   private long term;
   private long configIndex;
@@ -53,14 +54,17 @@ public final class RaftMemberContext {
   private long failureTime;
   private volatile RaftLogReader reader;
   private SnapshotChunkReader snapshotChunkReader;
+  private Map<String, Long> reusedSnapshotFiles = Map.of();
   private IndexedRaftLogEntry currentEntry;
 
   RaftMemberContext(
       final DefaultRaftMember member,
       final RaftClusterContext cluster,
-      final int maxAppendsPerMember) {
+      final int maxAppendsPerMember,
+      final int maxAppendBatchSize,
+      final boolean adaptiveReplication) {
     this.member = checkNotNull(member, "member cannot be null").setCluster(cluster);
-    this.maxAppendsPerMember = maxAppendsPerMember;
+    appendWindow = new AppendWindow(adaptiveReplication, maxAppendsPerMember, maxAppendBatchSize);
   }
 
   /** Resets the member state. */
@@ -73,6 +77,7 @@ public final class RaftMemberContext {
     responseTime = 0;
     inFlightAppendCount = 0;
     timeStats.clear();
+    appendWindow.reset();
     configuring = false;
     installing = false;
     appendSucceeded = false;
@@ -149,11 +154,12 @@ public final class RaftMemberContext {
    * @return Indicates whether an append request can be sent to the member.
    */
   public boolean canAppend() {
+    final int maxAppends = appendWindow.getInFlightLimit();
     return open
         && (inFlightAppendCount == 0
             || (appendSucceeded
-                && inFlightAppendCount < maxAppendsPerMember
-                && System.currentTimeMillis() - (timeStats.getMean() / maxAppendsPerMember)
+                && inFlightAppendCount < maxAppends
+                && System.currentTimeMillis() - (timeStats.getMean() / maxAppends)
                     >= appendTime));
   }
 
@@ -204,6 +210,41 @@ public final class RaftMemberContext {
   public void completeAppend(final long time) {
     inFlightAppendCount--;
     timeStats.addValue(time);
+    appendWindow.onAcknowledged(time, System.currentTimeMillis());
+  }
+
+  /** Completes an append request to the member which failed, e.g. because it timed out. */
+  public void failAppend() {
+    inFlightAppendCount--;
+    appendWindow.onFailed(System.currentTimeMillis());
+  }
+
+  /**
+   * Returns the maximum number of append requests which may currently be in flight to the member.
+   *
+   * @return The member's current append window.
+   */
+  public int getAppendWindowSize() {
+    return appendWindow.getInFlightLimit();
+  }
+
+  /**
+   * Returns the maximum size in bytes of the entries which may currently be sent to the member in
+   * a single append request.
+   *
+   * @return The member's current append batch size.
+   */
+  public int getAppendBatchSize() {
+    return appendWindow.getBatchSizeLimit();
+  }
+
+  /**
+   * Returns the smoothed round-trip time of the append requests to the member.
+   *
+   * @return The member's append round-trip time in milliseconds.
+   */
+  public long getAppendRoundTripTime() {
+    return appendWindow.getRoundTripTime();
   }
 
   /**
@@ -274,6 +315,7 @@ public final class RaftMemberContext {
         .add("matchIndex", matchIndex)
         .add("heartbeatTime", heartbeatTime)
         .add("appending", inFlightAppendCount)
+        .add("appendWindow", appendWindow.getInFlightLimit())
         .add("appendSucceeded", appendSucceeded)
         .add("appendTime", appendTime)
         .add("configuring", configuring)
@@ -460,6 +502,27 @@ public final class RaftMemberContext {
 
   public void setSnapshotChunkReader(final SnapshotChunkReader snapshotChunkReader) {
     this.snapshotChunkReader = snapshotChunkReader;
+    reusedSnapshotFiles = Map.of();
+  }
+
+  /**
+   * Returns the files of the snapshot being sent which the member already has, and which are
+   * therefore not sent.
+   *
+   * @return the checksums of the reused files by name
+   */
+  public Map<String, Long> getReusedSnapshotFiles() {
+    return reusedSnapshotFiles;
+  }
+
+  /**
+   * Sets the files of the snapshot being sent which the member already has. Reset whenever a new
+   * snapshot chunk reader is set.
+   *
+   * @param reusedSnapshotFiles the checksums of the reused files by name
+   */
+  public void setReusedSnapshotFiles(final Map<String, Long> reusedSnapshotFiles) {
+    this.reusedSnapshotFiles = reusedSnapshotFiles;
   }
 
   public boolean hasNextEntry() {
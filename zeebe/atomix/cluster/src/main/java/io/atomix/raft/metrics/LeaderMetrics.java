@@ -54,6 +54,30 @@ public class LeaderMetrics extends RaftMetrics {
           .help("The number of non-replicated entries for a given followers")
           .labelNames(FOLLOWER_LABEL, PARTITION_GROUP_NAME_LABEL, PARTITION_LABEL)
           .register();
+  private static final Gauge APPEND_WINDOW_SIZE =
+      Gauge.build()
+          .namespace(NAMESPACE)
+          .name("append_window_size")
+          .help("The maximum number of in-flight append requests to a given follower")
+          .labelNames(FOLLOWER_LABEL, PARTITION_GROUP_NAME_LABEL, PARTITION_LABEL)
+          .register();
+
+  private static final Gauge APPEND_BATCH_SIZE =
+      Gauge.build()
+          .namespace(NAMESPACE)
+          .name("append_batch_size_bytes")
+          .help("The maximum size in bytes of the entries of an append request to a given follower")
+          .labelNames(FOLLOWER_LABEL, PARTITION_GROUP_NAME_LABEL, PARTITION_LABEL)
+          .register();
+
+  private static final Gauge APPEND_ROUND_TRIP_TIME =
+      Gauge.build()
+          .namespace(NAMESPACE)
+          .name("append_round_trip_time_seconds")
+          .help("The smoothed round-trip time of append requests to a given follower in seconds")
+          .labelNames(FOLLOWER_LABEL, PARTITION_GROUP_NAME_LABEL, PARTITION_LABEL)
+          .register();
+
   private static final Counter COMMIT_RATE =
       Counter.build()
           .namespace(NAMESPACE)
@@ -88,6 +112,13 @@ public class LeaderMetrics extends RaftMetrics {
     APPEND_DATA_RATE.labels(memberId, partitionGroupName, partition).inc(appendedBytes / 1024f);
   }
 
+  public void observeAppendWindow(
+      final String memberId, final int windowSize, final int batchSize, final long roundTripMs) {
+    APPEND_WINDOW_SIZE.labels(memberId, partitionGroupName, partition).set(windowSize);
+    APPEND_BATCH_SIZE.labels(memberId, partitionGroupName, partition).set(batchSize);
+    APPEND_ROUND_TRIP_TIME.labels(memberId, partitionGroupName, partition).set(roundTripMs / 1000f);
+  }
+
   public void observeCommit() {
     commitRate.inc();
   }
@@ -35,6 +35,7 @@ public class RaftPartitionConfig {
   private Duration heartbeatInterval = DEFAULT_HEARTBEAT_INTERVAL;
   private int maxAppendsPerFollower = 2;
   private int maxAppendBatchSize = 32 * 1024;
+  private boolean adaptiveReplicationEnabled;
   private boolean priorityElectionEnabled = DEFAULT_PRIORITY_ELECTION;
   private Duration requestTimeout = DEFAULT_REQUEST_TIMEOUT;
   private Duration snapshotRequestTimeout = DEFAULT_SNAPSHOT_REQUEST_TIMEOUT;
@@ -102,6 +103,22 @@ public class RaftPartitionConfig {
     this.maxAppendBatchSize = maxAppendBatchSize;
   }
 
+  public boolean isAdaptiveReplicationEnabled() {
+    return adaptiveReplicationEnabled;
+  }
+
+  /**
+   * If enabled, the number of in-flight append requests and their batch size are adapted per
+   * follower to the round-trip time of the appends, starting from {@link
+   * #getMaxAppendsPerFollower()} and {@link #getMaxAppendBatchSize()}, instead of being fixed to
+   * these values.
+   *
+   * @param adaptiveReplicationEnabled whether to adapt the append limits per follower
+   */
+  public void setAdaptiveReplicationEnabled(final boolean adaptiveReplicationEnabled) {
+    this.adaptiveReplicationEnabled = adaptiveReplicationEnabled;
+  }
+
   public boolean isPriorityElectionEnabled() {
     return priorityElectionEnabled;
   }
@@ -220,6 +237,8 @@ public class RaftPartitionConfig {
         + maxAppendsPerFollower
         + ", maxAppendBatchSize="
         + maxAppendBatchSize
+        + ", adaptiveReplicationEnabled="
+        + adaptiveReplicationEnabled
         + ", priorityElectionEnabled="
         + priorityElectionEnabled
         + ", requestTimeout="
@@ -19,6 +19,7 @@ package io.atomix.raft.partition;
 import io.atomix.raft.storage.log.RaftLog;
 import io.atomix.raft.storage.log.RaftLogFlusher;
 import io.atomix.utils.concurrent.ThreadContext;
+import java.time.Duration;
 
 /** Raft storage configuration. */
 public class RaftStorageConfig {
@@ -30,12 +31,22 @@ public class RaftStorageConfig {
   private static final int DEFAULT_JOURNAL_INDEX_DENSITY = 100;
 
   private static final boolean DEFAULT_PREALLOCATE_SEGMENT_FILES = true;
+  private static final int DEFAULT_PREPARED_SEGMENTS = 1;
+  private static final boolean DEFAULT_RECYCLE_SEGMENT_FILES = false;
+  private static final boolean DEFAULT_ZERO_COPY_READS = false;
+  private static final boolean DEFAULT_PRIMITIVE_JOURNAL_INDEX = false;
 
   private long segmentSize = DEFAULT_MAX_SEGMENT_SIZE;
   private RaftLogFlusher.Factory flusherFactory = DEFAULT_FLUSHER_FACTORY;
   private long freeDiskSpace = DEFAULT_FREE_DISK_SPACE;
   private int journalIndexDensity = DEFAULT_JOURNAL_INDEX_DENSITY;
   private boolean preallocateSegmentFiles = DEFAULT_PREALLOCATE_SEGMENT_FILES;
+  private Duration maxFlushDelay = Duration.ZERO;
+  private long maxFlushBytes;
+  private int preparedSegments = DEFAULT_PREPARED_SEGMENTS;
+  private boolean recycleSegmentFiles = DEFAULT_RECYCLE_SEGMENT_FILES;
+  private boolean zeroCopyReads = DEFAULT_ZERO_COPY_READS;
+  private boolean primitiveJournalIndex = DEFAULT_PRIMITIVE_JOURNAL_INDEX;
 
   /**
    * Returns the Raft log segment size.
@@ -125,6 +136,108 @@ public class RaftStorageConfig {
     this.preallocateSegmentFiles = preallocateSegmentFiles;
   }
 
+  /**
+   * @return the maximum time an appended record may wait to be flushed in group commit mode
+   */
+  public Duration getMaxFlushDelay() {
+    return maxFlushDelay;
+  }
+
+  /**
+   * Sets the maximum time an appended record may wait to be flushed in group commit mode. Zero
+   * disables group commit, unless the max flush bytes are set.
+   *
+   * @param maxFlushDelay the maximum delay for an appended record to be flushed
+   */
+  public void setMaxFlushDelay(final Duration maxFlushDelay) {
+    this.maxFlushDelay = maxFlushDelay;
+  }
+
+  /**
+   * @return the amount of appended bytes after which a flush is due in group commit mode
+   */
+  public long getMaxFlushBytes() {
+    return maxFlushBytes;
+  }
+
+  /**
+   * Sets the amount of appended bytes after which a flush is due in group commit mode. Zero
+   * disables group commit, unless the max flush delay is set.
+   *
+   * @param maxFlushBytes the amount of appended bytes which triggers a flush
+   */
+  public void setMaxFlushBytes(final long maxFlushBytes) {
+    this.maxFlushBytes = maxFlushBytes;
+  }
+
+  /**
+   * @return the number of segments which are prepared ahead of time
+   */
+  public int getPreparedSegments() {
+    return preparedSegments;
+  }
+
+  /**
+   * Sets how many segments are prepared ahead of time in the background, such that rolling over
+   * to a new segment does not have to wait for a new file.
+   *
+   * @param preparedSegments the number of segments to prepare ahead of time
+   */
+  public void setPreparedSegments(final int preparedSegments) {
+    this.preparedSegments = preparedSegments;
+  }
+
+  /**
+   * @return true if the files of deleted segments are recycled, false otherwise
+   */
+  public boolean isRecycleSegmentFiles() {
+    return recycleSegmentFiles;
+  }
+
+  /**
+   * Sets whether the files of deleted segments (e.g. after compaction) are recycled as new
+   * segments instead of being deleted.
+   *
+   * @param recycleSegmentFiles true to recycle segment files, false to delete them
+   */
+  public void setRecycleSegmentFiles(final boolean recycleSegmentFiles) {
+    this.recycleSegmentFiles = recycleSegmentFiles;
+  }
+
+  /**
+   * @return true if the log is read without copying its records, false otherwise
+   */
+  public boolean isZeroCopyReads() {
+    return zeroCopyReads;
+  }
+
+  /**
+   * Sets whether log readers return records as reusable views over the segment files, instead of
+   * allocating a new record on every read.
+   *
+   * @param zeroCopyReads true to read records without allocating, false otherwise
+   */
+  public void setZeroCopyReads(final boolean zeroCopyReads) {
+    this.zeroCopyReads = zeroCopyReads;
+  }
+
+  /**
+   * @return true if the journal index is backed by primitive arrays, false otherwise
+   */
+  public boolean isPrimitiveJournalIndex() {
+    return primitiveJournalIndex;
+  }
+
+  /**
+   * Sets whether the journal index stores its entries in sorted primitive arrays instead of skip
+   * lists, which reduces its heap footprint.
+   *
+   * @param primitiveJournalIndex true to use the array based index, false otherwise
+   */
+  public void setPrimitiveJournalIndex(final boolean primitiveJournalIndex) {
+    this.primitiveJournalIndex = primitiveJournalIndex;
+  }
+
   @Override
   public String toString() {
     return "RaftStorageConfig{"
@@ -138,6 +251,18 @@ public class RaftStorageConfig {
         + journalIndexDensity
         + ", preallocateSegmentFiles="
         + preallocateSegmentFiles
+        + ", maxFlushDelay="
+        + maxFlushDelay
+        + ", maxFlushBytes="
+        + maxFlushBytes
+        + ", preparedSegments="
+        + preparedSegments
+        + ", recycleSegmentFiles="
+        + recycleSegmentFiles
+        + ", zeroCopyReads="
+        + zeroCopyReads
+        + ", primitiveJournalIndex="
+        + primitiveJournalIndex
         + '}';
   }
 }
@@ -310,6 +310,12 @@ public class RaftPartitionServer implements HealthMonitorable {
         .withSnapshotStore(persistedSnapshotStore)
         .withJournalIndexDensity(storageConfig.getJournalIndexDensity())
         .withPreallocateSegmentFiles(storageConfig.isPreallocateSegmentFiles())
+        .withMaxFlushDelay(storageConfig.getMaxFlushDelay())
+        .withMaxFlushBytes(storageConfig.getMaxFlushBytes())
+        .withPreparedSegments(storageConfig.getPreparedSegments())
+        .withRecycleSegmentFiles(storageConfig.isRecycleSegmentFiles())
+        .withZeroCopyReads(storageConfig.isZeroCopyReads())
+        .withPrimitiveJournalIndex(storageConfig.isPrimitiveJournalIndex())
         .build();
   }
 
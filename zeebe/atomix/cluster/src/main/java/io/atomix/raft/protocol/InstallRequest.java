@@ -24,6 +24,8 @@ import io.atomix.cluster.MemberId;
 import io.atomix.utils.misc.StringUtils;
 import io.camunda.zeebe.snapshots.impl.SnapshotChunkId;
 import java.nio.ByteBuffer;
+import java.util.HashMap;
+import java.util.Map;
 import java.util.Objects;
 
 /**
@@ -34,7 +36,9 @@ import java.util.Objects;
  * are sent in chunks, with each chunk being sent in a separate install request. As requests are
  * received by the follower, the snapshot is reconstructed based on the provided {@link #chunkId()}
  * and other metadata. The last install request will be sent with {@link #complete()} being {@code
- * true} to indicate that all chunks of the snapshot have been sent.
+ * true} to indicate that all chunks of the snapshot have been sent. Files which the follower
+ * already has in its current snapshot are not sent; instead, they are listed in {@link
+ * #reusedFiles()}, such that the follower can take them over from its current snapshot.
  */
 public class InstallRequest extends AbstractRaftRequest {
 
@@ -58,6 +62,8 @@ public class InstallRequest extends AbstractRaftRequest {
   private final boolean initial;
   // true if this is the last chunk
   private final boolean complete;
+  // the files which are not sent, with their checksums, because the follower already has them
+  private final HashMap<String, Long> reusedFiles;
 
   public InstallRequest(
       final long currentTerm,
@@ -70,6 +76,32 @@ public class InstallRequest extends AbstractRaftRequest {
       final ByteBuffer data,
       final boolean initial,
       final boolean complete) {
+    this(
+        currentTerm,
+        leader,
+        index,
+        term,
+        version,
+        chunkId,
+        nextChunkId,
+        data,
+        initial,
+        complete,
+        null);
+  }
+
+  public InstallRequest(
+      final long currentTerm,
+      final MemberId leader,
+      final long index,
+      final long term,
+      final int version,
+      final ByteBuffer chunkId,
+      final ByteBuffer nextChunkId,
+      final ByteBuffer data,
+      final boolean initial,
+      final boolean complete,
+      final HashMap<String, Long> reusedFiles) {
     this.currentTerm = currentTerm;
     this.leader = leader;
     this.index = index;
@@ -80,6 +112,7 @@ public class InstallRequest extends AbstractRaftRequest {
     this.initial = initial;
     this.complete = complete;
     this.term = term;
+    this.reusedFiles = reusedFiles;
   }
 
   /**
@@ -170,10 +203,30 @@ public class InstallRequest extends AbstractRaftRequest {
     return complete;
   }
 
+  /**
+   * Returns the files of the snapshot which are not sent, because the follower already has them in
+   * its current snapshot, with the checksums the leader expects them to have.
+   *
+   * @return the reused files by name; empty if all files are sent
+   */
+  public Map<String, Long> reusedFiles() {
+    return reusedFiles == null ? Map.of() : reusedFiles;
+  }
+
   @Override
   public int hashCode() {
     return Objects.hash(
-        currentTerm, leader, index, term, version, chunkId, nextChunkId, data, initial, complete);
+        currentTerm,
+        leader,
+        index,
+        term,
+        version,
+        chunkId,
+        nextChunkId,
+        data,
+        initial,
+        complete,
+        reusedFiles());
   }
 
   @Override
@@ -194,7 +247,8 @@ public class InstallRequest extends AbstractRaftRequest {
         && Objects.equals(leader, that.leader)
         && Objects.equals(chunkId, that.chunkId)
         && Objects.equals(nextChunkId, that.nextChunkId)
-        && Objects.equals(data, that.data);
+        && Objects.equals(data, that.data)
+        && Objects.equals(reusedFiles(), that.reusedFiles());
   }
 
   @Override
@@ -212,6 +266,7 @@ public class InstallRequest extends AbstractRaftRequest {
         .add("data", StringUtils.printShortBuffer(data))
         .add("initial", initial)
         .add("complete", complete)
+        .add("reusedFiles", reusedFiles().size())
         .toString();
   }
 
@@ -233,6 +288,7 @@ public class InstallRequest extends AbstractRaftRequest {
     private boolean complete;
     private boolean initial;
     private long term;
+    private HashMap<String, Long> reusedFiles;
 
     /**
      * Sets the request current term.
@@ -346,6 +402,17 @@ public class InstallRequest extends AbstractRaftRequest {
       return this;
     }
 
+    /**
+     * Sets the files which are not sent, because the follower already has them.
+     *
+     * @param reusedFiles the checksums of the reused files by name
+     * @return the request builder
+     */
+    public Builder withReusedFiles(final Map<String, Long> reusedFiles) {
+      this.reusedFiles = reusedFiles.isEmpty() ? null : new HashMap<>(reusedFiles);
+      return this;
+    }
+
     /**
      * @throws IllegalStateException if member is null
      */
@@ -353,7 +420,17 @@ public class InstallRequest extends AbstractRaftRequest {
     public InstallRequest build() {
       validate();
       return new InstallRequest(
-          currentTerm, leader, index, term, version, chunkId, nextChunkId, data, initial, complete);
+          currentTerm,
+          leader,
+          index,
+          term,
+          version,
+          chunkId,
+          nextChunkId,
+          data,
+          initial,
+          complete,
+          reusedFiles);
     }
 
     @Override
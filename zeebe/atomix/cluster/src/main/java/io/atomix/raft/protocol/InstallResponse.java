@@ -20,33 +20,58 @@ import static com.google.common.base.MoreObjects.toStringHelper;
 import static com.google.common.base.Preconditions.checkArgument;
 
 import io.atomix.raft.RaftError;
+import java.util.HashMap;
+import java.util.Map;
 
 /**
  * Snapshot installation response.
  *
  * <p>Install responses are sent once a snapshot installation request has been received and
- * processed. Install responses provide no additional metadata aside from indicating whether or not
- * the request was successful.
+ * processed. Aside from indicating whether or not the request was successful, the response to the
+ * initial request may contain the checksums of the files of the receiver's current snapshot, such
+ * that the leader can skip sending the files which the receiver already has.
  */
 public class InstallResponse extends AbstractRaftResponse {
 
   protected int preferredChunkSize;
+  // checksums of the files of the receiver's current snapshot, by file name; may be null
+  protected HashMap<String, Long> snapshotChecksums;
 
   public InstallResponse(final Status status, final RaftError error, final int preferredChunkSize) {
+    this(status, error, preferredChunkSize, null);
+  }
+
+  public InstallResponse(
+      final Status status,
+      final RaftError error,
+      final int preferredChunkSize,
+      final HashMap<String, Long> snapshotChecksums) {
     super(status, error);
     this.preferredChunkSize = preferredChunkSize;
+    this.snapshotChecksums = snapshotChecksums;
   }
 
   public int preferredChunkSize() {
     return preferredChunkSize;
   }
 
+  /**
+   * Returns the checksums of the files of the receiver's current snapshot. Only set in response to
+   * the initial request of a snapshot, and only if the receiver has a snapshot.
+   *
+   * @return the checksums by file name; empty if none were given
+   */
+  public Map<String, Long> snapshotChecksums() {
+    return snapshotChecksums == null ? Map.of() : snapshotChecksums;
+  }
+
   @Override
   public String toString() {
     return toStringHelper(this)
         .add("status", status)
         .add("error", error)
         .add("preferredChunkSize", preferredChunkSize)
+        .add("snapshotChecksums", snapshotChecksums().size())
         .toString();
   }
 
@@ -62,17 +87,30 @@ public class InstallResponse extends AbstractRaftResponse {
   /** Install response builder. */
   public static class Builder extends AbstractRaftResponse.Builder<Builder, InstallResponse> {
     protected int preferredChunkSize;
+    protected HashMap<String, Long> snapshotChecksums;
 
     @Override
     public InstallResponse build() {
       validate();
       checkArgument(preferredChunkSize >= 0, "preferred chunk size must be positive");
-      return new InstallResponse(status, error, preferredChunkSize);
+      return new InstallResponse(status, error, preferredChunkSize, snapshotChecksums);
     }
 
     public Builder withPreferredChunkSize(final int preferredChunkSize) {
       this.preferredChunkSize = preferredChunkSize;
       return this;
     }
+
+    /**
+     * Sets the checksums of the files of the receiver's current snapshot.
+     *
+     * @param snapshotChecksums the checksums by file name
+     * @return the response builder
+     */
+    public Builder withSnapshotChecksums(final Map<String, Long> snapshotChecksums) {
+      this.snapshotChecksums =
+          snapshotChecksums.isEmpty() ? null : new HashMap<>(snapshotChecksums);
+      return this;
+    }
   }
 }
@@ -48,10 +48,14 @@ import java.io.UncheckedIOException;
 import java.nio.ByteBuffer;
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
 import java.util.NavigableMap;
 import java.util.Optional;
+import java.util.Set;
 import java.util.TreeMap;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.TimeoutException;
@@ -65,7 +69,6 @@ final class LeaderAppender {
 
   private static final int MIN_BACKOFF_FAILURE_COUNT = 5;
 
-  private final int maxBatchSizePerAppend;
   private final Logger log;
   private final RaftContext raft;
   private boolean open = true;
@@ -86,7 +89,6 @@ final class LeaderAppender {
         ContextualLoggerFactory.getLogger(
             getClass(), LoggerContext.builder(RaftServer.class).addValue(raft.getName()).build());
     metrics = new LeaderMetrics(raft.getName());
-    maxBatchSizePerAppend = raft.getMaxAppendBatchSize();
     leaderTime = System.currentTimeMillis();
     leaderIndex =
         raft.getLog().isEmpty() ? raft.getLog().getFirstIndex() : raft.getLog().getLastIndex() + 1;
@@ -180,6 +182,7 @@ final class LeaderAppender {
     // If there exists an entry in the log with size >= MAX_BATCH_SIZE the logic ensures that
     // entry will be sent in a batch of size one
     int size = 0;
+    final int maxBatchSize = member.getAppendBatchSize();
 
     // Iterate through the log until the last index or the end of the log is reached.
     while (hasMoreEntries(member)) {
@@ -188,7 +191,7 @@ final class LeaderAppender {
       final var replicatableRecord = entry.getReplicatableJournalRecord();
       entries.add(replicatableRecord);
       size += replicatableRecord.approximateSize();
-      if (entry.index() == lastIndex || size >= maxBatchSizePerAppend) {
+      if (entry.index() == lastIndex || size >= maxBatchSize) {
         break;
       }
     }
@@ -219,11 +222,20 @@ final class LeaderAppender {
                 // Complete the append to the member.
                 final long appendLatency = System.currentTimeMillis() - timestamp;
                 metrics.appendComplete(appendLatency, member.getMember().memberId().id());
-                if (!request.entries().isEmpty()) {
-                  member.completeAppend(appendLatency);
-                } else {
+                // Heartbeats carry no entries, so their outcome says nothing about how many
+                // entries the follower can take, and must not resize its append window.
+                if (request.entries().isEmpty()) {
                   member.completeAppend();
+                } else if (error != null) {
+                  member.failAppend();
+                } else {
+                  member.completeAppend(appendLatency);
                 }
+                metrics.observeAppendWindow(
+                    member.getMember().memberId().id(),
+                    member.getAppendWindowSize(),
+                    member.getAppendBatchSize(),
+                    member.getAppendRoundTripTime());
 
                 if (error == null) {
                   log.trace("Received {} from {}", response, member.getMember().memberId());
@@ -433,6 +445,7 @@ final class LeaderAppender {
               .withInitial(member.getNextSnapshotChunk() == null)
               .withComplete(!reader.hasNext())
               .withNextChunkId(reader.nextId())
+              .withReusedFiles(member.getReusedSnapshotFiles())
               .build();
       return Optional.of(request);
     } catch (final UncheckedIOException e) {
@@ -516,6 +529,9 @@ final class LeaderAppender {
     }
     // If more install requests remain, increment the member's snapshot offset.
     else {
+      if (request.isInitial() && !response.snapshotChecksums().isEmpty()) {
+        excludeFilesKnownByMember(member, request, response.snapshotChecksums());
+      }
       member.setNextSnapshotChunkId(request.nextChunkId());
     }
 
@@ -523,6 +539,45 @@ final class LeaderAppender {
     appendEntries(member);
   }
 
+  /**
+   * Excludes the files of the snapshot being sent which the member already has in its current
+   * snapshot, i.e. which have the same name and checksum. Since RocksDB SST files are immutable,
+   * consecutive snapshots usually share most of their files, so only the changed files are sent.
+   * The member takes over the excluded files from its current snapshot.
+   */
+  private void excludeFilesKnownByMember(
+      final RaftMemberContext member,
+      final InstallRequest request,
+      final Map<String, Long> memberChecksums) {
+    final var persistedSnapshot = raft.getCurrentSnapshot();
+    if (persistedSnapshot == null || persistedSnapshot.getIndex() != request.index()) {
+      // the snapshot changed in the meantime, the install will be restarted anyway
+      return;
+    }
+
+    final var checksums = persistedSnapshot.getChecksums().getChecksums();
+    final Set<String> knownFiles = new HashSet<>();
+    memberChecksums.forEach(
+        (fileName, checksum) -> {
+          if (checksum.equals(checksums.get(fileName))) {
+            knownFiles.add(fileName);
+          }
+        });
+
+    final Map<String, Long> reusedFiles = new HashMap<>(member.getReusedSnapshotFiles());
+    for (final var fileName : member.getSnapshotChunkReader().exclude(knownFiles)) {
+      reusedFiles.put(fileName, checksums.get(fileName));
+    }
+    member.setReusedSnapshotFiles(reusedFiles);
+
+    log.debug(
+        "Sending {} of {} files of snapshot {} to {}, reusing the others it already has",
+        checksums.size() - reusedFiles.size(),
+        checksums.size(),
+        persistedSnapshot.getId(),
+        member.getMember().memberId());
+  }
+
   /** Handles an ERROR install response. */
   @SuppressWarnings("unused")
   private void handleInstallResponseError(
@@ -209,6 +209,9 @@ public class PassiveRole extends InactiveRole {
     }
 
     try {
+      if (!request.reusedFiles().isEmpty()) {
+        pendingSnapshot.reuse(request.reusedFiles()).join();
+      }
       pendingSnapshot.apply(snapshotChunk).join();
     } catch (final Exception e) {
       log.warn(
@@ -263,6 +266,17 @@ public class PassiveRole extends InactiveRole {
     } else {
       setNextExpected(request.nextChunkId());
       previouslyReceivedSnapshotChunkId = request.chunkId();
+
+      // let the leader know which files we already have, such that it does not send them again
+      if (request.isInitial() && raft.getCurrentSnapshot() != null) {
+        return CompletableFuture.completedFuture(
+            logResponse(
+                InstallResponse.builder()
+                    .withStatus(RaftResponse.Status.OK)
+                    .withPreferredChunkSize(snapshotChunkSize)
+                    .withSnapshotChecksums(raft.getCurrentSnapshot().getChecksums().getChecksums())
+                    .build()));
+      }
     }
 
     return CompletableFuture.completedFuture(
@@ -438,8 +452,7 @@ public class PassiveRole extends InactiveRole {
     }
 
     // if null assume it is first chunk of file
-    if (nextPendingSnapshotChunkId != null
-        && !nextPendingSnapshotChunkId.equals(request.chunkId())) {
+    if (nextPendingSnapshotChunkId != null && !isNextExpectedChunk(request)) {
       final var errMsg =
           "Expected chunkId of ["
               + new SnapshotChunkId(nextPendingSnapshotChunkId)
@@ -507,6 +520,20 @@ public class PassiveRole extends InactiveRole {
     return Either.right(null);
   }
 
+  private boolean isNextExpectedChunk(final InstallRequest request) {
+    if (nextPendingSnapshotChunkId.equals(request.chunkId())) {
+      return true;
+    }
+
+    // the leader does not send the files we reuse from our current snapshot, so the next chunk
+    // may be the first chunk of a later file than expected
+    final var expectedChunkId = new SnapshotChunkId(nextPendingSnapshotChunkId);
+    final var chunkId = new SnapshotChunkId(request.chunkId());
+    return request.reusedFiles().containsKey(expectedChunkId.fileName())
+        && chunkId.offset() == 0
+        && chunkId.fileName().compareTo(expectedChunkId.fileName()) > 0;
+  }
+
   private CompletableFuture<InstallResponse> failIfSnapshotAlreadyExists(
       final ExecutionException errorCreatingPendingSnapshot,
       final SnapshotChunkImpl snapshotChunk) {
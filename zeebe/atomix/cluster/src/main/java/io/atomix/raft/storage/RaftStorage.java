@@ -21,6 +21,7 @@ import static com.google.common.base.Preconditions.checkArgument;
 import static com.google.common.base.Preconditions.checkNotNull;
 
 import io.atomix.raft.storage.log.RaftLog;
+import io.atomix.raft.storage.log.RaftLogBuilder;
 import io.atomix.raft.storage.log.RaftLogFlusher;
 import io.atomix.raft.storage.system.MetaStore;
 import io.atomix.utils.concurrent.ThreadContext;
@@ -35,6 +36,7 @@ import java.nio.file.FileAlreadyExistsException;
 import java.nio.file.Files;
 import java.nio.file.StandardCopyOption;
 import java.nio.file.StandardOpenOption;
+import java.time.Duration;
 
 /**
  * Immutable log configuration and {@link RaftLog} factory.
@@ -63,6 +65,12 @@ public final class RaftStorage {
   private final ReceivableSnapshotStore persistedSnapshotStore;
   private final int journalIndexDensity;
   private final boolean preallocateSegmentFiles;
+  private final Duration maxFlushDelay;
+  private final long maxFlushBytes;
+  private final int preparedSegments;
+  private final boolean recycleSegmentFiles;
+  private final boolean zeroCopyReads;
+  private final boolean primitiveJournalIndex;
   private final RaftLogFlusher.Factory flusherFactory;
 
   private RaftStorage(
@@ -74,7 +82,13 @@ public final class RaftStorage {
       final RaftLogFlusher.Factory flusherFactory,
       final ReceivableSnapshotStore persistedSnapshotStore,
       final int journalIndexDensity,
-      final boolean preallocateSegmentFiles) {
+      final boolean preallocateSegmentFiles,
+      final Duration maxFlushDelay,
+      final long maxFlushBytes,
+      final int preparedSegments,
+      final boolean recycleSegmentFiles,
+      final boolean zeroCopyReads,
+      final boolean primitiveJournalIndex) {
     this.prefix = prefix;
     this.partitionId = partitionId;
     this.directory = directory;
@@ -84,6 +98,12 @@ public final class RaftStorage {
     this.persistedSnapshotStore = persistedSnapshotStore;
     this.journalIndexDensity = journalIndexDensity;
     this.preallocateSegmentFiles = preallocateSegmentFiles;
+    this.maxFlushDelay = maxFlushDelay;
+    this.maxFlushBytes = maxFlushBytes;
+    this.preparedSegments = preparedSegments;
+    this.recycleSegmentFiles = recycleSegmentFiles;
+    this.zeroCopyReads = zeroCopyReads;
+    this.primitiveJournalIndex = primitiveJournalIndex;
 
     try {
       FileUtil.ensureDirectoryExists(directory.toPath());
@@ -192,6 +212,12 @@ public final class RaftStorage {
         .withFreeDiskSpace(freeDiskSpace)
         .withJournalIndexDensity(journalIndexDensity)
         .withPreallocateSegmentFiles(preallocateSegmentFiles)
+        .withMaxFlushDelay(maxFlushDelay)
+        .withMaxFlushBytes(maxFlushBytes)
+        .withPreparedSegments(preparedSegments)
+        .withRecycleSegmentFiles(recycleSegmentFiles)
+        .withZeroCopyReads(zeroCopyReads)
+        .withPrimitiveJournalIndex(primitiveJournalIndex)
         .withMetaStore(metaStore)
         .withFlusher(flusherFactory.createFlusher(threadFactory))
         .build();
@@ -248,6 +274,10 @@ public final class RaftStorage {
         RaftLogFlusher.Factory::direct;
     private static final int DEFAULT_JOURNAL_INDEX_DENSITY = 100;
     private static final boolean DEFAULT_PREALLOCATE_SEGMENT_FILES = true;
+    private static final int DEFAULT_PREPARED_SEGMENTS = 1;
+    private static final boolean DEFAULT_RECYCLE_SEGMENT_FILES = false;
+    private static final boolean DEFAULT_ZERO_COPY_READS = false;
+    private static final boolean DEFAULT_PRIMITIVE_JOURNAL_INDEX = false;
 
     // impossible value to make it clear it's unset and there's an error
     private static final int DEFAULT_PARTITION_ID = -1;
@@ -260,6 +290,12 @@ public final class RaftStorage {
     private ReceivableSnapshotStore persistedSnapshotStore;
     private int journalIndexDensity = DEFAULT_JOURNAL_INDEX_DENSITY;
     private boolean preallocateSegmentFiles = DEFAULT_PREALLOCATE_SEGMENT_FILES;
+    private Duration maxFlushDelay = Duration.ZERO;
+    private long maxFlushBytes;
+    private int preparedSegments = DEFAULT_PREPARED_SEGMENTS;
+    private boolean recycleSegmentFiles = DEFAULT_RECYCLE_SEGMENT_FILES;
+    private boolean zeroCopyReads = DEFAULT_ZERO_COPY_READS;
+    private boolean primitiveJournalIndex = DEFAULT_PRIMITIVE_JOURNAL_INDEX;
     private int partitionId = DEFAULT_PARTITION_ID;
 
     private Builder() {}
@@ -364,6 +400,78 @@ public final class RaftStorage {
       return this;
     }
 
+    /**
+     * Sets the maximum time an appended record may wait to be flushed in group commit mode. See
+     * {@link RaftLogBuilder#withMaxFlushDelay(Duration)}.
+     *
+     * @param maxFlushDelay the maximum delay for an appended record to be flushed
+     * @return this builder for chaining
+     */
+    public Builder withMaxFlushDelay(final Duration maxFlushDelay) {
+      this.maxFlushDelay = checkNotNull(maxFlushDelay, "maxFlushDelay cannot be null");
+      return this;
+    }
+
+    /**
+     * Sets the amount of appended bytes after which a flush is due in group commit mode. See
+     * {@link RaftLogBuilder#withMaxFlushBytes(long)}.
+     *
+     * @param maxFlushBytes the amount of appended bytes which triggers a flush
+     * @return this builder for chaining
+     */
+    public Builder withMaxFlushBytes(final long maxFlushBytes) {
+      this.maxFlushBytes = maxFlushBytes;
+      return this;
+    }
+
+    /**
+     * Sets how many segments are prepared ahead of time in the background. See {@link
+     * RaftLogBuilder#withPreparedSegments(int)}.
+     *
+     * @param preparedSegments the number of segments to prepare ahead of time
+     * @return this builder for chaining
+     */
+    public Builder withPreparedSegments(final int preparedSegments) {
+      this.preparedSegments = preparedSegments;
+      return this;
+    }
+
+    /**
+     * Sets whether the files of deleted segments are recycled as new segments instead of being
+     * deleted. See {@link RaftLogBuilder#withRecycleSegmentFiles(boolean)}.
+     *
+     * @param recycleSegmentFiles true to recycle segment files, false to delete them
+     * @return this builder for chaining
+     */
+    public Builder withRecycleSegmentFiles(final boolean recycleSegmentFiles) {
+      this.recycleSegmentFiles = recycleSegmentFiles;
+      return this;
+    }
+
+    /**
+     * Sets whether the log is read without copying its records. See {@link
+     * RaftLogBuilder#withZeroCopyReads(boolean)}.
+     *
+     * @param zeroCopyReads true to read records without allocating, false otherwise
+     * @return this builder for chaining
+     */
+    public Builder withZeroCopyReads(final boolean zeroCopyReads) {
+      this.zeroCopyReads = zeroCopyReads;
+      return this;
+    }
+
+    /**
+     * Sets whether the journal index is backed by primitive arrays. See {@link
+     * RaftLogBuilder#withPrimitiveJournalIndex(boolean)}.
+     *
+     * @param primitiveJournalIndex true to use the array based index, false otherwise
+     * @return this builder for chaining
+     */
+    public Builder withPrimitiveJournalIndex(final boolean primitiveJournalIndex) {
+      this.primitiveJournalIndex = primitiveJournalIndex;
+      return this;
+    }
+
     /**
      * The ID of the partition on which this storage resides.
      *
@@ -391,7 +499,13 @@ public final class RaftStorage {
           flusherFactory,
           persistedSnapshotStore,
           journalIndexDensity,
-          preallocateSegmentFiles);
+          preallocateSegmentFiles,
+          maxFlushDelay,
+          maxFlushBytes,
+          preparedSegments,
+          recycleSegmentFiles,
+          zeroCopyReads,
+          primitiveJournalIndex);
     }
   }
 }
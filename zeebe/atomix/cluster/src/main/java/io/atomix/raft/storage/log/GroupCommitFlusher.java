@@ -0,0 +1,125 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.atomix.raft.storage.log;
+
+import io.atomix.utils.concurrent.Scheduled;
+import io.atomix.utils.concurrent.Scheduler;
+import io.camunda.zeebe.journal.CheckedJournalException;
+import io.camunda.zeebe.journal.CheckedJournalException.FlushException;
+import io.camunda.zeebe.journal.Journal;
+import io.camunda.zeebe.journal.JournalException;
+import java.io.UncheckedIOException;
+import java.time.Duration;
+import java.util.Objects;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * An implementation of {@link RaftLogFlusher} which uses the group commit mode of the journal (see
+ * {@link Journal#tryFlush()}). Calls to {@link #flush(Journal)} flush the journal immediately only
+ * if a flush is due, i.e. if the oldest unflushed record was appended more than the journal's max
+ * flush delay ago, or if enough bytes were appended since the last flush. Otherwise, a flush is
+ * scheduled after the max flush delay, such that appended records are never left unflushed for
+ * longer than that, even if nothing else is appended.
+ *
+ * <p>Like the {@link DelayedFlusher}, this trades safety for performance, as appended records may
+ * not be flushed yet when {@link #flush(Journal)} returns. The flushed index is not reported back
+ * to Raft, so followers acknowledge and leaders commit records which may not be durable yet, and
+ * which may be lost if a majority of the replicas crash before the scheduled flush. Unlike the
+ * {@link DelayedFlusher}, many appends are flushed together without any delay once enough bytes
+ * were appended.
+ *
+ * <p>NOTE: this class is not thread safe, and is expected to run from the same thread as the
+ * journal write path, e.g. the Raft thread.
+ */
+public final class GroupCommitFlusher implements RaftLogFlusher {
+
+  private static final Logger LOGGER = LoggerFactory.getLogger(GroupCommitFlusher.class);
+  private final Scheduler scheduler;
+  private final Duration maxFlushDelay;
+
+  private final Object scheduledMonitor = new Object();
+  private Scheduled scheduledFlush;
+
+  private boolean closed;
+
+  /**
+   * @param scheduler the scheduler to flush the remaining records after the max flush delay
+   * @param maxFlushDelay the max flush delay of the journal, must be positive
+   */
+  public GroupCommitFlusher(final Scheduler scheduler, final Duration maxFlushDelay) {
+    this.scheduler = Objects.requireNonNull(scheduler, "must specify a scheduler");
+    this.maxFlushDelay = Objects.requireNonNull(maxFlushDelay, "must specify a max flush delay");
+    if (maxFlushDelay.isZero() || maxFlushDelay.isNegative()) {
+      throw new IllegalArgumentException(
+          "Expected max flush delay to be positive, but was %s".formatted(maxFlushDelay));
+    }
+  }
+
+  @Override
+  public void flush(final Journal journal) throws FlushException {
+    final long flushedIndex = journal.tryFlush();
+    if (flushedIndex < journal.getLastIndex()) {
+      scheduleFlush(journal);
+    }
+  }
+
+  @Override
+  public void close() {
+    synchronized (scheduledMonitor) {
+      closed = true;
+
+      if (scheduledFlush != null) {
+        scheduledFlush.cancel();
+        scheduledFlush = null;
+      }
+    }
+
+    scheduler.close();
+  }
+
+  private void scheduleFlush(final Journal journal) {
+    synchronized (scheduledMonitor) {
+      if (closed) {
+        LOGGER.debug("Skipped scheduling flush due to flusher being closed");
+        return;
+      }
+
+      if (scheduledFlush == null) {
+        LOGGER.trace(
+            "Scheduling flush in {} up to index {}", maxFlushDelay, journal.getLastIndex());
+        scheduledFlush = scheduler.schedule(maxFlushDelay, () -> asyncFlush(journal));
+      }
+    }
+  }
+
+  private void asyncFlush(final Journal journal) {
+    synchronized (scheduledMonitor) {
+      scheduledFlush = null;
+    }
+
+    try {
+      journal.flush();
+    } catch (final CheckedJournalException | JournalException | UncheckedIOException e) {
+      LOGGER.warn("Failed to flush journal, operation will be retried after {}", maxFlushDelay, e);
+      scheduleFlush(journal);
+    }
+  }
+
+  @Override
+  public String toString() {
+    return "GroupCommitFlusher{"
+        + "scheduler="
+        + scheduler
+        + ", maxFlushDelay="
+        + maxFlushDelay
+        + ", scheduledFlush="
+        + scheduledFlush
+        + '}';
+  }
+}
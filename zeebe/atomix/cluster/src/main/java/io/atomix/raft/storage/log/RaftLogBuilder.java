@@ -22,6 +22,7 @@ import io.camunda.zeebe.journal.JournalMetaStore;
 import io.camunda.zeebe.journal.file.SegmentedJournal;
 import io.camunda.zeebe.journal.file.SegmentedJournalBuilder;
 import java.io.File;
+import java.time.Duration;
 
 public class RaftLogBuilder implements io.atomix.utils.Builder<RaftLog> {
 
@@ -126,6 +127,82 @@ public class RaftLogBuilder implements io.atomix.utils.Builder<RaftLog> {
     return this;
   }
 
+  /**
+   * Sets the maximum time an appended record may wait to be flushed in group commit mode. See
+   * {@link SegmentedJournalBuilder#withMaxFlushDelay(Duration)}.
+   *
+   * @param maxFlushDelay the maximum delay for an appended record to be flushed
+   * @return this builder for chaining
+   */
+  public RaftLogBuilder withMaxFlushDelay(final Duration maxFlushDelay) {
+    journalBuilder.withMaxFlushDelay(maxFlushDelay);
+    return this;
+  }
+
+  /**
+   * Sets the amount of appended bytes after which a flush is due in group commit mode. See {@link
+   * SegmentedJournalBuilder#withMaxFlushBytes(long)}.
+   *
+   * @param maxFlushBytes the amount of appended bytes which triggers a flush
+   * @return this builder for chaining
+   */
+  public RaftLogBuilder withMaxFlushBytes(final long maxFlushBytes) {
+    journalBuilder.withMaxFlushBytes(maxFlushBytes);
+    return this;
+  }
+
+  /**
+   * Sets how many segments are prepared ahead of time in the background. See {@link
+   * SegmentedJournalBuilder#withPreparedSegments(int)}.
+   *
+   * @param preparedSegments the number of segments to prepare ahead of time
+   * @return this builder for chaining
+   */
+  public RaftLogBuilder withPreparedSegments(final int preparedSegments) {
+    journalBuilder.withPreparedSegments(preparedSegments);
+    return this;
+  }
+
+  /**
+   * Sets whether the files of deleted segments are recycled as new segments instead of being
+   * deleted. See {@link SegmentedJournalBuilder#withRecycleSegmentFiles(boolean)}.
+   *
+   * @param recycleSegmentFiles true to recycle segment files, false to delete them
+   * @return this builder for chaining
+   */
+  public RaftLogBuilder withRecycleSegmentFiles(final boolean recycleSegmentFiles) {
+    journalBuilder.withRecycleSegmentFiles(recycleSegmentFiles);
+    return this;
+  }
+
+  /**
+   * Sets whether readers of the underlying journal return records as reusable views over the
+   * mapped segment files. See {@link SegmentedJournalBuilder#withZeroCopyReads(boolean)}.
+   *
+   * <p>If true, the entries returned by a {@link RaftLogReader} are only valid until its next read:
+   * the index and term of an entry remain valid, but its record backed accessors (e.g. {@link
+   * IndexedRaftLogEntry#getReplicatableJournalRecord()}) must be used before the reader moves on.
+   *
+   * @param zeroCopyReads true to read records without allocating, false otherwise
+   * @return this builder for chaining
+   */
+  public RaftLogBuilder withZeroCopyReads(final boolean zeroCopyReads) {
+    journalBuilder.withZeroCopyReads(zeroCopyReads);
+    return this;
+  }
+
+  /**
+   * Sets whether the journal index stores its entries in sorted primitive arrays instead of skip
+   * lists. See {@link SegmentedJournalBuilder#withPrimitiveJournalIndex(boolean)}.
+   *
+   * @param primitiveJournalIndex true to use the array based index, false otherwise
+   * @return this builder for chaining
+   */
+  public RaftLogBuilder withPrimitiveJournalIndex(final boolean primitiveJournalIndex) {
+    journalBuilder.withPrimitiveJournalIndex(primitiveJournalIndex);
+    return this;
+  }
+
   /**
    * The ID of the partition on which this log resides.
    *
@@ -28,6 +28,11 @@ import io.camunda.zeebe.util.CloseableSilently;
  * you still wish a lower likelihood of corruption issues than with {@link NoopFlusher}. The
  * recommended configuration would be to find the smallest possible delay with which you achieve
  * your performance goals.
+ *
+ * <p>{@link GroupCommitFlusher} is the same trade-off as {@link DelayedFlusher}, which relies on
+ * the group commit mode of the journal: appended records are flushed together once enough bytes
+ * were appended, or at the latest after the journal's max flush delay. Records are acknowledged and
+ * committed before they are flushed.
  */
 @FunctionalInterface
 public interface RaftLogFlusher extends CloseableSilently {
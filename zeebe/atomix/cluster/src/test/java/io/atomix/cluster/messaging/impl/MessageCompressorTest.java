@@ -0,0 +1,168 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.atomix.cluster.messaging.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+import io.netty.handler.codec.CorruptedFrameException;
+import java.nio.charset.StandardCharsets;
+import java.util.Set;
+import org.junit.jupiter.api.Test;
+
+final class MessageCompressorTest {
+
+  private static final int THRESHOLD = 128;
+  private static final int MAX_MESSAGE_SIZE = 4 * 1024 * 1024;
+  private static final byte[] PAYLOAD =
+      "{\"bpmnProcessId\":\"process\",\"elementId\":\"task\",\"variables\":{}}"
+          .repeat(20)
+          .getBytes(StandardCharsets.UTF_8);
+  private static final byte[] DICTIONARY =
+      "\"bpmnProcessId\":\"process\",\"elementId\":\"task\",\"variables\""
+          .getBytes(StandardCharsets.UTF_8);
+
+  private final MessagingMetrics metrics = mock(MessagingMetrics.class);
+
+  @Test
+  void shouldCompressAndDecompress() {
+    // given
+    final var compressor =
+        new MessageCompressor(true, THRESHOLD, MAX_MESSAGE_SIZE, Set.of(), null, metrics);
+
+    // when
+    final var compressed = compressor.compress("subject", PAYLOAD);
+
+    // then
+    assertThat(compressed.codec()).isEqualTo(MessageCompressor.ZSTD);
+    assertThat(compressed.payload()).hasSizeLessThan(PAYLOAD.length);
+    assertThat(compressor.decompress("subject", compressed.codec(), compressed.payload()))
+        .isEqualTo(PAYLOAD);
+    verify(metrics)
+        .observeCompression(
+            eq("subject"), eq(PAYLOAD.length), eq(compressed.payload().length), anyLong());
+    verify(metrics).observeDecompression(eq("subject"), anyLong());
+  }
+
+  @Test
+  void shouldCompressAndDecompressWithDictionary() {
+    // given
+    final var compressor =
+        new MessageCompressor(true, THRESHOLD, MAX_MESSAGE_SIZE, Set.of(), DICTIONARY, metrics);
+
+    // when
+    final var compressed = compressor.compress("subject", PAYLOAD);
+
+    // then
+    assertThat(compressed.codec()).isEqualTo(MessageCompressor.ZSTD_DICTIONARY);
+    assertThat(compressor.decompress("subject", compressed.codec(), compressed.payload()))
+        .isEqualTo(PAYLOAD);
+  }
+
+  @Test
+  void shouldNotCompressWhenDisabled() {
+    // given
+    final var compressor =
+        new MessageCompressor(false, THRESHOLD, MAX_MESSAGE_SIZE, Set.of(), null, metrics);
+
+    // when
+    final var compressed = compressor.compress("subject", PAYLOAD);
+
+    // then
+    assertThat(compressed.codec()).isEqualTo(MessageCompressor.UNCOMPRESSED);
+    assertThat(compressed.payload()).isSameAs(PAYLOAD);
+  }
+
+  @Test
+  void shouldNotCompressPayloadBelowThreshold() {
+    // given
+    final var compressor =
+        new MessageCompressor(true, PAYLOAD.length + 1, MAX_MESSAGE_SIZE, Set.of(), null, metrics);
+
+    // when
+    final var compressed = compressor.compress("subject", PAYLOAD);
+
+    // then
+    assertThat(compressed.codec()).isEqualTo(MessageCompressor.UNCOMPRESSED);
+    verify(metrics, never())
+        .observeCompression(eq("subject"), anyInt(), anyInt(), anyLong());
+  }
+
+  @Test
+  void shouldNotCompressUncompressedSubjects() {
+    // given
+    final var compressor =
+        new MessageCompressor(
+            true,
+            THRESHOLD,
+            MAX_MESSAGE_SIZE,
+            Set.of("atomix-membership-probe"),
+            null,
+            metrics);
+
+    // when
+    final var compressed = compressor.compress("atomix-membership-probe-request", PAYLOAD);
+
+    // then
+    assertThat(compressed.codec()).isEqualTo(MessageCompressor.UNCOMPRESSED);
+  }
+
+  @Test
+  void shouldNotCompressIncompressiblePayload() {
+    // given
+    final var compressor =
+        new MessageCompressor(true, 1, MAX_MESSAGE_SIZE, Set.of(), null, metrics);
+    final var payload = new byte[] {1, 2, 3, 4};
+
+    // when
+    final var compressed = compressor.compress("subject", payload);
+
+    // then
+    assertThat(compressed.codec()).isEqualTo(MessageCompressor.UNCOMPRESSED);
+    assertThat(compressed.payload()).isSameAs(payload);
+  }
+
+  @Test
+  void shouldRejectPayloadCompressedWithUnknownDictionary() {
+    // given
+    final var sender =
+        new MessageCompressor(true, THRESHOLD, MAX_MESSAGE_SIZE, Set.of(), DICTIONARY, metrics);
+    final var receiver =
+        new MessageCompressor(true, THRESHOLD, MAX_MESSAGE_SIZE, Set.of(), null, metrics);
+    final var compressed = sender.compress("subject", PAYLOAD);
+
+    // when - then
+    assertThatThrownBy(
+            () -> receiver.decompress("subject", compressed.codec(), compressed.payload()))
+        .isInstanceOf(CorruptedFrameException.class)
+        .hasMessageContaining("none is configured");
+  }
+
+  @Test
+  void shouldRejectPayloadExceedingMaxMessageSize() {
+    // given
+    final var sender =
+        new MessageCompressor(true, THRESHOLD, MAX_MESSAGE_SIZE, Set.of(), null, metrics);
+    final var receiver =
+        new MessageCompressor(true, THRESHOLD, PAYLOAD.length - 1, Set.of(), null, metrics);
+    final var compressed = sender.compress("subject", PAYLOAD);
+
+    // when - then
+    assertThatThrownBy(
+            () -> receiver.decompress("subject", compressed.codec(), compressed.payload()))
+        .isInstanceOf(CorruptedFrameException.class)
+        .hasMessageContaining("at most %d bytes".formatted(PAYLOAD.length - 1));
+    verify(metrics, never()).observeDecompression(eq("subject"), anyLong());
+  }
+}
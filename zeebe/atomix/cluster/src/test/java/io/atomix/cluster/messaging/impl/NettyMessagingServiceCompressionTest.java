@@ -73,4 +73,56 @@ class NettyMessagingServiceCompressionTest {
     senderNetty.stop();
     receiverNetty.stop();
   }
+
+  @ParameterizedTest
+  @EnumSource(value = ProtocolVersion.class, names = {"V2", "V3"})
+  void shouldSendAndReceiveCompressedMessages(final ProtocolVersion senderVersion) {
+    // given
+    final var config =
+        new MessagingConfig()
+            .setShutdownQuietPeriod(Duration.ofMillis(50))
+            .setCompressionAlgorithm(CompressionAlgorithm.ZSTD)
+            .setCompressionThreshold(64);
+    final var senderAddress = nextAddress();
+    final var senderNetty =
+        (ManagedMessagingService)
+            new NettyMessagingService("test", senderAddress, config, senderVersion, "sender")
+                .start()
+                .join();
+    final var receiverAddress = nextAddress();
+    final var receiverNetty =
+        (ManagedMessagingService)
+            new NettyMessagingService(
+                    "test", receiverAddress, config, ProtocolVersion.latest(), "receiver")
+                .start()
+                .join();
+
+    final String subject = "subject";
+    final String requestString = "message".repeat(100);
+    final String responseString = "success".repeat(100);
+    receiverNetty.registerHandler(
+        subject,
+        (m, payload) -> {
+          final String message = new String(payload);
+          assertThat(message).isEqualTo(requestString);
+          return CompletableFuture.completedFuture(responseString.getBytes());
+        });
+
+    // when
+    final CompletableFuture<byte[]> response =
+        senderNetty.sendAndReceive(receiverAddress, subject, requestString.getBytes());
+
+    // then
+    final var result = response.join();
+    assertThat(new String(result)).isEqualTo(responseString);
+
+    // teardown
+    senderNetty.stop();
+    receiverNetty.stop();
+  }
+
+  private static Address nextAddress() {
+    final var nextAddress = SocketUtil.getNextAddress();
+    return Address.from(nextAddress.getHostName(), nextAddress.getPort());
+  }
 }
@@ -205,6 +205,16 @@ public class RemoteClientConnectionTest {
       inFlightRequestCount.put(key, integer - 1);
     }
 
+    @Override
+    public void observeCompression(
+        final String topic,
+        final int uncompressedSizeInBytes,
+        final int compressedSizeInBytes,
+        final long durationNanos) {}
+
+    @Override
+    public void observeDecompression(final String topic, final long durationNanos) {}
+
     String computeKey(final String to, final String name) {
       return String.format(LABEL_FORMAT, to, name);
     }
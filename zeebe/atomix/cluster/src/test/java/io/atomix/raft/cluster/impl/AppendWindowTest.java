@@ -0,0 +1,135 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.atomix.raft.cluster.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.Test;
+
+final class AppendWindowTest {
+
+  private static final int IN_FLIGHT_LIMIT = 4;
+  private static final int BATCH_SIZE_LIMIT = 32 * 1024;
+
+  private long now = 1_000;
+
+  @Test
+  void shouldKeepConfiguredLimitsWhenNotAdaptive() {
+    // given
+    final var window = new AppendWindow(false, IN_FLIGHT_LIMIT, BATCH_SIZE_LIMIT);
+
+    // when
+    acknowledge(window, 100, 10);
+    window.onAcknowledged(1_000, now);
+    window.onFailed(now);
+
+    // then
+    assertThat(window.getInFlightLimit()).isEqualTo(IN_FLIGHT_LIMIT);
+    assertThat(window.getBatchSizeLimit()).isEqualTo(BATCH_SIZE_LIMIT);
+  }
+
+  @Test
+  void shouldGrowWhileRoundTripTimeIsStable() {
+    // given
+    final var window = new AppendWindow(true, IN_FLIGHT_LIMIT, BATCH_SIZE_LIMIT);
+
+    // when
+    acknowledge(window, 20, 10);
+
+    // then
+    assertThat(window.getInFlightLimit()).isGreaterThan(IN_FLIGHT_LIMIT);
+    assertThat(window.getBatchSizeLimit()).isGreaterThan(BATCH_SIZE_LIMIT);
+    assertThat(window.getRoundTripTime()).isEqualTo(10);
+  }
+
+  @Test
+  void shouldNotGrowBeyondUpperBound() {
+    // given
+    final var window = new AppendWindow(true, IN_FLIGHT_LIMIT, BATCH_SIZE_LIMIT);
+
+    // when
+    acknowledge(window, 10_000, 10);
+
+    // then
+    assertThat(window.getInFlightLimit())
+        .isEqualTo(IN_FLIGHT_LIMIT * AppendWindow.ADAPTIVE_LIMIT_FACTOR);
+    assertThat(window.getBatchSizeLimit())
+        .isEqualTo(BATCH_SIZE_LIMIT * AppendWindow.ADAPTIVE_LIMIT_FACTOR);
+  }
+
+  @Test
+  void shouldShrinkWhenRoundTripTimeIncreases() {
+    // given
+    final var window = new AppendWindow(true, IN_FLIGHT_LIMIT, BATCH_SIZE_LIMIT);
+    acknowledge(window, 5, 10);
+    final var inFlightLimit = window.getInFlightLimit();
+    final var batchSizeLimit = window.getBatchSizeLimit();
+
+    // when
+    window.onAcknowledged(100, now);
+
+    // then
+    assertThat(window.getInFlightLimit()).isEqualTo(inFlightLimit / 2);
+    assertThat(window.getBatchSizeLimit()).isLessThanOrEqualTo(batchSizeLimit / 2 + 1);
+  }
+
+  @Test
+  void shouldShrinkOnlyOncePerRoundTrip() {
+    // given
+    final var window = new AppendWindow(true, IN_FLIGHT_LIMIT * 4, BATCH_SIZE_LIMIT);
+    acknowledge(window, 1, 10);
+
+    // when
+    window.onFailed(now);
+    final var inFlightLimit = window.getInFlightLimit();
+    window.onFailed(now + 1);
+
+    // then
+    assertThat(window.getInFlightLimit()).isEqualTo(inFlightLimit);
+  }
+
+  @Test
+  void shouldNotShrinkBelowLowerBound() {
+    // given
+    final var window = new AppendWindow(true, IN_FLIGHT_LIMIT, BATCH_SIZE_LIMIT);
+
+    // when
+    for (int i = 0; i < 10; i++) {
+      window.onFailed(now);
+      now += 1_000;
+    }
+
+    // then
+    assertThat(window.getInFlightLimit())
+        .isEqualTo(IN_FLIGHT_LIMIT / AppendWindow.ADAPTIVE_LIMIT_FACTOR);
+    assertThat(window.getBatchSizeLimit())
+        .isEqualTo(BATCH_SIZE_LIMIT / AppendWindow.ADAPTIVE_LIMIT_FACTOR);
+  }
+
+  @Test
+  void shouldResetToConfiguredLimits() {
+    // given
+    final var window = new AppendWindow(true, IN_FLIGHT_LIMIT, BATCH_SIZE_LIMIT);
+    acknowledge(window, 100, 10);
+
+    // when
+    window.reset();
+
+    // then
+    assertThat(window.getInFlightLimit()).isEqualTo(IN_FLIGHT_LIMIT);
+    assertThat(window.getBatchSizeLimit()).isEqualTo(BATCH_SIZE_LIMIT);
+    assertThat(window.getRoundTripTime()).isZero();
+  }
+
+  private void acknowledge(final AppendWindow window, final int count, final long rtt) {
+    for (int i = 0; i < count; i++) {
+      window.onAcknowledged(rtt, now);
+      now += rtt;
+    }
+  }
+}
@@ -30,6 +30,7 @@ import io.camunda.zeebe.util.StringUtil;
 import io.camunda.zeebe.util.buffer.BufferUtil;
 import java.nio.ByteBuffer;
 import java.nio.file.Path;
+import java.util.Map;
 import java.util.NavigableMap;
 import java.util.Objects;
 import java.util.Set;
@@ -212,6 +213,19 @@ public final class InMemorySnapshot implements PersistedSnapshot, ReceivedSnapsh
     return CompletableActorFuture.completed(null);
   }
 
+  @Override
+  public ActorFuture<Void> reuse(final Map<String, Long> checksums) {
+    testSnapshotStore
+        .getLatestSnapshot()
+        .map(InMemorySnapshot.class::cast)
+        .ifPresent(
+            latest ->
+                checksums.keySet().stream()
+                    .filter(latest.chunks::containsKey)
+                    .forEach(name -> chunks.putIfAbsent(name, latest.chunks.get(name))));
+    return CompletableActorFuture.completed(null);
+  }
+
   @Override
   public ActorFuture<Void> abort() {
     return CompletableActorFuture.completed(null);
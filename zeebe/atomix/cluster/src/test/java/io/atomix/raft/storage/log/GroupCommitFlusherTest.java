@@ -0,0 +1,147 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.atomix.raft.storage.log;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.atomix.utils.concurrent.Scheduled;
+import io.atomix.utils.concurrent.Scheduler;
+import io.camunda.zeebe.journal.CheckedJournalException;
+import io.camunda.zeebe.journal.Journal;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.agrona.CloseHelper;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+final class GroupCommitFlusherTest {
+  private final TestScheduler scheduler = new TestScheduler();
+  private final GroupCommitFlusher flusher =
+      new GroupCommitFlusher(scheduler, Duration.ofMillis(5));
+  private final Journal journal = Mockito.mock(Journal.class);
+
+  @AfterEach
+  void afterEach() {
+    CloseHelper.quietClose(flusher);
+  }
+
+  @Test
+  void shouldNotScheduleFlushIfEverythingIsFlushed() throws CheckedJournalException {
+    // given
+    Mockito.when(journal.tryFlush()).thenReturn(5L);
+    Mockito.when(journal.getLastIndex()).thenReturn(5L);
+
+    // when
+    flusher.flush(journal);
+
+    // then
+    assertThat(scheduler.operations).isEmpty();
+    Mockito.verify(journal, Mockito.never()).flush();
+  }
+
+  @Test
+  void shouldScheduleFlushOfRemainingRecords() throws CheckedJournalException {
+    // given
+    Mockito.when(journal.tryFlush()).thenReturn(3L);
+    Mockito.when(journal.getLastIndex()).thenReturn(5L);
+
+    // when
+    flusher.flush(journal);
+    flusher.flush(journal);
+
+    // then
+    assertThat(scheduler.operations).hasSize(1);
+    assertThat(scheduler.operations.get(0).delay).isEqualTo(Duration.ofMillis(5));
+
+    // when
+    scheduler.runNext();
+
+    // then
+    Mockito.verify(journal, Mockito.times(1)).flush();
+  }
+
+  @Test
+  void shouldRescheduleOnFlushError() throws CheckedJournalException {
+    // given
+    Mockito.when(journal.tryFlush()).thenReturn(3L);
+    Mockito.when(journal.getLastIndex()).thenReturn(5L);
+    Mockito.doThrow(new UncheckedIOException(new IOException("Cannot allocate memory")))
+        .when(journal)
+        .flush();
+
+    // when
+    flusher.flush(journal);
+    scheduler.runNext();
+
+    // then
+    assertThat(scheduler.operations).hasSize(1);
+  }
+
+  @Test
+  void shouldCancelScheduledFlushOnClose() throws CheckedJournalException {
+    // given
+    Mockito.when(journal.tryFlush()).thenReturn(3L);
+    Mockito.when(journal.getLastIndex()).thenReturn(5L);
+    flusher.flush(journal);
+
+    // when
+    flusher.close();
+
+    // then
+    assertThat(scheduler.operations.get(0).cancelled).isTrue();
+  }
+
+  private static final class TestScheduled implements Scheduled {
+    private final Duration delay;
+    private final Runnable operation;
+
+    private boolean cancelled;
+
+    private TestScheduled(final Duration delay, final Runnable operation) {
+      this.delay = delay;
+      this.operation = operation;
+    }
+
+    @Override
+    public void cancel() {
+      cancelled = true;
+    }
+
+    @Override
+    public boolean isDone() {
+      return cancelled;
+    }
+  }
+
+  private static final class TestScheduler implements Scheduler {
+    private final List<TestScheduled> operations = new ArrayList<>();
+
+    @Override
+    public Scheduled schedule(final long delay, final TimeUnit timeUnit, final Runnable callback) {
+      final var scheduled =
+          new TestScheduled(Duration.of(delay, timeUnit.toChronoUnit()), callback);
+      operations.add(scheduled);
+      return scheduled;
+    }
+
+    @Override
+    public Scheduled schedule(
+        final Duration initialDelay, final Duration interval, final Runnable callback) {
+      throw new UnsupportedOperationException("fixed rate scheduling unsupported");
+    }
+
+    private void runNext() {
+      operations.remove(0).operation.run();
+    }
+  }
+}
@@ -0,0 +1,247 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.backup.filesystem;
+
+import io.camunda.zeebe.backup.filesystem.FilesystemBackupStoreException.ContentMismatchException;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.channels.FileChannel;
+import java.nio.file.FileAlreadyExistsException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Collection;
+import java.util.HexFormat;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Stores file contents addressed by their SHA-256 digest, such that contents shared by several
+ * backups are only stored once.
+ *
+ * <p>Every file set which includes an object holds a reference on it, which is an empty marker
+ * file in the object's reference directory. The reference is added before the object is stored,
+ * and the object is deleted once its last reference is released. Adding and releasing references
+ * is serialized by a lock, held within this JVM and, via a file lock, across all nodes sharing the
+ * backup directory.
+ *
+ * <p>The layout of the objects directory is:
+ *
+ * <ul>
+ *   <li>{@code objects/ab/abcd...}: the contents with digest {@code abcd...}
+ *   <li>{@code objects/ab/abcd....refs/owner}: a reference held by {@code owner}
+ *   <li>{@code objects/.lock}: the file lock
+ * </ul>
+ */
+final class ContentStore {
+  private static final String OBJECTS_DIRECTORY = "objects";
+  private static final String LOCK_FILE_NAME = ".lock";
+  private static final String REFERENCES_SUFFIX = ".refs";
+  private static final String TMP_SUFFIX = ".tmp";
+  private static final String DIGEST_ALGORITHM = "SHA-256";
+  private static final int BUFFER_SIZE = 64 * 1024;
+
+  // a file lock is held on behalf of the whole JVM, so the stores of different partitions which
+  // share the same directory must additionally be serialized among themselves
+  private static final Map<Path, Lock> LOCKS = new ConcurrentHashMap<>();
+
+  private final Path objectsRoot;
+  private final Path lockFile;
+  private final Lock lock;
+
+  ContentStore(final Path basePath) {
+    objectsRoot = basePath.resolve(OBJECTS_DIRECTORY);
+    lockFile = objectsRoot.resolve(LOCK_FILE_NAME);
+    lock =
+        LOCKS.computeIfAbsent(lockFile.toAbsolutePath().normalize(), path -> new ReentrantLock());
+  }
+
+  /**
+   * @return the hex encoded SHA-256 digest of the given file
+   */
+  String digest(final Path file) {
+    final var digest = newMessageDigest();
+    try (final var input = new DigestInputStream(Files.newInputStream(file), digest)) {
+      final var buffer = new byte[BUFFER_SIZE];
+      //noinspection StatementWithEmptyBody
+      while (input.read(buffer) != -1) {}
+    } catch (final IOException e) {
+      throw new UncheckedIOException(e);
+    }
+    return HexFormat.of().formatHex(digest.digest());
+  }
+
+  /**
+   * Stores the contents of the given file, unless an object with the same digest exists already.
+   *
+   * <p>Note that the object must be referenced first via {@link #addReferences(String,
+   * Collection)}, otherwise it may be deleted at any time by a concurrent release of the last
+   * reference on it, or by {@link #deleteUnreferenced(Collection)}.
+   *
+   * @return true if the contents were written, false if they were already present
+   */
+  boolean store(final String digest, final Path file) {
+    final var object = objectPath(digest);
+    if (Files.exists(object)) {
+      return false;
+    }
+
+    try {
+      Files.createDirectories(object.getParent());
+      final var tmp = Files.createTempFile(object.getParent(), digest, TMP_SUFFIX);
+      try {
+        Files.copy(file, tmp, StandardCopyOption.REPLACE_EXISTING);
+        // if another node stored the same contents in the meantime, replacing them is harmless
+        Files.move(tmp, object, StandardCopyOption.ATOMIC_MOVE);
+      } finally {
+        Files.deleteIfExists(tmp);
+      }
+    } catch (final IOException e) {
+      throw new UncheckedIOException(e);
+    }
+    return true;
+  }
+
+  /**
+   * Adds a reference held by the given owner on each of the given objects. References may be added
+   * before the objects are stored, which ensures that stored objects are always referenced and are
+   * collected once their owners release them, even if storing them fails midway.
+   *
+   * @param owner the owner of the references, e.g. a file set of a backup
+   * @param digests the digests of the objects
+   */
+  void addReferences(final String owner, final Collection<String> digests) {
+    withLock(
+        () -> {
+          for (final var digest : digests) {
+            final var references = referencesPath(digest);
+            Files.createDirectories(references);
+            try {
+              Files.createFile(references.resolve(owner));
+            } catch (final FileAlreadyExistsException e) {
+              // the same contents are referenced more than once by this owner
+            }
+          }
+        });
+  }
+
+  /**
+   * Releases the references held by the given owner on the given objects, and deletes all objects
+   * which are not referenced anymore.
+   */
+  void releaseReferences(final String owner, final Collection<String> digests) {
+    withLock(
+        () -> {
+          for (final var digest : digests) {
+            Files.deleteIfExists(referencesPath(digest).resolve(owner));
+            deleteIfUnreferenced(digest);
+          }
+        });
+  }
+
+  /**
+   * Deletes those of the given objects which are not referenced by anyone, e.g. because their
+   * owner was deleted while they were being stored.
+   */
+  void deleteUnreferenced(final Collection<String> digests) {
+    withLock(
+        () -> {
+          for (final var digest : digests) {
+            deleteIfUnreferenced(digest);
+          }
+        });
+  }
+
+  /**
+   * Copies the object with the given digest to the target file, verifying its contents on the way.
+   *
+   * @throws ContentMismatchException if the contents of the object do not match its digest
+   */
+  void restore(final String digest, final Path target) {
+    final var messageDigest = newMessageDigest();
+    try (final var input =
+        new DigestInputStream(Files.newInputStream(objectPath(digest)), messageDigest)) {
+      Files.copy(input, target, StandardCopyOption.REPLACE_EXISTING);
+    } catch (final IOException e) {
+      throw new UncheckedIOException(e);
+    }
+
+    final var actualDigest = HexFormat.of().formatHex(messageDigest.digest());
+    if (!actualDigest.equals(digest)) {
+      throw new ContentMismatchException(
+          "Expected contents restored to '%s' to have digest '%s', but was '%s'"
+              .formatted(target, digest, actualDigest));
+    }
+  }
+
+  int referenceCount(final String digest) throws IOException {
+    final var references = referencesPath(digest);
+    if (!Files.isDirectory(references)) {
+      return 0;
+    }
+
+    try (final var owners = Files.list(references)) {
+      return (int) owners.count();
+    }
+  }
+
+  boolean exists(final String digest) {
+    return Files.exists(objectPath(digest));
+  }
+
+  private void deleteIfUnreferenced(final String digest) throws IOException {
+    if (referenceCount(digest) == 0) {
+      Files.deleteIfExists(referencesPath(digest));
+      Files.deleteIfExists(objectPath(digest));
+    }
+  }
+
+  private void withLock(final LockedOperation operation) {
+    lock.lock();
+    try {
+      Files.createDirectories(objectsRoot);
+      try (final var channel =
+              FileChannel.open(
+                  lockFile, StandardOpenOption.CREATE, StandardOpenOption.WRITE);
+          final var ignored = channel.lock()) {
+        operation.run();
+      }
+    } catch (final IOException e) {
+      throw new UncheckedIOException(e);
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  private Path objectPath(final String digest) {
+    return objectsRoot.resolve(digest.substring(0, 2)).resolve(digest);
+  }
+
+  private Path referencesPath(final String digest) {
+    return objectsRoot.resolve(digest.substring(0, 2)).resolve(digest + REFERENCES_SUFFIX);
+  }
+
+  private static MessageDigest newMessageDigest() {
+    try {
+      return MessageDigest.getInstance(DIGEST_ALGORITHM);
+    } catch (final NoSuchAlgorithmException e) {
+      throw new IllegalStateException(e);
+    }
+  }
+
+  @FunctionalInterface
+  private interface LockedOperation {
+    void run() throws IOException;
+  }
+}
@@ -0,0 +1,211 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.backup.filesystem;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import io.camunda.zeebe.backup.api.BackupIdentifier;
+import io.camunda.zeebe.backup.api.NamedFileSet;
+import io.camunda.zeebe.backup.common.FileSet;
+import io.camunda.zeebe.backup.common.FileSet.NamedFile;
+import io.camunda.zeebe.backup.common.NamedFileSetImpl;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Saves and restores the file sets of a backup. The contents of each file are kept in the {@link
+ * ContentStore}, shared with all other backups containing the same contents; a file set itself is
+ * only an index mapping file names to content digests.
+ */
+final class FileSetManager {
+  /**
+   * The index of a file set is stored in {@code
+   * basePath/contents/partitionId/checkpointId/nodeId/fileSetName.json}.
+   */
+  private static final String CONTENTS_DIRECTORY = "contents";
+
+  private static final String INDEX_SUFFIX = ".json";
+  private static final String TMP_SUFFIX = ".tmp";
+  private static final TypeReference<Map<String, String>> INDEX_TYPE = new TypeReference<>() {};
+  private static final Logger LOG = LoggerFactory.getLogger(FileSetManager.class);
+
+  private final Path contentsRoot;
+  private final ContentStore contentStore;
+  private final ExecutorService transferExecutor;
+
+  FileSetManager(
+      final Path basePath,
+      final ContentStore contentStore,
+      final ExecutorService transferExecutor) {
+    contentsRoot = basePath.resolve(CONTENTS_DIRECTORY);
+    this.contentStore = contentStore;
+    this.transferExecutor = transferExecutor;
+  }
+
+  void save(final BackupIdentifier id, final String fileSetName, final NamedFileSet fileSet) {
+    final var files = List.copyOf(fileSet.namedFiles().entrySet());
+    final var digested =
+        awaitAll(
+            files,
+            file -> {
+              final var source = file.getValue();
+              return new DigestedFile(file.getKey(), source, contentStore.digest(source));
+            });
+
+    final var index = new HashMap<String, String>();
+    for (final var file : digested) {
+      index.put(file.name(), file.digest());
+    }
+
+    // the index and the references are written before the contents, such that all stored contents
+    // are released when deleting the file set, even if saving it fails midway
+    final var owner = owner(id, fileSetName);
+    writeIndex(id, fileSetName, index);
+    contentStore.addReferences(owner, index.values());
+    final var written =
+        awaitAll(digested, file -> contentStore.store(file.digest(), file.source()));
+
+    // if the file set was deleted concurrently, the contents stored after it are not referenced
+    contentStore.deleteUnreferenced(index.values());
+
+    LOG.debug(
+        "Saved file set '{}' of backup {}: stored {} of {} files, the rest were already present",
+        fileSetName,
+        id,
+        written.stream().filter(Boolean::booleanValue).count(),
+        written.size());
+  }
+
+  void delete(final BackupIdentifier id, final String fileSetName) {
+    final var index = readIndex(id, fileSetName);
+    if (index == null) {
+      return;
+    }
+
+    contentStore.releaseReferences(owner(id, fileSetName), index.values());
+    try {
+      Files.deleteIfExists(indexPath(id, fileSetName));
+    } catch (final IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+
+  NamedFileSet restore(
+      final BackupIdentifier id,
+      final String fileSetName,
+      final FileSet fileSet,
+      final Path targetFolder) {
+    final var index = readIndex(id, fileSetName);
+    if (index == null) {
+      throw new UncheckedIOException(
+          new NoSuchFileException(indexPath(id, fileSetName).toString()));
+    }
+
+    final var restored =
+        awaitAll(
+            fileSet.files(),
+            file -> {
+              final var target = targetFolder.resolve(file.name());
+              contentStore.restore(digestOf(index, id, file), target);
+              return target;
+            });
+    final var pathByName = new HashMap<String, Path>();
+    for (int i = 0; i < restored.size(); i++) {
+      pathByName.put(fileSet.files().get(i).name(), restored.get(i));
+    }
+
+    return new NamedFileSetImpl(pathByName);
+  }
+
+  /**
+   * Applies the given transfer to all items concurrently on the transfer executor, and waits for
+   * all of them to complete.
+   *
+   * @return the results, in the same order as the given items
+   */
+  private <T, R> List<R> awaitAll(final List<T> items, final Function<T, R> transfer) {
+    final var futures =
+        items.stream()
+            .map(
+                item -> CompletableFuture.supplyAsync(() -> transfer.apply(item), transferExecutor))
+            .toList();
+    try {
+      CompletableFuture.allOf(futures.toArray(CompletableFuture[]::new)).join();
+    } catch (final CompletionException e) {
+      if (e.getCause() instanceof final RuntimeException cause) {
+        throw cause;
+      }
+      throw e;
+    }
+    return futures.stream().map(CompletableFuture::join).collect(Collectors.toList());
+  }
+
+  private void writeIndex(
+      final BackupIdentifier id, final String fileSetName, final Map<String, String> index) {
+    final var indexPath = indexPath(id, fileSetName);
+    try {
+      Files.createDirectories(indexPath.getParent());
+      final var tmpPath = Files.createTempFile(indexPath.getParent(), fileSetName, TMP_SUFFIX);
+      Files.write(tmpPath, ManifestManager.MAPPER.writeValueAsBytes(index));
+      Files.move(
+          tmpPath, indexPath, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+    } catch (final IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+
+  private Map<String, String> readIndex(final BackupIdentifier id, final String fileSetName) {
+    try {
+      return ManifestManager.MAPPER.readValue(
+          Files.readAllBytes(indexPath(id, fileSetName)), INDEX_TYPE);
+    } catch (final NoSuchFileException e) {
+      return null;
+    } catch (final IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+
+  private Path indexPath(final BackupIdentifier id, final String fileSetName) {
+    return contentsRoot
+        .resolve(String.valueOf(id.partitionId()))
+        .resolve(String.valueOf(id.checkpointId()))
+        .resolve(String.valueOf(id.nodeId()))
+        .resolve(fileSetName + INDEX_SUFFIX);
+  }
+
+  private String digestOf(
+      final Map<String, String> index, final BackupIdentifier id, final NamedFile file) {
+    final var digest = index.get(file.name());
+    if (digest == null) {
+      throw new UncheckedIOException(
+          new NoSuchFileException(
+              "Expected file '%s' to be part of backup %s, but it is missing from its index"
+                  .formatted(file.name(), id)));
+    }
+    return digest;
+  }
+
+  private static String owner(final BackupIdentifier id, final String fileSetName) {
+    return "%d-%d-%d-%s".formatted(id.partitionId(), id.checkpointId(), id.nodeId(), fileSetName);
+  }
+
+  private record DigestedFile(String name, Path source, String digest) {}
+}
@@ -0,0 +1,51 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.backup.filesystem;
+
+import io.camunda.zeebe.backup.filesystem.FilesystemBackupStoreException.ConfigurationException;
+
+/**
+ * Holds configuration for the {@link FilesystemBackupStore}.
+ *
+ * @param basePath Path to the directory in which backups are stored, e.g. a mounted NFS share.
+ * @param maxConcurrentTransfers Maximum number of files which are copied to or from the backup
+ *     directory concurrently.
+ */
+public record FilesystemBackupConfig(String basePath, int maxConcurrentTransfers) {
+  public static final int DEFAULT_MAX_CONCURRENT_TRANSFERS = 4;
+
+  public FilesystemBackupConfig {
+    if (basePath == null || basePath.isBlank()) {
+      throw new ConfigurationException("basePath must be provided");
+    }
+    if (maxConcurrentTransfers < 1) {
+      throw new ConfigurationException(
+          "maxConcurrentTransfers must be at least 1, but was %d"
+              .formatted(maxConcurrentTransfers));
+    }
+  }
+
+  public static final class Builder {
+    private String basePath;
+    private int maxConcurrentTransfers = DEFAULT_MAX_CONCURRENT_TRANSFERS;
+
+    public Builder withBasePath(final String basePath) {
+      this.basePath = basePath;
+      return this;
+    }
+
+    public Builder withMaxConcurrentTransfers(final int maxConcurrentTransfers) {
+      this.maxConcurrentTransfers = maxConcurrentTransfers;
+      return this;
+    }
+
+    public FilesystemBackupConfig build() {
+      return new FilesystemBackupConfig(basePath, maxConcurrentTransfers);
+    }
+  }
+}
@@ -0,0 +1,180 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.backup.filesystem;
+
+import io.camunda.zeebe.backup.api.Backup;
+import io.camunda.zeebe.backup.api.BackupIdentifier;
+import io.camunda.zeebe.backup.api.BackupIdentifierWildcard;
+import io.camunda.zeebe.backup.api.BackupStatus;
+import io.camunda.zeebe.backup.api.BackupStatusCode;
+import io.camunda.zeebe.backup.api.BackupStore;
+import io.camunda.zeebe.backup.common.BackupImpl;
+import io.camunda.zeebe.backup.common.BackupStatusImpl;
+import io.camunda.zeebe.backup.common.Manifest;
+import io.camunda.zeebe.backup.filesystem.FilesystemBackupStoreException.ConfigurationException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Collection;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * A {@link BackupStore} which stores backups in a directory, typically a mounted NFS share.
+ *
+ * <p>The contents of snapshot and segment files are stored by their checksum, such that files
+ * which did not change between backups are stored only once and shared between them. See {@link
+ * ContentStore} for the details.
+ */
+public final class FilesystemBackupStore implements BackupStore {
+  public static final String ERROR_MSG_BACKUP_NOT_FOUND =
+      "Expected to restore from backup with id '%s', but does not exist.";
+  public static final String ERROR_MSG_BACKUP_WRONG_STATE_TO_RESTORE =
+      "Expected to restore from completed backup with id '%s', but was in state '%s'";
+  public static final String ERROR_VALIDATION_FAILED =
+      "Invalid configuration for FilesystemBackupStore: %s";
+  public static final String SNAPSHOT_FILESET_NAME = "snapshot";
+  public static final String SEGMENTS_FILESET_NAME = "segments";
+  private final ExecutorService executor;
+  private final ExecutorService transferExecutor;
+  private final ManifestManager manifestManager;
+  private final FileSetManager fileSetManager;
+
+  public FilesystemBackupStore(final FilesystemBackupConfig config) {
+    final var basePath = Path.of(config.basePath());
+    executor = Executors.newWorkStealingPool(4);
+    transferExecutor = Executors.newFixedThreadPool(config.maxConcurrentTransfers());
+    manifestManager = new ManifestManager(basePath);
+    fileSetManager = new FileSetManager(basePath, new ContentStore(basePath), transferExecutor);
+  }
+
+  @Override
+  public CompletableFuture<Void> save(final Backup backup) {
+    return CompletableFuture.runAsync(
+        () -> {
+          final var persistedManifest = manifestManager.createInitialManifest(backup);
+          try {
+            fileSetManager.save(backup.id(), SNAPSHOT_FILESET_NAME, backup.snapshot());
+            fileSetManager.save(backup.id(), SEGMENTS_FILESET_NAME, backup.segments());
+            manifestManager.completeManifest(persistedManifest);
+          } catch (final Exception e) {
+            manifestManager.markAsFailed(persistedManifest.id(), e.getMessage());
+            throw e;
+          }
+        },
+        executor);
+  }
+
+  @Override
+  public CompletableFuture<BackupStatus> getStatus(final BackupIdentifier id) {
+    return CompletableFuture.supplyAsync(
+        () -> {
+          final var manifest = manifestManager.getManifest(id);
+          if (manifest == null) {
+            return BackupStatusImpl.doesNotExist(id);
+          }
+          return Manifest.toStatus(manifest);
+        },
+        executor);
+  }
+
+  @Override
+  public CompletableFuture<Collection<BackupStatus>> list(final BackupIdentifierWildcard wildcard) {
+    return CompletableFuture.supplyAsync(
+        () -> manifestManager.listManifests(wildcard).stream().map(Manifest::toStatus).toList(),
+        executor);
+  }
+
+  @Override
+  public CompletableFuture<Void> delete(final BackupIdentifier id) {
+    return CompletableFuture.runAsync(
+        () -> {
+          // release the contents first, so that a failed deletion can be retried without leaking
+          // references on the shared objects
+          fileSetManager.delete(id, SNAPSHOT_FILESET_NAME);
+          fileSetManager.delete(id, SEGMENTS_FILESET_NAME);
+          manifestManager.deleteManifest(id);
+        },
+        executor);
+  }
+
+  @Override
+  public CompletableFuture<Backup> restore(final BackupIdentifier id, final Path targetFolder) {
+    return CompletableFuture.supplyAsync(
+        () -> {
+          final var manifest = manifestManager.getManifest(id);
+          if (manifest == null) {
+            throw new RuntimeException(ERROR_MSG_BACKUP_NOT_FOUND.formatted(id));
+          }
+          return switch (manifest.statusCode()) {
+            case FAILED, IN_PROGRESS ->
+                throw new RuntimeException(
+                    ERROR_MSG_BACKUP_WRONG_STATE_TO_RESTORE.formatted(id, manifest.statusCode()));
+            case COMPLETED -> {
+              final var completed = manifest.asCompleted();
+              final var snapshot =
+                  fileSetManager.restore(
+                      id, SNAPSHOT_FILESET_NAME, completed.snapshot(), targetFolder);
+              final var segments =
+                  fileSetManager.restore(
+                      id, SEGMENTS_FILESET_NAME, completed.segments(), targetFolder);
+              yield new BackupImpl(id, manifest.descriptor(), snapshot, segments);
+            }
+          };
+        },
+        executor);
+  }
+
+  @Override
+  public CompletableFuture<BackupStatusCode> markFailed(
+      final BackupIdentifier id, final String failureReason) {
+    return CompletableFuture.supplyAsync(
+        () -> {
+          manifestManager.markAsFailed(id, failureReason);
+          return BackupStatusCode.FAILED;
+        },
+        executor);
+  }
+
+  @Override
+  public CompletableFuture<Void> closeAsync() {
+    return CompletableFuture.runAsync(
+        () -> {
+          try {
+            shutdown(executor);
+            shutdown(transferExecutor);
+          } catch (final Exception e) {
+            throw new RuntimeException(e);
+          }
+        });
+  }
+
+  public static void validateConfig(final FilesystemBackupConfig config) {
+    try {
+      final var basePath = Files.createDirectories(Path.of(config.basePath()));
+      if (!Files.isWritable(basePath)) {
+        throw new ConfigurationException(
+            ERROR_VALIDATION_FAILED.formatted(
+                "basePath '%s' is not writable".formatted(config.basePath())));
+      }
+    } catch (final ConfigurationException e) {
+      throw e;
+    } catch (final Exception e) {
+      throw new ConfigurationException(ERROR_VALIDATION_FAILED.formatted(config), e);
+    }
+  }
+
+  private static void shutdown(final ExecutorService executor) throws InterruptedException {
+    executor.shutdown();
+    final var closed = executor.awaitTermination(1, TimeUnit.MINUTES);
+    if (!closed) {
+      executor.shutdownNow();
+    }
+  }
+}
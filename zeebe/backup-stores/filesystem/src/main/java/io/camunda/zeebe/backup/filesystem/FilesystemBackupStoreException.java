@@ -0,0 +1,34 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.backup.filesystem;
+
+public abstract class FilesystemBackupStoreException extends RuntimeException {
+  public FilesystemBackupStoreException(final String message) {
+    super(message);
+  }
+
+  public FilesystemBackupStoreException(final String message, final Throwable cause) {
+    super(message, cause);
+  }
+
+  public static class ConfigurationException extends FilesystemBackupStoreException {
+    public ConfigurationException(final String message) {
+      super(message);
+    }
+
+    public ConfigurationException(final String message, final Exception cause) {
+      super(message, cause);
+    }
+  }
+
+  public static class ContentMismatchException extends FilesystemBackupStoreException {
+    public ContentMismatchException(final String message) {
+      super(message);
+    }
+  }
+}
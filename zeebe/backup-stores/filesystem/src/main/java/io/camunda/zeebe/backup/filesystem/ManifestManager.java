@@ -0,0 +1,193 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.backup.filesystem;
+
+import static com.fasterxml.jackson.databind.SerializationFeature.WRITE_DATES_AS_TIMESTAMPS;
+
+import com.fasterxml.jackson.annotation.JsonInclude.Include;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jdk8.Jdk8Module;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import io.camunda.zeebe.backup.api.Backup;
+import io.camunda.zeebe.backup.api.BackupIdentifier;
+import io.camunda.zeebe.backup.api.BackupIdentifierWildcard;
+import io.camunda.zeebe.backup.common.BackupStoreException.UnexpectedManifestState;
+import io.camunda.zeebe.backup.common.Manifest;
+import io.camunda.zeebe.backup.common.Manifest.InProgressManifest;
+import io.camunda.zeebe.backup.common.Manifest.StatusCode;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.FileAlreadyExistsException;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.BiPredicate;
+
+final class ManifestManager {
+
+  public static final String ERROR_MSG_MANIFEST_ALREADY_EXISTS =
+      "Expected to create new manifest for backup '%s', but already exists.";
+  public static final String ERROR_MSG_MANIFEST_MODIFICATION =
+      "Expected to complete manifest for backup '%s', but modification was detected unexpectedly.";
+  public static final ObjectMapper MAPPER =
+      new ObjectMapper()
+          .registerModule(new Jdk8Module())
+          .registerModule(new JavaTimeModule())
+          .disable(WRITE_DATES_AS_TIMESTAMPS)
+          .setSerializationInclusion(Include.NON_ABSENT);
+
+  /**
+   * The manifest of a backup is stored in {@code
+   * basePath/manifests/partitionId/checkpointId/nodeId/manifest.json}.
+   */
+  private static final String MANIFESTS_DIRECTORY = "manifests";
+
+  private static final String MANIFEST_FILE_NAME = "manifest.json";
+  private static final String TMP_SUFFIX = ".tmp";
+
+  private final Path manifestsRoot;
+
+  ManifestManager(final Path basePath) {
+    manifestsRoot = basePath.resolve(MANIFESTS_DIRECTORY);
+  }
+
+  InProgressManifest createInitialManifest(final Backup backup) {
+    final var manifest = Manifest.createInProgress(backup);
+    final var manifestPath = manifestPath(backup.id());
+    try {
+      Files.createDirectories(manifestPath.getParent());
+      Files.write(manifestPath, MAPPER.writeValueAsBytes(manifest), StandardOpenOption.CREATE_NEW);
+      return manifest;
+    } catch (final FileAlreadyExistsException e) {
+      throw new UnexpectedManifestState(ERROR_MSG_MANIFEST_ALREADY_EXISTS.formatted(backup.id()));
+    } catch (final IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+
+  void completeManifest(final InProgressManifest inProgressManifest) {
+    final var existing = getManifest(inProgressManifest.id());
+    if (existing == null || existing.statusCode() != StatusCode.IN_PROGRESS) {
+      throw new UnexpectedManifestState(
+          ERROR_MSG_MANIFEST_MODIFICATION.formatted(inProgressManifest.id()));
+    }
+
+    writeManifest(inProgressManifest.complete());
+  }
+
+  Manifest getManifest(final BackupIdentifier id) {
+    try {
+      return MAPPER.readValue(Files.readAllBytes(manifestPath(id)), Manifest.class);
+    } catch (final NoSuchFileException e) {
+      return null;
+    } catch (final IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+
+  void markAsFailed(final BackupIdentifier id, final String failureReason) {
+    final var existingManifest = getManifest(id);
+    if (existingManifest == null) {
+      writeManifest(Manifest.createFailed(id));
+    } else {
+      markAsFailed(existingManifest, failureReason);
+    }
+  }
+
+  void markAsFailed(final Manifest existingManifest, final String failureReason) {
+    final var updatedManifest =
+        switch (existingManifest.statusCode()) {
+          case FAILED -> existingManifest.asFailed();
+          case COMPLETED -> existingManifest.asCompleted().fail(failureReason);
+          case IN_PROGRESS -> existingManifest.asInProgress().fail(failureReason);
+        };
+
+    if (existingManifest != updatedManifest) {
+      writeManifest(updatedManifest);
+    }
+  }
+
+  Collection<Manifest> listManifests(final BackupIdentifierWildcard wildcard) {
+    if (!Files.isDirectory(manifestsRoot)) {
+      return List.of();
+    }
+
+    try (final var manifests = Files.find(manifestsRoot, 4, isManifestOf(wildcard))) {
+      return manifests.map(this::readManifest).toList();
+    } catch (final IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+
+  void deleteManifest(final BackupIdentifier id) {
+    try {
+      Files.deleteIfExists(manifestPath(id));
+    } catch (final IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+
+  private void writeManifest(final Manifest manifest) {
+    final var manifestPath = manifestPath(manifest.id());
+    try {
+      Files.createDirectories(manifestPath.getParent());
+      final var tmpPath =
+          Files.createTempFile(manifestPath.getParent(), MANIFEST_FILE_NAME, TMP_SUFFIX);
+      Files.write(tmpPath, MAPPER.writeValueAsBytes(manifest));
+      Files.move(
+          tmpPath,
+          manifestPath,
+          StandardCopyOption.ATOMIC_MOVE,
+          StandardCopyOption.REPLACE_EXISTING);
+    } catch (final IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+
+  private Manifest readManifest(final Path path) {
+    try {
+      return MAPPER.readValue(Files.readAllBytes(path), Manifest.class);
+    } catch (final IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+
+  private Path manifestPath(final BackupIdentifier id) {
+    return manifestsRoot
+        .resolve(String.valueOf(id.partitionId()))
+        .resolve(String.valueOf(id.checkpointId()))
+        .resolve(String.valueOf(id.nodeId()))
+        .resolve(MANIFEST_FILE_NAME);
+  }
+
+  private BiPredicate<Path, BasicFileAttributes> isManifestOf(
+      final BackupIdentifierWildcard wildcard) {
+    return (path, attributes) -> {
+      final var relative = manifestsRoot.relativize(path);
+      if (!attributes.isRegularFile()
+          || relative.getNameCount() != 4
+          || !relative.getFileName().toString().equals(MANIFEST_FILE_NAME)) {
+        return false;
+      }
+
+      return matches(wildcard.partitionId(), relative.getName(0))
+          && matches(wildcard.checkpointId(), relative.getName(1))
+          && matches(wildcard.nodeId(), relative.getName(2));
+    };
+  }
+
+  private static boolean matches(final Optional<? extends Number> expected, final Path actual) {
+    return expected.map(Number::toString).map(actual.toString()::equals).orElse(true);
+  }
+}
@@ -0,0 +1,158 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.backup.filesystem;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import io.camunda.zeebe.backup.api.Backup;
+import io.camunda.zeebe.backup.api.BackupStore;
+import io.camunda.zeebe.backup.common.BackupIdentifierImpl;
+import io.camunda.zeebe.backup.common.BackupImpl;
+import io.camunda.zeebe.backup.common.BackupStoreException.UnexpectedManifestState;
+import io.camunda.zeebe.backup.common.NamedFileSetImpl;
+import io.camunda.zeebe.backup.testkit.BackupStoreTestKit;
+import io.camunda.zeebe.backup.testkit.TransferringLargeBackups;
+import io.camunda.zeebe.backup.testkit.support.BackupAssert;
+import io.camunda.zeebe.backup.testkit.support.TestBackupProvider;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.util.Map;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+final class FilesystemBackupStoreTest implements BackupStoreTestKit, TransferringLargeBackups {
+
+  @TempDir private Path basePath;
+  @TempDir private Path backupDir;
+  private FilesystemBackupStore store;
+
+  @BeforeEach
+  void setup() {
+    store =
+        new FilesystemBackupStore(
+            new FilesystemBackupConfig.Builder().withBasePath(basePath.toString()).build());
+  }
+
+  @AfterEach
+  void tearDown() {
+    store.closeAsync().join();
+  }
+
+  @Override
+  public BackupStore getStore() {
+    return store;
+  }
+
+  @Override
+  public Class<? extends Exception> getBackupInInvalidStateExceptionClass() {
+    return UnexpectedManifestState.class;
+  }
+
+  @Override
+  public Class<? extends Exception> getFileNotFoundExceptionClass() {
+    return NoSuchFileException.class;
+  }
+
+  @Test
+  void shouldStoreUnchangedFilesOnlyOnce() throws IOException {
+    // given
+    final var backup = new TestBackupProvider(backupDir).simpleBackup();
+    store.save(backup).join();
+    final var objectCount = countObjects();
+
+    // when
+    store.save(withNodeId(backup, 7)).join();
+
+    // then
+    assertThat(countObjects()).isEqualTo(objectCount);
+  }
+
+  @Test
+  void shouldKeepSharedFilesWhenDeletingOneBackup(@TempDir final Path targetDir)
+      throws IOException {
+    // given
+    final var backup = new TestBackupProvider(backupDir).simpleBackup();
+    final var secondBackup = withNodeId(backup, 7);
+    store.save(backup).join();
+    store.save(secondBackup).join();
+
+    // when
+    store.delete(backup.id()).join();
+
+    // then
+    final var restored = store.restore(secondBackup.id(), targetDir).join();
+    BackupAssert.assertThatBackup(restored).hasSameContentsAs(secondBackup);
+  }
+
+  @Test
+  void shouldDeleteFilesWhenLastBackupIsDeleted() throws IOException {
+    // given
+    final var backup = new TestBackupProvider(backupDir).simpleBackup();
+    final var secondBackup = withNodeId(backup, 7);
+    store.save(backup).join();
+    store.save(secondBackup).join();
+
+    // when
+    store.delete(backup.id()).join();
+    store.delete(secondBackup.id()).join();
+
+    // then
+    assertThat(countObjects()).isZero();
+  }
+
+  @Test
+  void shouldDeleteFilesOfPartiallySavedBackup(@TempDir final Path sourceDir) throws IOException {
+    // given - a backup whose segments can only be saved in part
+    final var backup = new TestBackupProvider(backupDir).simpleBackup();
+    final var segment = Files.writeString(sourceDir.resolve("segment-1.log"), "segment");
+    final var partialBackup =
+        new BackupImpl(
+            backup.id(),
+            backup.descriptor(),
+            backup.snapshot(),
+            new NamedFileSetImpl(
+                Map.of(
+                    "segment-1.log", segment, "segment-2.log", sourceDir.resolve("missing.log"))));
+    assertThatThrownBy(() -> store.save(partialBackup).join());
+
+    // when
+    store.delete(backup.id()).join();
+
+    // then
+    assertThat(countObjects()).isZero();
+  }
+
+  private long countObjects() throws IOException {
+    final var objects = basePath.resolve("objects");
+    if (!Files.isDirectory(objects)) {
+      return 0;
+    }
+
+    try (final var files = Files.find(objects, 2, (path, attributes) -> isObject(path))) {
+      return files.count();
+    }
+  }
+
+  private static boolean isObject(final Path path) {
+    final var name = path.getFileName().toString();
+    return Files.isRegularFile(path) && name.length() == 64 && !name.contains(".");
+  }
+
+  private static Backup withNodeId(final Backup backup, final int nodeId) {
+    return new BackupImpl(
+        new BackupIdentifierImpl(nodeId, backup.id().partitionId(), backup.id().checkpointId()),
+        backup.descriptor(),
+        backup.snapshot(),
+        backup.segments());
+  }
+}
@@ -16,9 +16,11 @@ import io.camunda.zeebe.backup.testkit.support.WildcardBackupProvider;
 import io.camunda.zeebe.backup.testkit.support.WildcardBackupProvider.WildcardTestParameter;
 import java.io.IOException;
 import java.io.UncheckedIOException;
+import java.nio.file.Path;
 import java.time.Duration;
 import java.util.concurrent.CompletableFuture;
 import java.util.stream.Stream;
+import org.junit.jupiter.api.io.TempDir;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.ArgumentsSource;
 
@@ -28,9 +30,10 @@ public interface ListingBackups {
 
   @ParameterizedTest
   @ArgumentsSource(WildcardBackupProvider.class)
-  default void canFindBackupByWildcard(final WildcardTestParameter parameter) {
+  default void canFindBackupByWildcard(
+      final WildcardTestParameter parameter, @TempDir final Path backupDir) {
     // given
-    final var provider = new TestBackupProvider();
+    final var provider = new TestBackupProvider(backupDir);
 
     final var backups =
         Stream.concat(parameter.unexpectedIds().stream(), parameter.expectedIds().stream())
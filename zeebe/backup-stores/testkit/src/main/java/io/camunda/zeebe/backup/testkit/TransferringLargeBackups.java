@@ -0,0 +1,84 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.backup.testkit;
+
+import io.camunda.zeebe.backup.api.BackupStore;
+import io.camunda.zeebe.backup.common.BackupIdentifierImpl;
+import io.camunda.zeebe.backup.testkit.support.BackupAssert;
+import io.camunda.zeebe.backup.testkit.support.TestBackupProvider;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.IntStream;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * Saves and restores backups with many files of non-trivial size, and expects the store to do so
+ * within a generous timeout. This does not measure the throughput of the store; it only catches
+ * stores which are pathologically slow with many or large files, e.g. because they transfer files
+ * one by one, or cannot serve multiple partitions concurrently.
+ *
+ * <p>Not part of {@link BackupStoreTestKit}, as the transferred volume makes it unsuitable for
+ * stores backed by remote services.
+ */
+public interface TransferringLargeBackups {
+  int FILE_COUNT = 64;
+  int FILE_SIZE = 1024 * 1024;
+  Duration TIMEOUT = Duration.ofSeconds(30);
+
+  BackupStore getStore();
+
+  @Test
+  default void canSaveAndRestoreLargeBackup(
+      @TempDir final Path backupDir, @TempDir final Path targetDir) throws IOException {
+    // given
+    final var backup =
+        new TestBackupProvider(backupDir)
+            .largeBackupWithId(new BackupIdentifierImpl(1, 2, 3), FILE_COUNT, FILE_SIZE);
+
+    // when
+    final var saved = getStore().save(backup);
+    Assertions.assertThat(saved).succeedsWithin(TIMEOUT);
+    final var restored = getStore().restore(backup.id(), targetDir);
+
+    // then
+    Assertions.assertThat(restored).succeedsWithin(TIMEOUT);
+    BackupAssert.assertThatBackup(restored.join())
+        .hasSameContentsAs(backup)
+        .residesInPath(targetDir);
+  }
+
+  @Test
+  default void canSaveLargeBackupsOfManyPartitionsConcurrently(@TempDir final Path backupDir) {
+    // given
+    final var provider = new TestBackupProvider(backupDir);
+    final var backups =
+        IntStream.rangeClosed(1, 4)
+            .mapToObj(
+                partitionId -> {
+                  try {
+                    return provider.largeBackupWithId(
+                        new BackupIdentifierImpl(1, partitionId, 3), FILE_COUNT / 4, FILE_SIZE);
+                  } catch (final IOException e) {
+                    throw new RuntimeException(e);
+                  }
+                })
+            .toList();
+
+    // when
+    final var saved =
+        CompletableFuture.allOf(
+            backups.stream().map(getStore()::save).toArray(CompletableFuture[]::new));
+
+    // then
+    Assertions.assertThat(saved).succeedsWithin(TIMEOUT);
+  }
+}
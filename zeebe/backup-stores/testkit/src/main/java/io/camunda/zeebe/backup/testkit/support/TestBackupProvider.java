@@ -17,26 +17,56 @@ import io.camunda.zeebe.backup.common.BackupImpl;
 import io.camunda.zeebe.backup.common.NamedFileSetImpl;
 import java.io.IOException;
 import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.stream.Stream;
 import org.apache.commons.lang3.RandomUtils;
 import org.junit.jupiter.api.extension.ExtensionContext;
+import org.junit.jupiter.api.extension.ExtensionContext.Namespace;
+import org.junit.jupiter.api.extension.ExtensionContext.Store.CloseableResource;
 import org.junit.jupiter.params.provider.Arguments;
 import org.junit.jupiter.params.provider.ArgumentsProvider;
 
+/**
+ * Creates backups with random contents for tests. The files of each backup are written to a new
+ * directory, either within a given base directory, e.g. a {@link
+ * org.junit.jupiter.api.io.TempDir}, or within the default temporary directory. In the latter case,
+ * the directories are deleted once the test which requested the arguments completes.
+ */
 public final class TestBackupProvider implements ArgumentsProvider {
+  private static final Namespace NAMESPACE = Namespace.create(TestBackupProvider.class);
+
+  private final Path baseDirectory;
+  private final List<Path> createdDirectories = new ArrayList<>();
+
+  public TestBackupProvider() {
+    this(null);
+  }
+
+  /**
+   * @param baseDirectory the directory in which backup files are created; the caller is
+   *     responsible for deleting it
+   */
+  public TestBackupProvider(final Path baseDirectory) {
+    this.baseDirectory = baseDirectory;
+  }
 
   @Override
   public Stream<? extends Arguments> provideArguments(final ExtensionContext context)
       throws Exception {
+    context.getStore(NAMESPACE).put(this, (CloseableResource) this::deleteCreatedDirectories);
     return Stream.of(
         arguments(named("stub", simpleBackup())),
         arguments(named("stub without snapshot", backupWithoutSnapshot())));
   }
 
   public Backup backupWithoutSnapshot() throws IOException {
-    final var tempDir = Files.createTempDirectory("backup");
+    final var tempDir = createBackupDirectory();
     Files.createDirectory(tempDir.resolve("segments/"));
     final var seg1 = Files.createFile(tempDir.resolve("segments/segment-file-1"));
     final var seg2 = Files.createFile(tempDir.resolve("segments/segment-file-2"));
@@ -55,7 +85,7 @@ public final class TestBackupProvider implements ArgumentsProvider {
   }
 
   public Backup simpleBackupWithId(final BackupIdentifierImpl id) throws IOException {
-    final var tempDir = Files.createTempDirectory("backup");
+    final var tempDir = createBackupDirectory();
     Files.createDirectory(tempDir.resolve("segments/"));
     final var seg1 = Files.createFile(tempDir.resolve("segments/segment-file-1"));
     final var seg2 = Files.createFile(tempDir.resolve("segments/segment-file-2"));
@@ -76,7 +106,7 @@ public final class TestBackupProvider implements ArgumentsProvider {
   }
 
   public Backup minimalBackupWithId(final BackupIdentifierImpl id) throws IOException {
-    final var tempDir = Files.createTempDirectory("backup");
+    final var tempDir = createBackupDirectory();
     Files.createDirectory(tempDir.resolve("segments/"));
     final var seg1 = Files.createFile(tempDir.resolve("segments/segment-file-1"));
     Files.write(seg1, RandomUtils.nextBytes(1));
@@ -87,4 +117,56 @@ public final class TestBackupProvider implements ArgumentsProvider {
         new NamedFileSetImpl(Map.of()),
         new NamedFileSetImpl(Map.of("segment-file-1", seg1)));
   }
+
+  /**
+   * Creates a backup with the given number of segment and snapshot files, each filled with {@code
+   * fileSize} random bytes. Useful to measure the throughput of a store, as opposed to its latency.
+   */
+  public Backup largeBackupWithId(
+      final BackupIdentifierImpl id, final int fileCount, final int fileSize) throws IOException {
+    final var tempDir = createBackupDirectory();
+    final var segments =
+        createRandomFiles(tempDir.resolve("segments/"), "segment-file-", fileCount, fileSize);
+    final var snapshot =
+        createRandomFiles(tempDir.resolve("snapshot/"), "snapshot-file-", fileCount, fileSize);
+
+    return new BackupImpl(
+        id,
+        new BackupDescriptorImpl(Optional.of("test-snapshot-id"), 4, 5, "test"),
+        new NamedFileSetImpl(snapshot),
+        new NamedFileSetImpl(segments));
+  }
+
+  private Path createBackupDirectory() throws IOException {
+    if (baseDirectory != null) {
+      return Files.createTempDirectory(baseDirectory, "backup");
+    }
+
+    final var directory = Files.createTempDirectory("backup");
+    createdDirectories.add(directory);
+    return directory;
+  }
+
+  private void deleteCreatedDirectories() throws IOException {
+    for (final var directory : createdDirectories) {
+      try (final var files = Files.walk(directory)) {
+        for (final var file : files.sorted(Comparator.reverseOrder()).toList()) {
+          Files.deleteIfExists(file);
+        }
+      }
+    }
+    createdDirectories.clear();
+  }
+
+  private static Map<String, Path> createRandomFiles(
+      final Path directory, final String prefix, final int fileCount, final int fileSize)
+      throws IOException {
+    Files.createDirectory(directory);
+    final var files = new HashMap<String, Path>();
+    for (int i = 1; i <= fileCount; i++) {
+      final var name = prefix + i;
+      files.put(name, Files.write(directory.resolve(name), RandomUtils.nextBytes(fileSize)));
+    }
+    return files;
+  }
 }
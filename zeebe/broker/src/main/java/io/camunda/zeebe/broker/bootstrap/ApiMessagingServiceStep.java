@@ -42,7 +42,12 @@ public class ApiMessagingServiceStep extends AbstractBrokerStartupStep {
               securityCfg.getCertificateChainPath());
     }
 
-    messagingConfig.setCompressionAlgorithm(brokerCfg.getCluster().getMessageCompression());
+    final var clusterCfg = brokerCfg.getCluster();
+    messagingConfig
+        .setCompressionAlgorithm(clusterCfg.getMessageCompression())
+        .setCompressionThreshold((int) clusterCfg.getMessageCompressionThreshold().toBytes())
+        .setCompressionDictionary(clusterCfg.getMessageCompressionDictionary())
+        .setMaxMessageSize((int) brokerCfg.getNetwork().getMaxMessageSize().toBytes());
 
     final var messagingService =
         new NettyMessagingService(
@@ -32,7 +32,13 @@ public final class ClusterConfigFactory {
     final var membership = membershipConfig(cluster.getMembership());
     final var network = config.getNetwork();
 
-    final var messaging = messagingConfig(cluster, network);
+    // snapshot chunks are sent over the internal cluster messaging, and may exceed the max message
+    // size of commands and records
+    final long maxMessageSize =
+        Math.max(
+            network.getMaxMessageSize().toBytes(),
+            config.getExperimental().getRaft().getSnapshotChunkSize().toBytes());
+    final var messaging = messagingConfig(cluster, network, maxMessageSize);
     final var member = memberConfig(network.getInternalApi(), cluster.getNodeId());
 
     return new ClusterConfig()
@@ -74,10 +80,14 @@ public final class ClusterConfigFactory {
     return new BootstrapDiscoveryConfig().setNodes(nodes);
   }
 
-  private MessagingConfig messagingConfig(final ClusterCfg cluster, final NetworkCfg network) {
+  private MessagingConfig messagingConfig(
+      final ClusterCfg cluster, final NetworkCfg network, final long maxMessageSize) {
     final var messaging =
         new MessagingConfig()
             .setCompressionAlgorithm(cluster.getMessageCompression())
+            .setCompressionThreshold((int) cluster.getMessageCompressionThreshold().toBytes())
+            .setCompressionDictionary(cluster.getMessageCompressionDictionary())
+            .setMaxMessageSize((int) Math.min(maxMessageSize, Integer.MAX_VALUE))
             .setInterfaces(Collections.singletonList(network.getInternalApi().getHost()))
             .setPort(network.getInternalApi().getPort())
             .setSocketReceiveBuffer((int) network.getSocketReceiveBuffer().toBytes())
@@ -0,0 +1,275 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.broker.exporter.stream;
+
+import io.camunda.zeebe.broker.Loggers;
+import io.camunda.zeebe.db.ZeebeDb;
+import io.camunda.zeebe.logstreams.log.LogRecordAwaiter;
+import io.camunda.zeebe.logstreams.log.LogStream;
+import io.camunda.zeebe.logstreams.log.LogStreamReader;
+import io.camunda.zeebe.logstreams.log.LoggedEvent;
+import io.camunda.zeebe.protocol.impl.record.RecordMetadata;
+import io.camunda.zeebe.scheduler.Actor;
+import io.camunda.zeebe.scheduler.future.ActorFuture;
+import io.camunda.zeebe.scheduler.retry.BackOffRetryStrategy;
+import io.camunda.zeebe.scheduler.retry.EndlessRetryStrategy;
+import io.camunda.zeebe.scheduler.retry.RetryStrategy;
+import io.camunda.zeebe.stream.api.EventFilter;
+import java.time.Duration;
+import java.time.InstantSource;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
+import org.slf4j.Logger;
+
+/**
+ * Exports the log to a single exporter, with its own reader, state and actor. This is used by the
+ * {@link ExporterDirector} when exporting in parallel, such that a slow exporter does not hold back
+ * the others.
+ *
+ * <p>The exporter's position is still tracked in the {@link ExportersState}, through a transaction
+ * context which is owned by this actor. The director remains responsible for the lifecycle of the
+ * exporter, for distributing the positions, and for anything that concerns all exporters.
+ */
+final class ExporterActor extends Actor implements LogRecordAwaiter {
+
+  private static final Logger LOG = Loggers.EXPORTER_LOGGER;
+  private static final String ERROR_MESSAGE_EXPORTING_ABORTED =
+      "Expected to export record '{}' to exporter '{}' successfully, but exception was thrown.";
+  private static final String ERROR_MESSAGE_SEEK_FAILED =
+      "Expected to find event with the position %d in log stream, but nothing was found. Failed to start exporting to '%s'.";
+
+  private final AtomicBoolean isOpened = new AtomicBoolean(false);
+  private final String name;
+  private final int partitionId;
+  private final ExporterContainer container;
+  private final LogStream logStream;
+  private final ExportersState state;
+  private final ExporterMetrics metrics;
+  private final RecordExporter recordExporter;
+  private final EventFilter eventFilter;
+  private final RetryStrategy exportingRetryStrategy;
+  private final RetryStrategy recordWrapStrategy;
+  private final Consumer<Throwable> failureListener;
+
+  private LogStreamReader logStreamReader;
+  private ExporterPhase exporterPhase;
+  private boolean inExportingPhase;
+  private volatile long lastExportedPosition = -1;
+
+  ExporterActor(
+      final String name,
+      final int partitionId,
+      final ExporterContainer container,
+      final LogStream logStream,
+      final ZeebeDb zeebeDb,
+      final EventFilter eventFilter,
+      final ExporterPhase exporterPhase,
+      final ExporterMetrics metrics,
+      final InstantSource clock,
+      final Consumer<Throwable> failureListener) {
+    this.name = name;
+    this.partitionId = partitionId;
+    this.container = container;
+    this.logStream = logStream;
+    this.eventFilter = eventFilter;
+    this.exporterPhase = exporterPhase;
+    this.failureListener = failureListener;
+    state = new ExportersState(zeebeDb, zeebeDb.createContext());
+    this.metrics = metrics;
+    recordExporter = new RecordExporter(metrics, List.of(container), partitionId, clock);
+    exportingRetryStrategy = new BackOffRetryStrategy(actor, Duration.ofSeconds(10));
+    recordWrapStrategy = new EndlessRetryStrategy(actor);
+  }
+
+  @Override
+  protected Map<String, String> createContext() {
+    final var context = super.createContext();
+    context.put(ACTOR_PROP_PARTITION_ID, Integer.toString(partitionId));
+    return context;
+  }
+
+  @Override
+  public String getName() {
+    return name;
+  }
+
+  @Override
+  protected void onActorStarted() {
+    isOpened.set(true);
+    container.initContainer(actor, metrics, state, exporterPhase);
+    container.initMetadata();
+
+    final var openFuture =
+        new BackOffRetryStrategy(actor, Duration.ofSeconds(10))
+            .runWithRetry(
+                () -> {
+                  try {
+                    container.openExporter();
+                    return true;
+                  } catch (final Exception e) {
+                    LOG.error("Failed to open exporter '{}'. Retrying...", container.getId(), e);
+                    return false;
+                  }
+                },
+                this::isClosed);
+
+    // errors are caught within the runWithRetry try catch
+    actor.runOnCompletion(openFuture, (opened, error) -> startExporting());
+  }
+
+  @Override
+  protected void onActorClosing() {
+    if (logStreamReader != null) {
+      logStreamReader.close();
+    }
+    logStream.removeRecordAvailableListener(this);
+  }
+
+  @Override
+  protected void onActorCloseRequested() {
+    isOpened.set(false);
+    container.close();
+  }
+
+  @Override
+  protected void handleFailure(final Throwable failure) {
+    LOG.error("Actor '{}' failed in phase {}.", name, actor.getLifecyclePhase(), failure);
+    actor.fail(failure);
+    failureListener.accept(failure);
+  }
+
+  @Override
+  public void onRecordAvailable() {
+    actor.run(this::readNextEvent);
+  }
+
+  String getExporterId() {
+    return container.getId();
+  }
+
+  /**
+   * @return the position of the last record which was passed to the exporter, or -1 if none was
+   *     yet; can be called from any thread
+   */
+  long getLastExportedPosition() {
+    return lastExportedPosition;
+  }
+
+  ActorFuture<Void> pauseExporting() {
+    return actor.call(() -> exporterPhase = ExporterPhase.PAUSED);
+  }
+
+  ActorFuture<Void> softPauseExporting() {
+    return actor.call(
+        () -> {
+          container.softPauseExporter();
+          exporterPhase = ExporterPhase.SOFT_PAUSED;
+        });
+  }
+
+  ActorFuture<Void> resumeExporting() {
+    return actor.call(
+        () -> {
+          if (exporterPhase == ExporterPhase.SOFT_PAUSED) {
+            container.undoSoftPauseExporter();
+          }
+          exporterPhase = ExporterPhase.EXPORTING;
+          actor.submit(this::readNextEvent);
+        });
+  }
+
+  private void startExporting() {
+    if (isClosed()) {
+      return;
+    }
+
+    logStreamReader = logStream.newLogStreamReader();
+    final long position = container.getPosition();
+    if (!logStreamReader.seekToNextEvent(position)) {
+      throw new IllegalStateException(
+          String.format(ERROR_MESSAGE_SEEK_FAILED, position, container.getId()));
+    }
+
+    logStream.registerRecordAvailableListener(this);
+    if (exporterPhase != ExporterPhase.PAUSED) {
+      actor.submit(this::readNextEvent);
+    }
+  }
+
+  private void readNextEvent() {
+    if (shouldExport()) {
+      final LoggedEvent currentEvent = logStreamReader.next();
+      if (eventFilter.applies(currentEvent)) {
+        inExportingPhase = true;
+        exportEvent(currentEvent);
+      } else {
+        skipRecord(currentEvent);
+      }
+    }
+  }
+
+  private boolean shouldExport() {
+    return isOpened.get()
+        && logStreamReader != null
+        && logStreamReader.hasNext()
+        && !inExportingPhase
+        && exporterPhase != ExporterPhase.PAUSED;
+  }
+
+  private void skipRecord(final LoggedEvent currentEvent) {
+    final RecordMetadata metadata = new RecordMetadata();
+    currentEvent.readMetadata(metadata);
+    metrics.eventSkipped(metadata.getValueType());
+
+    container.updatePositionOnSkipIfUpToDate(currentEvent.getPosition());
+    lastExportedPosition = currentEvent.getPosition();
+    actor.submit(this::readNextEvent);
+  }
+
+  private void exportEvent(final LoggedEvent event) {
+    final ActorFuture<Boolean> wrapRetryFuture =
+        recordWrapStrategy.runWithRetry(
+            () -> {
+              recordExporter.wrap(event);
+              return true;
+            },
+            this::isClosed);
+
+    actor.runOnCompletion(
+        wrapRetryFuture,
+        (b, t) -> {
+          assert t == null : "Throwable must be null";
+
+          final ActorFuture<Boolean> retryFuture =
+              exportingRetryStrategy.runWithRetry(recordExporter::export, this::isClosed);
+
+          actor.runOnCompletion(
+              retryFuture,
+              (bool, throwable) -> {
+                if (throwable != null) {
+                  LOG.error(ERROR_MESSAGE_EXPORTING_ABORTED, event, container.getId(), throwable);
+                  isOpened.set(false);
+                  actor.close();
+                  failureListener.accept(throwable);
+                } else {
+                  final var typedEvent = recordExporter.getTypedEvent();
+                  lastExportedPosition = typedEvent.getPosition();
+                  metrics.eventExported(typedEvent.getValueType());
+                  inExportingPhase = false;
+                  actor.submit(this::readNextEvent);
+                }
+              });
+        });
+  }
+
+  private boolean isClosed() {
+    return !isOpened.get();
+  }
+}
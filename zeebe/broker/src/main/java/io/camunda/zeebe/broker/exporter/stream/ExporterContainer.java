@@ -16,7 +16,6 @@ import io.camunda.zeebe.exporter.api.context.Context;
 import io.camunda.zeebe.exporter.api.context.Controller;
 import io.camunda.zeebe.exporter.api.context.ScheduledTask;
 import io.camunda.zeebe.protocol.impl.record.RecordMetadata;
-import io.camunda.zeebe.protocol.record.Record;
 import io.camunda.zeebe.scheduler.ActorControl;
 import io.camunda.zeebe.stream.api.records.TypedRecord;
 import io.camunda.zeebe.util.buffer.BufferUtil;
@@ -26,6 +25,7 @@ import java.time.Duration;
 import java.time.InstantSource;
 import java.util.Optional;
 import org.agrona.DirectBuffer;
+import org.agrona.collections.LongArrayQueue;
 import org.slf4j.Logger;
 
 @SuppressWarnings("java:S112") // allow generic exception when calling Exporter#configure
@@ -33,6 +33,9 @@ final class ExporterContainer implements Controller {
 
   private static final Logger LOG = Loggers.EXPORTER_LOGGER;
 
+  // bounds the memory used to track the lag of exporters which rarely acknowledge their position
+  private static final int MAX_TRACKED_UNACKNOWLEDGED_RECORDS = 1 << 16;
+
   private static final String SKIP_POSITION_UPDATE_ERROR_MESSAGE =
       "Failed to update exporter position when skipping filtered record, can be skipped, but may indicate an issue if it occurs often";
 
@@ -48,6 +51,13 @@ final class ExporterContainer implements Controller {
   private ActorControl actor;
   private final ExporterInitializationInfo initializationInfo;
 
+  // positions and lengths of the records passed to the exporter which it did not acknowledge yet
+  private final LongArrayQueue unacknowledgedPositions = new LongArrayQueue();
+  private final LongArrayQueue unacknowledgedLengths = new LongArrayQueue();
+  private long unacknowledgedBytes;
+  // bytes of unacknowledged records which are not tracked per record anymore
+  private long untrackedUnacknowledgedBytes;
+
   ExporterContainer(
       final ExporterDescriptor descriptor,
       final int partitionId,
@@ -169,6 +179,7 @@ final class ExporterContainer implements Controller {
         position = eventPosition;
       }
     }
+    releaseAcknowledged(eventPosition);
   }
 
   @Override
@@ -240,10 +251,47 @@ final class ExporterContainer implements Controller {
     updateExporterState(lastAcknowledgedPosition, lastExportedMetadata);
   }
 
-  private void export(final Record<?> record) {
+  private void export(final TypedRecord<?> record) {
     ThreadContextUtil.runWithClassLoader(
         () -> exporter.export(record), exporter.getClass().getClassLoader());
     lastUnacknowledgedPosition = record.getPosition();
+    trackUnacknowledged(record.getPosition(), record.getLength());
+  }
+
+  private void trackUnacknowledged(final long recordPosition, final int length) {
+    if (unacknowledgedPositions.size() == MAX_TRACKED_UNACKNOWLEDGED_RECORDS) {
+      unacknowledgedPositions.pollLong();
+      untrackedUnacknowledgedBytes += unacknowledgedLengths.pollLong();
+    }
+    unacknowledgedPositions.offerLong(recordPosition);
+    unacknowledgedLengths.offerLong(length);
+    unacknowledgedBytes += length;
+    updateLagMetrics();
+  }
+
+  private void releaseAcknowledged(final long acknowledgedPosition) {
+    if (unacknowledgedPositions.isEmpty()
+        || unacknowledgedPositions.peekLong() > acknowledgedPosition) {
+      return;
+    }
+
+    // all untracked records are older than the oldest tracked one
+    unacknowledgedBytes -= untrackedUnacknowledgedBytes;
+    untrackedUnacknowledgedBytes = 0;
+    while (!unacknowledgedPositions.isEmpty()
+        && unacknowledgedPositions.peekLong() <= acknowledgedPosition) {
+      unacknowledgedPositions.pollLong();
+      unacknowledgedBytes -= unacknowledgedLengths.pollLong();
+    }
+    updateLagMetrics();
+  }
+
+  private void updateLagMetrics() {
+    final long acknowledgedPosition = Math.max(position, lastAcknowledgedPosition);
+    metrics.setExporterLag(
+        getId(),
+        Math.max(0, lastUnacknowledgedPosition - acknowledgedPosition),
+        unacknowledgedBytes);
   }
 
   public void close() {
@@ -39,6 +39,7 @@ import java.time.Duration;
 import java.time.InstantSource;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
@@ -57,6 +58,7 @@ public final class ExporterDirector extends Actor implements HealthMonitorable,
   private static final String ERROR_MESSAGE_RECOVER_FROM_SNAPSHOT_FAILED =
       "Expected to find event with the snapshot position %s in log stream, but nothing was found. Failed to recover '%s'.";
   private static final String EXPORTER_STATE_TOPIC_FORMAT = "exporterState-%d";
+  private static final Duration FLOW_CONTROL_UPDATE_INTERVAL = Duration.ofMillis(100);
 
   private static final Logger LOG = Loggers.EXPORTER_LOGGER;
   private final AtomicBoolean isOpened = new AtomicBoolean(false);
@@ -93,6 +95,14 @@ public final class ExporterDirector extends Actor implements HealthMonitorable,
   // The actor is still running, but it is not actively doing any work.
   private boolean idle;
   private final InstantSource clock;
+  // When exporting in parallel, each exporter is exported to by its own actor, which reads the log
+  // on its own; the director then only manages their lifecycle and distributes the positions.
+  private final boolean parallelExporting;
+  private final Map<String, ExporterActor> exporterActors = new HashMap<>();
+  // kept across exporter actors, as the per exporter gauges can only be registered once
+  private final Map<String, ExporterMetrics> exporterActorMetrics = new HashMap<>();
+  private ActorSchedulingService actorSchedulingService;
+  private ScheduledTimer flowControlTimer;
 
   public ExporterDirector(
       final ExporterDirectorContext context, final ExporterPhase exporterPhase) {
@@ -124,13 +134,15 @@ public final class ExporterDirector extends Actor implements HealthMonitorable,
     exporterMode = context.getExporterMode();
     distributionInterval = context.getDistributionInterval();
     positionsToSkipFilter = context.getPositionsToSkipFilter();
+    parallelExporting = context.isParallelExporting() && exporterMode == ExporterMode.ACTIVE;
 
     // needs name to be initialized
     healthReport = HealthReport.healthy(this);
   }
 
   public ActorFuture<Void> startAsync(final ActorSchedulingService actorSchedulingService) {
-    return actorSchedulingService.submitActor(this, SchedulingHints.ioBound());
+    this.actorSchedulingService = actorSchedulingService;
+    return actorSchedulingService.submitActor(this, SchedulingHints.blocking());
   }
 
   public ActorFuture<Void> stopAsync() {
@@ -151,11 +163,12 @@ public final class ExporterDirector extends Actor implements HealthMonitorable,
       // are added.
       return CompletableActorFuture.completed(null);
     }
-    return actor.call(
+    return callAndForwardToExporterActors(
         () -> {
           metrics.setExporterPaused();
           exporterPhase = ExporterPhase.PAUSED;
-        });
+        },
+        ExporterActor::pauseExporting);
   }
 
   /**
@@ -173,12 +186,15 @@ public final class ExporterDirector extends Actor implements HealthMonitorable,
       // are added.
       return CompletableActorFuture.completed(null);
     }
-    return actor.call(
+    return callAndForwardToExporterActors(
         () -> {
-          containers.stream().forEach(ExporterContainer::softPauseExporter);
+          if (!parallelExporting) {
+            containers.stream().forEach(ExporterContainer::softPauseExporter);
+          }
           exporterPhase = ExporterPhase.SOFT_PAUSED;
           metrics.setExporterSoftPaused();
-        });
+        },
+        ExporterActor::softPauseExporting);
   }
 
   /**
@@ -194,17 +210,48 @@ public final class ExporterDirector extends Actor implements HealthMonitorable,
       return CompletableActorFuture.completed(null);
     }
 
-    return actor.call(
+    return callAndForwardToExporterActors(
         () -> {
-          if (exporterPhase == ExporterPhase.SOFT_PAUSED) {
+          if (exporterPhase == ExporterPhase.SOFT_PAUSED && !parallelExporting) {
             containers.stream().forEach(ExporterContainer::undoSoftPauseExporter);
           }
           exporterPhase = ExporterPhase.EXPORTING;
           metrics.setExporterActive();
-          if (exporterMode == ExporterMode.ACTIVE) {
+          if (exporterMode == ExporterMode.ACTIVE && !parallelExporting) {
             actor.submit(this::readNextEvent);
           }
+        },
+        ExporterActor::resumeExporting);
+  }
+
+  /**
+   * Runs the given operation on this actor, and then the given one on each exporter actor. The
+   * returned future is completed once all exporter actors completed theirs as well.
+   */
+  private ActorFuture<Void> callAndForwardToExporterActors(
+      final Runnable operation, final Function<ExporterActor, ActorFuture<Void>> forward) {
+    final var result = new CompletableActorFuture<Void>();
+    actor.run(
+        () -> {
+          try {
+            operation.run();
+          } catch (final Exception e) {
+            result.completeExceptionally(e);
+            return;
+          }
+
+          final var futures = exporterActors.values().stream().map(forward).toList();
+          actor.runOnCompletion(
+              futures,
+              error -> {
+                if (error == null) {
+                  result.complete(null);
+                } else {
+                  result.completeExceptionally(error);
+                }
+              });
         });
+    return result;
   }
 
   /**
@@ -232,7 +279,19 @@ public final class ExporterDirector extends Actor implements HealthMonitorable,
   }
 
   private void removeExporter(final String exporterId, final ExporterContainer container) {
-    container.close();
+    final var exporterActor = exporterActors.remove(exporterId);
+    if (exporterActor != null) {
+      // the exporter actor owns the container, and may update its position until it is closed
+      actor.runOnCompletionBlockingCurrentPhase(
+          exporterActor.closeAsync(),
+          (ok, error) -> removeClosedExporter(exporterId, container));
+    } else {
+      container.close();
+      removeClosedExporter(exporterId, container);
+    }
+  }
+
+  private void removeClosedExporter(final String exporterId, final ExporterContainer container) {
     containers.remove(container);
     state.removeExporterState(exporterId);
     // After removing this exporter, the exporter index has changed. Reset it so that we don't
@@ -323,7 +382,9 @@ public final class ExporterDirector extends Actor implements HealthMonitorable,
     }
     // initializes metadata and position in the runtime state
     container.initMetadata();
-    if (exporterMode == ExporterMode.ACTIVE) {
+    if (parallelExporting) {
+      startExporterActor(container);
+    } else if (exporterMode == ExporterMode.ACTIVE) {
       container.openExporter();
     }
     containers.add(container);
@@ -355,7 +416,7 @@ public final class ExporterDirector extends Actor implements HealthMonitorable,
 
   @Override
   protected void onActorStarting() {
-    if (exporterMode == ExporterMode.ACTIVE) {
+    if (exporterMode == ExporterMode.ACTIVE && !parallelExporting) {
       logStreamReader = logStream.newLogStreamReader();
     }
   }
@@ -383,7 +444,9 @@ public final class ExporterDirector extends Actor implements HealthMonitorable,
     // remove exporters from state
     // which are no longer in our configuration
     clearExporterState();
-    if (exporterMode == ExporterMode.ACTIVE) {
+    if (parallelExporting) {
+      startParallelExportingMode();
+    } else if (exporterMode == ExporterMode.ACTIVE) {
       startActiveExportingMode();
     } else { // PASSIVE, we consume the messages and set it in our state
       startPassiveExportingMode();
@@ -407,7 +470,9 @@ public final class ExporterDirector extends Actor implements HealthMonitorable,
   @Override
   protected void onActorCloseRequested() {
     isOpened.set(false);
-    if (exporterMode == ExporterMode.ACTIVE) {
+    if (parallelExporting) {
+      closeExporterActors();
+    } else if (exporterMode == ExporterMode.ACTIVE) {
       containers.forEach(ExporterContainer::close);
     } else {
       exporterDistributionService.close();
@@ -423,6 +488,7 @@ public final class ExporterDirector extends Actor implements HealthMonitorable,
         failure,
         failure);
     actor.fail(failure);
+    exporterActors.values().forEach(ExporterActor::closeAsync);
 
     if (failure instanceof UnrecoverableException) {
       healthReport = HealthReport.dead(this).withIssue(failure, clock.instant());
@@ -503,6 +569,10 @@ public final class ExporterDirector extends Actor implements HealthMonitorable,
       exporterDistributionTimer.cancel();
       exporterDistributionTimer = null;
     }
+    if (flowControlTimer != null) {
+      flowControlTimer.cancel();
+      flowControlTimer = null;
+    }
     if (logStreamReader != null) {
       // We have to close it, otherwise it will prevent journal segment deletion
       logStreamReader.close();
@@ -512,7 +582,9 @@ public final class ExporterDirector extends Actor implements HealthMonitorable,
 
   private void becomeLive() {
     LOG.debug("New exporters are configured. Restart exporting.");
-    if (exporterMode == ExporterMode.ACTIVE) {
+    if (parallelExporting) {
+      startParallelExportingTimers();
+    } else if (exporterMode == ExporterMode.ACTIVE) {
       restartActiveExportingMode();
     } else {
       restartPassiveExportingMode();
@@ -575,6 +647,63 @@ public final class ExporterDirector extends Actor implements HealthMonitorable,
         actor.runAtFixedRate(distributionInterval, this::distributeExporterState);
   }
 
+  private void startParallelExportingMode() {
+    if (containers.isEmpty()) {
+      becomeIdle();
+      return;
+    }
+
+    containers.forEach(this::startExporterActor);
+    startParallelExportingTimers();
+  }
+
+  private void startExporterActor(final ExporterContainer container) {
+    final var exporterActor =
+        new ExporterActor(
+            name + "-" + container.getId(),
+            partitionId,
+            container,
+            logStream,
+            zeebeDb,
+            positionsToSkipFilter.and(createEventFilter(List.of(container))),
+            exporterPhase,
+            exporterActorMetrics.computeIfAbsent(
+                container.getId(), id -> new ExporterMetrics(meterRegistry)),
+            clock,
+            failure -> actor.run(() -> handleFailure(failure)));
+    exporterActors.put(container.getId(), exporterActor);
+    actorSchedulingService.submitActor(exporterActor, SchedulingHints.blocking());
+  }
+
+  private void startParallelExportingTimers() {
+    exporterDistributionTimer =
+        actor.runAtFixedRate(distributionInterval, this::distributeExporterState);
+    // flow control is not thread safe, and is only interested in the slowest exporter anyway
+    flowControlTimer = actor.runAtFixedRate(FLOW_CONTROL_UPDATE_INTERVAL, this::updateFlowControl);
+  }
+
+  private void updateFlowControl() {
+    final var slowestPosition =
+        exporterActors.values().stream().mapToLong(ExporterActor::getLastExportedPosition).min();
+    // -1 means that an exporter did not export anything yet, so there is no progress to report
+    if (slowestPosition.isPresent() && slowestPosition.getAsLong() != -1) {
+      logStream.getFlowControl().onExported(slowestPosition.getAsLong());
+    }
+  }
+
+  private void closeExporterActors() {
+    for (final var exporterActor : exporterActors.values()) {
+      actor.runOnCompletionBlockingCurrentPhase(
+          exporterActor.closeAsync(),
+          (ok, error) -> {
+            if (error != null) {
+              LOG.warn("Failed to close exporter actor '{}'", exporterActor.getName(), error);
+            }
+          });
+    }
+    exporterActors.clear();
+  }
+
   private void startPassiveExportingMode() {
     // Only initialize the positions, do not open and start exporting
     for (final ExporterContainer container : containers) {
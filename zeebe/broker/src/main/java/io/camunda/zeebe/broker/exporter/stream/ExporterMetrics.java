@@ -31,6 +31,8 @@ public final class ExporterMetrics {
 
   private final Map<String, AtomicLong> lastExportedPositions = new HashMap<>();
   private final Map<String, AtomicLong> lastUpdatedExportedPositions = new HashMap<>();
+  private final Map<String, AtomicLong> lagRecords = new HashMap<>();
+  private final Map<String, AtomicLong> lagBytes = new HashMap<>();
   private final AtomicInteger exporterState = new AtomicInteger();
   private final Map<ValueType, Timer> exportingLatency = new HashMap<>();
   private final Table<String, ValueType, Timer> exporterExportingDuration = Table.simple();
@@ -81,6 +83,19 @@ public final class ExporterMetrics {
         .set(position);
   }
 
+  public void setExporterLag(final String exporter, final long records, final long bytes) {
+    lagRecords
+        .computeIfAbsent(
+            exporter,
+            id -> registerPerExporterGauge(ExporterMetricsDoc.EXPORTER_LAG_RECORDS, id, records))
+        .set(records);
+    lagBytes
+        .computeIfAbsent(
+            exporter,
+            id -> registerPerExporterGauge(ExporterMetricsDoc.EXPORTER_LAG_BYTES, id, bytes))
+        .set(bytes);
+  }
+
   public void exportingLatency(
       final ValueType valueType, final long written, final long exporting) {
     exportingLatency
@@ -134,13 +149,13 @@ public final class ExporterMetrics {
   private AtomicLong registerPerExporterGauge(
       final ExtendedMeterDocumentation meterDoc,
       final String exporterId,
-      final long initialPosition) {
-    final var position = new AtomicLong(initialPosition);
-    Gauge.builder(meterDoc.getName(), position, Number::longValue)
+      final long initialValue) {
+    final var value = new AtomicLong(initialValue);
+    Gauge.builder(meterDoc.getName(), value, Number::longValue)
         .tag(LABEL_NAME_EXPORTER, exporterId)
         .description(meterDoc.getDescription())
         .register(meterRegistry);
-    return position;
+    return value;
   }
 
   private Timer registerExportingDuration(final String exporterId, final ValueType valueType) {
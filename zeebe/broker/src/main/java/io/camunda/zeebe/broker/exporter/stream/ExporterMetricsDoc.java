@@ -112,6 +112,47 @@ public enum ExporterMetricsDoc implements ExtendedMeterDocumentation {
     }
   },
 
+  /**
+   * The number of log positions an exporter is behind, between the last record passed to it and
+   * the last position it acknowledged
+   */
+  EXPORTER_LAG_RECORDS {
+    @Override
+    public String getName() {
+      return "zeebe.exporter.lag.records";
+    }
+
+    @Override
+    public Meter.Type getType() {
+      return Type.GAUGE;
+    }
+
+    @Override
+    public String getDescription() {
+      return """
+        The number of log positions between the last record passed to the exporter and the last \
+        position it acknowledged""";
+    }
+  },
+
+  /** The size of the records passed to an exporter which it did not acknowledge yet (in bytes) */
+  EXPORTER_LAG_BYTES {
+    @Override
+    public String getName() {
+      return "zeebe.exporter.lag.bytes";
+    }
+
+    @Override
+    public Meter.Type getType() {
+      return Type.GAUGE;
+    }
+
+    @Override
+    public String getDescription() {
+      return "The size of the records passed to the exporter which it did not acknowledge yet";
+    }
+  },
+
   /** Number of events processed by exporter by action (see {@link ExporterActionKeyNames} */
   EXPORTER_EVENTS {
     @Override
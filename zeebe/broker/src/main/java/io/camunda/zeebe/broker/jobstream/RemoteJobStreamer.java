@@ -11,7 +11,9 @@ import io.atomix.cluster.messaging.ClusterEventService;
 import io.camunda.zeebe.engine.processing.streamprocessor.JobStreamer;
 import io.camunda.zeebe.protocol.impl.stream.job.ActivatedJob;
 import io.camunda.zeebe.protocol.impl.stream.job.JobActivationProperties;
+import io.camunda.zeebe.transport.stream.api.RemoteStreamCreditsListener;
 import io.camunda.zeebe.transport.stream.api.RemoteStreamer;
+import io.camunda.zeebe.util.buffer.BufferUtil;
 import java.util.Optional;
 import java.util.function.Predicate;
 import org.agrona.DirectBuffer;
@@ -29,8 +31,23 @@ public final class RemoteJobStreamer implements JobStreamer {
     this.eventService = eventService;
   }
 
+  /**
+   * Returns a listener which notifies that jobs of a type are available, once a job stream of that
+   * type has credits again. While all streams of a type are out of credits, jobs are not pushed but
+   * stay activatable, and would otherwise only be picked up by the next poll.
+   */
+  public static RemoteStreamCreditsListener creditsListener(
+      final ClusterEventService eventService) {
+    return streamType -> notifyWorkAvailable(eventService, BufferUtil.bufferAsString(streamType));
+  }
+
   @Override
   public void notifyWorkAvailable(final String jobType) {
+    notifyWorkAvailable(eventService, jobType);
+  }
+
+  private static void notifyWorkAvailable(
+      final ClusterEventService eventService, final String jobType) {
     eventService.broadcast(JOBS_AVAILABLE_TOPIC, jobType);
   }
 
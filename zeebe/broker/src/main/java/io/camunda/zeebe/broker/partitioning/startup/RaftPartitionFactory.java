@@ -12,11 +12,13 @@ import io.atomix.raft.partition.RaftPartition;
 import io.atomix.raft.partition.RaftPartitionConfig;
 import io.atomix.raft.partition.RaftStorageConfig;
 import io.atomix.raft.storage.log.DelayedFlusher;
+import io.atomix.raft.storage.log.GroupCommitFlusher;
 import io.atomix.raft.storage.log.RaftLogFlusher;
 import io.camunda.zeebe.broker.Loggers;
 import io.camunda.zeebe.broker.raft.ZeebeEntryValidator;
 import io.camunda.zeebe.broker.system.configuration.BrokerCfg;
 import io.camunda.zeebe.broker.system.configuration.ExperimentalCfg;
+import io.camunda.zeebe.broker.system.configuration.ExperimentalRaftCfg;
 import io.camunda.zeebe.broker.system.configuration.RaftCfg.FlushConfig;
 import io.camunda.zeebe.util.FileUtil;
 import java.io.IOException;
@@ -79,6 +81,17 @@ public final class RaftPartitionFactory {
     storageConfig.setJournalIndexDensity(brokerCfg.getData().getLogIndexDensity());
     storageConfig.setPreallocateSegmentFiles(
         brokerCfg.getExperimental().getRaft().isPreallocateSegmentFiles());
+    if (isGroupCommitEnabled(brokerCfg.getExperimental().getRaft())) {
+      storageConfig.setMaxFlushDelay(brokerCfg.getExperimental().getRaft().getMaxFlushDelay());
+      storageConfig.setMaxFlushBytes(
+          brokerCfg.getExperimental().getRaft().getMaxFlushBytes().toBytes());
+    }
+    storageConfig.setPreparedSegments(brokerCfg.getExperimental().getRaft().getPreparedSegments());
+    storageConfig.setRecycleSegmentFiles(
+        brokerCfg.getExperimental().getRaft().isRecycleSegmentFiles());
+    storageConfig.setZeroCopyReads(brokerCfg.getExperimental().getRaft().isZeroCopyReads());
+    storageConfig.setPrimitiveJournalIndex(
+        brokerCfg.getExperimental().getRaft().isPrimitiveJournalIndex());
 
     partitionConfig.setStorageConfig(storageConfig);
     partitionConfig.setEntryValidator(new ZeebeEntryValidator());
@@ -86,6 +99,8 @@ public final class RaftPartitionFactory {
         (int) brokerCfg.getExperimental().getMaxAppendBatchSizeInBytes());
     partitionConfig.setMaxAppendsPerFollower(
         brokerCfg.getExperimental().getMaxAppendsPerFollower());
+    partitionConfig.setAdaptiveReplicationEnabled(
+        brokerCfg.getExperimental().getRaft().isAdaptiveReplicationEnabled());
     partitionConfig.setPriorityElectionEnabled(
         brokerCfg.getCluster().getRaft().isEnablePriorityElection());
     partitionConfig.setElectionTimeout(brokerCfg.getCluster().getElectionTimeout());
@@ -114,9 +129,28 @@ public final class RaftPartitionFactory {
       return createFlusherFactory(new FlushConfig(false, Duration.ZERO));
     }
 
+    if (config.enabled() && isGroupCommitEnabled(experimental.getRaft())) {
+      final Duration maxFlushDelay = experimental.getRaft().getMaxFlushDelay();
+      Loggers.RAFT.warn(
+          """
+            Raft group commit is enabled. Records are acknowledged and committed before they are
+            flushed, and may be lost if a majority of the brokers crash within {}. Make sure to
+            read the documentation regarding this feature.""",
+          maxFlushDelay);
+      return threadFactory -> new GroupCommitFlusher(threadFactory.createContext(), maxFlushDelay);
+    }
+
     return createFlusherFactory(config);
   }
 
+  /**
+   * Group commit is only enabled with a max flush delay, as it guarantees that the last appended
+   * records are eventually flushed; the max flush bytes only apply in addition to it.
+   */
+  private boolean isGroupCommitEnabled(final ExperimentalRaftCfg raftCfg) {
+    return raftCfg.getMaxFlushDelay().isPositive();
+  }
+
   private RaftLogFlusher.Factory createFlusherFactory(final FlushConfig config) {
     if (config.enabled()) {
       final Duration delayTime = config.delayTime();
@@ -24,6 +24,13 @@ public final class ExperimentalRaftCfg implements ConfigurationEntry {
   private static final int DEFAULT_MIN_STEP_DOWN_FAILURE_COUNT = 3;
   private static final int DEFAULT_PREFER_SNAPSHOT_REPLICATION_THRESHOLD = 100;
   private static final boolean DEFAULT_PREALLOCATE_SEGMENT_FILES = true;
+  private static final boolean DEFAULT_ADAPTIVE_REPLICATION_ENABLED = false;
+  private static final Duration DEFAULT_MAX_FLUSH_DELAY = Duration.ZERO;
+  private static final DataSize DEFAULT_MAX_FLUSH_BYTES = DataSize.ofBytes(0);
+  private static final int DEFAULT_PREPARED_SEGMENTS = 1;
+  private static final boolean DEFAULT_RECYCLE_SEGMENT_FILES = false;
+  private static final boolean DEFAULT_ZERO_COPY_READS = false;
+  private static final boolean DEFAULT_PRIMITIVE_JOURNAL_INDEX = false;
   private Duration requestTimeout = DEFAULT_REQUEST_TIMEOUT;
   private Duration snapshotRequestTimeout = DEFAULT_SNAPSHOT_REQUEST_TIMEOUT;
   private DataSize snapshotChunkSize = DEFAULT_SNAPSHOT_CHUNK_SIZE;
@@ -33,6 +40,13 @@ public final class ExperimentalRaftCfg implements ConfigurationEntry {
   private int preferSnapshotReplicationThreshold = DEFAULT_PREFER_SNAPSHOT_REPLICATION_THRESHOLD;
 
   private boolean preallocateSegmentFiles = DEFAULT_PREALLOCATE_SEGMENT_FILES;
+  private boolean adaptiveReplicationEnabled = DEFAULT_ADAPTIVE_REPLICATION_ENABLED;
+  private Duration maxFlushDelay = DEFAULT_MAX_FLUSH_DELAY;
+  private DataSize maxFlushBytes = DEFAULT_MAX_FLUSH_BYTES;
+  private int preparedSegments = DEFAULT_PREPARED_SEGMENTS;
+  private boolean recycleSegmentFiles = DEFAULT_RECYCLE_SEGMENT_FILES;
+  private boolean zeroCopyReads = DEFAULT_ZERO_COPY_READS;
+  private boolean primitiveJournalIndex = DEFAULT_PRIMITIVE_JOURNAL_INDEX;
 
   public Duration getRequestTimeout() {
     return requestTimeout;
@@ -97,4 +111,60 @@ public final class ExperimentalRaftCfg implements ConfigurationEntry {
   public void setPreallocateSegmentFiles(final boolean preallocateSegmentFiles) {
     this.preallocateSegmentFiles = preallocateSegmentFiles;
   }
+
+  public boolean isAdaptiveReplicationEnabled() {
+    return adaptiveReplicationEnabled;
+  }
+
+  public void setAdaptiveReplicationEnabled(final boolean adaptiveReplicationEnabled) {
+    this.adaptiveReplicationEnabled = adaptiveReplicationEnabled;
+  }
+
+  public Duration getMaxFlushDelay() {
+    return maxFlushDelay;
+  }
+
+  public void setMaxFlushDelay(final Duration maxFlushDelay) {
+    this.maxFlushDelay = maxFlushDelay;
+  }
+
+  public DataSize getMaxFlushBytes() {
+    return maxFlushBytes;
+  }
+
+  public void setMaxFlushBytes(final DataSize maxFlushBytes) {
+    this.maxFlushBytes = maxFlushBytes;
+  }
+
+  public int getPreparedSegments() {
+    return preparedSegments;
+  }
+
+  public void setPreparedSegments(final int preparedSegments) {
+    this.preparedSegments = preparedSegments;
+  }
+
+  public boolean isRecycleSegmentFiles() {
+    return recycleSegmentFiles;
+  }
+
+  public void setRecycleSegmentFiles(final boolean recycleSegmentFiles) {
+    this.recycleSegmentFiles = recycleSegmentFiles;
+  }
+
+  public boolean isZeroCopyReads() {
+    return zeroCopyReads;
+  }
+
+  public void setZeroCopyReads(final boolean zeroCopyReads) {
+    this.zeroCopyReads = zeroCopyReads;
+  }
+
+  public boolean isPrimitiveJournalIndex() {
+    return primitiveJournalIndex;
+  }
+
+  public void setPrimitiveJournalIndex(final boolean primitiveJournalIndex) {
+    this.primitiveJournalIndex = primitiveJournalIndex;
+  }
 }
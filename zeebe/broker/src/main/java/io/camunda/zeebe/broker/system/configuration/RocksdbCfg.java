@@ -9,9 +9,11 @@ package io.camunda.zeebe.broker.system.configuration;
 
 import io.camunda.zeebe.db.AccessMetricsConfiguration;
 import io.camunda.zeebe.db.impl.rocksdb.RocksDbConfiguration;
+import io.camunda.zeebe.db.impl.rocksdb.RocksDbConfiguration.TransactionMode;
 import java.util.Map.Entry;
 import java.util.Objects;
 import java.util.Properties;
+import java.util.Set;
 import java.util.regex.Pattern;
 import org.springframework.util.unit.DataSize;
 
@@ -28,6 +30,10 @@ public final class RocksdbCfg implements ConfigurationEntry {
   private int ioRateBytesPerSecond = RocksDbConfiguration.DEFAULT_IO_RATE_BYTES_PER_SECOND;
   private boolean disableWal = RocksDbConfiguration.DEFAULT_WAL_DISABLED;
   private boolean enableSstPartitioning = RocksDbConfiguration.DEFAULT_SST_PARTITIONING_ENABLED;
+  private TransactionMode transactionMode = RocksDbConfiguration.DEFAULT_TRANSACTION_MODE;
+  private Set<String> cachedColumnFamilies = Set.of();
+  private DataSize columnFamilyCacheMemoryLimit =
+      DataSize.ofBytes(RocksDbConfiguration.DEFAULT_COLUMN_FAMILY_CACHE_MEMORY_LIMIT);
 
   @Override
   public void init(final BrokerCfg globalConfig, final String brokerBase) {
@@ -121,6 +127,30 @@ public final class RocksdbCfg implements ConfigurationEntry {
     this.enableSstPartitioning = enableSstPartitioning;
   }
 
+  public TransactionMode getTransactionMode() {
+    return transactionMode;
+  }
+
+  public void setTransactionMode(final TransactionMode transactionMode) {
+    this.transactionMode = transactionMode;
+  }
+
+  public Set<String> getCachedColumnFamilies() {
+    return cachedColumnFamilies;
+  }
+
+  public void setCachedColumnFamilies(final Set<String> cachedColumnFamilies) {
+    this.cachedColumnFamilies = cachedColumnFamilies;
+  }
+
+  public DataSize getColumnFamilyCacheMemoryLimit() {
+    return columnFamilyCacheMemoryLimit;
+  }
+
+  public void setColumnFamilyCacheMemoryLimit(final DataSize columnFamilyCacheMemoryLimit) {
+    this.columnFamilyCacheMemoryLimit = columnFamilyCacheMemoryLimit;
+  }
+
   public AccessMetricsConfiguration.Kind getAccessMetrics() {
     return accessMetrics;
   }
@@ -139,7 +169,10 @@ public final class RocksdbCfg implements ConfigurationEntry {
         .setStatisticsEnabled(enableStatistics)
         .setIoRateBytesPerSecond(ioRateBytesPerSecond)
         .setWalDisabled(disableWal)
-        .setSstPartitioningEnabled(enableSstPartitioning);
+        .setSstPartitioningEnabled(enableSstPartitioning)
+        .setTransactionMode(transactionMode)
+        .setCachedColumnFamilies(cachedColumnFamilies)
+        .setColumnFamilyCacheMemoryLimit(columnFamilyCacheMemoryLimit.toBytes());
   }
 
   @Override
@@ -165,6 +198,12 @@ public final class RocksdbCfg implements ConfigurationEntry {
         + disableWal
         + ", enableSstPartitioning="
         + enableSstPartitioning
+        + ", transactionMode="
+        + transactionMode
+        + ", cachedColumnFamilies="
+        + cachedColumnFamilies
+        + ", columnFamilyCacheMemoryLimit="
+        + columnFamilyCacheMemoryLimit
         + '}';
   }
 
@@ -0,0 +1,173 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.broker.exporter.stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.after;
+import static org.mockito.Mockito.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.verify;
+
+import io.camunda.zeebe.broker.exporter.repo.ExporterDescriptor;
+import io.camunda.zeebe.broker.exporter.util.ControlledTestExporter;
+import io.camunda.zeebe.protocol.impl.record.value.deployment.DeploymentRecord;
+import io.camunda.zeebe.protocol.record.intent.DeploymentIntent;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import org.awaitility.Awaitility;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+
+public final class ExporterDirectorParallelTest {
+
+  private static final String EXPORTER_ID_1 = "exporter-1";
+  private static final String EXPORTER_ID_2 = "exporter-2";
+  private static final Duration TIMEOUT = Duration.ofSeconds(5);
+
+  @Rule public final ExporterRule rule = ExporterRule.activeExporter().withParallelExporting();
+
+  private final List<ControlledTestExporter> exporters = new ArrayList<>();
+  private final List<ExporterDescriptor> exporterDescriptors = new ArrayList<>();
+
+  @Before
+  public void init() {
+    createExporter(EXPORTER_ID_1);
+    createExporter(EXPORTER_ID_2);
+  }
+
+  @Test
+  public void shouldExportToAllExporters() {
+    // given
+    exporters.forEach(exporter -> exporter.shouldAutoUpdatePosition(true));
+    rule.startExporterDirector(exporterDescriptors);
+
+    // when
+    rule.writeEvent(DeploymentIntent.CREATED, new DeploymentRecord());
+    final long lastPosition = rule.writeEvent(DeploymentIntent.CREATED, new DeploymentRecord());
+
+    // then
+    final ExportersState state = rule.getExportersState();
+    Awaitility.await("both exporters have exported all records")
+        .atMost(TIMEOUT)
+        .untilAsserted(
+            () -> {
+              assertThat(state.getPosition(EXPORTER_ID_1)).isEqualTo(lastPosition);
+              assertThat(state.getPosition(EXPORTER_ID_2)).isEqualTo(lastPosition);
+            });
+    assertThat(exporters)
+        .allSatisfy(exporter -> assertThat(exporter.getExportedRecords()).hasSize(2));
+  }
+
+  @Test
+  public void shouldNotBlockOtherExportersOnSlowExporter() {
+    // given
+    final var slowExporter = exporters.get(0);
+    final var fastExporter = exporters.get(1);
+    final var exportLatch = new CountDownLatch(1);
+    slowExporter.onExport(
+        record -> {
+          try {
+            exportLatch.await();
+          } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+          }
+        });
+    rule.startExporterDirector(exporterDescriptors);
+
+    try {
+      // when
+      rule.writeEvent(DeploymentIntent.CREATED, new DeploymentRecord());
+      rule.writeEvent(DeploymentIntent.CREATED, new DeploymentRecord());
+
+      // then
+      Awaitility.await("fast exporter has exported all records")
+          .atMost(TIMEOUT)
+          .untilAsserted(() -> assertThat(fastExporter.getExportedRecords()).hasSize(2));
+      assertThat(slowExporter.getExportedRecords()).isEmpty();
+    } finally {
+      exportLatch.countDown();
+    }
+
+    Awaitility.await("slow exporter has caught up")
+        .atMost(TIMEOUT)
+        .untilAsserted(() -> assertThat(slowExporter.getExportedRecords()).hasSize(2));
+  }
+
+  @Test
+  public void shouldPauseAllExporters() {
+    // given
+    rule.startExporterDirector(exporterDescriptors);
+    rule.getDirector().pauseExporting().join();
+
+    // when
+    rule.writeEvent(DeploymentIntent.CREATED, new DeploymentRecord());
+
+    // then
+    exporters.forEach(exporter -> verify(exporter, after(2_000).never()).export(any()));
+  }
+
+  @Test
+  public void shouldResumeAllExporters() {
+    // given
+    rule.startExporterDirector(exporterDescriptors);
+    rule.getDirector().pauseExporting().join();
+    rule.writeEvent(DeploymentIntent.CREATED, new DeploymentRecord());
+
+    // when
+    rule.getDirector().resumeExporting().join();
+
+    // then
+    Awaitility.await("both exporters have exported the record")
+        .atMost(TIMEOUT)
+        .untilAsserted(
+            () ->
+                assertThat(exporters)
+                    .allSatisfy(exporter -> assertThat(exporter.getExportedRecords()).hasSize(1)));
+  }
+
+  @Test
+  public void shouldRemoveStateOfDisabledExporter() {
+    // given
+    rule.startExporterDirector(exporterDescriptors);
+    final ExportersState state = rule.getExportersState();
+    Awaitility.await("exporter state is initialized")
+        .atMost(TIMEOUT)
+        .untilAsserted(
+            () -> assertThat(getExporterIds(state)).contains(EXPORTER_ID_1, EXPORTER_ID_2));
+
+    // when
+    rule.getDirector().disableExporter(EXPORTER_ID_1).join();
+
+    // then
+    Awaitility.await("exporter state is removed")
+        .atMost(TIMEOUT)
+        .untilAsserted(() -> assertThat(getExporterIds(state)).containsExactly(EXPORTER_ID_2));
+    verify(exporters.get(0)).close();
+  }
+
+  private List<String> getExporterIds(final ExportersState state) {
+    final List<String> exporterIds = new ArrayList<>();
+    state.visitExporterState((exporterId, exporterState) -> exporterIds.add(exporterId));
+    return exporterIds;
+  }
+
+  private void createExporter(final String exporterId) {
+    final ControlledTestExporter exporter = spy(new ControlledTestExporter());
+    final ExporterDescriptor descriptor =
+        spy(new ExporterDescriptor(exporterId, exporter.getClass(), Map.of()));
+    doAnswer(c -> exporter).when(descriptor).newInstance();
+
+    exporters.add(exporter);
+    exporterDescriptors.add(descriptor);
+  }
+}
@@ -0,0 +1,222 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.broker.exporter.stream.perf;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import io.camunda.zeebe.exporter.api.Exporter;
+import io.camunda.zeebe.protocol.record.ImmutableRecord;
+import io.camunda.zeebe.protocol.record.Record;
+import io.camunda.zeebe.protocol.record.RecordType;
+import io.camunda.zeebe.protocol.record.ValueType;
+import io.camunda.zeebe.protocol.record.intent.JobIntent;
+import io.camunda.zeebe.scheduler.Actor;
+import io.camunda.zeebe.scheduler.ActorScheduler;
+import io.camunda.zeebe.scheduler.SchedulingHints;
+import io.camunda.zeebe.scheduler.future.ActorFuture;
+import io.camunda.zeebe.test.util.jmh.JMHTestCase;
+import io.camunda.zeebe.test.util.junit.JMHTest;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpRequest.BodyPublishers;
+import java.net.http.HttpResponse.BodyHandlers;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compares the throughput of exporters scheduled as {@link SchedulingHints#BLOCKING} actors on
+ * {@value #RUNNER_COUNT} IO bound platform threads with the same exporters on {@value
+ * #RUNNER_COUNT} virtual thread runners. Each exporter sends every record to a local HTTP endpoint
+ * with a blocking client, and the endpoint answers after a fixed latency, as a remote system would.
+ * The score is the number of times per second that all exporters exported one record.
+ *
+ * <p>Virtual threads are mounted on a fixed number of carrier threads, so that the comparison does
+ * not depend on the number of cores of the machine.
+ */
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 10, time = 1)
+@Fork(
+    value = 1,
+    jvmArgs = {"-Xmx1g", "-Xms1g", "-Djdk.virtualThreadScheduler.parallelism=2"})
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(org.openjdk.jmh.annotations.Scope.Benchmark)
+public class BlockingExporterSchedulingPerformanceTest {
+  private static final int RUNNER_COUNT = 16;
+  private static final int EXPORTER_COUNT = 32;
+  private static final Duration EXPORT_LATENCY = Duration.ofMillis(2);
+
+  @Param({"false", "true"})
+  private boolean useVirtualThreads;
+
+  private HttpServer remote;
+  private ActorScheduler scheduler;
+  private final List<ExporterActor> exporters = new ArrayList<>();
+  private final Record<?> record =
+      ImmutableRecord.builder()
+          .withRecordType(RecordType.EVENT)
+          .withValueType(ValueType.JOB)
+          .withIntent(JobIntent.CREATED)
+          .withPosition(1)
+          .build();
+
+  @Setup
+  public void setup() throws IOException {
+    remote = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 0);
+    remote.setExecutor(Executors.newVirtualThreadPerTaskExecutor());
+    remote.createContext("/", BlockingExporterSchedulingPerformanceTest::respondWithLatency);
+    remote.start();
+
+    scheduler =
+        ActorScheduler.newActorScheduler()
+            .setCpuBoundActorThreadCount(1)
+            .setIoBoundActorThreadCount(useVirtualThreads ? 1 : RUNNER_COUNT)
+            .setVirtualActorThreadCount(useVirtualThreads ? RUNNER_COUNT : 0)
+            .build();
+    scheduler.start();
+
+    final var address = remote.getAddress();
+    final var endpoint =
+        URI.create("http://%s:%d/".formatted(address.getHostString(), address.getPort()));
+    for (int i = 0; i < EXPORTER_COUNT; i++) {
+      final var exporter = new ExporterActor(i, new HttpExporter(endpoint));
+      scheduler.submitActor(exporter, SchedulingHints.blocking()).join();
+      exporters.add(exporter);
+    }
+  }
+
+  @TearDown
+  public void tearDown() throws Exception {
+    exporters.forEach(exporter -> exporter.closeAsync().join());
+    exporters.clear();
+    scheduler.close();
+    remote.stop(0);
+  }
+
+  @Benchmark
+  public void measureExportThroughput() {
+    final var exported = new ArrayList<ActorFuture<Void>>(EXPORTER_COUNT);
+    for (final var exporter : exporters) {
+      exported.add(exporter.export(record));
+    }
+
+    exported.forEach(ActorFuture::join);
+  }
+
+  @JMHTest("measureExportThroughput")
+  void shouldExportAtLeastAsFastOnVirtualThreads(final JMHTestCase testCase) {
+    // given - as many platform threads as virtual thread runners, with more exporters than either,
+    // so that both export at most as many records at once as they have runners
+    final var referenceResult =
+        JMHTestCase.of(
+                getClass(),
+                "measureExportThroughput",
+                options -> options.param("useVirtualThreads", "false"))
+            .run();
+
+    // when
+    final var assertResult =
+        testCase.withOptions(options -> options.param("useVirtualThreads", "true")).run();
+
+    // then - a blocked virtual thread runner frees its carrier for another runner, so the few
+    // carriers must keep up with one platform thread per runner, give or take the usual noise
+    assertResult.isAtLeast(referenceResult, 0.9);
+  }
+
+  private static void respondWithLatency(final HttpExchange exchange) throws IOException {
+    try (exchange) {
+      exchange.getRequestBody().readAllBytes();
+      Thread.sleep(EXPORT_LATENCY);
+      exchange.sendResponseHeaders(200, -1);
+    } catch (final InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+  }
+
+  /** Exports every record with a synchronous request, as e.g. a search engine exporter would. */
+  private static final class HttpExporter implements Exporter {
+    private final HttpClient client = HttpClient.newHttpClient();
+    private final URI endpoint;
+
+    private HttpExporter(final URI endpoint) {
+      this.endpoint = endpoint;
+    }
+
+    @Override
+    public void close() {
+      client.close();
+    }
+
+    @Override
+    public void export(final Record<?> record) {
+      final var request =
+          HttpRequest.newBuilder(endpoint)
+              .POST(BodyPublishers.ofString(String.valueOf(record.getPosition())))
+              .build();
+      try {
+        final var response = client.send(request, BodyHandlers.discarding());
+        if (response.statusCode() != 200) {
+          throw new IllegalStateException(
+              "Expected to export record, but got status %d".formatted(response.statusCode()));
+        }
+      } catch (final IOException e) {
+        throw new UncheckedIOException(e);
+      } catch (final InterruptedException e) {
+        Thread.currentThread().interrupt();
+        throw new IllegalStateException(e);
+      }
+    }
+  }
+
+  private static final class ExporterActor extends Actor {
+    private final int id;
+    private final Exporter exporter;
+
+    private ExporterActor(final int id, final Exporter exporter) {
+      this.id = id;
+      this.exporter = exporter;
+    }
+
+    @Override
+    public String getName() {
+      return "Exporter-" + id;
+    }
+
+    @Override
+    protected void onActorClosing() {
+      exporter.close();
+    }
+
+    private ActorFuture<Void> export(final Record<?> record) {
+      return actor.call(
+          () -> {
+            exporter.export(record);
+            return null;
+          });
+    }
+  }
+}
@@ -13,6 +13,9 @@ import io.atomix.cluster.MemberId;
 import io.atomix.primitive.partition.PartitionId;
 import io.atomix.primitive.partition.PartitionMetadata;
 import io.atomix.raft.partition.RaftPartition;
+import io.atomix.raft.storage.log.GroupCommitFlusher;
+import io.atomix.raft.storage.log.RaftLogFlusher.DirectFlusher;
+import io.atomix.utils.concurrent.ThreadContextFactory;
 import io.camunda.zeebe.broker.partitioning.startup.RaftPartitionFactory;
 import io.camunda.zeebe.broker.system.configuration.BrokerCfg;
 import java.time.Duration;
@@ -21,6 +24,8 @@ import java.util.Set;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.ValueSource;
+import org.mockito.Answers;
+import org.mockito.Mockito;
 import org.springframework.util.unit.DataSize;
 
 public final class RaftPartitionFactoryTest {
@@ -222,6 +227,120 @@ public final class RaftPartitionFactoryTest {
         .isEqualTo(value);
   }
 
+  @ParameterizedTest
+  @ValueSource(booleans = {true, false})
+  void shouldSetAdaptiveReplication(final boolean value) {
+    // given
+    final var brokerCfg = new BrokerCfg();
+    brokerCfg.getExperimental().getRaft().setAdaptiveReplicationEnabled(value);
+
+    // when
+    final var partition = buildRaftPartition(brokerCfg);
+
+    // then
+    assertThat(partition.getPartitionConfig().isAdaptiveReplicationEnabled()).isEqualTo(value);
+  }
+
+  @Test
+  void shouldEnableGroupCommit() {
+    // given
+    final var brokerCfg = new BrokerCfg();
+    brokerCfg.getExperimental().getRaft().setMaxFlushDelay(Duration.ofMillis(5));
+    brokerCfg.getExperimental().getRaft().setMaxFlushBytes(DataSize.ofKilobytes(512));
+
+    // when
+    final var partition = buildRaftPartition(brokerCfg);
+
+    // then
+    final var storageConfig = partition.getPartitionConfig().getStorageConfig();
+    assertThat(storageConfig.getMaxFlushDelay()).isEqualTo(Duration.ofMillis(5));
+    assertThat(storageConfig.getMaxFlushBytes()).isEqualTo(DataSize.ofKilobytes(512).toBytes());
+    assertThat(
+            storageConfig
+                .flusherFactory()
+                .createFlusher(Mockito.mock(ThreadContextFactory.class, Answers.RETURNS_MOCKS)))
+        .isInstanceOf(GroupCommitFlusher.class);
+  }
+
+  @Test
+  void shouldNotEnableGroupCommitWithoutMaxFlushDelay() {
+    // given
+    final var brokerCfg = new BrokerCfg();
+    brokerCfg.getExperimental().getRaft().setMaxFlushBytes(DataSize.ofKilobytes(512));
+
+    // when
+    final var partition = buildRaftPartition(brokerCfg);
+
+    // then
+    final var storageConfig = partition.getPartitionConfig().getStorageConfig();
+    assertThat(storageConfig.getMaxFlushDelay()).isZero();
+    assertThat(storageConfig.getMaxFlushBytes()).isZero();
+    assertThat(
+            storageConfig
+                .flusherFactory()
+                .createFlusher(Mockito.mock(ThreadContextFactory.class, Answers.RETURNS_MOCKS)))
+        .isInstanceOf(DirectFlusher.class);
+  }
+
+  @Test
+  void shouldSetPreparedSegments() {
+    // given
+    final var brokerCfg = new BrokerCfg();
+    brokerCfg.getExperimental().getRaft().setPreparedSegments(3);
+
+    // when
+    final var partition = buildRaftPartition(brokerCfg);
+
+    // then
+    assertThat(partition.getPartitionConfig().getStorageConfig().getPreparedSegments())
+        .isEqualTo(3);
+  }
+
+  @ParameterizedTest
+  @ValueSource(booleans = {true, false})
+  void shouldSetSegmentFilesRecycling(final boolean value) {
+    // given
+    final var brokerCfg = new BrokerCfg();
+    brokerCfg.getExperimental().getRaft().setRecycleSegmentFiles(value);
+
+    // when
+    final var partition = buildRaftPartition(brokerCfg);
+
+    // then
+    assertThat(partition.getPartitionConfig().getStorageConfig().isRecycleSegmentFiles())
+        .isEqualTo(value);
+  }
+
+  @ParameterizedTest
+  @ValueSource(booleans = {true, false})
+  void shouldSetZeroCopyReads(final boolean value) {
+    // given
+    final var brokerCfg = new BrokerCfg();
+    brokerCfg.getExperimental().getRaft().setZeroCopyReads(value);
+
+    // when
+    final var partition = buildRaftPartition(brokerCfg);
+
+    // then
+    assertThat(partition.getPartitionConfig().getStorageConfig().isZeroCopyReads())
+        .isEqualTo(value);
+  }
+
+  @ParameterizedTest
+  @ValueSource(booleans = {true, false})
+  void shouldSetPrimitiveJournalIndex(final boolean value) {
+    // given
+    final var brokerCfg = new BrokerCfg();
+    brokerCfg.getExperimental().getRaft().setPrimitiveJournalIndex(value);
+
+    // when
+    final var partition = buildRaftPartition(brokerCfg);
+
+    // then
+    assertThat(partition.getPartitionConfig().getStorageConfig().isPrimitiveJournalIndex())
+        .isEqualTo(value);
+  }
+
   private RaftPartition buildRaftPartition(final BrokerCfg brokerCfg) {
     return new RaftPartitionFactory(brokerCfg)
         .createRaftPartition(
@@ -71,6 +71,28 @@ final class BackupStoreCfgTest {
     assertThat(cfg.getData().getBackup().getGcs().getHost()).isEqualTo(configuredHost);
   }
 
+  @Test
+  void canConfigureFilesystemStore() {
+    // given
+    final var env =
+        Map.of(
+            "zeebe.broker.data.backup.store",
+            "filesystem",
+            "zeebe.broker.data.backup.filesystem.basePath",
+            "/mnt/backups",
+            "zeebe.broker.data.backup.filesystem.maxConcurrentTransfers",
+            "8");
+
+    // when
+    final var cfg = TestConfigReader.readConfig("empty", env);
+
+    // then
+    final var backup = cfg.getData().getBackup();
+    assertThat(backup.getStore()).isEqualTo(BackupStoreType.FILESYSTEM);
+    assertThat(backup.getFilesystem().getBasePath()).isEqualTo("/mnt/backups");
+    assertThat(backup.getFilesystem().getMaxConcurrentTransfers()).isEqualTo(8);
+  }
+
   @Test
   void shouldSetPartialS3Config() {
     // given
@@ -9,6 +9,7 @@ package io.camunda.zeebe.broker.system.configuration;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
+import io.camunda.zeebe.db.impl.rocksdb.RocksDbConfiguration.TransactionMode;
 import java.util.HashMap;
 import java.util.Map;
 import org.junit.Test;
@@ -77,6 +78,7 @@ public final class RocksdbCfgTest {
     assertThat(rocksDbConfiguration.getMinWriteBufferNumberToMerge()).isEqualTo(3);
     assertThat(rocksDbConfiguration.getIoRateBytesPerSecond()).isZero();
     assertThat(rocksDbConfiguration.isWalDisabled()).isTrue();
+    assertThat(rocksDbConfiguration.getTransactionMode()).isEqualTo(TransactionMode.OPTIMISTIC);
   }
 
   @Test
@@ -95,6 +97,7 @@ public final class RocksdbCfgTest {
     assertThat(rocksDbConfiguration.isStatisticsEnabled()).isTrue();
     assertThat(rocksDbConfiguration.getMemoryLimit()).isEqualTo(DataSize.ofMegabytes(32).toBytes());
     assertThat(rocksDbConfiguration.getMaxOpenFiles()).isEqualTo(3);
+    assertThat(rocksDbConfiguration.getTransactionMode()).isEqualTo(TransactionMode.WRITE_BATCH);
   }
 
   @Test
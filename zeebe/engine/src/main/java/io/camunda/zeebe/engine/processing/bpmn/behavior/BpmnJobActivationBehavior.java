@@ -14,6 +14,7 @@ import io.camunda.zeebe.engine.processing.streamprocessor.JobStreamer.JobStream;
 import io.camunda.zeebe.engine.processing.streamprocessor.writers.SideEffectWriter;
 import io.camunda.zeebe.engine.processing.streamprocessor.writers.StateWriter;
 import io.camunda.zeebe.engine.processing.streamprocessor.writers.Writers;
+import io.camunda.zeebe.engine.state.immutable.JobState;
 import io.camunda.zeebe.engine.state.immutable.ProcessingState;
 import io.camunda.zeebe.protocol.impl.record.value.job.JobBatchRecord;
 import io.camunda.zeebe.protocol.impl.record.value.job.JobRecord;
@@ -23,6 +24,7 @@ import io.camunda.zeebe.protocol.record.intent.JobBatchIntent;
 import io.camunda.zeebe.protocol.record.value.JobKind;
 import io.camunda.zeebe.stream.api.state.KeyGenerator;
 import java.time.InstantSource;
+import java.util.List;
 import java.util.Optional;
 import org.agrona.concurrent.UnsafeBuffer;
 
@@ -40,6 +42,7 @@ import org.agrona.concurrent.UnsafeBuffer;
 public class BpmnJobActivationBehavior {
   private final JobStreamer jobStreamer;
   private final JobVariablesCollector jobVariablesCollector;
+  private final JobState jobState;
   private final StateWriter stateWriter;
   private final SideEffectWriter sideEffectWriter;
   private final KeyGenerator keyGenerator;
@@ -57,6 +60,7 @@ public class BpmnJobActivationBehavior {
     this.keyGenerator = keyGenerator;
     this.jobMetrics = jobMetrics;
     jobVariablesCollector = new JobVariablesCollector(state);
+    jobState = state.getJobState();
     stateWriter = writers.state();
     sideEffectWriter = writers.sideEffect();
     this.clock = clock;
@@ -99,18 +103,24 @@ public class BpmnJobActivationBehavior {
             return true;
           });
     } else {
-      notifyJobAvailable(jobType, jobKind);
+      notifyJobAvailable(wrappedJobRecord);
     }
   }
 
   public void notifyJobAvailableAsSideEffect(final JobRecord jobRecord) {
-    notifyJobAvailable(jobRecord.getType(), jobRecord.getJobKind());
+    notifyJobAvailable(jobRecord);
   }
 
-  private void notifyJobAvailable(final String jobType, final JobKind jobKind) {
+  private void notifyJobAvailable(final JobRecord jobRecord) {
+    final String jobType = jobRecord.getType();
+    final JobKind jobKind = jobRecord.getJobKind();
+    // the count is taken now, as it includes the changes of the current command
+    final long activatableJobCount =
+        jobState.getActivatableJobCount(
+            jobRecord.getTypeBuffer(), List.of(jobRecord.getTenantId()));
     sideEffectWriter.appendSideEffect(
         () -> {
-          jobStreamer.notifyWorkAvailable(jobType);
+          jobStreamer.notifyWorkAvailable(jobType, activatableJobCount);
           jobMetrics.jobNotification(jobType, jobKind);
           return true;
         });
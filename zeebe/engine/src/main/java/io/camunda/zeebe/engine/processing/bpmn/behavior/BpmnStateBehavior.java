@@ -21,6 +21,7 @@ import io.camunda.zeebe.engine.state.immutable.ProcessState;
 import io.camunda.zeebe.engine.state.immutable.ProcessingState;
 import io.camunda.zeebe.engine.state.immutable.VariableState;
 import io.camunda.zeebe.engine.state.instance.ElementInstance;
+import io.camunda.zeebe.engine.state.instance.TransientInputCollectionState;
 import io.camunda.zeebe.protocol.record.value.BpmnElementType;
 import io.camunda.zeebe.protocol.record.value.ProcessInstanceRecordValue;
 import io.camunda.zeebe.util.Either;
@@ -29,6 +30,7 @@ import java.util.Optional;
 import java.util.Set;
 import java.util.stream.Collectors;
 import org.agrona.DirectBuffer;
+import org.agrona.collections.LongArrayList;
 
 public final class BpmnStateBehavior {
 
@@ -36,6 +38,7 @@ public final class BpmnStateBehavior {
   private final VariableState variablesState;
   private final JobState jobState;
   private final ProcessState processState;
+  private final TransientInputCollectionState inputCollectionState;
   private final VariableBehavior variableBehavior;
 
   public BpmnStateBehavior(
@@ -46,6 +49,7 @@ public final class BpmnStateBehavior {
     elementInstanceState = processingState.getElementInstanceState();
     variablesState = processingState.getVariableState();
     jobState = processingState.getJobState();
+    inputCollectionState = processingState.getTransientInputCollectionState();
   }
 
   public ElementInstance getElementInstance(final BpmnElementContext context) {
@@ -73,6 +77,21 @@ public final class BpmnStateBehavior {
     return jobState;
   }
 
+  public TransientInputCollectionState getInputCollectionState() {
+    return inputCollectionState;
+  }
+
+  /** Returns the keys of the given variable scope and all its parent scopes. */
+  public long[] getVariableScopeKeys(final long scopeKey) {
+    final var scopeKeys = new LongArrayList();
+    for (long key = scopeKey;
+        key != VariableState.NO_PARENT;
+        key = variablesState.getParentScopeKey(key)) {
+      scopeKeys.addLong(key);
+    }
+    return scopeKeys.toLongArray();
+  }
+
   // used by canceling, since we don't care about active sequence flows
   public boolean canBeTerminated(final BpmnElementContext context) {
     final ElementInstance flowScopeInstance = getFlowScopeInstance(context);
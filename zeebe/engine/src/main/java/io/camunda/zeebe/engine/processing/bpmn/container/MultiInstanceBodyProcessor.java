@@ -21,13 +21,14 @@ import io.camunda.zeebe.engine.processing.common.ExpressionProcessor;
 import io.camunda.zeebe.engine.processing.common.Failure;
 import io.camunda.zeebe.engine.processing.deployment.model.element.ExecutableMultiInstanceBody;
 import io.camunda.zeebe.engine.state.instance.ElementInstance;
+import io.camunda.zeebe.engine.state.instance.TransientInputCollectionState;
+import io.camunda.zeebe.engine.state.instance.TransientInputCollectionState.InputCollection;
 import io.camunda.zeebe.msgpack.spec.MsgPackHelper;
 import io.camunda.zeebe.msgpack.spec.MsgPackWriter;
 import io.camunda.zeebe.protocol.record.intent.ProcessInstanceIntent;
 import io.camunda.zeebe.protocol.record.value.ErrorType;
 import io.camunda.zeebe.util.Either;
 import io.camunda.zeebe.util.buffer.BufferUtil;
-import java.util.List;
 import java.util.Optional;
 import org.agrona.DirectBuffer;
 import org.agrona.MutableDirectBuffer;
@@ -65,6 +66,7 @@ public final class MultiInstanceBodyProcessor
   private final BpmnIncidentBehavior incidentBehavior;
   private final MultiInstanceOutputCollectionBehavior multiInstanceOutputCollectionBehavior;
   private final BpmnCompensationSubscriptionBehaviour compensationSubscriptionBehaviour;
+  private final TransientInputCollectionState inputCollectionState;
 
   public MultiInstanceBodyProcessor(
       final BpmnBehaviors bpmnBehaviors,
@@ -76,6 +78,7 @@ public final class MultiInstanceBodyProcessor
     incidentBehavior = bpmnBehaviors.incidentBehavior();
     multiInstanceOutputCollectionBehavior = bpmnBehaviors.outputCollectionBehavior();
     compensationSubscriptionBehaviour = bpmnBehaviors.compensationSubscriptionBehaviour();
+    inputCollectionState = stateBehavior.getInputCollectionState();
   }
 
   @Override
@@ -87,7 +90,7 @@ public final class MultiInstanceBodyProcessor
   public Either<Failure, ?> onActivate(
       final ExecutableMultiInstanceBody element, final BpmnElementContext context) {
     // verify that the input collection variable is present and valid
-    return readInputCollectionVariable(element, context)
+    return evaluateInputCollection(element, context)
         .flatMap(
             inputCollection ->
                 eventSubscriptionBehavior
@@ -101,6 +104,7 @@ public final class MultiInstanceBodyProcessor
       final ExecutableMultiInstanceBody element, final BpmnElementContext context) {
 
     eventSubscriptionBehavior.unsubscribeFromEvents(context);
+    inputCollectionState.remove(context.getElementInstanceKey());
 
     element
         .getLoopCharacteristics()
@@ -140,7 +144,7 @@ public final class MultiInstanceBodyProcessor
     final int loopCounter =
         stateBehavior.getElementInstance(childContext).getMultiInstanceLoopCounter();
 
-    return readInputCollectionVariable(multiInstanceBody, childContext)
+    return readInputCollection(multiInstanceBody, flowScopeContext)
         .flatMap(
             collection -> {
               // the loop counter starts at 1
@@ -184,7 +188,7 @@ public final class MultiInstanceBodyProcessor
     }
 
     // test that input collection variable can be evaluated correctly
-    return readInputCollectionVariable(element, flowScopeContext)
+    return readInputCollection(element, flowScopeContext)
         .map(ok -> satisfiesCompletionConditionOrFailure.get());
   }
 
@@ -210,7 +214,7 @@ public final class MultiInstanceBodyProcessor
       }
       return;
     }
-    final var inputCollectionOrFailure = readInputCollectionVariable(element, flowScopeContext);
+    final var inputCollectionOrFailure = readInputCollection(element, flowScopeContext);
     if (inputCollectionOrFailure.isLeft()) {
       // this incident is un-resolvable
       incidentBehavior.createIncident(inputCollectionOrFailure.getLeft(), childContext);
@@ -269,7 +273,7 @@ public final class MultiInstanceBodyProcessor
   private void activate(
       final ExecutableMultiInstanceBody element,
       final BpmnElementContext context,
-      final List<DirectBuffer> inputCollection) {
+      final InputCollection inputCollection) {
     final BpmnElementContext activated =
         stateTransitionBehavior.transitionToActivated(context, element.getEventType());
     final var loopCharacteristics = element.getLoopCharacteristics();
@@ -297,6 +301,7 @@ public final class MultiInstanceBodyProcessor
       final ExecutableMultiInstanceBody element, final BpmnElementContext flowScopeContext) {
 
     final var flowScopeInstance = stateBehavior.getFlowScopeInstance(flowScopeContext);
+    inputCollectionState.remove(flowScopeContext.getElementInstanceKey());
 
     incidentBehavior.resolveIncidents(flowScopeContext);
 
@@ -365,11 +370,34 @@ public final class MultiInstanceBodyProcessor
         wrapVariable(loopCounterVariableBuffer, loopCounterVariableView, loopCounter));
   }
 
-  private Either<Failure, List<DirectBuffer>> readInputCollectionVariable(
+  /**
+   * Returns the input collection which was evaluated before, or evaluates it again if it is not
+   * known anymore, e.g. because a variable it references was modified, or after a restart.
+   */
+  private Either<Failure, InputCollection> readInputCollection(
+      final ExecutableMultiInstanceBody element, final BpmnElementContext context) {
+    final var inputCollection =
+        inputCollectionState.get(
+            context.getElementInstanceKey(), context.getProcessDefinitionKey());
+    if (inputCollection != null) {
+      return Either.right(inputCollection);
+    }
+    return evaluateInputCollection(element, context);
+  }
+
+  private Either<Failure, InputCollection> evaluateInputCollection(
       final ExecutableMultiInstanceBody element, final BpmnElementContext context) {
     final Expression inputCollection = element.getLoopCharacteristics().getInputCollection();
-    return expressionBehavior.evaluateArrayExpression(
-        inputCollection, context.getElementInstanceKey());
+    return expressionBehavior
+        .evaluateArrayExpressionAsDirectBuffer(inputCollection, context.getElementInstanceKey())
+        .map(array -> InputCollection.of(context.getProcessDefinitionKey(), array))
+        .thenDo(
+            collection ->
+                inputCollectionState.put(
+                    context.getElementInstanceKey(),
+                    collection,
+                    stateBehavior.getVariableScopeKeys(context.getElementInstanceKey()),
+                    inputCollection.getReferencedVariableNames()));
   }
 
   private void createInnerInstance(
@@ -21,6 +21,7 @@ import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.Set;
+import java.util.function.UnaryOperator;
 import java.util.stream.Collectors;
 import org.agrona.DirectBuffer;
 import org.agrona.concurrent.UnsafeBuffer;
@@ -55,9 +56,7 @@ public final class ExpressionProcessor {
    * @return new instance which uses {@code primaryContext} as new top level evaluation context
    */
   public ExpressionProcessor withPrimaryContext(final EvaluationContext primaryContext) {
-    final EvaluationContextLookup combinedLookup =
-        scopeKey -> primaryContext.combine(evaluationContextLookup.getContext(scopeKey));
-    return new ExpressionProcessor(expressionLanguage, combinedLookup);
+    return new ExpressionProcessor(expressionLanguage, mapContext(primaryContext::combine));
   }
 
   /**
@@ -68,9 +67,24 @@ public final class ExpressionProcessor {
    * @return new instance which uses {@code secondaryContext} as fallback
    */
   public ExpressionProcessor withSecondaryContext(final EvaluationContext secondaryContext) {
-    final EvaluationContextLookup combinedLookup =
-        scopeKey -> evaluationContextLookup.getContext(scopeKey).combine(secondaryContext);
-    return new ExpressionProcessor(expressionLanguage, combinedLookup);
+    return new ExpressionProcessor(
+        expressionLanguage, mapContext(context -> context.combine(secondaryContext)));
+  }
+
+  private EvaluationContextLookup mapContext(final UnaryOperator<EvaluationContext> mapper) {
+    final var lookup = evaluationContextLookup;
+    return new EvaluationContextLookup() {
+      @Override
+      public EvaluationContext getContext(final long scopeKey) {
+        return mapper.apply(lookup.getContext(scopeKey));
+      }
+
+      @Override
+      public EvaluationContext getContext(
+          final long scopeKey, final Collection<String> variableNames) {
+        return mapper.apply(lookup.getContext(scopeKey, variableNames));
+      }
+    };
   }
 
   /**
@@ -254,6 +268,24 @@ public final class ExpressionProcessor {
         .map(EvaluationResult::getList);
   }
 
+  /**
+   * Evaluates the given expression and returns the result as a MessagePack array, without splitting
+   * it into its entries.
+   *
+   * @param expression the expression to evaluate
+   * @param scopeKey the scope to load the variables from (a negative key is intended to imply an
+   *     empty variable context)
+   * @return either the evaluation result as buffer, or a failure if the evaluation fails or the
+   *     result is not an array
+   */
+  public Either<Failure, DirectBuffer> evaluateArrayExpressionAsDirectBuffer(
+      final Expression expression, final long scopeKey) {
+    final var evaluationResult = evaluateExpressionAsEither(expression, scopeKey);
+    return evaluationResult
+        .flatMap(result -> typeCheck(result, ResultType.ARRAY, scopeKey))
+        .map(EvaluationResult::toBuffer);
+  }
+
   /**
    * Evaluates the given expression and returns the result as a list of strings.
    *
@@ -409,7 +441,9 @@ public final class ExpressionProcessor {
     if (variableScopeKey < 0) {
       context = EMPTY_EVALUATION_CONTEXT;
     } else {
-      context = evaluationContextLookup.getContext(variableScopeKey);
+      context =
+          evaluationContextLookup.getContext(
+              variableScopeKey, expression.getReferencedVariableNames());
     }
 
     return expressionLanguage.evaluateExpression(expression, context);
@@ -476,5 +510,19 @@ public final class ExpressionProcessor {
   @FunctionalInterface
   public interface EvaluationContextLookup {
     EvaluationContext getContext(final long scopeKey);
+
+    /**
+     * Returns the context to evaluate an expression which references the given variables. This
+     * allows to fetch these variables at once, instead of one by one during the evaluation. The
+     * context must still resolve any other variable.
+     *
+     * @param scopeKey the scope to load the variables from
+     * @param variableNames the names of the variables which the expression references
+     * @return the evaluation context of the scope
+     */
+    default EvaluationContext getContext(
+        final long scopeKey, final Collection<String> variableNames) {
+      return getContext(scopeKey);
+    }
   }
 }
@@ -93,6 +93,11 @@ final class JobBatchCollector {
             ? List.of(TenantOwned.DEFAULT_TENANT_IDENTIFIER)
             : value.getTenantIds();
     final Map<JobKind, Integer> jobCountPerJobKind = new EnumMap<>(JobKind.class);
+    if (jobState.getActivatableJobCount(value.getTypeBuffer(), tenantIds) == 0) {
+      // most requests of idle workers end here, without resolving authorizations or reading jobs
+      return Either.right(jobCountPerJobKind);
+    }
+
     final var authorizedProcessIds =
         authCheckBehavior.getAllAuthorizedResourceIdentifiers(
             new AuthorizationRequest(
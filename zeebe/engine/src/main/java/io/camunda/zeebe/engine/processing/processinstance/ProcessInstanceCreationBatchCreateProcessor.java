@@ -0,0 +1,286 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.engine.processing.processinstance;
+
+import io.camunda.zeebe.engine.processing.ExcludeAuthorizationCheck;
+import io.camunda.zeebe.engine.processing.common.EventSubscriptionException;
+import io.camunda.zeebe.engine.processing.streamprocessor.CommandProcessor.CommandControl;
+import io.camunda.zeebe.engine.processing.streamprocessor.TypedRecordProcessor;
+import io.camunda.zeebe.engine.processing.streamprocessor.writers.StateWriter;
+import io.camunda.zeebe.engine.processing.streamprocessor.writers.TypedRejectionWriter;
+import io.camunda.zeebe.engine.processing.streamprocessor.writers.TypedResponseWriter;
+import io.camunda.zeebe.engine.processing.streamprocessor.writers.Writers;
+import io.camunda.zeebe.protocol.impl.record.value.processinstance.ProcessInstanceCreationBatchRecord;
+import io.camunda.zeebe.protocol.impl.record.value.processinstance.ProcessInstanceCreationBatchResult;
+import io.camunda.zeebe.protocol.impl.record.value.processinstance.ProcessInstanceCreationRecord;
+import io.camunda.zeebe.protocol.record.RecordType;
+import io.camunda.zeebe.protocol.record.RejectionType;
+import io.camunda.zeebe.protocol.record.ValueType;
+import io.camunda.zeebe.protocol.record.intent.Intent;
+import io.camunda.zeebe.protocol.record.intent.ProcessInstanceCreationBatchIntent;
+import io.camunda.zeebe.protocol.record.intent.ProcessInstanceCreationIntent;
+import io.camunda.zeebe.stream.api.records.ExceededBatchRecordSizeException;
+import io.camunda.zeebe.stream.api.records.TypedRecord;
+import io.camunda.zeebe.stream.api.state.KeyGenerator;
+import java.util.Map;
+
+/**
+ * Creates all process instances of a batch while processing a single command. Each instance is
+ * created by the {@link ProcessInstanceCreationCreateProcessor}, exactly as if it was requested on
+ * its own: it writes the same follow-up records, and is authorized and validated on its own. An
+ * instance that is rejected does not affect the others; its rejection is only part of the result.
+ *
+ * <p>The batch is accepted with a single event, which lists the outcome of each instance in the
+ * order of the command, and which is sent as the response. The instances themselves are omitted
+ * from it, as their variables are already part of the individual creation events.
+ */
+@ExcludeAuthorizationCheck
+public final class ProcessInstanceCreationBatchCreateProcessor
+    implements TypedRecordProcessor<ProcessInstanceCreationBatchRecord> {
+
+  private static final String ERROR_MESSAGE_EMPTY_BATCH =
+      "Expected to create at least one process instance, but the batch is empty";
+  private static final String ERROR_MESSAGE_BATCH_TOO_LARGE =
+      "Expected to create all process instances of the batch, but the resulting records exceed the"
+          + " maximum batch size. Please reduce the size by splitting the instances into multiple"
+          + " batches.";
+
+  private final ProcessInstanceCreationBatchRecord batchResult =
+      new ProcessInstanceCreationBatchRecord();
+  private final ProcessInstanceCreationRecord instance = new ProcessInstanceCreationRecord();
+  private final BatchEntryCommand entryCommand = new BatchEntryCommand();
+  private final BatchEntryControl entryControl = new BatchEntryControl();
+
+  private final ProcessInstanceCreationCreateProcessor createProcessor;
+  private final KeyGenerator keyGenerator;
+  private final StateWriter stateWriter;
+  private final TypedRejectionWriter rejectionWriter;
+  private final TypedResponseWriter responseWriter;
+
+  public ProcessInstanceCreationBatchCreateProcessor(
+      final ProcessInstanceCreationCreateProcessor createProcessor,
+      final KeyGenerator keyGenerator,
+      final Writers writers) {
+    this.createProcessor = createProcessor;
+    this.keyGenerator = keyGenerator;
+    stateWriter = writers.state();
+    rejectionWriter = writers.rejection();
+    responseWriter = writers.response();
+  }
+
+  @Override
+  public void processRecord(final TypedRecord<ProcessInstanceCreationBatchRecord> command) {
+    final var instances = command.getValue().instances();
+    if (instances.isEmpty()) {
+      rejectionWriter.appendRejection(
+          command, RejectionType.INVALID_ARGUMENT, ERROR_MESSAGE_EMPTY_BATCH);
+      responseWriter.writeRejectionOnCommand(
+          command, RejectionType.INVALID_ARGUMENT, ERROR_MESSAGE_EMPTY_BATCH);
+      return;
+    }
+
+    batchResult.reset();
+    entryCommand.wrap(command, instance);
+    for (final ProcessInstanceCreationRecord entry : instances) {
+      // the create processor updates the record it is given, which would otherwise modify the
+      // entry of the array while iterating it
+      instance.copyFrom(entry);
+      entryControl.reset(instance);
+
+      createProcessor.onCommand(entryCommand, entryControl);
+      batchResult.addResult(entryControl.result);
+    }
+
+    final long key = keyGenerator.nextKey();
+    stateWriter.appendFollowUpEvent(key, ProcessInstanceCreationBatchIntent.CREATED, batchResult);
+    responseWriter.writeEventOnCommand(
+        key, ProcessInstanceCreationBatchIntent.CREATED, batchResult, command);
+  }
+
+  @Override
+  public ProcessingError tryHandleError(
+      final TypedRecord<ProcessInstanceCreationBatchRecord> command, final Throwable error) {
+    if (error instanceof final EventSubscriptionException exception) {
+      // thrown while activating the start instructions of an instance, after some of its records
+      // were already written; the instance cannot be rejected on its own anymore, and since all
+      // records of the batch are discarded, neither can the others be created
+      rejectionWriter.appendRejection(
+          command, RejectionType.INVALID_ARGUMENT, exception.getMessage());
+      responseWriter.writeRejectionOnCommand(
+          command, RejectionType.INVALID_ARGUMENT, exception.getMessage());
+      return ProcessingError.EXPECTED_ERROR;
+
+    } else if (error instanceof ExceededBatchRecordSizeException) {
+      // all instances are created in the same record batch, which is limited by the max message
+      // size; since all records of the batch are discarded, the whole batch is rejected. The
+      // rejection contains the command itself, so the reason is only added if it still fits.
+      final var reason =
+          stateWriter.canWriteEventOfLength(
+                  command.getLength() + ERROR_MESSAGE_BATCH_TOO_LARGE.length())
+              ? ERROR_MESSAGE_BATCH_TOO_LARGE
+              : "";
+      rejectionWriter.appendRejection(command, RejectionType.INVALID_ARGUMENT, reason);
+      responseWriter.writeRejectionOnCommand(command, RejectionType.INVALID_ARGUMENT, reason);
+      return ProcessingError.EXPECTED_ERROR;
+    }
+    return ProcessingError.UNEXPECTED_ERROR;
+  }
+
+  /**
+   * Writes the creation event of an accepted instance, exactly as the {@link
+   * io.camunda.zeebe.engine.processing.streamprocessor.CommandProcessorImpl} would for a single
+   * creation command, and records the outcome of each instance for the batch event.
+   */
+  private final class BatchEntryControl implements CommandControl<ProcessInstanceCreationRecord> {
+
+    private final ProcessInstanceCreationBatchResult result =
+        new ProcessInstanceCreationBatchResult();
+
+    private void reset(final ProcessInstanceCreationRecord instance) {
+      result.reset();
+      result
+          .setBpmnProcessId(instance.getBpmnProcessId())
+          .setVersion(instance.getVersion())
+          .setProcessDefinitionKey(instance.getProcessDefinitionKey())
+          .setTenantId(instance.getTenantId());
+    }
+
+    @Override
+    public long accept(final Intent newState, final ProcessInstanceCreationRecord updatedValue) {
+      final long key = keyGenerator.nextKey();
+      stateWriter.appendFollowUpEvent(key, newState, updatedValue);
+
+      result
+          .setProcessInstanceKey(updatedValue.getProcessInstanceKey())
+          .setBpmnProcessId(updatedValue.getBpmnProcessId())
+          .setVersion(updatedValue.getVersion())
+          .setProcessDefinitionKey(updatedValue.getProcessDefinitionKey());
+      return key;
+    }
+
+    @Override
+    public void reject(final RejectionType type, final String reason) {
+      result.setRejectionType(type).setRejectionReason(reason);
+    }
+  }
+
+  /**
+   * Presents an instance of the batch to the {@link ProcessInstanceCreationCreateProcessor} as if
+   * it was a creation command of its own. Everything but the value and intent is taken from the
+   * batch command, in particular its authorizations and request metadata, such that each instance
+   * is authorized like a single creation requested by the same client.
+   */
+  private static final class BatchEntryCommand
+      implements TypedRecord<ProcessInstanceCreationRecord> {
+
+    private TypedRecord<ProcessInstanceCreationBatchRecord> batchCommand;
+    private ProcessInstanceCreationRecord value;
+
+    private void wrap(
+        final TypedRecord<ProcessInstanceCreationBatchRecord> batchCommand,
+        final ProcessInstanceCreationRecord value) {
+      this.batchCommand = batchCommand;
+      this.value = value;
+    }
+
+    @Override
+    public long getKey() {
+      return -1;
+    }
+
+    @Override
+    public ProcessInstanceCreationRecord getValue() {
+      return value;
+    }
+
+    @Override
+    public int getRequestStreamId() {
+      return batchCommand.getRequestStreamId();
+    }
+
+    @Override
+    public long getRequestId() {
+      return batchCommand.getRequestId();
+    }
+
+    @Override
+    public int getLength() {
+      return batchCommand.getLength();
+    }
+
+    @Override
+    public String toJson() {
+      return batchCommand.toJson();
+    }
+
+    @Override
+    public long getPosition() {
+      return batchCommand.getPosition();
+    }
+
+    @Override
+    public long getSourceRecordPosition() {
+      return batchCommand.getSourceRecordPosition();
+    }
+
+    @Override
+    public long getTimestamp() {
+      return batchCommand.getTimestamp();
+    }
+
+    @Override
+    public Intent getIntent() {
+      return ProcessInstanceCreationIntent.CREATE;
+    }
+
+    @Override
+    public int getPartitionId() {
+      return batchCommand.getPartitionId();
+    }
+
+    @Override
+    public RecordType getRecordType() {
+      return batchCommand.getRecordType();
+    }
+
+    @Override
+    public RejectionType getRejectionType() {
+      return batchCommand.getRejectionType();
+    }
+
+    @Override
+    public String getRejectionReason() {
+      return batchCommand.getRejectionReason();
+    }
+
+    @Override
+    public String getBrokerVersion() {
+      return batchCommand.getBrokerVersion();
+    }
+
+    @Override
+    public Map<String, Object> getAuthorizations() {
+      return batchCommand.getAuthorizations();
+    }
+
+    @Override
+    public int getRecordVersion() {
+      return batchCommand.getRecordVersion();
+    }
+
+    @Override
+    public ValueType getValueType() {
+      return ValueType.PROCESS_INSTANCE_CREATION;
+    }
+
+    @Override
+    public long getOperationReference() {
+      return batchCommand.getOperationReference();
+    }
+  }
+}
@@ -37,6 +37,18 @@ public interface JobStreamer {
    */
   default void notifyWorkAvailable(final String jobType) {}
 
+  /**
+   * Can be used to notify listeners that there are jobs available for activation, including how
+   * many jobs of that type are currently activatable. By default, the count is dropped and {@link
+   * #notifyWorkAvailable(String)} is called.
+   *
+   * @param jobType the type of the stream which has items available
+   * @param activatableJobCount the number of activatable jobs of the given type
+   */
+  default void notifyWorkAvailable(final String jobType, final long activatableJobCount) {
+    notifyWorkAvailable(jobType);
+  }
+
   /**
    * Returns a job stream for the job type, or {@link Optional#empty()} if there is none.
    *
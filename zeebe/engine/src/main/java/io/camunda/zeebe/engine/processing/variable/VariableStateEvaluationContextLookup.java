@@ -12,15 +12,84 @@ import static io.camunda.zeebe.util.EnsureUtil.ensureGreaterThan;
 import io.camunda.zeebe.el.EvaluationContext;
 import io.camunda.zeebe.engine.processing.common.ExpressionProcessor.EvaluationContextLookup;
 import io.camunda.zeebe.engine.state.immutable.VariableState;
+import io.camunda.zeebe.msgpack.spec.MsgPackReader;
 import io.camunda.zeebe.util.buffer.BufferUtil;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+import org.agrona.DirectBuffer;
+import org.agrona.concurrent.UnsafeBuffer;
 
 public record VariableStateEvaluationContextLookup(VariableState variableState)
     implements EvaluationContextLookup {
 
+  /**
+   * The maximum size of the referenced variables which are fetched at once. Fetched variables are
+   * copied in full, even if the expression only reads a part of them, or none at all, e.g. when
+   * they are only used in a branch which is not taken. Above this size, copying them costs more
+   * than walking the scope hierarchy once per lookup, which only reads the variables which are
+   * actually used.
+   */
+  static final int MAX_PREFETCH_SIZE = 8 * 1024;
+
   @Override
   public EvaluationContext getContext(final long scopeKey) {
     ensureGreaterThan("variable scope key", scopeKey, 0);
 
     return (name) -> variableState.getVariable(scopeKey, BufferUtil.wrapString(name));
   }
+
+  /**
+   * Fetches the given variables at once, walking up the scope hierarchy only a single time, instead
+   * of walking it for each lookup of the expression. Names which were fetched but not found don't
+   * exist in any scope, so they are not looked up again. Any other name is looked up as usual.
+   *
+   * <p>If the referenced variables are larger than {@link #MAX_PREFETCH_SIZE}, they are not kept,
+   * and every variable is looked up as usual instead.
+   */
+  @Override
+  public EvaluationContext getContext(final long scopeKey, final Collection<String> variableNames) {
+    if (variableNames.isEmpty()) {
+      return getContext(scopeKey);
+    }
+    ensureGreaterThan("variable scope key", scopeKey, 0);
+
+    final var names = new ArrayList<DirectBuffer>(variableNames.size());
+    variableNames.forEach(name -> names.add(BufferUtil.wrapString(name)));
+    final var context = getContext(scopeKey);
+    final var fetched = variableState.getVariablesAsDocument(scopeKey, names);
+    if (fetched.capacity() > MAX_PREFETCH_SIZE) {
+      return context;
+    }
+
+    // the document is only a view on a buffer which is reused by the state, so we copy it
+    final var variables = readVariables(BufferUtil.cloneBuffer(fetched));
+    return name -> {
+      final var variable = variables.get(name);
+      if (variable != null || variableNames.contains(name)) {
+        return variable;
+      }
+      return context.getVariable(name);
+    };
+  }
+
+  private static Map<String, DirectBuffer> readVariables(final DirectBuffer document) {
+    final var reader = new MsgPackReader();
+    reader.wrap(document, 0, document.capacity());
+
+    final int size = reader.readMapHeader();
+    final var variables = new HashMap<String, DirectBuffer>(size);
+    for (int i = 0; i < size; i++) {
+      final int nameLength = reader.readStringLength();
+      final var name = BufferUtil.bufferAsString(document, reader.getOffset(), nameLength);
+      reader.skipBytes(nameLength);
+
+      final int valueOffset = reader.getOffset();
+      reader.skipValue();
+      variables.put(
+          name, new UnsafeBuffer(document, valueOffset, reader.getOffset() - valueOffset));
+    }
+    return variables;
+  }
 }
@@ -34,6 +34,8 @@ import io.camunda.zeebe.engine.state.instance.DbIncidentState;
 import io.camunda.zeebe.engine.state.instance.DbJobState;
 import io.camunda.zeebe.engine.state.instance.DbTimerInstanceState;
 import io.camunda.zeebe.engine.state.instance.DbUserTaskState;
+import io.camunda.zeebe.engine.state.instance.TimerDueDateIndex;
+import io.camunda.zeebe.engine.state.instance.TransientInputCollectionState;
 import io.camunda.zeebe.engine.state.message.DbMessageCorrelationState;
 import io.camunda.zeebe.engine.state.message.DbMessageStartEventSubscriptionState;
 import io.camunda.zeebe.engine.state.message.DbMessageState;
@@ -120,6 +122,7 @@ public class ProcessingDbState implements MutableProcessingState {
   private final MutableGroupState groupState;
   private final MutableMappingState mappingState;
   private final TransientPendingSubscriptionState transientProcessMessageSubscriptionState;
+  private final TransientInputCollectionState transientInputCollectionState;
   private final int partitionId;
 
   public ProcessingDbState(
@@ -129,15 +132,18 @@ public class ProcessingDbState implements MutableProcessingState {
       final KeyGenerator keyGenerator,
       final TransientPendingSubscriptionState transientMessageSubscriptionState,
       final TransientPendingSubscriptionState transientProcessMessageSubscriptionState,
+      final TimerDueDateIndex timerDueDateIndex,
       final EngineConfiguration config,
       final InstantSource clock) {
     this.partitionId = partitionId;
     this.zeebeDb = zeebeDb;
     this.keyGenerator = Objects.requireNonNull(keyGenerator);
 
-    variableState = new DbVariableState(zeebeDb, transactionContext);
+    transientInputCollectionState = new TransientInputCollectionState(transactionContext);
+    variableState =
+        new DbVariableState(zeebeDb, transactionContext, transientInputCollectionState);
     processState = new DbProcessState(zeebeDb, transactionContext, config, clock);
-    timerInstanceState = new DbTimerInstanceState(zeebeDb, transactionContext);
+    timerInstanceState = new DbTimerInstanceState(zeebeDb, transactionContext, timerDueDateIndex);
     elementInstanceState = new DbElementInstanceState(zeebeDb, transactionContext, variableState);
     eventScopeInstanceState = new DbEventScopeInstanceState(zeebeDb, transactionContext);
 
@@ -182,6 +188,7 @@ public class ProcessingDbState implements MutableProcessingState {
     processMessageSubscriptionState.onRecovered(context);
     bannedInstanceState.onRecovered(context);
     messageState.onRecovered(context);
+    timerInstanceState.onRecovered(context);
   }
 
   @Override
@@ -359,6 +366,11 @@ public class ProcessingDbState implements MutableProcessingState {
     return transientProcessMessageSubscriptionState;
   }
 
+  @Override
+  public TransientInputCollectionState getTransientInputCollectionState() {
+    return transientInputCollectionState;
+  }
+
   @Override
   public int getPartitionId() {
     return partitionId;
@@ -42,6 +42,17 @@ public interface JobState {
       final List<String> tenantIds,
       BiFunction<Long, JobRecord, Boolean> callback);
 
+  /**
+   * Returns the number of activatable jobs of the given type, which belong to one of the given
+   * tenants. The counts are kept in memory, so this is cheap enough to be called before every job
+   * activation, e.g. to skip activation requests for job types without any jobs.
+   *
+   * @param type the job type
+   * @param tenantIds the tenants the jobs may belong to
+   * @return the number of activatable jobs
+   */
+  long getActivatableJobCount(DirectBuffer type, List<String> tenantIds);
+
   JobRecord getJob(long key);
 
   JobRecord getJob(final long key, final AuthorizedTenants authorizedTenantIds);
@@ -8,6 +8,7 @@
 package io.camunda.zeebe.engine.state.immutable;
 
 import io.camunda.zeebe.engine.scaling.redistribution.RedistributionState;
+import io.camunda.zeebe.engine.state.instance.TransientInputCollectionState;
 import io.camunda.zeebe.engine.state.message.TransientPendingSubscriptionState;
 import io.camunda.zeebe.protocol.ZbColumnFamilies;
 import io.camunda.zeebe.stream.api.StreamProcessorLifecycleAware;
@@ -58,6 +59,8 @@ public interface ProcessingState extends StreamProcessorLifecycleAware {
 
   TransientPendingSubscriptionState getTransientPendingSubscriptionState();
 
+  TransientInputCollectionState getTransientInputCollectionState();
+
   MigrationState getMigrationState();
 
   UserTaskState getUserTaskState();
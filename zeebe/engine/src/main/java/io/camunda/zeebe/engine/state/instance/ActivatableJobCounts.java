@@ -0,0 +1,141 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.engine.state.instance;
+
+import io.camunda.zeebe.db.TransactionContext;
+import io.camunda.zeebe.db.TransactionListener;
+import io.camunda.zeebe.util.buffer.BufferUtil;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import org.agrona.DirectBuffer;
+import org.agrona.collections.MutableLong;
+import org.agrona.concurrent.UnsafeBuffer;
+
+/**
+ * Keeps track of the number of activatable jobs per tenant and job type, such that job activation
+ * can tell whether there is anything to activate without iterating over the activatable jobs in the
+ * state.
+ *
+ * <p>The counts are only kept in memory, and have to be rebuilt from the state after a restart, see
+ * {@link #restore(String, DirectBuffer)}. Changes are recorded as pending until the transaction is
+ * committed, such that they are visible within the transaction but discarded on rollback.
+ *
+ * <p>This class is not thread safe, it is meant to be used by the stream processor only.
+ */
+final class ActivatableJobCounts implements TransactionListener {
+
+  private final Map<String, Map<DirectBuffer, MutableLong>> committedCounts = new HashMap<>();
+  private final Map<String, Map<DirectBuffer, MutableLong>> pendingChanges = new HashMap<>();
+  private final UnsafeBuffer typeView = new UnsafeBuffer();
+  private final TransactionContext transactionContext;
+
+  private boolean restored;
+  private boolean listening;
+
+  ActivatableJobCounts(final TransactionContext transactionContext) {
+    this.transactionContext = transactionContext;
+  }
+
+  /**
+   * @return true if the counts were already rebuilt from the state
+   */
+  boolean isRestored() {
+    return restored;
+  }
+
+  /** Counts a job which is activatable in the state. Must only be called while restoring. */
+  void restore(final String tenantId, final DirectBuffer type) {
+    add(committedCounts, tenantId, type, 1);
+  }
+
+  /** Marks the restore as complete; from now on, changes have to be recorded. */
+  void completeRestore() {
+    restored = true;
+  }
+
+  /** Records that a job of the given type became activatable in the current transaction. */
+  void increment(final String tenantId, final DirectBuffer type) {
+    recordChange(tenantId, type, 1);
+  }
+
+  /** Records that a job of the given type is not activatable anymore in the current transaction. */
+  void decrement(final String tenantId, final DirectBuffer type) {
+    recordChange(tenantId, type, -1);
+  }
+
+  /**
+   * @return the number of activatable jobs of the given type which belong to one of the given
+   *     tenants, including the changes of the current transaction
+   */
+  long count(final DirectBuffer type, final List<String> tenantIds) {
+    typeView.wrap(type);
+
+    long count = 0;
+    for (final String tenantId : tenantIds) {
+      count += get(committedCounts, tenantId, typeView) + get(pendingChanges, tenantId, typeView);
+    }
+    return count;
+  }
+
+  @Override
+  public void onCommit() {
+    listening = false;
+    for (final var tenantChanges : pendingChanges.entrySet()) {
+      final var changes = tenantChanges.getValue();
+      for (final var change : changes.entrySet()) {
+        add(committedCounts, tenantChanges.getKey(), change.getKey(), change.getValue().get());
+      }
+    }
+    pendingChanges.clear();
+  }
+
+  @Override
+  public void onRollback() {
+    listening = false;
+    pendingChanges.clear();
+  }
+
+  private void recordChange(final String tenantId, final DirectBuffer type, final long delta) {
+    if (!listening) {
+      transactionContext.addTransactionListener(this);
+      listening = true;
+    }
+
+    add(pendingChanges, tenantId, type, delta);
+  }
+
+  private void add(
+      final Map<String, Map<DirectBuffer, MutableLong>> counts,
+      final String tenantId,
+      final DirectBuffer type,
+      final long delta) {
+    final var countsOfTenant = counts.computeIfAbsent(tenantId, ignored -> new HashMap<>());
+    typeView.wrap(type);
+
+    final var count = countsOfTenant.get(typeView);
+    if (count == null) {
+      countsOfTenant.put(BufferUtil.cloneBuffer(type), new MutableLong(delta));
+    } else if (count.addAndGet(delta) == 0) {
+      countsOfTenant.remove(typeView);
+    }
+  }
+
+  private long get(
+      final Map<String, Map<DirectBuffer, MutableLong>> counts,
+      final String tenantId,
+      final DirectBuffer type) {
+    final var countsOfTenant = counts.get(tenantId);
+    if (countsOfTenant == null) {
+      return 0;
+    }
+
+    final var count = countsOfTenant.get(type);
+    return count == null ? 0 : count.get();
+  }
+}
@@ -59,6 +59,7 @@ public final class DbJobState implements JobState, MutableJobState {
   private final ColumnFamily<
           DbTenantAwareKey<DbCompositeKey<DbString, DbForeignKey<DbLong>>>, DbNil>
       activatableColumnFamily;
+  private final ActivatableJobCounts activatableJobCounts;
 
   // timeout => key
   private final DbLong deadlineKey;
@@ -95,6 +96,7 @@ public final class DbJobState implements JobState, MutableJobState {
             transactionContext,
             tenantAwareTypeJobKey,
             DbNil.INSTANCE);
+    activatableJobCounts = new ActivatableJobCounts(transactionContext);
 
     deadlineKey = new DbLong();
     deadlineJobKey = new DbCompositeKey<>(deadlineKey, fkJob);
@@ -128,7 +130,7 @@ public final class DbJobState implements JobState, MutableJobState {
 
     updateJobState(State.ACTIVATED);
 
-    makeJobNotActivatable(type, tenantId);
+    makeJobNotActivatable(type, key, tenantId);
 
     addJobDeadline(key, deadline);
   }
@@ -163,13 +165,13 @@ public final class DbJobState implements JobState, MutableJobState {
   @Override
   public void disable(final long key, final JobRecord record) {
     updateJob(key, record, State.FAILED);
-    makeJobNotActivatable(record.getTypeBuffer(), record.getTenantId());
+    makeJobNotActivatable(record.getTypeBuffer(), key, record.getTenantId());
   }
 
   @Override
   public void throwError(final long key, final JobRecord updatedValue) {
     updateJob(key, updatedValue, State.ERROR_THROWN);
-    makeJobNotActivatable(updatedValue.getTypeBuffer(), updatedValue.getTenantId());
+    makeJobNotActivatable(updatedValue.getTypeBuffer(), key, updatedValue.getTenantId());
   }
 
   @Override
@@ -182,7 +184,7 @@ public final class DbJobState implements JobState, MutableJobState {
 
     statesJobColumnFamily.deleteExisting(fkJob);
 
-    makeJobNotActivatable(type, tenantId);
+    makeJobNotActivatable(type, key, tenantId);
 
     removeJobDeadline(key, record.getDeadline());
     removeJobBackoff(key, record.getRecurringTime());
@@ -194,13 +196,13 @@ public final class DbJobState implements JobState, MutableJobState {
       if (updatedValue.getRetryBackoff() > 0) {
         addJobBackoff(key, updatedValue.getRecurringTime());
         updateJob(key, updatedValue, State.FAILED);
-        makeJobNotActivatable(updatedValue.getTypeBuffer(), updatedValue.getTenantId());
+        makeJobNotActivatable(updatedValue.getTypeBuffer(), key, updatedValue.getTenantId());
       } else {
         updateJob(key, updatedValue, State.ACTIVATABLE);
       }
     } else {
       updateJob(key, updatedValue, State.FAILED);
-      makeJobNotActivatable(updatedValue.getTypeBuffer(), updatedValue.getTenantId());
+      makeJobNotActivatable(updatedValue.getTypeBuffer(), key, updatedValue.getTenantId());
     }
   }
 
@@ -406,6 +408,10 @@ public final class DbJobState implements JobState, MutableJobState {
       final DirectBuffer type,
       final List<String> tenantIds,
       final BiFunction<Long, JobRecord, Boolean> callback) {
+    if (getActivatableJobCount(type, tenantIds) == 0) {
+      return;
+    }
+
     jobTypeKey.wrapBuffer(type);
 
     activatableColumnFamily.whileEqualPrefix(
@@ -422,6 +428,11 @@ public final class DbJobState implements JobState, MutableJobState {
         }));
   }
 
+  @Override
+  public long getActivatableJobCount(final DirectBuffer type, final List<String> tenantIds) {
+    return getActivatableJobCounts().count(type, tenantIds);
+  }
+
   @Override
   public JobRecord getJob(final long key) {
     jobKey.wrapLong(key);
@@ -502,21 +513,46 @@ public final class DbJobState implements JobState, MutableJobState {
     EnsureUtil.ensureNotNullOrEmpty("type", type);
     EnsureUtil.ensureNotNullOrEmpty("tenantId", tenantId);
 
+    final var activatableJobCounts = getActivatableJobCounts();
     jobTypeKey.wrapBuffer(type);
     jobKey.wrapLong(key);
     tenantIdKey.wrapString(tenantId);
     // Need to upsert here because jobs can be marked as failed (and thus made activatable)
     // without activating them first
+    if (!activatableColumnFamily.exists(tenantAwareTypeJobKey)) {
+      activatableJobCounts.increment(tenantId, type);
+    }
     activatableColumnFamily.upsert(tenantAwareTypeJobKey, DbNil.INSTANCE);
   }
 
-  private void makeJobNotActivatable(final DirectBuffer type, final String tenantId) {
+  private void makeJobNotActivatable(
+      final DirectBuffer type, final long key, final String tenantId) {
     EnsureUtil.ensureNotNullOrEmpty("type", type);
     EnsureUtil.ensureNotNullOrEmpty("tenantid", tenantId);
 
+    final var activatableJobCounts = getActivatableJobCounts();
     jobTypeKey.wrapBuffer(type);
+    jobKey.wrapLong(key);
     tenantIdKey.wrapString(tenantId);
-    activatableColumnFamily.deleteIfExists(tenantAwareTypeJobKey);
+    if (activatableColumnFamily.exists(tenantAwareTypeJobKey)) {
+      activatableJobCounts.decrement(tenantId, type);
+      activatableColumnFamily.deleteExisting(tenantAwareTypeJobKey);
+    }
+  }
+
+  /**
+   * Returns the counts of activatable jobs, which are rebuilt from the state on first access. As
+   * this iterates over the activatable jobs, it must be called before wrapping any keys.
+   */
+  private ActivatableJobCounts getActivatableJobCounts() {
+    if (!activatableJobCounts.isRestored()) {
+      activatableColumnFamily.forEach(
+          (key, nil) ->
+              activatableJobCounts.restore(
+                  key.tenantKey().toString(), key.wrappedKey().first().getBuffer()));
+      activatableJobCounts.completeRestore();
+    }
+    return activatableJobCounts;
   }
 
   private void addJobDeadline(final long job, final long deadline) {
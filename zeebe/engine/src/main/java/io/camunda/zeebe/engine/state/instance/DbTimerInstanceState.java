@@ -15,8 +15,10 @@ import io.camunda.zeebe.db.impl.DbForeignKey;
 import io.camunda.zeebe.db.impl.DbForeignKey.MatchType;
 import io.camunda.zeebe.db.impl.DbLong;
 import io.camunda.zeebe.db.impl.DbNil;
+import io.camunda.zeebe.engine.state.instance.TimerDueDateIndex.Entry;
 import io.camunda.zeebe.engine.state.mutable.MutableTimerInstanceState;
 import io.camunda.zeebe.protocol.ZbColumnFamilies;
+import io.camunda.zeebe.stream.api.ReadonlyStreamProcessorContext;
 import java.util.function.Consumer;
 
 public final class DbTimerInstanceState implements MutableTimerInstanceState {
@@ -35,10 +37,21 @@ public final class DbTimerInstanceState implements MutableTimerInstanceState {
   private final DbCompositeKey<DbLong, DbCompositeKey<DbForeignKey<DbLong>, DbLong>>
       dueDateCompositeKey;
 
+  private final TransactionContext transactionContext;
+  private final TimerDueDateIndex dueDateIndex;
+
   private long nextDueDate;
 
+  /**
+   * @param dueDateIndex the in-memory due date index of the partition; it is rebuilt and kept up to
+   *     date by the state of the stream processor, and only read by all others
+   */
   public DbTimerInstanceState(
-      final ZeebeDb<ZbColumnFamilies> zeebeDb, final TransactionContext transactionContext) {
+      final ZeebeDb<ZbColumnFamilies> zeebeDb,
+      final TransactionContext transactionContext,
+      final TimerDueDateIndex dueDateIndex) {
+    this.transactionContext = transactionContext;
+    this.dueDateIndex = dueDateIndex;
     timerInstance = new TimerInstance();
     timerKey = new DbLong();
     elementInstanceKey =
@@ -62,8 +75,26 @@ public final class DbTimerInstanceState implements MutableTimerInstanceState {
             DbNil.INSTANCE);
   }
 
+  @Override
+  public void onRecovered(final ReadonlyStreamProcessorContext context) {
+    if (dueDateIndex.isRestored()) {
+      return;
+    }
+
+    dueDateColumnFamily.forEach(
+        (key, nil) ->
+            dueDateIndex.restore(
+                key.first().getValue(),
+                key.second().first().inner().getValue(),
+                key.second().second().getValue()));
+    dueDateIndex.completeRestore();
+  }
+
   @Override
   public void store(final TimerInstance timer) {
+    dueDateIndex.add(
+        transactionContext, timer.getDueDate(), timer.getElementInstanceKey(), timer.getKey());
+
     timerKey.wrapLong(timer.getKey());
     elementInstanceKey.inner().wrapLong(timer.getElementInstanceKey());
 
@@ -75,6 +106,9 @@ public final class DbTimerInstanceState implements MutableTimerInstanceState {
 
   @Override
   public void remove(final TimerInstance timer) {
+    dueDateIndex.remove(
+        transactionContext, timer.getDueDate(), timer.getElementInstanceKey(), timer.getKey());
+
     elementInstanceKey.inner().wrapLong(timer.getElementInstanceKey());
     timerKey.wrapLong(timer.getKey());
     timerInstanceColumnFamily.deleteExisting(elementAndTimerKey);
@@ -92,6 +126,10 @@ public final class DbTimerInstanceState implements MutableTimerInstanceState {
 
   @Override
   public long processTimersWithDueDateBefore(final long timestamp, final TimerVisitor consumer) {
+    if (dueDateIndex.isRestored()) {
+      return processIndexedTimersWithDueDateBefore(timestamp, consumer);
+    }
+
     nextDueDate = -1L;
 
     dueDateColumnFamily.whileTrue(
@@ -122,6 +160,29 @@ public final class DbTimerInstanceState implements MutableTimerInstanceState {
     return nextDueDate;
   }
 
+  private long processIndexedTimersWithDueDateBefore(
+      final long timestamp, final TimerVisitor consumer) {
+    for (final Entry entry : dueDateIndex.entries()) {
+      if (entry.dueDate() > timestamp) {
+        return entry.dueDate();
+      }
+
+      elementInstanceKey.inner().wrapLong(entry.elementInstanceKey());
+      timerKey.wrapLong(entry.timerKey());
+      final var timerInstance = timerInstanceColumnFamily.get(elementAndTimerKey);
+      if (timerInstance == null) {
+        // the timer was removed after we read its entry, same as when scanning the due dates
+        continue;
+      }
+
+      if (!consumer.visit(timerInstance)) {
+        return entry.dueDate();
+      }
+    }
+
+    return -1L;
+  }
+
   @Override
   public void forEachTimerForElementInstance(
       final long elementInstanceKey, final Consumer<TimerInstance> action) {
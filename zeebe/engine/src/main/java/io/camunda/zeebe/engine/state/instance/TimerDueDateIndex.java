@@ -0,0 +1,125 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.engine.state.instance;
+
+import io.camunda.zeebe.db.TransactionContext;
+import io.camunda.zeebe.db.TransactionListener;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.NavigableSet;
+import java.util.concurrent.ConcurrentSkipListSet;
+
+/**
+ * Keeps the due dates of all timers ordered in memory, such that finding the due timers does not
+ * need to seek and scan the due date column family on every check.
+ *
+ * <p>The index is only kept in memory, and has to be rebuilt from the state once the stream
+ * processor recovered, see {@link #restore(long, long, long)}. Until then, changes are ignored.
+ * Afterwards, changes are recorded as pending until the transaction is committed, such that a
+ * rollback does not leave timers behind in the index, or remove timers which still exist.
+ *
+ * <p>One index is shared per partition: changes are only made by the stream processor, while the
+ * due date checker reads it through its own state, possibly on another actor. Only committed
+ * entries are visible to readers.
+ */
+public final class TimerDueDateIndex implements TransactionListener {
+
+  private static final Comparator<Entry> ORDER =
+      Comparator.comparingLong(Entry::dueDate)
+          .thenComparingLong(Entry::elementInstanceKey)
+          .thenComparingLong(Entry::timerKey);
+
+  private final NavigableSet<Entry> entries = new ConcurrentSkipListSet<>(ORDER);
+  private final List<Change> pendingChanges = new ArrayList<>();
+
+  private volatile boolean restored;
+  private boolean listening;
+
+  /**
+   * @return true if the index was already rebuilt from the state, and can be used for lookups
+   */
+  boolean isRestored() {
+    return restored;
+  }
+
+  /** Adds a timer which exists in the state. Must only be called while restoring. */
+  void restore(final long dueDate, final long elementInstanceKey, final long timerKey) {
+    entries.add(new Entry(dueDate, elementInstanceKey, timerKey));
+  }
+
+  /** Marks the restore as complete; from now on, changes have to be recorded. */
+  void completeRestore() {
+    restored = true;
+  }
+
+  /** Records that the timer was added in the given, current transaction. */
+  void add(
+      final TransactionContext transactionContext,
+      final long dueDate,
+      final long elementInstanceKey,
+      final long timerKey) {
+    recordChange(
+        transactionContext, new Change(true, new Entry(dueDate, elementInstanceKey, timerKey)));
+  }
+
+  /** Records that the timer was removed in the given, current transaction. */
+  void remove(
+      final TransactionContext transactionContext,
+      final long dueDate,
+      final long elementInstanceKey,
+      final long timerKey) {
+    recordChange(
+        transactionContext, new Change(false, new Entry(dueDate, elementInstanceKey, timerKey)));
+  }
+
+  /**
+   * Returns the committed timers ordered by due date. The view is weakly consistent: it reflects
+   * changes committed while iterating, but never throws a {@link
+   * java.util.ConcurrentModificationException}.
+   */
+  Iterable<Entry> entries() {
+    return entries;
+  }
+
+  @Override
+  public void onCommit() {
+    listening = false;
+    for (final Change change : pendingChanges) {
+      if (change.added()) {
+        entries.add(change.entry());
+      } else {
+        entries.remove(change.entry());
+      }
+    }
+    pendingChanges.clear();
+  }
+
+  @Override
+  public void onRollback() {
+    listening = false;
+    pendingChanges.clear();
+  }
+
+  private void recordChange(final TransactionContext transactionContext, final Change change) {
+    if (!restored) {
+      return;
+    }
+
+    if (!listening) {
+      transactionContext.addTransactionListener(this);
+      listening = true;
+    }
+
+    pendingChanges.add(change);
+  }
+
+  record Entry(long dueDate, long elementInstanceKey, long timerKey) {}
+
+  private record Change(boolean added, Entry entry) {}
+}
@@ -0,0 +1,305 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.engine.state.instance;
+
+import io.camunda.zeebe.db.TransactionContext;
+import io.camunda.zeebe.db.TransactionListener;
+import io.camunda.zeebe.msgpack.spec.MsgPackReader;
+import io.camunda.zeebe.util.buffer.BufferUtil;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import org.agrona.DirectBuffer;
+import org.agrona.collections.Long2ObjectHashMap;
+import org.agrona.collections.LongHashSet;
+import org.agrona.concurrent.UnsafeBuffer;
+
+/**
+ * Keeps the evaluated input collections of active multi-instance bodies in memory, such that the
+ * collection is not evaluated again whenever an inner instance is activated or completed. Since
+ * the items of a collection can be accessed by their index, activating all inner instances is
+ * linear in the size of the collection.
+ *
+ * <p>A collection is only kept as long as evaluating it again would return the same result: it is
+ * dropped as soon as one of the variables referenced by the input collection expression is set in
+ * one of the scopes it was evaluated in, see {@link #onVariableChanged(long, DirectBuffer)}. This
+ * way, it doesn't matter whether a collection is known or has to be evaluated again, e.g. after a
+ * restart, and modifying the input collection while iterating over it is still detected.
+ *
+ * <p>The collections are not part of the persisted state. Their total size is limited, the least
+ * recently used ones are dropped first.
+ *
+ * <p>Changes are applied immediately, but undone if the transaction is rolled back, such that no
+ * collection is kept which was evaluated on state that was never committed.
+ *
+ * <p>This class is not thread safe, it must only be used by the stream processor.
+ */
+public final class TransientInputCollectionState implements TransactionListener {
+
+  private static final long MAX_SIZE_IN_BYTES = 32 * 1024 * 1024;
+
+  private final TransactionContext transactionContext;
+  private final LinkedHashMap<Long, Entry> entries = new LinkedHashMap<>(16, 0.75f, true);
+
+  /** The multi-instance bodies by the scopes their input collection was evaluated in. */
+  private final Long2ObjectHashMap<LongHashSet> bodiesByScope = new Long2ObjectHashMap<>();
+
+  /** The entries before they were changed in the current transaction, to undo the changes. */
+  private final Map<Long, Entry> previousEntries = new HashMap<>();
+
+  private long sizeInBytes;
+  private boolean listening;
+
+  public TransientInputCollectionState(final TransactionContext transactionContext) {
+    this.transactionContext = transactionContext;
+  }
+
+  /**
+   * Returns the input collection of the given multi-instance body, if it was evaluated for the
+   * given process definition. The process definition changes if the instance is migrated, in which
+   * case the collection has to be evaluated again.
+   *
+   * @param multiInstanceBodyKey the key of the multi-instance body
+   * @param processDefinitionKey the key of the process definition of the multi-instance body
+   * @return the input collection, or {@code null} if it is not known
+   */
+  public InputCollection get(final long multiInstanceBodyKey, final long processDefinitionKey) {
+    final var entry = entries.get(multiInstanceBodyKey);
+    if (entry == null || entry.collection().processDefinitionKey() != processDefinitionKey) {
+      return null;
+    }
+    return entry.collection();
+  }
+
+  /**
+   * Keeps the given input collection of the multi-instance body, replacing any previous one. If the
+   * collection is larger than all collections may be together, it is not kept.
+   *
+   * @param multiInstanceBodyKey the key of the multi-instance body
+   * @param collection the evaluated input collection
+   * @param scopeKeys the keys of the variable scopes the collection was evaluated in, i.e. the
+   *     scope of the multi-instance body and all its parent scopes
+   * @param variableNames the names of the variables the input collection expression references
+   */
+  public void put(
+      final long multiInstanceBodyKey,
+      final InputCollection collection,
+      final long[] scopeKeys,
+      final Set<String> variableNames) {
+    remove(multiInstanceBodyKey);
+    if (collection.sizeInBytes() > MAX_SIZE_IN_BYTES) {
+      return;
+    }
+
+    recordPrevious(multiInstanceBodyKey);
+    add(multiInstanceBodyKey, new Entry(collection, scopeKeys, variableNames));
+    evictLeastRecentlyUsed();
+  }
+
+  /**
+   * Drops the input collection of the multi-instance body, e.g. because it is completed.
+   *
+   * @param multiInstanceBodyKey the key of the multi-instance body
+   */
+  public void remove(final long multiInstanceBodyKey) {
+    if (entries.containsKey(multiInstanceBodyKey)) {
+      recordPrevious(multiInstanceBodyKey);
+      delete(multiInstanceBodyKey);
+    }
+  }
+
+  /**
+   * Drops the input collections which reference the given variable, and were evaluated in the given
+   * scope. Must be called whenever a variable is set.
+   *
+   * @param scopeKey the scope of the variable
+   * @param name the name of the variable
+   */
+  public void onVariableChanged(final long scopeKey, final DirectBuffer name) {
+    final var bodies = bodiesByScope.get(scopeKey);
+    if (bodies == null) {
+      return;
+    }
+
+    final var variableName = BufferUtil.bufferAsString(name);
+    final var affectedBodies = new ArrayList<Long>();
+    for (final Long body : bodies) {
+      if (entries.get(body).variableNames().contains(variableName)) {
+        affectedBodies.add(body);
+      }
+    }
+    affectedBodies.forEach(this::remove);
+  }
+
+  /**
+   * Drops the input collections which were evaluated in the given scope. Must be called whenever
+   * the variables of the scope are removed.
+   *
+   * @param scopeKey the scope of the variables
+   */
+  public void onVariablesRemoved(final long scopeKey) {
+    final var bodies = bodiesByScope.get(scopeKey);
+    if (bodies != null) {
+      new ArrayList<>(bodies).forEach(this::remove);
+    }
+  }
+
+  @Override
+  public void onCommit() {
+    listening = false;
+    previousEntries.clear();
+  }
+
+  @Override
+  public void onRollback() {
+    listening = false;
+    previousEntries.forEach(
+        (key, entry) -> {
+          delete(key);
+          if (entry != null) {
+            add(key, entry);
+          }
+        });
+    previousEntries.clear();
+    evictLeastRecentlyUsed();
+  }
+
+  private void recordPrevious(final long multiInstanceBodyKey) {
+    if (!listening) {
+      transactionContext.addTransactionListener(this);
+      listening = true;
+    }
+
+    if (!previousEntries.containsKey(multiInstanceBodyKey)) {
+      previousEntries.put(multiInstanceBodyKey, entries.get(multiInstanceBodyKey));
+    }
+  }
+
+  private void add(final long multiInstanceBodyKey, final Entry entry) {
+    entries.put(multiInstanceBodyKey, entry);
+    sizeInBytes += entry.collection().sizeInBytes();
+    for (final long scopeKey : entry.scopeKeys()) {
+      bodiesByScope.computeIfAbsent(scopeKey, key -> new LongHashSet()).add(multiInstanceBodyKey);
+    }
+  }
+
+  private void delete(final long multiInstanceBodyKey) {
+    final var entry = entries.remove(multiInstanceBodyKey);
+    if (entry == null) {
+      return;
+    }
+
+    sizeInBytes -= entry.collection().sizeInBytes();
+    for (final long scopeKey : entry.scopeKeys()) {
+      final var bodies = bodiesByScope.get(scopeKey);
+      if (bodies != null) {
+        bodies.remove(multiInstanceBodyKey);
+        if (bodies.isEmpty()) {
+          bodiesByScope.remove(scopeKey);
+        }
+      }
+    }
+  }
+
+  /**
+   * Drops collections until all fit into the limit. Dropping a collection is not undone on
+   * rollback, since the collection is only evaluated again if it is needed.
+   */
+  private void evictLeastRecentlyUsed() {
+    if (sizeInBytes <= MAX_SIZE_IN_BYTES) {
+      return;
+    }
+
+    final Iterator<Long> leastRecentlyUsed = new ArrayList<>(entries.keySet()).iterator();
+    while (sizeInBytes > MAX_SIZE_IN_BYTES && leastRecentlyUsed.hasNext()) {
+      delete(leastRecentlyUsed.next());
+    }
+  }
+
+  private record Entry(InputCollection collection, long[] scopeKeys, Set<String> variableNames) {}
+
+  /**
+   * An evaluated input collection, as MessagePack array. The offsets of the items are indexed once,
+   * such that an item can be read without reading the items before it.
+   */
+  public static final class InputCollection {
+    private final long processDefinitionKey;
+    private final DirectBuffer array;
+    private final int[] itemOffsets;
+    private final DirectBuffer itemView = new UnsafeBuffer();
+
+    private InputCollection(
+        final long processDefinitionKey, final DirectBuffer array, final int[] itemOffsets) {
+      this.processDefinitionKey = processDefinitionKey;
+      this.array = array;
+      this.itemOffsets = itemOffsets;
+    }
+
+    /**
+     * Creates an input collection from the given MessagePack array.
+     *
+     * @param processDefinitionKey the key of the process definition the collection was evaluated
+     *     for
+     * @param array the MessagePack array; it is copied, so the buffer can be reused afterwards
+     * @return the input collection
+     */
+    public static InputCollection of(final long processDefinitionKey, final DirectBuffer array) {
+      final var copy = BufferUtil.cloneBuffer(array);
+      final var reader = new MsgPackReader();
+      reader.wrap(copy, 0, copy.capacity());
+
+      final int size = reader.readArrayHeader();
+      final var itemOffsets = new int[size + 1];
+      for (int i = 0; i < size; i++) {
+        itemOffsets[i] = reader.getOffset();
+        reader.skipValue();
+      }
+      itemOffsets[size] = reader.getOffset();
+
+      return new InputCollection(processDefinitionKey, copy, itemOffsets);
+    }
+
+    long processDefinitionKey() {
+      return processDefinitionKey;
+    }
+
+    long sizeInBytes() {
+      return array.capacity() + (long) itemOffsets.length * Integer.BYTES;
+    }
+
+    public int size() {
+      return itemOffsets.length - 1;
+    }
+
+    public boolean isEmpty() {
+      return size() == 0;
+    }
+
+    /**
+     * Returns the item at the given index. The returned buffer is a view which is reused by the
+     * next call.
+     *
+     * @param index the index of the item, starting at 0
+     * @return the MessagePack encoded item
+     * @throws IndexOutOfBoundsException if the index is not within the collection
+     */
+    public DirectBuffer get(final int index) {
+      if (index < 0 || index >= size()) {
+        throw new IndexOutOfBoundsException(
+            "Expected index to be within [0, %d), but was %d".formatted(size(), index));
+      }
+
+      final int offset = itemOffsets[index];
+      itemView.wrap(array, offset, itemOffsets[index + 1] - offset);
+      return itemView;
+    }
+  }
+}
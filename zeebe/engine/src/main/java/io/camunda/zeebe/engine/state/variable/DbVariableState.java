@@ -14,12 +14,14 @@ import io.camunda.zeebe.db.impl.DbCompositeKey;
 import io.camunda.zeebe.db.impl.DbLong;
 import io.camunda.zeebe.db.impl.DbString;
 import io.camunda.zeebe.engine.state.instance.ParentScopeKey;
+import io.camunda.zeebe.engine.state.instance.TransientInputCollectionState;
 import io.camunda.zeebe.engine.state.mutable.MutableVariableState;
 import io.camunda.zeebe.msgpack.spec.MsgPackWriter;
 import io.camunda.zeebe.protocol.ZbColumnFamilies;
 import io.camunda.zeebe.util.buffer.BufferUtil;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Comparator;
 import java.util.List;
 import java.util.function.BiConsumer;
 import java.util.function.BooleanSupplier;
@@ -33,6 +35,15 @@ import org.agrona.concurrent.UnsafeBuffer;
 
 public class DbVariableState implements MutableVariableState {
 
+  /**
+   * Orders lookup keys of the same scope like the state does, i.e. by the serialized variable
+   * name: first by its length, which is written as a big endian prefix, then by its unsigned bytes.
+   */
+  private static final Comparator<DbCompositeKey<DbLong, DbString>> LOOKUP_KEY_ORDER =
+      Comparator.comparing(
+          (DbCompositeKey<DbLong, DbString> key) -> key.second().getBuffer(),
+          DbVariableState::compareSerializedNames);
+
   private final MsgPackWriter writer = new MsgPackWriter();
   private final ExpandableArrayBuffer documentResultBuffer = new ExpandableArrayBuffer();
   private final DirectBuffer resultView = new UnsafeBuffer(0, 0);
@@ -55,9 +66,22 @@ public class DbVariableState implements MutableVariableState {
   // collecting variables
   private final ObjectHashSet<DirectBuffer> collectedVariables = new ObjectHashSet<>();
   private final ObjectHashSet<DirectBuffer> variablesToCollect = new ObjectHashSet<>();
+  // distinct keys to look up multiple variables of a scope at once, grown on demand
+  private final List<DbCompositeKey<DbLong, DbString>> lookupKeys = new ArrayList<>();
+
+  private final TransientInputCollectionState inputCollectionState;
 
   public DbVariableState(
       final ZeebeDb<ZbColumnFamilies> zeebeDb, final TransactionContext transactionContext) {
+    this(zeebeDb, transactionContext, new TransientInputCollectionState(transactionContext));
+  }
+
+  public DbVariableState(
+      final ZeebeDb<ZbColumnFamilies> zeebeDb,
+      final TransactionContext transactionContext,
+      final TransientInputCollectionState inputCollectionState) {
+    this.inputCollectionState = inputCollectionState;
+
     childKey = new DbLong();
     childParentColumnFamily =
         zeebeDb.createColumnFamily(
@@ -109,6 +133,7 @@ public class DbVariableState implements MutableVariableState {
     variableName.wrapBuffer(variableNameView);
 
     variablesColumnFamily.upsert(scopeKeyVariableNameKey, newVariable);
+    inputCollectionState.onVariableChanged(scopeKey, variableNameView);
   }
 
   @Override
@@ -132,6 +157,7 @@ public class DbVariableState implements MutableVariableState {
 
   @Override
   public void removeAllVariables(final long scopeKey) {
+    inputCollectionState.onVariablesRemoved(scopeKey);
     visitVariablesLocal(
         scopeKey,
         dbString -> true,
@@ -232,16 +258,13 @@ public class DbVariableState implements MutableVariableState {
 
     writer.reserveMapHeader();
 
-    visitVariables(
-        scopeKey,
-        name -> variablesToCollect.contains(name.getBuffer()),
-        (name, value) -> {
-          writer.writeString(name.getBuffer());
-          writer.writeRaw(value.getValue());
-
-          variablesToCollect.remove(name.getBuffer());
-        },
-        variablesToCollect::isEmpty);
+    // look up the remaining names in each scope at once, instead of iterating over all variables
+    // of every scope or looking up each name on its own
+    long currentScope = scopeKey;
+    do {
+      collectVariablesLocal(currentScope);
+      currentScope = getParentScopeKey(currentScope);
+    } while (!variablesToCollect.isEmpty() && currentScope >= 0);
 
     writer.writeReservedMapHeader(0, names.size() - variablesToCollect.size());
 
@@ -316,6 +339,55 @@ public class DbVariableState implements MutableVariableState {
     return variablesColumnFamily.get(scopeKeyVariableNameKey);
   }
 
+  /**
+   * Looks up all variables in {@link #variablesToCollect} in the given scope at once, writes the
+   * found ones to the document writer and removes them from {@link #variablesToCollect}.
+   */
+  private void collectVariablesLocal(final long scopeKey) {
+    while (lookupKeys.size() < variablesToCollect.size()) {
+      lookupKeys.add(new DbCompositeKey<>(new DbLong(), new DbString()));
+    }
+
+    final var keys = lookupKeys.subList(0, variablesToCollect.size());
+    int index = 0;
+    for (final DirectBuffer name : variablesToCollect) {
+      final var key = keys.get(index++);
+      key.first().wrapLong(scopeKey);
+      key.second().wrapBuffer(name);
+    }
+
+    // the names are collected in hash order, but the document should list the variables of a scope
+    // in the same order as iterating over the scope, i.e. in the order of the keys in the state
+    keys.sort(LOOKUP_KEY_ORDER);
+
+    variablesColumnFamily.multiGet(
+        keys,
+        (key, variable) -> {
+          if (variable != null) {
+            final DirectBuffer name = key.second().getBuffer();
+            writer.writeString(name);
+            writer.writeRaw(variable.getValue());
+            variablesToCollect.remove(name);
+          }
+        });
+  }
+
+  private static int compareSerializedNames(final DirectBuffer name, final DirectBuffer other) {
+    final int lengthComparison = Integer.compare(name.capacity(), other.capacity());
+    if (lengthComparison != 0) {
+      return lengthComparison;
+    }
+
+    for (int i = 0; i < name.capacity(); i++) {
+      final int byteComparison = Byte.compareUnsigned(name.getByte(i), other.getByte(i));
+      if (byteComparison != 0) {
+        return byteComparison;
+      }
+    }
+
+    return 0;
+  }
+
   /**
    * Like {@link #visitVariablesLocal(long, Predicate, BiConsumer, BooleanSupplier)} but walks up
    * the scope hierarchy.
@@ -7,7 +7,10 @@
  */
 package io.camunda.zeebe.engine.perf;
 
+import io.camunda.zeebe.db.impl.rocksdb.RocksDbConfiguration;
+import io.camunda.zeebe.db.impl.rocksdb.RocksDbConfiguration.TransactionMode;
 import io.camunda.zeebe.engine.perf.TestEngine.TestContext;
+import io.camunda.zeebe.engine.state.DefaultZeebeDbFactory;
 import io.camunda.zeebe.engine.util.client.ProcessInstanceClient;
 import io.camunda.zeebe.model.bpmn.Bpmn;
 import io.camunda.zeebe.protocol.record.Record;
@@ -28,6 +31,7 @@ import org.openjdk.jmh.annotations.Fork;
 import org.openjdk.jmh.annotations.Measurement;
 import org.openjdk.jmh.annotations.Mode;
 import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
 import org.openjdk.jmh.annotations.Setup;
 import org.openjdk.jmh.annotations.State;
 import org.openjdk.jmh.annotations.TearDown;
@@ -47,6 +51,9 @@ public class EngineLargeStatePerformanceTest {
   public static final Logger LOG =
       LoggerFactory.getLogger(EngineLargeStatePerformanceTest.class.getName());
 
+  @Param({"OPTIMISTIC", "WRITE_BATCH"})
+  private TransactionMode transactionMode;
+
   private long count;
   private ProcessInstanceClient processInstanceClient;
   private TestEngine.TestContext testContext;
@@ -56,7 +63,11 @@ public class EngineLargeStatePerformanceTest {
   public void setup() throws Throwable {
     testContext = createTestContext();
 
-    singlePartitionEngine = TestEngine.createSinglePartitionEngine(testContext);
+    singlePartitionEngine =
+        TestEngine.createSinglePartitionEngine(
+            testContext,
+            DefaultZeebeDbFactory.defaultFactory(
+                new RocksDbConfiguration().setTransactionMode(transactionMode)));
 
     setupState(singlePartitionEngine);
   }
@@ -138,9 +149,31 @@ public class EngineLargeStatePerformanceTest {
     final var referenceScore = 1000;
 
     // when
-    final var assertResult = testCase.run();
+    final var assertResult =
+        testCase.withOptions(options -> options.param("transactionMode", "OPTIMISTIC")).run();
 
     // then
     assertResult.isAtLeast(referenceScore, 0.25);
   }
+
+  @JMHTest("measureProcessExecutionTime")
+  void shouldProcessWithinExpectedDeviationWithWriteBatchTransactions(
+      final JMHTestCase testCase) {
+    // given - the score of optimistic transactions on the same machine; write batch transactions
+    // skip the conflict tracking of optimistic transactions, so they are expected to be at least as
+    // fast
+    final var referenceResult =
+        JMHTestCase.of(
+                getClass(),
+                "measureProcessExecutionTime",
+                options -> options.param("transactionMode", "OPTIMISTIC"))
+            .run();
+
+    // when
+    final var assertResult =
+        testCase.withOptions(options -> options.param("transactionMode", "WRITE_BATCH")).run();
+
+    // then
+    assertResult.isAtLeast(referenceResult, 0.1);
+  }
 }
@@ -0,0 +1,183 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.engine.perf;
+
+import static io.camunda.zeebe.test.util.MsgPackUtil.asMsgPack;
+
+import io.camunda.zeebe.db.ZeebeDb;
+import io.camunda.zeebe.el.Expression;
+import io.camunda.zeebe.el.ExpressionLanguageFactory;
+import io.camunda.zeebe.engine.EngineConfiguration;
+import io.camunda.zeebe.engine.processing.bpmn.clock.ZeebeFeelEngineClock;
+import io.camunda.zeebe.engine.processing.common.ExpressionProcessor;
+import io.camunda.zeebe.engine.processing.common.ExpressionProcessor.EvaluationContextLookup;
+import io.camunda.zeebe.engine.processing.variable.VariableStateEvaluationContextLookup;
+import io.camunda.zeebe.engine.state.DefaultZeebeDbFactory;
+import io.camunda.zeebe.engine.state.ProcessingDbState;
+import io.camunda.zeebe.engine.state.immutable.VariableState;
+import io.camunda.zeebe.engine.state.instance.TimerDueDateIndex;
+import io.camunda.zeebe.engine.state.message.TransientPendingSubscriptionState;
+import io.camunda.zeebe.engine.state.mutable.MutableVariableState;
+import io.camunda.zeebe.protocol.Protocol;
+import io.camunda.zeebe.protocol.ZbColumnFamilies;
+import io.camunda.zeebe.stream.impl.state.DbKeyGenerator;
+import io.camunda.zeebe.test.util.jmh.JMHTestCase;
+import io.camunda.zeebe.test.util.junit.JMHTest;
+import io.camunda.zeebe.util.FileUtil;
+import io.camunda.zeebe.util.buffer.BufferUtil;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.InstantSource;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the evaluation of a condition which reads its variables several times, in a scope which
+ * is nested {@value #SCOPE_DEPTH} levels deep below the scope holding the variables, e.g. a task in
+ * nested sub-processes and multi-instance bodies. The variables referenced by the expression are
+ * either fetched at once before the evaluation, or looked up one by one during the evaluation,
+ * walking the whole scope hierarchy on each lookup.
+ */
+@Warmup(iterations = 10, time = 1, timeUnit = TimeUnit.SECONDS)
+@Measurement(iterations = 10, time = 1, timeUnit = TimeUnit.SECONDS)
+@Fork(
+    value = 1,
+    jvmArgs = {"-Xmx1g", "-Xms1g"})
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(org.openjdk.jmh.annotations.Scope.Benchmark)
+public class ExpressionEvaluationPerformanceTest {
+  private static final int SCOPE_DEPTH = 16;
+  private static final long ROOT_SCOPE_KEY = 1;
+  private static final long LEAF_SCOPE_KEY = ROOT_SCOPE_KEY + SCOPE_DEPTH;
+  private static final String CONDITION =
+      """
+      order.amount * sum(items.quantity) > 1000
+        and order.customer.tier = "gold"
+        and count(items) > 10
+        and order.express""";
+
+  @Param({"true", "false"})
+  private boolean prefetch;
+
+  private Path dataDirectory;
+  private ZeebeDb<ZbColumnFamilies> zeebeDb;
+  private ExpressionProcessor expressionProcessor;
+  private Expression condition;
+
+  @Setup
+  public void setup() throws Exception {
+    dataDirectory = Files.createTempDirectory("expressions");
+    zeebeDb = DefaultZeebeDbFactory.defaultFactory().createDb(dataDirectory.toFile());
+    final var transactionContext = zeebeDb.createContext();
+    final var processingState =
+        new ProcessingDbState(
+            Protocol.DEPLOYMENT_PARTITION,
+            zeebeDb,
+            transactionContext,
+            new DbKeyGenerator(Protocol.DEPLOYMENT_PARTITION, zeebeDb, transactionContext),
+            new TransientPendingSubscriptionState(),
+            new TransientPendingSubscriptionState(),
+            new TimerDueDateIndex(),
+            new EngineConfiguration(),
+            InstantSource.system());
+    final var variableState = processingState.getVariableState();
+    createScopesWithVariables(variableState);
+
+    final var expressionLanguage =
+        ExpressionLanguageFactory.createExpressionLanguage(
+            new ZeebeFeelEngineClock(InstantSource.system()));
+    final var prefetchingLookup = new VariableStateEvaluationContextLookup(variableState);
+    // only implements the single-argument lookup, so every variable is looked up on its own
+    final EvaluationContextLookup perVariableLookup = prefetchingLookup::getContext;
+    expressionProcessor =
+        new ExpressionProcessor(
+            expressionLanguage, prefetch ? prefetchingLookup : perVariableLookup);
+    condition = expressionLanguage.parseExpression("=" + CONDITION);
+  }
+
+  @TearDown
+  public void tearDown() throws Exception {
+    zeebeDb.close();
+    FileUtil.deleteFolder(dataDirectory);
+  }
+
+  @Benchmark
+  public boolean measureConditionEvaluation() {
+    final var result = expressionProcessor.evaluateBooleanExpression(condition, LEAF_SCOPE_KEY);
+    if (result.isLeft()) {
+      throw new IllegalStateException(result.getLeft().getMessage());
+    }
+    return result.get();
+  }
+
+  @JMHTest("measureConditionEvaluation")
+  void shouldEvaluateFasterWithPrefetchedVariables(final JMHTestCase testCase) {
+    // given - the same condition in the same scope, looking up each variable on its own
+    final var referenceResult =
+        JMHTestCase.of(
+                getClass(),
+                "measureConditionEvaluation",
+                options -> options.param("prefetch", "false"))
+            .run();
+
+    // when
+    final var assertResult =
+        testCase.withOptions(options -> options.param("prefetch", "true")).run();
+
+    // then - the condition reads its two variables five times; fetching them at once walks the
+    // scope hierarchy once instead of once per read, so it must be clearly faster, not just on par
+    assertResult.isAtLeast(referenceResult, -0.25);
+  }
+
+  private static void createScopesWithVariables(final MutableVariableState variableState) {
+    variableState.createScope(ROOT_SCOPE_KEY, VariableState.NO_PARENT);
+    for (long scopeKey = ROOT_SCOPE_KEY + 1; scopeKey <= LEAF_SCOPE_KEY; scopeKey++) {
+      variableState.createScope(scopeKey, scopeKey - 1);
+      // each scope holds local variables of its own, as e.g. a multi-instance body does
+      setVariable(variableState, scopeKey * 100, scopeKey, "loopCounter", String.valueOf(scopeKey));
+    }
+
+    setVariable(
+        variableState,
+        1,
+        ROOT_SCOPE_KEY,
+        "order",
+        """
+        {"amount": 120.5, "express": true, "customer": {"tier": "gold", "country": "DE"}}""");
+    setVariable(
+        variableState,
+        2,
+        ROOT_SCOPE_KEY,
+        "items",
+        """
+        [{"id": 0, "quantity": 1}, {"id": 1, "quantity": 2}, {"id": 2, "quantity": 3},
+         {"id": 3, "quantity": 1}, {"id": 4, "quantity": 2}, {"id": 5, "quantity": 3},
+         {"id": 6, "quantity": 1}, {"id": 7, "quantity": 2}, {"id": 8, "quantity": 3},
+         {"id": 9, "quantity": 1}, {"id": 10, "quantity": 2}, {"id": 11, "quantity": 3}]""");
+  }
+
+  private static void setVariable(
+      final MutableVariableState variableState,
+      final long key,
+      final long scopeKey,
+      final String name,
+      final String json) {
+    variableState.setVariableLocal(key, scopeKey, 1, BufferUtil.wrapString(name), asMsgPack(json));
+  }
+}
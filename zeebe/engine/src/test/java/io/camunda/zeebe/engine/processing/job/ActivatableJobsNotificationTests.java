@@ -73,6 +73,18 @@ public final class ActivatableJobsNotificationTests {
     verifyLongPollingNotification(3, taskType);
   }
 
+  @Test
+  public void shouldNotifyWithActivatableJobCount() {
+    // when
+    createProcessInstanceAndJobs(2);
+
+    // then
+    Mockito.verify(JOB_STREAMER, Mockito.timeout(VERIFICATION_TIMEOUT))
+        .notifyWorkAvailable(taskType, 1L);
+    Mockito.verify(JOB_STREAMER, Mockito.timeout(VERIFICATION_TIMEOUT))
+        .notifyWorkAvailable(taskType, 2L);
+  }
+
   @Test
   public void shouldNotifyWhenJobsAvailableAgain() {
     // given
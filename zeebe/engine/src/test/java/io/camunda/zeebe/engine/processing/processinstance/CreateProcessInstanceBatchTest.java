@@ -0,0 +1,185 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.engine.processing.processinstance;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+import io.camunda.zeebe.engine.util.EngineRule;
+import io.camunda.zeebe.model.bpmn.Bpmn;
+import io.camunda.zeebe.protocol.record.Record;
+import io.camunda.zeebe.protocol.record.RecordType;
+import io.camunda.zeebe.protocol.record.RejectionType;
+import io.camunda.zeebe.protocol.record.intent.ProcessInstanceCreationBatchIntent;
+import io.camunda.zeebe.protocol.record.intent.ProcessInstanceCreationIntent;
+import io.camunda.zeebe.protocol.record.intent.ProcessInstanceIntent;
+import io.camunda.zeebe.protocol.record.value.BpmnElementType;
+import io.camunda.zeebe.protocol.record.value.ProcessInstanceCreationBatchRecordValue.ProcessInstanceCreationBatchResultValue;
+import io.camunda.zeebe.protocol.record.value.ProcessInstanceCreationRecordValue;
+import io.camunda.zeebe.test.util.BrokerClassRuleHelper;
+import io.camunda.zeebe.test.util.record.RecordingExporter;
+import io.camunda.zeebe.test.util.record.RecordingExporterTestWatcher;
+import io.camunda.zeebe.util.ByteValue;
+import java.util.Map;
+import org.junit.ClassRule;
+import org.junit.Rule;
+import org.junit.Test;
+
+public final class CreateProcessInstanceBatchTest {
+
+  private static final long MAX_MESSAGE_SIZE = ByteValue.ofMegabytes(4);
+
+  @ClassRule public static final EngineRule ENGINE = EngineRule.singlePartition();
+
+  @Rule
+  public final RecordingExporterTestWatcher recordingExporterTestWatcher =
+      new RecordingExporterTestWatcher();
+
+  @Rule public final BrokerClassRuleHelper helper = new BrokerClassRuleHelper();
+
+  @Test
+  public void shouldCreateAllInstancesOfBatch() {
+    // given
+    final String processId = helper.getBpmnProcessId();
+    ENGINE
+        .deployment()
+        .withXmlResource(Bpmn.createExecutableProcess(processId).startEvent().endEvent().done())
+        .deploy();
+
+    // when
+    final var batch =
+        ENGINE
+            .processInstance()
+            .batch()
+            .withInstance(processId, Map.of("order", 1))
+            .withInstance(processId, Map.of("order", 2))
+            .withInstance(processId, Map.of("order", 3))
+            .create();
+
+    // then
+    assertThat(batch.getIntent()).isEqualTo(ProcessInstanceCreationBatchIntent.CREATED);
+    assertThat(batch.getValue().getInstances()).isEmpty();
+    assertThat(batch.getValue().getResults())
+        .hasSize(3)
+        .allSatisfy(
+            result -> {
+              assertThat(result.getBpmnProcessId()).isEqualTo(processId);
+              assertThat(result.getVersion()).isEqualTo(1);
+              assertThat(result.getProcessInstanceKey()).isPositive();
+              assertThat(result.getRejectionType()).isEqualTo(RejectionType.NULL_VAL);
+            });
+
+    final var processInstanceKeys =
+        batch.getValue().getResults().stream()
+            .map(ProcessInstanceCreationBatchResultValue::getProcessInstanceKey)
+            .toList();
+    assertThat(
+            RecordingExporter.processInstanceCreationRecords()
+                .withIntent(ProcessInstanceCreationIntent.CREATED)
+                .limit(3))
+        .extracting(Record::getValue)
+        .extracting(
+            ProcessInstanceCreationRecordValue::getProcessInstanceKey,
+            ProcessInstanceCreationRecordValue::getVariables)
+        .containsExactly(
+            tuple(processInstanceKeys.get(0), Map.of("order", 1)),
+            tuple(processInstanceKeys.get(1), Map.of("order", 2)),
+            tuple(processInstanceKeys.get(2), Map.of("order", 3)));
+
+    processInstanceKeys.forEach(
+        processInstanceKey ->
+            assertThat(
+                    RecordingExporter.processInstanceRecords()
+                        .withProcessInstanceKey(processInstanceKey)
+                        .withElementType(BpmnElementType.PROCESS)
+                        .withIntent(ProcessInstanceIntent.ELEMENT_COMPLETED)
+                        .exists())
+                .isTrue());
+  }
+
+  @Test
+  public void shouldRejectOnlyInstancesWhichCannotBeCreated() {
+    // given
+    final String processId = helper.getBpmnProcessId();
+    ENGINE
+        .deployment()
+        .withXmlResource(Bpmn.createExecutableProcess(processId).startEvent().endEvent().done())
+        .deploy();
+
+    // when
+    final var batch =
+        ENGINE
+            .processInstance()
+            .batch()
+            .withInstance(processId)
+            .withInstance("unknown-process")
+            .withInstance(processId)
+            .create();
+
+    // then
+    assertThat(batch.getIntent()).isEqualTo(ProcessInstanceCreationBatchIntent.CREATED);
+    assertThat(batch.getValue().getResults())
+        .extracting(
+            ProcessInstanceCreationBatchResultValue::getBpmnProcessId,
+            ProcessInstanceCreationBatchResultValue::getRejectionType,
+            ProcessInstanceCreationBatchResultValue::getRejectionReason)
+        .containsExactly(
+            tuple(processId, RejectionType.NULL_VAL, ""),
+            tuple(
+                "unknown-process",
+                RejectionType.NOT_FOUND,
+                "Expected to find process definition with process ID 'unknown-process', but none found"),
+            tuple(processId, RejectionType.NULL_VAL, ""));
+    assertThat(batch.getValue().getResults().get(1).getProcessInstanceKey()).isEqualTo(-1L);
+  }
+
+  @Test
+  public void shouldRejectEmptyBatch() {
+    // when
+    final var batch = ENGINE.processInstance().batch().create();
+
+    // then
+    assertThat(batch.getRecordType()).isEqualTo(RecordType.COMMAND_REJECTION);
+    assertThat(batch.getRejectionType()).isEqualTo(RejectionType.INVALID_ARGUMENT);
+    assertThat(batch.getRejectionReason())
+        .isEqualTo("Expected to create at least one process instance, but the batch is empty");
+  }
+
+  @Test
+  public void shouldRejectBatchWhichExceedsMaxBatchSize() {
+    // given
+    final String processId = helper.getBpmnProcessId();
+    ENGINE
+        .deployment()
+        .withXmlResource(Bpmn.createExecutableProcess(processId).startEvent().endEvent().done())
+        .deploy();
+    // each instance fits into the command, but their variables are written again on creation
+    final var largeVariable = "x".repeat((int) (MAX_MESSAGE_SIZE / 2 - ByteValue.ofKilobytes(10)));
+
+    // when
+    final var batch =
+        ENGINE
+            .processInstance()
+            .batch()
+            .withInstance(processId, Map.of("large", largeVariable))
+            .withInstance(processId, Map.of("large", largeVariable))
+            .create();
+
+    // then
+    assertThat(batch.getRecordType()).isEqualTo(RecordType.COMMAND_REJECTION);
+    assertThat(batch.getRejectionType()).isEqualTo(RejectionType.INVALID_ARGUMENT);
+    assertThat(batch.getRejectionReason())
+        .contains("the resulting records exceed the maximum batch size");
+    assertThat(
+            RecordingExporter.records()
+                .limit(record -> record.getPosition() >= batch.getPosition())
+                .processInstanceRecords()
+                .withBpmnProcessId(processId))
+        .isEmpty();
+  }
+}
@@ -0,0 +1,110 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.engine.processing.variable;
+
+import static io.camunda.zeebe.test.util.MsgPackUtil.asMsgPack;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.camunda.zeebe.engine.state.immutable.VariableState;
+import io.camunda.zeebe.engine.state.mutable.MutableProcessingState;
+import io.camunda.zeebe.engine.state.mutable.MutableVariableState;
+import io.camunda.zeebe.engine.util.ProcessingStateExtension;
+import io.camunda.zeebe.util.buffer.BufferUtil;
+import java.util.Set;
+import org.agrona.DirectBuffer;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+@ExtendWith(ProcessingStateExtension.class)
+final class VariableStateEvaluationContextLookupTest {
+
+  private static final long PARENT_SCOPE_KEY = 1;
+  private static final long CHILD_SCOPE_KEY = 2;
+
+  @SuppressWarnings("unused") // injected by the extension
+  private MutableProcessingState processingState;
+
+  private MutableVariableState state;
+  private VariableStateEvaluationContextLookup lookup;
+
+  @BeforeEach
+  void beforeEach() {
+    state = processingState.getVariableState();
+    lookup = new VariableStateEvaluationContextLookup(state);
+
+    state.createScope(PARENT_SCOPE_KEY, VariableState.NO_PARENT);
+    state.createScope(CHILD_SCOPE_KEY, PARENT_SCOPE_KEY);
+    setVariable(10, PARENT_SCOPE_KEY, "foo", "\"parent\"");
+    setVariable(11, PARENT_SCOPE_KEY, "bar", "1");
+    setVariable(12, CHILD_SCOPE_KEY, "foo", "\"child\"");
+  }
+
+  @Test
+  void shouldResolveFetchedVariablesFromClosestScope() {
+    // when
+    final var context = lookup.getContext(CHILD_SCOPE_KEY, Set.of("foo", "bar"));
+
+    // then
+    assertThat(context.getVariable("foo")).isEqualTo(asMsgPack("\"child\""));
+    assertThat(context.getVariable("bar")).isEqualTo(asMsgPack("1"));
+  }
+
+  @Test
+  void shouldResolveVariablesWhichWereNotFetched() {
+    // when
+    final var context = lookup.getContext(CHILD_SCOPE_KEY, Set.of("foo"));
+
+    // then
+    assertThat(context.getVariable("bar")).isEqualTo(asMsgPack("1"));
+  }
+
+  @Test
+  void shouldNotResolveMissingVariables() {
+    // when
+    final var context = lookup.getContext(CHILD_SCOPE_KEY, Set.of("foo", "missing"));
+
+    // then
+    assertThat(context.getVariable("missing")).isNull();
+    assertThat(context.getVariable("unknown")).isNull();
+  }
+
+  @Test
+  void shouldKeepFetchedVariablesWhenStateIsReadAgain() {
+    // given
+    final var context = lookup.getContext(CHILD_SCOPE_KEY, Set.of("foo"));
+
+    // when
+    state.getVariablesAsDocument(PARENT_SCOPE_KEY);
+
+    // then
+    assertThat(context.getVariable("foo")).isEqualTo(asMsgPack("\"child\""));
+  }
+
+  @Test
+  void shouldLookUpLargeVariablesOnDemand() {
+    // given
+    final var largeValue =
+        "\"%s\"".formatted("x".repeat(VariableStateEvaluationContextLookup.MAX_PREFETCH_SIZE));
+    setVariable(13, PARENT_SCOPE_KEY, "large", largeValue);
+    final var context = lookup.getContext(CHILD_SCOPE_KEY, Set.of("large", "missing"));
+
+    // when
+    setVariable(14, PARENT_SCOPE_KEY, "missing", "1");
+
+    // then - the variables were not fetched up front, so changes are still visible
+    assertThat(context.getVariable("large")).isEqualTo(asMsgPack(largeValue));
+    assertThat(context.getVariable("missing")).isEqualTo(asMsgPack("1"));
+  }
+
+  private void setVariable(
+      final long key, final long scopeKey, final String name, final String jsonValue) {
+    final DirectBuffer value = asMsgPack(jsonValue);
+    state.setVariableLocal(key, scopeKey, 1, BufferUtil.wrapString(name), value);
+  }
+}
@@ -770,6 +770,77 @@ public final class JobStateTest {
     refuteListedAsTimedOut(key, jobRecord.getDeadline() + 1);
   }
 
+  @Test
+  public void shouldCountActivatableJobsPerTypeAndTenant() {
+    // given
+    final DirectBuffer type = wrapString("test");
+    jobState.create(1L, newJobRecord());
+    jobState.create(2L, newJobRecord());
+    jobState.create(3L, newJobRecord("other-tenant"));
+    jobState.create(4L, newJobRecord().setType("other-type"));
+
+    // when
+    createAndActivateJobRecord(5L, newJobRecord());
+    jobState.fail(5L, newJobRecord());
+    jobState.activate(2L, newJobRecord());
+
+    // then
+    assertThat(
+            jobState.getActivatableJobCount(type, List.of(TenantOwned.DEFAULT_TENANT_IDENTIFIER)))
+        .isEqualTo(2);
+    assertThat(
+            jobState.getActivatableJobCount(
+                type, List.of(TenantOwned.DEFAULT_TENANT_IDENTIFIER, "other-tenant")))
+        .isEqualTo(3);
+    assertThat(jobState.getActivatableJobCount(wrapString("unknown"), List.of("other-tenant")))
+        .isZero();
+  }
+
+  @Test
+  public void shouldRestoreActivatableJobCountsFromState() {
+    // given
+    final DirectBuffer type = wrapString("test");
+    jobState.create(1L, newJobRecord());
+    jobState.create(2L, newJobRecord());
+    createAndActivateJobRecord(3L, newJobRecord());
+    final var db = stateRule.getDb();
+
+    // when
+    final var restoredJobState = new DbJobState(db, db.createContext());
+
+    // then
+    assertThat(
+            restoredJobState.getActivatableJobCount(
+                type, List.of(TenantOwned.DEFAULT_TENANT_IDENTIFIER)))
+        .isEqualTo(2);
+  }
+
+  @Test
+  public void shouldDiscardActivatableJobCountChangesOnRollback() throws Exception {
+    // given
+    final DirectBuffer type = wrapString("test");
+    final var tenantIds = List.of(TenantOwned.DEFAULT_TENANT_IDENTIFIER);
+    final var db = stateRule.getDb();
+    final var context = db.createContext();
+    final var otherJobState = new DbJobState(db, context);
+    otherJobState.create(1L, newJobRecord());
+
+    // when
+    final var transaction = context.getCurrentTransaction();
+    transaction.run(
+        () -> {
+          otherJobState.create(2L, newJobRecord());
+          otherJobState.activate(1L, newJobRecord());
+          assertThat(otherJobState.getActivatableJobCount(type, tenantIds)).isEqualTo(1);
+        });
+    transaction.rollback();
+
+    // then
+    assertThat(otherJobState.getActivatableJobCount(type, tenantIds)).isEqualTo(1);
+    assertThat(getActivatableKeys(type, TenantOwned.DEFAULT_TENANT_IDENTIFIER))
+        .containsExactly(1L);
+  }
+
   private void createAndActivateJobRecord(final long key, final JobRecord record) {
     jobState.create(key, record);
     jobState.activate(key, record);
@@ -201,13 +201,89 @@ public final class TimerInstanceStateTest {
     assertThat(keys).hasSize(2).containsExactly(1L, 2L);
   }
 
-  private TimerInstance createTimerInstance(
+  @Test
+  public void shouldFindTimersRestoredIntoDueDateIndex() {
+    // given
+    createTimerInstance(1, 1, 1000L);
+    createTimerInstance(2, 2, 2000L);
+    createTimerInstance(3, 3, 3000L);
+    final var indexedState = createIndexedState(new TimerDueDateIndex());
+
+    // when
+    indexedState.onRecovered(null);
+
+    // then
+    final List<Long> keys = new ArrayList<>();
+    final long nextDueDate =
+        indexedState.processTimersWithDueDateBefore(
+            2000L, t -> keys.add(t.getElementInstanceKey()));
+    assertThat(keys).containsExactly(1L, 2L);
+    assertThat(nextDueDate).isEqualTo(3000L);
+  }
+
+  @Test
+  public void shouldShareDueDateIndexWithOtherStates() {
+    // given
+    final var dueDateIndex = new TimerDueDateIndex();
+    final var indexedState = createIndexedState(dueDateIndex);
+    final var readingState = createIndexedState(dueDateIndex);
+    indexedState.onRecovered(null);
+
+    // when
+    createElementInstance(1L);
+    createElementInstance(2L);
+    indexedState.store(newTimerInstance(1, 1, 2000L));
+    indexedState.store(newTimerInstance(2, 2, 1000L));
+    indexedState.remove(newTimerInstance(1, 1, 2000L));
+
+    // then
+    final List<Long> keys = new ArrayList<>();
+    final long nextDueDate =
+        readingState.processTimersWithDueDateBefore(
+            3000L, t -> keys.add(t.getElementInstanceKey()));
+    assertThat(keys).containsExactly(2L);
+    assertThat(nextDueDate).isEqualTo(-1L);
+  }
+
+  @Test
+  public void shouldNotIndexTimersOfRolledBackTransaction() throws Exception {
+    // given
+    final var transactionContext = stateRule.getDb().createContext();
+    final var indexedState =
+        new DbTimerInstanceState(stateRule.getDb(), transactionContext, new TimerDueDateIndex());
+    indexedState.onRecovered(null);
+    createElementInstance(1L);
+
+    // when
+    final var transaction = transactionContext.getCurrentTransaction();
+    transaction.run(() -> indexedState.store(newTimerInstance(1, 1, 1000L)));
+    transaction.rollback();
+
+    // then
+    final List<TimerInstance> timers = new ArrayList<>();
+    final long nextDueDate = indexedState.processTimersWithDueDateBefore(2000L, timers::add);
+    assertThat(timers).isEmpty();
+    assertThat(nextDueDate).isEqualTo(-1L);
+  }
+
+  private DbTimerInstanceState createIndexedState(final TimerDueDateIndex dueDateIndex) {
+    return new DbTimerInstanceState(
+        stateRule.getDb(), stateRule.getDb().createContext(), dueDateIndex);
+  }
+
+  private TimerInstance newTimerInstance(
       final long elementInstanceKey, final long timerKey, final long dueDate) {
-    createElementInstance(elementInstanceKey);
     final TimerInstance timer = new TimerInstance();
     timer.setElementInstanceKey(elementInstanceKey);
     timer.setKey(timerKey);
     timer.setDueDate(dueDate);
+    return timer;
+  }
+
+  private TimerInstance createTimerInstance(
+      final long elementInstanceKey, final long timerKey, final long dueDate) {
+    createElementInstance(elementInstanceKey);
+    final TimerInstance timer = newTimerInstance(elementInstanceKey, timerKey, dueDate);
     state.store(timer);
     return timer;
   }
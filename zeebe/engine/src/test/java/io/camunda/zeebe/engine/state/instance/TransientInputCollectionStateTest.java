@@ -0,0 +1,205 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.engine.state.instance;
+
+import static io.camunda.zeebe.test.util.MsgPackUtil.asMsgPack;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import io.camunda.zeebe.db.TransactionContext;
+import io.camunda.zeebe.engine.state.instance.TransientInputCollectionState.InputCollection;
+import io.camunda.zeebe.engine.util.ProcessingStateExtension;
+import io.camunda.zeebe.util.buffer.BufferUtil;
+import java.util.Set;
+import org.agrona.concurrent.UnsafeBuffer;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+@ExtendWith(ProcessingStateExtension.class)
+final class TransientInputCollectionStateTest {
+
+  private static final long BODY_KEY = 1;
+  private static final long PROCESS_DEFINITION_KEY = 2;
+  private static final long BODY_SCOPE_KEY = BODY_KEY;
+  private static final long PROCESS_INSTANCE_SCOPE_KEY = 3;
+  private static final long[] SCOPE_KEYS = {BODY_SCOPE_KEY, PROCESS_INSTANCE_SCOPE_KEY};
+  private static final Set<String> VARIABLE_NAMES = Set.of("items");
+
+  @SuppressWarnings("unused") // injected by the extension
+  private TransactionContext transactionContext;
+
+  private TransientInputCollectionState state;
+
+  @BeforeEach
+  void beforeEach() {
+    state = new TransientInputCollectionState(transactionContext);
+  }
+
+  @Test
+  void shouldAccessItemsByIndex() {
+    // when
+    final var collection =
+        InputCollection.of(PROCESS_DEFINITION_KEY, asMsgPack("[1,{\"a\":[2,3]},\"b\",null]"));
+
+    // then
+    assertThat(collection.size()).isEqualTo(4);
+    assertThat(collection.get(0)).isEqualTo(asMsgPack("1"));
+    assertThat(collection.get(1)).isEqualTo(asMsgPack("{\"a\":[2,3]}"));
+    assertThat(collection.get(2)).isEqualTo(asMsgPack("\"b\""));
+    assertThat(collection.get(3)).isEqualTo(asMsgPack("null"));
+    assertThatThrownBy(() -> collection.get(4)).isInstanceOf(IndexOutOfBoundsException.class);
+  }
+
+  @Test
+  void shouldCopyCollection() {
+    // given
+    final var array = new UnsafeBuffer(BufferUtil.cloneBuffer(asMsgPack("[1,2]")));
+
+    // when
+    final var collection = InputCollection.of(PROCESS_DEFINITION_KEY, array);
+    array.setMemory(0, array.capacity(), (byte) 0);
+
+    // then
+    assertThat(collection.get(1)).isEqualTo(asMsgPack("2"));
+  }
+
+  @Test
+  void shouldNotReturnCollectionOfOtherProcessDefinition() {
+    // given
+    put(BODY_KEY, "[1]");
+
+    // when - then
+    assertThat(state.get(BODY_KEY, PROCESS_DEFINITION_KEY)).isNotNull();
+    assertThat(state.get(BODY_KEY, PROCESS_DEFINITION_KEY + 1)).isNull();
+  }
+
+  @Test
+  void shouldRemoveCollection() {
+    // given
+    put(BODY_KEY, "[1]");
+
+    // when
+    state.remove(BODY_KEY);
+
+    // then
+    assertThat(state.get(BODY_KEY, PROCESS_DEFINITION_KEY)).isNull();
+  }
+
+  @Test
+  void shouldKeepCollectionOnCommit() throws Exception {
+    // given
+    final var transaction = transactionContext.getCurrentTransaction();
+
+    // when
+    transaction.run(() -> put(BODY_KEY, "[1]"));
+    transaction.commit();
+
+    // then
+    assertThat(state.get(BODY_KEY, PROCESS_DEFINITION_KEY)).isNotNull();
+  }
+
+  @Test
+  void shouldUndoChangesOnRollback() throws Exception {
+    // given
+    final var kept = InputCollection.of(PROCESS_DEFINITION_KEY, asMsgPack("[1]"));
+    final var transaction = transactionContext.getCurrentTransaction();
+    transaction.run(() -> state.put(BODY_KEY, kept, SCOPE_KEYS, VARIABLE_NAMES));
+    transaction.commit();
+
+    // when
+    final var rolledBack = transactionContext.getCurrentTransaction();
+    rolledBack.run(
+        () -> {
+          state.remove(BODY_KEY);
+          put(BODY_KEY, "[2]");
+          put(BODY_KEY + 1, "[3]");
+        });
+    rolledBack.rollback();
+
+    // then
+    assertThat(state.get(BODY_KEY, PROCESS_DEFINITION_KEY)).isSameAs(kept);
+    assertThat(state.get(BODY_KEY + 1, PROCESS_DEFINITION_KEY)).isNull();
+  }
+
+  @Test
+  void shouldRestoreDroppedCollectionOnRollback() throws Exception {
+    // given
+    final var kept = InputCollection.of(PROCESS_DEFINITION_KEY, asMsgPack("[1]"));
+    final var transaction = transactionContext.getCurrentTransaction();
+    transaction.run(() -> state.put(BODY_KEY, kept, SCOPE_KEYS, VARIABLE_NAMES));
+    transaction.commit();
+
+    // when
+    final var rolledBack = transactionContext.getCurrentTransaction();
+    rolledBack.run(
+        () -> state.onVariableChanged(PROCESS_INSTANCE_SCOPE_KEY, BufferUtil.wrapString("items")));
+    rolledBack.rollback();
+
+    // then
+    assertThat(state.get(BODY_KEY, PROCESS_DEFINITION_KEY)).isSameAs(kept);
+  }
+
+  @Test
+  void shouldDropCollectionIfReferencedVariableChangesInScope() {
+    // given
+    put(BODY_KEY, "[1]");
+    put(BODY_KEY + 1, "[2]");
+
+    // when
+    state.onVariableChanged(PROCESS_INSTANCE_SCOPE_KEY, BufferUtil.wrapString("items"));
+
+    // then
+    assertThat(state.get(BODY_KEY, PROCESS_DEFINITION_KEY)).isNull();
+    assertThat(state.get(BODY_KEY + 1, PROCESS_DEFINITION_KEY)).isNotNull();
+  }
+
+  @Test
+  void shouldKeepCollectionIfOtherVariableChangesInScope() {
+    // given
+    put(BODY_KEY, "[1]");
+
+    // when
+    state.onVariableChanged(BODY_SCOPE_KEY, BufferUtil.wrapString("results"));
+
+    // then
+    assertThat(state.get(BODY_KEY, PROCESS_DEFINITION_KEY)).isNotNull();
+  }
+
+  @Test
+  void shouldKeepCollectionIfReferencedVariableChangesInOtherScope() {
+    // given
+    put(BODY_KEY, "[1]");
+
+    // when
+    state.onVariableChanged(BODY_KEY + 100, BufferUtil.wrapString("items"));
+
+    // then
+    assertThat(state.get(BODY_KEY, PROCESS_DEFINITION_KEY)).isNotNull();
+  }
+
+  @Test
+  void shouldDropCollectionIfVariablesOfScopeAreRemoved() {
+    // given
+    put(BODY_KEY, "[1]");
+
+    // when
+    state.onVariablesRemoved(PROCESS_INSTANCE_SCOPE_KEY);
+
+    // then
+    assertThat(state.get(BODY_KEY, PROCESS_DEFINITION_KEY)).isNull();
+  }
+
+  private void put(final long bodyKey, final String jsonArray) {
+    state.put(
+        bodyKey,
+        InputCollection.of(PROCESS_DEFINITION_KEY, asMsgPack(jsonArray)),
+        new long[] {bodyKey, PROCESS_INSTANCE_SCOPE_KEY},
+        VARIABLE_NAMES);
+  }
+}
@@ -23,6 +23,7 @@ import io.camunda.zeebe.engine.state.mutable.MutableElementInstanceState;
 import io.camunda.zeebe.engine.state.mutable.MutableProcessingState;
 import io.camunda.zeebe.engine.state.mutable.MutableVariableState;
 import io.camunda.zeebe.engine.util.ProcessingStateRule;
+import io.camunda.zeebe.protocol.impl.encoding.MsgPackConverter;
 import io.camunda.zeebe.protocol.impl.record.value.processinstance.ProcessInstanceRecord;
 import io.camunda.zeebe.protocol.record.intent.ProcessInstanceIntent;
 import io.camunda.zeebe.stream.api.records.TypedRecord;
@@ -241,6 +242,29 @@ public final class VariableStateTest {
     assertEquality(variablesDocument, "{'a': 1}");
   }
 
+  @Test
+  public void shouldCollectVariablesByNameInStateOrder() {
+    // given
+    declareScope(parent);
+    declareScope(parent, child);
+
+    setVariableLocal(parent, wrapString("bb"), asMsgPack("2"));
+    setVariableLocal(parent, wrapString("c"), asMsgPack("3"));
+    setVariableLocal(parent, wrapString("a"), asMsgPack("1"));
+    setVariableLocal(child, wrapString("z"), asMsgPack("4"));
+
+    // when
+    final DirectBuffer variablesDocument =
+        variableState.getVariablesAsDocument(
+            child,
+            Arrays.asList(wrapString("c"), wrapString("bb"), wrapString("z"), wrapString("a")));
+
+    // then - like when iterating over the scopes, the variables are ordered by scope, and within a
+    // scope by their name as it is stored in the state, i.e. by its length first
+    assertThat(MsgPackConverter.convertToJson(variablesDocument))
+        .isEqualTo("{\"z\":4,\"a\":1,\"c\":3,\"bb\":2}");
+  }
+
   @Test
   public void shouldSetLocalVariable() {
     // given
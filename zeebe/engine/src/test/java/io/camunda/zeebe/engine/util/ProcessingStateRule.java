@@ -11,6 +11,7 @@ import io.camunda.zeebe.db.ZeebeDb;
 import io.camunda.zeebe.engine.EngineConfiguration;
 import io.camunda.zeebe.engine.state.DefaultZeebeDbFactory;
 import io.camunda.zeebe.engine.state.ProcessingDbState;
+import io.camunda.zeebe.engine.state.instance.TimerDueDateIndex;
 import io.camunda.zeebe.engine.state.message.TransientPendingSubscriptionState;
 import io.camunda.zeebe.engine.state.mutable.MutableProcessingState;
 import io.camunda.zeebe.protocol.Protocol;
@@ -50,6 +51,7 @@ public final class ProcessingStateRule extends ExternalResource {
             keyGenerator,
             new TransientPendingSubscriptionState(),
             new TransientPendingSubscriptionState(),
+            new TimerDueDateIndex(),
             new EngineConfiguration(),
             InstantSource.system());
   }
@@ -68,6 +70,10 @@ public final class ProcessingStateRule extends ExternalResource {
     return processingState;
   }
 
+  public ZeebeDb<ZbColumnFamilies> getDb() {
+    return db;
+  }
+
   public ZeebeDb<ZbColumnFamilies> createNewDb() {
     try {
 
@@ -13,6 +13,7 @@ import io.camunda.zeebe.engine.util.AuthorizationUtil;
 import io.camunda.zeebe.msgpack.property.ArrayProperty;
 import io.camunda.zeebe.msgpack.value.StringValue;
 import io.camunda.zeebe.protocol.impl.encoding.AuthInfo;
+import io.camunda.zeebe.protocol.impl.record.value.processinstance.ProcessInstanceCreationBatchRecord;
 import io.camunda.zeebe.protocol.impl.record.value.processinstance.ProcessInstanceCreationRecord;
 import io.camunda.zeebe.protocol.impl.record.value.processinstance.ProcessInstanceCreationStartInstruction;
 import io.camunda.zeebe.protocol.impl.record.value.processinstance.ProcessInstanceMigrationMappingInstruction;
@@ -24,11 +25,13 @@ import io.camunda.zeebe.protocol.impl.record.value.processinstance.ProcessInstan
 import io.camunda.zeebe.protocol.impl.record.value.processinstance.ProcessInstanceRecord;
 import io.camunda.zeebe.protocol.record.Record;
 import io.camunda.zeebe.protocol.record.intent.ErrorIntent;
+import io.camunda.zeebe.protocol.record.intent.ProcessInstanceCreationBatchIntent;
 import io.camunda.zeebe.protocol.record.intent.ProcessInstanceCreationIntent;
 import io.camunda.zeebe.protocol.record.intent.ProcessInstanceIntent;
 import io.camunda.zeebe.protocol.record.intent.ProcessInstanceMigrationIntent;
 import io.camunda.zeebe.protocol.record.intent.ProcessInstanceModificationIntent;
 import io.camunda.zeebe.protocol.record.value.ErrorRecordValue;
+import io.camunda.zeebe.protocol.record.value.ProcessInstanceCreationBatchRecordValue;
 import io.camunda.zeebe.protocol.record.value.ProcessInstanceCreationRecordValue;
 import io.camunda.zeebe.protocol.record.value.ProcessInstanceMigrationRecordValue;
 import io.camunda.zeebe.protocol.record.value.ProcessInstanceModificationRecordValue;
@@ -59,6 +62,10 @@ public final class ProcessInstanceClient {
     return new ExistingInstanceClient(writer, processInstanceKey);
   }
 
+  public ProcessInstanceCreationBatchClient batch() {
+    return new ProcessInstanceCreationBatchClient(writer);
+  }
+
   public static class ProcessInstanceCreationClient {
 
     private static final Function<Long, Record<ProcessInstanceCreationRecordValue>>
@@ -232,6 +239,39 @@ public final class ProcessInstanceClient {
     }
   }
 
+  public static class ProcessInstanceCreationBatchClient {
+    private final CommandWriter writer;
+    private final ProcessInstanceCreationBatchRecord record =
+        new ProcessInstanceCreationBatchRecord();
+
+    public ProcessInstanceCreationBatchClient(final CommandWriter writer) {
+      this.writer = writer;
+    }
+
+    public ProcessInstanceCreationBatchClient withInstance(final String bpmnProcessId) {
+      return withInstance(bpmnProcessId, Map.of());
+    }
+
+    public ProcessInstanceCreationBatchClient withInstance(
+        final String bpmnProcessId, final Map<String, Object> variables) {
+      final var instance =
+          new ProcessInstanceCreationRecord()
+              .setBpmnProcessId(bpmnProcessId)
+              .setVariables(MsgPackUtil.asMsgPack(variables));
+      record.addInstance(instance);
+      return this;
+    }
+
+    /** Returns the batch event, or the rejection of the batch command. */
+    public Record<ProcessInstanceCreationBatchRecordValue> create() {
+      final long position = writer.writeCommand(ProcessInstanceCreationBatchIntent.CREATE, record);
+
+      return RecordingExporter.processInstanceCreationBatchRecords()
+          .withSourceRecordPosition(position)
+          .getFirst();
+    }
+  }
+
   public static class ExistingInstanceClient {
 
     public static final Function<Long, Record<ProcessInstanceRecordValue>> SUCCESS_EXPECTATION =
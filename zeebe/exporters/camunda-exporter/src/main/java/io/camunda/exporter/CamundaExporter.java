@@ -34,6 +34,7 @@ import io.camunda.exporter.metrics.CamundaExporterMetrics;
 import io.camunda.exporter.schema.SchemaManager;
 import io.camunda.exporter.schema.SearchEngineClient;
 import io.camunda.exporter.store.BatchRequest;
+import io.camunda.exporter.store.ExporterBatchPipeline;
 import io.camunda.exporter.store.ExporterBatchWriter;
 import io.camunda.exporter.tasks.BackgroundTaskManager;
 import io.camunda.exporter.tasks.BackgroundTaskManagerFactory;
@@ -49,8 +50,10 @@ import io.camunda.zeebe.protocol.record.RecordType;
 import io.camunda.zeebe.protocol.record.ValueType;
 import io.camunda.zeebe.util.SemanticVersion;
 import io.camunda.zeebe.util.VisibleForTesting;
+import io.camunda.zeebe.util.error.FatalErrorHandler;
 import java.time.Duration;
 import java.util.Set;
+import java.util.concurrent.Executors;
 import org.agrona.CloseHelper;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -62,6 +65,8 @@ public class CamundaExporter implements Exporter {
   private ExporterConfiguration configuration;
   private ClientAdapter clientAdapter;
   private ExporterBatchWriter writer;
+  // only set if more than one bulk request may be in flight
+  private ExporterBatchPipeline pipeline;
   private long lastPosition = -1;
   private final ExporterResourceProvider provider;
   private CamundaExporterMetrics metrics;
@@ -70,6 +75,7 @@ public class CamundaExporter implements Exporter {
   private boolean importersCompleted = false;
   private SearchEngineClient searchEngineClient;
   private int partitionId;
+  private String exporterId;
 
   public CamundaExporter() {
     this(new DefaultExporterResourceProvider());
@@ -94,6 +100,7 @@ public class CamundaExporter implements Exporter {
     metrics = new CamundaExporterMetrics(context.getMeterRegistry());
     clientAdapter = ClientAdapter.of(configuration);
     partitionId = context.getPartitionId();
+    exporterId = context.getConfiguration().getId().toLowerCase();
     provider.init(
         configuration,
         clientAdapter.getExporterEntityCacheProvider(),
@@ -127,6 +134,9 @@ public class CamundaExporter implements Exporter {
     schemaManager.startup();
 
     writer = createBatchWriter();
+    if (configuration.getBulk().getMaxInFlight() > 1) {
+      pipeline = createBatchPipeline();
+    }
 
     checkImportersCompletedAndReschedule();
     controller.readMetadata().ifPresent(metadata::deserialize);
@@ -141,6 +151,10 @@ public class CamundaExporter implements Exporter {
 
     if (writer != null) {
       try {
+        if (pipeline != null) {
+          pipeline.awaitAll();
+          acknowledgeFlushedBatches();
+        }
         flush();
         updateLastExportedPosition(lastPosition);
       } catch (final Exception e) {
@@ -148,6 +162,10 @@ public class CamundaExporter implements Exporter {
       }
     }
 
+    if (pipeline != null) {
+      pipeline.close();
+    }
+
     if (clientAdapter != null) {
       try {
         clientAdapter.close();
@@ -185,6 +203,10 @@ public class CamundaExporter implements Exporter {
       return;
     }
 
+    if (pipeline != null) {
+      acknowledgeFlushedBatches();
+    }
+
     if (writer.getBatchSize() == 0) {
       metrics.startFlushLatencyMeasurement();
     }
@@ -194,7 +216,9 @@ public class CamundaExporter implements Exporter {
 
     lastPosition = record.getPosition();
 
-    if (shouldFlush()) {
+    if (shouldFlush() && pipeline != null) {
+      submitBatch();
+    } else if (shouldFlush()) {
       try (final var ignored = metrics.measureFlushDuration()) {
         flush();
         metrics.stopFlushLatencyMeasurement();
@@ -242,6 +266,51 @@ public class CamundaExporter implements Exporter {
     return builder.build();
   }
 
+  private ExporterBatchPipeline createBatchPipeline() {
+    final var maxInFlight = configuration.getBulk().getMaxInFlight();
+    final var threadFactory =
+        Thread.ofPlatform()
+            .name("exporter-" + exporterId + "-p" + partitionId + "-flush-", 0)
+            .uncaughtExceptionHandler(FatalErrorHandler.uncaughtExceptionHandler(LOG))
+            .factory();
+    return new ExporterBatchPipeline(
+        maxInFlight,
+        clientAdapter::createBatchRequest,
+        Executors.newFixedThreadPool(maxInFlight, threadFactory),
+        metrics);
+  }
+
+  /**
+   * Hands the current batch over to the pipeline, which flushes it asynchronously. If the maximum
+   * number of bulk requests is already in flight, waits for the oldest one first; if that one
+   * failed, the failed batches are flushed again and the export of the record is retried.
+   */
+  private void submitBatch() {
+    if (pipeline.isFull()) {
+      pipeline.retryFailed();
+      try {
+        pipeline.awaitOldest();
+      } finally {
+        acknowledgeFlushedBatches();
+      }
+    }
+
+    submitToPipeline();
+  }
+
+  private void submitToPipeline() {
+    metrics.recordBulkSize(writer.getBatchSize());
+    pipeline.submit(writer.detachBatch(), lastPosition);
+    metrics.stopFlushLatencyMeasurement();
+  }
+
+  private void acknowledgeFlushedBatches() {
+    final long position = pipeline.acknowledge();
+    if (position != -1) {
+      updateLastExportedPosition(position);
+    }
+  }
+
   private void scheduleDelayedFlush() {
     controller.scheduleCancellableTask(
         Duration.ofSeconds(configuration.getBulk().getDelay()), this::flushAndReschedule);
@@ -249,14 +318,29 @@ public class CamundaExporter implements Exporter {
 
   private void flushAndReschedule() {
     try {
-      flush();
-      updateLastExportedPosition(lastPosition);
+      if (pipeline != null) {
+        flushPipelined();
+      } else {
+        flush();
+        updateLastExportedPosition(lastPosition);
+      }
     } catch (final Exception e) {
       LOG.warn("Unexpected exception occurred on periodically flushing bulk, will retry later.", e);
     }
     scheduleDelayedFlush();
   }
 
+  private void flushPipelined() {
+    // never block here, the batch is picked up by the next export or flush if the pipeline is full
+    pipeline.retryFailed();
+    acknowledgeFlushedBatches();
+    if (writer.getBatchSize() == 0 && pipeline.isEmpty()) {
+      updateLastExportedPosition(lastPosition);
+    } else if (writer.getBatchSize() > 0 && !pipeline.isFull()) {
+      submitToPipeline();
+    }
+  }
+
   private void scheduleImportersCompletedCheck() {
     controller.scheduleCancellableTask(
         Duration.ofSeconds(10), this::checkImportersCompletedAndReschedule);
@@ -67,6 +67,13 @@ public final class ConfigValidator {
               numberOfReplicas));
     }
 
+    final int maxInFlight = configuration.getBulk().getMaxInFlight();
+    if (maxInFlight < 1) {
+      throw new ExporterException(
+          String.format(
+              "CamundaExporter bulk.maxInFlight must be >= 1. Current value: %d", maxInFlight));
+    }
+
     final String minimumAge = configuration.getRetention().getMinimumAge();
     if (minimumAge != null && !CHECKER_MIN_AGE.test(minimumAge)) {
       throw new ExporterException(
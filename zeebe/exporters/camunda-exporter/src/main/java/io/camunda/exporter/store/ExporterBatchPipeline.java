@@ -0,0 +1,185 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.exporter.store;
+
+import io.camunda.exporter.exceptions.PersistenceException;
+import io.camunda.exporter.metrics.CamundaExporterMetrics;
+import io.camunda.exporter.store.ExporterBatchWriter.Batch;
+import io.camunda.zeebe.exporter.api.ExporterException;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.function.Supplier;
+
+/**
+ * Flushes batches asynchronously, with up to a configured number of bulk requests in flight, such
+ * that the exporter can build the next batch while the previous ones are written.
+ *
+ * <p>Batches are acknowledged in the order they were submitted: {@link #acknowledge()} only
+ * returns the position of a batch once it and all batches submitted before it were flushed
+ * successfully. A batch which shares entities with an earlier batch is only flushed after that one
+ * succeeded, such that updates of the same entity are applied in order, also when a flush has to be
+ * retried.
+ *
+ * <p>Apart from the flushes themselves, which run on the given executor, this class is not thread
+ * safe, and is meant to be used by the exporter only.
+ */
+public final class ExporterBatchPipeline implements AutoCloseable {
+
+  private final Deque<PendingFlush> pendingFlushes = new ArrayDeque<>();
+  private final int maxInFlight;
+  private final Supplier<BatchRequest> batchRequestFactory;
+  private final ExecutorService executor;
+  private final CamundaExporterMetrics metrics;
+
+  public ExporterBatchPipeline(
+      final int maxInFlight,
+      final Supplier<BatchRequest> batchRequestFactory,
+      final ExecutorService executor,
+      final CamundaExporterMetrics metrics) {
+    this.maxInFlight = maxInFlight;
+    this.batchRequestFactory = batchRequestFactory;
+    this.executor = executor;
+    this.metrics = metrics;
+  }
+
+  /**
+   * @return true if no further batch should be submitted before the oldest one is acknowledged
+   */
+  public boolean isFull() {
+    return pendingFlushes.size() >= maxInFlight;
+  }
+
+  public boolean isEmpty() {
+    return pendingFlushes.isEmpty();
+  }
+
+  /**
+   * Starts flushing the given batch, once all earlier batches which share entities with it were
+   * flushed.
+   *
+   * @param batch the batch to flush
+   * @param position the position of the last record in the batch
+   */
+  public void submit(final Batch batch, final long position) {
+    final var flush = new PendingFlush(batch, position);
+    dispatch(flush, pendingFlushes);
+    pendingFlushes.addLast(flush);
+  }
+
+  /**
+   * Removes all batches from the head of the pipeline which were flushed successfully.
+   *
+   * @return the position of the last removed batch, or -1 if no batch was removed
+   */
+  public long acknowledge() {
+    long position = -1;
+    while (!pendingFlushes.isEmpty() && pendingFlushes.peekFirst().hasSucceeded()) {
+      position = pendingFlushes.removeFirst().position;
+    }
+    return position;
+  }
+
+  /** Flushes all batches again whose flush failed, in the order they were submitted. */
+  public void retryFailed() {
+    final List<PendingFlush> predecessors = new ArrayList<>(pendingFlushes.size());
+    for (final var flush : pendingFlushes) {
+      if (flush.hasFailed()) {
+        dispatch(flush, predecessors);
+      }
+      predecessors.add(flush);
+    }
+  }
+
+  /**
+   * Blocks until the flush of the oldest batch is completed.
+   *
+   * @throws ExporterException if the flush failed
+   */
+  public void awaitOldest() {
+    final var oldest = pendingFlushes.peekFirst();
+    if (oldest != null) {
+      oldest.await();
+    }
+  }
+
+  /**
+   * Blocks until the flushes of all batches are completed.
+   *
+   * @throws ExporterException if any flush failed
+   */
+  public void awaitAll() {
+    for (final var flush : pendingFlushes) {
+      flush.await();
+    }
+  }
+
+  @Override
+  public void close() {
+    executor.shutdownNow();
+    pendingFlushes.clear();
+  }
+
+  private void dispatch(final PendingFlush flush, final Iterable<PendingFlush> predecessors) {
+    final List<CompletableFuture<Void>> dependencies = new ArrayList<>();
+    for (final var predecessor : predecessors) {
+      if (!predecessor.hasSucceeded() && predecessor.batch.sharesEntitiesWith(flush.batch)) {
+        dependencies.add(predecessor.future);
+      }
+    }
+
+    // if a dependency fails, this flush fails as well without being executed, and is retried
+    // after the dependency
+    flush.future =
+        CompletableFuture.allOf(dependencies.toArray(CompletableFuture[]::new))
+            .thenRunAsync(() -> execute(flush.batch), executor);
+  }
+
+  private void execute(final Batch batch) {
+    try (final var ignored = metrics.measureFlushDuration()) {
+      batch.flush(batchRequestFactory.get());
+    } catch (final PersistenceException e) {
+      metrics.recordFailedFlush();
+      throw new ExporterException(e.getMessage(), e);
+    }
+  }
+
+  private static final class PendingFlush {
+    private final Batch batch;
+    private final long position;
+    private CompletableFuture<Void> future;
+
+    private PendingFlush(final Batch batch, final long position) {
+      this.batch = batch;
+      this.position = position;
+    }
+
+    private boolean hasSucceeded() {
+      return future.isDone() && !future.isCompletedExceptionally();
+    }
+
+    private boolean hasFailed() {
+      return future.isCompletedExceptionally();
+    }
+
+    private void await() {
+      try {
+        future.join();
+      } catch (final CompletionException e) {
+        if (e.getCause() instanceof final ExporterException exporterException) {
+          throw exporterException;
+        }
+        throw new ExporterException("Failed to flush batch", e.getCause());
+      }
+    }
+  }
+}
@@ -72,14 +72,32 @@ public class ExporterBatchWriter {
       return;
     }
 
-    for (final var entityAndHandler : cachedEntities.values()) {
+    flush(cachedEntities, batchRequest, customErrorHandlers);
+    reset();
+  }
+
+  /**
+   * Removes all cached entities from this writer, and returns them as a batch which can be flushed
+   * independently, e.g. while this writer already collects the next batch.
+   */
+  public Batch detachBatch() {
+    final var batch = new Batch(new HashMap<>(cachedEntities), customErrorHandlers);
+    reset();
+    return batch;
+  }
+
+  private static void flush(
+      final Map<EntityIdAndEntityType, EntityAndHandlers> entities,
+      final BatchRequest batchRequest,
+      final BiConsumer<String, Error> customErrorHandlers)
+      throws PersistenceException {
+    for (final var entityAndHandler : entities.values()) {
       final ExporterEntity entity = entityAndHandler.entity();
       for (final var handler : entityAndHandler.handlers()) {
         handler.flush(entity, batchRequest);
       }
     }
     batchRequest.execute(customErrorHandlers);
-    reset();
   }
 
   public void reset() {
@@ -118,6 +136,47 @@ public class ExporterBatchWriter {
     }
   }
 
+  /** The entities of a batch which was detached from the writer, see {@link #detachBatch()}. */
+  public static final class Batch {
+    private final Map<EntityIdAndEntityType, EntityAndHandlers> entities;
+    private final BiConsumer<String, Error> customErrorHandlers;
+
+    private Batch(
+        final Map<EntityIdAndEntityType, EntityAndHandlers> entities,
+        final BiConsumer<String, Error> customErrorHandlers) {
+      this.entities = entities;
+      this.customErrorHandlers = customErrorHandlers;
+    }
+
+    public int size() {
+      return entities.size();
+    }
+
+    /**
+     * @return true if both batches contain an entity with the same id and type
+     */
+    public boolean sharesEntitiesWith(final Batch other) {
+      final var smaller = size() <= other.size() ? this : other;
+      final var larger = smaller == this ? other : this;
+      for (final var key : smaller.entities.keySet()) {
+        if (larger.entities.containsKey(key)) {
+          return true;
+        }
+      }
+      return false;
+    }
+
+    /**
+     * Adds all entities to the given request and executes it. Can be called again with a new
+     * request if the flush failed.
+     */
+    public void flush(final BatchRequest batchRequest) throws PersistenceException {
+      if (!entities.isEmpty()) {
+        ExporterBatchWriter.flush(entities, batchRequest, customErrorHandlers);
+      }
+    }
+  }
+
   private record EntityIdAndEntityType(String entityId, Class<?> entityType) {}
 
   private record EntityAndHandlers(ExporterEntity entity, Set<ExportHandler> handlers) {}
@@ -140,4 +140,16 @@ public class ConfigValidatorTest {
         .isInstanceOf(ExporterException.class)
         .hasMessageContaining("CamundaExporter processCache.maxCacheSize must be >= 1.");
   }
+
+  @ParameterizedTest(name = "{0}")
+  @ValueSource(ints = {-1, 0})
+  void shouldForbidNonPositiveMaxInFlightBulks(final int maxInFlight) {
+    // given
+    config.getBulk().setMaxInFlight(maxInFlight);
+
+    // when - then
+    assertThatCode(() -> ConfigValidator.validate(config))
+        .isInstanceOf(ExporterException.class)
+        .hasMessageContaining("CamundaExporter bulk.maxInFlight must be >= 1.");
+  }
 }
@@ -0,0 +1,193 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.exporter.store;
+
+import static io.camunda.zeebe.protocol.record.ValueType.NULL_VAL;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import io.camunda.exporter.entities.TestExporterEntity;
+import io.camunda.exporter.exceptions.PersistenceException;
+import io.camunda.exporter.handlers.ExportHandler;
+import io.camunda.exporter.metrics.CamundaExporterMetrics;
+import io.camunda.exporter.store.ExporterBatchWriter.Batch;
+import io.camunda.protocol.TestRecord;
+import io.camunda.protocol.TestValue;
+import io.camunda.zeebe.exporter.api.ExporterException;
+import io.camunda.zeebe.protocol.record.Record;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.awaitility.Awaitility;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+final class ExporterBatchPipelineTest {
+
+  private final Map<Long, String> entityIdsByPosition = new ConcurrentHashMap<>();
+  private final List<String> flushedEntityIds = new CopyOnWriteArrayList<>();
+  private ExporterBatchWriter batchWriter;
+  private ExporterBatchPipeline pipeline;
+  private FlushAction onFlush = entityId -> {};
+
+  @BeforeEach
+  void setUp() throws PersistenceException {
+    final ExportHandler<TestExporterEntity, TestValue> handler = mock(ExportHandler.class);
+    when(handler.getHandledValueType()).thenReturn(NULL_VAL);
+    when(handler.getEntityType()).thenReturn(TestExporterEntity.class);
+    when(handler.handlesRecord(any())).thenReturn(true);
+    when(handler.generateIds(any()))
+        .thenAnswer(
+            invocation -> {
+              final Record<?> record = invocation.getArgument(0);
+              return List.of(entityIdsByPosition.get(record.getPosition()));
+            });
+    when(handler.createNewEntity(any()))
+        .thenAnswer(invocation -> new TestExporterEntity().setId(invocation.getArgument(0)));
+    doAnswer(
+            invocation -> {
+              final TestExporterEntity entity = invocation.getArgument(0);
+              flushedEntityIds.add(entity.getId());
+              onFlush.accept(entity.getId());
+              return null;
+            })
+        .when(handler)
+        .flush(any(), any());
+
+    batchWriter = ExporterBatchWriter.Builder.begin().withHandler(handler).build();
+    pipeline =
+        new ExporterBatchPipeline(
+            2,
+            () -> mock(BatchRequest.class),
+            Executors.newFixedThreadPool(2),
+            new CamundaExporterMetrics(new SimpleMeterRegistry()));
+  }
+
+  @AfterEach
+  void tearDown() {
+    pipeline.close();
+  }
+
+  @Test
+  void shouldAcknowledgeBatchesInOrder() {
+    // given
+    final var firstFlushLatch = new CountDownLatch(1);
+    onFlush =
+        entityId -> {
+          if (entityId.equals("a")) {
+            awaitUninterruptibly(firstFlushLatch);
+          }
+        };
+    pipeline.submit(createBatch(1, "a"), 1);
+    pipeline.submit(createBatch(2, "b"), 2);
+
+    // when
+    Awaitility.await("second batch is flushed while the first is still in flight")
+        .atMost(Duration.ofSeconds(5))
+        .untilAsserted(() -> assertThat(flushedEntityIds).contains("b"));
+
+    // then
+    assertThat(pipeline.acknowledge()).isEqualTo(-1);
+    firstFlushLatch.countDown();
+    pipeline.awaitAll();
+    assertThat(pipeline.acknowledge()).isEqualTo(2);
+    assertThat(pipeline.isEmpty()).isTrue();
+  }
+
+  @Test
+  void shouldNotFlushBatchWithSameEntityBeforeEarlierBatchSucceeded() {
+    // given
+    final var remainingFailures = new AtomicInteger(1);
+    onFlush =
+        entityId -> {
+          if (remainingFailures.getAndDecrement() > 0) {
+            throw new PersistenceException("expected failure");
+          }
+        };
+    pipeline.submit(createBatch(1, "a"), 1);
+    pipeline.submit(createBatch(2, "a"), 2);
+
+    // when
+    assertThatThrownBy(pipeline::awaitAll).isInstanceOf(ExporterException.class);
+
+    // then
+    assertThat(flushedEntityIds).containsExactly("a");
+    assertThat(pipeline.acknowledge()).isEqualTo(-1);
+  }
+
+  @Test
+  void shouldRetryFailedBatchesInOrder() {
+    // given
+    final var remainingFailures = new AtomicInteger(1);
+    onFlush =
+        entityId -> {
+          if (remainingFailures.getAndDecrement() > 0) {
+            throw new PersistenceException("expected failure");
+          }
+        };
+    pipeline.submit(createBatch(1, "a"), 1);
+    pipeline.submit(createBatch(2, "a"), 2);
+    assertThatThrownBy(pipeline::awaitAll).isInstanceOf(ExporterException.class);
+
+    // when
+    pipeline.retryFailed();
+    pipeline.awaitAll();
+
+    // then
+    assertThat(flushedEntityIds).containsExactly("a", "a", "a");
+    assertThat(pipeline.acknowledge()).isEqualTo(2);
+  }
+
+  @Test
+  void shouldBeFullWithMaxBatchesInFlight() {
+    // given
+    final var flushLatch = new CountDownLatch(1);
+    onFlush = entityId -> awaitUninterruptibly(flushLatch);
+
+    // when
+    pipeline.submit(createBatch(1, "a"), 1);
+    pipeline.submit(createBatch(2, "b"), 2);
+
+    // then
+    assertThat(pipeline.isFull()).isTrue();
+    flushLatch.countDown();
+    pipeline.awaitOldest();
+    assertThat(pipeline.acknowledge()).isEqualTo(1);
+    assertThat(pipeline.isFull()).isFalse();
+  }
+
+  private Batch createBatch(final long position, final String entityId) {
+    entityIdsByPosition.put(position, entityId);
+    batchWriter.addRecord(new TestRecord(position, NULL_VAL));
+    return batchWriter.detachBatch();
+  }
+
+  private static void awaitUninterruptibly(final CountDownLatch latch) {
+    try {
+      latch.await();
+    } catch (final InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+  }
+
+  @FunctionalInterface
+  private interface FlushAction {
+    void accept(String entityId) throws PersistenceException;
+  }
+}
@@ -109,7 +109,8 @@ final class TestSupport {
             ValueType.GROUP,
             ValueType.MAPPING,
             ValueType.IDENTITY_SETUP,
-            ValueType.RESOURCE);
+            ValueType.RESOURCE,
+            ValueType.PROCESS_INSTANCE_CREATION_BATCH);
     return EnumSet.complementOf(excludedValueTypes).stream();
   }
 }
@@ -8,6 +8,7 @@
 package io.camunda.zeebe.el;
 
 import java.util.Optional;
+import java.util.Set;
 
 /** A parsed expression. */
 public interface Expression {
@@ -23,6 +24,16 @@ public interface Expression {
    */
   Optional<String> getVariableName();
 
+  /**
+   * Returns the names of the variables which the expression references, such that they can be
+   * fetched at once before evaluating it. The names are collected once when the expression is
+   * parsed. They may include names which the expression binds itself (e.g. in a for loop); the
+   * evaluation still looks up any variable which is not part of them.
+   *
+   * @return the names of the referenced variables, or an empty set if there are none
+   */
+  Set<String> getReferencedVariableNames();
+
   /**
    * @return {@code true} if it is a static expression that does not require additional context
    *     variables
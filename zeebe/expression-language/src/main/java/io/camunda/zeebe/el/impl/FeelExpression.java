@@ -8,18 +8,28 @@
 package io.camunda.zeebe.el.impl;
 
 import io.camunda.zeebe.el.Expression;
+import java.util.HashSet;
 import java.util.Optional;
+import java.util.Set;
 import org.camunda.feel.syntaxtree.Exp;
 import org.camunda.feel.syntaxtree.ParsedExpression;
 import org.camunda.feel.syntaxtree.PathExpression;
 import org.camunda.feel.syntaxtree.Ref;
+import scala.Product;
+import scala.collection.Iterable;
+import scala.collection.Iterator;
 
 public final class FeelExpression implements Expression {
 
   private final ParsedExpression expression;
+  private final Set<String> referencedVariableNames;
 
   public FeelExpression(final ParsedExpression expression) {
     this.expression = expression;
+
+    final var variableNames = new HashSet<String>();
+    collectReferencedVariableNames(expression.expression(), variableNames);
+    referencedVariableNames = Set.copyOf(variableNames);
   }
 
   @Override
@@ -32,6 +42,11 @@ public final class FeelExpression implements Expression {
     return extractVariableName(expression.expression());
   }
 
+  @Override
+  public Set<String> getReferencedVariableNames() {
+    return referencedVariableNames;
+  }
+
   @Override
   public boolean isStatic() {
     return false;
@@ -59,6 +74,29 @@ public final class FeelExpression implements Expression {
     return Optional.empty();
   }
 
+  /**
+   * Walks the syntax tree and collects the first name of each reference. The nodes of the tree are
+   * Scala case classes, so we can visit all of them generically as {@link Product products},
+   * instead of matching every kind of expression.
+   */
+  private static void collectReferencedVariableNames(
+      final Object node, final Set<String> variableNames) {
+    if (node instanceof final Ref ref) {
+      variableNames.add(ref.names().head());
+    } else if (node instanceof final Product product) {
+      collectReferencedVariableNames(product.productIterator(), variableNames);
+    } else if (node instanceof final Iterable<?> iterable) {
+      collectReferencedVariableNames(iterable.iterator(), variableNames);
+    }
+  }
+
+  private static void collectReferencedVariableNames(
+      final Iterator<?> nodes, final Set<String> variableNames) {
+    while (nodes.hasNext()) {
+      collectReferencedVariableNames(nodes.next(), variableNames);
+    }
+  }
+
   public ParsedExpression getParsedExpression() {
     return expression;
   }
@@ -16,6 +16,7 @@ import scala.collection.immutable.List$;
 
 final class FeelVariableContext extends CustomContext {
   private final EvaluationContext context;
+  private final VariableProvider variableProvider = new EvaluationContextWrapper();
 
   FeelVariableContext(final EvaluationContext context) {
     this.context = context;
@@ -23,7 +24,7 @@ final class FeelVariableContext extends CustomContext {
 
   @Override
   public VariableProvider variableProvider() {
-    return new EvaluationContextWrapper();
+    return variableProvider;
   }
 
   private final class EvaluationContextWrapper implements VariableProvider {
@@ -96,6 +96,24 @@ public class ExpressionLanguageTest {
     assertThat(expression.getFailureMessage()).startsWith("failed to parse expression 'x ?! 5'");
   }
 
+  @Test
+  public void shouldCollectReferencedVariableNames() {
+    // when
+    final var expression =
+        expressionLanguage.parseExpression("=if x.y > limit then upper case(name) else items[1]");
+
+    // then
+    assertThat(expression.getReferencedVariableNames())
+        .containsExactlyInAnyOrder("x", "limit", "name", "items");
+  }
+
+  @Test
+  public void shouldNotReferenceVariablesInStaticOrInvalidExpression() {
+    assertThat(expressionLanguage.parseExpression("x").getReferencedVariableNames()).isEmpty();
+    assertThat(expressionLanguage.parseExpression("=x ?! 5").getReferencedVariableNames())
+        .isEmpty();
+  }
+
   @Test
   public void shouldEvaluateStaticStringValue() {
     final var expression = expressionLanguage.parseExpression("x");
@@ -16,6 +16,8 @@ import java.time.LocalDateTime;
 import java.time.ZoneId;
 import java.util.List;
 import java.util.Map;
+import org.agrona.DirectBuffer;
+import org.agrona.concurrent.UnsafeBuffer;
 import org.junit.jupiter.api.Test;
 
 public class FeelExpressionTest {
@@ -162,6 +164,33 @@ public class FeelExpressionTest {
     assertThat(evaluationResult.getList()).isEqualTo(List.of(asMsgPack("1"), asMsgPack("2")));
   }
 
+  @Test
+  public void accessNestedContext() {
+    final var context =
+        Map.of("x", asMsgPack("{\"a\":{\"b\":{\"c\":1},\"d\":[{\"e\":2}]},\"f\":3}"));
+    final var evaluationResult = evaluateExpression("x.a.b", context::get);
+
+    assertThat(evaluationResult.getType()).isEqualTo(ResultType.OBJECT);
+    assertThat(evaluationResult.toBuffer()).isEqualTo(asMsgPack("{\"c\":1}"));
+  }
+
+  @Test
+  public void accessNestedContextOfReusedBuffer() {
+    // given
+    final var value = asMsgPack("{\"a\":{\"b\":{\"c\":1}}}");
+    final var variable = new UnsafeBuffer(new byte[value.capacity()]);
+    variable.putBytes(0, value, 0, value.capacity());
+    final var context = Map.<String, DirectBuffer>of("x", variable);
+
+    // when
+    final var evaluationResult = evaluateExpression("x.a", context::get);
+    variable.setMemory(0, variable.capacity(), (byte) 0);
+
+    // then
+    assertThat(evaluationResult.getType()).isEqualTo(ResultType.OBJECT);
+    assertThat(evaluationResult.toBuffer()).isEqualTo(asMsgPack("{\"b\":{\"c\":1}}"));
+  }
+
   @Test
   public void getCurrentTime() {
     final var localDateTime = LocalDateTime.parse("2020-09-21T07:20:00");
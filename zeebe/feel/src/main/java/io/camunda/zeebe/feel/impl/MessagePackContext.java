@@ -20,16 +20,22 @@ import scala.Tuple2;
 import scala.collection.Iterable;
 import scala.collection.immutable.Map;
 
+/**
+ * A FEEL context backed by a MessagePack map. The entries are only indexed once the context is
+ * accessed, and their values are only decoded when they are looked up, such that large documents
+ * are not converted as a whole if an expression only reads a single path of it.
+ *
+ * <p>The map must not be modified while the context is in use. Values of the context are views on
+ * the map, see {@link ValueView}, so nested contexts can share it instead of copying it.
+ */
 public class MessagePackContext extends CustomContext {
 
   public final DirectBuffer messagePackMap;
   private final VariableProvider variableProvider;
 
-  public MessagePackContext(final MsgPackReader reader, final int bufferOffset, final int size) {
-    final var valueSpans = readValueSpans(reader, bufferOffset, size);
-    messagePackMap =
-        cloneBuffer(reader.getBuffer(), bufferOffset, reader.getOffset() - bufferOffset);
-    variableProvider = new MessagePackMapVariableProvider(messagePackMap, valueSpans);
+  MessagePackContext(final DirectBuffer messagePackMap, final int size) {
+    this.messagePackMap = messagePackMap;
+    variableProvider = new MessagePackMapVariableProvider(messagePackMap, size);
   }
 
   @Override
@@ -37,40 +43,28 @@ public class MessagePackContext extends CustomContext {
     return variableProvider;
   }
 
-  private Map<String, Span> readValueSpans(
-      final MsgPackReader reader, final int bufferOffset, final int size) {
-    final var spans = Map.<String, Span>newBuilder();
-    spans.sizeHint(size);
-
-    for (int i = 0; i < size; i++) {
-      final var keyToken = reader.readToken();
-      final var keyBuffer = keyToken.getValueBuffer();
-      final var key = bufferAsString(keyBuffer);
-
-      final var valueOffset = reader.getOffset();
-      reader.skipValue();
-      final var valueLength = reader.getOffset() - valueOffset;
-      spans.addOne(new Tuple2<>(key, new Span(valueOffset - bufferOffset, valueLength)));
-    }
-    return spans.result();
-  }
-
   record Span(int offset, int length) {}
 
+  /**
+   * A view on a value of a {@link MessagePackContext}. The view itself is reused, but the buffer it
+   * points to is never modified, so it can be wrapped instead of copied.
+   */
+  static final class ValueView extends UnsafeBuffer {}
+
   private static final class MessagePackMapVariableProvider implements VariableProvider {
     private final DirectBuffer entries;
-    private final DirectBuffer resultView = new UnsafeBuffer();
-    private final Map<String, Span> valueSpans;
+    private final int size;
+    private final ValueView resultView = new ValueView();
+    private Map<String, Span> valueSpans;
 
-    private MessagePackMapVariableProvider(
-        final DirectBuffer entries, final Map<String, Span> valueSpans) {
+    private MessagePackMapVariableProvider(final DirectBuffer entries, final int size) {
       this.entries = entries;
-      this.valueSpans = valueSpans;
+      this.size = size;
     }
 
     @Override
     public Option<Object> getVariable(final String name) {
-      return valueSpans
+      return valueSpans()
           .get(name)
           .map(
               span -> {
@@ -81,18 +75,47 @@ public class MessagePackContext extends CustomContext {
 
     @Override
     public Iterable<String> keys() {
-      return valueSpans.keySet();
+      return valueSpans().keySet();
     }
 
     @Override
     public Map<String, Object> getVariables() {
       final var clonedMap = Map.<String, Object>newBuilder();
-      valueSpans.foreach(
-          entry ->
-              clonedMap.addOne(
-                  new Tuple2<>(
-                      entry._1(), cloneBuffer(entries, entry._2().offset(), entry._2().length()))));
+      valueSpans()
+          .foreach(
+              entry ->
+                  clonedMap.addOne(
+                      new Tuple2<>(
+                          entry._1(),
+                          cloneBuffer(entries, entry._2().offset(), entry._2().length()))));
       return clonedMap.result();
     }
+
+    private Map<String, Span> valueSpans() {
+      if (valueSpans == null) {
+        valueSpans = readValueSpans();
+      }
+      return valueSpans;
+    }
+
+    /** Indexes the keys of the map, skipping over the values without decoding them. */
+    private Map<String, Span> readValueSpans() {
+      final var reader = new MsgPackReader();
+      reader.wrap(entries, 0, entries.capacity());
+      reader.readMapHeader();
+
+      final var spans = Map.<String, Span>newBuilder();
+      spans.sizeHint(size);
+
+      for (int i = 0; i < size; i++) {
+        final var keyToken = reader.readToken();
+        final var key = bufferAsString(keyToken.getValueBuffer());
+
+        final var valueOffset = reader.getOffset();
+        reader.skipValue();
+        spans.addOne(new Tuple2<>(key, new Span(valueOffset, reader.getOffset() - valueOffset)));
+      }
+      return spans.result();
+    }
   }
 }
@@ -9,12 +9,15 @@ package io.camunda.zeebe.feel.impl;
 
 import static io.camunda.zeebe.feel.impl.Loggers.LOGGER;
 import static io.camunda.zeebe.util.buffer.BufferUtil.bufferAsString;
+import static io.camunda.zeebe.util.buffer.BufferUtil.cloneBuffer;
 
+import io.camunda.zeebe.feel.impl.MessagePackContext.ValueView;
 import io.camunda.zeebe.msgpack.spec.MsgPackReader;
 import io.camunda.zeebe.msgpack.spec.MsgPackToken;
 import java.math.BigDecimal;
 import java.util.ArrayList;
 import org.agrona.DirectBuffer;
+import org.agrona.concurrent.UnsafeBuffer;
 import org.camunda.feel.impl.JavaValueMapper;
 import org.camunda.feel.syntaxtree.Val;
 import org.camunda.feel.syntaxtree.ValBoolean;
@@ -29,6 +32,7 @@ import scala.jdk.javaapi.CollectionConverters;
 
 public final class MessagePackValueMapper extends JavaValueMapper {
   private final MsgPackReader msgPackReader = new MsgPackReader();
+  private boolean isImmutableBuffer;
 
   private Val readNext() {
     final var offset = msgPackReader.getOffset();
@@ -52,7 +56,12 @@ public final class MessagePackValueMapper extends JavaValueMapper {
         }
         yield new ValList(CollectionConverters.asScala(items).toList());
       }
-      case MAP -> new ValContext(new MessagePackContext(msgPackReader, offset, token.getSize()));
+      case MAP -> {
+        final var size = token.getSize();
+        // skip the entries without reading them; they are only read if the context is accessed
+        msgPackReader.skipValues(size * 2L);
+        yield new ValContext(new MessagePackContext(readMap(offset), size));
+      }
       case STRING -> new ValString(bufferAsString(token.getValueBuffer()));
       default -> {
         LOGGER.warn(
@@ -63,6 +72,16 @@ public final class MessagePackValueMapper extends JavaValueMapper {
     };
   }
 
+  private DirectBuffer readMap(final int offset) {
+    final var buffer = msgPackReader.getBuffer();
+    final var length = msgPackReader.getOffset() - offset;
+    // values of another context share its buffer, which is never modified; any other buffer may be
+    // reused by its owner after the evaluation, so the map is copied once
+    return isImmutableBuffer
+        ? new UnsafeBuffer(buffer, offset, length)
+        : cloneBuffer(buffer, offset, length);
+  }
+
   @Override
   public Option<Object> unpackVal(final Val value, final Function1<Val, Object> innerValueMapper) {
     // return the value as it is to not lose the type information
@@ -72,6 +91,7 @@ public final class MessagePackValueMapper extends JavaValueMapper {
   @Override
   public Option<Val> toVal(final Object x, final Function1<Object, Val> innerValueMapper) {
     if (x instanceof final DirectBuffer buffer) {
+      isImmutableBuffer = buffer instanceof ValueView;
       msgPackReader.wrap(buffer, 0, buffer.capacity());
       return Option.apply(readNext());
     } else {
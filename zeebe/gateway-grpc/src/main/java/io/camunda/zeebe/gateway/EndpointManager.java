@@ -33,6 +33,8 @@ import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.CancelProcessInstance
 import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.CancelProcessInstanceResponse;
 import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.CompleteJobRequest;
 import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.CompleteJobResponse;
+import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.CreateProcessInstanceBatchRequest;
+import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.CreateProcessInstanceBatchResponse;
 import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.CreateProcessInstanceRequest;
 import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.CreateProcessInstanceResponse;
 import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.CreateProcessInstanceWithResultRequest;
@@ -243,6 +245,16 @@ public final class EndpointManager {
     }
   }
 
+  public void createProcessInstanceBatch(
+      final CreateProcessInstanceBatchRequest request,
+      final ServerStreamObserver<CreateProcessInstanceBatchResponse> responseObserver) {
+    sendRequestWithRetryPartitions(
+        request,
+        RequestMapper::toCreateProcessInstanceBatchRequest,
+        ResponseMapper::toCreateProcessInstanceBatchResponse,
+        responseObserver);
+  }
+
   public void evaluateDecision(
       final EvaluateDecisionRequest request,
       final ServerStreamObserver<EvaluateDecisionResponse> responseObserver) {
@@ -14,6 +14,7 @@ import io.camunda.zeebe.gateway.impl.broker.request.BrokerActivateJobsRequest;
 import io.camunda.zeebe.gateway.impl.broker.request.BrokerBroadcastSignalRequest;
 import io.camunda.zeebe.gateway.impl.broker.request.BrokerCancelProcessInstanceRequest;
 import io.camunda.zeebe.gateway.impl.broker.request.BrokerCompleteJobRequest;
+import io.camunda.zeebe.gateway.impl.broker.request.BrokerCreateProcessInstanceBatchRequest;
 import io.camunda.zeebe.gateway.impl.broker.request.BrokerCreateProcessInstanceRequest;
 import io.camunda.zeebe.gateway.impl.broker.request.BrokerCreateProcessInstanceWithResultRequest;
 import io.camunda.zeebe.gateway.impl.broker.request.BrokerDeleteResourceRequest;
@@ -33,6 +34,7 @@ import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.ActivateJobsRequest;
 import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.BroadcastSignalRequest;
 import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.CancelProcessInstanceRequest;
 import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.CompleteJobRequest;
+import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.CreateProcessInstanceBatchRequest;
 import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.CreateProcessInstanceRequest;
 import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.CreateProcessInstanceWithResultRequest;
 import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.DeleteResourceRequest;
@@ -228,6 +230,28 @@ public final class RequestMapper extends RequestUtil {
     return brokerRequest;
   }
 
+  public static BrokerCreateProcessInstanceBatchRequest toCreateProcessInstanceBatchRequest(
+      final CreateProcessInstanceBatchRequest grpcRequest) {
+    final var instances = grpcRequest.getInstancesList();
+    final int maxInstances = BrokerCreateProcessInstanceBatchRequest.MAX_INSTANCES;
+    if (instances.isEmpty() || instances.size() > maxInstances) {
+      throw new IllegalArgumentException(
+          "Expected to create between 1 and %d process instances, but got %d"
+              .formatted(maxInstances, instances.size()));
+    }
+
+    final var brokerRequest = new BrokerCreateProcessInstanceBatchRequest();
+    instances.stream()
+        .map(instance -> toCreateProcessInstanceRequest(instance).getRequestWriter())
+        .forEach(brokerRequest::addInstance);
+
+    if (grpcRequest.hasOperationReference()) {
+      brokerRequest.setOperationReference(grpcRequest.getOperationReference());
+    }
+
+    return brokerRequest;
+  }
+
   public static BrokerCreateProcessInstanceWithResultRequest
       toCreateProcessInstanceWithResultRequest(
           final CreateProcessInstanceWithResultRequest grpcRequest) {
@@ -10,6 +10,8 @@ package io.camunda.zeebe.gateway;
 import static io.camunda.zeebe.util.buffer.BufferUtil.bufferAsArray;
 import static io.camunda.zeebe.util.buffer.BufferUtil.bufferAsString;
 
+import io.camunda.zeebe.broker.client.api.dto.BrokerRejection;
+import io.camunda.zeebe.gateway.grpc.GrpcErrorMapper;
 import io.camunda.zeebe.gateway.impl.job.JobActivationResponse;
 import io.camunda.zeebe.gateway.impl.job.JobActivationResult;
 import io.camunda.zeebe.gateway.protocol.GatewayOuterClass;
@@ -18,6 +20,8 @@ import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.ActivatedJob;
 import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.BroadcastSignalResponse;
 import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.CancelProcessInstanceResponse;
 import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.CompleteJobResponse;
+import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.CreateProcessInstanceBatchResponse;
+import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.CreateProcessInstanceBatchResult;
 import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.CreateProcessInstanceResponse;
 import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.CreateProcessInstanceWithResultResponse;
 import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.DecisionMetadata;
@@ -48,6 +52,8 @@ import io.camunda.zeebe.protocol.impl.record.value.deployment.DeploymentRecord;
 import io.camunda.zeebe.protocol.impl.record.value.incident.IncidentRecord;
 import io.camunda.zeebe.protocol.impl.record.value.job.JobRecord;
 import io.camunda.zeebe.protocol.impl.record.value.message.MessageRecord;
+import io.camunda.zeebe.protocol.impl.record.value.processinstance.ProcessInstanceCreationBatchRecord;
+import io.camunda.zeebe.protocol.impl.record.value.processinstance.ProcessInstanceCreationBatchResult;
 import io.camunda.zeebe.protocol.impl.record.value.processinstance.ProcessInstanceCreationRecord;
 import io.camunda.zeebe.protocol.impl.record.value.processinstance.ProcessInstanceMigrationRecord;
 import io.camunda.zeebe.protocol.impl.record.value.processinstance.ProcessInstanceModificationRecord;
@@ -56,6 +62,7 @@ import io.camunda.zeebe.protocol.impl.record.value.processinstance.ProcessInstan
 import io.camunda.zeebe.protocol.impl.record.value.resource.ResourceDeletionRecord;
 import io.camunda.zeebe.protocol.impl.record.value.signal.SignalRecord;
 import io.camunda.zeebe.protocol.impl.record.value.variable.VariableDocumentRecord;
+import io.camunda.zeebe.protocol.record.intent.ProcessInstanceCreationIntent;
 import io.camunda.zeebe.protocol.record.value.EvaluatedDecisionValue;
 import java.util.ArrayList;
 import java.util.Iterator;
@@ -186,6 +193,37 @@ public final class ResponseMapper {
         .build();
   }
 
+  public static CreateProcessInstanceBatchResponse toCreateProcessInstanceBatchResponse(
+      final long key, final ProcessInstanceCreationBatchRecord brokerResponse) {
+    final var response = CreateProcessInstanceBatchResponse.newBuilder();
+    brokerResponse.results().forEach(result -> response.addResults(toBatchResult(result)));
+    return response.build();
+  }
+
+  private static CreateProcessInstanceBatchResult toBatchResult(
+      final ProcessInstanceCreationBatchResult result) {
+    final var batchResult =
+        CreateProcessInstanceBatchResult.newBuilder()
+            .setProcessDefinitionKey(result.getProcessDefinitionKey())
+            .setBpmnProcessId(result.getBpmnProcessId())
+            .setVersion(result.getVersion())
+            .setTenantId(result.getTenantId())
+            .setProcessInstanceKey(result.getProcessInstanceKey());
+    if (!result.isCreated()) {
+      // map the rejection exactly as if the instance was created on its own
+      final var rejection =
+          new BrokerRejection(
+              ProcessInstanceCreationIntent.CREATE,
+              -1,
+              result.getRejectionType(),
+              result.getRejectionReason());
+      final var status = GrpcErrorMapper.mapRejectionToStatus(rejection);
+      batchResult.setErrorCode(status.getCode()).setErrorMessage(status.getMessage());
+    }
+
+    return batchResult.build();
+  }
+
   public static CreateProcessInstanceWithResultResponse toCreateProcessInstanceWithResultResponse(
       final long key, final ProcessInstanceResultRecord brokerResponse) {
     return CreateProcessInstanceWithResultResponse.newBuilder()
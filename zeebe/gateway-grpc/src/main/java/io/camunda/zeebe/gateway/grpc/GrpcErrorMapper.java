@@ -200,7 +200,14 @@ public final class GrpcErrorMapper {
     return builder.setMessage(message).build();
   }
 
-  private Status mapRejectionToStatus(final BrokerRejection rejection) {
+  /**
+   * Maps the given rejection to the status with which a request is failed if the broker rejects its
+   * command.
+   *
+   * @param rejection the rejection of the command
+   * @return the status to fail the request with
+   */
+  public static Status mapRejectionToStatus(final BrokerRejection rejection) {
     final String message =
         String.format(
             "Command '%s' rejected with code '%s': %s",
@@ -34,6 +34,14 @@ import org.slf4j.LoggerFactory;
 public class StreamJobsHandler extends Actor {
   private static final Logger LOGGER = LoggerFactory.getLogger(StreamJobsHandler.class);
 
+  /**
+   * How many jobs each broker may push to a single stream before the gateway forwarded them to the
+   * client. Brokers route jobs to the streams with the most credits left, and batch the jobs pushed
+   * to the same stream, so this bounds both the jobs queued up for a slow client and the size of
+   * those batches.
+   */
+  private static final int JOB_STREAM_CREDITS = 32;
+
   private final ClientStreamer<JobActivationProperties> jobStreamer;
 
   public StreamJobsHandler(final ClientStreamer<JobActivationProperties> jobStreamer) {
@@ -78,7 +86,8 @@ public class StreamJobsHandler extends Actor {
     actor.run(
         () ->
             actor.runOnCompletion(
-                jobStreamer.add(streamType, jobActivationProperties, consumer),
+                jobStreamer.add(
+                    streamType, jobActivationProperties, consumer, JOB_STREAM_CREDITS),
                 (streamId, error) -> onStreamAdded(responseObserver, cleaner, streamId, error)));
   }
 
@@ -0,0 +1,127 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.gateway.api.process;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.tuple;
+
+import com.google.rpc.Code;
+import io.camunda.zeebe.broker.client.api.dto.BrokerResponse;
+import io.camunda.zeebe.gateway.api.util.GatewayTest;
+import io.camunda.zeebe.gateway.api.util.StubbedBrokerClient.RequestHandler;
+import io.camunda.zeebe.gateway.impl.broker.request.BrokerCreateProcessInstanceBatchRequest;
+import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.CreateProcessInstanceBatchRequest;
+import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.CreateProcessInstanceBatchResponse;
+import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.CreateProcessInstanceRequest;
+import io.camunda.zeebe.protocol.impl.record.value.processinstance.ProcessInstanceCreationBatchRecord;
+import io.camunda.zeebe.protocol.impl.record.value.processinstance.ProcessInstanceCreationBatchResult;
+import io.camunda.zeebe.protocol.record.RejectionType;
+import io.camunda.zeebe.protocol.record.ValueType;
+import io.camunda.zeebe.protocol.record.intent.ProcessInstanceCreationBatchIntent;
+import io.camunda.zeebe.protocol.record.value.TenantOwned;
+import io.grpc.Status;
+import io.grpc.StatusRuntimeException;
+import org.junit.Test;
+
+public final class CreateProcessInstanceBatchTest extends GatewayTest {
+
+  private static final String PROCESS_ID = "process";
+  private static final long PROCESS_KEY = 456;
+  private static final long PROCESS_INSTANCE_KEY = 123;
+
+  @Test
+  public void shouldMapRequestAndResponse() {
+    // given
+    brokerClient.registerHandler(
+        BrokerCreateProcessInstanceBatchRequest.class,
+        (RequestHandler<
+                BrokerCreateProcessInstanceBatchRequest,
+                BrokerResponse<ProcessInstanceCreationBatchRecord>>)
+            request -> {
+              final var record =
+                  new ProcessInstanceCreationBatchRecord()
+                      .addResult(
+                          new ProcessInstanceCreationBatchResult()
+                              .setBpmnProcessId(PROCESS_ID)
+                              .setProcessDefinitionKey(PROCESS_KEY)
+                              .setVersion(1)
+                              .setProcessInstanceKey(PROCESS_INSTANCE_KEY))
+                      .addResult(
+                          new ProcessInstanceCreationBatchResult()
+                              .setBpmnProcessId("unknown")
+                              .setRejectionType(RejectionType.NOT_FOUND)
+                              .setRejectionReason("no such process"));
+              return new BrokerResponse<>(record, 0, -1);
+            });
+
+    final CreateProcessInstanceBatchRequest request =
+        CreateProcessInstanceBatchRequest.newBuilder()
+            .addInstances(CreateProcessInstanceRequest.newBuilder().setBpmnProcessId(PROCESS_ID))
+            .addInstances(CreateProcessInstanceRequest.newBuilder().setBpmnProcessId("unknown"))
+            .setOperationReference(789)
+            .build();
+
+    // when
+    final CreateProcessInstanceBatchResponse response = client.createProcessInstanceBatch(request);
+
+    // then
+    assertThat(response.getResultsList()).hasSize(2);
+    final var created = response.getResults(0);
+    assertThat(created.getBpmnProcessId()).isEqualTo(PROCESS_ID);
+    assertThat(created.getProcessDefinitionKey()).isEqualTo(PROCESS_KEY);
+    assertThat(created.getVersion()).isEqualTo(1);
+    assertThat(created.getProcessInstanceKey()).isEqualTo(PROCESS_INSTANCE_KEY);
+    assertThat(created.getErrorCode()).isEqualTo(Code.OK_VALUE);
+    assertThat(created.getErrorMessage()).isEmpty();
+
+    final var rejected = response.getResults(1);
+    assertThat(rejected.getBpmnProcessId()).isEqualTo("unknown");
+    assertThat(rejected.getProcessInstanceKey()).isEqualTo(-1);
+    assertThat(rejected.getErrorCode()).isEqualTo(Code.NOT_FOUND_VALUE);
+    assertThat(rejected.getErrorMessage()).contains("no such process");
+
+    final BrokerCreateProcessInstanceBatchRequest brokerRequest =
+        brokerClient.getSingleBrokerRequest();
+    assertThat(brokerRequest.getIntent()).isEqualTo(ProcessInstanceCreationBatchIntent.CREATE);
+    assertThat(brokerRequest.getValueType()).isEqualTo(ValueType.PROCESS_INSTANCE_CREATION_BATCH);
+    assertThat(brokerRequest.getOperationReference()).isEqualTo(789);
+    assertThat(brokerRequest.getRequestWriter().getInstances())
+        .extracting("bpmnProcessId", "tenantId")
+        .containsExactly(
+            tuple(PROCESS_ID, TenantOwned.DEFAULT_TENANT_IDENTIFIER),
+            tuple("unknown", TenantOwned.DEFAULT_TENANT_IDENTIFIER));
+  }
+
+  @Test
+  public void shouldRejectEmptyBatch() {
+    // given
+    final var request = CreateProcessInstanceBatchRequest.newBuilder().build();
+
+    // when - then
+    assertThatThrownBy(() -> client.createProcessInstanceBatch(request))
+        .isInstanceOf(StatusRuntimeException.class)
+        .extracting(t -> ((StatusRuntimeException) t).getStatus().getCode())
+        .isEqualTo(Status.INVALID_ARGUMENT.getCode());
+  }
+
+  @Test
+  public void shouldRejectBatchWithTooManyInstances() {
+    // given
+    final var request = CreateProcessInstanceBatchRequest.newBuilder();
+    for (int i = 0; i <= BrokerCreateProcessInstanceBatchRequest.MAX_INSTANCES; i++) {
+      request.addInstances(CreateProcessInstanceRequest.newBuilder().setBpmnProcessId(PROCESS_ID));
+    }
+
+    // when - then
+    assertThatThrownBy(() -> client.createProcessInstanceBatch(request.build()))
+        .isInstanceOf(StatusRuntimeException.class)
+        .extracting(t -> ((StatusRuntimeException) t).getStatus().getCode())
+        .isEqualTo(Status.INVALID_ARGUMENT.getCode());
+  }
+}
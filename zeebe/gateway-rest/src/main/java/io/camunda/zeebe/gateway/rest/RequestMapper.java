@@ -15,12 +15,15 @@ import static io.camunda.zeebe.gateway.rest.validator.ElementRequestValidator.va
 import static io.camunda.zeebe.gateway.rest.validator.EvaluateDecisionRequestValidator.validateEvaluateDecisionRequest;
 import static io.camunda.zeebe.gateway.rest.validator.JobRequestValidator.validateJobActivationRequest;
 import static io.camunda.zeebe.gateway.rest.validator.JobRequestValidator.validateJobErrorRequest;
+import static io.camunda.zeebe.gateway.rest.validator.JobRequestValidator.validateJobStreamRequest;
 import static io.camunda.zeebe.gateway.rest.validator.JobRequestValidator.validateJobUpdateRequest;
 import static io.camunda.zeebe.gateway.rest.validator.MappingValidator.validateMappingRequest;
 import static io.camunda.zeebe.gateway.rest.validator.MessageRequestValidator.validateMessageCorrelationRequest;
 import static io.camunda.zeebe.gateway.rest.validator.MessageRequestValidator.validateMessagePublicationRequest;
 import static io.camunda.zeebe.gateway.rest.validator.MultiTenancyValidator.validateTenantId;
+import static io.camunda.zeebe.gateway.rest.validator.MultiTenancyValidator.validateTenantIds;
 import static io.camunda.zeebe.gateway.rest.validator.ProcessInstanceRequestValidator.validateCancelProcessInstanceRequest;
+import static io.camunda.zeebe.gateway.rest.validator.ProcessInstanceRequestValidator.validateCreateProcessInstanceBatchRequest;
 import static io.camunda.zeebe.gateway.rest.validator.ProcessInstanceRequestValidator.validateCreateProcessInstanceRequest;
 import static io.camunda.zeebe.gateway.rest.validator.ProcessInstanceRequestValidator.validateMigrateProcessInstanceRequest;
 import static io.camunda.zeebe.gateway.rest.validator.ProcessInstanceRequestValidator.validateModifyProcessInstanceRequest;
@@ -49,6 +52,7 @@ import io.camunda.service.MappingServices.MappingDTO;
 import io.camunda.service.MessageServices.CorrelateMessageRequest;
 import io.camunda.service.MessageServices.PublicationMessageRequest;
 import io.camunda.service.ProcessInstanceServices.ProcessInstanceCancelRequest;
+import io.camunda.service.ProcessInstanceServices.ProcessInstanceCreateBatchRequest;
 import io.camunda.service.ProcessInstanceServices.ProcessInstanceCreateRequest;
 import io.camunda.service.ProcessInstanceServices.ProcessInstanceMigrateRequest;
 import io.camunda.service.ProcessInstanceServices.ProcessInstanceModifyRequest;
@@ -62,6 +66,7 @@ import io.camunda.zeebe.gateway.protocol.rest.AuthorizationCreateRequest;
 import io.camunda.zeebe.gateway.protocol.rest.CancelProcessInstanceRequest;
 import io.camunda.zeebe.gateway.protocol.rest.Changeset;
 import io.camunda.zeebe.gateway.protocol.rest.ClockPinRequest;
+import io.camunda.zeebe.gateway.protocol.rest.CreateProcessInstanceBatchRequest;
 import io.camunda.zeebe.gateway.protocol.rest.CreateProcessInstanceRequest;
 import io.camunda.zeebe.gateway.protocol.rest.DeleteResourceRequest;
 import io.camunda.zeebe.gateway.protocol.rest.DocumentLinkRequest;
@@ -73,6 +78,7 @@ import io.camunda.zeebe.gateway.protocol.rest.JobActivationRequest;
 import io.camunda.zeebe.gateway.protocol.rest.JobCompletionRequest;
 import io.camunda.zeebe.gateway.protocol.rest.JobErrorRequest;
 import io.camunda.zeebe.gateway.protocol.rest.JobFailRequest;
+import io.camunda.zeebe.gateway.protocol.rest.JobStreamRequest;
 import io.camunda.zeebe.gateway.protocol.rest.JobUpdateRequest;
 import io.camunda.zeebe.gateway.protocol.rest.MappingRuleCreateRequest;
 import io.camunda.zeebe.gateway.protocol.rest.MessageCorrelationRequest;
@@ -97,6 +103,7 @@ import io.camunda.zeebe.gateway.rest.validator.DocumentValidator;
 import io.camunda.zeebe.gateway.rest.validator.GroupRequestValidator;
 import io.camunda.zeebe.gateway.rest.validator.RoleRequestValidator;
 import io.camunda.zeebe.gateway.rest.validator.TenantRequestValidator;
+import io.camunda.zeebe.msgpack.value.StringValue;
 import io.camunda.zeebe.protocol.impl.encoding.MsgPackConverter;
 import io.camunda.zeebe.protocol.impl.record.value.job.JobResult;
 import io.camunda.zeebe.protocol.impl.record.value.job.JobResultCorrections;
@@ -105,10 +112,13 @@ import io.camunda.zeebe.protocol.impl.record.value.processinstance.ProcessInstan
 import io.camunda.zeebe.protocol.impl.record.value.processinstance.ProcessInstanceModificationTerminateInstruction;
 import io.camunda.zeebe.protocol.impl.record.value.processinstance.ProcessInstanceModificationVariableInstruction;
 import io.camunda.zeebe.protocol.impl.record.value.usertask.UserTaskRecord;
+import io.camunda.zeebe.protocol.impl.stream.job.JobActivationProperties;
+import io.camunda.zeebe.protocol.impl.stream.job.JobActivationPropertiesImpl;
 import io.camunda.zeebe.protocol.record.value.AuthorizationOwnerType;
 import io.camunda.zeebe.protocol.record.value.AuthorizationResourceType;
 import io.camunda.zeebe.protocol.record.value.PermissionType;
 import io.camunda.zeebe.util.Either;
+import io.camunda.zeebe.util.buffer.BufferUtil;
 import jakarta.servlet.http.Part;
 import java.io.IOException;
 import java.io.InputStream;
@@ -220,6 +230,36 @@ public class RequestMapper {
                 getLongOrZero(activationRequest, JobActivationRequest::getRequestTimeout)));
   }
 
+  public static Either<ProblemDetail, StreamJobsRequest> toJobStreamRequest(
+      final JobStreamRequest streamRequest, final boolean multiTenancyEnabled) {
+    final var validationError = validateJobStreamRequest(streamRequest);
+    if (validationError.isPresent()) {
+      return Either.left(validationError.get());
+    }
+
+    return validateTenantIds(
+            getStringListOrEmpty(streamRequest, JobStreamRequest::getTenantIds),
+            multiTenancyEnabled,
+            "Stream Jobs")
+        .map(
+            tenantIds -> {
+              final var worker =
+                  BufferUtil.wrapString(
+                      getStringOrEmpty(streamRequest, JobStreamRequest::getWorker));
+              final var properties =
+                  new JobActivationPropertiesImpl()
+                      .setWorker(worker, 0, worker.capacity())
+                      .setTimeout(streamRequest.getTimeout())
+                      .setFetchVariables(
+                          getStringListOrEmpty(streamRequest, JobStreamRequest::getFetchVariable)
+                              .stream()
+                              .map(StringValue::new)
+                              .toList())
+                      .setTenantIds(tenantIds);
+              return new StreamJobsRequest(streamRequest.getType(), properties);
+            });
+  }
+
   public static FailJobRequest toJobFailRequest(
       final JobFailRequest failRequest, final long jobKey) {
 
@@ -658,27 +698,51 @@ public class RequestMapper {
                     validateCreateProcessInstanceRequest(request)
                         .map(Either::<ProblemDetail, String>left)
                         .orElseGet(() -> Either.right(tenant)));
-    return validationResponse.map(
-        tenantId ->
-            new ProcessInstanceCreateRequest(
-                getLongOrDefault(
-                    request, CreateProcessInstanceRequest::getProcessDefinitionKey, -1L),
-                getStringOrEmpty(request, CreateProcessInstanceRequest::getProcessDefinitionId),
-                getIntOrDefault(
-                    request, CreateProcessInstanceRequest::getProcessDefinitionVersion, -1),
-                getMapOrEmpty(request, CreateProcessInstanceRequest::getVariables),
-                tenantId,
-                request.getAwaitCompletion(),
-                request.getRequestTimeout(),
-                request.getOperationReference(),
-                request.getStartInstructions().stream()
-                    .map(
-                        instruction ->
-                            new io.camunda.zeebe.protocol.impl.record.value.processinstance
-                                    .ProcessInstanceCreationStartInstruction()
-                                .setElementId(instruction.getElementId()))
-                    .toList(),
-                request.getFetchVariables()));
+    return validationResponse.map(tenantId -> toProcessInstanceCreateRequest(request, tenantId));
+  }
+
+  public static Either<ProblemDetail, ProcessInstanceCreateBatchRequest>
+      toCreateProcessInstanceBatch(
+          final CreateProcessInstanceBatchRequest request, final boolean multiTenancyEnabled) {
+    final var validationError = validateCreateProcessInstanceBatchRequest(request);
+    if (validationError.isPresent()) {
+      return Either.left(validationError.get());
+    }
+
+    final List<ProcessInstanceCreateRequest> instances = new ArrayList<>();
+    for (final CreateProcessInstanceRequest instance : request.getInstances()) {
+      final var tenantId =
+          validateTenantId(
+              instance.getTenantId(), multiTenancyEnabled, "Create Process Instance Batch");
+      if (tenantId.isLeft()) {
+        return Either.left(tenantId.getLeft());
+      }
+      instances.add(toProcessInstanceCreateRequest(instance, tenantId.get()));
+    }
+
+    return Either.right(
+        new ProcessInstanceCreateBatchRequest(instances, request.getOperationReference()));
+  }
+
+  private static ProcessInstanceCreateRequest toProcessInstanceCreateRequest(
+      final CreateProcessInstanceRequest request, final String tenantId) {
+    return new ProcessInstanceCreateRequest(
+        getLongOrDefault(request, CreateProcessInstanceRequest::getProcessDefinitionKey, -1L),
+        getStringOrEmpty(request, CreateProcessInstanceRequest::getProcessDefinitionId),
+        getIntOrDefault(request, CreateProcessInstanceRequest::getProcessDefinitionVersion, -1),
+        getMapOrEmpty(request, CreateProcessInstanceRequest::getVariables),
+        tenantId,
+        request.getAwaitCompletion(),
+        request.getRequestTimeout(),
+        request.getOperationReference(),
+        request.getStartInstructions().stream()
+            .map(
+                instruction ->
+                    new io.camunda.zeebe.protocol.impl.record.value.processinstance
+                            .ProcessInstanceCreationStartInstruction()
+                        .setElementId(instruction.getElementId()))
+            .toList(),
+        request.getFetchVariables());
   }
 
   public static Either<ProblemDetail, ProcessInstanceCancelRequest> toCancelProcessInstance(
@@ -900,6 +964,8 @@ public class RequestMapper {
   public record ErrorJobRequest(
       long jobKey, String errorCode, String errorMessage, Map<String, Object> variables) {}
 
+  public record StreamJobsRequest(String type, JobActivationProperties properties) {}
+
   public record CompleteJobRequest(long jobKey, Map<String, Object> variables, JobResult result) {}
 
   public record UpdateJobRequest(long jobKey, UpdateJobChangeset changeset) {}
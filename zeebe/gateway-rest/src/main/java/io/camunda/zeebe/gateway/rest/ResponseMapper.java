@@ -22,10 +22,13 @@ import io.camunda.document.api.DocumentError.StoreDoesNotExist;
 import io.camunda.document.api.DocumentLink;
 import io.camunda.service.DocumentServices.DocumentErrorResponse;
 import io.camunda.service.DocumentServices.DocumentReferenceResponse;
+import io.camunda.zeebe.broker.client.api.dto.BrokerRejection;
 import io.camunda.zeebe.broker.client.api.dto.BrokerResponse;
 import io.camunda.zeebe.gateway.impl.job.JobActivationResult;
 import io.camunda.zeebe.gateway.protocol.rest.ActivatedJob;
 import io.camunda.zeebe.gateway.protocol.rest.AuthorizationCreateResponse;
+import io.camunda.zeebe.gateway.protocol.rest.CreateProcessInstanceBatchResponse;
+import io.camunda.zeebe.gateway.protocol.rest.CreateProcessInstanceBatchResult;
 import io.camunda.zeebe.gateway.protocol.rest.CreateProcessInstanceResponse;
 import io.camunda.zeebe.gateway.protocol.rest.DeploymentDecision;
 import io.camunda.zeebe.gateway.protocol.rest.DeploymentDecisionRequirements;
@@ -69,11 +72,14 @@ import io.camunda.zeebe.protocol.impl.record.value.group.GroupRecord;
 import io.camunda.zeebe.protocol.impl.record.value.job.JobRecord;
 import io.camunda.zeebe.protocol.impl.record.value.message.MessageCorrelationRecord;
 import io.camunda.zeebe.protocol.impl.record.value.message.MessageRecord;
+import io.camunda.zeebe.protocol.impl.record.value.processinstance.ProcessInstanceCreationBatchRecord;
+import io.camunda.zeebe.protocol.impl.record.value.processinstance.ProcessInstanceCreationBatchResult;
 import io.camunda.zeebe.protocol.impl.record.value.processinstance.ProcessInstanceCreationRecord;
 import io.camunda.zeebe.protocol.impl.record.value.processinstance.ProcessInstanceResultRecord;
 import io.camunda.zeebe.protocol.impl.record.value.signal.SignalRecord;
 import io.camunda.zeebe.protocol.impl.record.value.tenant.TenantRecord;
 import io.camunda.zeebe.protocol.impl.record.value.user.UserRecord;
+import io.camunda.zeebe.protocol.record.intent.ProcessInstanceCreationIntent;
 import io.camunda.zeebe.protocol.record.value.EvaluatedInputValue;
 import io.camunda.zeebe.protocol.record.value.EvaluatedOutputValue;
 import io.camunda.zeebe.protocol.record.value.MatchedRuleValue;
@@ -162,6 +168,11 @@ public final class ResponseMapper {
     return new RestJobActivationResult(response, sizeExceedingJobs);
   }
 
+  public static ActivatedJob toActivatedJob(
+      final io.camunda.zeebe.protocol.impl.stream.job.ActivatedJob streamedJob) {
+    return toActivatedJob(streamedJob.jobKey(), streamedJob.jobRecord());
+  }
+
   private static ActivatedJob toActivatedJob(final long jobKey, final JobRecord job) {
     return new ActivatedJob()
         .jobKey(jobKey)
@@ -425,6 +436,41 @@ public final class ResponseMapper {
         brokerResponse.getVariables());
   }
 
+  public static ResponseEntity<Object> toCreateProcessInstanceBatchResponse(
+      final ProcessInstanceCreationBatchRecord brokerResponse) {
+    final var response = new CreateProcessInstanceBatchResponse();
+    brokerResponse.results().forEach(result -> response.addResultsItem(toBatchResult(result)));
+    return new ResponseEntity<>(response, HttpStatus.OK);
+  }
+
+  private static CreateProcessInstanceBatchResult toBatchResult(
+      final ProcessInstanceCreationBatchResult result) {
+    final var batchResult =
+        new CreateProcessInstanceBatchResult()
+            .processDefinitionKey(result.getProcessDefinitionKey())
+            .processDefinitionId(result.getBpmnProcessId())
+            .processDefinitionVersion(result.getVersion())
+            .tenantId(result.getTenantId());
+    if (result.isCreated()) {
+      return batchResult.processInstanceKey(result.getProcessInstanceKey());
+    }
+
+    // map the rejection exactly as if the instance was created on its own
+    final var rejection =
+        new BrokerRejection(
+            ProcessInstanceCreationIntent.CREATE,
+            -1,
+            result.getRejectionType(),
+            result.getRejectionReason());
+    final var problem = RestErrorMapper.DEFAULT_REJECTION_MAPPER.apply(rejection);
+    return batchResult.error(
+        new io.camunda.zeebe.gateway.protocol.rest.ProblemDetail()
+            .type(problem.getType())
+            .title(problem.getTitle())
+            .status(problem.getStatus())
+            .detail(problem.getDetail()));
+  }
+
   private static ResponseEntity<Object> buildCreateProcessInstanceResponse(
       final Long processDefinitionKey,
       final String bpmnProcessId,
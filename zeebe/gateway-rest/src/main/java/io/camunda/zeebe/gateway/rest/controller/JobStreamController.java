@@ -0,0 +1,107 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.gateway.rest.controller;
+
+import io.camunda.security.configuration.MultiTenancyConfiguration;
+import io.camunda.zeebe.broker.client.api.BrokerClient;
+import io.camunda.zeebe.broker.client.api.BrokerClusterState;
+import io.camunda.zeebe.gateway.protocol.rest.JobStreamRequest;
+import io.camunda.zeebe.gateway.rest.RequestMapper;
+import io.camunda.zeebe.gateway.rest.RequestMapper.StreamJobsRequest;
+import io.camunda.zeebe.gateway.rest.RestErrorMapper;
+import io.camunda.zeebe.gateway.rest.annotation.CamundaPostMapping;
+import io.camunda.zeebe.util.buffer.BufferUtil;
+import jakarta.annotation.PreDestroy;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ProblemDetail;
+import org.springframework.web.ErrorResponseException;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+/**
+ * Streams jobs to REST clients as server-sent events, using the same job streams as the gRPC
+ * gateway. Kept apart from the {@link JobController}, as only the gateway modules can provide the
+ * job streamer.
+ */
+@CamundaRestController
+@RequestMapping("/v2/jobs")
+public class JobStreamController {
+
+  /**
+   * How many jobs each broker may push to a single stream before the gateway forwarded them to the
+   * client; as many jobs per known broker may wait to be sent to the client at once, see {@link
+   * JobStreamEmitter}.
+   */
+  private static final int JOB_STREAM_CREDITS = 32;
+
+  /** Job streams stay open until the client closes them. */
+  private static final long NO_TIMEOUT = 0L;
+
+  private final JobStreamerProvider jobStreamerProvider;
+  private final BrokerClient brokerClient;
+  private final MultiTenancyConfiguration multiTenancyCfg;
+
+  // sending blocks on the client connection; virtual threads keep a slow client from pinning one
+  private final ExecutorService sendExecutor = Executors.newVirtualThreadPerTaskExecutor();
+
+  public JobStreamController(
+      final JobStreamerProvider jobStreamerProvider,
+      final BrokerClient brokerClient,
+      final MultiTenancyConfiguration multiTenancyCfg) {
+    this.jobStreamerProvider = jobStreamerProvider;
+    this.brokerClient = brokerClient;
+    this.multiTenancyCfg = multiTenancyCfg;
+  }
+
+  @CamundaPostMapping(
+      path = "/stream",
+      produces = {MediaType.TEXT_EVENT_STREAM_VALUE, MediaType.APPLICATION_PROBLEM_JSON_VALUE})
+  public SseEmitter streamJobs(@RequestBody final JobStreamRequest streamRequest) {
+    return RequestMapper.toJobStreamRequest(streamRequest, multiTenancyCfg.isEnabled())
+        .fold(
+            problem -> {
+              throw new ErrorResponseException(HttpStatus.BAD_REQUEST, problem, null);
+            },
+            this::streamJobs);
+  }
+
+  @PreDestroy
+  void close() {
+    sendExecutor.shutdownNow();
+  }
+
+  private SseEmitter streamJobs(final StreamJobsRequest request) {
+    final var jobStreamer =
+        jobStreamerProvider
+            .get()
+            .orElseThrow(
+                () -> {
+                  final ProblemDetail problem =
+                      RestErrorMapper.createProblemDetail(
+                          HttpStatus.SERVICE_UNAVAILABLE,
+                          "Expected to stream jobs, but the job streamer is not started yet",
+                          HttpStatus.SERVICE_UNAVAILABLE.name());
+                  return new ErrorResponseException(HttpStatus.SERVICE_UNAVAILABLE, problem, null);
+                });
+
+    final var jobStreamEmitter =
+        new JobStreamEmitter(
+            new SseEmitter(NO_TIMEOUT), sendExecutor, JOB_STREAM_CREDITS, this::knownBrokers);
+    jobStreamEmitter.open(jobStreamer, BufferUtil.wrapString(request.type()), request.properties());
+    return jobStreamEmitter.emitter();
+  }
+
+  private int knownBrokers() {
+    final BrokerClusterState topology = brokerClient.getTopologyManager().getTopology();
+    return topology == null ? 0 : topology.getBrokers().size();
+  }
+}
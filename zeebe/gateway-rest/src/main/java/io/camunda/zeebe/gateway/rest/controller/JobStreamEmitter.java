@@ -0,0 +1,185 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.gateway.rest.controller;
+
+import io.camunda.zeebe.gateway.protocol.rest.ActivatedJob;
+import io.camunda.zeebe.gateway.rest.Loggers;
+import io.camunda.zeebe.gateway.rest.ResponseMapper;
+import io.camunda.zeebe.protocol.impl.stream.job.ActivatedJobImpl;
+import io.camunda.zeebe.protocol.impl.stream.job.JobActivationProperties;
+import io.camunda.zeebe.scheduler.future.ActorFuture;
+import io.camunda.zeebe.scheduler.future.CompletableActorFuture;
+import io.camunda.zeebe.transport.stream.api.ClientStreamBlockedException;
+import io.camunda.zeebe.transport.stream.api.ClientStreamConsumer;
+import io.camunda.zeebe.transport.stream.api.ClientStreamId;
+import io.camunda.zeebe.transport.stream.api.ClientStreamer;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.IntSupplier;
+import org.agrona.DirectBuffer;
+import org.springframework.http.MediaType;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+/**
+ * Forwards the jobs pushed to a single job stream to a REST client, as server-sent events.
+ *
+ * <p>Sending an event blocks until the client connection accepted it, so events are sent on the
+ * given executor instead of the thread pushing the job, one after the other. Each broker is granted
+ * {@code credits} to push to this stream, independently of the others, so up to {@code credits}
+ * jobs per known broker may wait to be sent; any job pushed beyond that is rejected with a {@link
+ * ClientStreamBlockedException}, which lets the broker hand it to another stream, exactly as it
+ * does for gRPC streams whose client does not keep up. A client which keeps up thus never sees its
+ * jobs rejected, as long as the gateway knows about every broker pushing to it.
+ *
+ * <p>The stream is removed from the job streamer as soon as the emitter completes for any reason,
+ * i.e. the client went away, the request timed out, or sending a job failed.
+ */
+final class JobStreamEmitter implements ClientStreamConsumer {
+  static final String JOB_EVENT_NAME = "job";
+
+  private final SseEmitter emitter;
+  private final Executor executor;
+  private final int credits;
+  private final IntSupplier knownBrokers;
+  private final AtomicInteger pendingJobs = new AtomicInteger();
+
+  // guarded by this
+  private CompletableFuture<Void> lastSend = CompletableFuture.completedFuture(null);
+  private ClientStreamer<JobActivationProperties> jobStreamer;
+  private ClientStreamId streamId;
+  private boolean isClosed;
+
+  JobStreamEmitter(
+      final SseEmitter emitter,
+      final Executor executor,
+      final int credits,
+      final IntSupplier knownBrokers) {
+    this.emitter = emitter;
+    this.executor = executor;
+    this.credits = credits;
+    this.knownBrokers = knownBrokers;
+  }
+
+  SseEmitter emitter() {
+    return emitter;
+  }
+
+  /**
+   * Registers this emitter as a new stream with the given streamer, and removes it again once the
+   * emitter completes.
+   */
+  void open(
+      final ClientStreamer<JobActivationProperties> jobStreamer,
+      final DirectBuffer jobType,
+      final JobActivationProperties properties) {
+    synchronized (this) {
+      this.jobStreamer = jobStreamer;
+    }
+
+    emitter.onCompletion(this::close);
+    emitter.onTimeout(this::close);
+    emitter.onError(error -> close());
+
+    jobStreamer.add(jobType, properties, this, credits).onComplete(this::onStreamAdded, executor);
+  }
+
+  @Override
+  public ActorFuture<Void> push(final DirectBuffer payload) {
+    final var result = new CompletableActorFuture<Void>();
+    if (pendingJobs.incrementAndGet() > capacity()) {
+      pendingJobs.decrementAndGet();
+      result.completeExceptionally(
+          new ClientStreamBlockedException(
+              "Expected to push payload (size = '%d') to stream, but stream is blocked"
+                  .formatted(payload.capacity())));
+      return result;
+    }
+
+    // the payload is only valid during this call, so map it right away; fail the push on
+    // serialization errors, but no need to close the stream
+    final ActivatedJob activatedJob;
+    try {
+      final var deserializedJob = new ActivatedJobImpl();
+      deserializedJob.wrap(payload);
+      activatedJob = ResponseMapper.toActivatedJob(deserializedJob);
+    } catch (final Exception e) {
+      pendingJobs.decrementAndGet();
+      result.completeExceptionally(e);
+      return result;
+    }
+
+    synchronized (this) {
+      lastSend = lastSend.thenRunAsync(() -> send(activatedJob, result), executor);
+    }
+
+    return result;
+  }
+
+  /**
+   * Brokers join and leave over time, so the capacity follows the current topology; it is never
+   * below the credits of a single broker, even before the gateway learned about any broker.
+   */
+  private int capacity() {
+    return credits * Math.max(1, knownBrokers.getAsInt());
+  }
+
+  private void send(final ActivatedJob activatedJob, final CompletableActorFuture<Void> result) {
+    try {
+      emitter.send(
+          SseEmitter.event()
+              .name(JOB_EVENT_NAME)
+              .id(String.valueOf(activatedJob.getJobKey()))
+              .data(activatedJob, MediaType.APPLICATION_JSON));
+      result.complete(null);
+    } catch (final Exception e) {
+      // most likely the client went away; completing the emitter removes the stream
+      emitter.completeWithError(e);
+      result.completeExceptionally(e);
+    } finally {
+      pendingJobs.decrementAndGet();
+    }
+  }
+
+  private void onStreamAdded(final ClientStreamId streamId, final Throwable error) {
+    // the only possible reason it would fail is due to the streamer being closed, meaning we would
+    // be shutting down; in either case, retrying would do no good
+    if (error != null) {
+      Loggers.REST_LOGGER.warn("Failed to register new job stream", error);
+      emitter.completeWithError(error);
+      return;
+    }
+
+    final boolean removeNow;
+    synchronized (this) {
+      this.streamId = streamId;
+      removeNow = isClosed;
+    }
+
+    // the emitter may have completed before the stream was even added
+    if (removeNow) {
+      jobStreamer.remove(streamId);
+    }
+  }
+
+  private void close() {
+    final ClientStreamId removedStreamId;
+    synchronized (this) {
+      if (isClosed) {
+        return;
+      }
+
+      isClosed = true;
+      removedStreamId = streamId;
+    }
+
+    if (removedStreamId != null) {
+      jobStreamer.remove(removedStreamId);
+    }
+  }
+}
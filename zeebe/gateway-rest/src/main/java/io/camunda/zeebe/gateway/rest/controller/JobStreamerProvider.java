@@ -0,0 +1,20 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.gateway.rest.controller;
+
+import io.camunda.zeebe.protocol.impl.stream.job.JobActivationProperties;
+import io.camunda.zeebe.transport.stream.api.ClientStreamer;
+import java.util.Optional;
+import java.util.function.Supplier;
+
+/**
+ * Provides the job streamer of the gateway, which is only available once the gateway, embedded or
+ * standalone, was started.
+ */
+public interface JobStreamerProvider
+    extends Supplier<Optional<ClientStreamer<JobActivationProperties>>> {}
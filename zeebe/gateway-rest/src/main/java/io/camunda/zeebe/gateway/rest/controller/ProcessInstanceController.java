@@ -13,10 +13,12 @@ import io.camunda.search.query.ProcessInstanceQuery;
 import io.camunda.security.configuration.MultiTenancyConfiguration;
 import io.camunda.service.ProcessInstanceServices;
 import io.camunda.service.ProcessInstanceServices.ProcessInstanceCancelRequest;
+import io.camunda.service.ProcessInstanceServices.ProcessInstanceCreateBatchRequest;
 import io.camunda.service.ProcessInstanceServices.ProcessInstanceCreateRequest;
 import io.camunda.service.ProcessInstanceServices.ProcessInstanceMigrateRequest;
 import io.camunda.service.ProcessInstanceServices.ProcessInstanceModifyRequest;
 import io.camunda.zeebe.gateway.protocol.rest.CancelProcessInstanceRequest;
+import io.camunda.zeebe.gateway.protocol.rest.CreateProcessInstanceBatchRequest;
 import io.camunda.zeebe.gateway.protocol.rest.CreateProcessInstanceRequest;
 import io.camunda.zeebe.gateway.protocol.rest.MigrateProcessInstanceRequest;
 import io.camunda.zeebe.gateway.protocol.rest.ModifyProcessInstanceRequest;
@@ -56,6 +58,13 @@ public class ProcessInstanceController {
         .fold(RestErrorMapper::mapProblemToCompletedResponse, this::createProcessInstance);
   }
 
+  @CamundaPostMapping(path = "/batch-creation")
+  public CompletableFuture<ResponseEntity<Object>> createProcessInstanceBatch(
+      @RequestBody final CreateProcessInstanceBatchRequest request) {
+    return RequestMapper.toCreateProcessInstanceBatch(request, multiTenancyCfg.isEnabled())
+        .fold(RestErrorMapper::mapProblemToCompletedResponse, this::createProcessInstanceBatch);
+  }
+
   @CamundaPostMapping(path = "/{processInstanceKey}/cancellation")
   public CompletableFuture<ResponseEntity<Object>> cancelProcessInstance(
       @PathVariable final long processInstanceKey,
@@ -135,6 +144,16 @@ public class ProcessInstanceController {
         ResponseMapper::toCreateProcessInstanceResponse);
   }
 
+  private CompletableFuture<ResponseEntity<Object>> createProcessInstanceBatch(
+      final ProcessInstanceCreateBatchRequest request) {
+    return RequestMapper.executeServiceMethod(
+        () ->
+            processInstanceServices
+                .withAuthentication(RequestMapper.getAuthentication())
+                .createProcessInstanceBatch(request),
+        ResponseMapper::toCreateProcessInstanceBatchResponse);
+  }
+
   private CompletableFuture<ResponseEntity<Object>> cancelProcessInstance(
       final ProcessInstanceCancelRequest request) {
     return RequestMapper.executeServiceMethodWithNoContentResult(
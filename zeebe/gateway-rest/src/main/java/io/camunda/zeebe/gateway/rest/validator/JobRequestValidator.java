@@ -15,6 +15,7 @@ import static io.camunda.zeebe.gateway.rest.validator.RequestValidator.validate;
 import io.camunda.zeebe.gateway.protocol.rest.JobActivationRequest;
 import io.camunda.zeebe.gateway.protocol.rest.JobChangeset;
 import io.camunda.zeebe.gateway.protocol.rest.JobErrorRequest;
+import io.camunda.zeebe.gateway.protocol.rest.JobStreamRequest;
 import io.camunda.zeebe.gateway.protocol.rest.JobUpdateRequest;
 import java.util.List;
 import java.util.Optional;
@@ -46,6 +47,23 @@ public final class JobRequestValidator {
         });
   }
 
+  public static Optional<ProblemDetail> validateJobStreamRequest(
+      final JobStreamRequest streamRequest) {
+    return validate(
+        violations -> {
+          if (streamRequest.getType() == null || streamRequest.getType().isBlank()) {
+            violations.add(ERROR_MESSAGE_EMPTY_ATTRIBUTE.formatted("type"));
+          }
+          if (streamRequest.getTimeout() == null) {
+            violations.add(ERROR_MESSAGE_EMPTY_ATTRIBUTE.formatted("timeout"));
+          } else if (streamRequest.getTimeout() < 1) {
+            violations.add(
+                ERROR_MESSAGE_INVALID_ATTRIBUTE_VALUE.formatted(
+                    "timeout", streamRequest.getTimeout(), "greater than 0"));
+          }
+        });
+  }
+
   public static Optional<ProblemDetail> validateJobErrorRequest(
       final JobErrorRequest errorRequest) {
     return validate(
@@ -75,4 +75,34 @@ public final class MultiTenancyValidator {
         .<Either<ProblemDetail, String>>map(Either::left)
         .orElseGet(() -> Either.right(tenantId));
   }
+
+  /**
+   * Validates each of the given tenantIds, as {@link #validateTenantId(String, boolean, String)}
+   * does. An empty list is validated like a missing tenantId, i.e. it resolves to the default
+   * tenant if multi-tenancy is disabled.
+   *
+   * @param tenantIds the tenantIds to validate
+   * @param multiTenancyEnabled whether multi-tenancy is enabled
+   * @param commandName the name of the command, used for error messages
+   * @return a {@link Either} containing the {@link ProblemDetail} of the first invalid tenantId, or
+   *     the tenantIds if all are valid
+   */
+  public static Either<ProblemDetail, List<String>> validateTenantIds(
+      final List<String> tenantIds, final boolean multiTenancyEnabled, final String commandName) {
+    if (tenantIds.isEmpty()) {
+      return validateTenantId(null, multiTenancyEnabled, commandName).map(List::of);
+    }
+
+    final List<String> validTenantIds = new ArrayList<>(tenantIds.size());
+    for (final var tenantId : tenantIds) {
+      final var result = validateTenantId(tenantId, multiTenancyEnabled, commandName);
+      if (result.isLeft()) {
+        return Either.left(result.getLeft());
+      }
+
+      validTenantIds.add(result.get());
+    }
+
+    return Either.right(validTenantIds);
+  }
 }
@@ -11,10 +11,13 @@ import static io.camunda.zeebe.gateway.rest.validator.ErrorMessages.ERROR_MESSAG
 import static io.camunda.zeebe.gateway.rest.validator.ErrorMessages.ERROR_MESSAGE_AT_LEAST_ONE_FIELD;
 import static io.camunda.zeebe.gateway.rest.validator.ErrorMessages.ERROR_MESSAGE_EMPTY_ATTRIBUTE;
 import static io.camunda.zeebe.gateway.rest.validator.ErrorMessages.ERROR_MESSAGE_ONLY_ONE_FIELD;
+import static io.camunda.zeebe.gateway.rest.validator.ErrorMessages.ERROR_MESSAGE_TOO_MANY_ITEMS;
 import static io.camunda.zeebe.gateway.rest.validator.RequestValidator.validate;
 import static io.camunda.zeebe.gateway.rest.validator.RequestValidator.validateOperationReference;
 
+import io.camunda.zeebe.gateway.impl.broker.request.BrokerCreateProcessInstanceBatchRequest;
 import io.camunda.zeebe.gateway.protocol.rest.CancelProcessInstanceRequest;
+import io.camunda.zeebe.gateway.protocol.rest.CreateProcessInstanceBatchRequest;
 import io.camunda.zeebe.gateway.protocol.rest.CreateProcessInstanceRequest;
 import io.camunda.zeebe.gateway.protocol.rest.MigrateProcessInstanceMappingInstruction;
 import io.camunda.zeebe.gateway.protocol.rest.MigrateProcessInstanceRequest;
@@ -28,6 +31,9 @@ import org.springframework.http.ProblemDetail;
 
 public class ProcessInstanceRequestValidator {
 
+  /** The most process instances which may be created with a single batch request. */
+  public static final int MAX_BATCH_SIZE = BrokerCreateProcessInstanceBatchRequest.MAX_INSTANCES;
+
   public static Optional<ProblemDetail> validateCreateProcessInstanceRequest(
       final CreateProcessInstanceRequest request) {
     return validate(
@@ -48,6 +54,38 @@ public class ProcessInstanceRequestValidator {
         });
   }
 
+  public static Optional<ProblemDetail> validateCreateProcessInstanceBatchRequest(
+      final CreateProcessInstanceBatchRequest request) {
+    return validate(
+        violations -> {
+          final var instances = request.getInstances();
+          if (instances == null || instances.isEmpty()) {
+            violations.add(ERROR_MESSAGE_EMPTY_ATTRIBUTE.formatted("instances"));
+          } else if (instances.size() > MAX_BATCH_SIZE) {
+            violations.add(ERROR_MESSAGE_TOO_MANY_ITEMS.formatted("instances", MAX_BATCH_SIZE));
+          } else {
+            for (int i = 0; i < instances.size(); i++) {
+              final var instance = instances.get(i);
+              final var processDefinitionId = "instances[%d].processDefinitionId".formatted(i);
+              final var processDefinitionKey = "instances[%d].processDefinitionKey".formatted(i);
+              if (instance.getProcessDefinitionId() == null
+                  && instance.getProcessDefinitionKey() == null) {
+                violations.add(
+                    ERROR_MESSAGE_AT_LEAST_ONE_FIELD.formatted(
+                        List.of(processDefinitionId, processDefinitionKey)));
+              }
+              if (instance.getProcessDefinitionId() != null
+                  && instance.getProcessDefinitionKey() != null) {
+                violations.add(
+                    ERROR_MESSAGE_ONLY_ONE_FIELD.formatted(
+                        List.of(processDefinitionId, processDefinitionKey)));
+              }
+            }
+          }
+          validateOperationReference(request.getOperationReference(), violations);
+        });
+  }
+
   public static Optional<ProblemDetail> validateCancelProcessInstanceRequest(
       final CancelProcessInstanceRequest request) {
     return validate(
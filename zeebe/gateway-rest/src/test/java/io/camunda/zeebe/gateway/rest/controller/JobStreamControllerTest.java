@@ -0,0 +1,106 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.gateway.rest.controller;
+
+import static org.mockito.Mockito.when;
+
+import io.camunda.security.configuration.MultiTenancyConfiguration;
+import io.camunda.zeebe.broker.client.api.BrokerClient;
+import io.camunda.zeebe.gateway.rest.RestControllerTest;
+import java.util.Optional;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.http.MediaType;
+
+@WebMvcTest(JobStreamController.class)
+public class JobStreamControllerTest extends RestControllerTest {
+
+  static final String JOBS_STREAM_URL = "/v2/jobs/stream";
+
+  @MockBean JobStreamerProvider jobStreamerProvider;
+  @MockBean BrokerClient brokerClient;
+  @MockBean MultiTenancyConfiguration multiTenancyCfg;
+
+  @BeforeEach
+  void setup() {
+    when(multiTenancyCfg.isEnabled()).thenReturn(false);
+  }
+
+  @Test
+  void shouldRejectStreamWithoutType() {
+    // given
+    final var request =
+        """
+            {
+              "timeout": 1000
+            }""";
+
+    // when/then
+    webClient
+        .post()
+        .uri(JOBS_STREAM_URL)
+        .accept(MediaType.TEXT_EVENT_STREAM, MediaType.APPLICATION_PROBLEM_JSON)
+        .contentType(MediaType.APPLICATION_JSON)
+        .bodyValue(request)
+        .exchange()
+        .expectStatus()
+        .isBadRequest()
+        .expectHeader()
+        .contentType(MediaType.APPLICATION_PROBLEM_JSON)
+        .expectBody()
+        .jsonPath("$.detail")
+        .isEqualTo("No type provided.");
+  }
+
+  @Test
+  void shouldRejectStreamWithNonPositiveTimeout() {
+    // given
+    final var request =
+        """
+            {
+              "type": "foo",
+              "timeout": 0
+            }""";
+
+    // when/then
+    webClient
+        .post()
+        .uri(JOBS_STREAM_URL)
+        .accept(MediaType.TEXT_EVENT_STREAM, MediaType.APPLICATION_PROBLEM_JSON)
+        .contentType(MediaType.APPLICATION_JSON)
+        .bodyValue(request)
+        .exchange()
+        .expectStatus()
+        .isBadRequest();
+  }
+
+  @Test
+  void shouldRejectStreamIfStreamerIsNotStarted() {
+    // given
+    when(jobStreamerProvider.get()).thenReturn(Optional.empty());
+    final var request =
+        """
+            {
+              "type": "foo",
+              "timeout": 1000
+            }""";
+
+    // when/then
+    webClient
+        .post()
+        .uri(JOBS_STREAM_URL)
+        .accept(MediaType.TEXT_EVENT_STREAM, MediaType.APPLICATION_PROBLEM_JSON)
+        .contentType(MediaType.APPLICATION_JSON)
+        .bodyValue(request)
+        .exchange()
+        .expectStatus()
+        .isEqualTo(503);
+  }
+}
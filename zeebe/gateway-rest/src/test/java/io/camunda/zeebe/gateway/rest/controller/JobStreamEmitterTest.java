@@ -0,0 +1,250 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.gateway.rest.controller;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import io.camunda.zeebe.gateway.protocol.rest.ActivatedJob;
+import io.camunda.zeebe.protocol.impl.record.value.job.JobRecord;
+import io.camunda.zeebe.protocol.impl.stream.job.ActivatedJobImpl;
+import io.camunda.zeebe.protocol.impl.stream.job.JobActivationProperties;
+import io.camunda.zeebe.protocol.impl.stream.job.JobActivationPropertiesImpl;
+import io.camunda.zeebe.scheduler.future.CompletableActorFuture;
+import io.camunda.zeebe.transport.stream.api.ClientStreamBlockedException;
+import io.camunda.zeebe.transport.stream.api.ClientStreamId;
+import io.camunda.zeebe.transport.stream.api.ClientStreamer;
+import io.camunda.zeebe.util.buffer.BufferUtil;
+import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.function.IntSupplier;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+final class JobStreamEmitterTest {
+  private static final Executor DIRECT = Runnable::run;
+  private static final IntSupplier ONE_BROKER = () -> 1;
+
+  private final TestSseEmitter sseEmitter = new TestSseEmitter();
+
+  @SuppressWarnings("unchecked")
+  private final ClientStreamer<JobActivationProperties> jobStreamer = mock(ClientStreamer.class);
+
+  private final ClientStreamId streamId = new ClientStreamId() {};
+
+  @Test
+  void shouldSendPushedJobAsEvent() {
+    // given
+    final var emitter = new JobStreamEmitter(sseEmitter, DIRECT, 1, ONE_BROKER);
+    final var job = new ActivatedJobImpl().setJobKey(1).setRecord(new JobRecord().setType("foo"));
+
+    // when
+    final var result = emitter.push(BufferUtil.createCopy(job));
+
+    // then
+    assertThat(result).succeedsWithin(Duration.ZERO);
+    assertThat(sseEmitter.sent).extracting(ActivatedJob::getJobKey).containsExactly(1L);
+    assertThat(sseEmitter.error).isNull();
+  }
+
+  @Test
+  void shouldFailPushOnSerialization() {
+    // given
+    final var emitter = new JobStreamEmitter(sseEmitter, DIRECT, 1, ONE_BROKER);
+
+    // when
+    final var result = emitter.push(BufferUtil.wrapString("i am not a job"));
+
+    // then
+    assertThat(result).failsWithin(Duration.ZERO);
+    assertThat(sseEmitter.sent).isEmpty();
+    assertThat(sseEmitter.error).as("client stream is not closed").isNull();
+  }
+
+  @Test
+  void shouldRejectJobsBeyondCapacity() {
+    // given
+    final List<Runnable> sends = new ArrayList<>();
+    final var emitter = new JobStreamEmitter(sseEmitter, sends::add, 1, ONE_BROKER);
+    final var payload = BufferUtil.createCopy(new ActivatedJobImpl().setJobKey(1));
+    emitter.push(payload);
+
+    // when
+    final var result = emitter.push(payload);
+
+    // then
+    assertThat(result)
+        .failsWithin(Duration.ZERO)
+        .withThrowableThat()
+        .havingRootCause()
+        .isInstanceOf(ClientStreamBlockedException.class);
+    assertThat(sseEmitter.error).as("client stream is not closed").isNull();
+  }
+
+  @Test
+  void shouldAcceptCreditsWorthOfJobsFromEachBroker() {
+    // given - two brokers, each granted a single credit, and a client which did not catch up yet
+    final List<Runnable> sends = new ArrayList<>();
+    final var emitter = new JobStreamEmitter(sseEmitter, sends::add, 1, () -> 2);
+    final var payload = BufferUtil.createCopy(new ActivatedJobImpl().setJobKey(1));
+
+    // when - each broker pushes as many jobs as it has credits
+    final var fromFirstBroker = emitter.push(payload);
+    final var fromSecondBroker = emitter.push(payload);
+    sends.forEach(Runnable::run);
+
+    // then
+    assertThat(fromFirstBroker).succeedsWithin(Duration.ZERO);
+    assertThat(fromSecondBroker).succeedsWithin(Duration.ZERO);
+    assertThat(sseEmitter.sent).hasSize(2);
+    assertThat(sseEmitter.error).isNull();
+  }
+
+  @Test
+  void shouldRejectJobsBeyondCreditsOfAllBrokers() {
+    // given
+    final List<Runnable> sends = new ArrayList<>();
+    final var emitter = new JobStreamEmitter(sseEmitter, sends::add, 1, () -> 2);
+    final var payload = BufferUtil.createCopy(new ActivatedJobImpl().setJobKey(1));
+    emitter.push(payload);
+    emitter.push(payload);
+
+    // when
+    final var result = emitter.push(payload);
+
+    // then
+    assertThat(result)
+        .failsWithin(Duration.ZERO)
+        .withThrowableThat()
+        .havingRootCause()
+        .isInstanceOf(ClientStreamBlockedException.class);
+  }
+
+  @Test
+  void shouldAcceptJobsAgainOnceSent() {
+    // given
+    final List<Runnable> sends = new ArrayList<>();
+    final var emitter = new JobStreamEmitter(sseEmitter, sends::add, 1, ONE_BROKER);
+    final var payload = BufferUtil.createCopy(new ActivatedJobImpl().setJobKey(1));
+    emitter.push(payload);
+
+    // when
+    sends.removeFirst().run();
+    final var result = emitter.push(payload);
+    sends.removeFirst().run();
+
+    // then
+    assertThat(result).succeedsWithin(Duration.ZERO);
+    assertThat(sseEmitter.sent).hasSize(2);
+  }
+
+  @Test
+  void shouldCompleteEmitterOnSendFailure() {
+    // given
+    final var failure = new IOException("client went away");
+    final var emitter = new JobStreamEmitter(sseEmitter, DIRECT, 1, ONE_BROKER);
+    sseEmitter.failure = failure;
+
+    // when
+    final var result = emitter.push(BufferUtil.createCopy(new ActivatedJobImpl()));
+
+    // then
+    assertThat(result)
+        .failsWithin(Duration.ZERO)
+        .withThrowableThat()
+        .havingRootCause()
+        .isSameAs(failure);
+    assertThat(sseEmitter.error).isSameAs(failure);
+  }
+
+  @Test
+  void shouldAddStreamWithCredits() {
+    // given
+    final var emitter = new JobStreamEmitter(sseEmitter, DIRECT, 8, ONE_BROKER);
+    final var properties = new JobActivationPropertiesImpl();
+    final var jobType = BufferUtil.wrapString("foo");
+    when(jobStreamer.add(any(), any(), any(), anyInt()))
+        .thenReturn(CompletableActorFuture.completed(streamId));
+
+    // when
+    emitter.open(jobStreamer, jobType, properties);
+
+    // then
+    verify(jobStreamer).add(jobType, properties, emitter, 8);
+  }
+
+  @Test
+  void shouldRemoveStreamOnCompletion() {
+    // given
+    final var emitter = new JobStreamEmitter(sseEmitter, DIRECT, 1, ONE_BROKER);
+    when(jobStreamer.add(any(), any(), any(), anyInt()))
+        .thenReturn(CompletableActorFuture.completed(streamId));
+    emitter.open(jobStreamer, BufferUtil.wrapString("foo"), new JobActivationPropertiesImpl());
+
+    // when
+    sseEmitter.completionCallback.run();
+
+    // then
+    verify(jobStreamer).remove(streamId);
+  }
+
+  @Test
+  void shouldRemoveStreamAddedAfterCompletion() {
+    // given
+    final var emitter = new JobStreamEmitter(sseEmitter, DIRECT, 1, ONE_BROKER);
+    final var added = new CompletableActorFuture<ClientStreamId>();
+    when(jobStreamer.add(any(), any(), any(), anyInt())).thenReturn(added);
+    emitter.open(jobStreamer, BufferUtil.wrapString("foo"), new JobActivationPropertiesImpl());
+
+    // when
+    sseEmitter.completionCallback.run();
+    verify(jobStreamer, never()).remove(any());
+    added.complete(streamId);
+
+    // then
+    verify(jobStreamer).remove(streamId);
+  }
+
+  private static final class TestSseEmitter extends SseEmitter {
+    private final List<ActivatedJob> sent = new ArrayList<>();
+    private Runnable completionCallback;
+    private IOException failure;
+    private Throwable error;
+
+    @Override
+    public void send(final SseEventBuilder builder) throws IOException {
+      if (failure != null) {
+        throw failure;
+      }
+
+      builder.build().stream()
+          .map(DataWithMediaType::getData)
+          .filter(ActivatedJob.class::isInstance)
+          .map(ActivatedJob.class::cast)
+          .forEach(sent::add);
+    }
+
+    @Override
+    public void completeWithError(final Throwable ex) {
+      error = ex;
+    }
+
+    @Override
+    public void onCompletion(final Runnable callback) {
+      completionCallback = callback;
+    }
+  }
+}
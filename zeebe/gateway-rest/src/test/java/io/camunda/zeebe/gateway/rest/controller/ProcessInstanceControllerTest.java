@@ -16,16 +16,20 @@ import io.camunda.security.auth.Authentication;
 import io.camunda.security.configuration.MultiTenancyConfiguration;
 import io.camunda.service.ProcessInstanceServices;
 import io.camunda.service.ProcessInstanceServices.ProcessInstanceCancelRequest;
+import io.camunda.service.ProcessInstanceServices.ProcessInstanceCreateBatchRequest;
 import io.camunda.service.ProcessInstanceServices.ProcessInstanceCreateRequest;
 import io.camunda.service.ProcessInstanceServices.ProcessInstanceMigrateRequest;
 import io.camunda.service.ProcessInstanceServices.ProcessInstanceModifyRequest;
 import io.camunda.zeebe.gateway.rest.RequestMapper;
 import io.camunda.zeebe.gateway.rest.RestControllerTest;
+import io.camunda.zeebe.protocol.impl.record.value.processinstance.ProcessInstanceCreationBatchRecord;
+import io.camunda.zeebe.protocol.impl.record.value.processinstance.ProcessInstanceCreationBatchResult;
 import io.camunda.zeebe.protocol.impl.record.value.processinstance.ProcessInstanceCreationRecord;
 import io.camunda.zeebe.protocol.impl.record.value.processinstance.ProcessInstanceMigrationRecord;
 import io.camunda.zeebe.protocol.impl.record.value.processinstance.ProcessInstanceModificationRecord;
 import io.camunda.zeebe.protocol.impl.record.value.processinstance.ProcessInstanceRecord;
 import io.camunda.zeebe.protocol.impl.record.value.processinstance.ProcessInstanceResultRecord;
+import io.camunda.zeebe.protocol.record.RejectionType;
 import java.util.concurrent.CompletableFuture;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -59,11 +63,14 @@ public class ProcessInstanceControllerTest extends RestControllerTest {
          "tenantId":"tenantId"
       }""";
   static final String PROCESS_INSTANCES_START_URL = "/v2/process-instances";
+  static final String PROCESS_INSTANCES_BATCH_CREATION_URL =
+      PROCESS_INSTANCES_START_URL + "/batch-creation";
   static final String CANCEL_PROCESS_URL = PROCESS_INSTANCES_START_URL + "/%s/cancellation";
   static final String MIGRATE_PROCESS_URL = PROCESS_INSTANCES_START_URL + "/%s/migration";
   static final String MODIFY_PROCESS_URL = PROCESS_INSTANCES_START_URL + "/%s/modification";
 
   @Captor ArgumentCaptor<ProcessInstanceCreateRequest> createRequestCaptor;
+  @Captor ArgumentCaptor<ProcessInstanceCreateBatchRequest> createBatchRequestCaptor;
   @Captor ArgumentCaptor<ProcessInstanceCancelRequest> cancelRequestCaptor;
   @Captor ArgumentCaptor<ProcessInstanceMigrateRequest> migrateRequestCaptor;
   @Captor ArgumentCaptor<ProcessInstanceModifyRequest> modifyRequestCaptor;
@@ -1354,4 +1361,168 @@ public class ProcessInstanceControllerTest extends RestControllerTest {
         .expectBody()
         .json(expectedBody);
   }
+
+  @Test
+  void shouldCreateProcessInstanceBatch() {
+    // given
+    final var batch = new ProcessInstanceCreationBatchRecord();
+    batch.addResult(
+        new ProcessInstanceCreationBatchResult()
+            .setProcessInstanceKey(123L)
+            .setProcessDefinitionKey(456L)
+            .setBpmnProcessId("bpmnProcessId")
+            .setVersion(1)
+            .setTenantId("<default>"));
+    batch.addResult(
+        new ProcessInstanceCreationBatchResult()
+            .setBpmnProcessId("unknown")
+            .setTenantId("<default>")
+            .setRejectionType(RejectionType.NOT_FOUND)
+            .setRejectionReason("process not found"));
+
+    when(processInstanceServices.createProcessInstanceBatch(
+            any(ProcessInstanceCreateBatchRequest.class)))
+        .thenReturn(CompletableFuture.completedFuture(batch));
+
+    final var request =
+        """
+        {
+            "instances": [
+                {
+                    "processDefinitionId": "bpmnProcessId",
+                    "variables": {"foo": "bar"}
+                },
+                {
+                    "processDefinitionId": "unknown"
+                }
+            ],
+            "operationReference": 7
+        }""";
+
+    final var expectedBody =
+        """
+        {
+            "results": [
+                {
+                    "processInstanceKey": 123,
+                    "processDefinitionKey": 456,
+                    "processDefinitionId": "bpmnProcessId",
+                    "processDefinitionVersion": 1,
+                    "tenantId": "<default>"
+                },
+                {
+                    "processDefinitionId": "unknown",
+                    "tenantId": "<default>",
+                    "error": {
+                        "title": "NOT_FOUND",
+                        "status": 404,
+                        "detail": "Command 'CREATE' rejected with code 'NOT_FOUND': process not found"
+                    }
+                }
+            ]
+        }""";
+
+    // when / then
+    webClient
+        .post()
+        .uri(PROCESS_INSTANCES_BATCH_CREATION_URL)
+        .accept(RequestMapper.MEDIA_TYPE_KEYS_NUMBER)
+        .contentType(MediaType.APPLICATION_JSON)
+        .bodyValue(request)
+        .exchange()
+        .expectStatus()
+        .isOk()
+        .expectBody()
+        .json(expectedBody);
+
+    verify(processInstanceServices).createProcessInstanceBatch(createBatchRequestCaptor.capture());
+    final var capturedRequest = createBatchRequestCaptor.getValue();
+    assertThat(capturedRequest.operationReference()).isEqualTo(7L);
+    assertThat(capturedRequest.instances())
+        .extracting(ProcessInstanceCreateRequest::bpmnProcessId)
+        .containsExactly("bpmnProcessId", "unknown");
+    assertThat(capturedRequest.instances().getFirst().variables()).containsEntry("foo", "bar");
+  }
+
+  @Test
+  void shouldRejectCreateProcessInstanceBatchWithoutInstances() {
+    // given
+    final var request =
+        """
+        {
+            "instances": []
+        }""";
+
+    final var expectedBody =
+        """
+        {
+            "type":"about:blank",
+            "title":"INVALID_ARGUMENT",
+            "status":400,
+            "detail":"No instances provided.",
+            "instance":"/v2/process-instances/batch-creation"
+         }""";
+
+    // when / then
+    webClient
+        .post()
+        .uri(PROCESS_INSTANCES_BATCH_CREATION_URL)
+        .accept(MediaType.APPLICATION_JSON)
+        .contentType(MediaType.APPLICATION_JSON)
+        .bodyValue(request)
+        .exchange()
+        .expectStatus()
+        .isBadRequest()
+        .expectHeader()
+        .contentType(MediaType.APPLICATION_PROBLEM_JSON)
+        .expectBody()
+        .json(expectedBody);
+
+    Mockito.verifyNoInteractions(processInstanceServices);
+  }
+
+  @Test
+  void shouldRejectCreateProcessInstanceBatchIfInstanceHasNoProcessDefinition() {
+    // given
+    final var request =
+        """
+        {
+            "instances": [
+                {
+                    "processDefinitionId": "bpmnProcessId"
+                },
+                {
+                    "version": 1
+                }
+            ]
+        }""";
+
+    final var expectedBody =
+        """
+        {
+            "type":"about:blank",
+            "title":"INVALID_ARGUMENT",
+            "status":400,
+            "detail":"At least one of [instances[1].processDefinitionId, \
+        instances[1].processDefinitionKey] is required.",
+            "instance":"/v2/process-instances/batch-creation"
+         }""";
+
+    // when / then
+    webClient
+        .post()
+        .uri(PROCESS_INSTANCES_BATCH_CREATION_URL)
+        .accept(MediaType.APPLICATION_JSON)
+        .contentType(MediaType.APPLICATION_JSON)
+        .bodyValue(request)
+        .exchange()
+        .expectStatus()
+        .isBadRequest()
+        .expectHeader()
+        .contentType(MediaType.APPLICATION_PROBLEM_JSON)
+        .expectBody()
+        .json(expectedBody);
+
+    Mockito.verifyNoInteractions(processInstanceServices);
+  }
 }
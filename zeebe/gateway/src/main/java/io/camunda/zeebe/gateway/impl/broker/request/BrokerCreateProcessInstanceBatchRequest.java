@@ -0,0 +1,51 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.gateway.impl.broker.request;
+
+import io.camunda.zeebe.broker.client.api.dto.BrokerExecuteCommand;
+import io.camunda.zeebe.protocol.impl.record.value.processinstance.ProcessInstanceCreationBatchRecord;
+import io.camunda.zeebe.protocol.impl.record.value.processinstance.ProcessInstanceCreationRecord;
+import io.camunda.zeebe.protocol.record.ValueType;
+import io.camunda.zeebe.protocol.record.intent.ProcessInstanceCreationBatchIntent;
+import org.agrona.DirectBuffer;
+
+/**
+ * Creates multiple process instances with a single command. All instances are created on the same
+ * partition; the response lists the outcome of each instance in the order they were added.
+ */
+public class BrokerCreateProcessInstanceBatchRequest
+    extends BrokerExecuteCommand<ProcessInstanceCreationBatchRecord> {
+
+  /** The maximum number of instances a single batch may contain. */
+  public static final int MAX_INSTANCES = 1000;
+
+  private final ProcessInstanceCreationBatchRecord requestDto =
+      new ProcessInstanceCreationBatchRecord();
+
+  public BrokerCreateProcessInstanceBatchRequest() {
+    super(ValueType.PROCESS_INSTANCE_CREATION_BATCH, ProcessInstanceCreationBatchIntent.CREATE);
+  }
+
+  public BrokerCreateProcessInstanceBatchRequest addInstance(
+      final ProcessInstanceCreationRecord instance) {
+    requestDto.addInstance(instance);
+    return this;
+  }
+
+  @Override
+  public ProcessInstanceCreationBatchRecord getRequestWriter() {
+    return requestDto;
+  }
+
+  @Override
+  protected ProcessInstanceCreationBatchRecord toResponseDto(final DirectBuffer buffer) {
+    final ProcessInstanceCreationBatchRecord responseDto = new ProcessInstanceCreationBatchRecord();
+    responseDto.wrap(buffer);
+    return responseDto;
+  }
+}
@@ -14,16 +14,19 @@ import static io.camunda.zeebe.gateway.impl.configuration.ConfigurationDefaults.
 import static io.camunda.zeebe.gateway.impl.configuration.ConfigurationDefaults.DEFAULT_CLUSTER_PORT;
 import static io.camunda.zeebe.gateway.impl.configuration.ConfigurationDefaults.DEFAULT_CONTACT_POINT_HOST;
 import static io.camunda.zeebe.gateway.impl.configuration.ConfigurationDefaults.DEFAULT_CONTACT_POINT_PORT;
+import static io.camunda.zeebe.gateway.impl.configuration.ConfigurationDefaults.DEFAULT_MESSAGE_COMPRESSION_THRESHOLD;
 import static io.camunda.zeebe.gateway.impl.configuration.ConfigurationDefaults.DEFAULT_REQUEST_TIMEOUT;
 import static io.camunda.zeebe.util.StringUtil.LIST_SANITIZER;
 
 import io.atomix.cluster.messaging.MessagingConfig.CompressionAlgorithm;
 import io.atomix.utils.net.Address;
+import java.io.File;
 import java.time.Duration;
 import java.util.Collections;
 import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
+import org.springframework.util.unit.DataSize;
 
 public final class ClusterCfg {
 
@@ -42,6 +45,8 @@ public final class ClusterCfg {
   private MembershipCfg membership = new MembershipCfg();
   private SecurityCfg security = new SecurityCfg();
   private CompressionAlgorithm messageCompression = CompressionAlgorithm.NONE;
+  private DataSize messageCompressionThreshold = DEFAULT_MESSAGE_COMPRESSION_THRESHOLD;
+  private File messageCompressionDictionary;
   private ConfigManagerCfg configManager = ConfigManagerCfg.defaultConfig();
 
   public String getMemberId() {
@@ -148,6 +153,22 @@ public final class ClusterCfg {
     messageCompression = compressionAlgorithm;
   }
 
+  public DataSize getMessageCompressionThreshold() {
+    return messageCompressionThreshold;
+  }
+
+  public void setMessageCompressionThreshold(final DataSize messageCompressionThreshold) {
+    this.messageCompressionThreshold = messageCompressionThreshold;
+  }
+
+  public File getMessageCompressionDictionary() {
+    return messageCompressionDictionary;
+  }
+
+  public void setMessageCompressionDictionary(final File messageCompressionDictionary) {
+    this.messageCompressionDictionary = messageCompressionDictionary;
+  }
+
   public List<String> getInitialContactPoints() {
     return initialContactPoints;
   }
@@ -178,6 +199,8 @@ public final class ClusterCfg {
         membership,
         security,
         messageCompression,
+        messageCompressionThreshold,
+        messageCompressionDictionary,
         configManager);
   }
 
@@ -199,6 +222,8 @@ public final class ClusterCfg {
         && Objects.equals(membership, that.membership)
         && Objects.equals(security, that.security)
         && Objects.equals(messageCompression, that.messageCompression)
+        && Objects.equals(messageCompressionThreshold, that.messageCompressionThreshold)
+        && Objects.equals(messageCompressionDictionary, that.messageCompressionDictionary)
         && Objects.equals(configManager, that.configManager);
   }
 
@@ -226,6 +251,10 @@ public final class ClusterCfg {
         + security
         + ", messageCompression="
         + messageCompression
+        + ", messageCompressionThreshold="
+        + messageCompressionThreshold
+        + ", messageCompressionDictionary="
+        + messageCompressionDictionary
         + ", configManagerCfg="
         + configManager
         + '}';
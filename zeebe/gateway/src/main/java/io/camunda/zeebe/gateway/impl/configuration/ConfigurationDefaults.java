@@ -33,6 +33,7 @@ public final class ConfigurationDefaults {
   public static final String DEFAULT_CLUSTER_MEMBER_ID = "gateway";
   public static final String DEFAULT_CLUSTER_HOST = "0.0.0.0";
   public static final int DEFAULT_CLUSTER_PORT = 26502;
+  public static final DataSize DEFAULT_MESSAGE_COMPRESSION_THRESHOLD = DataSize.ofKilobytes(1);
 
   public static final int DEFAULT_MANAGEMENT_THREADS = 1;
 
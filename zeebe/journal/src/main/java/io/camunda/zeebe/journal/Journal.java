@@ -124,6 +124,22 @@ public interface Journal extends AutoCloseable {
    */
   void flush() throws FlushException;
 
+  /**
+   * Flushes the journal only if a flush is due. Depending on the implementation, appends may be
+   * grouped such that a single flush covers many of them (i.e. group commit), in which case a flush
+   * is only due once enough data was appended, or enough time has passed since the oldest unflushed
+   * append. Callers must keep calling this (or {@link #flush()}) until the returned index covers
+   * the records they need to be persisted.
+   *
+   * <p>By default, this always flushes.
+   *
+   * @return the index up to which records are guaranteed to be flushed
+   */
+  default long tryFlush() throws FlushException {
+    flush();
+    return getLastIndex();
+  }
+
   /**
    * Opens a new {@link JournalReader}
    *
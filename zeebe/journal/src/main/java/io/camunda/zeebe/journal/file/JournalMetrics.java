@@ -112,6 +112,34 @@ final class JournalMetrics {
           .buckets(0.0001, 0.001, .005, .01, .025, .05, .075, .1, .25, .5, .75, 1, 2.5, 5)
           .register();
 
+  private static final Histogram FLUSH_BATCH_SIZE =
+      Histogram.build()
+          .namespace(NAMESPACE)
+          .name("journal_flush_batch_size")
+          .help("Distribution of the number of records flushed together in a single journal flush")
+          .labelNames(PARTITION_LABEL)
+          .buckets(1, 2, 5, 10, 25, 50, 100, 250, 500, 1000, 2500, 5000)
+          .register();
+
+  private static final Histogram FLUSH_BATCH_BYTES =
+      Histogram.build()
+          .namespace(NAMESPACE)
+          .name("journal_flush_batch_bytes")
+          .help("Distribution of the number of bytes flushed together in a single journal flush")
+          .labelNames(PARTITION_LABEL)
+          .exponentialBuckets(1024, 4, 10)
+          .register();
+
+  private static final Histogram FLUSH_WAIT_TIME =
+      Histogram.build()
+          .namespace(NAMESPACE)
+          .name("journal_flush_wait_time")
+          .help(
+              "Distribution of time between the oldest append in a flush batch and the end of the flush")
+          .labelNames(PARTITION_LABEL)
+          .buckets(0.0001, 0.0005, 0.001, .0025, .005, .01, .025, .05, .1, .25, .5, 1)
+          .register();
+
   private final Histogram.Child segmentCreationTime;
   private final Histogram.Child segmentTruncateTime;
   private final Histogram.Child segmentFlushTime;
@@ -123,6 +151,9 @@ final class JournalMetrics {
   private final Counter.Child appendRate;
   private final Counter.Child appendDataRate;
   private final Child seekLatency;
+  private final Histogram.Child flushBatchSize;
+  private final Histogram.Child flushBatchBytes;
+  private final Histogram.Child flushWaitTime;
 
   JournalMetrics(final String partitionId) {
     segmentCreationTime = SEGMENT_CREATION_TIME.labels(partitionId);
@@ -136,6 +167,9 @@ final class JournalMetrics {
     appendRate = APPEND_RATE.labels(partitionId);
     appendDataRate = APPEND_DATA_RATE.labels(partitionId);
     seekLatency = SEEK_LATENCY.labels(partitionId);
+    flushBatchSize = FLUSH_BATCH_SIZE.labels(partitionId);
+    flushBatchBytes = FLUSH_BATCH_BYTES.labels(partitionId);
+    flushWaitTime = FLUSH_WAIT_TIME.labels(partitionId);
   }
 
   void observeSegmentCreation(final Runnable segmentCreation) {
@@ -182,4 +216,10 @@ final class JournalMetrics {
   Histogram.Timer observeSeekLatency() {
     return seekLatency.startTimer();
   }
+
+  void observeFlushBatch(final long records, final long bytes, final long waitTimeNanos) {
+    flushBatchSize.observe(records);
+    flushBatchBytes.observe(bytes);
+    flushWaitTime.observe(waitTimeNanos / 1_000_000_000d);
+  }
 }
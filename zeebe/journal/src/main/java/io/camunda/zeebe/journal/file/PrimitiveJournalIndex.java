@@ -0,0 +1,272 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.journal.file;
+
+import io.camunda.zeebe.journal.JournalRecord;
+import java.util.Arrays;
+import java.util.concurrent.locks.StampedLock;
+
+/**
+ * A sparse {@link JournalIndex} which, like {@link SparseJournalIndex}, only indexes every {@code
+ * density}-th record, but stores its entries in sorted primitive arrays instead of skip lists. This
+ * avoids boxing and per-entry node objects, which greatly reduces the heap footprint for journals
+ * with many segments, and allows looking up entries via binary search.
+ *
+ * <p>Entries are almost always indexed in ascending order (by the writer, or by readers seeking
+ * through segments), in which case indexing is a simple append. Out of order entries, which can
+ * occur when readers build the index on demand after a restart, are inserted in place.
+ *
+ * <p>Truncating the tail ({@link #deleteAfter(long)}) and compacting the head ({@link
+ * #deleteUntil(long)}) only move the bounds of the valid range, and thus never copy any entries.
+ * Compacted space at the head is reclaimed lazily when the arrays would otherwise have to grow.
+ *
+ * <p>The index is accessed concurrently by the writer and by readers, so all accesses are guarded
+ * by a read-write lock.
+ */
+final class PrimitiveJournalIndex implements JournalIndex {
+  private static final int INITIAL_CAPACITY = 1024;
+
+  private final int density;
+  private final StampedLock lock = new StampedLock();
+
+  // index -> position
+  private final SortedEntries positions = new SortedEntries();
+  // asqn -> index; both the asqn and the index are strictly increasing, so the entries are sorted
+  // by either
+  private final SortedEntries asqns = new SortedEntries();
+
+  PrimitiveJournalIndex(final int density) {
+    this.density = density;
+  }
+
+  @Override
+  public void index(final JournalRecord record, final int position) {
+    final long index = record.index();
+    if (index % density != 0) {
+      return;
+    }
+
+    final var stamp = lock.writeLock();
+    try {
+      positions.put(index, position);
+      final long asqn = record.asqn();
+      if (asqn != SegmentedJournal.ASQN_IGNORE) {
+        asqns.put(asqn, index);
+      }
+    } finally {
+      lock.unlockWrite(stamp);
+    }
+  }
+
+  @Override
+  public IndexInfo lookup(final long index) {
+    final var stamp = lock.readLock();
+    try {
+      final int floor = positions.floorByKey(index);
+      return floor < 0 ? null : new IndexInfo(positions.keys[floor], (int) positions.values[floor]);
+    } finally {
+      lock.unlockRead(stamp);
+    }
+  }
+
+  @Override
+  public Long lookupAsqn(final long asqn) {
+    return lookupAsqn(asqn, Long.MAX_VALUE);
+  }
+
+  @Override
+  public Long lookupAsqn(final long asqn, final long indexUpperBound) {
+    final var stamp = lock.readLock();
+    try {
+      final int floor = asqns.floorByKey(asqn);
+      if (floor < 0) {
+        return null;
+      }
+
+      if (asqns.values[floor] <= indexUpperBound) {
+        return asqns.values[floor];
+      }
+
+      final int boundedFloor = asqns.floorByValue(indexUpperBound);
+      return boundedFloor < 0 ? null : asqns.values[boundedFloor];
+    } finally {
+      lock.unlockRead(stamp);
+    }
+  }
+
+  @Override
+  public void deleteAfter(final long indexExclusive) {
+    final var stamp = lock.writeLock();
+    try {
+      positions.truncateAfterKey(indexExclusive);
+      asqns.truncateAfterValue(indexExclusive);
+    } finally {
+      lock.unlockWrite(stamp);
+    }
+  }
+
+  @Override
+  public void deleteUntil(final long indexExclusive) {
+    final var stamp = lock.writeLock();
+    try {
+      positions.truncateBeforeKey(indexExclusive);
+      asqns.truncateBeforeValue(indexExclusive);
+    } finally {
+      lock.unlockWrite(stamp);
+    }
+  }
+
+  @Override
+  public void clear() {
+    final var stamp = lock.writeLock();
+    try {
+      positions.clear();
+      asqns.clear();
+    } finally {
+      lock.unlockWrite(stamp);
+    }
+  }
+
+  @Override
+  public boolean hasIndexed(final long index) {
+    final var indexInfo = lookup(index);
+    if (indexInfo == null) {
+      return false;
+    } else {
+      return indexInfo.index() > index - density;
+    }
+  }
+
+  /** Returns the number of indexed entries; useful to estimate the memory usage of the index. */
+  int size() {
+    final var stamp = lock.readLock();
+    try {
+      return positions.size();
+    } finally {
+      lock.unlockRead(stamp);
+    }
+  }
+
+  /**
+   * Key-value pairs stored in two parallel arrays, where both keys and values are unique and
+   * strictly increasing. Only the range {@code [head, tail)} of the arrays contains valid entries.
+   * Not thread safe.
+   */
+  private static final class SortedEntries {
+    private long[] keys = new long[INITIAL_CAPACITY];
+    private long[] values = new long[INITIAL_CAPACITY];
+    private int head;
+    private int tail;
+
+    private int size() {
+      return tail - head;
+    }
+
+    private void put(final long key, final long value) {
+      if (head == tail || key > keys[tail - 1]) {
+        ensureCapacity();
+        keys[tail] = key;
+        values[tail] = value;
+        tail++;
+        return;
+      }
+
+      final int found = Arrays.binarySearch(keys, head, tail, key);
+      if (found >= 0) {
+        values[found] = value;
+        return;
+      }
+
+      ensureCapacity();
+      final int insertAt = -found - 1;
+      System.arraycopy(keys, insertAt, keys, insertAt + 1, tail - insertAt);
+      System.arraycopy(values, insertAt, values, insertAt + 1, tail - insertAt);
+      keys[insertAt] = key;
+      values[insertAt] = value;
+      tail++;
+    }
+
+    /** Returns the position of the greatest key less than or equal to the given key, or -1. */
+    private int floorByKey(final long key) {
+      return floor(keys, key);
+    }
+
+    /** Returns the position of the greatest value less than or equal to the given value, or -1. */
+    private int floorByValue(final long value) {
+      return floor(values, value);
+    }
+
+    private void truncateAfterKey(final long keyExclusive) {
+      tail = firstGreaterThan(keys, keyExclusive);
+    }
+
+    private void truncateAfterValue(final long valueExclusive) {
+      tail = firstGreaterThan(values, valueExclusive);
+    }
+
+    private void truncateBeforeKey(final long keyExclusive) {
+      head = firstAtLeast(keys, keyExclusive);
+    }
+
+    private void truncateBeforeValue(final long valueExclusive) {
+      head = firstAtLeast(values, valueExclusive);
+    }
+
+    private void clear() {
+      head = 0;
+      tail = 0;
+    }
+
+    private int floor(final long[] array, final long target) {
+      final int found = Arrays.binarySearch(array, head, tail, target);
+      if (found >= 0) {
+        return found;
+      }
+
+      final int floor = -found - 2;
+      return floor >= head ? floor : -1;
+    }
+
+    private int firstGreaterThan(final long[] array, final long target) {
+      final int found = Arrays.binarySearch(array, head, tail, target);
+      return found >= 0 ? found + 1 : -found - 1;
+    }
+
+    private int firstAtLeast(final long[] array, final long target) {
+      final int found = Arrays.binarySearch(array, head, tail, target);
+      return found >= 0 ? found : -found - 1;
+    }
+
+    /**
+     * Ensures there is space for at least one more entry at the tail, either by reclaiming space
+     * freed at the head via compaction, or by growing the arrays.
+     */
+    private void ensureCapacity() {
+      if (tail < keys.length) {
+        return;
+      }
+
+      final int size = size();
+      if (head > 0 && size < keys.length / 2) {
+        System.arraycopy(keys, head, keys, 0, size);
+        System.arraycopy(values, head, values, 0, size);
+      } else {
+        final int capacity = Math.max(INITIAL_CAPACITY, size * 2);
+        final long[] newKeys = new long[capacity];
+        final long[] newValues = new long[capacity];
+        System.arraycopy(keys, head, newKeys, 0, size);
+        System.arraycopy(values, head, newValues, 0, size);
+        keys = newKeys;
+        values = newValues;
+      }
+
+      head = 0;
+      tail = size;
+    }
+  }
+}
@@ -52,6 +52,7 @@ final class Segment implements AutoCloseable, FlushableSegment {
   private final Set<SegmentReader> readers = Sets.newConcurrentHashSet();
   private final MappedByteBuffer buffer;
   private final JournalMetrics metrics;
+  private final SegmentFilePool filePool;
 
   // This needs to be volatile in case the flushing is asynchronous
   private volatile boolean open = true;
@@ -65,13 +66,15 @@ final class Segment implements AutoCloseable, FlushableSegment {
       final MappedByteBuffer buffer,
       final long lastWrittenAsqn,
       final JournalIndex index,
-      final JournalMetrics metrics) {
+      final JournalMetrics metrics,
+      final SegmentFilePool filePool) {
     this.file = file;
     this.descriptor = descriptor;
     this.descriptorSerializer = descriptorSerializer;
     this.buffer = buffer;
     this.index = index;
     this.metrics = metrics;
+    this.filePool = filePool;
 
     writer = createWriter(lastWrittenAsqn, metrics);
   }
@@ -183,12 +186,14 @@ final class Segment implements AutoCloseable, FlushableSegment {
   /**
    * Creates a new segment reader.
    *
+   * @param zeroCopy if true, the reader returns records as reusable views over the segment's buffer
    * @return A new segment reader.
    */
-  SegmentReader createReader() {
+  SegmentReader createReader(final boolean zeroCopy) {
     checkOpen();
     final SegmentReader reader =
-        new SegmentReader(buffer.asReadOnlyBuffer().position(0).order(ENDIANNESS), this, index);
+        new SegmentReader(
+            buffer.asReadOnlyBuffer().position(0).order(ENDIANNESS), this, index, zeroCopy);
     readers.add(reader);
     return reader;
   }
@@ -234,7 +239,10 @@ final class Segment implements AutoCloseable, FlushableSegment {
     IoUtil.unmap(buffer);
   }
 
-  /** Deletes the segment. */
+  /**
+   * Deletes the segment. The file is only deleted once all readers are closed; at that point, it
+   * may also be kept for recycling if there is space left in the segment file pool.
+   */
   void delete() {
     open = false;
     markForDeletion();
@@ -252,7 +260,10 @@ final class Segment implements AutoCloseable, FlushableSegment {
     }
     try {
       IoUtil.unmap(buffer);
-      Files.deleteIfExists(file.getFileMarkedForDeletion());
+      final var fileToDelete = file.getFileMarkedForDeletion();
+      if (!filePool.offer(fileToDelete)) {
+        Files.deleteIfExists(fileToDelete);
+      }
     } catch (final IOException e) {
       LOG.warn(
           "Could not delete segment {}. File to delete {}. This can lead to increased disk usage.",
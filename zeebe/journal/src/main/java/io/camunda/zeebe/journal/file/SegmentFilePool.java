@@ -0,0 +1,74 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.journal.file;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayDeque;
+import java.util.Deque;
+
+/**
+ * A bounded pool of segment files which are not used anymore (e.g. after compaction), but which are
+ * kept on disk so that they can be recycled as new segments. Reusing a file which is already
+ * allocated avoids having the file system allocate new blocks for every new segment.
+ *
+ * <p>Pooled files keep their "marked for deletion" name until they are recycled, such that they are
+ * simply deleted on restart if the node crashes. Files are offered to the pool by segments once
+ * they are unmapped, and taken out of it when preparing new segments, which may happen on different
+ * threads.
+ */
+final class SegmentFilePool {
+  private final int capacity;
+  private final Deque<Path> files = new ArrayDeque<>();
+
+  SegmentFilePool(final int capacity) {
+    this.capacity = capacity;
+  }
+
+  /** Returns a pool which never accepts any files, i.e. segment files are always deleted. */
+  static SegmentFilePool disabled() {
+    return new SegmentFilePool(0);
+  }
+
+  /**
+   * Offers an unused segment file to the pool. If the pool is already full, the file is not added,
+   * and the caller is responsible for deleting it.
+   *
+   * @param file the unused segment file
+   * @return true if the file is now pooled, false otherwise
+   */
+  synchronized boolean offer(final Path file) {
+    if (files.contains(file)) {
+      return true;
+    }
+
+    if (files.size() >= capacity) {
+      return false;
+    }
+
+    files.add(file);
+    return true;
+  }
+
+  /**
+   * Returns a pooled file to be recycled, or null if there are none. The caller takes ownership of
+   * the returned file.
+   */
+  synchronized Path poll() {
+    Path file = files.poll();
+    while (file != null && !Files.exists(file)) {
+      file = files.poll();
+    }
+
+    return file;
+  }
+
+  synchronized int size() {
+    return files.size();
+  }
+}
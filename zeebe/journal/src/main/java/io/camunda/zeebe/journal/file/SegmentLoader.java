@@ -19,6 +19,7 @@ import java.nio.channels.FileChannel.MapMode;
 import java.nio.file.FileAlreadyExistsException;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
 import java.nio.file.StandardOpenOption;
 import org.agrona.IoUtil;
 import org.slf4j.Logger;
@@ -32,6 +33,7 @@ final class SegmentLoader {
   private final SegmentAllocator allocator;
   private final long minFreeDiskSpace;
   private final JournalMetrics metrics;
+  private final SegmentFilePool filePool;
 
   SegmentLoader(final int minFreeDiskSpace, final JournalMetrics metrics) {
     this(minFreeDiskSpace, metrics, SegmentAllocator.fill());
@@ -39,9 +41,28 @@ final class SegmentLoader {
 
   SegmentLoader(
       final long minFreeDiskSpace, final JournalMetrics metrics, final SegmentAllocator allocator) {
+    this(minFreeDiskSpace, metrics, allocator, SegmentFilePool.disabled());
+  }
+
+  SegmentLoader(
+      final long minFreeDiskSpace,
+      final JournalMetrics metrics,
+      final SegmentAllocator allocator,
+      final SegmentFilePool filePool) {
     this.minFreeDiskSpace = minFreeDiskSpace;
     this.metrics = metrics;
     this.allocator = allocator;
+    this.filePool = filePool;
+  }
+
+  /**
+   * Offers a segment file which is not used anymore to be recycled for new segments.
+   *
+   * @param file the unused segment file
+   * @return true if the file will be recycled, false if the caller should delete it
+   */
+  boolean recycle(final Path file) {
+    return filePool.offer(file);
   }
 
   Segment createSegment(
@@ -116,7 +137,8 @@ final class SegmentLoader {
         descriptor.id(),
         descriptor.maxSegmentSize(),
         mappedSegment,
-        journalIndex);
+        journalIndex,
+        filePool);
   }
 
   Segment loadExistingSegment(
@@ -165,7 +187,8 @@ final class SegmentLoader {
         buffer,
         lastWrittenAsqn,
         journalIndex,
-        metrics);
+        metrics,
+        filePool);
   }
 
   private MappedByteBuffer mapSegment(final FileChannel channel, final long segmentSize)
@@ -197,6 +220,20 @@ final class SegmentLoader {
       throws IOException {
     final var maxSegmentSize = descriptor.maxSegmentSize();
 
+    final var recycledFile = filePool.poll();
+    if (recycledFile != null) {
+      try {
+        return mapRecycledSegment(recycledFile, segmentPath, maxSegmentSize);
+      } catch (final IOException e) {
+        LOGGER.warn(
+            "Failed to recycle segment file {} as {}, will allocate a new file instead",
+            recycledFile,
+            segmentPath,
+            e);
+        Files.deleteIfExists(recycledFile);
+      }
+    }
+
     checkDiskSpace(segmentPath, maxSegmentSize);
 
     try (final var channel =
@@ -217,6 +254,42 @@ final class SegmentLoader {
     }
   }
 
+  /**
+   * Reuses an unused segment file as the given new segment. The file is completely zeroed before
+   * being renamed, as it otherwise still contains the old segment's descriptor and records, which
+   * would be mistaken for valid data on recovery. Zeroing an already allocated file is much cheaper
+   * than allocating a new one, as the file system does not need to allocate any new blocks.
+   */
+  private MappedByteBuffer mapRecycledSegment(
+      final Path recycledFile, final Path segmentPath, final int maxSegmentSize)
+      throws IOException {
+    try (final var channel =
+            FileChannel.open(recycledFile, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        final var ignored = metrics.observeSegmentAllocation()) {
+      if (channel.size() > maxSegmentSize) {
+        channel.truncate(maxSegmentSize);
+      }
+
+      IoUtil.fill(channel, 0, maxSegmentSize, (byte) 0);
+      channel.force(true);
+    }
+
+    try {
+      FileUtil.moveDurably(recycledFile, segmentPath);
+    } catch (final FileAlreadyExistsException e) {
+      LOGGER.warn(
+          "Failed to recycle segment file as {}: an unused file already existed, and will be replaced",
+          segmentPath,
+          e);
+      FileUtil.moveDurably(recycledFile, segmentPath, StandardCopyOption.REPLACE_EXISTING);
+    }
+
+    try (final var channel =
+        FileChannel.open(segmentPath, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+      return mapSegment(channel, maxSegmentSize);
+    }
+  }
+
   private void checkDiskSpace(final Path segmentPath, final int maxSegmentSize) {
     final var available = segmentPath.getParent().toFile().getUsableSpace();
     final var required = Math.max(maxSegmentSize, minFreeDiskSpace);
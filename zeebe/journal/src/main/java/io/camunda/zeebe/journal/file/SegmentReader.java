@@ -19,12 +19,20 @@ package io.camunda.zeebe.journal.file;
 import com.google.common.base.Preconditions;
 import io.camunda.zeebe.journal.JournalRecord;
 import io.camunda.zeebe.journal.record.JournalRecordReaderUtil;
+import io.camunda.zeebe.journal.record.JournalRecordView;
 import io.camunda.zeebe.journal.record.SBESerializer;
 import java.nio.ByteBuffer;
 import java.util.Iterator;
 import java.util.NoSuchElementException;
 
-/** Log segment reader. */
+/**
+ * Log segment reader.
+ *
+ * <p>When created with {@code zeroCopy}, the reader returns the same {@link JournalRecordView} on
+ * every call to {@link #next()}, re-wrapped over the next record in the mapped segment. The
+ * returned record is then only valid until the next call to {@link #next()}, and must be copied via
+ * {@link JournalRecordView#copy()} if it is needed for longer.
+ */
 final class SegmentReader implements Iterator<JournalRecord> {
 
   private final ByteBuffer buffer;
@@ -33,10 +41,17 @@ final class SegmentReader implements Iterator<JournalRecord> {
   private long currentIndex;
   private final JournalRecordReaderUtil recordReader;
   private final int descriptorLength;
-
-  SegmentReader(final ByteBuffer buffer, final Segment segment, final JournalIndex index) {
+  private final boolean zeroCopy;
+  private final JournalRecordView recordView = new JournalRecordView();
+
+  SegmentReader(
+      final ByteBuffer buffer,
+      final Segment segment,
+      final JournalIndex index,
+      final boolean zeroCopy) {
     this.index = index;
     this.segment = segment;
+    this.zeroCopy = zeroCopy;
     descriptorLength = segment.descriptor().encodingLength();
     recordReader = new JournalRecordReaderUtil(new SBESerializer());
     this.buffer = buffer;
@@ -64,7 +79,10 @@ final class SegmentReader implements Iterator<JournalRecord> {
     // Read version so that buffer's position is advanced.
     FrameUtil.readVersion(buffer);
 
-    final var currentEntry = recordReader.read(buffer, getNextIndex());
+    final var currentEntry =
+        zeroCopy
+            ? recordReader.read(buffer, getNextIndex(), recordView)
+            : recordReader.read(buffer, getNextIndex());
     // currentEntry should not be null as hasNext returns true
     currentIndex = currentEntry.index();
     return currentEntry;
@@ -48,16 +48,21 @@ public final class SegmentedJournal implements Journal {
   private final SegmentedJournalWriter writer;
   private final StampedLock rwlock = new StampedLock();
   private final SegmentsManager segments;
+  private final SegmentsFlusher segmentsFlusher;
+  private final boolean zeroCopyReads;
 
   SegmentedJournal(
       final JournalIndex journalIndex,
       final SegmentsManager segments,
       final JournalMetrics journalMetrics,
-      final SegmentsFlusher segmentsFlusher) {
+      final SegmentsFlusher segmentsFlusher,
+      final boolean zeroCopyReads) {
     this.journalMetrics = Objects.requireNonNull(journalMetrics, "must specify journal metrics");
     this.journalIndex = Objects.requireNonNull(journalIndex, "must specify a journal index");
     this.segments = Objects.requireNonNull(segments, "must specify a journal segments manager");
-    Objects.requireNonNull(segmentsFlusher, "must specify a segments flusher");
+    this.segmentsFlusher =
+        Objects.requireNonNull(segmentsFlusher, "must specify a segments flusher");
+    this.zeroCopyReads = zeroCopyReads;
 
     this.segments.open();
     writer = new SegmentedJournalWriter(segments, segmentsFlusher, journalMetrics);
@@ -177,11 +182,29 @@ public final class SegmentedJournal implements Journal {
     }
   }
 
+  /**
+   * {@inheritDoc}
+   *
+   * <p>If group commit is not configured (see {@link
+   * SegmentedJournalBuilder#withMaxFlushDelay(java.time.Duration)} and {@link
+   * SegmentedJournalBuilder#withMaxFlushBytes(long)}), this is equivalent to {@link #flush()}.
+   */
+  @Override
+  public long tryFlush() throws FlushException {
+    if (segmentsFlusher.isFlushDue()) {
+      flush();
+    }
+
+    return segmentsFlusher.isGroupCommitEnabled()
+        ? segmentsFlusher.lastFlushedIndex()
+        : getLastIndex();
+  }
+
   @Override
   public JournalReader openReader() {
     final var stamped = acquireReadlock();
     try {
-      final var reader = new SegmentedJournalReader(this, journalMetrics);
+      final var reader = new SegmentedJournalReader(this, journalMetrics, zeroCopyReads);
       readers.add(reader);
       return reader;
     } finally {
@@ -21,6 +21,7 @@ import static com.google.common.base.Preconditions.checkNotNull;
 
 import io.camunda.zeebe.journal.JournalMetaStore;
 import java.io.File;
+import java.time.Duration;
 
 /** Raft log builder. */
 @SuppressWarnings("UnusedReturnValue")
@@ -32,6 +33,12 @@ public class SegmentedJournalBuilder {
   private static final long DEFAULT_MIN_FREE_DISK_SPACE = 1024L * 1024 * 1024;
   private static final int DEFAULT_JOURNAL_INDEX_DENSITY = 100;
   private static final boolean DEFAULT_PREALLOCATE_SEGMENT_FILES = true;
+  private static final boolean DEFAULT_ZERO_COPY_READS = false;
+  private static final boolean DEFAULT_PRIMITIVE_JOURNAL_INDEX = false;
+  private static final Duration DEFAULT_MAX_FLUSH_DELAY = Duration.ZERO;
+  private static final long DEFAULT_MAX_FLUSH_BYTES = 0;
+  private static final int DEFAULT_PREPARED_SEGMENTS = 1;
+  private static final boolean DEFAULT_RECYCLE_SEGMENT_FILES = false;
 
   // impossible value to make it clear it's unset
   private static final int DEFAULT_PARTITION_ID = -1;
@@ -43,6 +50,12 @@ public class SegmentedJournalBuilder {
   private long freeDiskSpace = DEFAULT_MIN_FREE_DISK_SPACE;
   private int journalIndexDensity = DEFAULT_JOURNAL_INDEX_DENSITY;
   private boolean preallocateSegmentFiles = DEFAULT_PREALLOCATE_SEGMENT_FILES;
+  private boolean zeroCopyReads = DEFAULT_ZERO_COPY_READS;
+  private boolean primitiveJournalIndex = DEFAULT_PRIMITIVE_JOURNAL_INDEX;
+  private Duration maxFlushDelay = DEFAULT_MAX_FLUSH_DELAY;
+  private long maxFlushBytes = DEFAULT_MAX_FLUSH_BYTES;
+  private int preparedSegments = DEFAULT_PREPARED_SEGMENTS;
+  private boolean recycleSegmentFiles = DEFAULT_RECYCLE_SEGMENT_FILES;
   private int partitionId = DEFAULT_PARTITION_ID;
 
   private JournalMetaStore journalMetaStore;
@@ -127,6 +140,60 @@ public class SegmentedJournalBuilder {
     return this;
   }
 
+  /**
+   * Sets whether the journal index stores its entries in sorted primitive arrays instead of skip
+   * lists. The array based index has a much smaller heap footprint, and faster lookups, which
+   * matters for journals with many segments. Both only index every {@code journalIndexDensity}-th
+   * record (see {@link #withJournalIndexDensity(int)}).
+   *
+   * <p>By default, this is false.
+   *
+   * @param primitiveJournalIndex true to use the array based index, false otherwise
+   * @return this builder for chaining
+   */
+  public SegmentedJournalBuilder withPrimitiveJournalIndex(final boolean primitiveJournalIndex) {
+    this.primitiveJournalIndex = primitiveJournalIndex;
+    return this;
+  }
+
+  /**
+   * Sets the maximum time an appended record may wait to be flushed when flushing via {@link
+   * SegmentedJournal#tryFlush()}. Flush requests made before this delay has elapsed since the
+   * oldest unflushed append are coalesced, unless the max flush bytes are reached (see {@link
+   * #withMaxFlushBytes(long)}). This trades commit latency for flush throughput.
+   *
+   * <p>By default, this is zero. If both this and the max flush bytes are zero, group commit is
+   * disabled and every flush request results in a flush.
+   *
+   * @param maxFlushDelay the maximum delay for an appended record to be flushed
+   * @return this builder for chaining
+   * @throws IllegalArgumentException if the {@code maxFlushDelay} is negative
+   */
+  public SegmentedJournalBuilder withMaxFlushDelay(final Duration maxFlushDelay) {
+    checkNotNull(maxFlushDelay, "maxFlushDelay cannot be null");
+    checkArgument(!maxFlushDelay.isNegative(), "maxFlushDelay must not be negative");
+    this.maxFlushDelay = maxFlushDelay;
+    return this;
+  }
+
+  /**
+   * Sets the amount of appended bytes after which a flush request made via {@link
+   * SegmentedJournal#tryFlush()} results in a flush, regardless of the max flush delay (see {@link
+   * #withMaxFlushDelay(Duration)}).
+   *
+   * <p>By default, this is zero. If both this and the max flush delay are zero, group commit is
+   * disabled and every flush request results in a flush.
+   *
+   * @param maxFlushBytes the amount of appended bytes which triggers a flush
+   * @return this builder for chaining
+   * @throws IllegalArgumentException if the {@code maxFlushBytes} is negative
+   */
+  public SegmentedJournalBuilder withMaxFlushBytes(final long maxFlushBytes) {
+    checkArgument(maxFlushBytes >= 0, "maxFlushBytes must not be negative");
+    this.maxFlushBytes = maxFlushBytes;
+    return this;
+  }
+
   /**
    * Sets whether segment files are pre-allocated at creation. If true, segment files are
    * pre-allocated to the maximum segment size (see {@link #withMaxSegmentSize(int)}}) at creation
@@ -141,6 +208,57 @@ public class SegmentedJournalBuilder {
     return this;
   }
 
+  /**
+   * Sets how many segments are prepared (i.e. created and allocated) in the background ahead of
+   * time, such that rolling over to a new segment does not have to wait for a new file. A higher
+   * count helps absorb bursts of writes which fill several segments in quick succession, at the
+   * cost of the disk space used by the prepared segments.
+   *
+   * <p>By default, this is 1.
+   *
+   * @param preparedSegments the number of segments to prepare ahead of time
+   * @return this builder for chaining
+   * @throws IllegalArgumentException if {@code preparedSegments} is not positive
+   */
+  public SegmentedJournalBuilder withPreparedSegments(final int preparedSegments) {
+    checkArgument(preparedSegments > 0, "preparedSegments must be positive");
+    this.preparedSegments = preparedSegments;
+    return this;
+  }
+
+  /**
+   * Sets whether the files of deleted segments (e.g. after compaction) are recycled as new segments
+   * instead of being deleted. Recycled files are zeroed before being reused, which is cheaper than
+   * allocating a new file. At most as many files as there are prepared segments (see {@link
+   * #withPreparedSegments(int)}) are kept for recycling; any others are deleted.
+   *
+   * <p>By default, this is false.
+   *
+   * @param recycleSegmentFiles true to recycle segment files, false to delete them
+   * @return this builder for chaining
+   */
+  public SegmentedJournalBuilder withRecycleSegmentFiles(final boolean recycleSegmentFiles) {
+    this.recycleSegmentFiles = recycleSegmentFiles;
+    return this;
+  }
+
+  /**
+   * Sets whether readers opened on the journal return records as reusable views over the mapped
+   * segment files. If true, {@link io.camunda.zeebe.journal.JournalReader#next()} returns the same
+   * record instance on every call, which is only valid until the next call to {@code next()} or any
+   * seek. Consumers holding on to a record for longer must copy it via {@link
+   * io.camunda.zeebe.journal.record.JournalRecordView#copy()}.
+   *
+   * <p>By default, this is false, and every call to {@code next()} returns a new record instance.
+   *
+   * @param zeroCopyReads true to read records without allocating, false otherwise
+   * @return this builder for chaining
+   */
+  public SegmentedJournalBuilder withZeroCopyReads(final boolean zeroCopyReads) {
+    this.zeroCopyReads = zeroCopyReads;
+    return this;
+  }
+
   /**
    * The ID of the partition on which this journal resides. This is used primarily for
    * observability, e.g. in {@link JournalMetrics}.
@@ -163,11 +281,17 @@ public class SegmentedJournalBuilder {
   }
 
   public SegmentedJournal build() {
-    final var journalIndex = new SparseJournalIndex(journalIndexDensity);
+    final JournalIndex journalIndex =
+        primitiveJournalIndex
+            ? new PrimitiveJournalIndex(journalIndexDensity)
+            : new SparseJournalIndex(journalIndexDensity);
     final var journalMetrics = new JournalMetrics(String.valueOf(partitionId));
     final var segmentAllocator =
         preallocateSegmentFiles ? SegmentAllocator.fill() : SegmentAllocator.noop();
-    final var segmentLoader = new SegmentLoader(freeDiskSpace, journalMetrics, segmentAllocator);
+    final var segmentFilePool =
+        recycleSegmentFiles ? new SegmentFilePool(preparedSegments) : SegmentFilePool.disabled();
+    final var segmentLoader =
+        new SegmentLoader(freeDiskSpace, journalMetrics, segmentAllocator, segmentFilePool);
     final var segmentsManager =
         new SegmentsManager(
             journalIndex,
@@ -176,9 +300,13 @@ public class SegmentedJournalBuilder {
             name,
             segmentLoader,
             journalMetrics,
-            journalMetaStore);
-    final var segmentsFlusher = new SegmentsFlusher(journalMetaStore);
+            journalMetaStore,
+            preparedSegments);
+    final var segmentsFlusher =
+        new SegmentsFlusher(
+            journalMetaStore, journalMetrics, maxFlushDelay, maxFlushBytes, System::nanoTime);
 
-    return new SegmentedJournal(journalIndex, segmentsManager, journalMetrics, segmentsFlusher);
+    return new SegmentedJournal(
+        journalIndex, segmentsManager, journalMetrics, segmentsFlusher, zeroCopyReads);
   }
 }
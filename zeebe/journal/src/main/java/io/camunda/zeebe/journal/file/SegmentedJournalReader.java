@@ -23,22 +23,26 @@ import io.camunda.zeebe.journal.JournalRecord;
 import java.util.NoSuchElementException;
 
 class SegmentedJournalReader implements JournalReader {
+  private static final long NO_RECORD_FOUND = Long.MIN_VALUE;
 
   private final SegmentedJournal journal;
   private Segment currentSegment;
   private SegmentReader currentReader;
   private final JournalMetrics metrics;
+  private final boolean zeroCopy;
 
-  SegmentedJournalReader(final SegmentedJournal journal, final JournalMetrics journalMetrics) {
+  SegmentedJournalReader(
+      final SegmentedJournal journal, final JournalMetrics journalMetrics, final boolean zeroCopy) {
     this.journal = journal;
     metrics = journalMetrics;
+    this.zeroCopy = zeroCopy;
     initialize();
   }
 
   /** Initializes the reader to the given index. */
   private void initialize() {
     currentSegment = journal.getFirstSegment();
-    currentReader = currentSegment.createReader();
+    currentReader = currentSegment.createReader(zeroCopy);
   }
 
   long getNextIndex() {
@@ -133,14 +137,15 @@ class SegmentedJournalReader implements JournalReader {
 
         // potential beneficiary of a peek() call, which would avoid the duplicate seek or
         // being at the second position if the first entry has a greater ASQN
-        JournalRecord record = null;
+        // only the index of the found record is kept, as records may be reused by next()
+        long recordIndex = NO_RECORD_FOUND;
         while (unsafeHasNext()) {
           final var currentRecord = next();
           if (currentRecord.index() > indexUpperBound) {
             break;
           }
           if (currentRecord.asqn() <= asqn && currentRecord.asqn() != ASQN_IGNORE) {
-            record = currentRecord;
+            recordIndex = currentRecord.index();
           } else if (currentRecord.asqn() >= asqn) {
             break;
           }
@@ -149,13 +154,13 @@ class SegmentedJournalReader implements JournalReader {
         // if the journal was empty, the reader will be at the beginning of the log
         // if the journal only contained entries with ASQN greater than the one requested, then seek
         // back to the beginning
-        if (record == null) {
+        if (recordIndex == NO_RECORD_FOUND) {
           return unsafeSeekToFirst();
         }
 
         // This is needed so that the next() returns the correct record
         // TODO: Remove the duplicate seek. https://github.com/zeebe-io/zeebe/issues/6223
-        return unsafeSeek(record.index());
+        return unsafeSeek(recordIndex);
       } finally {
         journal.releaseReadlock(stamp);
       }
@@ -248,6 +253,6 @@ class SegmentedJournalReader implements JournalReader {
 
     currentReader.close();
     currentSegment = nextSegment;
-    currentReader = currentSegment.createReader();
+    currentReader = currentSegment.createReader(zeroCopy);
   }
 }
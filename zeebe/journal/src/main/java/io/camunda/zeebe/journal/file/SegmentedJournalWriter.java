@@ -78,7 +78,7 @@ final class SegmentedJournalWriter {
       final Function<SegmentWriter, Either<SegmentFull, JournalRecord>> inSegmentAppender) {
     final var appendResult = inSegmentAppender.apply(currentWriter);
     if (appendResult.isRight()) {
-      return appendResult.get();
+      return onAppended(appendResult.get());
     }
 
     if (currentSegment.index() == currentWriter.getNextIndex()) {
@@ -90,11 +90,17 @@ final class SegmentedJournalWriter {
     if (appendResultOnNewSegment.isLeft()) {
       throw appendResultOnNewSegment.getLeft();
     }
-    return appendResultOnNewSegment.get();
+    return onAppended(appendResultOnNewSegment.get());
+  }
+
+  private JournalRecord onAppended(final JournalRecord record) {
+    flusher.onAppend(record.serializedRecord().capacity());
+    return record;
   }
 
   void reset(final long index) {
     flusher.setLastFlushedIndex(index - 1);
+    flusher.clearPendingAppends();
     currentSegment = segments.resetSegments(index);
     currentWriter = currentSegment.writer();
   }
@@ -103,6 +109,7 @@ final class SegmentedJournalWriter {
     // reset the last flushed index first to avoid corruption on restart in case of partial
     // truncation (e.g. the node crashed while deleting segments)
     flusher.setLastFlushedIndex(index);
+    flusher.clearPendingAppends();
 
     // Delete all segments with first indexes greater than the given index.
     while (index < currentSegment.index() && currentSegment != segments.getFirstSegment()) {
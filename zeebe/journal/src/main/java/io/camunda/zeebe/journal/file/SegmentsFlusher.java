@@ -9,21 +9,55 @@ package io.camunda.zeebe.journal.file;
 
 import io.camunda.zeebe.journal.CheckedJournalException.FlushException;
 import io.camunda.zeebe.journal.JournalMetaStore;
+import java.time.Duration;
 import java.util.Collection;
 import java.util.Objects;
+import java.util.function.LongSupplier;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+/**
+ * Flushes dirty segments, and keeps track of the last flushed index.
+ *
+ * <p>Optionally, the flusher can be configured for group commit via a maximum flush delay and/or a
+ * maximum amount of pending bytes. In this mode, {@link #isFlushDue()} only returns true once the
+ * oldest unflushed append is older than the maximum delay, or once the appended bytes since the
+ * last flush exceed the budget. Callers can then coalesce many appends into a single flush, i.e.
+ * into a single {@code force()} per dirty segment. Without group commit, a flush is always due.
+ */
 final class SegmentsFlusher {
   private static final Logger LOGGER = LoggerFactory.getLogger(SegmentsFlusher.class);
+  private static final long NO_PENDING_APPEND = -1;
 
   private final JournalMetaStore metaStore;
+  private final JournalMetrics metrics;
+  private final long maxFlushDelayNanos;
+  private final long maxFlushBytes;
+  private final LongSupplier nanoClock;
+
+  // may be read concurrently when flushing asynchronously, e.g. via Journal#tryFlush
+  private volatile long lastFlushedIndex;
 
-  // no need to make this volatile if callers always acquire the write-lock beforehand
-  private long lastFlushedIndex;
+  // group commit accounting; guarded by this
+  private long pendingRecords;
+  private long pendingBytes;
+  private long firstPendingAppendNanos = NO_PENDING_APPEND;
 
   SegmentsFlusher(final JournalMetaStore metaStore) {
+    this(metaStore, new JournalMetrics("-1"), Duration.ZERO, 0, System::nanoTime);
+  }
+
+  SegmentsFlusher(
+      final JournalMetaStore metaStore,
+      final JournalMetrics metrics,
+      final Duration maxFlushDelay,
+      final long maxFlushBytes,
+      final LongSupplier nanoClock) {
     this.metaStore = Objects.requireNonNull(metaStore, "must specify a meta store");
+    this.metrics = Objects.requireNonNull(metrics, "must specify journal metrics");
+    this.nanoClock = Objects.requireNonNull(nanoClock, "must specify a clock");
+    maxFlushDelayNanos = Objects.requireNonNull(maxFlushDelay, "must specify a delay").toNanos();
+    this.maxFlushBytes = maxFlushBytes;
     lastFlushedIndex = metaStore.loadLastFlushedIndex();
   }
 
@@ -36,6 +70,58 @@ final class SegmentsFlusher {
     return lastFlushedIndex + 1;
   }
 
+  long lastFlushedIndex() {
+    return lastFlushedIndex;
+  }
+
+  boolean isGroupCommitEnabled() {
+    return maxFlushDelayNanos > 0 || maxFlushBytes > 0;
+  }
+
+  /**
+   * Accounts for an appended record of the given length, which will be flushed with the next group.
+   *
+   * @param length the length of the appended record in bytes
+   */
+  synchronized void onAppend(final int length) {
+    if (firstPendingAppendNanos == NO_PENDING_APPEND) {
+      firstPendingAppendNanos = nanoClock.getAsLong();
+    }
+
+    pendingRecords++;
+    pendingBytes += length;
+  }
+
+  /**
+   * Forgets about all pending appends, e.g. because they were removed when the journal was reset
+   * or truncated, or because there is nothing left to flush.
+   */
+  synchronized void clearPendingAppends() {
+    pendingRecords = 0;
+    pendingBytes = 0;
+    firstPendingAppendNanos = NO_PENDING_APPEND;
+  }
+
+  /**
+   * Returns true if the pending appends should be flushed now. This is always the case if group
+   * commit is disabled. Otherwise, this is only the case if there are pending appends, and either
+   * the oldest of them was appended more than the max flush delay ago, or more than the max flush
+   * bytes were appended since the last flush.
+   */
+  synchronized boolean isFlushDue() {
+    if (!isGroupCommitEnabled()) {
+      return true;
+    }
+
+    if (pendingRecords == 0) {
+      return false;
+    }
+
+    return (maxFlushBytes > 0 && pendingBytes >= maxFlushBytes)
+        || (maxFlushDelayNanos > 0
+            && nanoClock.getAsLong() - firstPendingAppendNanos >= maxFlushDelayNanos);
+  }
+
   /**
    * Fetches all segments with a last index greater than or equal to current {@link
    * #lastFlushedIndex}. These are then flushed in order. The {@link Segment#lastIndex()} of the
@@ -50,9 +136,20 @@ final class SegmentsFlusher {
     if (segmentsCount == 0) {
       LOGGER.debug(
           "No segments to flush for index {}; there may be nothing to flush", flushedIndex);
+      clearPendingAppends();
       return;
     }
 
+    // only the appends which happened before the flush started are guaranteed to be flushed
+    final long flushedRecords;
+    final long flushedBytes;
+    final long firstAppendNanos;
+    synchronized (this) {
+      flushedRecords = pendingRecords;
+      flushedBytes = pendingBytes;
+      firstAppendNanos = firstPendingAppendNanos;
+    }
+
     try {
       for (final var segment : dirtySegments) {
         final long lastSegmentIndex = segment.lastIndex();
@@ -71,5 +168,22 @@ final class SegmentsFlusher {
             flushedIndex);
       }
     }
+
+    onFlushed(flushedRecords, flushedBytes, firstAppendNanos);
+  }
+
+  private void onFlushed(
+      final long flushedRecords, final long flushedBytes, final long firstAppendNanos) {
+    final long now = nanoClock.getAsLong();
+    synchronized (this) {
+      pendingRecords -= flushedRecords;
+      pendingBytes -= flushedBytes;
+      // we don't know when the remaining appends happened exactly, but it was during the flush
+      firstPendingAppendNanos = pendingRecords > 0 ? now : NO_PENDING_APPEND;
+    }
+
+    if (flushedRecords > 0) {
+      metrics.observeFlushBatch(flushedRecords, flushedBytes, now - firstAppendNanos);
+    }
   }
 }
@@ -7,6 +7,7 @@
  */
 package io.camunda.zeebe.journal.file;
 
+import static com.google.common.base.Preconditions.checkArgument;
 import static com.google.common.base.Preconditions.checkNotNull;
 
 import io.camunda.zeebe.journal.CorruptedJournalException;
@@ -19,11 +20,13 @@ import java.nio.file.DirectoryStream;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.time.Duration;
+import java.util.ArrayDeque;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.Comparator;
+import java.util.Deque;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
@@ -32,6 +35,7 @@ import java.util.SortedMap;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionException;
 import java.util.concurrent.ConcurrentSkipListMap;
+import org.agrona.IoUtil;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -46,7 +50,10 @@ final class SegmentsManager implements AutoCloseable {
   private static final Logger THROTTLED_LOG = new ThrottledLogger(LOG, Duration.ofSeconds(5));
 
   private final NavigableMap<Long, Segment> segments = new ConcurrentSkipListMap<>();
-  private CompletableFuture<UninitializedSegment> nextSegment = null;
+  // segments prepared in the background, in order of their ids
+  private final Deque<CompletableFuture<UninitializedSegment>> preparedSegments =
+      new ArrayDeque<>();
+  private long lastPreparedSegmentId;
 
   private final JournalMetrics journalMetrics;
   private final JournalIndex journalIndex;
@@ -55,6 +62,7 @@ final class SegmentsManager implements AutoCloseable {
   private final SegmentLoader segmentLoader;
   private final String name;
   private final JournalMetaStore metaStore;
+  private final int preparedSegmentsCount;
 
   private volatile Segment currentSegment;
 
@@ -66,6 +74,20 @@ final class SegmentsManager implements AutoCloseable {
       final SegmentLoader segmentLoader,
       final JournalMetrics journalMetrics,
       final JournalMetaStore metaStore) {
+    this(
+        journalIndex, maxSegmentSize, directory, name, segmentLoader, journalMetrics, metaStore, 1);
+  }
+
+  SegmentsManager(
+      final JournalIndex journalIndex,
+      final int maxSegmentSize,
+      final File directory,
+      final String name,
+      final SegmentLoader segmentLoader,
+      final JournalMetrics journalMetrics,
+      final JournalMetaStore metaStore,
+      final int preparedSegmentsCount) {
+    checkArgument(preparedSegmentsCount > 0, "preparedSegmentsCount must be positive");
     this.name = checkNotNull(name, "name cannot be null");
     this.journalIndex = journalIndex;
     this.maxSegmentSize = maxSegmentSize;
@@ -73,6 +95,7 @@ final class SegmentsManager implements AutoCloseable {
     this.segmentLoader = segmentLoader;
     this.journalMetrics = journalMetrics;
     this.metaStore = metaStore;
+    this.preparedSegmentsCount = preparedSegmentsCount;
   }
 
   @Override
@@ -85,14 +108,14 @@ final class SegmentsManager implements AutoCloseable {
               segment.close();
             });
 
-    if (nextSegment != null) {
+    CompletableFuture<UninitializedSegment> preparedSegment;
+    while ((preparedSegment = preparedSegments.poll()) != null) {
       try {
-        nextSegment.join();
+        IoUtil.unmap(preparedSegment.join().buffer());
       } catch (final Exception e) {
         LOG.warn(
             "Next segment preparation failed during close, ignoring and proceeding to close", e);
       }
-      nextSegment = null;
     }
 
     currentSegment = null;
@@ -129,19 +152,19 @@ final class SegmentsManager implements AutoCloseable {
             .withIndex(nextSegmentIndex)
             .withMaxSegmentSize(maxSegmentSize)
             .build();
+    final var nextSegment = preparedSegments.poll();
     if (nextSegment != null) {
       try {
         currentSegment =
             nextSegment.join().initializeForUse(nextSegmentIndex, lastWrittenAsqn, journalMetrics);
       } catch (final CompletionException e) {
         LOG.error("Failed to acquire next segment, retrying synchronously now.", e);
-        nextSegment = null;
         currentSegment = createSegment(descriptor, lastWrittenAsqn);
       }
     } else {
       currentSegment = createSegment(descriptor, lastWrittenAsqn);
     }
-    prepareNextSegment();
+    prepareNextSegments();
 
     segments.put(descriptor.index(), currentSegment);
     journalMetrics.incSegmentCount();
@@ -310,20 +333,32 @@ final class SegmentsManager implements AutoCloseable {
     // observe the journal open duration
     openDurationTimer.close();
 
-    // Delete files that were previously marked for deletion but did not get deleted because the
-    // node was stopped. It is safe to delete it now since there are no readers opened for these
-    // segments.
+    // Delete (or recycle) files that were previously marked for deletion but did not get deleted
+    // because the node was stopped. It is safe to delete it now since there are no readers opened
+    // for these segments.
     deleteDeferredFiles();
   }
 
-  private void prepareNextSegment() {
-    final var descriptor =
-        SegmentDescriptor.builder()
-            .withId(currentSegment.id() + 1)
-            .withIndex(INITIAL_INDEX)
-            .withMaxSegmentSize(maxSegmentSize)
-            .build();
-    nextSegment = CompletableFuture.supplyAsync(() -> createUninitializedSegment(descriptor));
+  /**
+   * Prepares segments in the background until there are {@link #preparedSegmentsCount} segments
+   * ready to be used, such that rolling over to a new segment does not have to wait for a file to
+   * be created and allocated.
+   */
+  private void prepareNextSegments() {
+    if (preparedSegments.isEmpty()) {
+      lastPreparedSegmentId = currentSegment.id();
+    }
+
+    while (preparedSegments.size() < preparedSegmentsCount) {
+      final var descriptor =
+          SegmentDescriptor.builder()
+              .withId(++lastPreparedSegmentId)
+              .withIndex(INITIAL_INDEX)
+              .withMaxSegmentSize(maxSegmentSize)
+              .build();
+      preparedSegments.add(
+          CompletableFuture.supplyAsync(() -> createUninitializedSegment(descriptor)));
+    }
   }
 
   SortedMap<Long, Segment> getTailSegments(final long index) {
@@ -485,6 +520,11 @@ final class SegmentsManager implements AutoCloseable {
   }
 
   private void deleteDeferredFile(final Path segmentFileToDelete) {
+    if (segmentLoader.recycle(segmentFileToDelete)) {
+      LOG.trace("{} - Keeping segment file {} to be recycled", name, segmentFileToDelete);
+      return;
+    }
+
     try {
       Files.deleteIfExists(segmentFileToDelete);
     } catch (final IOException e) {
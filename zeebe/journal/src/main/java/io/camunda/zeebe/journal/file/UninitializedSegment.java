@@ -18,7 +18,8 @@ record UninitializedSegment(
     long segmentId,
     int maxSegmentSize,
     MappedByteBuffer buffer,
-    JournalIndex journalIndex) {
+    JournalIndex journalIndex,
+    SegmentFilePool filePool) {
 
   /**
    * Creates a proper, initialized segment by writing a {@link SegmentDescriptor } with the given
@@ -41,6 +42,7 @@ record UninitializedSegment(
         buffer,
         lastWrittenAsqn,
         journalIndex,
-        metrics);
+        metrics,
+        filePool);
   }
 }
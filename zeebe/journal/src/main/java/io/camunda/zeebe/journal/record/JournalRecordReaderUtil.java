@@ -19,6 +19,7 @@ public final class JournalRecordReaderUtil {
 
   private final JournalRecordSerializer serializer;
   private final ChecksumGenerator checksumGenerator = new ChecksumGenerator();
+  private final UnsafeBuffer readBuffer = new UnsafeBuffer();
 
   public JournalRecordReaderUtil(final JournalRecordSerializer serializer) {
     this.serializer = serializer;
@@ -29,6 +30,55 @@ public final class JournalRecordReaderUtil {
    * position of {@code buffer} will be advanced to the next record.
    */
   public JournalRecord read(final ByteBuffer buffer, final long expectedIndex) {
+    final int startPosition = buffer.position();
+    final UnsafeBuffer directBuffer = new UnsafeBuffer(buffer.slice());
+    final RecordMetadata metadata = readVerifiedMetadata(buffer, directBuffer, 0);
+    final int metadataLength = serializer.getMetadataLength(directBuffer, 0);
+
+    // Read record
+    final RecordData record = serializer.readData(directBuffer, metadataLength);
+    if (record != null) {
+      verifyIndex(buffer, expectedIndex, record.index());
+    }
+
+    final var recordLength = metadata.length();
+    buffer.position(startPosition + metadataLength + recordLength);
+    return new PersistedJournalRecord(
+        metadata, record, new UnsafeBuffer(buffer, startPosition + metadataLength, recordLength));
+  }
+
+  /**
+   * Reads the JournalRecord in the buffer at the current position into the given view, without
+   * copying or allocating anything. After the methods returns, the position of {@code buffer} will
+   * be advanced to the next record.
+   *
+   * <p>The view is only valid for as long as the underlying buffer is; see {@link
+   * JournalRecordView}.
+   */
+  public JournalRecord read(
+      final ByteBuffer buffer, final long expectedIndex, final JournalRecordView view) {
+    final int startPosition = buffer.position();
+    readBuffer.wrap(buffer);
+    final RecordMetadata metadata = readVerifiedMetadata(buffer, readBuffer, startPosition);
+    final int metadataLength = serializer.getMetadataLength(readBuffer, startPosition);
+
+    serializer.readData(readBuffer, startPosition + metadataLength, view);
+    verifyIndex(buffer, expectedIndex, view.index());
+
+    final var recordLength = metadata.length();
+    view.wrapSerializedRecord(
+        metadata.checksum(), readBuffer, startPosition + metadataLength, recordLength);
+    buffer.position(startPosition + metadataLength + recordLength);
+    return view;
+  }
+
+  /**
+   * Reads and verifies the metadata of the record at the current position of {@code buffer}, which
+   * is found at {@code offset} in {@code directBuffer}. Marks the buffer so it can be reset if the
+   * record turns out to be invalid.
+   */
+  private RecordMetadata readVerifiedMetadata(
+      final ByteBuffer buffer, final UnsafeBuffer directBuffer, final int offset) {
     // Mark the buffer so it can be reset if necessary.
     buffer.mark();
 
@@ -39,12 +89,9 @@ public final class JournalRecordReaderUtil {
     }
 
     final int startPosition = buffer.position();
+    final RecordMetadata metadata = serializer.readMetadata(directBuffer, offset);
 
-    final UnsafeBuffer directBuffer = new UnsafeBuffer(buffer.slice());
-
-    final RecordMetadata metadata = serializer.readMetadata(directBuffer, 0);
-
-    final int metadataLength = serializer.getMetadataLength(directBuffer, 0);
+    final int metadataLength = serializer.getMetadataLength(directBuffer, offset);
     final var recordLength = metadata.length();
     if (buffer.position() + metadataLength + recordLength > buffer.limit()) {
       // There is no valid record here. This should not happen, if we have magic headers before
@@ -66,18 +113,15 @@ public final class JournalRecordReaderUtil {
               .formatted(checksum, metadata.checksum()));
     }
 
-    // Read record
-    final RecordData record = serializer.readData(directBuffer, metadataLength);
+    return metadata;
+  }
 
-    if (record != null && expectedIndex != record.index()) {
+  private void verifyIndex(final ByteBuffer buffer, final long expectedIndex, final long index) {
+    if (expectedIndex != index) {
       buffer.reset();
       throw new InvalidIndex(
           String.format(
-              "Expected to read a record with next index %d, but found %d",
-              expectedIndex, record.index()));
+              "Expected to read a record with next index %d, but found %d", expectedIndex, index));
     }
-    buffer.position(startPosition + metadataLength + recordLength);
-    return new PersistedJournalRecord(
-        metadata, record, new UnsafeBuffer(buffer, startPosition + metadataLength, recordLength));
   }
 }
@@ -89,6 +89,17 @@ public interface JournalRecordSerializer {
    */
   RecordData readData(DirectBuffer buffer, int offset);
 
+  /**
+   * Reads the {@link RecordData} from the buffer at the given offset into the given view. Unlike
+   * {@link #readData(DirectBuffer, int)}, this does not allocate anything, and the data of the view
+   * will point directly to the given buffer.
+   *
+   * @param buffer to read
+   * @param offset the offset in the buffer at which the data will be read from
+   * @param view the view to wrap the record data with
+   */
+  void readData(DirectBuffer buffer, int offset, JournalRecordView view);
+
   /**
    * Returns the length of the serialized {@link RecordMetadata} in the buffer.
    *
@@ -0,0 +1,93 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.journal.record;
+
+import io.camunda.zeebe.journal.JournalRecord;
+import io.camunda.zeebe.util.buffer.BufferUtil;
+import org.agrona.DirectBuffer;
+import org.agrona.concurrent.UnsafeBuffer;
+
+/**
+ * A reusable, mutable {@link JournalRecord} which is a view over a record stored in a (typically
+ * memory mapped) buffer. Neither the metadata nor the data is copied when reading a record into the
+ * view; {@link #data()} and {@link #serializedRecord()} are slices of the underlying buffer.
+ *
+ * <p>The view is re-wrapped every time the next record is read, so its content is only valid until
+ * then. Consumers which need to hold on to a record for longer must call {@link #copy()}.
+ */
+public final class JournalRecordView implements JournalRecord {
+
+  private final UnsafeBuffer data = new UnsafeBuffer();
+  private final UnsafeBuffer serializedRecord = new UnsafeBuffer();
+  private long index;
+  private long asqn;
+  private long checksum;
+
+  @Override
+  public long index() {
+    return index;
+  }
+
+  @Override
+  public long asqn() {
+    return asqn;
+  }
+
+  @Override
+  public long checksum() {
+    return checksum;
+  }
+
+  @Override
+  public DirectBuffer data() {
+    return data;
+  }
+
+  @Override
+  public DirectBuffer serializedRecord() {
+    return serializedRecord;
+  }
+
+  /**
+   * Returns a copy of this record which owns its buffers, and is thus independent of the buffer
+   * this view is currently wrapping.
+   *
+   * @return a copy of the current record
+   */
+  public JournalRecord copy() {
+    return new PersistedJournalRecord(
+        new RecordMetadata(checksum, serializedRecord.capacity()),
+        new RecordData(index, asqn, BufferUtil.cloneBuffer(data)),
+        BufferUtil.cloneBuffer(serializedRecord));
+  }
+
+  void wrapRecordData(final long index, final long asqn) {
+    this.index = index;
+    this.asqn = asqn;
+  }
+
+  void wrapSerializedRecord(
+      final long checksum, final DirectBuffer buffer, final int offset, final int length) {
+    this.checksum = checksum;
+    serializedRecord.wrap(buffer, offset, length);
+  }
+
+  @Override
+  public String toString() {
+    return "JournalRecordView{"
+        + "index="
+        + index
+        + ", asqn="
+        + asqn
+        + ", checksum="
+        + checksum
+        + ", length="
+        + serializedRecord.capacity()
+        + '}';
+  }
+}
@@ -115,28 +115,40 @@ public final class SBESerializer implements JournalRecordSerializer {
 
   @Override
   public RecordData readData(final DirectBuffer buffer, final int offset) {
-    headerDecoder.wrap(buffer, offset);
-    if (headerDecoder.schemaId() != recordDecoder.sbeSchemaId()
-        || headerDecoder.templateId() != recordDecoder.sbeTemplateId()) {
-      throw new CorruptedJournalException("Cannot read record. Header does not match.");
-    }
-    recordDecoder.wrap(
-        buffer,
-        offset + headerDecoder.encodedLength(),
-        headerDecoder.blockLength(),
-        headerDecoder.version());
+    wrapRecordDecoder(buffer, offset);
 
     final DirectBuffer data = new UnsafeBuffer();
     recordDecoder.wrapData(data);
     return new RecordData(recordDecoder.index(), recordDecoder.asqn(), data);
   }
 
+  @Override
+  public void readData(final DirectBuffer buffer, final int offset, final JournalRecordView view) {
+    wrapRecordDecoder(buffer, offset);
+
+    view.wrapRecordData(recordDecoder.index(), recordDecoder.asqn());
+    recordDecoder.wrapData(view.data());
+  }
+
   @Override
   public int getMetadataLength(final DirectBuffer buffer, final int offset) {
     headerDecoder.wrap(buffer, offset);
     return headerDecoder.encodedLength() + headerDecoder.blockLength();
   }
 
+  private void wrapRecordDecoder(final DirectBuffer buffer, final int offset) {
+    headerDecoder.wrap(buffer, offset);
+    if (headerDecoder.schemaId() != recordDecoder.sbeSchemaId()
+        || headerDecoder.templateId() != recordDecoder.sbeTemplateId()) {
+      throw new CorruptedJournalException("Cannot read record. Header does not match.");
+    }
+    recordDecoder.wrap(
+        buffer,
+        offset + headerDecoder.encodedLength(),
+        headerDecoder.blockLength(),
+        headerDecoder.version());
+  }
+
   private boolean hasMetadata(final DirectBuffer buffer, final int offset) {
     headerDecoder.wrap(buffer, offset);
     return (headerDecoder.schemaId() == metadataDecoder.sbeSchemaId()
@@ -0,0 +1,102 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.journal.file;
+
+import static io.camunda.zeebe.journal.file.SparseJournalIndexTest.asJournalRecord;
+
+import io.camunda.zeebe.test.util.jmh.JMHTestCase;
+import io.camunda.zeebe.test.util.junit.JMHTest;
+import java.lang.management.ManagementFactory;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Compares the {@link SparseJournalIndex} and the {@link PrimitiveJournalIndex} for a journal with
+ * 10M records, using the default index density. The score is the average latency of a lookup by
+ * index and by ASQN; the heap footprint of the populated index is logged during setup.
+ *
+ * <p>The {@link JMHTest} compares the lookup latency of both; the heap footprint is only logged.
+ */
+@Warmup(iterations = 10, time = 1)
+@Measurement(iterations = 20, time = 1)
+@Fork(
+    value = 1,
+    jvmArgs = {"-Xmx2g", "-Xms2g"})
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(org.openjdk.jmh.annotations.Scope.Benchmark)
+public class JournalIndexPerformanceTest {
+  private static final Logger LOG = LoggerFactory.getLogger(JournalIndexPerformanceTest.class);
+  private static final long RECORD_COUNT = 10_000_000L;
+  private static final int DENSITY = 100;
+
+  @Param({"sparse", "primitive"})
+  private String indexType;
+
+  private JournalIndex index;
+
+  @Setup
+  public void setup() {
+    final long heapBefore = usedHeap();
+    index =
+        "sparse".equals(indexType)
+            ? new SparseJournalIndex(DENSITY)
+            : new PrimitiveJournalIndex(DENSITY);
+
+    for (long i = 1; i <= RECORD_COUNT; i++) {
+      index.index(asJournalRecord(i, i * 2), (int) (i % Integer.MAX_VALUE));
+    }
+
+    LOG.info(
+        "Indexed {} records with a {} index, using approximately {} KB of heap",
+        RECORD_COUNT,
+        indexType,
+        (usedHeap() - heapBefore) / 1024);
+  }
+
+  @Benchmark
+  public void measureLookup(final Blackhole blackhole) {
+    final long recordIndex = ThreadLocalRandom.current().nextLong(1, RECORD_COUNT + 1);
+    blackhole.consume(index.lookup(recordIndex));
+    blackhole.consume(index.lookupAsqn(recordIndex * 2));
+  }
+
+  @JMHTest("measureLookup")
+  void shouldLookupFasterThanSparseIndex(final JMHTestCase testCase) {
+    // given - the same lookups on the skip list based index
+    final var referenceResult =
+        JMHTestCase.of(getClass(), "measureLookup", options -> options.param("indexType", "sparse"))
+            .run();
+
+    // when
+    final var assertResult =
+        testCase.withOptions(options -> options.param("indexType", "primitive")).run();
+
+    // then - a binary search over primitive arrays avoids chasing the nodes of the skip list, so
+    // lookups must take at least 20% less time
+    assertResult.isAtMost(referenceResult, -0.2);
+  }
+
+  private static long usedHeap() {
+    System.gc();
+    return ManagementFactory.getMemoryMXBean().getHeapMemoryUsage().getUsed();
+  }
+}
@@ -0,0 +1,84 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.journal.file;
+
+import static io.camunda.zeebe.journal.file.SparseJournalIndexTest.asJournalRecord;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.Test;
+
+/** Runs all {@link SparseJournalIndexTest} tests, plus some specific to the array layout. */
+final class PrimitiveJournalIndexTest extends SparseJournalIndexTest {
+
+  @Override
+  JournalIndex createIndex(final int density) {
+    return new PrimitiveJournalIndex(density);
+  }
+
+  @Test
+  void shouldIndexOutOfOrder() {
+    // given
+    final var index = new PrimitiveJournalIndex(2);
+
+    // when - index later entries first, as readers may do after a restart
+    index.index(asJournalRecord(6, 60), 12);
+    index.index(asJournalRecord(8, 80), 16);
+    index.index(asJournalRecord(2, 20), 4);
+    index.index(asJournalRecord(4, 40), 8);
+
+    // then
+    assertThat(index.size()).isEqualTo(4);
+    assertThat(index.lookup(3)).isEqualTo(new IndexInfo(2, 4));
+    assertThat(index.lookup(5)).isEqualTo(new IndexInfo(4, 8));
+    assertThat(index.lookup(7)).isEqualTo(new IndexInfo(6, 12));
+    assertThat(index.lookup(9)).isEqualTo(new IndexInfo(8, 16));
+    assertThat(index.lookupAsqn(50)).isEqualTo(4);
+    assertThat(index.lookupAsqn(70, 5)).isEqualTo(4);
+  }
+
+  @Test
+  void shouldOverwriteExistingEntry() {
+    // given
+    final var index = new PrimitiveJournalIndex(2);
+    index.index(asJournalRecord(2, 20), 4);
+    index.index(asJournalRecord(4, 40), 8);
+
+    // when
+    index.index(asJournalRecord(2, 20), 6);
+
+    // then
+    assertThat(index.size()).isEqualTo(2);
+    assertThat(index.lookup(2)).isEqualTo(new IndexInfo(2, 6));
+  }
+
+  @Test
+  void shouldKeepIndexingAfterCompactingAndTruncating() {
+    // given - enough entries to have to grow and reclaim compacted space multiple times
+    final var index = new PrimitiveJournalIndex(1);
+    final int entries = 10_000;
+    for (int i = 1; i <= entries; i++) {
+      index.index(asJournalRecord(i, i * 10L), i * 2);
+      if (i % 1_000 == 0) {
+        index.deleteUntil(i - 100);
+      }
+    }
+
+    // when
+    index.deleteAfter(entries - 50);
+    index.index(asJournalRecord(entries - 49, (entries - 49) * 10L), 1);
+
+    // then
+    assertThat(index.size()).isEqualTo(52);
+    assertThat(index.lookup(entries - 150)).isNull();
+    assertThat(index.lookup(entries - 100))
+        .isEqualTo(new IndexInfo(entries - 100, 2 * (entries - 100)));
+    assertThat(index.lookup(entries)).isEqualTo(new IndexInfo(entries - 49, 1));
+    assertThat(index.lookupAsqn(Long.MAX_VALUE)).isEqualTo(entries - 49);
+    assertThat(index.lookupAsqn((entries - 100) * 10L - 1)).isNull();
+  }
+}
@@ -7,10 +7,13 @@
  */
 package io.camunda.zeebe.journal.file;
 
+import static org.assertj.core.api.Assertions.assertThat;
+
 import io.camunda.zeebe.journal.util.PosixPathAssert;
 import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.Arrays;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
 import org.junit.jupiter.api.parallel.Execution;
@@ -36,4 +39,29 @@ final class SegmentLoaderTest {
     // then
     PosixPathAssert.assertThat(segmentFile).hasRealSize(segmentSize);
   }
+
+  @Test
+  void shouldZeroRecycledSegmentFile(final @TempDir Path tmpDir) throws IOException {
+    // given
+    final var segmentSize = 1024 * 1024;
+    final var descriptor =
+        SegmentDescriptor.builder().withId(1).withIndex(1).withMaxSegmentSize(segmentSize).build();
+    final var filePool = new SegmentFilePool(1);
+    final var segmentLoader =
+        new SegmentLoader(
+            segmentSize * 2, new JournalMetrics("1"), SegmentAllocator.noop(), filePool);
+    final var unusedFile = tmpDir.resolve("segment-0.log_0-deleted");
+    final var unusedContent = new byte[2 * segmentSize];
+    Arrays.fill(unusedContent, (byte) 1);
+    Files.write(unusedFile, unusedContent);
+    filePool.offer(unusedFile);
+
+    // when
+    final var segmentFile = tmpDir.resolve("segment-1.log");
+    segmentLoader.createUninitializedSegment(segmentFile, descriptor, new SparseJournalIndex(1));
+
+    // then
+    assertThat(unusedFile).doesNotExist();
+    assertThat(Files.readAllBytes(segmentFile)).hasSize(segmentSize).containsOnly((byte) 0);
+  }
 }
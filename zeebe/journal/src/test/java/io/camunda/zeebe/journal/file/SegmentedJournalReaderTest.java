@@ -18,6 +18,7 @@ package io.camunda.zeebe.journal.file;
 import static org.assertj.core.api.Assertions.assertThat;
 
 import io.camunda.zeebe.journal.JournalReader;
+import io.camunda.zeebe.journal.record.JournalRecordView;
 import io.camunda.zeebe.journal.record.RecordData;
 import io.camunda.zeebe.journal.record.SBESerializer;
 import io.camunda.zeebe.journal.util.MockJournalMetastore;
@@ -48,17 +49,7 @@ class SegmentedJournalReaderTest {
 
   @BeforeEach
   void setup() {
-    final int entrySize = FrameUtil.getLength() + getSerializedSize(data);
-
-    journal =
-        SegmentedJournal.builder()
-            .withDirectory(directory.resolve("data").toFile())
-            .withMaxSegmentSize(
-                entrySize * ENTRIES_PER_SEGMENT
-                    + SegmentDescriptorSerializer.currentEncodingLength())
-            .withJournalIndexDensity(ENTRIES_PER_SEGMENT / 2)
-            .withMetaStore(new MockJournalMetastore())
-            .build();
+    journal = newJournalBuilder("data").build();
     reader = journal.openReader();
   }
 
@@ -171,6 +162,86 @@ class SegmentedJournalReaderTest {
         .isNotNull();
   }
 
+  @Test
+  void shouldReuseRecordOnZeroCopyRead() {
+    // given
+    try (final var zeroCopyJournal =
+            newJournalBuilder("zero-copy").withZeroCopyReads(true).build();
+        final var zeroCopyReader = zeroCopyJournal.openReader()) {
+      for (int i = 1; i <= ENTRIES_PER_SEGMENT * 2; i++) {
+        zeroCopyJournal.append(i, recordDataWriter);
+      }
+
+      // when
+      final var first = zeroCopyReader.next();
+      final var copy = ((JournalRecordView) first).copy();
+      final var second = zeroCopyReader.next();
+
+      // then
+      assertThat(second).isSameAs(first);
+      assertThat(second.index()).isEqualTo(2);
+      assertThat(copy.index()).isEqualTo(1);
+      assertThat(copy.asqn()).isEqualTo(1);
+      assertThat(copy.data()).isEqualTo(data);
+    }
+  }
+
+  @Test
+  void shouldReadSameRecordsWithAndWithoutZeroCopy() {
+    // given
+    try (final var zeroCopyJournal =
+            newJournalBuilder("zero-copy").withZeroCopyReads(true).build();
+        final var zeroCopyReader = zeroCopyJournal.openReader()) {
+      for (int i = 1; i <= ENTRIES_PER_SEGMENT * 3; i++) {
+        journal.append(i, recordDataWriter);
+        zeroCopyJournal.append(i, recordDataWriter);
+      }
+
+      // when - then
+      while (reader.hasNext()) {
+        assertThat(zeroCopyReader.hasNext()).isTrue();
+        final var expected = reader.next();
+        final var actual = zeroCopyReader.next();
+        assertThat(actual.index()).isEqualTo(expected.index());
+        assertThat(actual.asqn()).isEqualTo(expected.asqn());
+        assertThat(actual.checksum()).isEqualTo(expected.checksum());
+        assertThat(actual.data()).isEqualTo(expected.data());
+        assertThat(actual.serializedRecord()).isEqualTo(expected.serializedRecord());
+      }
+      assertThat(zeroCopyReader.hasNext()).isFalse();
+    }
+  }
+
+  @Test
+  void shouldSeekToAsqnOnZeroCopyRead() {
+    // given
+    try (final var zeroCopyJournal =
+            newJournalBuilder("zero-copy").withZeroCopyReads(true).build();
+        final var zeroCopyReader = zeroCopyJournal.openReader()) {
+      for (int i = 1; i <= ENTRIES_PER_SEGMENT * 2; i++) {
+        zeroCopyJournal.append(i * 2L, recordDataWriter);
+      }
+
+      // when
+      zeroCopyReader.seekToAsqn(7);
+
+      // then
+      assertThat(zeroCopyReader.hasNext()).isTrue();
+      assertThat(zeroCopyReader.next().asqn()).isEqualTo(6);
+    }
+  }
+
+  private SegmentedJournalBuilder newJournalBuilder(final String directoryName) {
+    final int entrySize = FrameUtil.getLength() + getSerializedSize(data);
+
+    return SegmentedJournal.builder()
+        .withDirectory(directory.resolve(directoryName).toFile())
+        .withMaxSegmentSize(
+            entrySize * ENTRIES_PER_SEGMENT + SegmentDescriptorSerializer.currentEncodingLength())
+        .withJournalIndexDensity(ENTRIES_PER_SEGMENT / 2)
+        .withMetaStore(new MockJournalMetastore());
+  }
+
   private int getSerializedSize(final DirectBuffer data) {
     final var record = new RecordData(Long.MAX_VALUE, Long.MAX_VALUE, data);
     final var serializer = new SBESerializer();
@@ -916,6 +916,44 @@ class SegmentedJournalTest {
         .hasMessage("Nope, no free space.");
   }
 
+  @Test
+  void shouldGroupFlushesUntilMaxFlushBytes() throws Exception {
+    // given
+    final var entry = new DirectBufferWriter().wrap(new UnsafeBuffer(new byte[128]));
+    final var groupJournal =
+        SegmentedJournal.builder()
+            .withDirectory(directory.resolve("group").toFile())
+            .withMetaStore(new MockJournalMetastore())
+            .withMaxFlushDelay(Duration.ofHours(1))
+            .withMaxFlushBytes(1024)
+            .build();
+    closeables.add(groupJournal);
+    groupJournal.append(1, entry);
+    final var flushedIndex = groupJournal.tryFlush();
+
+    // when - append enough to exceed the budget
+    for (int i = 2; i <= 8; i++) {
+      groupJournal.append(i, entry);
+    }
+
+    // then
+    assertThat(flushedIndex).isLessThan(1);
+    assertThat(groupJournal.tryFlush()).isEqualTo(groupJournal.getLastIndex());
+  }
+
+  @Test
+  void shouldAlwaysFlushOnTryFlushWithoutGroupCommit() throws Exception {
+    // given
+    journal = openJournal(10);
+    journal.append(1, journalFactory.entry());
+
+    // when
+    final var flushedIndex = journal.tryFlush();
+
+    // then
+    assertThat(flushedIndex).isEqualTo(1);
+  }
+
   private SegmentedJournal openJournal(final int entriesPerSegment) {
     return openJournal("test", entriesPerSegment);
   }
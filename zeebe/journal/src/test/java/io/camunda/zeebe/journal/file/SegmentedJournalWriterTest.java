@@ -134,7 +134,8 @@ final class SegmentedJournalWriterTest {
   @Test
   void shouldInvalidateNextEntryAfterAppend() {
     try (final SegmentedJournalReader reader =
-        new SegmentedJournalReader(journalFactory.journal(segments), new JournalMetrics("1"))) {
+        new SegmentedJournalReader(
+            journalFactory.journal(segments), new JournalMetrics("1"), false)) {
       // when
       writer.append(-1, journalFactory.entry());
 
@@ -161,7 +162,7 @@ final class SegmentedJournalWriterTest {
 
     try (final SegmentedJournalReader reader =
         new SegmentedJournalReader(
-            followerJournalFactory.journal(followerSegments), new JournalMetrics("1"))) {
+            followerJournalFactory.journal(followerSegments), new JournalMetrics("1"), false)) {
       // when
       final byte[] serializedRecord = BufferUtil.bufferAsArray(writtenRecord.serializedRecord());
       followerWriter.append(writtenRecord.checksum(), serializedRecord);
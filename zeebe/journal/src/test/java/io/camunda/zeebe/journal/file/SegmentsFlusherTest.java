@@ -14,12 +14,15 @@ import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import io.camunda.zeebe.journal.CheckedJournalException.FlushException;
 import io.camunda.zeebe.journal.util.MockJournalMetastore;
 import java.io.IOException;
+import java.time.Duration;
 import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
 import org.junit.jupiter.api.Test;
 
 final class SegmentsFlusherTest {
   private final MockJournalMetastore metaStore = new MockJournalMetastore();
   private final SegmentsFlusher flusher = new SegmentsFlusher(metaStore);
+  private final AtomicLong clock = new AtomicLong();
 
   @Test
   void shouldFlushAllSegments() throws FlushException {
@@ -61,6 +64,117 @@ final class SegmentsFlusherTest {
     assertThat(metaStore.loadLastFlushedIndex()).isEqualTo(15L);
   }
 
+  @Test
+  void shouldAlwaysBeDueWithoutGroupCommit() {
+    // given - default flusher without group commit
+
+    // when - then
+    assertThat(flusher.isGroupCommitEnabled()).isFalse();
+    assertThat(flusher.isFlushDue()).isTrue();
+  }
+
+  @Test
+  void shouldNotBeDueWithoutPendingAppends() {
+    // given
+    final var groupFlusher = groupCommitFlusher(Duration.ofMillis(10), 1024);
+
+    // when
+    clock.addAndGet(Duration.ofSeconds(1).toNanos());
+
+    // then
+    assertThat(groupFlusher.isFlushDue()).isFalse();
+  }
+
+  @Test
+  void shouldBeDueAfterMaxDelay() {
+    // given
+    final var groupFlusher = groupCommitFlusher(Duration.ofMillis(10), 1024);
+    groupFlusher.onAppend(10);
+    clock.addAndGet(Duration.ofMillis(5).toNanos());
+    groupFlusher.onAppend(10);
+
+    // when
+    final var dueBeforeDelay = groupFlusher.isFlushDue();
+    clock.addAndGet(Duration.ofMillis(5).toNanos());
+
+    // then
+    assertThat(dueBeforeDelay).isFalse();
+    assertThat(groupFlusher.isFlushDue()).isTrue();
+  }
+
+  @Test
+  void shouldBeDueAfterMaxBytes() {
+    // given
+    final var groupFlusher = groupCommitFlusher(Duration.ofMillis(10), 1024);
+    groupFlusher.onAppend(512);
+
+    // when
+    final var dueBeforeBudget = groupFlusher.isFlushDue();
+    groupFlusher.onAppend(512);
+
+    // then
+    assertThat(dueBeforeBudget).isFalse();
+    assertThat(groupFlusher.isFlushDue()).isTrue();
+  }
+
+  @Test
+  void shouldResetPendingAppendsOnFlush() throws FlushException {
+    // given
+    final var groupFlusher = groupCommitFlusher(Duration.ofMillis(10), 1024);
+    groupFlusher.onAppend(1024);
+
+    // when
+    groupFlusher.flush(List.of(new TestSegment(15)));
+
+    // then
+    assertThat(groupFlusher.isFlushDue()).isFalse();
+    assertThat(groupFlusher.lastFlushedIndex()).isEqualTo(15L);
+  }
+
+  @Test
+  void shouldKeepPendingAppendsOnFailedFlush() {
+    // given
+    final var groupFlusher = groupCommitFlusher(Duration.ofMillis(10), 1024);
+    groupFlusher.onAppend(1024);
+
+    // when
+    assertThatThrownBy(() -> groupFlusher.flush(List.of(new TestSegment(15, false))));
+
+    // then
+    assertThat(groupFlusher.isFlushDue()).isTrue();
+  }
+
+  @Test
+  void shouldClearPendingAppendsIfNoSegmentIsDirty() throws FlushException {
+    // given
+    final var groupFlusher = groupCommitFlusher(Duration.ofMillis(10), 1024);
+    groupFlusher.onAppend(1024);
+
+    // when
+    groupFlusher.flush(List.of());
+
+    // then
+    assertThat(groupFlusher.isFlushDue()).isFalse();
+  }
+
+  @Test
+  void shouldClearPendingAppends() {
+    // given
+    final var groupFlusher = groupCommitFlusher(Duration.ofMillis(10), 1024);
+    groupFlusher.onAppend(1024);
+
+    // when
+    groupFlusher.clearPendingAppends();
+    groupFlusher.onAppend(512);
+
+    // then
+    assertThat(groupFlusher.isFlushDue()).isFalse();
+  }
+
+  private SegmentsFlusher groupCommitFlusher(final Duration maxDelay, final long maxBytes) {
+    return new SegmentsFlusher(metaStore, new JournalMetrics("1"), maxDelay, maxBytes, clock::get);
+  }
+
   private static final class TestSegment implements FlushableSegment {
     private final long lastIndex;
     private final boolean shouldFlush;
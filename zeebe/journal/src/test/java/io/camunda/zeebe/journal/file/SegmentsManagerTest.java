@@ -16,6 +16,7 @@ import io.camunda.zeebe.journal.CorruptedJournalException;
 import io.camunda.zeebe.test.util.junit.RegressionTest;
 import java.io.File;
 import java.io.IOException;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.Collections;
@@ -44,7 +45,7 @@ class SegmentsManagerTest {
     // given
     segments = journalFactory.segmentsManager(directory);
     segments.open();
-    Objects.requireNonNull(segments.getFirstSegment()).createReader();
+    Objects.requireNonNull(segments.getFirstSegment()).createReader(false);
     segments.getFirstSegment().delete();
 
     // when
@@ -293,6 +294,85 @@ class SegmentsManagerTest {
     }
   }
 
+  @Test
+  void shouldPrepareConfiguredNumberOfSegments() {
+    // given
+    segments =
+        journalFactory.segmentsManager(
+            directory, journalFactory.segmentLoader(), journalFactory.metaStore(), 3);
+    segments.open();
+
+    // when
+    segments.getNextSegment();
+    segments.close();
+
+    // then - the current segment is the second, and the next three segments are prepared
+    final File logDirectory = directory.resolve("data").toFile();
+    assertThat(logDirectory.list())
+        .containsExactlyInAnyOrder(
+            "journal-1.log", "journal-2.log", "journal-3.log", "journal-4.log", "journal-5.log");
+  }
+
+  @Test
+  void shouldRecycleDeletedSegmentFile() throws IOException {
+    // given
+    final var filePool = new SegmentFilePool(1);
+    segments = journalFactory.segmentsManager(directory, recyclingSegmentLoader(filePool));
+    final long firstSegmentFileKey;
+    try (final var journal = journalFactory.journal(segments)) {
+      journal.append(1, journalFactory.entry());
+      final var indexInSecondSegment = journal.append(2, journalFactory.entry()).index();
+      firstSegmentFileKey = fileKey(segments.getFirstSegment().file().file().toPath());
+
+      // when - the third segment was already prepared, so the fourth one will be recycled
+      journal.deleteUntil(indexInSecondSegment);
+      journal.append(3, journalFactory.entry());
+    }
+
+    // then
+    final Path logDirectory = directory.resolve("data");
+    assertThat(filePool.size()).isZero();
+    assertThat(logDirectory.toFile())
+        .isDirectoryNotContaining(
+            file -> SegmentFile.isDeletedSegmentFile(JOURNAL_NAME, file.getName()));
+    assertThat(fileKey(logDirectory.resolve("journal-4.log"))).isEqualTo(firstSegmentFileKey);
+  }
+
+  @Test
+  void shouldKeepFilesMarkedForDeletionForRecyclingOnLoad() {
+    // given
+    segments = journalFactory.segmentsManager(directory);
+    segments.open();
+    Objects.requireNonNull(segments.getFirstSegment()).createReader(false);
+    segments.getFirstSegment().delete();
+    final var filePool = new SegmentFilePool(1);
+
+    // when
+    try (final var newSegments =
+        journalFactory.segmentsManager(directory, recyclingSegmentLoader(filePool))) {
+      newSegments.open();
+
+      // then
+      final File logDirectory = directory.resolve("data").toFile();
+      assertThat(filePool.size()).isOne();
+      assertThat(logDirectory)
+          .isDirectoryContaining(
+              file -> SegmentFile.isDeletedSegmentFile(JOURNAL_NAME, file.getName()));
+    }
+  }
+
+  private SegmentLoader recyclingSegmentLoader(final SegmentFilePool filePool) {
+    return new SegmentLoader(
+        2L * journalFactory.maxSegmentSize(),
+        journalFactory.metrics(),
+        SegmentAllocator.noop(),
+        filePool);
+  }
+
+  private long fileKey(final Path file) throws IOException {
+    return (long) Files.getAttribute(file, "unix:ino");
+  }
+
   private SegmentedJournal openJournal() {
     return journalFactory.journal(journalFactory.segmentsManager(directory));
   }
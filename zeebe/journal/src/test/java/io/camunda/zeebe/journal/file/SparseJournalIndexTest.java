@@ -30,7 +30,7 @@ class SparseJournalIndexTest {
   @Test
   void shouldNotFindIndexWhenNotReachedDensity() {
     // given - every 5 index is added
-    final JournalIndex index = new SparseJournalIndex(5);
+    final JournalIndex index = createIndex(5);
 
     // when
     final IndexInfo position = index.lookup(1);
@@ -39,6 +39,10 @@ class SparseJournalIndexTest {
     assertNull(position);
   }
 
+  JournalIndex createIndex(final int density) {
+    return new SparseJournalIndex(density);
+  }
+
   public static JournalRecord asJournalRecord(final long index, final long asqn) {
     return new TestJournalRecord(index, asqn, 0, null, null);
   }
@@ -46,7 +50,7 @@ class SparseJournalIndexTest {
   @Test
   void shouldFindIndexWhenReachedDensity() {
     // given - every 5 index is added
-    final JournalIndex index = new SparseJournalIndex(5);
+    final JournalIndex index = createIndex(5);
 
     // when
     index.index(asJournalRecord(1, 1), 2);
@@ -64,7 +68,7 @@ class SparseJournalIndexTest {
   @Test
   void shouldFindLowerIndexWhenNotReachedDensity() {
     // given - every 5 index is added
-    final JournalIndex index = new SparseJournalIndex(5);
+    final JournalIndex index = createIndex(5);
     // index entries
     index.index(asJournalRecord(1, 1), 2);
     index.index(asJournalRecord(2, 2), 4);
@@ -86,7 +90,7 @@ class SparseJournalIndexTest {
   @Test
   void shouldFindNextIndexWhenReachedDensity() {
     // given - every 5 index is added
-    final JournalIndex index = new SparseJournalIndex(5);
+    final JournalIndex index = createIndex(5);
     // index entries
     index.index(asJournalRecord(1, 1), 2);
     index.index(asJournalRecord(2, 2), 4);
@@ -110,7 +114,7 @@ class SparseJournalIndexTest {
   @Test
   void shouldTruncateIndex() {
     // given - every 5 index is added
-    final JournalIndex index = new SparseJournalIndex(5);
+    final JournalIndex index = createIndex(5);
     // index entries
     index.index(asJournalRecord(1, 10), 2);
     index.index(asJournalRecord(2, 20), 4);
@@ -138,7 +142,7 @@ class SparseJournalIndexTest {
   @Test
   void shouldTruncateCompleteIndex() {
     // given - every 5 index is added
-    final JournalIndex index = new SparseJournalIndex(5);
+    final JournalIndex index = createIndex(5);
     // index entries
     index.index(asJournalRecord(1, 10), 2);
     index.index(asJournalRecord(2, 20), 4);
@@ -169,7 +173,7 @@ class SparseJournalIndexTest {
   @Test
   void shouldNotCompactIndex() {
     // given - every 5 index is added
-    final JournalIndex index = new SparseJournalIndex(5);
+    final JournalIndex index = createIndex(5);
     // index entries
     index.index(asJournalRecord(1, 10), 2);
     index.index(asJournalRecord(2, 20), 4);
@@ -194,7 +198,7 @@ class SparseJournalIndexTest {
   @Test
   void shouldCompactIndex() {
     // given - every 5 index is added
-    final JournalIndex index = new SparseJournalIndex(5);
+    final JournalIndex index = createIndex(5);
     // index entries
     index.index(asJournalRecord(1, 10), 2);
     index.index(asJournalRecord(2, 20), 4);
@@ -221,7 +225,7 @@ class SparseJournalIndexTest {
   @Test
   void shouldFindAsqnWithInBound() {
     // given - every 2nd index is added
-    final JournalIndex index = new SparseJournalIndex(2);
+    final JournalIndex index = createIndex(2);
 
     // when
     index.index(asJournalRecord(1, 1), 2);
@@ -244,7 +248,7 @@ class SparseJournalIndexTest {
   @Test
   void shouldReturnAsIndexedWhenWithInDensity() {
     // given - every 5 index is added
-    final JournalIndex index = new SparseJournalIndex(5);
+    final JournalIndex index = createIndex(5);
     index.index(asJournalRecord(5, 1), 2);
 
     // when - then
@@ -257,7 +261,7 @@ class SparseJournalIndexTest {
   @Test
   void shouldReturnAsNotIndexedWhenOutsideDensity() {
     // given - every 5 index is added
-    final JournalIndex index = new SparseJournalIndex(5);
+    final JournalIndex index = createIndex(5);
     index.index(asJournalRecord(5, 1), 2);
 
     // when - then
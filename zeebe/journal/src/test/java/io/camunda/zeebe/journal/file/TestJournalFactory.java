@@ -104,6 +104,14 @@ final class TestJournalFactory {
 
   SegmentsManager segmentsManager(
       final Path directory, final SegmentLoader loader, final JournalMetaStore metaStore) {
+    return segmentsManager(directory, loader, metaStore, 1);
+  }
+
+  SegmentsManager segmentsManager(
+      final Path directory,
+      final SegmentLoader loader,
+      final JournalMetaStore metaStore,
+      final int preparedSegments) {
     return new SegmentsManager(
         index,
         maxSegmentSize(),
@@ -111,12 +119,13 @@ final class TestJournalFactory {
         "journal",
         loader,
         metrics,
-        metaStore);
+        metaStore,
+        preparedSegments);
   }
 
   SegmentedJournal journal(final SegmentsManager segments) {
     final var segmentsFlusher = new SegmentsFlusher(metaStore);
-    return new SegmentedJournal(index, segments, metrics, segmentsFlusher);
+    return new SegmentedJournal(index, segments, metrics, segmentsFlusher, false);
   }
 
   DirectBuffer entryData() {
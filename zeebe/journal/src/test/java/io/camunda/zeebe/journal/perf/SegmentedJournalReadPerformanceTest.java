@@ -0,0 +1,126 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.journal.perf;
+
+import io.camunda.zeebe.journal.JournalReader;
+import io.camunda.zeebe.journal.file.SegmentedJournal;
+import io.camunda.zeebe.journal.util.MockJournalMetastore;
+import io.camunda.zeebe.test.util.jmh.JMHTestCase;
+import io.camunda.zeebe.test.util.junit.JMHTest;
+import io.camunda.zeebe.util.FileUtil;
+import io.camunda.zeebe.util.buffer.DirectBufferWriter;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+import org.agrona.CloseHelper;
+import org.agrona.concurrent.UnsafeBuffer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Compares sequentially reading a journal with and without zero-copy reads (see {@link
+ * io.camunda.zeebe.journal.file.SegmentedJournalBuilder#withZeroCopyReads(boolean)}), for different
+ * record sizes. The score is the number of records read per second.
+ *
+ * <p>The {@link JMHTest} only compares both for 16 KB records; run the benchmark directly via JMH
+ * to compare all record sizes.
+ */
+@Warmup(iterations = 10, time = 1)
+@Measurement(iterations = 20, time = 1)
+@Fork(
+    value = 1,
+    jvmArgs = {"-Xmx1g", "-Xms1g"})
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(org.openjdk.jmh.annotations.Scope.Benchmark)
+public class SegmentedJournalReadPerformanceTest {
+  private static final int MAX_SEGMENT_SIZE = 64 * 1024 * 1024;
+  private static final long JOURNAL_SIZE = 256L * 1024 * 1024;
+
+  @Param({"1024", "16384", "1048576"})
+  private int recordSize;
+
+  @Param({"false", "true"})
+  private boolean zeroCopy;
+
+  private Path directory;
+  private SegmentedJournal journal;
+  private JournalReader reader;
+
+  @Setup
+  public void setup() throws Exception {
+    directory = Files.createTempDirectory("journal-read-perf");
+    journal =
+        SegmentedJournal.builder()
+            .withDirectory(directory.toFile())
+            .withMaxSegmentSize(MAX_SEGMENT_SIZE)
+            .withMetaStore(new MockJournalMetastore())
+            .withZeroCopyReads(zeroCopy)
+            .build();
+
+    final var data = new UnsafeBuffer(new byte[recordSize]);
+    final var writer = new DirectBufferWriter().wrap(data);
+    final long recordCount = JOURNAL_SIZE / recordSize;
+    for (long i = 0; i < recordCount; i++) {
+      data.putLong(0, i);
+      journal.append(i + 1, writer);
+    }
+    journal.flush();
+
+    reader = journal.openReader();
+  }
+
+  @TearDown
+  public void tearDown() throws IOException {
+    CloseHelper.quietCloseAll(reader, journal);
+    FileUtil.deleteFolderIfExists(directory);
+  }
+
+  @Benchmark
+  public void measureSequentialRead(final Blackhole blackhole) {
+    if (!reader.hasNext()) {
+      reader.seekToFirst();
+    }
+
+    final var record = reader.next();
+    blackhole.consume(record.data().getLong(0));
+    blackhole.consume(record);
+  }
+
+  @JMHTest("measureSequentialRead")
+  void shouldReadFasterWithoutCopying(final JMHTestCase testCase) {
+    // given - reading the same records by copying each into a newly allocated record
+    final var referenceResult =
+        JMHTestCase.of(
+                getClass(),
+                "measureSequentialRead",
+                options -> options.param("recordSize", "16384").param("zeroCopy", "false"))
+            .run();
+
+    // when
+    final var assertResult =
+        testCase
+            .withOptions(options -> options.param("recordSize", "16384").param("zeroCopy", "true"))
+            .run();
+
+    // then - zero-copy reads neither allocate nor copy the 16 KB of each record, so they must read
+    // at least 10% more records per second
+    assertResult.isAtLeast(referenceResult, -0.1);
+  }
+}
@@ -0,0 +1,74 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.protocol.impl.record.value.processinstance;
+
+import io.camunda.zeebe.msgpack.property.ArrayProperty;
+import io.camunda.zeebe.protocol.impl.record.UnifiedRecordValue;
+import io.camunda.zeebe.protocol.record.value.ProcessInstanceCreationBatchRecordValue;
+import io.camunda.zeebe.protocol.record.value.ProcessInstanceCreationRecordValue;
+import java.util.List;
+
+public final class ProcessInstanceCreationBatchRecord extends UnifiedRecordValue
+    implements ProcessInstanceCreationBatchRecordValue {
+
+  private final ArrayProperty<ProcessInstanceCreationRecord> instancesProperty =
+      new ArrayProperty<>("instances", ProcessInstanceCreationRecord::new);
+  private final ArrayProperty<ProcessInstanceCreationBatchResult> resultsProperty =
+      new ArrayProperty<>("results", ProcessInstanceCreationBatchResult::new);
+
+  public ProcessInstanceCreationBatchRecord() {
+    super(2);
+    declareProperty(instancesProperty).declareProperty(resultsProperty);
+  }
+
+  @Override
+  public List<ProcessInstanceCreationRecordValue> getInstances() {
+    // we need to make a copy of each element in the ArrayProperty while iterating it because the
+    // inner values are updated during the iteration
+    return instancesProperty.stream()
+        .map(
+            element -> {
+              final var elementCopy = new ProcessInstanceCreationRecord();
+              elementCopy.copyFrom(element);
+              return (ProcessInstanceCreationRecordValue) elementCopy;
+            })
+        .toList();
+  }
+
+  @Override
+  public List<ProcessInstanceCreationBatchResultValue> getResults() {
+    return resultsProperty.stream()
+        .map(
+            element -> {
+              final var elementCopy = new ProcessInstanceCreationBatchResult();
+              elementCopy.copy(element);
+              return (ProcessInstanceCreationBatchResultValue) elementCopy;
+            })
+        .toList();
+  }
+
+  public ArrayProperty<ProcessInstanceCreationRecord> instances() {
+    return instancesProperty;
+  }
+
+  public ArrayProperty<ProcessInstanceCreationBatchResult> results() {
+    return resultsProperty;
+  }
+
+  public ProcessInstanceCreationBatchRecord addInstance(
+      final ProcessInstanceCreationRecord instance) {
+    instancesProperty.add().copyFrom(instance);
+    return this;
+  }
+
+  public ProcessInstanceCreationBatchRecord addResult(
+      final ProcessInstanceCreationBatchResult result) {
+    resultsProperty.add().copy(result);
+    return this;
+  }
+}
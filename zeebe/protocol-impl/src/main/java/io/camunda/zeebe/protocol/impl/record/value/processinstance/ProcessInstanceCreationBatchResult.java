@@ -0,0 +1,140 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.protocol.impl.record.value.processinstance;
+
+import static io.camunda.zeebe.util.buffer.BufferUtil.bufferAsString;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import io.camunda.zeebe.msgpack.property.EnumProperty;
+import io.camunda.zeebe.msgpack.property.IntegerProperty;
+import io.camunda.zeebe.msgpack.property.LongProperty;
+import io.camunda.zeebe.msgpack.property.StringProperty;
+import io.camunda.zeebe.msgpack.value.ObjectValue;
+import io.camunda.zeebe.protocol.record.RejectionType;
+import io.camunda.zeebe.protocol.record.value.ProcessInstanceCreationBatchRecordValue.ProcessInstanceCreationBatchResultValue;
+import io.camunda.zeebe.protocol.record.value.TenantOwned;
+
+@JsonIgnoreProperties({
+  /* These fields are inherited from ObjectValue; there have no purpose in exported JSON records*/
+  "encodedLength",
+  "empty"
+})
+public final class ProcessInstanceCreationBatchResult extends ObjectValue
+    implements ProcessInstanceCreationBatchResultValue {
+
+  private final LongProperty processInstanceKeyProperty =
+      new LongProperty("processInstanceKey", -1);
+  private final LongProperty processDefinitionKeyProperty =
+      new LongProperty("processDefinitionKey", -1);
+  private final StringProperty bpmnProcessIdProperty = new StringProperty("bpmnProcessId", "");
+  private final IntegerProperty versionProperty = new IntegerProperty("version", -1);
+  private final StringProperty tenantIdProperty =
+      new StringProperty("tenantId", TenantOwned.DEFAULT_TENANT_IDENTIFIER);
+  private final EnumProperty<RejectionType> rejectionTypeProperty =
+      new EnumProperty<>("rejectionType", RejectionType.class, RejectionType.NULL_VAL);
+  private final StringProperty rejectionReasonProperty = new StringProperty("rejectionReason", "");
+
+  public ProcessInstanceCreationBatchResult() {
+    super(7);
+    declareProperty(processInstanceKeyProperty)
+        .declareProperty(processDefinitionKeyProperty)
+        .declareProperty(bpmnProcessIdProperty)
+        .declareProperty(versionProperty)
+        .declareProperty(tenantIdProperty)
+        .declareProperty(rejectionTypeProperty)
+        .declareProperty(rejectionReasonProperty);
+  }
+
+  @Override
+  public long getProcessInstanceKey() {
+    return processInstanceKeyProperty.getValue();
+  }
+
+  public ProcessInstanceCreationBatchResult setProcessInstanceKey(final long processInstanceKey) {
+    processInstanceKeyProperty.setValue(processInstanceKey);
+    return this;
+  }
+
+  @Override
+  public long getProcessDefinitionKey() {
+    return processDefinitionKeyProperty.getValue();
+  }
+
+  public ProcessInstanceCreationBatchResult setProcessDefinitionKey(
+      final long processDefinitionKey) {
+    processDefinitionKeyProperty.setValue(processDefinitionKey);
+    return this;
+  }
+
+  @Override
+  public String getBpmnProcessId() {
+    return bufferAsString(bpmnProcessIdProperty.getValue());
+  }
+
+  public ProcessInstanceCreationBatchResult setBpmnProcessId(final String bpmnProcessId) {
+    bpmnProcessIdProperty.setValue(bpmnProcessId);
+    return this;
+  }
+
+  @Override
+  public int getVersion() {
+    return versionProperty.getValue();
+  }
+
+  public ProcessInstanceCreationBatchResult setVersion(final int version) {
+    versionProperty.setValue(version);
+    return this;
+  }
+
+  @Override
+  public RejectionType getRejectionType() {
+    return rejectionTypeProperty.getValue();
+  }
+
+  public ProcessInstanceCreationBatchResult setRejectionType(final RejectionType rejectionType) {
+    rejectionTypeProperty.setValue(rejectionType);
+    return this;
+  }
+
+  @Override
+  public String getRejectionReason() {
+    return bufferAsString(rejectionReasonProperty.getValue());
+  }
+
+  public ProcessInstanceCreationBatchResult setRejectionReason(final String rejectionReason) {
+    rejectionReasonProperty.setValue(rejectionReason);
+    return this;
+  }
+
+  @Override
+  public String getTenantId() {
+    return bufferAsString(tenantIdProperty.getValue());
+  }
+
+  public ProcessInstanceCreationBatchResult setTenantId(final String tenantId) {
+    tenantIdProperty.setValue(tenantId);
+    return this;
+  }
+
+  /** Returns true if the process instance was created, false if its creation was rejected. */
+  @JsonIgnore
+  public boolean isCreated() {
+    return rejectionTypeProperty.getValue() == RejectionType.NULL_VAL;
+  }
+
+  public void copy(final ProcessInstanceCreationBatchResultValue result) {
+    setProcessInstanceKey(result.getProcessInstanceKey());
+    setProcessDefinitionKey(result.getProcessDefinitionKey());
+    setBpmnProcessId(result.getBpmnProcessId());
+    setVersion(result.getVersion());
+    setTenantId(result.getTenantId());
+    setRejectionType(result.getRejectionType());
+    setRejectionReason(result.getRejectionReason());
+  }
+}
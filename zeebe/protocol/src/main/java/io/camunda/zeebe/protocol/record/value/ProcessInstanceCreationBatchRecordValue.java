@@ -0,0 +1,82 @@
+/*
+ * Copyright © 2017 camunda services GmbH (info@camunda.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.camunda.zeebe.protocol.record.value;
+
+import io.camunda.zeebe.protocol.record.ImmutableProtocol;
+import io.camunda.zeebe.protocol.record.RecordValue;
+import io.camunda.zeebe.protocol.record.RejectionType;
+import io.camunda.zeebe.protocol.record.intent.ProcessInstanceCreationBatchIntent;
+import java.util.List;
+import org.immutables.value.Value;
+
+/**
+ * Represents a batch of process instance creations, which are processed together as a single
+ * command.
+ *
+ * <p>See {@link ProcessInstanceCreationBatchIntent} for intents.
+ */
+@Value.Immutable
+@ImmutableProtocol(builder = ImmutableProcessInstanceCreationBatchRecordValue.Builder.class)
+public interface ProcessInstanceCreationBatchRecordValue extends RecordValue {
+
+  /**
+   * @return the process instances to create; only set on the command
+   */
+  List<ProcessInstanceCreationRecordValue> getInstances();
+
+  /**
+   * @return the outcome of each creation, in the order of the instances of the command; only set
+   *     on the event
+   */
+  List<ProcessInstanceCreationBatchResultValue> getResults();
+
+  @Value.Immutable
+  @ImmutableProtocol(builder = ImmutableProcessInstanceCreationBatchResultValue.Builder.class)
+  interface ProcessInstanceCreationBatchResultValue extends TenantOwned {
+
+    /**
+     * @return the key of the created process instance, or -1 if it was rejected
+     */
+    long getProcessInstanceKey();
+
+    /**
+     * @return the key of the process definition the instance was created from
+     */
+    long getProcessDefinitionKey();
+
+    /**
+     * @return the BPMN process id of the process definition
+     */
+    String getBpmnProcessId();
+
+    /**
+     * @return the version of the process definition
+     */
+    int getVersion();
+
+    /**
+     * @return the reason why the creation was rejected, or {@link RejectionType#NULL_VAL} if the
+     *     instance was created
+     */
+    RejectionType getRejectionType();
+
+    /**
+     * @return a description of why the creation was rejected, or an empty string if the instance
+     *     was created
+     */
+    String getRejectionReason();
+  }
+}
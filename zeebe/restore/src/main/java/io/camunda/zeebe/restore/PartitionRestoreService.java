@@ -31,6 +31,7 @@ import java.util.Objects;
 import java.util.Optional;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Executor;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -44,18 +45,34 @@ public class PartitionRestoreService {
   private final RaftPartition partition;
   private final int brokerId;
   private final CRC32CChecksumProvider checksumProvider;
+  private final Executor executor;
 
   public PartitionRestoreService(
       final BackupStore backupStore,
       final RaftPartition partition,
       final int brokerId,
       final CRC32CChecksumProvider checksumProvider) {
+    this(backupStore, partition, brokerId, checksumProvider, Runnable::run);
+  }
+
+  /**
+   * @param executor runs the steps after downloading, i.e. moving the files to their final
+   *     location, verifying the snapshot and truncating the journal. This keeps the threads of the
+   *     backup store free to download the backups of other partitions in the meantime.
+   */
+  public PartitionRestoreService(
+      final BackupStore backupStore,
+      final RaftPartition partition,
+      final int brokerId,
+      final CRC32CChecksumProvider checksumProvider,
+      final Executor executor) {
     this.backupStore = backupStore;
     partitionId = partition.id().id();
     rootDirectory = partition.dataDirectory().toPath();
     this.partition = partition;
     this.brokerId = brokerId;
     this.checksumProvider = Objects.requireNonNull(checksumProvider);
+    this.executor = Objects.requireNonNull(executor);
   }
 
   /**
@@ -70,12 +87,7 @@ public class PartitionRestoreService {
       final long backupId, final BackupValidator validator) {
     return getTargetDirectory(backupId)
         .thenCompose(targetDirectory -> download(backupId, targetDirectory, validator))
-        .thenApply(this::moveFilesToDataDirectory)
-        .thenApply(
-            backup -> {
-              resetLogToCheckpointPosition(backup.descriptor().checkpointPosition(), rootDirectory);
-              return backup.descriptor();
-            })
+        .thenCompose(this::install)
         .toCompletableFuture();
 
     // TODO: As an additional consistency check:
@@ -159,10 +171,20 @@ public class PartitionRestoreService {
   // After this is done, the contents of the data directory follow the expected directory
   // structure. That is - segments in rootDirectory, snapshot in
   // rootDirectory/snapshots/<snapshotId>/
-  private Backup moveFilesToDataDirectory(final Backup backup) {
-    moveSegmentFiles(backup);
-    moveSnapshotFiles(backup);
-    return backup;
+  // The snapshot and the journal do not depend on each other, so verifying the snapshot runs
+  // concurrently with truncating the journal.
+  private CompletionStage<BackupDescriptor> install(final Backup backup) {
+    final var snapshotRestored =
+        CompletableFuture.runAsync(() -> moveSnapshotFiles(backup), executor);
+    final var journalRestored =
+        CompletableFuture.runAsync(
+            () -> {
+              moveSegmentFiles(backup);
+              resetLogToCheckpointPosition(backup.descriptor().checkpointPosition(), rootDirectory);
+            },
+            executor);
+    return CompletableFuture.allOf(snapshotRestored, journalRestored)
+        .thenApply(ignored -> backup.descriptor());
   }
 
   private void moveSegmentFiles(final Backup backup) {
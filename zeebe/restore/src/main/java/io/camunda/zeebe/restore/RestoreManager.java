@@ -22,22 +22,67 @@ import io.camunda.zeebe.util.FileUtil;
 import java.io.IOException;
 import java.nio.file.DirectoryNotEmptyException;
 import java.nio.file.Path;
+import java.util.Queue;
 import java.util.Set;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 public class RestoreManager {
+  /** Restores all partitions of the local broker at the same time. */
+  public static final int ALL_LOCAL_PARTITIONS = 0;
+
   private static final Logger LOG = LoggerFactory.getLogger(RestoreManager.class);
   private final BrokerCfg configuration;
   private final BackupStore backupStore;
+  private final int maxConcurrentPartitions;
+  private final PartitionRestorer partitionRestorer;
 
   public RestoreManager(final BrokerCfg configuration, final BackupStore backupStore) {
+    this(configuration, backupStore, ALL_LOCAL_PARTITIONS);
+  }
+
+  /**
+   * @param maxConcurrentPartitions the maximum number of partitions which are downloaded and
+   *     restored at the same time, or {@link #ALL_LOCAL_PARTITIONS} to restore them all at once
+   */
+  public RestoreManager(
+      final BrokerCfg configuration,
+      final BackupStore backupStore,
+      final int maxConcurrentPartitions) {
+    this(configuration, backupStore, maxConcurrentPartitions, null);
+  }
+
+  RestoreManager(
+      final BrokerCfg configuration,
+      final BackupStore backupStore,
+      final int maxConcurrentPartitions,
+      final PartitionRestorer partitionRestorer) {
+    if (maxConcurrentPartitions < 0) {
+      throw new IllegalArgumentException(
+          "Expected to restore at least one partition at a time, or all of them, but got %d"
+              .formatted(maxConcurrentPartitions));
+    }
     this.configuration = configuration;
     this.backupStore = backupStore;
+    this.maxConcurrentPartitions = maxConcurrentPartitions;
+    this.partitionRestorer = partitionRestorer != null ? partitionRestorer : this::restorePartition;
   }
 
+  /**
+   * Restores all partitions of the local broker from the given backup. At most {@code
+   * maxConcurrentPartitions} partitions are restored at the same time, independently of each other;
+   * by default, all local partitions are.
+   *
+   * <p>If any partition fails to restore, no further partitions are started, and the whole data
+   * directory is deleted once the partitions in progress are done.
+   */
   public CompletableFuture<Void> restore(final long backupId, final boolean validateConfig) {
     final Path dataDirectory = Path.of(configuration.getData().getDirectory());
     try {
@@ -57,11 +102,50 @@ public class RestoreManager {
     final var partitionIds = partitionToRestore.stream().map(p -> p.id().id()).toList();
     LOG.info("Restoring partitions {}", partitionIds);
 
+    final var concurrency =
+        maxConcurrentPartitions == ALL_LOCAL_PARTITIONS
+            ? partitionToRestore.size()
+            : Math.min(maxConcurrentPartitions, partitionToRestore.size());
+    final var executor = createExecutor(Math.max(1, concurrency));
+    final Queue<RaftPartition> pending = new ConcurrentLinkedQueue<>(partitionToRestore);
     return CompletableFuture.allOf(
-            partitionToRestore.stream()
-                .map(partition -> restorePartition(partition, backupId, validateConfig))
+            IntStream.range(0, concurrency)
+                .mapToObj(
+                    worker -> restoreNextPartition(pending, backupId, validateConfig, executor))
                 .toArray(CompletableFuture[]::new))
-        .exceptionallyComposeAsync(error -> logFailureAndDeleteDataDirectory(dataDirectory, error));
+        .exceptionallyComposeAsync(error -> logFailureAndDeleteDataDirectory(dataDirectory, error))
+        .whenComplete((ignored, error) -> executor.shutdown());
+  }
+
+  /**
+   * Restores the pending partitions one after the other, until none are left. Running several of
+   * these concurrently bounds the number of partitions which are restored at the same time.
+   */
+  private CompletableFuture<Void> restoreNextPartition(
+      final Queue<RaftPartition> pending,
+      final long backupId,
+      final boolean validateConfig,
+      final Executor executor) {
+    final var partition = pending.poll();
+    if (partition == null) {
+      return CompletableFuture.completedFuture(null);
+    }
+
+    return partitionRestorer
+        .restore(partition, backupId, validateConfig, executor)
+        .whenComplete(
+            (ignored, error) -> {
+              if (error != null) {
+                pending.clear();
+              }
+            })
+        .thenCompose(
+            ignored -> restoreNextPartition(pending, backupId, validateConfig, executor));
+  }
+
+  private ExecutorService createExecutor(final int threads) {
+    final var threadFactory = Thread.ofPlatform().name("restore-", 0).factory();
+    return Executors.newFixedThreadPool(threads, threadFactory);
   }
 
   private CompletableFuture<Void> logFailureAndDeleteDataDirectory(
@@ -85,8 +169,11 @@ public class RestoreManager {
         backup);
   }
 
-  private CompletableFuture<Void> restorePartition(
-      final RaftPartition partition, final long backupId, final boolean validateConfig) {
+  private CompletableFuture<BackupDescriptor> restorePartition(
+      final RaftPartition partition,
+      final long backupId,
+      final boolean validateConfig,
+      final Executor executor) {
     final BackupValidator validator;
     if (validateConfig) {
       validator = new ValidatePartitionCount(configuration.getCluster().getPartitionsCount());
@@ -98,9 +185,15 @@ public class RestoreManager {
             backupStore,
             partition,
             configuration.getCluster().getNodeId(),
-            new ChecksumProviderRocksDBImpl())
+            new ChecksumProviderRocksDBImpl(),
+            executor)
         .restore(backupId, validator)
-        .thenAccept(backup -> logSuccessfulRestore(backup, partition.id().id(), backupId));
+        .whenComplete(
+            (backup, error) -> {
+              if (error == null) {
+                logSuccessfulRestore(backup, partition.id().id(), backupId);
+              }
+            });
   }
 
   private Set<RaftPartition> collectPartitions() {
@@ -118,6 +211,13 @@ public class RestoreManager {
         .collect(Collectors.toSet());
   }
 
+  /** Restores a single partition, running the steps after the download on the given executor. */
+  @FunctionalInterface
+  interface PartitionRestorer {
+    CompletableFuture<BackupDescriptor> restore(
+        RaftPartition partition, long backupId, boolean validateConfig, Executor executor);
+  }
+
   static final class ValidatePartitionCount implements BackupValidator {
     private final int expectedPartitionCount;
 
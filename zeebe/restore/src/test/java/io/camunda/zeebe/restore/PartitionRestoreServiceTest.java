@@ -40,6 +40,7 @@ import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
 import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
 import org.agrona.concurrent.UnsafeBuffer;
@@ -163,6 +164,42 @@ class PartitionRestoreServiceTest {
         .containsExactlyInAnyOrderElementsOf(expectedSnapshotFiles);
   }
 
+  @Test
+  void shouldRestoreOnGivenExecutor() throws IOException {
+    // given
+    appendRecord(1, "data");
+    appendRecord(2, "data");
+    appendRecord(3, "checkpoint");
+    final var snapshot = takeSnapshot(1, 2);
+    final long backupId = 3;
+    final var backup = takeBackup(backupId, 3);
+
+    final var executor = Executors.newFixedThreadPool(2);
+    final var raftPartition =
+        new RaftPartition(
+            new PartitionMetadata(
+                PartitionId.from("raft", partitionId), Set.of(), Map.of(), 1, new MemberId("1")),
+            null,
+            dataDirectoryToRestore.toFile());
+    final var service =
+        new PartitionRestoreService(
+            backupStore, raftPartition, nodeId, snapshotPath -> Map.of(), executor);
+
+    // when
+    final var restored = service.restore(backupId, BackupValidator.none());
+
+    // then
+    try {
+      assertThat(restored).succeedsWithin(Duration.ofSeconds(10));
+      assertThat(getRegularFiles(dataDirectoryToRestore))
+          .containsExactlyInAnyOrderElementsOf(backup.segments().names());
+      assertThat(dataDirectoryToRestore.resolve("snapshots").resolve(snapshot.getId()))
+          .isDirectory();
+    } finally {
+      executor.shutdownNow();
+    }
+  }
+
   @Test
   void shouldFailToRestoreWhenCheckpointPositionNotFound() {
     // given
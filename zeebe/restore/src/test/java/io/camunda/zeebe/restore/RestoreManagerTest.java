@@ -0,0 +1,115 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.restore;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+import io.atomix.raft.partition.RaftPartition;
+import io.camunda.zeebe.backup.api.BackupDescriptor;
+import io.camunda.zeebe.backup.api.BackupStore;
+import io.camunda.zeebe.broker.system.configuration.BrokerCfg;
+import io.camunda.zeebe.restore.RestoreManager.PartitionRestorer;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+import org.junit.jupiter.api.io.TempDir;
+
+@Timeout(value = 60)
+final class RestoreManagerTest {
+  private static final long BACKUP_ID = 1;
+
+  private final BrokerCfg configuration = new BrokerCfg();
+  private final BackupStore backupStore = mock(BackupStore.class);
+  private final PendingRestorer restorer = new PendingRestorer();
+
+  @TempDir Path dataDirectory;
+
+  @BeforeEach
+  void setup() {
+    configuration.getData().setDirectory(dataDirectory.toString());
+    configuration.getCluster().setPartitionsCount(4);
+  }
+
+  @Test
+  void shouldRestoreAllLocalPartitionsConcurrentlyByDefault() {
+    // given
+    final var restoreManager =
+        new RestoreManager(
+            configuration, backupStore, RestoreManager.ALL_LOCAL_PARTITIONS, restorer);
+
+    // when
+    final var result = restoreManager.restore(BACKUP_ID, false);
+
+    // then
+    assertThat(restorer.started).hasSize(4);
+    restorer.started.forEach(partition -> partition.complete(null));
+    assertThat(result).succeedsWithin(Duration.ofSeconds(30));
+  }
+
+  @Test
+  void shouldNotRestoreMorePartitionsAtOnceThanConfigured() {
+    // given
+    final var restoreManager = new RestoreManager(configuration, backupStore, 2, restorer);
+
+    // when
+    final var result = restoreManager.restore(BACKUP_ID, false);
+
+    // then
+    assertThat(restorer.started).hasSize(2);
+    restorer.started.getFirst().complete(null);
+    assertThat(restorer.started).hasSize(3);
+    restorer.started.get(1).complete(null);
+    assertThat(restorer.started).hasSize(4);
+    restorer.started.forEach(partition -> partition.complete(null));
+    assertThat(result).succeedsWithin(Duration.ofSeconds(30));
+  }
+
+  @Test
+  void shouldNotStartFurtherPartitionsAfterFailure() {
+    // given
+    final var failure = new RuntimeException("failed to download backup");
+    final var restoreManager = new RestoreManager(configuration, backupStore, 2, restorer);
+    final var result = restoreManager.restore(BACKUP_ID, false);
+
+    // when
+    restorer.started.getFirst().completeExceptionally(failure);
+    restorer.started.get(1).complete(null);
+
+    // then
+    assertThat(restorer.started).hasSize(2);
+    assertThat(result)
+        .failsWithin(Duration.ofSeconds(30))
+        .withThrowableThat()
+        .havingRootCause()
+        .isSameAs(failure);
+    assertThat(dataDirectory).isEmptyDirectory();
+  }
+
+  /** Records every partition restore it starts, and leaves it to the test to complete them. */
+  private static final class PendingRestorer implements PartitionRestorer {
+    private final List<CompletableFuture<BackupDescriptor>> started = new ArrayList<>();
+
+    @Override
+    public CompletableFuture<BackupDescriptor> restore(
+        final RaftPartition partition,
+        final long backupId,
+        final boolean validateConfig,
+        final Executor executor) {
+      final var restored = new CompletableFuture<BackupDescriptor>();
+      started.add(restored);
+      return restored;
+    }
+  }
+}
@@ -19,10 +19,12 @@ import java.util.concurrent.CompletableFuture;
 public final class ActorExecutor {
   private final ActorThreadGroup cpuBoundThreads;
   private final ActorThreadGroup ioBoundThreads;
+  private final ActorThreadGroup virtualThreads;
 
   public ActorExecutor(final ActorSchedulerBuilder builder) {
     ioBoundThreads = builder.getIoBoundActorThreads();
     cpuBoundThreads = builder.getCpuBoundActorThreads();
+    virtualThreads = builder.getVirtualActorThreads();
   }
 
   /**
@@ -38,6 +40,16 @@ public final class ActorExecutor {
     return submitTask(task, ioBoundThreads);
   }
 
+  /**
+   * Submits an actor which blocks its thread. It runs on the virtual threads if any are configured,
+   * and on the IO bound threads otherwise.
+   *
+   * @param task the task to submit
+   */
+  public ActorFuture<Void> submitBlockingTask(final ActorTask task) {
+    return submitTask(task, virtualThreads != null ? virtualThreads : ioBoundThreads);
+  }
+
   private ActorFuture<Void> submitTask(final ActorTask task, final ActorThreadGroup threadGroup) {
     if (task.getLifecyclePhase() != ActorLifecyclePhase.CLOSED) {
       throw new IllegalStateException("ActorTask was already submitted!");
@@ -51,10 +63,18 @@ public final class ActorExecutor {
   public void start() {
     cpuBoundThreads.start();
     ioBoundThreads.start();
+    if (virtualThreads != null) {
+      virtualThreads.start();
+    }
   }
 
   public CompletableFuture<Void> closeAsync() {
-    return CompletableFuture.allOf(ioBoundThreads.closeAsync(), cpuBoundThreads.closeAsync());
+    final var virtualThreadsClosed =
+        virtualThreads != null
+            ? virtualThreads.closeAsync()
+            : CompletableFuture.<Void>completedFuture(null);
+    return CompletableFuture.allOf(
+        ioBoundThreads.closeAsync(), cpuBoundThreads.closeAsync(), virtualThreadsClosed);
   }
 
   public ActorThreadGroup getCpuBoundThreads() {
@@ -64,4 +84,8 @@ public final class ActorExecutor {
   public ActorThreadGroup getIoBoundThreads() {
     return ioBoundThreads;
   }
+
+  public ActorThreadGroup getVirtualThreads() {
+    return virtualThreads;
+  }
 }
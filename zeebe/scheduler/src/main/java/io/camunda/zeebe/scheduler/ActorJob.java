@@ -38,6 +38,7 @@ public final class ActorJob {
   @Async.Execute
   void execute(final ActorThread runner) {
     observeSchedulingLatency(runner.getActorMetrics());
+    runner.onJobExecuted();
     try {
       invoke();
     } catch (final Throwable e) {
@@ -7,9 +7,18 @@
  */
 package io.camunda.zeebe.scheduler;
 
+import io.camunda.zeebe.scheduler.ActorProfiler.ActorProfile;
+import io.prometheus.client.Collector;
 import io.prometheus.client.Counter;
 import io.prometheus.client.Gauge;
 import io.prometheus.client.Histogram;
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
 
 final class ActorMetrics {
 
@@ -47,6 +56,48 @@ final class ActorMetrics {
           .help("The length of the job queue for an actor task")
           .labelNames("actorName")
           .register();
+
+  private static final Histogram EXECUTION_CPU_TIME =
+      Histogram.build()
+          .exponentialBuckets(0.0001, 4, 10)
+          .namespace("zeebe")
+          .name("actor_task_execution_cpu_time")
+          .help("CPU time spent by the actor thread executing a certain actor task")
+          .labelNames("actorName")
+          .register();
+
+  private static final Histogram QUEUE_LATENCY =
+      Histogram.build()
+          .exponentialBuckets(1 / 1_000_000f, 4, 12)
+          .namespace("zeebe")
+          .name("actor_task_queue_latency")
+          .help("Time a certain actor task waited in the queue of its thread group to be executed")
+          .labelNames("actorName")
+          .register();
+
+  private static final Histogram EXECUTED_JOBS =
+      Histogram.build()
+          .exponentialBuckets(1, 2, 12)
+          .namespace("zeebe")
+          .name("actor_task_executed_jobs")
+          .help("Number of jobs executed per execution of a certain actor task")
+          .labelNames("actorName")
+          .register();
+
+  private static final ThreadMXBean THREAD_MX_BEAN = ManagementFactory.getThreadMXBean();
+  private static final boolean CPU_TIME_SUPPORTED = isCpuTimeSupported();
+
+  private static final Histogram VIRTUAL_THREAD_PINNED_DURATION =
+      Histogram.build()
+          .exponentialBuckets(0.0001, 4, 10)
+          .namespace("zeebe")
+          .name("actor_virtual_thread_pinned_duration")
+          .help(
+              "Time a virtual actor thread blocked while pinned to its carrier thread, e.g. when"
+                  + " blocking inside a synchronized block")
+          .labelNames("threadGroup")
+          .register();
+
   private final boolean enabled;
 
   public ActorMetrics(final boolean metricsEnabled) {
@@ -78,7 +129,101 @@ final class ActorMetrics {
     }
   }
 
+  /**
+   * @return the CPU time of the current thread in nanoseconds, or -1 if it cannot be measured,
+   *     e.g. because metrics are disabled or the current thread is virtual
+   */
+  long currentThreadCpuTime() {
+    if (!enabled || !CPU_TIME_SUPPORTED || Thread.currentThread().isVirtual()) {
+      return -1;
+    }
+    return THREAD_MX_BEAN.getCurrentThreadCpuTime();
+  }
+
+  void observeExecutionCpuTime(final String actorName, final long cpuTimeBefore) {
+    if (enabled && cpuTimeBefore >= 0) {
+      final long cpuTime = currentThreadCpuTime() - cpuTimeBefore;
+      if (cpuTime >= 0) {
+        EXECUTION_CPU_TIME.labels(actorName).observe(cpuTime / 1_000_000_000f);
+      }
+    }
+  }
+
+  void observeTaskQueueLatency(final String actorName, final long queuedAt) {
+    if (enabled && queuedAt != -1) {
+      QUEUE_LATENCY.labels(actorName).observe((System.nanoTime() - queuedAt) / 1_000_000_000f);
+    }
+  }
+
+  void observeExecutedJobs(final String actorName, final int executedJobs) {
+    if (enabled) {
+      EXECUTED_JOBS.labels(actorName).observe(executedJobs);
+    }
+  }
+
+  void observeVirtualThreadPinned(final String threadGroup, final Duration duration) {
+    if (enabled) {
+      VIRTUAL_THREAD_PINNED_DURATION.labels(threadGroup).observe(duration.toNanos() / 1e9);
+    }
+  }
+
   public boolean isEnabled() {
     return enabled;
   }
+
+  /**
+   * Aggregates everything recorded so far per actor name. The totals are read from the metrics
+   * themselves, and as such are only populated for actors running on schedulers with metrics
+   * enabled.
+   */
+  static Collection<ActorProfile> profiles() {
+    final var executions = sumByActor(EXECUTION_COUNT, "_total");
+    final var executionTime = sumByActor(EXECUTION_LATENCY, "_sum");
+    final var cpuTime = sumByActor(EXECUTION_CPU_TIME, "_sum");
+    final var queueLatency = sumByActor(QUEUE_LATENCY, "_sum");
+    final var queued = sumByActor(QUEUE_LATENCY, "_count");
+    final var executedJobs = sumByActor(EXECUTED_JOBS, "_sum");
+
+    final var profiles = new ArrayList<ActorProfile>(executions.size());
+    executions.forEach(
+        (actorName, count) -> {
+          final double queuedCount = queued.getOrDefault(actorName, 0.0);
+          final double averageQueueLatency =
+              queuedCount == 0 ? 0 : queueLatency.getOrDefault(actorName, 0.0) / queuedCount;
+          profiles.add(
+              new ActorProfile(
+                  actorName,
+                  count.longValue(),
+                  executedJobs.getOrDefault(actorName, 0.0).longValue(),
+                  toDuration(cpuTime.getOrDefault(actorName, 0.0)),
+                  toDuration(executionTime.getOrDefault(actorName, 0.0)),
+                  toDuration(averageQueueLatency)));
+        });
+    return profiles;
+  }
+
+  private static Map<String, Double> sumByActor(final Collector collector, final String suffix) {
+    final var values = new HashMap<String, Double>();
+    for (final var family : collector.collect()) {
+      for (final var sample : family.samples) {
+        if (sample.name.endsWith(suffix)) {
+          values.merge(sample.labelValues.getFirst(), sample.value, Double::sum);
+        }
+      }
+    }
+    return values;
+  }
+
+  private static Duration toDuration(final double seconds) {
+    return Duration.ofNanos(Math.round(seconds * 1_000_000_000d));
+  }
+
+  private static boolean isCpuTimeSupported() {
+    try {
+      return THREAD_MX_BEAN.isCurrentThreadCpuTimeSupported()
+          && THREAD_MX_BEAN.isThreadCpuTimeEnabled();
+    } catch (final UnsupportedOperationException e) {
+      return false;
+    }
+  }
 }
@@ -0,0 +1,70 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.scheduler;
+
+import java.time.Duration;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * Gives an on-demand view of which actors use the most of their thread group, e.g. to find a noisy
+ * partition or exporter on a shared broker. The profiles are aggregated from the actor metrics, and
+ * are therefore only available for schedulers built with metrics enabled; see {@link
+ * ActorScheduler.ActorSchedulerBuilder#setMetricsEnabled(boolean)}.
+ *
+ * <p>Since actors are identified by name, actors sharing the same name are aggregated together.
+ */
+public final class ActorProfiler {
+
+  private ActorProfiler() {}
+
+  /**
+   * Returns the profiles of at most {@code limit} actors, ordered by the given order.
+   *
+   * @param limit the maximum number of profiles to return
+   * @param order the order in which to return the profiles, e.g. {@link ActorProfile#BY_CPU_TIME}
+   * @return the top actors by the given order
+   */
+  public static List<ActorProfile> topActors(
+      final int limit, final Comparator<ActorProfile> order) {
+    if (limit < 0) {
+      throw new IllegalArgumentException(
+          "Expected limit to be a non-negative number, but was %d".formatted(limit));
+    }
+
+    return ActorMetrics.profiles().stream().sorted(order).limit(limit).toList();
+  }
+
+  /**
+   * The totals recorded for an actor since the metrics were registered.
+   *
+   * @param actorName the name of the actor
+   * @param executions how often the actor's task was executed
+   * @param executedJobs how many jobs were executed over all executions
+   * @param cpuTime the CPU time spent executing the actor; zero if it cannot be measured, e.g. on
+   *     virtual threads
+   * @param executionTime the wall-clock time spent executing the actor
+   * @param averageQueueLatency the average time the actor waited to be executed once it had work
+   */
+  public record ActorProfile(
+      String actorName,
+      long executions,
+      long executedJobs,
+      Duration cpuTime,
+      Duration executionTime,
+      Duration averageQueueLatency) {
+    public static final Comparator<ActorProfile> BY_CPU_TIME =
+        Comparator.comparing(ActorProfile::cpuTime).reversed();
+    public static final Comparator<ActorProfile> BY_EXECUTION_TIME =
+        Comparator.comparing(ActorProfile::executionTime).reversed();
+    public static final Comparator<ActorProfile> BY_QUEUE_LATENCY =
+        Comparator.comparing(ActorProfile::averageQueueLatency).reversed();
+    public static final Comparator<ActorProfile> BY_EXECUTED_JOBS =
+        Comparator.comparingLong(ActorProfile::executedJobs).reversed();
+  }
+}
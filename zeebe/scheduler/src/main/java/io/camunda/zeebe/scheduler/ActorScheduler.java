@@ -62,6 +62,7 @@ public final class ActorScheduler implements AutoCloseable, ActorSchedulingServi
     return switch (schedulingHints) {
       case CPU_BOUND -> actorTaskExecutor.submitCpuBound(task);
       case IO_BOUND -> actorTaskExecutor.submitIoBoundTask(task);
+      case BLOCKING -> actorTaskExecutor.submitBlockingTask(task);
     };
   }
 
@@ -127,6 +128,8 @@ public final class ActorScheduler implements AutoCloseable, ActorSchedulingServi
     private ActorThreadGroup cpuBoundActorGroup;
     private int ioBoundThreadsCount = 2;
     private ActorThreadGroup ioBoundActorGroup;
+    private int virtualThreadsCount = 0;
+    private ActorThreadGroup virtualActorGroup;
     private ActorThreadFactory actorThreadFactory;
     private ActorExecutor actorExecutor;
     private ActorTimerQueue actorTimerQueue;
@@ -197,6 +200,20 @@ public final class ActorScheduler implements AutoCloseable, ActorSchedulingServi
       return this;
     }
 
+    public int getVirtualActorThreadCount() {
+      return virtualThreadsCount;
+    }
+
+    /**
+     * Sets the number of actor threads running on virtual threads, which serve the actors submitted
+     * with {@link SchedulingHints#BLOCKING}. If zero, the default, these actors are scheduled on
+     * the IO bound threads instead.
+     */
+    public ActorSchedulerBuilder setVirtualActorThreadCount(final int virtualActorThreadCount) {
+      virtualThreadsCount = virtualActorThreadCount;
+      return this;
+    }
+
     public ActorThreadFactory getActorThreadFactory() {
       return actorThreadFactory;
     }
@@ -219,6 +236,10 @@ public final class ActorScheduler implements AutoCloseable, ActorSchedulingServi
       return ioBoundActorGroup;
     }
 
+    public ActorThreadGroup getVirtualActorThreads() {
+      return virtualActorGroup;
+    }
+
     public boolean isMetricsEnabled() {
       return enableMetrics;
     }
@@ -240,6 +261,12 @@ public final class ActorScheduler implements AutoCloseable, ActorSchedulingServi
       }
     }
 
+    private void initVirtualActorThreadGroup() {
+      if (virtualActorGroup == null && virtualThreadsCount > 0) {
+        virtualActorGroup = new VirtualThreadGroup(this);
+      }
+    }
+
     private void initCpuBoundActorThreadGroup() {
       if (cpuBoundActorGroup == null) {
         cpuBoundActorGroup = new CpuThreadGroup(this);
@@ -256,6 +283,7 @@ public final class ActorScheduler implements AutoCloseable, ActorSchedulingServi
       initActorThreadFactory();
       initCpuBoundActorThreadGroup();
       initIoBoundActorThreadGroup();
+      initVirtualActorThreadGroup();
       initActorExecutor();
       return new ActorScheduler(this);
     }
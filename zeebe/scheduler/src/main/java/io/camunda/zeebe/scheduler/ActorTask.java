@@ -52,6 +52,7 @@ public class ActorTask {
   private Deque<ActorJob> fastLaneJobs = new ClosedQueue();
   private volatile ActorLifecyclePhase lifecyclePhase = ActorLifecyclePhase.CLOSED;
   private List<ActorSubscription> subscriptions = new ArrayList<>();
+  private long queuedAt = -1;
 
   /**
    * jobs that are submitted to this task externally. A job is submitted "internally" if it is
@@ -526,6 +527,22 @@ public class ActorTask {
     actor.onActorFailed();
   }
 
+  /**
+   * Marks the task as queued for execution on a thread of its group; only tracked if metrics are
+   * enabled, see {@link #getQueuedAt()}.
+   */
+  void onQueued(final long nanoTime) {
+    queuedAt = nanoTime;
+  }
+
+  /**
+   * @return the {@link System#nanoTime()} at which the task was last queued for execution, or -1
+   *     if not tracked
+   */
+  long getQueuedAt() {
+    return queuedAt;
+  }
+
   public int estimateQueueLength() {
     if (fastLaneJobs instanceof ClosedQueue || submittedJobs instanceof ClosedQueue) {
       return 0;
@@ -25,6 +25,12 @@ import org.slf4j.MDC;
 public class ActorThread extends Thread implements Consumer<Runnable> {
   private static final Logger LOG = Loggers.ACTOR_LOGGER;
   private static final FatalErrorHandler FATAL_ERROR_HANDLER = FatalErrorHandler.withLogger(LOG);
+
+  /**
+   * Only used by runners started with {@link #startVirtual()}, whose loop runs on a virtual thread
+   * instead of on the runner itself.
+   */
+  private static final ThreadLocal<ActorThread> VIRTUAL_RUNNER = new ThreadLocal<>();
   private static final VarHandle STATE_HANDLE;
 
   static {
@@ -49,6 +55,8 @@ public class ActorThread extends Thread implements Consumer<Runnable> {
   private final BoundedArrayQueue<ActorJob> jobs = new BoundedArrayQueue<>(2048);
   private final ActorThreadGroup actorThreadGroup;
   private volatile ActorThreadState state;
+  private volatile Thread carrier = this;
+  private int executedJobs;
 
   public ActorThread(
       final String name,
@@ -104,10 +112,21 @@ public class ActorThread extends Thread implements Consumer<Runnable> {
 
     if (currentTask != null) {
       final var actorName = currentTask.actor.getName();
+      final long cpuTimeBefore;
+      if (actorMetrics.isEnabled()) {
+        actorMetrics.observeTaskQueueLatency(actorName, currentTask.getQueuedAt());
+        cpuTimeBefore = actorMetrics.currentThreadCpuTime();
+        executedJobs = 0;
+      } else {
+        cpuTimeBefore = -1;
+      }
+
       try (final var timer = actorMetrics.startExecutionTimer(actorName)) {
         executeCurrentTask();
       }
       if (actorMetrics.isEnabled()) {
+        actorMetrics.observeExecutionCpuTime(actorName, cpuTimeBefore);
+        actorMetrics.observeExecutedJobs(actorName, executedJobs);
         actorMetrics.updateJobQueueLength(actorName, currentTask.estimateQueueLength());
         actorMetrics.countExecution(actorName);
       }
@@ -168,9 +187,12 @@ public class ActorThread extends Thread implements Consumer<Runnable> {
      * This implementation takes advantage of the fact that ActorTaskRunner extends Thread
      * itself. If we can cast down, the current thread is the current ActorTaskRunner.
      */
-    return Thread.currentThread() instanceof ActorThread
-        ? (ActorThread) Thread.currentThread()
-        : null;
+    final Thread thread = Thread.currentThread();
+    if (thread instanceof ActorThread) {
+      return (ActorThread) thread;
+    }
+
+    return thread.isVirtual() ? VIRTUAL_RUNNER.get() : null;
   }
 
   public static ActorThread ensureCalledFromActorThread(final String methodName) {
@@ -199,6 +221,10 @@ public class ActorThread extends Thread implements Consumer<Runnable> {
     return job;
   }
 
+  void onJobExecuted() {
+    executedJobs++;
+  }
+
   void recycleJob(final ActorJob j) {
     j.reset();
     jobs.offer(j);
@@ -217,6 +243,28 @@ public class ActorThread extends Thread implements Consumer<Runnable> {
     }
   }
 
+  /**
+   * Starts the runner loop on a new virtual thread instead of on this platform thread, which is
+   * never started. Actors which block then only park the virtual thread, and free the underlying
+   * carrier for other runners.
+   */
+  void startVirtual() {
+    if (STATE_HANDLE.compareAndSet(this, ActorThreadState.NEW, ActorThreadState.RUNNING)) {
+      final Thread virtualThread =
+          Thread.ofVirtual()
+              .name(getName())
+              .unstarted(
+                  () -> {
+                    VIRTUAL_RUNNER.set(this);
+                    run();
+                  });
+      carrier = virtualThread;
+      virtualThread.start();
+    } else {
+      throw new IllegalStateException("Cannot start runner, not in state 'NEW'.");
+    }
+  }
+
   @Override
   public void run() {
     idleStrategy.init();
@@ -290,7 +338,7 @@ public class ActorThread extends Thread implements Consumer<Runnable> {
     }
 
     public void hintWorkAvailable() {
-      LockSupport.unpark(ActorThread.this);
+      LockSupport.unpark(carrier);
     }
 
     protected void onIdle() {
@@ -21,6 +21,7 @@ public abstract class ActorThreadGroup {
   protected final ActorThread[] threads;
   protected final WorkStealingGroup tasks;
   protected final int numOfThreads;
+  protected final boolean metricsEnabled;
   private final String schedulerName;
 
   public ActorThreadGroup(
@@ -31,6 +32,7 @@ public abstract class ActorThreadGroup {
     this.groupName = groupName;
     this.numOfThreads = numOfThreads;
     this.schedulerName = schedulerName;
+    metricsEnabled = builder.isMetricsEnabled();
 
     tasks = new WorkStealingGroup(numOfThreads);
 
@@ -56,6 +58,10 @@ public abstract class ActorThreadGroup {
   }
 
   public void submit(final ActorTask actorTask) {
+    if (metricsEnabled) {
+      actorTask.onQueued(System.nanoTime());
+    }
+
     final ActorThread current = ActorThread.current();
     if (current != null && current.getActorThreadGroup() == this) {
       tasks.submit(actorTask, current.getRunnerId());
@@ -8,66 +8,275 @@
 package io.camunda.zeebe.scheduler;
 
 import io.camunda.zeebe.scheduler.clock.ActorClock;
-import io.camunda.zeebe.util.Loggers;
 import java.util.concurrent.TimeUnit;
-import org.agrona.DeadlineTimerWheel;
 import org.agrona.collections.Long2ObjectHashMap;
-import org.slf4j.Logger;
 
-public final class ActorTimerQueue extends DeadlineTimerWheel {
-  private static final Logger LOG = Loggers.ACTOR_LOGGER;
-  private static final int DEFAULT_TICKS_PER_WHEEL = 32;
-  private final Long2ObjectHashMap<TimerSubscription> timerJobMap = new Long2ObjectHashMap<>();
+/**
+ * A hierarchical timing wheel with a resolution of one millisecond. Level {@code 0} has one slot
+ * per tick; each slot of level {@code n} spans as many ticks as the whole level {@code n - 1}.
+ * Timers are placed on the lowest level whose span covers their remaining delay, and cascade down
+ * a level each time the wheel reaches their slot, until they expire on level {@code 0}. Timers
+ * beyond the span of the highest level stay on it, and are simply placed again when their slot is
+ * reached.
+ *
+ * <p>Timers which are already due when scheduled are kept apart, and expire with the next call to
+ * {@link #processExpiredTimers(ActorClock)} even if the clock did not move in between.
+ *
+ * <p>Each slot is an intrusive doubly linked list, so scheduling and removing a timer are constant
+ * time, and all timers of a tick expire as a single batch. Processing skips over ticks for which
+ * the lower levels are empty, such that catching up with a clock which jumped far ahead (e.g. a
+ * controlled clock in tests) does not visit each tick in between.
+ *
+ * <p>Not thread safe; each queue belongs to a single {@link ActorThread}.
+ */
+public final class ActorTimerQueue {
+  private static final int DEFAULT_SLOTS_PER_LEVEL = 64;
+
+  /** The levels span at least 2^30 ms, i.e. about 12 days, with the default slots per level. */
+  private static final int SPAN_BITS = 30;
 
-  private final TimerHandler timerHandler =
-      (timeUnit, now, timerId) -> {
-        final TimerSubscription timer = timerJobMap.remove(timerId);
+  /** Bounds the nodes kept for reuse, so that a burst of timers does not pin its memory. */
+  private static final int MAX_FREE_NODES = 4096;
 
-        if (timer != null) {
-          timer.onTimerExpired(timeUnit, now);
-        } else {
-          LOG.warn("Timer with id {} expired but is not known in this timer queue.", timerId);
-        }
+  private final Long2ObjectHashMap<TimerNode> timers = new Long2ObjectHashMap<>();
+  private final TimerNode[][] slots;
+  private final int[] levelSizes;
+  private final int slotBits;
+  private final int slotMask;
+  private final int levelCount;
 
-        return true;
-      };
+  /** A pseudo level with a single slot, holding the timers which were due when scheduled. */
+  private final int dueLevel;
+
+  private long currentTick;
+  private long nextTimerId;
+  private TimerNode freeNodes;
+  private int freeNodeCount;
 
   public ActorTimerQueue(final ActorClock clock) {
-    this(clock, DEFAULT_TICKS_PER_WHEEL);
+    this(clock, DEFAULT_SLOTS_PER_LEVEL);
   }
 
-  public ActorTimerQueue(final ActorClock clock, final int ticksPerWheel) {
-    super(TimeUnit.MILLISECONDS, clock.getTimeMillis(), 1, ticksPerWheel);
+  /**
+   * @param clock the clock from which the initial tick is taken
+   * @param slotsPerLevel the number of slots on each level; must be a power of two, and at least 2
+   */
+  public ActorTimerQueue(final ActorClock clock, final int slotsPerLevel) {
+    if (slotsPerLevel < 2 || Integer.bitCount(slotsPerLevel) != 1) {
+      throw new IllegalArgumentException(
+          "Expected slots per level to be a power of two of at least 2, but was %d"
+              .formatted(slotsPerLevel));
+    }
+
+    slotBits = Integer.numberOfTrailingZeros(slotsPerLevel);
+    slotMask = slotsPerLevel - 1;
+    levelCount = (SPAN_BITS + slotBits - 1) / slotBits;
+    dueLevel = levelCount;
+    slots = new TimerNode[levelCount + 1][];
+    for (int level = 0; level < levelCount; level++) {
+      slots[level] = new TimerNode[slotsPerLevel];
+    }
+    slots[dueLevel] = new TimerNode[1];
+    levelSizes = new int[levelCount + 1];
+    currentTick = clock.getTimeMillis();
   }
 
   public void processExpiredTimers(final ActorClock clock) {
-    int timersProcessed = 0;
+    final long now = clock.getTimeMillis();
+    expireSlot(dueLevel, 0, now);
+
+    while (currentTick <= now) {
+      if (timers.isEmpty()) {
+        currentTick = now + 1;
+        return;
+      }
 
-    do {
-      timersProcessed = poll(clock.getTimeMillis(), timerHandler, Integer.MAX_VALUE);
-    } while (timersProcessed > 0);
+      expireSlot(0, (int) currentTick & slotMask, now);
+      advance(now);
+    }
   }
 
   public void schedule(final TimerSubscription timer, final ActorClock now) {
     final long deadline = timer.getDeadline(now);
+    final long timerId = nextTimerId++;
 
-    final long timerId = scheduleTimer(deadline);
+    final TimerNode node = newNode();
+    node.timerId = timerId;
+    node.deadline = deadline;
+    node.timer = timer;
     timer.setTimerId(timerId);
-    if (timerJobMap.containsKey(timerId)) {
-      throw new IllegalStateException(
-          "Failed scheduling, timer with id "
-              + timerId
-              + " already exists: "
-              + timerJobMap.get(timerId));
-    }
 
-    timerJobMap.put(timerId, timer);
+    timers.put(timerId, node);
+    place(node);
   }
 
   public void remove(final TimerSubscription timer) {
-    final long timerId = timer.getTimerId();
+    final TimerNode node = timers.remove(timer.getTimerId());
+
+    if (node != null) {
+      unlink(node);
+      recycle(node);
+    }
+  }
+
+  /**
+   * @return the number of timers currently scheduled
+   */
+  public int size() {
+    return timers.size();
+  }
+
+  private void expireSlot(final int level, final int slot, final long now) {
+    // timers scheduled by the handlers into this slot are part of this batch as well
+    TimerNode node;
+    while ((node = slots[level][slot]) != null) {
+      unlink(node);
+      timers.remove(node.timerId);
+
+      final TimerSubscription timer = node.timer;
+      recycle(node);
+      timer.onTimerExpired(TimeUnit.MILLISECONDS, now);
+    }
+  }
+
+  /**
+   * Moves to the next tick at which something may happen: the next tick if level 0 has timers, or
+   * else the next tick at which the lowest non-empty level cascades into the levels below it. Never
+   * moves further than one tick past {@code now}, as the timers scheduled until then must still be
+   * placed relative to the current tick.
+   */
+  private void advance(final long now) {
+    int level = 0;
+    while (level < levelCount && levelSizes[level] == 0) {
+      level++;
+    }
+
+    final long nextTick;
+    if (level == 0) {
+      nextTick = currentTick + 1;
+    } else {
+      final int levelShift = slotBits * Math.min(level, levelCount - 1);
+      nextTick = ((currentTick >> levelShift) + 1) << levelShift;
+    }
+
+    if (nextTick > now) {
+      currentTick = now + 1;
+      if (nextTick == currentTick) {
+        cascade();
+      }
+    } else {
+      currentTick = nextTick;
+      cascade();
+    }
+  }
+
+  /**
+   * Cascades, from the highest level down, the slot of each level which starts at the current tick
+   * into the levels below it.
+   */
+  private void cascade() {
+    int highestLevel = 0;
+    while (highestLevel + 1 < levelCount
+        && (currentTick & ((1L << (slotBits * (highestLevel + 1))) - 1)) == 0) {
+      highestLevel++;
+    }
+
+    for (int level = highestLevel; level > 0; level--) {
+      final int slot = (int) (currentTick >> (slotBits * level)) & slotMask;
+      TimerNode node = slots[level][slot];
+      slots[level][slot] = null;
+
+      while (node != null) {
+        final TimerNode next = node.next;
+        levelSizes[level]--;
+        node.prev = null;
+        node.next = null;
+        place(node);
+        node = next;
+      }
+    }
+  }
+
+  private void place(final TimerNode node) {
+    final long deadline = node.deadline;
+    final long delay = deadline - currentTick;
+
+    final int level;
+    final int slot;
+    if (delay < 0) {
+      level = dueLevel;
+      slot = 0;
+    } else {
+      level = levelFor(delay);
+      slot = (int) (deadline >> (slotBits * level)) & slotMask;
+    }
+
+    final TimerNode head = slots[level][slot];
+    node.level = level;
+    node.slot = slot;
+    node.prev = null;
+    node.next = head;
+    if (head != null) {
+      head.prev = node;
+    }
+    slots[level][slot] = node;
+    levelSizes[level]++;
+  }
+
+  private int levelFor(final long delay) {
+    int level = 0;
+    while (level + 1 < levelCount && delay >= (1L << (slotBits * (level + 1)))) {
+      level++;
+    }
+    return level;
+  }
+
+  private void unlink(final TimerNode node) {
+    if (node.prev != null) {
+      node.prev.next = node.next;
+    } else {
+      slots[node.level][node.slot] = node.next;
+    }
+
+    if (node.next != null) {
+      node.next.prev = node.prev;
+    }
+
+    levelSizes[node.level]--;
+    node.prev = null;
+    node.next = null;
+  }
+
+  private TimerNode newNode() {
+    final TimerNode node = freeNodes;
+    if (node == null) {
+      return new TimerNode();
+    }
+
+    freeNodes = node.next;
+    freeNodeCount--;
+    node.next = null;
+    return node;
+  }
+
+  private void recycle(final TimerNode node) {
+    node.timer = null;
+    node.prev = null;
+    node.next = null;
+    if (freeNodeCount < MAX_FREE_NODES) {
+      node.next = freeNodes;
+      freeNodes = node;
+      freeNodeCount++;
+    }
+  }
 
-    timerJobMap.remove(timerId);
-    cancelTimer(timerId);
+  private static final class TimerNode {
+    private long timerId;
+    private long deadline;
+    private TimerSubscription timer;
+    private int level;
+    private int slot;
+    private TimerNode prev;
+    private TimerNode next;
   }
 }
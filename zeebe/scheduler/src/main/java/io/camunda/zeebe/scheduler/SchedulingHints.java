@@ -9,7 +9,12 @@ package io.camunda.zeebe.scheduler;
 
 public enum SchedulingHints {
   CPU_BOUND,
-  IO_BOUND;
+  IO_BOUND,
+  /**
+   * For actors which block their thread, e.g. on network calls. These run on virtual threads if the
+   * scheduler has any configured, and on the IO bound threads otherwise.
+   */
+  BLOCKING;
 
   public static SchedulingHints cpuBound() {
     return SchedulingHints.CPU_BOUND;
@@ -18,4 +23,8 @@ public enum SchedulingHints {
   public static SchedulingHints ioBound() {
     return SchedulingHints.IO_BOUND;
   }
+
+  public static SchedulingHints blocking() {
+    return SchedulingHints.BLOCKING;
+  }
 }
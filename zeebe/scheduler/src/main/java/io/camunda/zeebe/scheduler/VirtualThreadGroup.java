@@ -0,0 +1,96 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.scheduler;
+
+import io.camunda.zeebe.scheduler.ActorScheduler.ActorSchedulerBuilder;
+import io.camunda.zeebe.util.Loggers;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingStream;
+
+/**
+ * Thread group for actors which block their thread, e.g. exporters waiting on network calls. Each
+ * runner loop runs on a virtual thread, such that a blocked actor frees its carrier thread for the
+ * other runners of this group, instead of occupying one of the few IO bound threads.
+ *
+ * <p>Blocking while pinned to the carrier, e.g. inside a {@code synchronized} block, defeats this.
+ * If metrics are enabled, such pinning is therefore observed via JFR and exposed as a metric.
+ */
+public final class VirtualThreadGroup extends ActorThreadGroup {
+  private static final String PINNED_EVENT = "jdk.VirtualThreadPinned";
+  private static final Duration PINNED_THRESHOLD = Duration.ofMillis(1);
+
+  private RecordingStream pinnedEvents;
+
+  public VirtualThreadGroup(final ActorSchedulerBuilder builder) {
+    super(
+        "zb-virtual-workers",
+        builder.getVirtualActorThreadCount(),
+        builder,
+        builder.getSchedulerName());
+  }
+
+  @Override
+  public void start() {
+    if (metricsEnabled) {
+      observePinnedThreads();
+    }
+
+    for (final ActorThread actorThread : threads) {
+      actorThread.startVirtual();
+    }
+  }
+
+  @Override
+  public CompletableFuture<Void> closeAsync() {
+    return super.closeAsync()
+        .whenComplete(
+            (ok, error) -> {
+              if (pinnedEvents != null) {
+                pinnedEvents.close();
+              }
+            });
+  }
+
+  private void observePinnedThreads() {
+    final var metrics = new ActorMetrics(true);
+    final var threadNamePrefix = groupName + "-";
+
+    try {
+      pinnedEvents = new RecordingStream();
+      pinnedEvents.enable(PINNED_EVENT).withThreshold(PINNED_THRESHOLD);
+      pinnedEvents.onEvent(
+          PINNED_EVENT,
+          event -> {
+            if (isFromThreadWithPrefix(event, threadNamePrefix)) {
+              metrics.observeVirtualThreadPinned(groupName, event.getDuration());
+            }
+          });
+      pinnedEvents.startAsync();
+    } catch (final Exception e) {
+      Loggers.ACTOR_LOGGER.warn(
+          "Failed to observe pinned virtual threads of actor thread group '{}'; no metrics will be"
+              + " exported for them",
+          groupName,
+          e);
+      if (pinnedEvents != null) {
+        pinnedEvents.close();
+        pinnedEvents = null;
+      }
+    }
+  }
+
+  private static boolean isFromThreadWithPrefix(
+      final RecordedEvent event, final String threadNamePrefix) {
+    final var thread = event.getThread();
+    return thread != null
+        && thread.getJavaName() != null
+        && thread.getJavaName().startsWith(threadNamePrefix);
+  }
+}
@@ -0,0 +1,132 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.scheduler;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import io.camunda.zeebe.scheduler.ActorProfiler.ActorProfile;
+import io.camunda.zeebe.scheduler.future.ActorFuture;
+import java.time.Duration;
+import java.util.UUID;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+final class ActorProfilerTest {
+  private ActorScheduler scheduler;
+
+  @AfterEach
+  void tearDown() throws Exception {
+    if (scheduler != null) {
+      scheduler.close();
+    }
+  }
+
+  @Test
+  void shouldProfileActorsIfMetricsEnabled() {
+    // given
+    scheduler = startScheduler(true);
+    final var actor = new NamedActor();
+    scheduler.submitActor(actor).join();
+
+    // when
+    for (int i = 0; i < 10; i++) {
+      actor.busyCall().join();
+    }
+
+    // then
+    final var profile = findProfile(actor.getName());
+    assertThat(profile.executions()).isPositive();
+    assertThat(profile.executedJobs()).isGreaterThanOrEqualTo(10);
+    assertThat(profile.executionTime()).isPositive();
+  }
+
+  @Test
+  void shouldNotProfileActorsIfMetricsDisabled() {
+    // given
+    scheduler = startScheduler(false);
+    final var actor = new NamedActor();
+    scheduler.submitActor(actor).join();
+
+    // when
+    actor.busyCall().join();
+
+    // then
+    assertThat(ActorProfiler.topActors(Integer.MAX_VALUE, ActorProfile.BY_CPU_TIME))
+        .extracting(ActorProfile::actorName)
+        .doesNotContain(actor.getName());
+  }
+
+  @Test
+  void shouldOrderByGivenOrder() {
+    // given
+    scheduler = startScheduler(true);
+    final var busyActor = new NamedActor();
+    final var idleActor = new NamedActor();
+    scheduler.submitActor(busyActor).join();
+    scheduler.submitActor(idleActor).join();
+
+    // when
+    for (int i = 0; i < 100; i++) {
+      busyActor.busyCall().join();
+    }
+
+    // then
+    final var profiles =
+        ActorProfiler.topActors(Integer.MAX_VALUE, ActorProfile.BY_EXECUTED_JOBS).stream()
+            .map(ActorProfile::actorName)
+            .toList();
+    assertThat(profiles.indexOf(busyActor.getName()))
+        .isNotNegative()
+        .isLessThan(profiles.indexOf(idleActor.getName()));
+  }
+
+  @Test
+  void shouldRejectNegativeLimit() {
+    assertThatThrownBy(() -> ActorProfiler.topActors(-1, ActorProfile.BY_CPU_TIME))
+        .isInstanceOf(IllegalArgumentException.class);
+  }
+
+  private ActorProfile findProfile(final String actorName) {
+    return ActorProfiler.topActors(Integer.MAX_VALUE, ActorProfile.BY_CPU_TIME).stream()
+        .filter(profile -> profile.actorName().equals(actorName))
+        .findFirst()
+        .orElseThrow();
+  }
+
+  private static ActorScheduler startScheduler(final boolean metricsEnabled) {
+    final var scheduler =
+        ActorScheduler.newActorScheduler()
+            .setCpuBoundActorThreadCount(1)
+            .setIoBoundActorThreadCount(1)
+            .setMetricsEnabled(metricsEnabled)
+            .build();
+    scheduler.start();
+    return scheduler;
+  }
+
+  private static final class NamedActor extends Actor {
+    private final String name = "profiled-" + UUID.randomUUID();
+
+    @Override
+    public String getName() {
+      return name;
+    }
+
+    private ActorFuture<Void> busyCall() {
+      return actor.call(
+          () -> {
+            final var deadline = System.nanoTime() + Duration.ofMillis(1).toNanos();
+            while (System.nanoTime() < deadline) {
+              Thread.onSpinWait();
+            }
+            return null;
+          });
+    }
+  }
+}
@@ -0,0 +1,186 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.scheduler;
+
+import io.camunda.zeebe.scheduler.clock.ControlledActorClock;
+import io.camunda.zeebe.test.util.jmh.JMHTestCase;
+import io.camunda.zeebe.test.util.junit.JMHTest;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.agrona.DeadlineTimerWheel;
+import org.agrona.DeadlineTimerWheel.TimerHandler;
+import org.agrona.collections.Long2ObjectHashMap;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compares the {@link ActorTimerQueue} with the single level {@link DeadlineTimerWheel} it
+ * replaced, with 1M active timers due within the next minute. {@code measureScheduleAndCancel}
+ * mimics request timeouts, which are almost always cancelled before they expire; {@code
+ * measureTick} advances the clock by a millisecond, expiring the due timers and scheduling them
+ * again to keep the number of active timers stable.
+ *
+ * <p>The {@link JMHTest} only runs the hierarchical queue; run the benchmark directly via JMH to
+ * compare both.
+ */
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 10, time = 1)
+@Fork(
+    value = 1,
+    jvmArgs = {"-Xmx2g", "-Xms2g"})
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(org.openjdk.jmh.annotations.Scope.Benchmark)
+public class ActorTimerQueuePerformanceTest {
+  private static final int TIMER_COUNT = 1_000_000;
+  private static final long MAX_DELAY_MS = 60_000;
+  private static final long REQUEST_TIMEOUT_MS = 10_000;
+
+  @Param({"hierarchical", "flat"})
+  private String queueType;
+
+  private final ControlledActorClock clock = new ControlledActorClock();
+  private final List<TestTimerSubscription> expired = new ArrayList<>();
+  private final Random random = new Random(1);
+  private TimerQueue queue;
+
+  @Setup
+  public void setup() {
+    clock.setCurrentTime(1_000_000L);
+    clock.update();
+    queue =
+        "hierarchical".equals(queueType)
+            ? new HierarchicalTimerQueue(new ActorTimerQueue(clock))
+            : new FlatTimerQueue(clock);
+
+    for (int i = 0; i < TIMER_COUNT; i++) {
+      final var deadline = clock.getTimeMillis() + 1 + random.nextLong(MAX_DELAY_MS);
+      queue.schedule(new TestTimerSubscription(deadline, expired::add));
+    }
+  }
+
+  @Benchmark
+  public void measureScheduleAndCancel() {
+    final var timer = new TestTimerSubscription(clock.getTimeMillis() + REQUEST_TIMEOUT_MS);
+    queue.schedule(timer);
+    queue.remove(timer);
+  }
+
+  @Benchmark
+  public int measureTick() {
+    clock.addTime(Duration.ofMillis(1));
+    clock.update();
+    queue.processExpired();
+
+    final int expiredCount = expired.size();
+    for (final var timer : expired) {
+      timer.setDeadline(clock.getTimeMillis() + 1 + random.nextLong(MAX_DELAY_MS));
+      queue.schedule(timer);
+    }
+    expired.clear();
+
+    return expiredCount;
+  }
+
+  @JMHTest("measureScheduleAndCancel")
+  void shouldScheduleAndCancelWithinExpectedDeviation(final JMHTestCase testCase) {
+    // given - a conservative lower bound in ops/s; the flat wheel only reaches a fraction of it
+    // when running this test locally, you're likely to have a much higher score
+    final var referenceScore = 1_000_000;
+
+    // when
+    final var assertResult =
+        testCase.withOptions(options -> options.param("queueType", "hierarchical")).run();
+
+    // then
+    assertResult.isAtLeast(referenceScore, 0.25);
+  }
+
+  private interface TimerQueue {
+    void schedule(TimerSubscription timer);
+
+    void remove(TimerSubscription timer);
+
+    void processExpired();
+  }
+
+  private final class HierarchicalTimerQueue implements TimerQueue {
+    private final ActorTimerQueue delegate;
+
+    private HierarchicalTimerQueue(final ActorTimerQueue delegate) {
+      this.delegate = delegate;
+    }
+
+    @Override
+    public void schedule(final TimerSubscription timer) {
+      delegate.schedule(timer, clock);
+    }
+
+    @Override
+    public void remove(final TimerSubscription timer) {
+      delegate.remove(timer);
+    }
+
+    @Override
+    public void processExpired() {
+      delegate.processExpiredTimers(clock);
+    }
+  }
+
+  /** The previous implementation of the {@link ActorTimerQueue}, kept here for comparison. */
+  private static final class FlatTimerQueue implements TimerQueue {
+    private final ControlledActorClock clock;
+    private final DeadlineTimerWheel wheel;
+    private final Long2ObjectHashMap<TimerSubscription> timers = new Long2ObjectHashMap<>();
+    private final TimerHandler handler =
+        (timeUnit, now, timerId) -> {
+          final var timer = timers.remove(timerId);
+          if (timer != null) {
+            timer.onTimerExpired(timeUnit, now);
+          }
+          return true;
+        };
+
+    private FlatTimerQueue(final ControlledActorClock clock) {
+      this.clock = clock;
+      wheel = new DeadlineTimerWheel(TimeUnit.MILLISECONDS, clock.getTimeMillis(), 1, 32);
+    }
+
+    @Override
+    public void schedule(final TimerSubscription timer) {
+      final long timerId = wheel.scheduleTimer(timer.getDeadline(clock));
+      timer.setTimerId(timerId);
+      timers.put(timerId, timer);
+    }
+
+    @Override
+    public void remove(final TimerSubscription timer) {
+      timers.remove(timer.getTimerId());
+      wheel.cancelTimer(timer.getTimerId());
+    }
+
+    @Override
+    public void processExpired() {
+      int timersProcessed;
+      do {
+        timersProcessed = wheel.poll(clock.getTimeMillis(), handler, Integer.MAX_VALUE);
+      } while (timersProcessed > 0);
+    }
+  }
+}
@@ -0,0 +1,210 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.scheduler;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import io.camunda.zeebe.scheduler.clock.ControlledActorClock;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+final class ActorTimerQueueTest {
+  private static final long START = 1_000_000L;
+
+  private final ControlledActorClock clock = new ControlledActorClock();
+  private ActorTimerQueue queue;
+
+  @BeforeEach
+  void setup() {
+    setTime(START);
+    queue = new ActorTimerQueue(clock);
+  }
+
+  @ParameterizedTest
+  @ValueSource(longs = {0, 1, 63, 64, 65, 4_095, 4_096, 300_000, 3_600_000, 2_000_000_000})
+  void shouldExpireTimerExactlyAtDeadline(final long delay) {
+    // given
+    final var timer = schedule(START + delay);
+
+    // when
+    if (delay > 0) {
+      advanceTo(START + delay - 1);
+    }
+    final var expiredBeforeDeadline = timer.isExpired();
+    advanceTo(START + delay);
+
+    // then
+    assertThat(expiredBeforeDeadline).isFalse();
+    assertThat(timer.expiredCount()).isOne();
+    assertThat(timer.expiredAt()).isEqualTo(START + delay);
+    assertThat(queue.size()).isZero();
+  }
+
+  @Test
+  void shouldExpireTimerWhenClockIsAdvancedTickByTick() {
+    // given
+    final var timer = schedule(START + 5_000);
+
+    // when
+    for (long time = START; time < START + 5_000; time++) {
+      advanceTo(time);
+    }
+    final var expiredBeforeDeadline = timer.isExpired();
+    advanceTo(START + 5_000);
+
+    // then
+    assertThat(expiredBeforeDeadline).isFalse();
+    assertThat(timer.expiredAt()).isEqualTo(START + 5_000);
+  }
+
+  @Test
+  void shouldNotExpireRemovedTimer() {
+    // given
+    final var removed = schedule(START + 100);
+    final var kept = schedule(START + 100);
+
+    // when
+    queue.remove(removed);
+    advanceTo(START + 100);
+
+    // then
+    assertThat(removed.isExpired()).isFalse();
+    assertThat(kept.isExpired()).isTrue();
+    assertThat(queue.size()).isZero();
+  }
+
+  @Test
+  void shouldIgnoreRemovalOfExpiredTimer() {
+    // given
+    final var expired = schedule(START + 10);
+    advanceTo(START + 10);
+    final var other = schedule(START + 20);
+
+    // when
+    queue.remove(expired);
+    advanceTo(START + 20);
+
+    // then
+    assertThat(other.isExpired()).isTrue();
+  }
+
+  @Test
+  void shouldExpireDueTimerEvenIfClockDidNotMove() {
+    // given
+    advanceTo(START + 1_000);
+
+    // when
+    final var pastTimer = schedule(START);
+    final var dueTimer = schedule(START + 1_000);
+    queue.processExpiredTimers(clock);
+
+    // then
+    assertThat(pastTimer.expiredCount()).isOne();
+    assertThat(dueTimer.expiredCount()).isOne();
+  }
+
+  @Test
+  void shouldExpireAllDueTimersAfterClockJump() {
+    // given
+    final var random = new Random(42);
+    final var timers = new ArrayList<TestTimerSubscription>();
+    for (int i = 0; i < 10_000; i++) {
+      timers.add(schedule(START + random.nextLong(Duration.ofDays(30).toMillis())));
+    }
+
+    // when
+    setTime(START + Duration.ofDays(30).toMillis());
+    queue.processExpiredTimers(clock);
+
+    // then
+    assertThat(timers).allMatch(timer -> timer.expiredCount() == 1);
+    assertThat(queue.size()).isZero();
+  }
+
+  @Test
+  void shouldNeverExpireTimersEarlyOrLate() {
+    // given
+    final var random = new Random(7);
+    final List<TestTimerSubscription> active = new ArrayList<>();
+    final List<TestTimerSubscription> removed = new ArrayList<>();
+    long time = START;
+
+    // when
+    for (int round = 0; round < 2_000; round++) {
+      for (int i = 0; i < 5; i++) {
+        final long delay =
+            switch (random.nextInt(3)) {
+              case 0 -> random.nextLong(100);
+              case 1 -> random.nextLong(100_000);
+              default -> random.nextLong(Duration.ofDays(20).toMillis());
+            };
+        active.add(schedule(time + delay));
+      }
+
+      if (!active.isEmpty() && random.nextBoolean()) {
+        final var timer = active.remove(random.nextInt(active.size()));
+        if (!timer.isExpired()) {
+          queue.remove(timer);
+          removed.add(timer);
+        }
+      }
+
+      time += random.nextInt(10) == 0 ? random.nextLong(Duration.ofDays(1).toMillis()) : 1;
+      advanceTo(time);
+
+      // then
+      final var iterator = active.iterator();
+      while (iterator.hasNext()) {
+        final var timer = iterator.next();
+        final var expectedCount = timer.deadline() <= time ? 1 : 0;
+        if (timer.expiredCount() != expectedCount) {
+          throw new AssertionError(
+              "Expected timer due at %d to have expired %d times at %d, but expired %d times"
+                  .formatted(timer.deadline(), expectedCount, time, timer.expiredCount()));
+        }
+        if (expectedCount == 1) {
+          iterator.remove();
+        }
+      }
+    }
+
+    assertThat(removed).noneMatch(TestTimerSubscription::isExpired);
+    assertThat(queue.size()).isEqualTo(active.size());
+  }
+
+  @Test
+  void shouldRejectInvalidSlotsPerLevel() {
+    assertThatThrownBy(() -> new ActorTimerQueue(clock, 1))
+        .isInstanceOf(IllegalArgumentException.class);
+    assertThatThrownBy(() -> new ActorTimerQueue(clock, 48))
+        .isInstanceOf(IllegalArgumentException.class);
+  }
+
+  private TestTimerSubscription schedule(final long deadline) {
+    final var timer = new TestTimerSubscription(deadline);
+    queue.schedule(timer, clock);
+    return timer;
+  }
+
+  private void advanceTo(final long time) {
+    setTime(time);
+    queue.processExpiredTimers(clock);
+  }
+
+  private void setTime(final long time) {
+    clock.setCurrentTime(time);
+    clock.update();
+  }
+}
@@ -0,0 +1,104 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.scheduler;
+
+import io.camunda.zeebe.scheduler.clock.ActorClock;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+/** A timer which only records when it expired, without any actor. */
+final class TestTimerSubscription implements TimerSubscription {
+  private final Consumer<TestTimerSubscription> onExpired;
+  private long deadline;
+  private long timerId = -1;
+  private long expiredAt = -1;
+  private int expiredCount;
+
+  TestTimerSubscription(final long deadline) {
+    this(deadline, timer -> {});
+  }
+
+  TestTimerSubscription(final long deadline, final Consumer<TestTimerSubscription> onExpired) {
+    this.deadline = deadline;
+    this.onExpired = onExpired;
+  }
+
+  long deadline() {
+    return deadline;
+  }
+
+  void setDeadline(final long deadline) {
+    this.deadline = deadline;
+  }
+
+  long expiredAt() {
+    return expiredAt;
+  }
+
+  int expiredCount() {
+    return expiredCount;
+  }
+
+  boolean isExpired() {
+    return expiredCount > 0;
+  }
+
+  @Override
+  public boolean poll() {
+    return isExpired();
+  }
+
+  @Override
+  public ActorJob getJob() {
+    return null;
+  }
+
+  @Override
+  public boolean isRecurring() {
+    return false;
+  }
+
+  @Override
+  public void onJobCompleted() {}
+
+  @Override
+  public void cancel() {}
+
+  @Override
+  public long getTimerId() {
+    return timerId;
+  }
+
+  @Override
+  public void setTimerId(final long timerId) {
+    this.timerId = timerId;
+  }
+
+  @Override
+  public void submit() {}
+
+  @Override
+  public long getDeadline(final ActorClock now) {
+    return deadline;
+  }
+
+  @Override
+  public void onTimerExpired(final TimeUnit timeUnit, final long now) {
+    expiredAt = timeUnit.toMillis(now);
+    expiredCount++;
+    onExpired.accept(this);
+  }
+
+  @Override
+  public void run() {}
+
+  @Override
+  public long getTimerExpiredAt() {
+    return expiredAt;
+  }
+}
@@ -0,0 +1,126 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.scheduler.blocking;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.camunda.zeebe.scheduler.Actor;
+import io.camunda.zeebe.scheduler.ActorScheduler;
+import io.camunda.zeebe.scheduler.ActorThread;
+import io.camunda.zeebe.scheduler.ActorThreadGroup;
+import io.camunda.zeebe.scheduler.CpuThreadGroup;
+import io.camunda.zeebe.scheduler.IoThreadGroup;
+import io.camunda.zeebe.scheduler.SchedulingHints;
+import io.camunda.zeebe.scheduler.VirtualThreadGroup;
+import java.util.concurrent.Callable;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+final class BlockingActorsIntegrationTest {
+  private ActorScheduler scheduler;
+
+  @AfterEach
+  void tearDown() throws Exception {
+    if (scheduler != null) {
+      scheduler.close();
+    }
+  }
+
+  @Test
+  void shouldRunBlockingActorOnVirtualThread() {
+    // given
+    scheduler = startScheduler(2);
+    final var threadGroup = new AtomicReference<ActorThreadGroup>();
+    final var isVirtual = new AtomicBoolean();
+    final Actor actor =
+        new Actor() {
+          @Override
+          protected void onActorStarting() {
+            threadGroup.set(ActorThread.current().getActorThreadGroup());
+            isVirtual.set(Thread.currentThread().isVirtual());
+          }
+        };
+
+    // when
+    scheduler.submitActor(actor, SchedulingHints.blocking()).join();
+
+    // then
+    assertThat(threadGroup.get()).isInstanceOf(VirtualThreadGroup.class);
+    assertThat(isVirtual).isTrue();
+  }
+
+  @Test
+  void shouldRunBlockingActorOnIoBoundThreadsIfNoVirtualThreads() {
+    // given
+    scheduler = startScheduler(0);
+    final var threadGroup = new AtomicReference<ActorThreadGroup>();
+    final Actor actor =
+        new Actor() {
+          @Override
+          protected void onActorStarting() {
+            threadGroup.set(ActorThread.current().getActorThreadGroup());
+          }
+        };
+
+    // when
+    scheduler.submitActor(actor, SchedulingHints.blocking()).join();
+
+    // then
+    assertThat(threadGroup.get()).isInstanceOf(IoThreadGroup.class);
+  }
+
+  @Test
+  void shouldReturnToVirtualThreadWhenInteractingWithCpuBound() {
+    // given
+    scheduler = startScheduler(2);
+    final var isOnWrongThreadGroup = new AtomicBoolean();
+    final var callableActor = new Actor() {};
+    final Callable<Void> checkThreadGroup =
+        () -> {
+          if (!(ActorThread.current().getActorThreadGroup() instanceof CpuThreadGroup)) {
+            isOnWrongThreadGroup.set(true);
+          }
+          return null;
+        };
+    final Actor blockingActor =
+        new Actor() {
+          @Override
+          protected void onActorStarting() {
+            for (int i = 0; i < 1_000; i++) {
+              actor.runOnCompletion(callableActor.call(checkThreadGroup), this::callback);
+            }
+          }
+
+          private void callback(final Void ignored, final Throwable error) {
+            if (!(ActorThread.current().getActorThreadGroup() instanceof VirtualThreadGroup)) {
+              isOnWrongThreadGroup.set(true);
+            }
+          }
+        };
+
+    // when
+    scheduler.submitActor(callableActor).join();
+    scheduler.submitActor(blockingActor, SchedulingHints.blocking()).join();
+
+    // then
+    assertThat(isOnWrongThreadGroup).isFalse();
+  }
+
+  private static ActorScheduler startScheduler(final int virtualThreads) {
+    final var scheduler =
+        ActorScheduler.newActorScheduler()
+            .setCpuBoundActorThreadCount(1)
+            .setIoBoundActorThreadCount(1)
+            .setVirtualActorThreadCount(virtualThreads)
+            .build();
+    scheduler.start();
+    return scheduler;
+  }
+}
@@ -8,6 +8,7 @@
 package io.camunda.zeebe.snapshots;
 
 import io.camunda.zeebe.scheduler.future.ActorFuture;
+import java.util.Map;
 
 /**
  * A received volatile snapshot, which consist of several {@link SnapshotChunk}'s. It can be
@@ -30,4 +31,14 @@ public interface ReceivedSnapshot extends PersistableSnapshot {
    * @param chunk the {@link SnapshotChunk} which should be applied
    */
   ActorFuture<Void> apply(SnapshotChunk chunk);
+
+  /**
+   * Takes over the given files from the latest persisted snapshot, instead of receiving them as
+   * chunks. Files which were already applied or taken over are ignored, such that this can be
+   * called repeatedly with the same files. In case the latest snapshot does not contain a file with
+   * the expected checksum, the future will be completed with a SnapshotWriteException.
+   *
+   * @param checksums the expected checksums of the files to take over, by file name
+   */
+  ActorFuture<Void> reuse(Map<String, Long> checksums);
 }
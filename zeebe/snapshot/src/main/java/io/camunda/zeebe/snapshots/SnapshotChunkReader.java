@@ -10,6 +10,7 @@ package io.camunda.zeebe.snapshots;
 import io.camunda.zeebe.util.CloseableSilently;
 import java.nio.ByteBuffer;
 import java.util.Iterator;
+import java.util.Set;
 
 /**
  * Represents a snapshot chunk reader, which means it is used to chunk an {@link PersistedSnapshot}
@@ -41,4 +42,17 @@ public interface SnapshotChunkReader extends Iterator<SnapshotChunk>, CloseableS
    * @param maximumChunkSize
    */
   void setMaximumChunkSize(final int maximumChunkSize);
+
+  /**
+   * Excludes the chunks with the given names from the chunks which are still to be read, e.g.
+   * because the receiver already has them. A partially read chunk and the last chunk are never
+   * excluded, such that the receiver always gets a final chunk. The total count of the chunks read
+   * afterwards does not change, since the receiver is expected to obtain the excluded ones itself.
+   *
+   * @param chunkNames the names of the chunks to exclude
+   * @return the names of the chunks which were excluded
+   */
+  default Set<String> exclude(final Set<String> chunkNames) {
+    return Set.of();
+  }
 }
@@ -18,9 +18,12 @@ import io.camunda.zeebe.util.FileUtil;
 import java.io.IOException;
 import java.nio.ByteBuffer;
 import java.nio.channels.FileChannel;
+import java.nio.file.Files;
 import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
 import java.nio.file.StandardOpenOption;
 import java.util.Arrays;
+import java.util.Map;
 import java.util.Objects;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -68,6 +71,91 @@ public class FileBasedReceivedSnapshot implements ReceivedSnapshot {
         });
   }
 
+  @Override
+  public ActorFuture<Void> reuse(final Map<String, Long> checksums) {
+    return actor.call(
+        () -> {
+          reuseInternal(checksums);
+          return null;
+        });
+  }
+
+  private void reuseInternal(final Map<String, Long> checksums) throws SnapshotWriteException {
+    if (snapshotStore.hasSnapshotId(snapshotId.getSnapshotIdAsString())) {
+      LOGGER.debug("Ignore reused files, because snapshot {} already exists.", snapshotId);
+      return;
+    }
+
+    final var latestSnapshot =
+        snapshotStore
+            .getLatestSnapshot()
+            .orElseThrow(
+                () ->
+                    new SnapshotWriteException(
+                        String.format(
+                            "Expected to reuse %d files for snapshot %s, but there is no snapshot to reuse them from",
+                            checksums.size(), snapshotId)));
+    final var latestChecksums = latestSnapshot.getChecksums().getChecksums();
+
+    try {
+      FileUtil.ensureDirectoryExists(directory);
+    } catch (final IOException e) {
+      throw new SnapshotWriteException(
+          String.format("Failed to ensure that directory %s exists.", directory), e);
+    }
+
+    for (final var entry : checksums.entrySet()) {
+      final var fileName = entry.getKey();
+      final var snapshotFile = directory.resolve(fileName);
+      if (Files.exists(snapshotFile)) {
+        continue;
+      }
+
+      final var expectedChecksum = entry.getValue();
+      final var actualChecksum = latestChecksums.get(fileName);
+      if (!expectedChecksum.equals(actualChecksum)) {
+        throw new SnapshotWriteException(
+            String.format(
+                "Expected to reuse file %s with checksum %d from snapshot %s, but it has checksum %d",
+                fileName, expectedChecksum, latestSnapshot.getId(), actualChecksum));
+      }
+
+      final var sourceFile = latestSnapshot.getPath().resolve(fileName);
+      linkOrCopyFile(sourceFile, snapshotFile);
+
+      if (checksumCollection == null) {
+        checksumCollection = new SfvChecksumImpl();
+      }
+      checksumCollection.updateFromChecksum(snapshotFile, expectedChecksum);
+
+      if (fileName.equals(FileBasedSnapshotStoreImpl.METADATA_FILE_NAME)) {
+        try {
+          metadata = FileBasedSnapshotMetadata.decode(Files.readAllBytes(snapshotFile));
+        } catch (final IOException e) {
+          throw new SnapshotWriteException("Cannot decode snapshot metadata");
+        }
+      }
+    }
+  }
+
+  private void linkOrCopyFile(final Path sourceFile, final Path targetFile)
+      throws SnapshotWriteException {
+    try {
+      // files of a persisted snapshot are immutable, so linking them is safe
+      Files.createLink(targetFile, sourceFile);
+      LOGGER.trace("Linked reused snapshot file {} to {}", sourceFile, targetFile);
+    } catch (final UnsupportedOperationException | IOException linkError) {
+      try {
+        Files.copy(sourceFile, targetFile, StandardCopyOption.COPY_ATTRIBUTES);
+        LOGGER.trace("Copied reused snapshot file {} to {}", sourceFile, targetFile);
+      } catch (final IOException e) {
+        e.addSuppressed(linkError);
+        throw new SnapshotWriteException(
+            String.format("Failed to reuse snapshot file %s", sourceFile), e);
+      }
+    }
+  }
+
   private void applyInternal(final SnapshotChunk snapshotChunk) throws SnapshotWriteException {
     checkSnapshotIdIsValid(snapshotChunk.getSnapshotId());
 
@@ -15,7 +15,9 @@ import java.io.UncheckedIOException;
 import java.nio.ByteBuffer;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.HashSet;
 import java.util.NavigableSet;
+import java.util.Set;
 import java.util.TreeSet;
 
 /**
@@ -89,6 +91,24 @@ public final class FileBasedSnapshotChunkReader implements SnapshotChunkReader {
     this.maximumChunkSize = maximumChunkSize;
   }
 
+  @Override
+  public Set<String> exclude(final Set<String> chunkNames) {
+    final var lastChunk = chunks.isEmpty() ? null : chunks.last().toString();
+    final var partiallyReadChunk =
+        offset > 0 && !chunksView.isEmpty() ? chunksView.first().toString() : null;
+
+    final Set<String> excluded = new HashSet<>();
+    for (final var chunkName : chunkNames) {
+      if (!chunkName.equals(lastChunk)
+          && !chunkName.equals(partiallyReadChunk)
+          && chunks.remove(chunkName)) {
+        chunksView.remove(chunkName);
+        excluded.add(chunkName);
+      }
+    }
+    return excluded;
+  }
+
   @Override
   public void close() {
     chunks.clear();
@@ -26,6 +26,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.NoSuchElementException;
+import java.util.Set;
 import java.util.stream.Collectors;
 import java.util.stream.LongStream;
 import org.junit.Rule;
@@ -332,6 +333,88 @@ public final class FileBasedSnapshotChunkReaderTest {
     assertThat(chunkFromFirstSeek.getChecksum()).isEqualTo(chunkFromSecondSeek.getChecksum());
   }
 
+  @Test
+  public void shouldExcludeChunks() throws IOException {
+    // given
+    final var snapshotChunkReader = newReader();
+    snapshotChunkReader.next();
+
+    // when
+    final var excluded = snapshotChunkReader.exclude(Set.of("file2"));
+
+    // then
+    assertThat(excluded).containsExactly("file2");
+    assertThat(snapshotChunkReader.nextId()).isEqualTo(asByteBuffer("file3__0"));
+    final var snapshotChunks = getAllChunks(snapshotChunkReader);
+    assertThat(snapshotChunks).extracting(SnapshotChunk::getChunkName).containsExactly("file3");
+    assertThat(snapshotChunks)
+        .extracting(SnapshotChunk::getTotalCount)
+        .containsExactly(SNAPSHOT_CHUNK.size());
+  }
+
+  @Test
+  public void shouldNotExcludeLastChunk() throws IOException {
+    // given
+    final var snapshotChunkReader = newReader();
+    snapshotChunkReader.next();
+
+    // when
+    final var excluded = snapshotChunkReader.exclude(Set.of("file2", "file3"));
+
+    // then
+    assertThat(excluded).containsExactly("file2");
+    assertThat(getAllChunks(snapshotChunkReader))
+        .extracting(SnapshotChunk::getChunkName)
+        .containsExactly("file3");
+  }
+
+  @Test
+  public void shouldNotExcludePartiallyReadChunk() throws IOException {
+    // given
+    final var snapshotChunkReader = newReader(3);
+    snapshotChunkReader.next();
+
+    // when
+    final var excluded = snapshotChunkReader.exclude(Set.of("file1", "file2"));
+
+    // then
+    assertThat(excluded).containsExactly("file2");
+    assertThat(getAllChunks(snapshotChunkReader))
+        .extracting(SnapshotChunk::getChunkName)
+        .containsExactly("file1", "file3", "file3", "file3");
+  }
+
+  @Test
+  public void shouldSeekPastExcludedChunks() throws IOException {
+    // given
+    final var snapshotChunkReader = newReader();
+    snapshotChunkReader.next();
+    snapshotChunkReader.exclude(Set.of("file2"));
+
+    // when
+    snapshotChunkReader.seek(asByteBuffer("file2__0"));
+
+    // then
+    assertThat(getAllChunks(snapshotChunkReader))
+        .extracting(SnapshotChunk::getChunkName)
+        .containsExactly("file3");
+  }
+
+  @Test
+  public void shouldKeepExcludedChunksOnReset() throws IOException {
+    // given
+    final var snapshotChunkReader = newReader();
+    snapshotChunkReader.exclude(Set.of("file2"));
+
+    // when
+    snapshotChunkReader.reset();
+
+    // then
+    assertThat(getAllChunks(snapshotChunkReader))
+        .extracting(SnapshotChunk::getChunkName)
+        .containsExactly("file1", "file3");
+  }
+
   private List<SnapshotChunk> getAllChunks(final FileBasedSnapshotChunkReader reader) {
     final var snapshotChunks = new ArrayList<SnapshotChunk>();
 
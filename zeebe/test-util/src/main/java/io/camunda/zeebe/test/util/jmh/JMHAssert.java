@@ -83,4 +83,57 @@ public final class JMHAssert extends AbstractAssert<JMHAssert, RunResult> {
 
     return myself;
   }
+
+  /**
+   * Asserts that the result of this benchmark is at least the score of the given reference
+   * benchmark, e.g. a baseline variant of the same benchmark run in the same environment. Useful
+   * to verify an optimization without relying on absolute scores, which depend on the machine.
+   *
+   * @param reference the assertions on the results of the reference benchmark
+   * @param maxDeviation the maximum allowed deviation used to compute a real minimum score
+   * @return itself for chaining
+   */
+  @SuppressWarnings("UnusedReturnValue")
+  public JMHAssert isAtLeast(final JMHAssert reference, final double maxDeviation) {
+    return isAtLeast(reference.actual.getPrimaryResult().getScore(), maxDeviation);
+  }
+
+  /**
+   * Asserts that the result of this benchmark is at most the expected reference score, e.g. for
+   * benchmarks which measure the average time of an operation.
+   *
+   * @param referenceScore the expected reference score
+   * @param maxDeviation the maximum allowed deviation used to compute a real maximum score
+   * @return itself for chaining
+   */
+  @SuppressWarnings("UnusedReturnValue")
+  public JMHAssert isAtMost(final double referenceScore, final double maxDeviation) {
+    final double score = actual.getPrimaryResult().getScore();
+    final double maximumScore = referenceScore + referenceScore * maxDeviation;
+
+    if (score > maximumScore) {
+      throwAssertionError(
+          new BasicErrorMessageFactory(
+              "Expected reference score to be at most %s (with %s max deviation, i.e. %s), but got %s",
+              DECIMAL_FORMAT.format(referenceScore),
+              DECIMAL_FORMAT.format(maxDeviation * 100) + "%",
+              DECIMAL_FORMAT.format(maximumScore),
+              DECIMAL_FORMAT.format(score)));
+    }
+
+    return myself;
+  }
+
+  /**
+   * Asserts that the result of this benchmark is at most the score of the given reference
+   * benchmark. See {@link #isAtLeast(JMHAssert, double)}.
+   *
+   * @param reference the assertions on the results of the reference benchmark
+   * @param maxDeviation the maximum allowed deviation used to compute a real maximum score
+   * @return itself for chaining
+   */
+  @SuppressWarnings("UnusedReturnValue")
+  public JMHAssert isAtMost(final JMHAssert reference, final double maxDeviation) {
+    return isAtMost(reference.actual.getPrimaryResult().getScore(), maxDeviation);
+  }
 }
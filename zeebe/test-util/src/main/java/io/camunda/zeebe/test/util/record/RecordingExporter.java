@@ -29,6 +29,7 @@ import io.camunda.zeebe.protocol.record.intent.MessageCorrelationIntent;
 import io.camunda.zeebe.protocol.record.intent.MessageIntent;
 import io.camunda.zeebe.protocol.record.intent.MessageStartEventSubscriptionIntent;
 import io.camunda.zeebe.protocol.record.intent.MessageSubscriptionIntent;
+import io.camunda.zeebe.protocol.record.intent.ProcessInstanceCreationBatchIntent;
 import io.camunda.zeebe.protocol.record.intent.ProcessInstanceIntent;
 import io.camunda.zeebe.protocol.record.intent.ProcessInstanceMigrationIntent;
 import io.camunda.zeebe.protocol.record.intent.ProcessInstanceModificationIntent;
@@ -66,6 +67,7 @@ import io.camunda.zeebe.protocol.record.value.MessageRecordValue;
 import io.camunda.zeebe.protocol.record.value.MessageStartEventSubscriptionRecordValue;
 import io.camunda.zeebe.protocol.record.value.MessageSubscriptionRecordValue;
 import io.camunda.zeebe.protocol.record.value.ProcessInstanceBatchRecordValue;
+import io.camunda.zeebe.protocol.record.value.ProcessInstanceCreationBatchRecordValue;
 import io.camunda.zeebe.protocol.record.value.ProcessInstanceCreationRecordValue;
 import io.camunda.zeebe.protocol.record.value.ProcessInstanceMigrationRecordValue;
 import io.camunda.zeebe.protocol.record.value.ProcessInstanceModificationRecordValue;
@@ -364,6 +366,18 @@ public final class RecordingExporter implements Exporter {
         records(ValueType.PROCESS_INSTANCE_CREATION, ProcessInstanceCreationRecordValue.class));
   }
 
+  public static ProcessInstanceCreationBatchRecordStream processInstanceCreationBatchRecords() {
+    return new ProcessInstanceCreationBatchRecordStream(
+        records(
+            ValueType.PROCESS_INSTANCE_CREATION_BATCH,
+            ProcessInstanceCreationBatchRecordValue.class));
+  }
+
+  public static ProcessInstanceCreationBatchRecordStream processInstanceCreationBatchRecords(
+      final ProcessInstanceCreationBatchIntent intent) {
+    return processInstanceCreationBatchRecords().withIntent(intent);
+  }
+
   public static ProcessInstanceModificationRecordStream processInstanceModificationRecords() {
     return new ProcessInstanceModificationRecordStream(
         records(
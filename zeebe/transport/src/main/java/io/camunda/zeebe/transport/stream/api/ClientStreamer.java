@@ -38,6 +38,32 @@ public interface ClientStreamer<M extends BufferWriter> extends CloseableSilentl
       final M metadata,
       final ClientStreamConsumer clientStreamConsumer);
 
+  /**
+   * Like {@link #add(DirectBuffer, BufferWriter, ClientStreamConsumer)}, but grants each server
+   * only the given amount of credits: a server pushes at most that many payloads to the stream
+   * which the consumer did not complete yet, and routes further payloads to other streams, or keeps
+   * them until the stream completes some. Servers may also batch multiple payloads up to this
+   * limit into a single request.
+   *
+   * <p>Streams which are aggregated together on the server side grant the sum of their credits.
+   *
+   * <p>The default implementation does not limit the stream.
+   *
+   * @param streamType type of the stream
+   * @param metadata metadata associated with the stream
+   * @param clientStreamConsumer consumer which process data received from the server
+   * @param credits how many payloads each server may push before the consumer completes them; must
+   *     be greater than 0
+   * @return a unique id of the stream
+   */
+  default ActorFuture<ClientStreamId> add(
+      final DirectBuffer streamType,
+      final M metadata,
+      final ClientStreamConsumer clientStreamConsumer,
+      final int credits) {
+    return add(streamType, metadata, clientStreamConsumer);
+  }
+
   /**
    * Removes a stream that is added via {@link ClientStreamer#add(DirectBuffer, BufferWriter,
    * ClientStreamConsumer)}. After the returned future is completed, the {@link
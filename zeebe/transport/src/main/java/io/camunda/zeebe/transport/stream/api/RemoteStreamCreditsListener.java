@@ -0,0 +1,33 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.transport.stream.api;
+
+import org.agrona.DirectBuffer;
+
+/**
+ * Allows consumers of this API to be notified when streams which ran out of credits can take
+ * payloads again. As long as all streams of a type are out of credits, {@link
+ * RemoteStreamer#streamFor(DirectBuffer)} returns none, and producers are expected to hold on to
+ * their payloads; this listener tells them when to offer them again.
+ */
+@FunctionalInterface
+public interface RemoteStreamCreditsListener {
+
+  static RemoteStreamCreditsListener noop() {
+    return streamType -> {};
+  }
+
+  /**
+   * This method is called when a stream consumer, for which a payload could not be pushed because
+   * it had no credits left, has credits available again. It is called at most once each time a
+   * producer was turned away, and may be called from any thread.
+   *
+   * @param streamType the type of the stream which can take payloads again
+   */
+  void onCreditsAvailable(final DirectBuffer streamType);
+}
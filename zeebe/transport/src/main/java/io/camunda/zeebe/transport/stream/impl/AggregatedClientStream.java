@@ -9,6 +9,7 @@ package io.camunda.zeebe.transport.stream.impl;
 
 import io.atomix.cluster.MemberId;
 import io.camunda.zeebe.transport.stream.api.ClientStreamMetrics;
+import io.camunda.zeebe.transport.stream.impl.messages.AddStreamRequest;
 import io.camunda.zeebe.util.buffer.BufferWriter;
 import java.util.Collection;
 import java.util.HashSet;
@@ -106,6 +107,23 @@ final class AggregatedClientStream<M extends BufferWriter> {
     return clientStreams.isEmpty();
   }
 
+  /**
+   * Returns the credits granted by all client streams together, or {@link
+   * AddStreamRequest#UNLIMITED_CREDITS} if any of them is not limited.
+   */
+  int credits() {
+    long credits = 0;
+    for (final var clientStream : clientStreams.values()) {
+      if (clientStream.credits() == AddStreamRequest.UNLIMITED_CREDITS) {
+        return AddStreamRequest.UNLIMITED_CREDITS;
+      }
+
+      credits += clientStream.credits();
+    }
+
+    return (int) Math.min(credits, Integer.MAX_VALUE);
+  }
+
   LogicalId<M> logicalId() {
     return logicalId;
   }
@@ -11,6 +11,7 @@ import io.atomix.cluster.MemberId;
 import io.camunda.zeebe.transport.stream.api.RemoteStreamInfo;
 import java.util.Collection;
 import java.util.List;
+import java.util.Objects;
 import java.util.UUID;
 import java.util.stream.Collectors;
 import org.agrona.DirectBuffer;
@@ -36,6 +37,27 @@ record AggregatedRemoteStream<M>(LogicalId<M> logicalId, List<StreamConsumer<M>>
     return streamConsumers.stream().map(StreamConsumer::id).collect(Collectors.toSet());
   }
 
+  /**
+   * Returns how many more payloads may be pushed to all consumers together right now; see {@link
+   * StreamCredits#remaining()}.
+   */
+  int remainingCredits() {
+    long remaining = 0;
+    for (final var consumer : streamConsumers) {
+      remaining += consumer.credits().remaining();
+    }
+
+    return (int) Math.min(remaining, Integer.MAX_VALUE);
+  }
+
+  /**
+   * Marks all consumers as starved, as a payload could not be pushed to any of them; see {@link
+   * StreamCredits#markStarved()}.
+   */
+  void markStarved() {
+    streamConsumers.forEach(consumer -> consumer.credits().markStarved());
+  }
+
   @Override
   public DirectBuffer streamType() {
     return logicalId().streamType();
@@ -49,11 +71,39 @@ record AggregatedRemoteStream<M>(LogicalId<M> logicalId, List<StreamConsumer<M>>
   /**
    * A stream consumer uniquely identified by the id, with its properties and streamType.
    *
+   * <p>The credits are the mutable flow control state of the consumer, and as such are not part of
+   * its identity.
+   *
    * @param id unique id
    * @param logicalId logical id
+   * @param credits the credits granted by the consumer
    * @param <M> type of the properties
    */
-  record StreamConsumer<M>(StreamId id, LogicalId<M> logicalId) {}
+  record StreamConsumer<M>(StreamId id, LogicalId<M> logicalId, StreamCredits credits) {
+
+    StreamConsumer(final StreamId id, final LogicalId<M> logicalId) {
+      this(id, logicalId, StreamCredits.unlimited());
+    }
+
+    @Override
+    public boolean equals(final Object o) {
+      if (this == o) {
+        return true;
+      }
+
+      if (o == null || getClass() != o.getClass()) {
+        return false;
+      }
+
+      final StreamConsumer<?> that = (StreamConsumer<?>) o;
+      return id.equals(that.id) && logicalId.equals(that.logicalId);
+    }
+
+    @Override
+    public int hashCode() {
+      return Objects.hash(id, logicalId);
+    }
+  }
 
   /**
    * Uniquely identifies a stream
@@ -11,12 +11,15 @@ import io.atomix.cluster.MemberId;
 import io.camunda.zeebe.scheduler.future.ActorFuture;
 import io.camunda.zeebe.scheduler.future.CompletableActorFuture;
 import io.camunda.zeebe.transport.stream.impl.messages.ErrorResponse;
+import io.camunda.zeebe.transport.stream.impl.messages.PushStreamBatchRequest;
+import io.camunda.zeebe.transport.stream.impl.messages.PushStreamBatchResponse;
 import io.camunda.zeebe.transport.stream.impl.messages.PushStreamRequest;
 import io.camunda.zeebe.transport.stream.impl.messages.PushStreamResponse;
 import io.camunda.zeebe.transport.stream.impl.messages.StreamResponse;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.Executor;
 import org.agrona.collections.ArrayUtil;
+import org.agrona.collections.MutableInteger;
 
 final class ClientStreamApiHandler {
   private final ClientStreamManager<?> clientStreamManager;
@@ -38,6 +41,45 @@ final class ClientStreamApiHandler {
     return responseFuture;
   }
 
+  /**
+   * Forwards each payload of the batch independently, in order, and responds once all of them were
+   * handled. The response lists the payloads which failed, and the credits currently granted by
+   * the stream, which may have changed since it was added, e.g. when more clients were aggregated
+   * into it.
+   */
+  CompletableFuture<StreamResponse> handlePushBatchRequest(final PushStreamBatchRequest request) {
+    final CompletableFuture<StreamResponse> responseFuture = new CompletableFuture<>();
+    final var payloads = request.payloads();
+    final var response = new PushStreamBatchResponse();
+    final var pending = new MutableInteger(payloads.size());
+
+    if (payloads.isEmpty()) {
+      responseFuture.complete(response.credits(clientStreamManager.creditsFor(request.streamId())));
+      return responseFuture;
+    }
+
+    for (int i = 0; i < payloads.size(); i++) {
+      final var index = i;
+      final ActorFuture<Void> payloadPushed = new CompletableActorFuture<>();
+      clientStreamManager.onPayloadReceived(request.streamId(), payloads.get(i), payloadPushed);
+      payloadPushed.onComplete(
+          (ok, error) -> {
+            if (error != null) {
+              response.addFailure(
+                  index, ErrorResponse.mapErrorToCode(error), String.valueOf(error.getMessage()));
+            }
+
+            if (pending.decrementAndGet() == 0) {
+              response.credits(clientStreamManager.creditsFor(request.streamId()));
+              responseFuture.complete(response);
+            }
+          },
+          executor);
+    }
+
+    return responseFuture;
+  }
+
   byte[] handleRestartRequest(final MemberId sender, final byte[] ignored) {
     clientStreamManager.onServerRemoved(MemberId.from(sender.id()));
     clientStreamManager.onServerJoined(MemberId.from(sender.id()));
@@ -10,19 +10,39 @@ package io.camunda.zeebe.transport.stream.impl;
 import io.atomix.cluster.MemberId;
 import io.camunda.zeebe.transport.stream.api.ClientStream;
 import io.camunda.zeebe.transport.stream.api.ClientStreamConsumer;
+import io.camunda.zeebe.transport.stream.impl.messages.AddStreamRequest;
 import io.camunda.zeebe.util.buffer.BufferWriter;
 import java.util.Set;
 import org.agrona.DirectBuffer;
 
-/** Represents a registered client stream. * */
+/**
+ * Represents a registered client stream. A stream with {@link AddStreamRequest#UNLIMITED_CREDITS}
+ * does not limit how many payloads are pushed to it.
+ */
 record ClientStreamImpl<M extends BufferWriter>(
     ClientStreamIdImpl streamId,
     AggregatedClientStream<M> serverStream,
     DirectBuffer streamType,
     M metadata,
-    ClientStreamConsumer clientStreamConsumer)
+    ClientStreamConsumer clientStreamConsumer,
+    int credits)
     implements ClientStream<M> {
 
+  ClientStreamImpl(
+      final ClientStreamIdImpl streamId,
+      final AggregatedClientStream<M> serverStream,
+      final DirectBuffer streamType,
+      final M metadata,
+      final ClientStreamConsumer clientStreamConsumer) {
+    this(
+        streamId,
+        serverStream,
+        streamType,
+        metadata,
+        clientStreamConsumer,
+        AddStreamRequest.UNLIMITED_CREDITS);
+  }
+
   @Override
   public Set<MemberId> liveConnections() {
     return serverStream().liveConnections();
@@ -13,10 +13,13 @@ import io.camunda.zeebe.transport.stream.api.ClientStreamConsumer;
 import io.camunda.zeebe.transport.stream.api.ClientStreamId;
 import io.camunda.zeebe.transport.stream.api.ClientStreamMetrics;
 import io.camunda.zeebe.transport.stream.api.NoSuchStreamException;
+import io.camunda.zeebe.transport.stream.impl.messages.AddStreamRequest;
+import io.camunda.zeebe.transport.stream.impl.messages.PushStreamBatchResponse;
 import io.camunda.zeebe.transport.stream.impl.messages.PushStreamRequest;
 import io.camunda.zeebe.util.buffer.BufferWriter;
 import java.util.HashSet;
 import java.util.Set;
+import java.util.UUID;
 import org.agrona.DirectBuffer;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -62,8 +65,17 @@ final class ClientStreamManager<M extends BufferWriter> {
       final DirectBuffer streamType,
       final M metadata,
       final ClientStreamConsumer clientStreamConsumer) {
+    return add(streamType, metadata, clientStreamConsumer, AddStreamRequest.UNLIMITED_CREDITS);
+  }
+
+  ClientStreamId add(
+      final DirectBuffer streamType,
+      final M metadata,
+      final ClientStreamConsumer clientStreamConsumer,
+      final int credits) {
     // add first in memory to handle case of new broker while we're adding
-    final var clientStream = registry.addClient(streamType, metadata, clientStreamConsumer);
+    final var clientStream =
+        registry.addClient(streamType, metadata, clientStreamConsumer, credits);
     LOG.debug("Added new client stream [{}]", clientStream.streamId());
     clientStream.serverStream().open(requestManager, servers);
 
@@ -86,11 +98,24 @@ final class ClientStreamManager<M extends BufferWriter> {
     requestManager.removeAll(servers);
   }
 
+  /**
+   * Returns the credits currently granted by the given aggregated stream, or {@link
+   * PushStreamBatchResponse#UNKNOWN_CREDITS} if there is no such stream.
+   */
+  int creditsFor(final UUID streamId) {
+    return registry
+        .get(streamId)
+        .map(AggregatedClientStream::credits)
+        .orElse(PushStreamBatchResponse.UNKNOWN_CREDITS);
+  }
+
   public void onPayloadReceived(
       final PushStreamRequest pushStreamRequest, final ActorFuture<Void> responseFuture) {
-    final var streamId = pushStreamRequest.streamId();
-    final var payload = pushStreamRequest.payload();
+    onPayloadReceived(pushStreamRequest.streamId(), pushStreamRequest.payload(), responseFuture);
+  }
 
+  void onPayloadReceived(
+      final UUID streamId, final DirectBuffer payload, final ActorFuture<Void> responseFuture) {
     responseFuture.onComplete(
         (ok, error) -> {
           if (error != null) {
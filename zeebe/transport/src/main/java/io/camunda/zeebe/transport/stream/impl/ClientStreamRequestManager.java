@@ -178,7 +178,8 @@ final class ClientStreamRequestManager<M extends BufferWriter> {
         new AddStreamRequest()
             .streamId(registration.streamId())
             .streamType(registration.logicalId().streamType())
-            .metadata(registration.logicalId().metadata());
+            .metadata(registration.logicalId().metadata())
+            .credits(registration.credits());
 
     final var pendingRequest = registration.pendingRequest();
     if (pendingRequest != null) {
@@ -62,6 +62,13 @@ public final class ClientStreamServiceImpl<M extends BufferWriter> extends Actor
         BufferUtil::bufferAsArray,
         actor::run);
 
+    communicationService.replyToAsync(
+        StreamTopics.PUSH_BATCH.topic(),
+        MessageUtil::parsePushBatchRequest,
+        apiHandler::handlePushBatchRequest,
+        BufferUtil::bufferAsArray,
+        actor::run);
+
     communicationService.replyTo(
         StreamTopics.RESTART_STREAMS.topic(),
         Function.identity(),
@@ -83,6 +90,22 @@ public final class ClientStreamServiceImpl<M extends BufferWriter> extends Actor
     return actor.call(() -> clientStreamManager.add(streamType, metadata, clientStreamConsumer));
   }
 
+  @Override
+  public ActorFuture<ClientStreamId> add(
+      final DirectBuffer streamType,
+      final M metadata,
+      final ClientStreamConsumer clientStreamConsumer,
+      final int credits) {
+    if (credits <= 0) {
+      throw new IllegalArgumentException(
+          "Expected credits of a client stream to be greater than 0, but it was %d"
+              .formatted(credits));
+    }
+
+    return actor.call(
+        () -> clientStreamManager.add(streamType, metadata, clientStreamConsumer, credits));
+  }
+
   @Override
   public ActorFuture<Void> remove(final ClientStreamId streamId) {
     return actor.call(() -> clientStreamManager.remove(streamId));
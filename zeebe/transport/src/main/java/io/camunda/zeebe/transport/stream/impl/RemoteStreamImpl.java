@@ -14,14 +14,17 @@ import io.camunda.zeebe.transport.stream.impl.AggregatedRemoteStream.StreamConsu
 import io.camunda.zeebe.util.buffer.BufferWriter;
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.Comparator;
 import java.util.Iterator;
-import java.util.concurrent.ThreadLocalRandom;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 public final class RemoteStreamImpl<M, P extends BufferWriter> implements RemoteStream<M, P> {
 
   private static final Logger LOGGER = LoggerFactory.getLogger(RemoteStreamImpl.class);
+  private static final Comparator<StreamConsumer<?>> BY_REMAINING_CREDITS =
+      Comparator.<StreamConsumer<?>>comparingInt(c -> c.credits().remaining()).reversed();
+
   private final AggregatedRemoteStream<M> stream;
   private final RemoteStreamPusher<P> streamer;
   private final RemoteStreamErrorHandler<P> errorHandler;
@@ -44,33 +47,44 @@ public final class RemoteStreamImpl<M, P extends BufferWriter> implements Remote
   public void push(final P payload) {
     final var initialConsumer = pickInitialConsumer();
     if (initialConsumer == null) {
+      stream.markStarved();
       errorHandler.handleError(
           new StreamExhaustedException(
-              "Failed to push to stream %s, all consumers were removed since it was picked"
+              "Failed to push to stream %s, no consumers with credits left since it was picked"
                   .formatted(stream.logicalId())),
           payload);
       return;
     }
 
     final var retryHandler = new RetryHandler(errorHandler, initialConsumer);
-    streamer.pushAsync(payload, retryHandler, initialConsumer.id());
+    streamer.pushAsync(payload, retryHandler, initialConsumer);
   }
 
+  /**
+   * Picks the consumer with the most remaining credits, i.e. the least loaded one, and acquires one
+   * of its credits. Consumers with the same remaining credits are picked at random.
+   *
+   * @return the consumer for which a credit was acquired, or null if none has any left
+   */
   private StreamConsumer<M> pickInitialConsumer() {
-    final var consumers = stream.streamConsumers();
-    var size = consumers.size();
-
-    // since we can get concurrent modifications of the stream consumers list, we have to handle the
-    // case where the size changes while we're picking a consumer, so we loop as long as we fail to
-    // pick a consumer or the list is empty
-    while (size > 0) {
-      final var index = ThreadLocalRandom.current().nextInt(size);
-      try {
-        return consumers.get(index);
-      } catch (final IndexOutOfBoundsException e) {
-        LOGGER.trace(
-            "Stream consumer list concurrently modified while picking consumer; retrying", e);
-        size = consumers.size();
+    // the stream consumers list is copy-on-write, so iterating over it is safe from concurrent
+    // modifications; the copy lets us shuffle it to break ties randomly
+    final var consumers = new ArrayList<>(stream.streamConsumers());
+    Collections.shuffle(consumers);
+    consumers.sort(BY_REMAINING_CREDITS);
+
+    return acquireFirst(consumers.iterator());
+  }
+
+  /**
+   * Returns the first consumer of the iterator for which a credit could be acquired, or null if
+   * there is none.
+   */
+  private StreamConsumer<M> acquireFirst(final Iterator<StreamConsumer<M>> consumers) {
+    while (consumers.hasNext()) {
+      final var consumer = consumers.next();
+      if (consumer.credits().tryAcquire()) {
+        return consumer;
       }
     }
 
@@ -98,6 +112,7 @@ public final class RemoteStreamImpl<M, P extends BufferWriter> implements Remote
 
       consumers.remove(initialConsumer);
       Collections.shuffle(consumers);
+      consumers.sort(BY_REMAINING_CREDITS);
       final var iterator = consumers.iterator();
       retry(error, data, iterator);
     }
@@ -105,15 +120,16 @@ public final class RemoteStreamImpl<M, P extends BufferWriter> implements Remote
     /** Called during future retries */
     private void retry(
         final Throwable throwable, final P payload, final Iterator<StreamConsumer<M>> iterator) {
-      if (!iterator.hasNext()) {
+      final var client = acquireFirst(iterator);
+      if (client == null) {
+        stream.markStarved();
         onConsumersExhausted(throwable, payload);
         return;
       }
 
-      final var client = iterator.next();
       LOGGER.trace(
           "Failed to push payload (size = {}), retrying with next stream", payload.getLength());
-      streamer.pushAsync(payload, (error, data) -> retry(error, data, iterator), client.id());
+      streamer.pushAsync(payload, (error, data) -> retry(error, data, iterator), client);
     }
 
     private void onConsumersExhausted(final Throwable throwable, final P payload) {
@@ -8,17 +8,25 @@
 package io.camunda.zeebe.transport.stream.impl;
 
 import io.atomix.cluster.MemberId;
+import io.camunda.zeebe.transport.stream.api.RemoteStreamCreditsListener;
 import io.camunda.zeebe.transport.stream.api.RemoteStreamErrorHandler;
 import io.camunda.zeebe.transport.stream.api.RemoteStreamMetrics;
 import io.camunda.zeebe.transport.stream.api.StreamResponseException;
+import io.camunda.zeebe.transport.stream.impl.AggregatedRemoteStream.StreamConsumer;
 import io.camunda.zeebe.transport.stream.impl.AggregatedRemoteStream.StreamId;
 import io.camunda.zeebe.transport.stream.impl.messages.ErrorResponse;
+import io.camunda.zeebe.transport.stream.impl.messages.PushStreamBatchRequest;
+import io.camunda.zeebe.transport.stream.impl.messages.PushStreamBatchResponse;
 import io.camunda.zeebe.transport.stream.impl.messages.PushStreamRequest;
 import io.camunda.zeebe.transport.stream.impl.messages.PushStreamResponse;
 import io.camunda.zeebe.transport.stream.impl.messages.StreamResponseDecoder;
 import io.camunda.zeebe.util.buffer.BufferWriter;
 import io.camunda.zeebe.util.logging.ThrottledLogger;
 import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.Executor;
@@ -26,27 +34,67 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 /**
- * A naive implementation to push jobs out, which performs no retries of any kind, but reports
- * errors on failure.
+ * Pushes payloads out, performing no retries of any kind, but reporting errors on failure.
+ *
+ * <p>Payloads pushed to a {@link StreamConsumer} hold one of its credits until the push completed.
+ * If the consumer limits its credits, the payloads are not sent right away, but collected until the
+ * executor gets to flush them, and all payloads collected for the same consumer until then are
+ * sent as a single {@link PushStreamBatchRequest}. As the number of payloads in flight to a
+ * consumer is bounded by its credits, so is the size of each batch; batches are additionally split
+ * up if their payloads exceed 1 MiB in total. Once credits are released for a consumer which was
+ * starved, the {@link RemoteStreamCreditsListener} is notified.
  *
  * @param <P> the payload type to be pushed out
  */
 final class RemoteStreamPusher<P extends BufferWriter> {
   private static final Logger LOG = LoggerFactory.getLogger(RemoteStreamPusher.class);
+  private static final int MAX_BATCH_LENGTH = 1024 * 1024;
 
   private final StreamResponseDecoder responseDecoder = new StreamResponseDecoder();
   private final ThrottledLogger pushErrorLogger = new ThrottledLogger(LOG, Duration.ofSeconds(5));
   private final ThrottledLogger pushWarnLogger = new ThrottledLogger(LOG, Duration.ofSeconds(5));
+  private final Map<StreamId, List<PendingPush<P>>> pendingBatches = new HashMap<>();
 
   private final RemoteStreamMetrics metrics;
   private final Transport transport;
   private final Executor executor;
+  private final Executor flushExecutor;
+  private final RemoteStreamCreditsListener creditsListener;
 
   RemoteStreamPusher(
       final Transport transport, final Executor executor, final RemoteStreamMetrics metrics) {
+    this(transport, executor, executor, metrics);
+  }
+
+  RemoteStreamPusher(
+      final Transport transport,
+      final Executor executor,
+      final Executor flushExecutor,
+      final RemoteStreamMetrics metrics) {
+    this(transport, executor, flushExecutor, RemoteStreamCreditsListener.noop(), metrics);
+  }
+
+  /**
+   * @param transport the transport over which requests are sent
+   * @param executor the executor on which pushes are prepared and their responses handled
+   * @param flushExecutor the executor on which pending batches are sent; it should run the given
+   *     tasks after the ones already queued on the {@code executor}, such that batches can fill up
+   * @param creditsListener notified when a starved consumer has credits available again
+   * @param metrics the metrics to update
+   */
+  RemoteStreamPusher(
+      final Transport transport,
+      final Executor executor,
+      final Executor flushExecutor,
+      final RemoteStreamCreditsListener creditsListener,
+      final RemoteStreamMetrics metrics) {
     this.metrics = Objects.requireNonNull(metrics, "must specify remote stream metrics");
     this.transport = Objects.requireNonNull(transport, "must provide a network transport");
     this.executor = Objects.requireNonNull(executor, "must provide an asynchronous executor");
+    this.flushExecutor =
+        Objects.requireNonNull(flushExecutor, "must provide an asynchronous flush executor");
+    this.creditsListener =
+        Objects.requireNonNull(creditsListener, "must provide a credits listener");
   }
 
   public void pushAsync(
@@ -56,8 +104,33 @@ final class RemoteStreamPusher<P extends BufferWriter> {
     try {
       Objects.requireNonNull(payload, "must specify a payload");
       executor.execute(
-          () -> push(payload, instrumentingErrorHandler(errorHandler, streamId), streamId));
+          () -> push(payload, instrumentingErrorHandler(errorHandler, streamId), streamId, null));
+    } catch (final Exception e) {
+      errorHandler.handleError(e, payload);
+    }
+  }
+
+  /**
+   * Pushes the payload to the given consumer, for which the caller must have acquired a credit
+   * beforehand; see {@link StreamCredits#tryAcquire()}. The credit is released once the push
+   * completed, before the error handler is called on failure.
+   */
+  void pushAsync(
+      final P payload,
+      final RemoteStreamErrorHandler<P> errorHandler,
+      final StreamConsumer<?> consumer) {
+    Objects.requireNonNull(errorHandler, "must specify a error handler");
+
+    try {
+      Objects.requireNonNull(payload, "must specify a payload");
+      final var handler = instrumentingErrorHandler(errorHandler, consumer.id());
+      if (consumer.credits().isLimited()) {
+        executor.execute(() -> enqueue(payload, handler, consumer));
+      } else {
+        executor.execute(() -> push(payload, handler, consumer.id(), consumer));
+      }
     } catch (final Exception e) {
+      release(consumer, 1);
       errorHandler.handleError(e, payload);
     }
   }
@@ -103,16 +176,25 @@ final class RemoteStreamPusher<P extends BufferWriter> {
     }
   }
 
+  /**
+   * Pushes the payload to the given stream; if a consumer is given, one of its credits is released
+   * once the push completed.
+   */
   private void push(
-      final P payload, final RemoteStreamErrorHandler<P> errorHandler, final StreamId streamId) {
+      final P payload,
+      final RemoteStreamErrorHandler<P> errorHandler,
+      final StreamId streamId,
+      final StreamConsumer<?> consumer) {
     final var request = new PushStreamRequest().streamId(streamId.streamId()).payload(payload);
     try {
       transport
           .send(request, streamId.receiver())
           .whenCompleteAsync(
-              (response, error) -> onPush(payload, errorHandler, response, error), executor);
+              (response, error) -> onPush(payload, errorHandler, consumer, response, error),
+              executor);
       LOG.trace("Pushed {} to stream {}", payload, streamId);
     } catch (final Exception e) {
+      release(consumer, 1);
       errorHandler.handleError(e, payload);
     }
   }
@@ -120,8 +202,10 @@ final class RemoteStreamPusher<P extends BufferWriter> {
   private void onPush(
       final P payload,
       final RemoteStreamErrorHandler<P> errorHandler,
+      final StreamConsumer<?> consumer,
       final byte[] responseBuffer,
       final Throwable error) {
+    release(consumer, 1);
     if (error != null) {
       errorHandler.handleError(error, payload);
       return;
@@ -134,6 +218,123 @@ final class RemoteStreamPusher<P extends BufferWriter> {
             ok -> metrics.pushSucceeded(), failure -> errorHandler.handleError(failure, payload));
   }
 
+  private void enqueue(
+      final P payload,
+      final RemoteStreamErrorHandler<P> errorHandler,
+      final StreamConsumer<?> consumer) {
+    final var batch = pendingBatches.computeIfAbsent(consumer.id(), id -> new ArrayList<>());
+    batch.add(new PendingPush<>(payload, errorHandler));
+
+    if (batch.size() == 1) {
+      try {
+        flushExecutor.execute(() -> flush(consumer));
+      } catch (final Exception e) {
+        pendingBatches.remove(consumer.id());
+        failBatch(batch, consumer, e);
+      }
+    }
+  }
+
+  private void flush(final StreamConsumer<?> consumer) {
+    final var pending = pendingBatches.remove(consumer.id());
+    if (pending == null) {
+      return;
+    }
+
+    // split large payloads over multiple requests, such that a batch never has to be rejected
+    // for being too large when each of its payloads could have been pushed on its own
+    int from = 0;
+    long length = 0;
+    for (int i = 0; i < pending.size(); i++) {
+      final var payloadLength = pending.get(i).payload().getLength();
+      if (i > from && length + payloadLength > MAX_BATCH_LENGTH) {
+        send(consumer, pending.subList(from, i));
+        from = i;
+        length = 0;
+      }
+
+      length += payloadLength;
+    }
+
+    send(consumer, pending.subList(from, pending.size()));
+  }
+
+  private void send(final StreamConsumer<?> consumer, final List<PendingPush<P>> batch) {
+    final var streamId = consumer.id();
+    final var request = new PushStreamBatchRequest().streamId(streamId.streamId());
+    batch.forEach(pending -> request.addPayload(pending.payload()));
+
+    try {
+      transport
+          .sendBatch(request, streamId.receiver())
+          .whenCompleteAsync(
+              (response, error) -> onBatchPush(batch, consumer, response, error),
+              executor);
+      LOG.trace("Pushed batch of {} payloads to stream {}", batch.size(), streamId);
+    } catch (final Exception e) {
+      failBatch(batch, consumer, e);
+    }
+  }
+
+  private void onBatchPush(
+      final List<PendingPush<P>> batch,
+      final StreamConsumer<?> consumer,
+      final byte[] responseBuffer,
+      final Throwable error) {
+    if (error != null) {
+      failBatch(batch, consumer, error);
+      return;
+    }
+
+    final var decoded = responseDecoder.decode(responseBuffer, new PushStreamBatchResponse());
+    if (decoded.isLeft()) {
+      failBatch(batch, consumer, decoded.getLeft().asException());
+      return;
+    }
+
+    final var response = decoded.get();
+    if (response.credits() != PushStreamBatchResponse.UNKNOWN_CREDITS) {
+      consumer.credits().update(response.credits());
+    }
+    release(consumer, batch.size());
+
+    final var failures = new Throwable[batch.size()];
+    for (final var failure : response.failures()) {
+      if (failure.index() >= 0 && failure.index() < failures.length) {
+        failures[failure.index()] = failure.asException();
+      }
+    }
+
+    for (int i = 0; i < failures.length; i++) {
+      final var pending = batch.get(i);
+      if (failures[i] == null) {
+        metrics.pushSucceeded();
+      } else {
+        pending.errorHandler().handleError(failures[i], pending.payload());
+      }
+    }
+  }
+
+  private void failBatch(
+      final List<PendingPush<P>> batch, final StreamConsumer<?> consumer, final Throwable error) {
+    release(consumer, batch.size());
+    batch.forEach(pending -> pending.errorHandler().handleError(error, pending.payload()));
+  }
+
+  private void release(final StreamConsumer<?> consumer, final int count) {
+    if (consumer == null || !consumer.credits().release(count)) {
+      return;
+    }
+
+    try {
+      creditsListener.onCreditsAvailable(consumer.logicalId().streamType());
+    } catch (final Exception e) {
+      pushWarnLogger.warn("Failed to notify that stream {} has credits again", consumer.id(), e);
+    }
+  }
+
+  private record PendingPush<P>(P payload, RemoteStreamErrorHandler<P> errorHandler) {}
+
   /**
    * A small abstraction over the network transport. This allows for better testability, and also
    * removes the need for this class to know how communication occurs (e.g. which topic the message
@@ -153,5 +354,18 @@ final class RemoteStreamPusher<P extends BufferWriter> {
      */
     CompletableFuture<byte[]> send(final PushStreamRequest request, final MemberId receiver)
         throws Exception;
+
+    /**
+     * Sends the given batch request out to the given receiver. May throw errors, e.g.
+     * serialization errors.
+     *
+     * @param request the request to send
+     * @param receiver the expected target
+     * @return a future which is completed when the request has been acknowledged by the receiver,
+     *     or an error occurred
+     * @throws Exception if an error occurs before the request is sent out, i.e. serialization error
+     */
+    CompletableFuture<byte[]> sendBatch(
+        final PushStreamBatchRequest request, final MemberId receiver) throws Exception;
   }
 }
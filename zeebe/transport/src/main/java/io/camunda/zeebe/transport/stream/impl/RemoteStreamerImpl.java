@@ -11,9 +11,11 @@ import io.atomix.cluster.MemberId;
 import io.atomix.cluster.messaging.ClusterCommunicationService;
 import io.camunda.zeebe.scheduler.Actor;
 import io.camunda.zeebe.transport.stream.api.RemoteStream;
+import io.camunda.zeebe.transport.stream.api.RemoteStreamCreditsListener;
 import io.camunda.zeebe.transport.stream.api.RemoteStreamErrorHandler;
 import io.camunda.zeebe.transport.stream.api.RemoteStreamMetrics;
 import io.camunda.zeebe.transport.stream.api.RemoteStreamer;
+import io.camunda.zeebe.transport.stream.impl.messages.PushStreamBatchRequest;
 import io.camunda.zeebe.transport.stream.impl.messages.PushStreamRequest;
 import io.camunda.zeebe.transport.stream.impl.messages.StreamTopics;
 import io.camunda.zeebe.util.buffer.BufferUtil;
@@ -52,11 +54,23 @@ public final class RemoteStreamerImpl<M, P extends BufferWriter> extends Actor
       final ImmutableStreamRegistry<M> registry,
       final RemoteStreamErrorHandler<P> errorHandler,
       final RemoteStreamMetrics metrics) {
+    this(transport, registry, errorHandler, RemoteStreamCreditsListener.noop(), metrics);
+  }
+
+  public RemoteStreamerImpl(
+      final ClusterCommunicationService transport,
+      final ImmutableStreamRegistry<M> registry,
+      final RemoteStreamErrorHandler<P> errorHandler,
+      final RemoteStreamCreditsListener creditsListener,
+      final RemoteStreamMetrics metrics) {
     this.transport = Objects.requireNonNull(transport, "must specify a network transport");
     this.registry = Objects.requireNonNull(registry, "must specify a job stream registry");
     this.errorHandler = Objects.requireNonNull(errorHandler, "must specify an error handler");
 
-    remoteStreamPusher = new RemoteStreamPusher<>(this::send, actor::run, metrics);
+    // flush batches via submit, such that pushes queued on the actor in the meantime are batched
+    remoteStreamPusher =
+        new RemoteStreamPusher<>(
+            new ClusterTransport(), actor::run, actor::submit, creditsListener, metrics);
   }
 
   @Override
@@ -75,27 +89,59 @@ public final class RemoteStreamerImpl<M, P extends BufferWriter> extends Actor
         .map(target -> new RemoteStreamImpl<>(target, remoteStreamPusher, errorHandler));
   }
 
+  /**
+   * Picks the stream with the most remaining credits over all its consumers, i.e. the one with the
+   * most capacity left. Streams with the same remaining credits are picked at random, and streams
+   * without any credits left are never picked, such that the caller can hold on to its payload
+   * until some capacity is available again. If none is picked, all of them are marked as starved,
+   * such that the {@link RemoteStreamCreditsListener} is notified once one of them has credits
+   * again.
+   */
   private Optional<AggregatedRemoteStream<M>> pickStream(
       final Set<AggregatedRemoteStream<M>> consumers) {
     final var targets = new ArrayList<>(consumers);
     Collections.shuffle(targets);
 
+    AggregatedRemoteStream<M> picked = null;
+    int pickedCredits = 0;
     for (final var target : targets) {
-      if (!target.streamConsumers().isEmpty()) {
-        return Optional.of(target);
+      final var remainingCredits = target.remainingCredits();
+      if (remainingCredits > pickedCredits) {
+        picked = target;
+        pickedCredits = remainingCredits;
       }
     }
 
-    return Optional.empty();
+    if (picked == null) {
+      targets.forEach(AggregatedRemoteStream::markStarved);
+    }
+
+    return Optional.ofNullable(picked);
   }
 
-  private CompletableFuture<byte[]> send(final PushStreamRequest request, final MemberId receiver) {
-    return transport.send(
-        StreamTopics.PUSH.topic(),
-        request,
-        BufferUtil::bufferAsArray,
-        Function.identity(),
-        receiver,
-        REQUEST_TIMEOUT);
+  private final class ClusterTransport implements RemoteStreamPusher.Transport {
+
+    @Override
+    public CompletableFuture<byte[]> send(
+        final PushStreamRequest request, final MemberId receiver) {
+      return send(StreamTopics.PUSH, request, receiver);
+    }
+
+    @Override
+    public CompletableFuture<byte[]> sendBatch(
+        final PushStreamBatchRequest request, final MemberId receiver) {
+      return send(StreamTopics.PUSH_BATCH, request, receiver);
+    }
+
+    private CompletableFuture<byte[]> send(
+        final StreamTopics topic, final BufferWriter request, final MemberId receiver) {
+      return transport.send(
+          topic.topic(),
+          request,
+          BufferUtil::bufferAsArray,
+          Function.identity(),
+          receiver,
+          REQUEST_TIMEOUT);
+    }
   }
 }
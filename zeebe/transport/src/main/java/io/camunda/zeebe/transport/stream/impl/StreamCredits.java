@@ -0,0 +1,111 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.transport.stream.impl;
+
+import io.camunda.zeebe.transport.stream.impl.messages.AddStreamRequest;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Tracks the credits granted by a remote stream consumer, i.e. how many payloads may be pushed to
+ * it before it acknowledged them, against the payloads currently in flight.
+ *
+ * <p>Payloads are counted as in flight even if the consumer does not limit them, such that
+ * consumers can be compared by their load either way.
+ *
+ * <p>When a producer is turned away because no credits were left, the consumer is marked as
+ * starved, such that the producer can be notified once credits are released again.
+ *
+ * <p>Thread safe: credits are acquired by the producers picking a stream, and released on the
+ * streamer's actor once the push completed.
+ */
+final class StreamCredits {
+  private final AtomicInteger inFlight = new AtomicInteger();
+  private final AtomicBoolean starved = new AtomicBoolean();
+  private volatile int credits;
+
+  StreamCredits(final int credits) {
+    update(credits);
+  }
+
+  static StreamCredits unlimited() {
+    return new StreamCredits(AddStreamRequest.UNLIMITED_CREDITS);
+  }
+
+  /** Returns true if the consumer limits how many payloads may be in flight. */
+  boolean isLimited() {
+    return credits != AddStreamRequest.UNLIMITED_CREDITS;
+  }
+
+  /**
+   * Returns how many more payloads may be pushed right now. For consumers which do not limit them,
+   * this is {@link Integer#MAX_VALUE} minus the payloads in flight.
+   */
+  int remaining() {
+    final int granted = credits;
+    final int limit = granted == AddStreamRequest.UNLIMITED_CREDITS ? Integer.MAX_VALUE : granted;
+    return Math.max(0, limit - inFlight.get());
+  }
+
+  /**
+   * Acquires a single credit, if any remains.
+   *
+   * @return true if a credit was acquired, which must be released once the push completed
+   */
+  boolean tryAcquire() {
+    while (true) {
+      final int granted = credits;
+      final int current = inFlight.get();
+      if (granted != AddStreamRequest.UNLIMITED_CREDITS && current >= granted) {
+        return false;
+      }
+
+      if (inFlight.compareAndSet(current, current + 1)) {
+        return true;
+      }
+    }
+  }
+
+  /**
+   * Releases the given number of previously acquired credits.
+   *
+   * @return true if the consumer was starved, and has credits available again
+   */
+  boolean release(final int count) {
+    inFlight.updateAndGet(current -> Math.max(0, current - count));
+    return remaining() > 0 && starved.compareAndSet(true, false);
+  }
+
+  /**
+   * Marks the consumer as starved, i.e. a payload could not be pushed to it because it had no
+   * credits left; see {@link #release(int)}.
+   */
+  void markStarved() {
+    starved.set(true);
+  }
+
+  /**
+   * Updates the credits granted by the consumer; payloads already in flight are kept. Any value
+   * below 1 means the consumer does not limit them.
+   */
+  void update(final int credits) {
+    this.credits = Math.max(AddStreamRequest.UNLIMITED_CREDITS, credits);
+  }
+
+  @Override
+  public String toString() {
+    return "StreamCredits{"
+        + "credits="
+        + (isLimited() ? credits : "unlimited")
+        + ", inFlight="
+        + inFlight.get()
+        + ", starved="
+        + starved.get()
+        + '}';
+  }
+}
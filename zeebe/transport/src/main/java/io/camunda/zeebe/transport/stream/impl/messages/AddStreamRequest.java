@@ -18,6 +18,9 @@ import org.agrona.MutableDirectBuffer;
 import org.agrona.concurrent.UnsafeBuffer;
 
 public final class AddStreamRequest implements BufferReader, BufferWriter {
+  /** Credits value of streams which do not limit how many payloads are pushed to them. */
+  public static final int UNLIMITED_CREDITS = 0;
+
   private final MessageHeaderEncoder headerEncoder = new MessageHeaderEncoder();
   private final MessageHeaderDecoder headerDecoder = new MessageHeaderDecoder();
 
@@ -27,6 +30,7 @@ public final class AddStreamRequest implements BufferReader, BufferWriter {
   private final DirectBuffer streamType = new UnsafeBuffer();
 
   private UUID streamId;
+  private int credits = UNLIMITED_CREDITS;
   private final DirectBuffer metadataReader = new UnsafeBuffer();
   private BufferWriter metadataWriter = new DirectBufferWriter().wrap(metadataReader);
 
@@ -37,6 +41,13 @@ public final class AddStreamRequest implements BufferReader, BufferWriter {
     messageDecoder.wrapMetadata(metadataReader);
     metadataWriter = new DirectBufferWriter().wrap(metadataReader);
     streamId = new UUID(messageDecoder.id().high(), messageDecoder.id().low());
+
+    // older clients do not send any credits, and their streams are not limited
+    final var decodedCredits = messageDecoder.credits();
+    credits =
+        decodedCredits == AddStreamRequestDecoder.creditsNullValue()
+            ? UNLIMITED_CREDITS
+            : decodedCredits;
   }
 
   @Override
@@ -53,6 +64,7 @@ public final class AddStreamRequest implements BufferReader, BufferWriter {
   public void write(final MutableDirectBuffer buffer, final int offset) {
     messageEncoder
         .wrapAndApplyHeader(buffer, offset, headerEncoder)
+        .credits(credits)
         .putStreamType(streamType, 0, streamType.capacity());
 
     SbeUtil.writeNested(
@@ -103,9 +115,22 @@ public final class AddStreamRequest implements BufferReader, BufferWriter {
     return this;
   }
 
+  /**
+   * Returns how many payloads may be pushed to the stream before it acknowledges them, or {@link
+   * #UNLIMITED_CREDITS} if there is no limit.
+   */
+  public int credits() {
+    return credits;
+  }
+
+  public AddStreamRequest credits(final int credits) {
+    this.credits = credits;
+    return this;
+  }
+
   @Override
   public int hashCode() {
-    return Objects.hash(streamType, metadataReader, streamId);
+    return Objects.hash(streamType, metadataReader, streamId, credits);
   }
 
   @Override
@@ -121,7 +146,8 @@ public final class AddStreamRequest implements BufferReader, BufferWriter {
     final AddStreamRequest that = (AddStreamRequest) o;
     return streamType.equals(that.streamType)
         && metadataReader.equals(that.metadataReader)
-        && Objects.equals(streamId, that.streamId);
+        && Objects.equals(streamId, that.streamId)
+        && credits == that.credits;
   }
 
   @Override
@@ -133,6 +159,8 @@ public final class AddStreamRequest implements BufferReader, BufferWriter {
         + metadataReader
         + ", streamId="
         + streamId
+        + ", credits="
+        + credits
         + '}';
   }
 }
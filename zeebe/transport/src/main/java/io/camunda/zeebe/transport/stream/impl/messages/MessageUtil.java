@@ -20,6 +20,10 @@ public final class MessageUtil {
     return parseRequest(bytes, new PushStreamRequest());
   }
 
+  public static PushStreamBatchRequest parsePushBatchRequest(final byte[] bytes) {
+    return parseRequest(bytes, new PushStreamBatchRequest());
+  }
+
   public static RemoveStreamRequest parseRemoveRequest(final byte[] bytes) {
     return parseRequest(bytes, new RemoveStreamRequest());
   }
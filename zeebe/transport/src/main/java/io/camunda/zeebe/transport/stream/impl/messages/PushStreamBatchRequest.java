@@ -0,0 +1,153 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.transport.stream.impl.messages;
+
+import io.camunda.zeebe.transport.stream.impl.messages.PushStreamBatchRequestDecoder.PayloadsDecoder;
+import io.camunda.zeebe.transport.stream.impl.messages.PushStreamBatchRequestEncoder.PayloadsEncoder;
+import io.camunda.zeebe.util.SbeUtil;
+import io.camunda.zeebe.util.buffer.BufferReader;
+import io.camunda.zeebe.util.buffer.BufferWriter;
+import io.camunda.zeebe.util.buffer.DirectBufferWriter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.UUID;
+import org.agrona.DirectBuffer;
+import org.agrona.MutableDirectBuffer;
+import org.agrona.concurrent.UnsafeBuffer;
+
+/**
+ * Pushes multiple payloads over the same stream with a single request. The receiver handles each
+ * payload independently, and reports the ones it failed to push in its {@link
+ * PushStreamBatchResponse}.
+ */
+public final class PushStreamBatchRequest implements BufferReader, BufferWriter {
+  private final MessageHeaderEncoder headerEncoder = new MessageHeaderEncoder();
+  private final MessageHeaderDecoder headerDecoder = new MessageHeaderDecoder();
+
+  private final PushStreamBatchRequestEncoder messageEncoder = new PushStreamBatchRequestEncoder();
+  private final PushStreamBatchRequestDecoder messageDecoder = new PushStreamBatchRequestDecoder();
+
+  private final List<DirectBuffer> payloadReaders = new ArrayList<>();
+  private final List<BufferWriter> payloadWriters = new ArrayList<>();
+  private UUID streamId;
+
+  @Override
+  public void wrap(final DirectBuffer buffer, final int offset, final int length) {
+    messageDecoder.wrapAndApplyHeader(buffer, offset, headerDecoder);
+    streamId = new UUID(messageDecoder.id().high(), messageDecoder.id().low());
+
+    payloadReaders.clear();
+    payloadWriters.clear();
+    for (final PayloadsDecoder decoder : messageDecoder.payloads()) {
+      final var payload = new UnsafeBuffer();
+      decoder.wrapPayload(payload);
+      payloadReaders.add(payload);
+      payloadWriters.add(new DirectBufferWriter().wrap(payload));
+    }
+  }
+
+  @Override
+  public int getLength() {
+    final var payloadsLength =
+        payloadWriters.stream()
+            .mapToInt(
+                p ->
+                    PayloadsEncoder.sbeBlockLength()
+                        + PayloadsEncoder.payloadHeaderLength()
+                        + p.getLength())
+            .sum();
+
+    return headerEncoder.encodedLength()
+        + messageEncoder.sbeBlockLength()
+        + PayloadsEncoder.sbeHeaderSize()
+        + payloadsLength;
+  }
+
+  @Override
+  public void write(final MutableDirectBuffer buffer, final int offset) {
+    messageEncoder.wrapAndApplyHeader(buffer, offset, headerEncoder);
+
+    if (streamId != null) {
+      messageEncoder
+          .id()
+          .high(streamId.getMostSignificantBits())
+          .low(streamId.getLeastSignificantBits());
+    }
+
+    final var payloadsEncoder = messageEncoder.payloadsCount(payloadWriters.size());
+    for (final var payload : payloadWriters) {
+      // the data of a group entry is written at the limit of the enclosing message
+      payloadsEncoder.next();
+      SbeUtil.writeNested(
+          payload,
+          PayloadsEncoder.payloadHeaderLength(),
+          messageEncoder,
+          PushStreamBatchRequestEncoder.BYTE_ORDER);
+    }
+  }
+
+  /** May return null if it was never read or set. */
+  public UUID streamId() {
+    return streamId;
+  }
+
+  public PushStreamBatchRequest streamId(final UUID streamId) {
+    this.streamId = streamId;
+    return this;
+  }
+
+  /**
+   * Returns the payloads after a call to {@link #wrap(DirectBuffer, int, int)}. Otherwise, returns
+   * an empty list.
+   */
+  public List<DirectBuffer> payloads() {
+    return payloadReaders;
+  }
+
+  /** Returns the payloads to write, in the order in which they were added or read. */
+  public List<BufferWriter> payloadWriters() {
+    return payloadWriters;
+  }
+
+  public PushStreamBatchRequest addPayload(final BufferWriter payloadWriter) {
+    payloadWriters.add(payloadWriter);
+    return this;
+  }
+
+  @Override
+  public int hashCode() {
+    return Objects.hash(streamId, payloadReaders, payloadWriters);
+  }
+
+  @Override
+  public boolean equals(final Object o) {
+    if (this == o) {
+      return true;
+    }
+
+    if (o == null || getClass() != o.getClass()) {
+      return false;
+    }
+
+    final PushStreamBatchRequest that = (PushStreamBatchRequest) o;
+    return Objects.equals(streamId, that.streamId)
+        && Objects.equals(payloadReaders, that.payloadReaders)
+        && Objects.equals(payloadWriters, that.payloadWriters);
+  }
+
+  @Override
+  public String toString() {
+    return "PushStreamBatchRequest{"
+        + "streamId="
+        + streamId
+        + ", payloads="
+        + payloadWriters.size()
+        + '}';
+  }
+}
@@ -0,0 +1,172 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.transport.stream.impl.messages;
+
+import io.camunda.zeebe.transport.stream.api.StreamResponseException;
+import io.camunda.zeebe.transport.stream.impl.messages.PushStreamBatchResponseDecoder.FailuresDecoder;
+import io.camunda.zeebe.transport.stream.impl.messages.PushStreamBatchResponseEncoder.FailuresEncoder;
+import io.camunda.zeebe.util.buffer.BufferUtil;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import org.agrona.DirectBuffer;
+import org.agrona.MutableDirectBuffer;
+import org.agrona.concurrent.UnsafeBuffer;
+
+/**
+ * Result of a {@link PushStreamBatchRequest}. Lists the payloads which could not be pushed by their
+ * index in the request; all other payloads were pushed successfully. Additionally carries the
+ * credits the stream currently grants, such that the sender can adjust to streams which were
+ * aggregated or split up since they were added.
+ */
+public final class PushStreamBatchResponse implements StreamResponse {
+  /** Credits value when the receiver does not know the stream anymore. */
+  public static final int UNKNOWN_CREDITS = -1;
+
+  private final MessageHeaderEncoder headerEncoder = new MessageHeaderEncoder();
+  private final MessageHeaderDecoder headerDecoder = new MessageHeaderDecoder();
+
+  private final PushStreamBatchResponseEncoder messageEncoder =
+      new PushStreamBatchResponseEncoder();
+  private final PushStreamBatchResponseDecoder messageDecoder =
+      new PushStreamBatchResponseDecoder();
+
+  private final List<Failure> failures = new ArrayList<>();
+  private int credits = UNKNOWN_CREDITS;
+
+  @Override
+  public void wrap(final DirectBuffer buffer, final int offset, final int length) {
+    messageDecoder.wrapAndApplyHeader(buffer, offset, headerDecoder);
+
+    final var decodedCredits = messageDecoder.credits();
+    credits =
+        decodedCredits == PushStreamBatchResponseDecoder.creditsNullValue()
+            ? UNKNOWN_CREDITS
+            : decodedCredits;
+
+    failures.clear();
+    for (final FailuresDecoder decoder : messageDecoder.failures()) {
+      final var messageBuffer = new UnsafeBuffer();
+      final var index = decoder.index();
+      final var code = decoder.code();
+      decoder.wrapMessage(messageBuffer);
+      failures.add(new Failure(index, code, messageBuffer));
+    }
+  }
+
+  @Override
+  public int getLength() {
+    final var failuresLength =
+        failures.stream()
+            .mapToInt(
+                f ->
+                    FailuresEncoder.sbeBlockLength()
+                        + FailuresEncoder.messageHeaderLength()
+                        + f.messageBuffer().capacity())
+            .sum();
+
+    return headerEncoder.encodedLength()
+        + messageEncoder.sbeBlockLength()
+        + FailuresEncoder.sbeHeaderSize()
+        + failuresLength;
+  }
+
+  @Override
+  public void write(final MutableDirectBuffer buffer, final int offset) {
+    final var encodedCredits =
+        credits == UNKNOWN_CREDITS ? PushStreamBatchResponseEncoder.creditsNullValue() : credits;
+    messageEncoder.wrapAndApplyHeader(buffer, offset, headerEncoder).credits(encodedCredits);
+
+    final var failuresEncoder = messageEncoder.failuresCount(failures.size());
+    failures.forEach(
+        failure ->
+            failuresEncoder
+                .next()
+                .index(failure.index())
+                .code(failure.code())
+                .putMessage(failure.messageBuffer(), 0, failure.messageBuffer().capacity()));
+  }
+
+  @Override
+  public int templateId() {
+    return messageDecoder.sbeTemplateId();
+  }
+
+  /**
+   * Returns the credits the stream currently grants, or {@link #UNKNOWN_CREDITS} if the receiver
+   * does not know the stream.
+   */
+  public int credits() {
+    return credits;
+  }
+
+  public PushStreamBatchResponse credits(final int credits) {
+    this.credits = credits;
+    return this;
+  }
+
+  public List<Failure> failures() {
+    return failures;
+  }
+
+  public PushStreamBatchResponse addFailure(
+      final int index, final ErrorCode code, final String message) {
+    failures.add(
+        new Failure(index, code, new UnsafeBuffer(message.getBytes(StandardCharsets.UTF_8))));
+    return this;
+  }
+
+  @Override
+  public int hashCode() {
+    return Objects.hash(credits, failures);
+  }
+
+  @Override
+  public boolean equals(final Object o) {
+    if (this == o) {
+      return true;
+    }
+
+    if (o == null || getClass() != o.getClass()) {
+      return false;
+    }
+
+    final PushStreamBatchResponse that = (PushStreamBatchResponse) o;
+    return credits == that.credits && Objects.equals(failures, that.failures);
+  }
+
+  @Override
+  public String toString() {
+    return "PushStreamBatchResponse{" + "credits=" + credits + ", failures=" + failures + '}';
+  }
+
+  /**
+   * A payload of the batch which could not be pushed.
+   *
+   * @param index the index of the payload in the request
+   * @param code the error code
+   * @param messageBuffer the error message
+   */
+  public record Failure(int index, ErrorCode code, DirectBuffer messageBuffer) {
+
+    public String message() {
+      return messageBuffer.capacity() > 0 ? BufferUtil.bufferAsString(messageBuffer) : "";
+    }
+
+    /** Returns the failure as it would have been reported for a single push. */
+    public StreamResponseException asException() {
+      return new ErrorResponse().code(code).message(messageBuffer).asException();
+    }
+
+    @Override
+    public String toString() {
+      return "Failure{" + "index=" + index + ", code=" + code + ", message=" + message() + '}';
+    }
+  }
+}
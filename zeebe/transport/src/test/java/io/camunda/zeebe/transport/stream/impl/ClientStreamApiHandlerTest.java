@@ -8,9 +8,11 @@
 package io.camunda.zeebe.transport.stream.impl;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.doNothing;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
 
 import io.camunda.zeebe.scheduler.future.CompletableActorFuture;
 import io.camunda.zeebe.transport.stream.api.ClientStreamBlockedException;
@@ -19,10 +21,20 @@ import io.camunda.zeebe.transport.stream.api.StreamExhaustedException;
 import io.camunda.zeebe.transport.stream.api.StreamResponseException.ErrorDetail;
 import io.camunda.zeebe.transport.stream.impl.messages.ErrorCode;
 import io.camunda.zeebe.transport.stream.impl.messages.ErrorResponse;
+import io.camunda.zeebe.transport.stream.impl.messages.PushStreamBatchRequest;
+import io.camunda.zeebe.transport.stream.impl.messages.PushStreamBatchResponse;
+import io.camunda.zeebe.transport.stream.impl.messages.PushStreamBatchResponse.Failure;
 import io.camunda.zeebe.transport.stream.impl.messages.PushStreamRequest;
+import io.camunda.zeebe.util.buffer.BufferUtil;
+import io.camunda.zeebe.util.buffer.DirectBufferWriter;
 import java.time.Duration;
+import java.util.UUID;
 import java.util.stream.Stream;
+import org.agrona.DirectBuffer;
+import org.agrona.concurrent.UnsafeBuffer;
 import org.assertj.core.api.InstanceOfAssertFactories;
+import org.assertj.core.groups.Tuple;
+import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.Named;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.MethodSource;
@@ -77,6 +89,43 @@ final class ClientStreamApiHandlerTest {
         .containsExactly(testCase.code());
   }
 
+  @Test
+  void shouldReportFailedPayloadsOfBatch() {
+    // given
+    final var apiHandler = new ClientStreamApiHandler(clientStreamManager, Runnable::run);
+    final var streamId = UUID.randomUUID();
+    final var request =
+        new PushStreamBatchRequest()
+            .streamId(streamId)
+            .addPayload(new DirectBufferWriter().wrap(BufferUtil.wrapString("foo")))
+            .addPayload(new DirectBufferWriter().wrap(BufferUtil.wrapString("bar")));
+    final var serialized = new UnsafeBuffer(BufferUtil.bufferAsArray(request));
+    request.wrap(serialized, 0, serialized.capacity());
+    final var payloadPushed = ArgumentCaptor.forClass(CompletableActorFuture.class);
+    //noinspection unchecked
+    doNothing()
+        .when(clientStreamManager)
+        .onPayloadReceived(eq(streamId), any(DirectBuffer.class), payloadPushed.capture());
+    when(clientStreamManager.creditsFor(streamId)).thenReturn(64);
+
+    // when
+    final var response = apiHandler.handlePushBatchRequest(request);
+    payloadPushed.getAllValues().get(1).completeExceptionally(new NoSuchStreamException("gone"));
+    payloadPushed.getAllValues().get(0).complete(null);
+
+    // then
+    assertThat(response)
+        .succeedsWithin(Duration.ZERO)
+        .asInstanceOf(InstanceOfAssertFactories.type(PushStreamBatchResponse.class))
+        .satisfies(
+            r -> {
+              assertThat(r.credits()).isEqualTo(64);
+              assertThat(r.failures())
+                  .extracting(Failure::index, Failure::code)
+                  .containsExactly(Tuple.tuple(1, ErrorCode.NOT_FOUND));
+            });
+  }
+
   private static Stream<ExceptionErrorCase> provideExceptionToErrorMap() {
     return Stream.of(
         new ExceptionErrorCase(new StreamExhaustedException("failed"), ErrorCode.EXHAUSTED),
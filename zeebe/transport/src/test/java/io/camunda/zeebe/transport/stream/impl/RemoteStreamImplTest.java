@@ -16,6 +16,8 @@ import io.camunda.zeebe.transport.stream.api.StreamExhaustedException;
 import io.camunda.zeebe.transport.stream.impl.AggregatedRemoteStream.StreamConsumer;
 import io.camunda.zeebe.transport.stream.impl.AggregatedRemoteStream.StreamId;
 import io.camunda.zeebe.transport.stream.impl.RemoteStreamPusher.Transport;
+import io.camunda.zeebe.transport.stream.impl.messages.PushStreamBatchRequest;
+import io.camunda.zeebe.transport.stream.impl.messages.PushStreamBatchResponse;
 import io.camunda.zeebe.transport.stream.impl.messages.PushStreamRequest;
 import io.camunda.zeebe.transport.stream.impl.messages.PushStreamResponse;
 import io.camunda.zeebe.util.buffer.BufferUtil;
@@ -98,6 +100,52 @@ class RemoteStreamImplTest {
     assertThat(transport.attemptedStreams).isEmpty();
   }
 
+  @Test
+  void shouldPushToConsumerWithMostRemainingCredits() {
+    // given
+    final var logicalId = aggregatedStream.logicalId();
+    final var busy = new StreamCredits(4);
+    busy.tryAcquire();
+    busy.tryAcquire();
+    final var idle = new StreamCredits(4);
+    final var idleId = new StreamId(UUID.randomUUID(), MemberId.anonymous());
+    aggregatedStream.streamConsumers().clear();
+    aggregatedStream.addConsumer(
+        new StreamConsumer<>(
+            new StreamId(UUID.randomUUID(), MemberId.anonymous()), logicalId, busy));
+    aggregatedStream.addConsumer(new StreamConsumer<>(idleId, logicalId, idle));
+    transport.succeedAfterAttempts(0);
+
+    // when
+    remoteStream.push(payload);
+
+    // then
+    assertThat(transport.attemptedStreams).containsExactly(idleId.streamId());
+  }
+
+  @Test
+  void shouldNotRetryWithConsumersWithoutCredits() {
+    // given
+    final MutableReference<Throwable> errorRef = new MutableReference<>();
+    final var logicalId = aggregatedStream.logicalId();
+    final var exhausted = new StreamCredits(1);
+    exhausted.tryAcquire();
+    final var available = new StreamId(UUID.randomUUID(), MemberId.anonymous());
+    aggregatedStream.streamConsumers().clear();
+    aggregatedStream.addConsumer(
+        new StreamConsumer<>(
+            new StreamId(UUID.randomUUID(), MemberId.anonymous()), logicalId, exhausted));
+    aggregatedStream.addConsumer(new StreamConsumer<>(available, logicalId, new StreamCredits(1)));
+    errorHandler = (e, d) -> errorRef.set(e);
+
+    // when
+    remoteStream.push(payload);
+
+    // then
+    assertThat(transport.attemptedStreams).containsExactly(available.streamId());
+    assertThat(errorRef.get()).hasMessage("force fail");
+  }
+
   private static final class FailingTransport implements Transport {
 
     private final List<UUID> attemptedStreams = new ArrayList<>();
@@ -119,5 +167,17 @@ class RemoteStreamImplTest {
       }
       return CompletableFuture.completedFuture(BufferUtil.bufferAsArray(new PushStreamResponse()));
     }
+
+    @Override
+    public CompletableFuture<byte[]> sendBatch(
+        final PushStreamBatchRequest request, final MemberId receiver) {
+      request.payloadWriters().forEach(ignored -> attemptedStreams.add(request.streamId()));
+      attempt++;
+      if (attempt <= succeedAfterAttempt) {
+        return CompletableFuture.failedFuture(new RuntimeException("force fail"));
+      }
+      return CompletableFuture.completedFuture(
+          BufferUtil.bufferAsArray(new PushStreamBatchResponse()));
+    }
   }
 }
@@ -13,20 +13,26 @@ import static org.assertj.core.api.Assertions.assertThatCode;
 import io.atomix.cluster.MemberId;
 import io.camunda.zeebe.transport.stream.api.RemoteStreamErrorHandler;
 import io.camunda.zeebe.transport.stream.api.StreamResponseException;
+import io.camunda.zeebe.transport.stream.impl.AggregatedRemoteStream.StreamConsumer;
 import io.camunda.zeebe.transport.stream.impl.AggregatedRemoteStream.StreamId;
 import io.camunda.zeebe.transport.stream.impl.RemoteStreamPusher.Transport;
 import io.camunda.zeebe.transport.stream.impl.messages.ErrorCode;
 import io.camunda.zeebe.transport.stream.impl.messages.ErrorResponse;
+import io.camunda.zeebe.transport.stream.impl.messages.PushStreamBatchRequest;
+import io.camunda.zeebe.transport.stream.impl.messages.PushStreamBatchResponse;
 import io.camunda.zeebe.transport.stream.impl.messages.PushStreamRequest;
 import io.camunda.zeebe.transport.stream.impl.messages.PushStreamResponse;
 import io.camunda.zeebe.util.buffer.BufferUtil;
 import io.camunda.zeebe.util.buffer.BufferWriter;
+import java.util.ArrayDeque;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.UUID;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.Executor;
 import org.agrona.MutableDirectBuffer;
+import org.agrona.concurrent.UnsafeBuffer;
+import org.assertj.core.api.InstanceOfAssertFactories;
 import org.assertj.core.condition.VerboseCondition;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
@@ -149,6 +155,179 @@ final class RemoteStreamPusherTest {
     assertThat(metrics.getFailedPushTry(detailCode)).isOne();
   }
 
+  @Test
+  void shouldBatchPushesToConsumerWithCredits() {
+    // given
+    final var flushes = new ArrayDeque<Runnable>();
+    final var batchingPusher =
+        new RemoteStreamPusher<Payload>(transport, executor, flushes::add, metrics);
+    final var consumer = consumerWithCredits(4);
+    final var errorHandler = new TestErrorHandler();
+    final var payloads = List.of(new Payload(1), new Payload(2), new Payload(3));
+    payloads.forEach(p -> acquireAndPush(batchingPusher, p, errorHandler, consumer));
+
+    // when
+    flushes.forEach(Runnable::run);
+
+    // then
+    assertThat(flushes).hasSize(1);
+    assertThat(transport.message).isNull();
+    assertThat(transport.batches).hasSize(1);
+    final var sentBatch = transport.batches.get(0);
+    assertThat(sentBatch.request.streamId()).isEqualTo(streamId.streamId());
+    assertThat(sentBatch.request.payloadWriters()).containsExactlyElementsOf(payloads);
+    assertThat(sentBatch.receiver).isEqualTo(streamId.receiver());
+    assertThat(errorHandler.errors).isEmpty();
+    assertThat(metrics.getPushSucceeded()).isEqualTo(3);
+  }
+
+  @Test
+  void shouldReleaseCreditsWhenBatchCompletes() {
+    // given
+    final var response = new CompletableFuture<byte[]>();
+    final var consumer = consumerWithCredits(2);
+    transport.batchResponse = response;
+    acquireAndPush(pusher, new Payload(1), new TestErrorHandler(), consumer);
+    acquireAndPush(pusher, new Payload(2), new TestErrorHandler(), consumer);
+    assertThat(consumer.credits().tryAcquire()).isFalse();
+
+    // when
+    response.complete(BufferUtil.bufferAsArray(new PushStreamBatchResponse()));
+
+    // then
+    assertThat(consumer.credits().remaining()).isEqualTo(2);
+  }
+
+  @Test
+  void shouldUpdateCreditsFromBatchResponse() {
+    // given
+    final var consumer = consumerWithCredits(2);
+    transport.batchResponse =
+        CompletableFuture.completedFuture(
+            BufferUtil.bufferAsArray(new PushStreamBatchResponse().credits(8)));
+
+    // when
+    acquireAndPush(pusher, new Payload(1), new TestErrorHandler(), consumer);
+
+    // then
+    assertThat(consumer.credits().remaining()).isEqualTo(8);
+  }
+
+  @Test
+  void shouldReportFailedPayloadsOfBatch() {
+    // given
+    final var flushes = new ArrayDeque<Runnable>();
+    final var batchingPusher =
+        new RemoteStreamPusher<Payload>(transport, executor, flushes::add, metrics);
+    final var consumer = consumerWithCredits(2);
+    final var errorHandler = new TestErrorHandler();
+    final var failed = new Payload(2);
+    transport.batchResponse =
+        CompletableFuture.completedFuture(
+            BufferUtil.bufferAsArray(
+                new PushStreamBatchResponse().addFailure(1, ErrorCode.BLOCKED, "blocked")));
+    acquireAndPush(batchingPusher, new Payload(1), errorHandler, consumer);
+    acquireAndPush(batchingPusher, failed, errorHandler, consumer);
+
+    // when
+    flushes.forEach(Runnable::run);
+
+    // then
+    assertThat(metrics.getPushSucceeded()).isOne();
+    assertThat(metrics.getPushFailed()).isOne();
+    assertThat(errorHandler.errors)
+        .hasSize(1)
+        .first()
+        .satisfies(
+            e -> {
+              assertThat(e.payload()).isEqualTo(failed);
+              assertThat(e.error())
+                  .asInstanceOf(InstanceOfAssertFactories.type(StreamResponseException.class))
+                  .returns(ErrorCode.BLOCKED, StreamResponseException::code);
+            });
+  }
+
+  @Test
+  void shouldFailWholeBatchOnTransportError() {
+    // given
+    final var consumer = consumerWithCredits(2);
+    final var errorHandler = new TestErrorHandler();
+    final var failure = new RuntimeException("Async failure");
+    transport.batchResponse = CompletableFuture.failedFuture(failure);
+
+    // when
+    acquireAndPush(pusher, new Payload(1), errorHandler, consumer);
+
+    // then
+    assertThat(errorHandler.errors)
+        .extracting(TestErrorHandler.Error::error)
+        .containsExactly(failure);
+    assertThat(consumer.credits().remaining()).isEqualTo(2);
+  }
+
+  @Test
+  void shouldNotifyWhenStarvedConsumerHasCreditsAgain() {
+    // given
+    final var response = new CompletableFuture<byte[]>();
+    final var notifiedTypes = new ArrayList<String>();
+    final var notifyingPusher =
+        new RemoteStreamPusher<Payload>(
+            transport,
+            executor,
+            executor,
+            type -> notifiedTypes.add(BufferUtil.bufferAsString(type)),
+            metrics);
+    final var consumer =
+        new StreamConsumer<>(
+            streamId,
+            new LogicalId<Void>(new UnsafeBuffer(BufferUtil.wrapString("foo")), null),
+            new StreamCredits(1));
+    transport.batchResponse = response;
+    acquireAndPush(notifyingPusher, new Payload(1), new TestErrorHandler(), consumer);
+    assertThat(consumer.credits().tryAcquire()).isFalse();
+    consumer.credits().markStarved();
+
+    // when
+    response.complete(BufferUtil.bufferAsArray(new PushStreamBatchResponse()));
+
+    // then
+    assertThat(notifiedTypes).containsExactly("foo");
+  }
+
+  @Test
+  void shouldNotNotifyWhenConsumerWasNotStarved() {
+    // given
+    final var notifiedTypes = new ArrayList<String>();
+    final var notifyingPusher =
+        new RemoteStreamPusher<Payload>(
+            transport,
+            executor,
+            executor,
+            type -> notifiedTypes.add(BufferUtil.bufferAsString(type)),
+            metrics);
+    final var consumer = consumerWithCredits(1);
+
+    // when
+    acquireAndPush(notifyingPusher, new Payload(1), new TestErrorHandler(), consumer);
+
+    // then
+    assertThat(consumer.credits().remaining()).isOne();
+    assertThat(notifiedTypes).isEmpty();
+  }
+
+  private StreamConsumer<Void> consumerWithCredits(final int credits) {
+    return new StreamConsumer<>(streamId, null, new StreamCredits(credits));
+  }
+
+  private void acquireAndPush(
+      final RemoteStreamPusher<Payload> pusher,
+      final Payload payload,
+      final TestErrorHandler errorHandler,
+      final StreamConsumer<Void> consumer) {
+    assertThat(consumer.credits().tryAcquire()).isTrue();
+    pusher.pushAsync(payload, errorHandler, consumer);
+  }
+
   private record Payload(int version) implements BufferWriter {
 
     @Override
@@ -179,7 +358,10 @@ final class RemoteStreamPusherTest {
   private static final class TestTransport implements Transport {
     private CompletableFuture<byte[]> response =
         CompletableFuture.completedFuture(BufferUtil.bufferAsArray(new PushStreamResponse()));
+    private CompletableFuture<byte[]> batchResponse =
+        CompletableFuture.completedFuture(BufferUtil.bufferAsArray(new PushStreamBatchResponse()));
     private Message message;
+    private final List<BatchMessage> batches = new ArrayList<>();
     private Exception synchronousException;
 
     @Override
@@ -193,6 +375,19 @@ final class RemoteStreamPusherTest {
       return response;
     }
 
+    @Override
+    public CompletableFuture<byte[]> sendBatch(
+        final PushStreamBatchRequest request, final MemberId receiver) throws Exception {
+      if (synchronousException != null) {
+        throw synchronousException;
+      }
+
+      batches.add(new BatchMessage(request, receiver));
+      return batchResponse;
+    }
+
     private record Message(PushStreamRequest request, MemberId receiver) {}
+
+    private record BatchMessage(PushStreamBatchRequest request, MemberId receiver) {}
   }
 }
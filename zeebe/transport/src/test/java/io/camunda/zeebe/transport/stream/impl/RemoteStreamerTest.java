@@ -14,13 +14,16 @@ import io.atomix.cluster.messaging.ClusterCommunicationService;
 import io.camunda.zeebe.scheduler.testing.ControlledActorSchedulerExtension;
 import io.camunda.zeebe.transport.stream.api.RemoteStreamMetrics;
 import io.camunda.zeebe.transport.stream.impl.AggregatedRemoteStream.StreamId;
+import io.camunda.zeebe.transport.stream.impl.messages.PushStreamBatchResponse;
 import io.camunda.zeebe.transport.stream.impl.messages.PushStreamRequest;
 import io.camunda.zeebe.transport.stream.impl.messages.StreamTopics;
 import io.camunda.zeebe.util.buffer.BufferReader;
 import io.camunda.zeebe.util.buffer.BufferUtil;
 import io.camunda.zeebe.util.buffer.BufferWriter;
+import java.util.ArrayList;
 import java.util.Objects;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
 import org.agrona.CloseHelper;
 import org.agrona.DirectBuffer;
 import org.agrona.MutableDirectBuffer;
@@ -123,6 +126,47 @@ final class RemoteStreamerTest {
             Mockito.any());
   }
 
+  @Test
+  void shouldNotifyWhenExhaustedStreamHasCreditsAgain() {
+    // given - a single consumer with one credit, whose only push is still in flight
+    final var type = new UnsafeBuffer(BufferUtil.wrapString("foo"));
+    final var streamId = new StreamId(UUID.randomUUID(), MemberId.from("a"));
+    final var response = new CompletableFuture<byte[]>();
+    final var notifiedTypes = new ArrayList<String>();
+    final var notifyingStreamer =
+        new RemoteStreamerImpl<TestMetadata, TestPayload>(
+            communicationService,
+            registry,
+            (e, d) -> {},
+            t -> notifiedTypes.add(BufferUtil.bufferAsString(t)),
+            RemoteStreamMetrics.noop());
+    Mockito.doReturn(response)
+        .when(communicationService)
+        .send(
+            Mockito.eq(StreamTopics.PUSH_BATCH.topic()),
+            Mockito.any(),
+            Mockito.any(),
+            Mockito.any(),
+            Mockito.any(),
+            Mockito.any());
+    scheduler.submitActor(notifyingStreamer);
+    registry.add(type, streamId.streamId(), streamId.receiver(), new TestMetadata(1), 1);
+    notifyingStreamer.streamFor(type).orElseThrow().push(new TestPayload(1));
+    scheduler.workUntilDone();
+
+    // when - the stream is exhausted, and its push completes afterwards
+    final var exhausted = notifyingStreamer.streamFor(type);
+    response.complete(BufferUtil.bufferAsArray(new PushStreamBatchResponse()));
+    scheduler.workUntilDone();
+
+    // then
+    assertThat(exhausted).isEmpty();
+    assertThat(notifiedTypes).containsExactly("foo");
+    assertThat(notifyingStreamer.streamFor(type)).isPresent();
+    notifyingStreamer.closeAsync();
+    scheduler.workUntilDone();
+  }
+
   private record TestPayload(long key) implements BufferWriter {
 
     @Override
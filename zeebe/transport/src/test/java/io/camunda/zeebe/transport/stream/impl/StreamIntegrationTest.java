@@ -125,6 +125,48 @@ final class StreamIntegrationTest {
     assertThat(payloads.get()).asList().containsExactly(100, 200);
   }
 
+  @Test
+  void shouldStopPickingStreamWithoutCreditsUntilPushesComplete() {
+    // given
+    final var pendingPushes = new ArrayList<CompletableActorFuture<Void>>();
+    final var streamType = BufferUtil.wrapString("foo");
+    final var streamId =
+        clientStreamer
+            .add(
+                streamType,
+                metadata,
+                p -> {
+                  final var pushed = new CompletableActorFuture<Void>();
+                  synchronized (pendingPushes) {
+                    pendingPushes.add(pushed);
+                  }
+                  return pushed;
+                },
+                2)
+            .join();
+    awaitStreamAdded(streamType, streamId, server1, server2);
+
+    // when
+    server1.streamer.streamFor(streamType).orElseThrow().push(new TestSerializableData(100));
+    server1.streamer.streamFor(streamType).orElseThrow().push(new TestSerializableData(200));
+
+    // then
+    assertThat(server1.streamer.streamFor(streamType)).isEmpty();
+    assertThat(server2.streamer.streamFor(streamType)).isPresent();
+    Awaitility.await("until both payloads were received")
+        .until(
+            () -> {
+              synchronized (pendingPushes) {
+                return pendingPushes.size() == 2;
+              }
+            });
+    synchronized (pendingPushes) {
+      pendingPushes.forEach(pushed -> pushed.complete(null));
+    }
+    Awaitility.await("until the credits are released")
+        .until(() -> server1.streamer.streamFor(streamType).isPresent());
+  }
+
   @Test
   void shouldReturnErrorWhenClientStreamIsClosed() throws InterruptedException {
     // given
@@ -44,6 +44,26 @@ final class SerializationTest {
     assertThat(deserialized.metadata()).isEqualTo(BufferUtil.wrapString("bar"));
   }
 
+  @Test
+  void shouldSerializeAddStreamRequestCredits() {
+    // given
+    final var request =
+        new AddStreamRequest()
+            .streamId(UUID.randomUUID())
+            .streamType(BufferUtil.wrapString("foo"))
+            .metadata(BufferUtil.wrapString("bar"))
+            .credits(32);
+
+    // when
+    request.write(buffer, 0);
+    final var deserialized = new AddStreamRequest();
+    deserialized.wrap(buffer, 0, request.getLength());
+
+    // then
+    assertThat(deserialized.credits()).isEqualTo(32);
+    assertThat(deserialized).isEqualTo(request);
+  }
+
   @Test
   void shouldSerializeAddStreamRequestWithMetadataWriter() {
     // given
@@ -140,6 +160,68 @@ final class SerializationTest {
         .doesNotThrowAnyException();
   }
 
+  @Test
+  void shouldSerializePushStreamBatchRequest() {
+    // given
+    final var streamId = UUID.randomUUID();
+    final var request =
+        new PushStreamBatchRequest()
+            .streamId(streamId)
+            .addPayload(new DirectBufferWriter().wrap(BufferUtil.wrapString("foo")))
+            .addPayload(new DirectBufferWriter().wrap(BufferUtil.wrapString("barbaz")));
+
+    // when
+    request.write(buffer, 0);
+    final var deserialized = new PushStreamBatchRequest();
+    deserialized.wrap(buffer, 0, request.getLength());
+
+    // then
+    assertThat(deserialized.streamId()).isEqualTo(streamId);
+    assertThat(deserialized.payloads())
+        .containsExactly(BufferUtil.wrapString("foo"), BufferUtil.wrapString("barbaz"));
+  }
+
+  @Test
+  void shouldSerializePushStreamBatchResponse() {
+    // given
+    final var response =
+        new PushStreamBatchResponse()
+            .credits(16)
+            .addFailure(1, ErrorCode.BLOCKED, "Stream is blocked")
+            .addFailure(3, ErrorCode.EXHAUSTED, "Stream is exhausted");
+
+    // when
+    response.write(buffer, 0);
+    final var deserialized = new PushStreamBatchResponse();
+    deserialized.wrap(buffer, 0, response.getLength());
+
+    // then
+    assertThat(deserialized.credits()).isEqualTo(16);
+    assertThat(deserialized.failures())
+        .extracting(
+            PushStreamBatchResponse.Failure::index,
+            PushStreamBatchResponse.Failure::code,
+            PushStreamBatchResponse.Failure::message)
+        .containsExactly(
+            Tuple.tuple(1, ErrorCode.BLOCKED, "Stream is blocked"),
+            Tuple.tuple(3, ErrorCode.EXHAUSTED, "Stream is exhausted"));
+  }
+
+  @Test
+  void shouldSerializeUnknownCreditsOfPushStreamBatchResponse() {
+    // given
+    final var response = new PushStreamBatchResponse();
+
+    // when
+    response.write(buffer, 0);
+    final var deserialized = new PushStreamBatchResponse().credits(8);
+    deserialized.wrap(buffer, 0, response.getLength());
+
+    // then
+    assertThat(deserialized.credits()).isEqualTo(PushStreamBatchResponse.UNKNOWN_CREDITS);
+    assertThat(deserialized.failures()).isEmpty();
+  }
+
   @Test
   void shouldSerializeErrorResponse() {
     // given
@@ -7,6 +7,7 @@
  */
 package io.camunda.zeebe.db;
 
+import java.util.Collection;
 import java.util.function.BiConsumer;
 import java.util.function.Consumer;
 
@@ -44,6 +45,20 @@ public interface ColumnFamily<KeyType extends DbKey, ValueType extends DbValue>
    */
   ValueType get(KeyType key);
 
+  /**
+   * Looks up the values of all given keys at once, which is cheaper than looking up each key on its
+   * own via {@link #get(DbKey)}. The lookup sees the pending writes of the current transaction.
+   *
+   * <p>The visitor is called once per key, in the iteration order of the given keys, with the
+   * corresponding value or null if the key was not found. Since all keys are looked up before the
+   * first call, each key must be a distinct instance. Like in {@link #forEach(BiConsumer)}, the
+   * given value is reused between calls and should not be stored.
+   *
+   * @param keys the keys to look up
+   * @param visitor the visitor which accepts each key with its value, or null if it was not found
+   */
+  void multiGet(Collection<KeyType> keys, BiConsumer<KeyType, ValueType> visitor);
+
   /**
    * Visits the values, which are stored in the column family. The ordering depends on the key.
    *
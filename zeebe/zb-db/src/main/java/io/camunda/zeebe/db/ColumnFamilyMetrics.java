@@ -17,4 +17,10 @@ public interface ColumnFamilyMetrics {
   Timer measureDeleteLatency();
 
   Timer measureIterateLatency();
+
+  /** Called when a lookup in a cached column family was served by the cache. */
+  void recordCacheHit();
+
+  /** Called when a lookup in a cached column family had to read from the database. */
+  void recordCacheMiss();
 }
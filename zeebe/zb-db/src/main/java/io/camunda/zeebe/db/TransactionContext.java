@@ -34,4 +34,13 @@ public interface TransactionContext {
    * @return the transaction object
    */
   ZeebeDbTransaction getCurrentTransaction();
+
+  /**
+   * Registers a listener which is notified once, when the current transaction is committed or
+   * rolled back. If there is no open transaction, the listener is notified when the next
+   * transaction ends, e.g. after a single operation which is run in its own transaction.
+   *
+   * @param listener the listener to notify
+   */
+  void addTransactionListener(TransactionListener listener);
 }
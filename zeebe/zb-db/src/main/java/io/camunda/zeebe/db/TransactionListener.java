@@ -0,0 +1,22 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.db;
+
+/**
+ * Is notified once a transaction ends, see {@link TransactionContext#addTransactionListener}. This
+ * allows to keep in-memory data in sync with the state, by only applying changes once they are
+ * committed.
+ */
+public interface TransactionListener {
+
+  /** Called after the transaction was committed successfully. */
+  void onCommit();
+
+  /** Called after the transaction was rolled back, which includes failed commits. */
+  void onRollback();
+}
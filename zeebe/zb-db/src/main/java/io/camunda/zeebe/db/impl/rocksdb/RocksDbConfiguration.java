@@ -8,6 +8,7 @@
 package io.camunda.zeebe.db.impl.rocksdb;
 
 import java.util.Properties;
+import java.util.Set;
 
 public final class RocksDbConfiguration {
 
@@ -43,6 +44,10 @@ public final class RocksDbConfiguration {
 
   public static final int DEFAULT_IO_RATE_BYTES_PER_SECOND = 0;
 
+  public static final TransactionMode DEFAULT_TRANSACTION_MODE = TransactionMode.OPTIMISTIC;
+
+  public static final long DEFAULT_COLUMN_FAMILY_CACHE_MEMORY_LIMIT = 16 * 1024 * 1024L;
+
   private Properties columnFamilyOptions = new Properties();
   private boolean statisticsEnabled = DEFAULT_STATISTICS_ENABLED;
   private long memoryLimit = DEFAULT_MEMORY_LIMIT;
@@ -72,6 +77,25 @@ public final class RocksDbConfiguration {
    */
   private int ioRateBytesPerSecond = DEFAULT_IO_RATE_BYTES_PER_SECOND;
 
+  /**
+   * Defines how transactions are implemented on top of RocksDB. See {@link TransactionMode} for
+   * the available modes.
+   */
+  private TransactionMode transactionMode = DEFAULT_TRANSACTION_MODE;
+
+  /**
+   * Names of the column families whose committed values are cached in memory, such that repeated
+   * lookups of the same keys don't have to read from RocksDB. Per default no column family is
+   * cached.
+   */
+  private Set<String> cachedColumnFamilies = Set.of();
+
+  /**
+   * The maximum size in bytes of the keys and values kept per cached column family; the least
+   * recently used entries are evicted first.
+   */
+  private long columnFamilyCacheMemoryLimit = DEFAULT_COLUMN_FAMILY_CACHE_MEMORY_LIMIT;
+
   public RocksDbConfiguration() {}
 
   public Properties getColumnFamilyOptions() {
@@ -155,4 +179,48 @@ public final class RocksDbConfiguration {
     this.sstPartitioningEnabled = sstPartitioningEnabled;
     return this;
   }
+
+  public TransactionMode getTransactionMode() {
+    return transactionMode;
+  }
+
+  public RocksDbConfiguration setTransactionMode(final TransactionMode transactionMode) {
+    this.transactionMode = transactionMode;
+    return this;
+  }
+
+  public Set<String> getCachedColumnFamilies() {
+    return cachedColumnFamilies;
+  }
+
+  public RocksDbConfiguration setCachedColumnFamilies(final Set<String> cachedColumnFamilies) {
+    this.cachedColumnFamilies = cachedColumnFamilies;
+    return this;
+  }
+
+  public long getColumnFamilyCacheMemoryLimit() {
+    return columnFamilyCacheMemoryLimit;
+  }
+
+  public RocksDbConfiguration setColumnFamilyCacheMemoryLimit(
+      final long columnFamilyCacheMemoryLimit) {
+    this.columnFamilyCacheMemoryLimit = columnFamilyCacheMemoryLimit;
+    return this;
+  }
+
+  public enum TransactionMode {
+    /**
+     * Transactions are RocksDB transactions of an {@link org.rocksdb.OptimisticTransactionDB},
+     * which tracks every written key to detect conflicts on commit.
+     */
+    OPTIMISTIC,
+
+    /**
+     * Transactions are buffered in a {@link org.rocksdb.WriteBatchWithIndex} and written to a plain
+     * {@link org.rocksdb.RocksDB} on commit. Reads see the pending writes of the batch, but no
+     * conflict detection is done, which is only safe as long as there is a single writer; this is
+     * the case for the stream processor, which is the only writer of a partition's state.
+     */
+    WRITE_BATCH
+  }
 }
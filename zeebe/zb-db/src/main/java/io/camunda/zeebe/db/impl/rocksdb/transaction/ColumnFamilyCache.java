@@ -0,0 +1,144 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.db.impl.rocksdb.transaction;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Map.Entry;
+import org.agrona.DirectBuffer;
+import org.agrona.concurrent.UnsafeBuffer;
+
+/**
+ * A memory bounded, least recently used cache of the committed values of a single column family. It
+ * is shared by all {@link TransactionalColumnFamily} instances of the same column family, across
+ * all transaction contexts of a database.
+ *
+ * <p>The cache only ever contains committed state: writes of an open transaction are kept in the
+ * transaction (see {@link ZeebeTransaction#getCachedWrites(ColumnFamilyCache)}) and only applied
+ * to the cache once the transaction was committed. On rollback they are simply dropped.
+ *
+ * <p>Absent keys are cached as well, as {@link #ABSENT}, such that repeated existence checks for
+ * missing keys don't have to go to RocksDB either.
+ *
+ * <p>Readers on other threads may populate the cache with a value they read before a concurrent
+ * commit of a writer. To not overwrite the writer's value with such a stale value, values read
+ * from the database are only added via {@link #putIfUnchanged(DirectBuffer, byte[], long)}, which
+ * rejects the value if any commit happened since the reader obtained the {@link #version()}.
+ *
+ * <p>The cache is bounded by the size of its keys and values in bytes, not counting the overhead
+ * of the map entries. Least recently used entries are evicted until the cache fits again, and
+ * values which alone exceed the bound are not cached at all.
+ */
+final class ColumnFamilyCache {
+
+  /** Marker for keys which are known to not exist; compared by identity. */
+  static final byte[] ABSENT = new byte[0];
+
+  // access ordered, such that iteration starts with the least recently used entry
+  private final Map<DirectBuffer, byte[]> entries = new LinkedHashMap<>(16, 0.75f, true);
+  private final long maxSizeInBytes;
+  private long sizeInBytes;
+  private long version;
+
+  ColumnFamilyCache(final long maxSizeInBytes) {
+    if (maxSizeInBytes <= 0) {
+      throw new IllegalArgumentException(
+          "Expected the max size of a column family cache to be greater than 0, but was %d"
+              .formatted(maxSizeInBytes));
+    }
+
+    this.maxSizeInBytes = maxSizeInBytes;
+  }
+
+  /**
+   * @param key the full key, including the column family prefix
+   * @return the cached value, {@link #ABSENT} if the key is known to not exist, or null if the key
+   *     is not cached
+   */
+  synchronized byte[] get(final DirectBuffer key) {
+    return entries.get(key);
+  }
+
+  /**
+   * @return the current version of the cache, which changes on every commit which modified it
+   */
+  synchronized long version() {
+    return version;
+  }
+
+  /**
+   * Adds a value which was read from the database, unless the cache was modified by a commit since
+   * {@code expectedVersion} was obtained.
+   *
+   * @param key the full key, including the column family prefix; copied if the value is added
+   * @param value the value read from the database, or null if the key does not exist
+   * @param expectedVersion the version obtained via {@link #version()} before reading the value
+   */
+  synchronized void putIfUnchanged(
+      final DirectBuffer key, final byte[] value, final long expectedVersion) {
+    if (version == expectedVersion) {
+      put(copyOf(key), value == null ? ABSENT : value);
+      evictLeastRecentlyUsed();
+    }
+  }
+
+  /**
+   * Applies the writes of a committed transaction.
+   *
+   * @param writes the written values per key, with {@link #ABSENT} for deleted keys
+   */
+  synchronized void apply(final Map<DirectBuffer, byte[]> writes) {
+    version++;
+    writes.forEach(this::put);
+    evictLeastRecentlyUsed();
+  }
+
+  synchronized int size() {
+    return entries.size();
+  }
+
+  synchronized long sizeInBytes() {
+    return sizeInBytes;
+  }
+
+  private void put(final DirectBuffer key, final byte[] value) {
+    final long entrySize = sizeOf(key, value);
+    final byte[] previous;
+    if (entrySize > maxSizeInBytes) {
+      // would evict everything else and then itself; drop the outdated value instead
+      previous = entries.remove(key);
+    } else {
+      previous = entries.put(key, value);
+      sizeInBytes += entrySize;
+    }
+
+    if (previous != null) {
+      sizeInBytes -= sizeOf(key, previous);
+    }
+  }
+
+  private void evictLeastRecentlyUsed() {
+    final Iterator<Entry<DirectBuffer, byte[]>> leastRecentlyUsed = entries.entrySet().iterator();
+    while (sizeInBytes > maxSizeInBytes && leastRecentlyUsed.hasNext()) {
+      final var entry = leastRecentlyUsed.next();
+      sizeInBytes -= sizeOf(entry.getKey(), entry.getValue());
+      leastRecentlyUsed.remove();
+    }
+  }
+
+  private static long sizeOf(final DirectBuffer key, final byte[] value) {
+    return (long) key.capacity() + value.length;
+  }
+
+  static DirectBuffer copyOf(final DirectBuffer key) {
+    final var bytes = new byte[key.capacity()];
+    key.getBytes(0, bytes);
+    return new UnsafeBuffer(bytes);
+  }
+}
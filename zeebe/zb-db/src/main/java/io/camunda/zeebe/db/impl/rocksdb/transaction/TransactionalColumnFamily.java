@@ -19,12 +19,17 @@ import io.camunda.zeebe.db.KeyValuePairVisitor;
 import io.camunda.zeebe.db.TransactionContext;
 import io.camunda.zeebe.db.ZeebeDbInconsistentException;
 import io.camunda.zeebe.protocol.EnumValue;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
 import java.util.Objects;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicLong;
 import java.util.function.BiConsumer;
 import java.util.function.Consumer;
 import org.agrona.DirectBuffer;
+import org.agrona.concurrent.UnsafeBuffer;
 import org.rocksdb.ReadOptions;
 import org.rocksdb.RocksIterator;
 
@@ -56,6 +61,8 @@ class TransactionalColumnFamily<
   private final ColumnFamilyContext columnFamilyContext;
   private final ForeignKeyChecker foreignKeyChecker;
   private final ColumnFamilyMetrics metrics;
+  private final ColumnFamilyCache cache;
+  private final UnsafeBuffer cacheKey = new UnsafeBuffer(0, 0);
 
   TransactionalColumnFamily(
       final ZeebeTransactionDb<ColumnFamilyNames> transactionDb,
@@ -64,7 +71,8 @@ class TransactionalColumnFamily<
       final TransactionContext context,
       final KeyType keyInstance,
       final ValueType valueInstance,
-      final ColumnFamilyMetrics metrics) {
+      final ColumnFamilyMetrics metrics,
+      final ColumnFamilyCache cache) {
     this.transactionDb = transactionDb;
     this.consistencyChecksSettings = consistencyChecksSettings;
     this.columnFamily = columnFamily;
@@ -72,6 +80,7 @@ class TransactionalColumnFamily<
     this.keyInstance = keyInstance;
     this.valueInstance = valueInstance;
     this.metrics = metrics;
+    this.cache = cache;
     columnFamilyContext = new ColumnFamilyContext(columnFamily.getValue());
     foreignKeyChecker = new ForeignKeyChecker(transactionDb, consistencyChecksSettings);
   }
@@ -92,6 +101,7 @@ class TransactionalColumnFamily<
                 columnFamilyContext.getKeyLength(),
                 columnFamilyContext.getValueBufferArray(),
                 value.getLength());
+            cacheWrite(transaction, value.getLength());
           });
     }
   }
@@ -111,6 +121,7 @@ class TransactionalColumnFamily<
                 columnFamilyContext.getKeyLength(),
                 columnFamilyContext.getValueBufferArray(),
                 value.getLength());
+            cacheWrite(transaction, value.getLength());
           });
     }
   }
@@ -129,6 +140,7 @@ class TransactionalColumnFamily<
                 columnFamilyContext.getKeyLength(),
                 columnFamilyContext.getValueBufferArray(),
                 value.getLength());
+            cacheWrite(transaction, value.getLength());
           });
     }
   }
@@ -139,13 +151,7 @@ class TransactionalColumnFamily<
       ensureInOpenTransaction(
           transaction -> {
             columnFamilyContext.writeKey(key);
-            final byte[] value =
-                transaction.get(
-                    transactionDb.getDefaultNativeHandle(),
-                    transactionDb.getReadOptionsNativeHandle(),
-                    columnFamilyContext.getKeyBufferArray(),
-                    columnFamilyContext.getKeyLength());
-            columnFamilyContext.wrapValueView(value);
+            columnFamilyContext.wrapValueView(getValue(transaction));
           });
       final var valueBuffer = columnFamilyContext.getValueView();
       if (valueBuffer != null) {
@@ -156,6 +162,33 @@ class TransactionalColumnFamily<
     }
   }
 
+  @Override
+  public void multiGet(
+      final Collection<KeyType> keys, final BiConsumer<KeyType, ValueType> visitor) {
+    if (keys.isEmpty()) {
+      return;
+    }
+
+    try (final var timer = metrics.measureGetLatency()) {
+      ensureInOpenTransaction(
+          transaction -> {
+            final var values = multiGetValues(transaction, keys);
+
+            int index = 0;
+            for (final KeyType key : keys) {
+              columnFamilyContext.wrapValueView(values[index++]);
+              final var valueBuffer = columnFamilyContext.getValueView();
+              if (valueBuffer != null) {
+                valueInstance.wrap(valueBuffer, 0, valueBuffer.capacity());
+                visitor.accept(key, valueInstance);
+              } else {
+                visitor.accept(key, null);
+              }
+            }
+          });
+    }
+  }
+
   @Override
   public void forEach(final Consumer<ValueType> consumer) {
     ensureInOpenTransaction(
@@ -229,6 +262,7 @@ class TransactionalColumnFamily<
                 transactionDb.getDefaultNativeHandle(),
                 columnFamilyContext.getKeyBufferArray(),
                 columnFamilyContext.getKeyLength());
+            cacheDelete(transaction);
           });
     }
   }
@@ -243,6 +277,7 @@ class TransactionalColumnFamily<
                 transactionDb.getDefaultNativeHandle(),
                 columnFamilyContext.getKeyBufferArray(),
                 columnFamilyContext.getKeyLength());
+            cacheDelete(transaction);
           });
     }
   }
@@ -253,13 +288,7 @@ class TransactionalColumnFamily<
       ensureInOpenTransaction(
           transaction -> {
             columnFamilyContext.writeKey(key);
-            final byte[] value =
-                transaction.get(
-                    transactionDb.getDefaultNativeHandle(),
-                    transactionDb.getReadOptionsNativeHandle(),
-                    columnFamilyContext.getKeyBufferArray(),
-                    columnFamilyContext.getKeyLength());
-            columnFamilyContext.wrapValueView(value);
+            columnFamilyContext.wrapValueView(getValue(transaction));
           });
       return !columnFamilyContext.isValueViewEmpty();
     }
@@ -334,6 +363,118 @@ class TransactionalColumnFamily<
     }
   }
 
+  /**
+   * Reads the value of the key currently written to the column family context. If the column
+   * family is cached, the value is looked up in the writes of the current transaction and in the
+   * cache first, and only read from the database on a cache miss.
+   */
+  private byte[] getValue(final ZeebeTransaction transaction) throws Exception {
+    if (cache == null) {
+      return getFromTransaction(transaction);
+    }
+
+    cacheKey.wrap(columnFamilyContext.getKeyBufferArray(), 0, columnFamilyContext.getKeyLength());
+    final byte[] cachedValue = getCachedValue(transaction, cacheKey);
+    if (cachedValue != null) {
+      return cachedValue == ColumnFamilyCache.ABSENT ? null : cachedValue;
+    }
+
+    final long version = cache.version();
+    final byte[] value = getFromTransaction(transaction);
+    cache.putIfUnchanged(cacheKey, value, version);
+    return value;
+  }
+
+  /**
+   * Reads the values of all given keys, in the order of the keys. If the column family is cached,
+   * only the keys which are not cached are read from the database, in a single multi get.
+   */
+  private byte[][] multiGetValues(
+      final ZeebeTransaction transaction, final Collection<KeyType> keys) throws Exception {
+    final byte[][] values = new byte[keys.size()][];
+    final List<byte[]> keysToRead = new ArrayList<>(keys.size());
+    final int[] indexesToRead = new int[keys.size()];
+    final long cacheVersion = cache != null ? cache.version() : 0;
+
+    int index = 0;
+    for (final KeyType key : keys) {
+      columnFamilyContext.writeKey(key);
+      final byte[] keyBytes =
+          Arrays.copyOf(
+              columnFamilyContext.getKeyBufferArray(), columnFamilyContext.getKeyLength());
+
+      final byte[] cachedValue =
+          cache != null ? getCachedValue(transaction, new UnsafeBuffer(keyBytes)) : null;
+      if (cachedValue != null) {
+        values[index] = cachedValue == ColumnFamilyCache.ABSENT ? null : cachedValue;
+      } else {
+        indexesToRead[keysToRead.size()] = index;
+        keysToRead.add(keyBytes);
+      }
+      index++;
+    }
+
+    if (keysToRead.isEmpty()) {
+      return values;
+    }
+
+    final List<byte[]> readValues =
+        transaction.multiGet(
+            transactionDb.getDefaultReadOptions(), transactionDb.getDefaultHandle(), keysToRead);
+    for (int i = 0; i < keysToRead.size(); i++) {
+      final byte[] value = readValues.get(i);
+      values[indexesToRead[i]] = value;
+      if (cache != null) {
+        cache.putIfUnchanged(new UnsafeBuffer(keysToRead.get(i)), value, cacheVersion);
+      }
+    }
+    return values;
+  }
+
+  /**
+   * @return the value written by the current transaction or cached for the given key, {@link
+   *     ColumnFamilyCache#ABSENT} if the key is known to not exist, or null on a cache miss
+   */
+  private byte[] getCachedValue(final ZeebeTransaction transaction, final DirectBuffer key) {
+    byte[] value = transaction.getCachedWrite(cache, key);
+    if (value == null) {
+      value = cache.get(key);
+    }
+
+    if (value != null) {
+      metrics.recordCacheHit();
+    } else {
+      metrics.recordCacheMiss();
+    }
+    return value;
+  }
+
+  private byte[] getFromTransaction(final ZeebeTransaction transaction) throws Exception {
+    return transaction.get(
+        transactionDb.getDefaultNativeHandle(),
+        transactionDb.getReadOptionsNativeHandle(),
+        columnFamilyContext.getKeyBufferArray(),
+        columnFamilyContext.getKeyLength());
+  }
+
+  private void cacheWrite(final ZeebeTransaction transaction, final int valueLength) {
+    if (cache != null) {
+      final var value = Arrays.copyOf(columnFamilyContext.getValueBufferArray(), valueLength);
+      transaction.getCachedWrites(cache).put(currentKeyCopy(), value);
+    }
+  }
+
+  private void cacheDelete(final ZeebeTransaction transaction) {
+    if (cache != null) {
+      transaction.getCachedWrites(cache).put(currentKeyCopy(), ColumnFamilyCache.ABSENT);
+    }
+  }
+
+  private DirectBuffer currentKeyCopy() {
+    cacheKey.wrap(columnFamilyContext.getKeyBufferArray(), 0, columnFamilyContext.getKeyLength());
+    return ColumnFamilyCache.copyOf(cacheKey);
+  }
+
   /**
    * Make sure to use this method in all public methods of this class to ensure that all operations
    * on the column family occur inside a transaction. Within private methods we can assume that a
@@ -0,0 +1,171 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.db.impl.rocksdb.transaction;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+import org.agrona.BitUtil;
+import org.agrona.collections.Int2ObjectHashMap;
+import org.agrona.collections.Long2ObjectHashMap;
+import org.rocksdb.ColumnFamilyHandle;
+import org.rocksdb.ReadOptions;
+import org.rocksdb.RocksDB;
+import org.rocksdb.RocksDBException;
+import org.rocksdb.RocksIterator;
+import org.rocksdb.WriteBatchWithIndex;
+import org.rocksdb.WriteOptions;
+
+/**
+ * A {@link ZeebeTransaction} which buffers all writes in a {@link WriteBatchWithIndex} and writes
+ * the batch atomically to the database on commit. Reads and iterators are served from the batch,
+ * merged with the database, such that the transaction sees its own pending writes.
+ *
+ * <p>In contrast to {@link OptimisticZeebeTransaction}, no keys are tracked and no conflicts are
+ * detected on commit. This is only safe if there is a single writer to the database.
+ *
+ * <p>All data is stored in the default column family, so the column family handles passed to {@link
+ * #put}, {@link #get} and {@link #delete} are ignored in favour of the default column family handle
+ * given on construction. The read options passed to {@link #get} must be one of the read options
+ * given on construction.
+ *
+ * <p>The public write batch API has no offset/length variants for byte arrays, and the buffers of
+ * the column family context are usually larger than their content. To avoid copying keys and
+ * values on every access, writes go through reused direct buffers, and reads through reused key
+ * arrays, one per key length.
+ */
+public final class WriteBatchZeebeTransaction extends ZeebeTransaction {
+
+  private final RocksDB db;
+  private static final int INITIAL_BUFFER_CAPACITY = 1024;
+
+  private final RocksDB db;
+  private final ColumnFamilyHandle columnFamilyHandle;
+  private final WriteOptions writeOptions;
+  private final Long2ObjectHashMap<ReadOptions> readOptionsByHandle = new Long2ObjectHashMap<>();
+  // overwriteKey must be true, otherwise reads of a key which was written multiple times within
+  // the same batch would not see the latest value
+  private final WriteBatchWithIndex batch = new WriteBatchWithIndex(true);
+
+  private final Int2ObjectHashMap<byte[]> readKeysByLength = new Int2ObjectHashMap<>();
+  private ByteBuffer keyBuffer = ByteBuffer.allocateDirect(INITIAL_BUFFER_CAPACITY);
+  private ByteBuffer valueBuffer = ByteBuffer.allocateDirect(INITIAL_BUFFER_CAPACITY);
+
+  public WriteBatchZeebeTransaction(
+      final RocksDB db,
+      final ColumnFamilyHandle columnFamilyHandle,
+      final WriteOptions writeOptions,
+      final ReadOptions... readOptions) {
+    this.db = db;
+    this.columnFamilyHandle = columnFamilyHandle;
+    this.writeOptions = writeOptions;
+    for (final ReadOptions options : readOptions) {
+      readOptionsByHandle.put(ZeebeTransactionDb.getNativeHandle(options), options);
+    }
+  }
+
+  @Override
+  public void put(
+      final long columnFamilyHandle,
+      final byte[] key,
+      final int keyLength,
+      final byte[] value,
+      final int valueLength)
+      throws Exception {
+    keyBuffer = fill(keyBuffer, key, keyLength);
+    valueBuffer = fill(valueBuffer, value, valueLength);
+    batch.put(this.columnFamilyHandle, keyBuffer, valueBuffer);
+  }
+
+  @Override
+  public byte[] get(
+      final long columnFamilyHandle,
+      final long readOptionsHandle,
+      final byte[] key,
+      final int keyLength)
+      throws Exception {
+    final ReadOptions readOptions = readOptionsByHandle.get(readOptionsHandle);
+    if (readOptions == null) {
+      throw new IllegalArgumentException(
+          "Expected read options of the transaction, but got unknown handle %d"
+              .formatted(readOptionsHandle));
+    }
+
+    final byte[] readKey;
+    if (key.length == keyLength) {
+      readKey = key;
+    } else {
+      readKey = readKeysByLength.computeIfAbsent(keyLength, byte[]::new);
+      System.arraycopy(key, 0, readKey, 0, keyLength);
+    }
+    return batch.getFromBatchAndDB(db, this.columnFamilyHandle, readOptions, readKey);
+  }
+
+  @Override
+  public List<byte[]> multiGet(
+      final ReadOptions options, final ColumnFamilyHandle handle, final List<byte[]> keys)
+      throws Exception {
+    // RocksJava offers no multi get which merges the batch with the database, and a multi get on
+    // the database followed by a lookup in the batch cannot tell deleted keys apart from keys which
+    // are not in the batch, so each key is read on its own
+    final List<byte[]> values = new ArrayList<>(keys.size());
+    for (final byte[] key : keys) {
+      values.add(batch.getFromBatchAndDB(db, handle, options, key));
+    }
+    return values;
+  }
+
+  @Override
+  public void delete(final long columnFamilyHandle, final byte[] key, final int keyLength)
+      throws Exception {
+    keyBuffer = fill(keyBuffer, key, keyLength);
+    // the byte buffer variant of delete is called remove in the public write batch API
+    batch.remove(this.columnFamilyHandle, keyBuffer);
+  }
+
+  @Override
+  public RocksIterator newIterator(final ReadOptions options, final ColumnFamilyHandle handle) {
+    // the returned iterator takes ownership of the base iterator, and closes it when it is closed
+    return batch.newIteratorWithBase(handle, db.newIterator(handle, options), options);
+  }
+
+  @Override
+  protected void renew() {
+    // the batch is cleared on commit and rollback, so it can be reused as is
+  }
+
+  @Override
+  protected void commitChanges() throws RocksDBException {
+    if (batch.count() > 0) {
+      db.write(writeOptions, batch);
+    }
+    batch.clear();
+  }
+
+  @Override
+  protected void discardChanges() {
+    batch.clear();
+  }
+
+  @Override
+  public void close() {
+    batch.close();
+  }
+
+  /**
+   * Copies the given bytes into the scratch buffer, replacing it with a larger one if it is too
+   * small, and returns the buffer to use, ready to be read.
+   */
+  private static ByteBuffer fill(final ByteBuffer scratch, final byte[] bytes, final int length) {
+    final ByteBuffer buffer =
+        scratch.capacity() >= length
+            ? scratch.clear()
+            : ByteBuffer.allocateDirect(BitUtil.findNextPositivePowerOfTwo(length));
+    return buffer.put(bytes, 0, length).flip();
+  }
+}
@@ -9,93 +9,101 @@ package io.camunda.zeebe.db.impl.rocksdb.transaction;
 
 import static io.camunda.zeebe.db.impl.rocksdb.transaction.RocksDbInternal.isRocksDbExceptionRecoverable;
 
+import io.camunda.zeebe.db.TransactionListener;
 import io.camunda.zeebe.db.TransactionOperation;
 import io.camunda.zeebe.db.ZeebeDbException;
 import io.camunda.zeebe.db.ZeebeDbTransaction;
-import org.agrona.LangUtil;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import org.agrona.DirectBuffer;
 import org.rocksdb.ColumnFamilyHandle;
 import org.rocksdb.ReadOptions;
 import org.rocksdb.RocksDBException;
 import org.rocksdb.RocksIterator;
-import org.rocksdb.Transaction;
 
-public class ZeebeTransaction implements ZeebeDbTransaction, AutoCloseable {
-
-  private final long nativeHandle;
-  private final TransactionRenovator transactionRenovator;
+/**
+ * A transaction on the state, which is reused: it is reset before it is used again, after it was
+ * committed or rolled back. Reads through the transaction always see its own pending writes.
+ *
+ * <p>See {@link OptimisticZeebeTransaction} and {@link WriteBatchZeebeTransaction} for the
+ * available implementations.
+ *
+ * <p>Writes to cached column families are additionally tracked per {@link ColumnFamilyCache}, and
+ * applied to the cache once the transaction is committed.
+ */
+public abstract class ZeebeTransaction implements ZeebeDbTransaction, AutoCloseable {
 
+  private final Map<ColumnFamilyCache, Map<DirectBuffer, byte[]>> cachedWrites =
+      new IdentityHashMap<>();
+  private final List<TransactionListener> listeners = new ArrayList<>();
   private boolean inCurrentTransaction;
-  private Transaction transaction;
-
-  public ZeebeTransaction(
-      final Transaction transaction, final TransactionRenovator transactionRenovator) {
-    this.transactionRenovator = transactionRenovator;
-    this.transaction = transaction;
-    try {
-      nativeHandle = RocksDbInternal.nativeHandle.getLong(transaction);
-    } catch (final Exception ex) {
-      throw new RuntimeException(ex);
-    }
-  }
 
-  public void put(
+  public abstract void put(
       final long columnFamilyHandle,
       final byte[] key,
       final int keyLength,
       final byte[] value,
       final int valueLength)
-      throws Exception {
-    try {
-      final int keyOffset = 0;
-      final int valueOffset = 0;
-      RocksDbInternal.putWithHandle.invokeExact(
-          nativeHandle,
-          key,
-          keyOffset,
-          keyLength,
-          value,
-          valueOffset,
-          valueLength,
-          columnFamilyHandle,
-          false);
-    } catch (final Throwable e) {
-      LangUtil.rethrowUnchecked(e);
-    }
-  }
+      throws Exception;
 
-  public byte[] get(
+  public abstract byte[] get(
       final long columnFamilyHandle,
       final long readOptionsHandle,
       final byte[] key,
       final int keyLength)
-      throws Exception {
-    try {
-      final int keyOffset = 0;
-      return (byte[])
-          RocksDbInternal.getWithHandle.invokeExact(
-              nativeHandle, readOptionsHandle, key, keyOffset, keyLength, columnFamilyHandle);
-    } catch (final Throwable e) {
-      LangUtil.rethrowUnchecked(e);
-      return null; // unreachable
-    }
+      throws Exception;
+
+  /**
+   * Reads the values of all given keys at once.
+   *
+   * @return the values, in the order of the given keys, with null for keys which were not found
+   */
+  public abstract List<byte[]> multiGet(
+      final ReadOptions options, final ColumnFamilyHandle handle, final List<byte[]> keys)
+      throws Exception;
+
+  public abstract void delete(final long columnFamilyHandle, final byte[] key, final int keyLength)
+      throws Exception;
+
+  public abstract RocksIterator newIterator(
+      final ReadOptions options, final ColumnFamilyHandle handle);
+
+  /** Prepares the underlying transaction to be used again. */
+  protected abstract void renew();
+
+  /** Writes all pending changes of the underlying transaction. */
+  protected abstract void commitChanges() throws RocksDBException;
+
+  /** Discards all pending changes of the underlying transaction. */
+  protected abstract void discardChanges() throws RocksDBException;
+
+  /**
+   * Returns the pending writes of this transaction to the given cache's column family, which are
+   * applied to the cache on commit. Deleted keys map to {@link ColumnFamilyCache#ABSENT}.
+   */
+  Map<DirectBuffer, byte[]> getCachedWrites(final ColumnFamilyCache cache) {
+    return cachedWrites.computeIfAbsent(cache, ignored -> new HashMap<>());
   }
 
-  public void delete(final long columnFamilyHandle, final byte[] key, final int keyLength)
-      throws Exception {
-    try {
-      RocksDbInternal.removeWithHandle.invokeExact(
-          nativeHandle, key, keyLength, columnFamilyHandle, false);
-    } catch (final Throwable e) {
-      LangUtil.rethrowUnchecked(e);
-    }
+  /**
+   * @return the value this transaction wrote for the given key, {@link ColumnFamilyCache#ABSENT}
+   *     if it deleted the key, or null if it did not write the key
+   */
+  byte[] getCachedWrite(final ColumnFamilyCache cache, final DirectBuffer key) {
+    final var writes = cachedWrites.get(cache);
+    return writes == null ? null : writes.get(key);
   }
 
-  public RocksIterator newIterator(final ReadOptions options, final ColumnFamilyHandle handle) {
-    return transaction.getIterator(options, handle);
+  /** Adds a listener which is notified once, when this transaction is committed or rolled back. */
+  void addListener(final TransactionListener listener) {
+    listeners.add(listener);
   }
 
   void resetTransaction() {
-    transaction = transactionRenovator.renewTransaction(transaction);
+    renew();
     inCurrentTransaction = true;
   }
 
@@ -144,16 +152,32 @@ public class ZeebeTransaction implements ZeebeDbTransaction, AutoCloseable {
 
   void commitInternal() throws RocksDBException {
     inCurrentTransaction = false;
-    transaction.commit();
+    commitChanges();
+
+    for (final var writes : cachedWrites.entrySet()) {
+      writes.getKey().apply(writes.getValue());
+    }
+    cachedWrites.clear();
+
+    for (final var listener : listeners) {
+      listener.onCommit();
+    }
+    listeners.clear();
   }
 
   void rollbackInternal() throws RocksDBException {
     inCurrentTransaction = false;
-    transaction.rollback();
+    cachedWrites.clear();
+    try {
+      discardChanges();
+    } finally {
+      for (final var listener : listeners) {
+        listener.onRollback();
+      }
+      listeners.clear();
+    }
   }
 
   @Override
-  public void close() {
-    transaction.close();
-  }
+  public abstract void close();
 }
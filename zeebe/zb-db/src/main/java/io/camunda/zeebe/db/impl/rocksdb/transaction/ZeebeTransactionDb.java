@@ -20,13 +20,17 @@ import io.camunda.zeebe.db.impl.FineGrainedColumnFamilyMetrics;
 import io.camunda.zeebe.db.impl.NoopColumnFamilyMetrics;
 import io.camunda.zeebe.db.impl.rocksdb.Loggers;
 import io.camunda.zeebe.db.impl.rocksdb.RocksDbConfiguration;
+import io.camunda.zeebe.db.impl.rocksdb.RocksDbConfiguration.TransactionMode;
 import io.camunda.zeebe.protocol.EnumValue;
 import java.io.File;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import org.rocksdb.Checkpoint;
 import org.rocksdb.ColumnFamilyDescriptor;
 import org.rocksdb.ColumnFamilyHandle;
@@ -45,7 +49,8 @@ public class ZeebeTransactionDb<ColumnFamilyNames extends Enum<? extends EnumVal
   private static final Logger LOG = Loggers.DB_LOGGER;
   private static final String ERROR_MESSAGE_CLOSE_RESOURCE =
       "Expected to close RocksDB resource successfully, but exception was thrown. Will continue to close remaining resources.";
-  private final OptimisticTransactionDB optimisticTransactionDB;
+  private final RocksDB db;
+  private final TransactionMode transactionMode;
   private final List<AutoCloseable> closables;
   private final ReadOptions prefixReadOptions;
   private final ReadOptions defaultReadOptions;
@@ -54,17 +59,24 @@ public class ZeebeTransactionDb<ColumnFamilyNames extends Enum<? extends EnumVal
   private final long defaultNativeHandle;
   private final ConsistencyChecksSettings consistencyChecksSettings;
   private final AccessMetricsConfiguration accessMetricsConfiguration;
+  private final Set<String> cachedColumnFamilies;
+  private final long columnFamilyCacheMemoryLimit;
+  private final Map<ColumnFamilyNames, ColumnFamilyCache> columnFamilyCaches =
+      new ConcurrentHashMap<>();
 
   protected ZeebeTransactionDb(
       final ColumnFamilyHandle defaultHandle,
-      final OptimisticTransactionDB optimisticTransactionDB,
+      final RocksDB db,
       final List<AutoCloseable> closables,
       final RocksDbConfiguration rocksDbConfiguration,
       final ConsistencyChecksSettings consistencyChecksSettings,
       final AccessMetricsConfiguration accessMetricsConfiguration) {
     this.defaultHandle = defaultHandle;
     defaultNativeHandle = getNativeHandle(defaultHandle);
-    this.optimisticTransactionDB = optimisticTransactionDB;
+    this.db = db;
+    transactionMode = rocksDbConfiguration.getTransactionMode();
+    cachedColumnFamilies = rocksDbConfiguration.getCachedColumnFamilies();
+    columnFamilyCacheMemoryLimit = rocksDbConfiguration.getColumnFamilyCacheMemoryLimit();
     this.closables = closables;
     this.consistencyChecksSettings = consistencyChecksSettings;
     this.accessMetricsConfiguration = accessMetricsConfiguration;
@@ -97,9 +109,15 @@ public class ZeebeTransactionDb<ColumnFamilyNames extends Enum<? extends EnumVal
         Arrays.asList( // todo: could consider using List.of
             new ColumnFamilyDescriptor(RocksDB.DEFAULT_COLUMN_FAMILY, options.cfOptions()));
     final List<ColumnFamilyHandle> cfHandles = new ArrayList<>();
-    final OptimisticTransactionDB optimisticTransactionDB =
-        OptimisticTransactionDB.open(options.dbOptions(), path, cfDescriptors, cfHandles);
-    closables.add(optimisticTransactionDB);
+    final RocksDB db =
+        switch (rocksDbConfiguration.getTransactionMode()) {
+          case OPTIMISTIC ->
+              OptimisticTransactionDB.open(options.dbOptions(), path, cfDescriptors, cfHandles);
+          // a plain database is enough, as transactions are write batches which are only applied
+          // on commit
+          case WRITE_BATCH -> RocksDB.open(options.dbOptions(), path, cfDescriptors, cfHandles);
+        };
+    closables.add(db);
 
     if (cfHandles.size() != 1) {
       throw new IllegalStateException(
@@ -112,7 +130,7 @@ public class ZeebeTransactionDb<ColumnFamilyNames extends Enum<? extends EnumVal
 
     return new ZeebeTransactionDb<>(
         defaultColumnFamilyHandle,
-        optimisticTransactionDB,
+        db,
         closables,
         rocksDbConfiguration,
         consistencyChecksSettings,
@@ -136,6 +154,10 @@ public class ZeebeTransactionDb<ColumnFamilyNames extends Enum<? extends EnumVal
     return defaultHandle;
   }
 
+  protected ReadOptions getDefaultReadOptions() {
+    return defaultReadOptions;
+  }
+
   protected long getReadOptionsNativeHandle() {
     return getNativeHandle(defaultReadOptions);
   }
@@ -165,12 +187,26 @@ public class ZeebeTransactionDb<ColumnFamilyNames extends Enum<? extends EnumVal
         context,
         keyInstance,
         valueInstance,
-        metrics);
+        metrics,
+        getColumnFamilyCache(columnFamily));
+  }
+
+  /**
+   * @return the cache shared by all instances of the given column family, or null if the column
+   *     family is not cached
+   */
+  private ColumnFamilyCache getColumnFamilyCache(final ColumnFamilyNames columnFamily) {
+    if (!cachedColumnFamilies.contains(columnFamily.name())) {
+      return null;
+    }
+
+    return columnFamilyCaches.computeIfAbsent(
+        columnFamily, ignored -> new ColumnFamilyCache(columnFamilyCacheMemoryLimit));
   }
 
   @Override
   public void createSnapshot(final File snapshotDir) {
-    try (final Checkpoint checkpoint = Checkpoint.create(optimisticTransactionDB)) {
+    try (final Checkpoint checkpoint = Checkpoint.create(db)) {
       try {
         checkpoint.createCheckpoint(snapshotDir.getAbsolutePath());
       } catch (final RocksDBException rocksException) {
@@ -184,7 +220,7 @@ public class ZeebeTransactionDb<ColumnFamilyNames extends Enum<? extends EnumVal
   public Optional<String> getProperty(final String propertyName) {
     String propertyValue = null;
     try {
-      propertyValue = optimisticTransactionDB.getProperty(defaultHandle, propertyName);
+      propertyValue = db.getProperty(defaultHandle, propertyName);
     } catch (final RocksDBException rde) {
       LOG.debug(rde.getMessage(), rde);
     }
@@ -193,8 +229,15 @@ public class ZeebeTransactionDb<ColumnFamilyNames extends Enum<? extends EnumVal
 
   @Override
   public TransactionContext createContext() {
-    final Transaction transaction = optimisticTransactionDB.beginTransaction(defaultWriteOptions);
-    final ZeebeTransaction zeebeTransaction = new ZeebeTransaction(transaction, this);
+    final ZeebeTransaction zeebeTransaction =
+        switch (transactionMode) {
+          case OPTIMISTIC ->
+              new OptimisticZeebeTransaction(
+                  ((OptimisticTransactionDB) db).beginTransaction(defaultWriteOptions), this);
+          case WRITE_BATCH ->
+              new WriteBatchZeebeTransaction(
+                  db, defaultHandle, defaultWriteOptions, defaultReadOptions, prefixReadOptions);
+        };
     closables.add(zeebeTransaction);
     return new DefaultTransactionContext(zeebeTransaction);
   }
@@ -208,7 +251,7 @@ public class ZeebeTransactionDb<ColumnFamilyNames extends Enum<? extends EnumVal
 
   @Override
   public Transaction renewTransaction(final Transaction oldTransaction) {
-    return optimisticTransactionDB.beginTransaction(defaultWriteOptions, oldTransaction);
+    return ((OptimisticTransactionDB) db).beginTransaction(defaultWriteOptions, oldTransaction);
   }
 
   @Override
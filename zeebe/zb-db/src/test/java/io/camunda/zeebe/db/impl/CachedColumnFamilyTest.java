@@ -0,0 +1,138 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.db.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.camunda.zeebe.db.ColumnFamily;
+import io.camunda.zeebe.db.TransactionContext;
+import io.camunda.zeebe.db.ZeebeDb;
+import io.camunda.zeebe.db.impl.rocksdb.RocksDbConfiguration;
+import java.io.File;
+import java.util.Set;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+final class CachedColumnFamilyTest {
+
+  private ZeebeDb<DefaultColumnFamily> zeebeDb;
+  private TransactionContext context;
+  private ColumnFamily<DbLong, DbLong> columnFamily;
+  private final DbLong key = new DbLong();
+  private final DbLong value = new DbLong();
+
+  @BeforeEach
+  void setup(final @TempDir File pathName) {
+    final var configuration =
+        new RocksDbConfiguration()
+            .setCachedColumnFamilies(Set.of(DefaultColumnFamily.DEFAULT.name()))
+            // two entries, each a 16 byte key (column family prefix and long) and an 8 byte value
+            .setColumnFamilyCacheMemoryLimit(48);
+    zeebeDb =
+        DefaultZeebeDbFactory.<DefaultColumnFamily>getDefaultFactory(configuration)
+            .createDb(pathName);
+    context = zeebeDb.createContext();
+    columnFamily = zeebeDb.createColumnFamily(DefaultColumnFamily.DEFAULT, context, key, value);
+  }
+
+  @AfterEach
+  void tearDown() throws Exception {
+    zeebeDb.close();
+  }
+
+  @Test
+  void shouldReadOwnWritesWithinTransaction() throws Exception {
+    // given
+    putValue(1, 10);
+    assertThat(getValue(1)).isEqualTo(10);
+
+    // when
+    final var transaction = context.getCurrentTransaction();
+    transaction.run(() -> putValue(1, 11));
+
+    // then
+    assertThat(getValue(1)).isEqualTo(11);
+    transaction.rollback();
+  }
+
+  @Test
+  void shouldNotCacheRolledBackWrites() throws Exception {
+    // given
+    putValue(1, 10);
+    assertThat(getValue(1)).isEqualTo(10);
+
+    // when
+    final var transaction = context.getCurrentTransaction();
+    transaction.run(
+        () -> {
+          putValue(1, 11);
+          putValue(2, 20);
+          key.wrapLong(1);
+          columnFamily.deleteExisting(key);
+        });
+    transaction.rollback();
+
+    // then
+    assertThat(getValue(1)).isEqualTo(10);
+    key.wrapLong(2);
+    assertThat(columnFamily.exists(key)).isFalse();
+  }
+
+  @Test
+  void shouldSeeCommittedWritesInOtherContexts() {
+    // given
+    final var otherKey = new DbLong();
+    final var otherValue = new DbLong();
+    final var otherContext = zeebeDb.createContext();
+    final var otherColumnFamily =
+        zeebeDb.createColumnFamily(
+            DefaultColumnFamily.DEFAULT, otherContext, otherKey, otherValue);
+    putValue(1, 10);
+    otherKey.wrapLong(1);
+    assertThat(otherColumnFamily.get(otherKey).getValue()).isEqualTo(10);
+
+    // when
+    putValue(1, 11);
+    key.wrapLong(1);
+    columnFamily.deleteExisting(key);
+    putValue(2, 20);
+
+    // then
+    otherKey.wrapLong(1);
+    assertThat(otherColumnFamily.exists(otherKey)).isFalse();
+    otherKey.wrapLong(2);
+    assertThat(otherColumnFamily.get(otherKey).getValue()).isEqualTo(20);
+  }
+
+  @Test
+  void shouldReadEvictedValuesFromDatabase() {
+    // given - the cache holds at most two entries
+    putValue(1, 10);
+    putValue(2, 20);
+    putValue(3, 30);
+
+    // when
+    final var values = new long[] {getValue(1), getValue(2), getValue(3), getValue(1)};
+
+    // then
+    assertThat(values).containsExactly(10, 20, 30, 10);
+  }
+
+  private void putValue(final long keyValue, final long valueValue) {
+    key.wrapLong(keyValue);
+    value.wrapLong(valueValue);
+    columnFamily.upsert(key, value);
+  }
+
+  private long getValue(final long keyValue) {
+    key.wrapLong(keyValue);
+    return columnFamily.get(key).getValue();
+  }
+}
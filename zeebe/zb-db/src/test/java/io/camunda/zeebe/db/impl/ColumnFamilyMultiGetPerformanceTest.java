@@ -0,0 +1,131 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.db.impl;
+
+import io.camunda.zeebe.db.ColumnFamily;
+import io.camunda.zeebe.db.ZeebeDb;
+import io.camunda.zeebe.test.util.jmh.JMHTestCase;
+import io.camunda.zeebe.test.util.junit.JMHTest;
+import io.camunda.zeebe.util.FileUtil;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import org.agrona.CloseHelper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Compares looking up a number of random keys one by one via {@link ColumnFamily#get} with
+ * looking them up at once via {@link ColumnFamily#multiGet}. The score is the average time per
+ * lookup of all keys; divide by {@code keyCount} for the time per key.
+ *
+ * <p>The {@link JMHTest} compares both for 100 keys; run the benchmark directly via JMH to compare
+ * them for fewer keys as well.
+ */
+@Warmup(iterations = 10, time = 1)
+@Measurement(iterations = 20, time = 1)
+@Fork(
+    value = 1,
+    jvmArgs = {"-Xmx1g", "-Xms1g"})
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(org.openjdk.jmh.annotations.Scope.Benchmark)
+public class ColumnFamilyMultiGetPerformanceTest {
+  private static final int ENTRY_COUNT = 1_000_000;
+
+  @Param({"10", "100"})
+  private int keyCount;
+
+  private Path directory;
+  private ZeebeDb<DefaultColumnFamily> zeebeDb;
+  private ColumnFamily<DbLong, DbLong> columnFamily;
+  private final DbLong key = new DbLong();
+  private final List<DbLong> keys = new ArrayList<>();
+
+  @Setup
+  public void setup() throws IOException {
+    directory = Files.createTempDirectory("multi-get");
+    zeebeDb =
+        DefaultZeebeDbFactory.<DefaultColumnFamily>getDefaultFactory()
+            .createDb(directory.toFile());
+    final var context = zeebeDb.createContext();
+    final var value = new DbLong();
+    columnFamily = zeebeDb.createColumnFamily(DefaultColumnFamily.DEFAULT, context, key, value);
+
+    for (int i = 0; i < ENTRY_COUNT; i += 10_000) {
+      final var batchStart = i;
+      context.runInTransaction(
+          () -> {
+            for (long entry = batchStart; entry < batchStart + 10_000; entry++) {
+              key.wrapLong(entry);
+              value.wrapLong(entry);
+              columnFamily.upsert(key, value);
+            }
+          });
+    }
+
+    for (int i = 0; i < keyCount; i++) {
+      keys.add(new DbLong());
+    }
+  }
+
+  @TearDown
+  public void tearDown() throws Exception {
+    CloseHelper.close(zeebeDb);
+    FileUtil.deleteFolder(directory);
+  }
+
+  @Benchmark
+  public void measureGet(final Blackhole blackhole) {
+    final var random = ThreadLocalRandom.current();
+    for (int i = 0; i < keyCount; i++) {
+      key.wrapLong(random.nextLong(ENTRY_COUNT));
+      blackhole.consume(columnFamily.get(key).getValue());
+    }
+  }
+
+  @Benchmark
+  public void measureMultiGet(final Blackhole blackhole) {
+    final var random = ThreadLocalRandom.current();
+    for (final DbLong lookupKey : keys) {
+      lookupKey.wrapLong(random.nextLong(ENTRY_COUNT));
+    }
+
+    columnFamily.multiGet(keys, (lookupKey, value) -> blackhole.consume(value.getValue()));
+  }
+
+  @JMHTest("measureMultiGet")
+  void shouldMultiGetFasterThanSingleGets(final JMHTestCase testCase) {
+    // given - looking up the same number of random keys one by one
+    final var referenceResult =
+        JMHTestCase.of(getClass(), "measureGet", options -> options.param("keyCount", "100"))
+            .run();
+
+    // when
+    final var assertResult =
+        testCase.withOptions(options -> options.param("keyCount", "100")).run();
+
+    // then - a multi get looks up all keys in a single call into RocksDB instead of one call per
+    // key, so it must take at least 10% less time than the single gets
+    assertResult.isAtMost(referenceResult, -0.1);
+  }
+}
@@ -466,6 +466,60 @@ public final class ColumnFamilyTest {
         .hasMessageContaining("Foreign key");
   }
 
+  @Test
+  public void shouldMultiGetValues() {
+    // given
+    upsertKeyValuePair(1, 10);
+    upsertKeyValuePair(3, 30);
+    final List<DbLong> keys = new ArrayList<>();
+    for (int i = 1; i <= 3; i++) {
+      final var lookupKey = new DbLong();
+      lookupKey.wrapLong(i);
+      keys.add(lookupKey);
+    }
+
+    // when
+    final List<Long> values = new ArrayList<>();
+    columnFamily.multiGet(
+        keys, (lookupKey, found) -> values.add(found == null ? null : found.getValue()));
+
+    // then
+    assertThat(values).containsExactly(10L, null, 30L);
+  }
+
+  @Test
+  public void shouldMultiGetPendingWrites() throws Exception {
+    // given
+    upsertKeyValuePair(1, 10);
+    final var context = zeebeDb.createContext();
+    final var otherKey = new DbLong();
+    final var otherValue = new DbLong();
+    final var otherColumnFamily =
+        zeebeDb.createColumnFamily(DefaultColumnFamily.DEFAULT, context, otherKey, otherValue);
+    final var lookupKeys = List.of(new DbLong(), new DbLong());
+    lookupKeys.get(0).wrapLong(1);
+    lookupKeys.get(1).wrapLong(2);
+    final List<Long> values = new ArrayList<>();
+
+    // when
+    final var transaction = context.getCurrentTransaction();
+    transaction.run(
+        () -> {
+          otherKey.wrapLong(1);
+          otherColumnFamily.deleteExisting(otherKey);
+          otherKey.wrapLong(2);
+          otherValue.wrapLong(20);
+          otherColumnFamily.insert(otherKey, otherValue);
+          otherColumnFamily.multiGet(
+              lookupKeys,
+              (lookupKey, found) -> values.add(found == null ? null : found.getValue()));
+        });
+    transaction.rollback();
+
+    // then
+    assertThat(values).containsExactly(null, 20L);
+  }
+
   private void upsertKeyValuePair(final int key, final int value) {
     this.key.wrapLong(key);
     this.value.wrapLong(value);
@@ -12,9 +12,12 @@ import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 import io.camunda.zeebe.db.ColumnFamily;
 import io.camunda.zeebe.db.TransactionContext;
+import io.camunda.zeebe.db.TransactionListener;
 import io.camunda.zeebe.db.ZeebeDb;
 import io.camunda.zeebe.db.ZeebeDbFactory;
 import io.camunda.zeebe.db.ZeebeDbTransaction;
+import io.camunda.zeebe.db.impl.rocksdb.RocksDbConfiguration;
+import io.camunda.zeebe.db.impl.rocksdb.RocksDbConfiguration.TransactionMode;
 import io.camunda.zeebe.protocol.EnumValue;
 import java.io.File;
 import java.util.HashMap;
@@ -24,12 +27,17 @@ import org.junit.Before;
 import org.junit.Rule;
 import org.junit.Test;
 import org.junit.rules.TemporaryFolder;
+import org.junit.runner.RunWith;
+import org.junit.runners.Parameterized;
+import org.junit.runners.Parameterized.Parameter;
+import org.junit.runners.Parameterized.Parameters;
 
+@RunWith(Parameterized.class)
 public final class DbTransactionTest {
 
   @Rule public final TemporaryFolder temporaryFolder = new TemporaryFolder();
-  private final ZeebeDbFactory<ColumnFamilies> dbFactory =
-      DefaultZeebeDbFactory.getDefaultFactory();
+
+  @Parameter public TransactionMode transactionMode;
 
   private TransactionContext transactionContext;
 
@@ -47,6 +55,9 @@ public final class DbTransactionTest {
   @Before
   public void setup() throws Exception {
     final File pathName = temporaryFolder.newFolder();
+    final ZeebeDbFactory<ColumnFamilies> dbFactory =
+        DefaultZeebeDbFactory.getDefaultFactory(
+            new RocksDbConfiguration().setTransactionMode(transactionMode));
     final ZeebeDb<ColumnFamilies> zeebeDb = dbFactory.createDb(pathName);
     transactionContext = zeebeDb.createContext();
 
@@ -66,6 +77,11 @@ public final class DbTransactionTest {
         zeebeDb.createColumnFamily(ColumnFamilies.THREE, transactionContext, threeKey, threeValue);
   }
 
+  @Parameters(name = "{0}")
+  public static Object[] transactionModes() {
+    return TransactionMode.values();
+  }
+
   @Test
   public void shouldUseTransaction() {
     // given
@@ -477,6 +493,71 @@ public final class DbTransactionTest {
         .isSameAs(exception);
   }
 
+  @Test
+  public void shouldNotifyListenerOnCommit() throws Exception {
+    // given
+    final var listener = new RecordingTransactionListener();
+    final ZeebeDbTransaction transaction = transactionContext.getCurrentTransaction();
+    transactionContext.addTransactionListener(listener);
+
+    // when
+    transaction.run(() -> oneColumnFamily.upsert(oneKey, oneValue));
+    transaction.commit();
+    transactionContext.getCurrentTransaction().rollback();
+
+    // then
+    assertThat(listener.commits).isOne();
+    assertThat(listener.rollbacks).isZero();
+  }
+
+  @Test
+  public void shouldNotifyListenerOnRollback() throws Exception {
+    // given
+    final var listener = new RecordingTransactionListener();
+    final ZeebeDbTransaction transaction = transactionContext.getCurrentTransaction();
+    transactionContext.addTransactionListener(listener);
+
+    // when
+    transaction.run(() -> oneColumnFamily.upsert(oneKey, oneValue));
+    transaction.rollback();
+    transactionContext.getCurrentTransaction().commit();
+
+    // then
+    assertThat(listener.commits).isZero();
+    assertThat(listener.rollbacks).isOne();
+  }
+
+  @Test
+  public void shouldNotifyListenerOnCommitOfNextOperationOutsideOfTransaction() {
+    // given
+    final var listener = new RecordingTransactionListener();
+    transactionContext.addTransactionListener(listener);
+
+    // when
+    oneKey.wrapLong(1);
+    oneValue.wrapLong(1);
+    oneColumnFamily.upsert(oneKey, oneValue);
+
+    // then
+    assertThat(listener.commits).isOne();
+    assertThat(listener.rollbacks).isZero();
+  }
+
+  private static final class RecordingTransactionListener implements TransactionListener {
+    private int commits;
+    private int rollbacks;
+
+    @Override
+    public void onCommit() {
+      commits++;
+    }
+
+    @Override
+    public void onRollback() {
+      rollbacks++;
+    }
+  }
+
   private enum ColumnFamilies implements EnumValue {
     DEFAULT, // rocksDB needs a default column family
     ONE,
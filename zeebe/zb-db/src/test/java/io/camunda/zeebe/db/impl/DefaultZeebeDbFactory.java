@@ -19,11 +19,15 @@ public final class DefaultZeebeDbFactory {
 
   public static <ColumnFamilyType extends Enum<? extends EnumValue> & EnumValue>
       ZeebeDbFactory<ColumnFamilyType> getDefaultFactory() {
+    return getDefaultFactory(new RocksDbConfiguration());
+  }
+
+  public static <ColumnFamilyType extends Enum<? extends EnumValue> & EnumValue>
+      ZeebeDbFactory<ColumnFamilyType> getDefaultFactory(
+          final RocksDbConfiguration rocksDbConfiguration) {
     // enable consistency checks for tests
     final var consistencyChecks = new ConsistencyChecksSettings(true, true);
     return new ZeebeRocksDbFactory<>(
-        new RocksDbConfiguration(),
-        consistencyChecks,
-        new AccessMetricsConfiguration(Kind.NONE, 1));
+        rocksDbConfiguration, consistencyChecks, new AccessMetricsConfiguration(Kind.NONE, 1));
   }
 }
@@ -15,6 +15,7 @@ import io.camunda.zeebe.db.AccessMetricsConfiguration;
 import io.camunda.zeebe.db.AccessMetricsConfiguration.Kind;
 import io.camunda.zeebe.db.ConsistencyChecksSettings;
 import io.camunda.zeebe.db.TransactionContext;
+import io.camunda.zeebe.db.TransactionListener;
 import io.camunda.zeebe.db.TransactionOperation;
 import io.camunda.zeebe.db.ZeebeDb;
 import io.camunda.zeebe.db.ZeebeDbFactory;
@@ -23,6 +24,7 @@ import io.camunda.zeebe.db.impl.DbByte;
 import io.camunda.zeebe.db.impl.DbString;
 import io.camunda.zeebe.db.impl.DefaultColumnFamily;
 import io.camunda.zeebe.db.impl.DefaultZeebeDbFactory;
+import io.camunda.zeebe.db.impl.rocksdb.RocksDbConfiguration.TransactionMode;
 import io.camunda.zeebe.util.ByteValue;
 import java.io.File;
 import java.util.ArrayList;
@@ -72,6 +74,34 @@ final class ZeebeRocksDbFactoryTest {
     secondDb.close();
   }
 
+  @Test
+  void shouldReopenDbWrittenInWriteBatchModeInOptimisticMode(final @TempDir File pathName)
+      throws Exception {
+    // given
+    final var writeBatchFactory =
+        DefaultZeebeDbFactory.<DefaultColumnFamily>getDefaultFactory(
+            new RocksDbConfiguration().setTransactionMode(TransactionMode.WRITE_BATCH));
+    final var key = new DbString();
+    final var value = new DbString();
+    key.wrapString("foo");
+    value.wrapString("bar");
+    try (final var db = writeBatchFactory.createDb(pathName)) {
+      db.createColumnFamily(DefaultColumnFamily.DEFAULT, db.createContext(), key, value)
+          .insert(key, value);
+    }
+
+    // when
+    final var optimisticFactory = DefaultZeebeDbFactory.<DefaultColumnFamily>getDefaultFactory();
+    try (final var db = optimisticFactory.createDb(pathName)) {
+      final var column =
+          db.createColumnFamily(
+              DefaultColumnFamily.DEFAULT, db.createContext(), new DbString(), new DbString());
+
+      // then
+      assertThat(column.get(key)).extracting(DbString::toString).isEqualTo("bar");
+    }
+  }
+
   @Test
   void shouldOverwriteDefaultColumnFamilyOptions() {
     // given
@@ -228,5 +258,8 @@ final class ZeebeRocksDbFactoryTest {
     public ZeebeDbTransaction getCurrentTransaction() {
       return null;
     }
+
+    @Override
+    public void addTransactionListener(final TransactionListener listener) {}
   }
 }
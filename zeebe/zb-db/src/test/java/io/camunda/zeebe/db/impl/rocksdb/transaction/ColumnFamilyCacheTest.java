@@ -0,0 +1,84 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.db.impl.rocksdb.transaction;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Map;
+import org.agrona.DirectBuffer;
+import org.agrona.concurrent.UnsafeBuffer;
+import org.junit.jupiter.api.Test;
+
+final class ColumnFamilyCacheTest {
+
+  private final ColumnFamilyCache cache = new ColumnFamilyCache(100);
+
+  @Test
+  void shouldEvictLeastRecentlyUsedEntriesBeyondMaxSize() {
+    // given - each entry takes 40 bytes
+    cache.putIfUnchanged(key(1), new byte[32], cache.version());
+    cache.putIfUnchanged(key(2), new byte[32], cache.version());
+    cache.get(key(1));
+
+    // when
+    cache.putIfUnchanged(key(3), new byte[32], cache.version());
+
+    // then
+    assertThat(cache.get(key(1))).isNotNull();
+    assertThat(cache.get(key(2))).isNull();
+    assertThat(cache.get(key(3))).isNotNull();
+    assertThat(cache.sizeInBytes()).isEqualTo(80);
+  }
+
+  @Test
+  void shouldNotCacheValuesLargerThanMaxSize() {
+    // given
+    cache.putIfUnchanged(key(1), new byte[32], cache.version());
+
+    // when
+    cache.putIfUnchanged(key(2), new byte[100], cache.version());
+
+    // then
+    assertThat(cache.get(key(1))).isNotNull();
+    assertThat(cache.get(key(2))).isNull();
+    assertThat(cache.sizeInBytes()).isEqualTo(40);
+  }
+
+  @Test
+  void shouldDropOutdatedValueWhenCommittedValueIsTooLarge() {
+    // given
+    cache.putIfUnchanged(key(1), new byte[32], cache.version());
+
+    // when
+    cache.apply(Map.of(key(1), new byte[100]));
+
+    // then
+    assertThat(cache.get(key(1))).isNull();
+    assertThat(cache.size()).isZero();
+    assertThat(cache.sizeInBytes()).isZero();
+  }
+
+  @Test
+  void shouldAccountForReplacedValues() {
+    // given
+    cache.putIfUnchanged(key(1), new byte[32], cache.version());
+
+    // when
+    cache.apply(Map.of(key(1), ColumnFamilyCache.ABSENT));
+
+    // then
+    assertThat(cache.get(key(1))).isSameAs(ColumnFamilyCache.ABSENT);
+    assertThat(cache.sizeInBytes()).isEqualTo(8);
+  }
+
+  private static DirectBuffer key(final long value) {
+    final var key = new UnsafeBuffer(new byte[Long.BYTES]);
+    key.putLong(0, value);
+    return key;
+  }
+}